@@ -0,0 +1,47 @@
+#!/usr/bin/env python3
+"""Compares two JSON result files written by run.sh.
+
+Prints the score and the bytes allocated per operation of every benchmark
+found in both files, together with the relative change of the score.
+
+Usage: ./compare.py results/<old>.json results/<new>.json
+"""
+import json
+import sys
+
+
+def load(path):
+    results = {}
+    with open(path) as file:
+        for entry in json.load(file):
+            name = entry["benchmark"].rsplit(".", 2)
+            name = name[-2] + "." + name[-1]
+            params = entry.get("params")
+            if params:
+                name += "(" + ", ".join(k + "=" + v for k, v in sorted(params.items())) + ")"
+            allocation = entry.get("secondaryMetrics", {}).get("gc.alloc.rate.norm", {}).get("score")
+            results[name] = (entry["primaryMetric"]["score"], entry["primaryMetric"]["scoreUnit"], allocation)
+    return results
+
+
+def main():
+    if len(sys.argv) != 3:
+        sys.exit(__doc__)
+    old, new = load(sys.argv[1]), load(sys.argv[2])
+    width = max((len(name) for name in new), default=9)
+    print("%-*s %14s %14s %9s %12s %12s" % (width, "Benchmark", "Old", "New", "Change", "Old B/op", "New B/op"))
+    for name in sorted(new.keys() & old.keys()):
+        (old_score, unit, old_alloc), (new_score, _, new_alloc) = old[name], new[name]
+        change = (new_score - old_score) / old_score * 100 if old_score else float("nan")
+        print("%-*s %11.3f %-2s %11.3f %-2s %+8.1f%% %12s %12s" % (
+            width, name, old_score, unit[:2], new_score, unit[:2], change,
+            "-" if old_alloc is None else "%.1f" % old_alloc,
+            "-" if new_alloc is None else "%.1f" % new_alloc))
+    for name in sorted(new.keys() - old.keys()):
+        print("%-*s only in %s" % (width, name, sys.argv[2]))
+    for name in sorted(old.keys() - new.keys()):
+        print("%-*s only in %s" % (width, name, sys.argv[1]))
+
+
+if __name__ == "__main__":
+    main()
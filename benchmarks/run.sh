@@ -0,0 +1,32 @@
+#!/bin/sh
+# Builds VecMatLib and its benchmarks and runs them with the GC profiler.
+#
+# The results are written in JSON to results/<commit>.json, or to
+# results/<commit>-simd.json if the Vector API kernels are enabled,
+# so that they can be compared between commits with compare.py.
+#
+# Usage: ./run.sh [--simd] [JMH options...]
+#   --simd   Runs the benchmarks with --add-modules jdk.incubator.vector
+#   Any other option is passed to JMH, for example a regular expression
+#   that selects the benchmarks to run: ./run.sh DoubleVectorBenchmark
+set -e
+
+cd "$(dirname "$0")"
+
+suffix=""
+if [ "$1" = "--simd" ]; then
+	suffix="-simd"
+	shift
+	set -- -jvmArgsAppend "--add-modules=jdk.incubator.vector" "$@"
+fi
+
+commit=$(git rev-parse --short HEAD)
+if [ -n "$(git status --porcelain -- ../src ../pom.xml)" ]; then
+	commit="$commit-dirty"
+fi
+
+(cd .. && mvn -B -q install -DskipTests)
+mvn -B -q package
+
+mkdir -p results
+java -jar target/benchmarks.jar -prof gc -rf json -rff "results/$commit$suffix.json" "$@"
@@ -0,0 +1,94 @@
+package io.github.vecmatlib.benchmarks;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.vecmatlib.matrix.Float4x4;
+import io.github.vecmatlib.vector.Float3;
+import io.github.vecmatlib.vector.Float3Buffer;
+import io.github.vecmatlib.vector.Float4;
+
+/**
+ * Benchmarks for the batch transformation of points by a {@link Float4x4}.
+ * 
+ * @author Nico
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchTransformBenchmark {
+
+	@Param({"1000000", "10000000"})
+	private int size;
+
+	private Float4x4 matrix = new Float4x4(1.1f, 2.3f, 3.6f, 0.4f, 0.5f, 1.7f, 2.9f, 1.2f, 3.1f, 0.2f, 1.4f, 2.5f, 0.0f, 0.0f, 0.0f, 1.0f);
+
+	private Float3[] records;
+	private Float3[] recordsDest;
+	private float[] packed;
+	private float[] packedDest;
+	private Float3Buffer buffer;
+	private Float3Buffer bufferDest;
+
+	@Setup
+	public void setup() {
+		double[] values = Data.doubles(3 * this.size, 1);
+		this.records = new Float3[this.size];
+		this.recordsDest = new Float3[this.size];
+		this.packed = new float[3 * this.size];
+		this.packedDest = new float[3 * this.size];
+		this.buffer = new Float3Buffer(this.size);
+		this.bufferDest = new Float3Buffer(this.size);
+		for(int i = 0; i < this.size; i++) {
+			this.records[i] = new Float3((float) values[3 * i], (float) values[3 * i + 1], (float) values[3 * i + 2]);
+			this.buffer.set(i, this.records[i]);
+			this.packed[3 * i] = this.records[i].x();
+			this.packed[3 * i + 1] = this.records[i].y();
+			this.packed[3 * i + 2] = this.records[i].z();
+		}
+	}
+
+	@Benchmark
+	public Float3[] records() {
+		for(int i = 0; i < this.size; i++) {
+			Float4 result = this.matrix.multiply(new Float4(this.records[i].x(), this.records[i].y(), this.records[i].z(), 1.0f));
+			this.recordsDest[i] = new Float3(result.x(), result.y(), result.z());
+		}
+		return this.recordsDest;
+	}
+
+	@Benchmark
+	public float[] packed() {
+		return this.matrix.transformPoints(this.packed, this.packedDest);
+	}
+
+	@Benchmark
+	public float[] packedParallel() {
+		return this.matrix.transformPoints(this.packed, this.packedDest, ForkJoinPool.commonPool());
+	}
+
+	@Benchmark
+	public Float3Buffer buffer() {
+		return this.matrix.transformPoints(this.buffer, this.bufferDest);
+	}
+
+	@Benchmark
+	public Float3Buffer bufferParallel() {
+		return this.matrix.transformPoints(this.buffer, this.bufferDest, ForkJoinPool.commonPool());
+	}
+}
@@ -0,0 +1,103 @@
+package io.github.vecmatlib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.vecmatlib.vector.Double3;
+import io.github.vecmatlib.vector.DoubleVector;
+import io.github.vecmatlib.vector.Float3;
+import io.github.vecmatlib.vector.FloatVector;
+import io.github.vecmatlib.vector.Int3;
+import io.github.vecmatlib.vector.IntVector;
+
+/**
+ * Benchmarks for the conversions between vectors of different types.
+ * 
+ * <p> The conversions of the arbitrary-length vectors should only
+ * allocate the resulting array. Running these benchmarks with
+ * {@code -prof gc} shows the number of bytes allocated per operation.
+ * 
+ * @author Nico
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversionBenchmark {
+
+	@Param({"4096"})
+	private int size;
+
+	private DoubleVector doubles;
+	private FloatVector floats;
+	private IntVector ints;
+
+	private Double3 double3 = new Double3(1.1, 2.3, 3.6);
+	private Float3 float3 = new Float3(1.1f, 2.3f, 3.6f);
+	private Int3 int3 = new Int3(1, 2, 3);
+
+	@Setup
+	public void setup() {
+		this.doubles = new DoubleVector(Data.doubles(this.size, 1));
+		this.floats = this.doubles.castToFloat();
+		this.ints = this.doubles.castToInt();
+	}
+
+	@Benchmark
+	public FloatVector doubleVectorCastToFloat() {
+		return this.doubles.castToFloat();
+	}
+
+	@Benchmark
+	public IntVector doubleVectorCastToInt() {
+		return this.doubles.castToInt();
+	}
+
+	@Benchmark
+	public DoubleVector floatVectorAsDouble() {
+		return this.floats.asDouble();
+	}
+
+	@Benchmark
+	public IntVector floatVectorCastToInt() {
+		return this.floats.castToInt();
+	}
+
+	@Benchmark
+	public FloatVector intVectorAsFloat() {
+		return this.ints.asFloat();
+	}
+
+	@Benchmark
+	public DoubleVector intVectorAsDouble() {
+		return this.ints.asDouble();
+	}
+
+	@Benchmark
+	public Float3 double3CastToFloat() {
+		return this.double3.castToFloat();
+	}
+
+	@Benchmark
+	public Double3 float3AsDouble() {
+		return this.float3.asDouble();
+	}
+
+	@Benchmark
+	public Float3 int3AsFloat() {
+		return this.int3.asFloat();
+	}
+}
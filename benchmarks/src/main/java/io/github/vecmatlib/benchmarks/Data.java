@@ -0,0 +1,50 @@
+package io.github.vecmatlib.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Utility class used to generate the data used by the benchmarks.
+ * 
+ * @author Nico
+ */
+final class Data {
+
+	private Data() {}
+
+	/**
+	 * Generates an array of doubles in the range {@code [-5, 5]}.
+	 * The same length and seed always give the same values.
+	 * 
+	 * @param length Length of the array.
+	 * @param seed Value used to generate different arrays of the same length.
+	 * 
+	 * @return An array with the given length.
+	 */
+	static double[] doubles(int length, int seed) {
+		double[] values = new double[length];
+		for(int i = 0; i < length; i++) {
+			values[i] = ((i * 7 + seed * 13) % 101 - 50) / 10.0;
+		}
+		return values;
+	}
+
+	/**
+	 * Generates an array of floats with a standard normal distribution.
+	 * Unlike the values of {@link #doubles(int, int)}, the values do not repeat,
+	 * so that vectors made of them are all different.
+	 * The same length and seed always give the same values.
+	 * 
+	 * @param length Length of the array.
+	 * @param seed Value used to generate different arrays of the same length.
+	 * 
+	 * @return An array with the given length.
+	 */
+	static float[] gaussians(int length, int seed) {
+		Random random = new Random(seed);
+		float[] values = new float[length];
+		for(int i = 0; i < length; i++) {
+			values[i] = (float) random.nextGaussian();
+		}
+		return values;
+	}
+}
@@ -0,0 +1,81 @@
+package io.github.vecmatlib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.vecmatlib.matrix.DoubleLUDecomposition;
+import io.github.vecmatlib.matrix.DoubleMatrix;
+import io.github.vecmatlib.vector.DoubleVector;
+
+/**
+ * Benchmarks for the product, the power and the LU decomposition of {@link DoubleMatrix}.
+ * 
+ * @author Nico
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DoubleMatrixBenchmark {
+
+	@Param({"64", "256", "512"})
+	private int size;
+
+	private DoubleMatrix m1;
+	private DoubleMatrix m2;
+	private DoubleMatrix invertible;
+	private DoubleLUDecomposition lu;
+	private DoubleVector v;
+
+	@Setup
+	public void setup() {
+		this.m1 = new DoubleMatrix(this.size, this.size, Data.doubles(this.size * this.size, 1));
+		this.m2 = new DoubleMatrix(this.size, this.size, Data.doubles(this.size * this.size, 2));
+		// The generated values repeat, so the diagonal is increased to make the matrix invertible
+		double[] values = Data.doubles(this.size * this.size, 1);
+		for(int i = 0; i < this.size; i++) {
+			values[i * this.size + i] += 5.0 * this.size;
+		}
+		this.invertible = new DoubleMatrix(this.size, this.size, values);
+		this.lu = this.invertible.lu();
+		this.v = new DoubleVector(Data.doubles(this.size, 3));
+	}
+
+	@Benchmark
+	public DoubleMatrix multiply() {
+		return this.m1.multiply(this.m2);
+	}
+
+	@Benchmark
+	public DoubleMatrix power() {
+		return this.m1.power(8);
+	}
+
+	@Benchmark
+	public DoubleLUDecomposition lu() {
+		return this.invertible.lu();
+	}
+
+	@Benchmark
+	public DoubleVector solve() {
+		return this.lu.solve(this.v);
+	}
+
+	@Benchmark
+	public DoubleMatrix inverse() {
+		return this.lu.inverse();
+	}
+}
@@ -0,0 +1,72 @@
+package io.github.vecmatlib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.vecmatlib.vector.DoubleVector;
+
+/**
+ * Benchmarks for the operations of {@link DoubleVector} across different sizes.
+ * 
+ * @author Nico
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DoubleVectorBenchmark {
+
+	@Param({"16", "256", "4096", "65536"})
+	private int size;
+
+	private DoubleVector v1;
+	private DoubleVector v2;
+	private DoubleVector dest;
+
+	@Setup
+	public void setup() {
+		this.v1 = new DoubleVector(Data.doubles(this.size, 1));
+		this.v2 = new DoubleVector(Data.doubles(this.size, 2));
+		this.dest = new DoubleVector(new double[this.size]);
+	}
+
+	@Benchmark
+	public double dotProduct() {
+		return this.v1.dotProduct(this.v2);
+	}
+
+	@Benchmark
+	public DoubleVector plus() {
+		return this.v1.plus(this.v2);
+	}
+
+	@Benchmark
+	public DoubleVector multipliedBy() {
+		return this.v1.multipliedBy(1.5);
+	}
+
+	@Benchmark
+	public DoubleVector plusIntoDestination() {
+		return this.v1.plus(this.v2, this.dest);
+	}
+
+	@Benchmark
+	public DoubleVector axpy() {
+		// Alternates the sign so that the values do not grow indefinitely
+		this.dest.axpy(1.5, this.v1);
+		return this.dest.axpy(-1.5, this.v1);
+	}
+}
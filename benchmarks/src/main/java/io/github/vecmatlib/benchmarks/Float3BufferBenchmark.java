@@ -0,0 +1,90 @@
+package io.github.vecmatlib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.vecmatlib.vector.Float3;
+import io.github.vecmatlib.vector.Float3Buffer;
+
+/**
+ * Benchmarks for {@link Float3Buffer} compared to arrays of {@link Float3}.
+ * 
+ * @author Nico
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Float3BufferBenchmark {
+
+	@Param({"1024", "1048576"})
+	private int size;
+
+	private Float3[] records1;
+	private Float3[] records2;
+	private float[] result;
+
+	private Float3Buffer buffer1;
+	private Float3Buffer buffer2;
+
+	@Setup
+	public void setup() {
+		double[] values = Data.doubles(3 * this.size, 1);
+		this.records1 = new Float3[this.size];
+		this.records2 = new Float3[this.size];
+		this.result = new float[this.size];
+		this.buffer1 = new Float3Buffer(this.size);
+		this.buffer2 = new Float3Buffer(this.size);
+		for(int i = 0; i < this.size; i++) {
+			this.records1[i] = new Float3((float) values[3 * i], (float) values[3 * i + 1], (float) values[3 * i + 2]);
+			this.records2[i] = new Float3((float) values[3 * i + 2], (float) values[3 * i], (float) values[3 * i + 1]);
+			this.buffer1.set(i, this.records1[i]);
+			this.buffer2.set(i, this.records2[i]);
+		}
+	}
+
+	@Benchmark
+	public float[] recordsDot() {
+		for(int i = 0; i < this.size; i++) {
+			this.result[i] = this.records1[i].dotProduct(this.records2[i]);
+		}
+		return this.result;
+	}
+
+	@Benchmark
+	public float[] bufferDot() {
+		return this.buffer1.dot(this.buffer2, this.result);
+	}
+
+	@Benchmark
+	public Float3[] recordsCross() {
+		Float3[] result = new Float3[this.size];
+		for(int i = 0; i < this.size; i++) {
+			result[i] = this.records1[i].crossProduct(this.records2[i]);
+		}
+		return result;
+	}
+
+	@Benchmark
+	public Float3Buffer bufferCross() {
+		return this.buffer1.cross(this.buffer2);
+	}
+
+	@Benchmark
+	public float[] bufferLengths() {
+		return this.buffer1.lengths(this.result);
+	}
+}
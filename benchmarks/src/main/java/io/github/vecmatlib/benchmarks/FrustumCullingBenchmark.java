@@ -0,0 +1,97 @@
+package io.github.vecmatlib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.vecmatlib.geometry.Frustum;
+import io.github.vecmatlib.matrix.Float4x4;
+import io.github.vecmatlib.vector.Float3Buffer;
+import io.github.vecmatlib.vector.Float4;
+
+/**
+ * Benchmarks for culling bounding boxes with the planes of a {@link Frustum} compared to
+ * transforming the eight corners of every box to clip space with {@link Float4x4#multiply(Float4)}.
+ * 
+ * @author Nico
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrustumCullingBenchmark {
+
+	@Param({"10000"})
+	private int size;
+
+	private Float4x4 viewProjection = new Float4x4(
+		1.0f, 0.0f, 0.0f, -5.0f,
+		0.0f, 1.0f, 0.0f, 0.0f,
+		0.0f, 0.0f, -101.0f / 99.0f, -200.0f / 99.0f,
+		0.0f, 0.0f, -1.0f, 0.0f
+	);
+	private Frustum frustum;
+	private Float3Buffer mins;
+	private Float3Buffer maxs;
+	private long[] visible;
+
+	@Setup
+	public void setup() {
+		float[] corners = Data.gaussians(3 * this.size, 1);
+		float[] sizes = Data.gaussians(3 * this.size, 2);
+		this.mins = new Float3Buffer(this.size);
+		this.maxs = new Float3Buffer(this.size);
+		for(int i = 0; i < this.size; i++) {
+			float x = 40.0f * corners[3 * i], y = 40.0f * corners[3 * i + 1], z = 40.0f * corners[3 * i + 2];
+			this.mins.set(i, x, y, z);
+			this.maxs.set(i, x + 5.0f * Math.abs(sizes[3 * i]), y + 5.0f * Math.abs(sizes[3 * i + 1]), z + 5.0f * Math.abs(sizes[3 * i + 2]));
+		}
+		this.frustum = Frustum.fromViewProjection(this.viewProjection);
+		this.visible = new long[(this.size + 63) / 64];
+	}
+
+	@Benchmark
+	public long[] frustumPlanes() {
+		return this.frustum.visibleBoxes(this.mins, this.maxs, this.visible);
+	}
+
+	@Benchmark
+	public long[] transformedCorners() {
+		long[] result = this.visible;
+		float[] minX = this.mins.x(), minY = this.mins.y(), minZ = this.mins.z();
+		float[] maxX = this.maxs.x(), maxY = this.maxs.y(), maxZ = this.maxs.z();
+		for(int i = 0; i < this.size; i++) {
+			// Every bit is set if all the corners are outside of the same clip plane
+			int outside = 0b111111;
+			for(int corner = 0; corner < 8; corner++) {
+				Float4 clip = this.viewProjection.multiply(new Float4(
+					(corner & 1) == 0 ? minX[i] : maxX[i],
+					(corner & 2) == 0 ? minY[i] : maxY[i],
+					(corner & 4) == 0 ? minZ[i] : maxZ[i],
+					1.0f
+				));
+				outside &= (clip.x() < -clip.w() ? 1 : 0) | (clip.x() > clip.w() ? 2 : 0)
+						| (clip.y() < -clip.w() ? 4 : 0) | (clip.y() > clip.w() ? 8 : 0)
+						| (clip.z() < -clip.w() ? 16 : 0) | (clip.z() > clip.w() ? 32 : 0);
+			}
+			if(outside == 0) {
+				result[i >> 6] |= 1L << i;
+			} else {
+				result[i >> 6] &= ~(1L << i);
+			}
+		}
+		return result;
+	}
+}
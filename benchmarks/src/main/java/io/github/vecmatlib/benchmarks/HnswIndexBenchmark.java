@@ -0,0 +1,101 @@
+package io.github.vecmatlib.benchmarks;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.vecmatlib.search.HnswIndex;
+import io.github.vecmatlib.search.Metric;
+import io.github.vecmatlib.search.Neighbor;
+import io.github.vecmatlib.search.VectorIndex;
+import io.github.vecmatlib.vector.FloatVector;
+
+/**
+ * Benchmarks for the latency of {@link HnswIndex} compared to the exhaustive search of {@link VectorIndex}.
+ * 
+ * <p> The recall of the approximate index, which is the fraction of the exact top 10 vectors
+ * that it finds, is measured on the queries during the setup and printed to the output of the
+ * benchmark, so that the latency can be compared at the same recall.
+ * 
+ * @author Nico
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HnswIndexBenchmark {
+
+	private static final int DIMENSION = 64;
+	private static final int QUERIES = 256;
+	private static final int K = 10;
+
+	@Param({"10000", "100000"})
+	private int size;
+
+	@Param({"16", "64", "256"})
+	private int efSearch;
+
+	private HnswIndex hnsw;
+	private VectorIndex exact;
+	private FloatVector[] queries;
+	private int next;
+
+	@Setup
+	public void setup() {
+		FloatVector[] corpus = vectors(this.size, 1);
+		this.queries = vectors(QUERIES, 2);
+		this.hnsw = new HnswIndex(DIMENSION, Metric.L2, this.size);
+		this.hnsw.parallelAddAll(corpus);
+		this.hnsw.setEfSearch(this.efSearch);
+		this.exact = new VectorIndex(DIMENSION, Metric.L2);
+		this.exact.addAll(corpus);
+		int found = 0;
+		for(FloatVector query : this.queries) {
+			Set<Integer> expected = new HashSet<>();
+			for(Neighbor neighbor : this.exact.topK(query, K)) {
+				expected.add(neighbor.index());
+			}
+			found += (int) Arrays.stream(this.hnsw.topK(query, K)).filter(neighbor -> expected.contains(neighbor.index())).count();
+		}
+		System.out.printf("Recall@%d with efSearch %d on %d vectors: %.4f%n", K, this.efSearch, this.size, found / (double) (K * QUERIES));
+	}
+
+	@Benchmark
+	public Neighbor[] hnswTopK() {
+		return this.hnsw.topK(this.nextQuery(), K);
+	}
+
+	@Benchmark
+	public Neighbor[] exactTopK() {
+		return this.exact.topK(this.nextQuery(), K);
+	}
+
+	private FloatVector nextQuery() {
+		this.next = (this.next + 1) % QUERIES;
+		return this.queries[this.next];
+	}
+
+	private static FloatVector[] vectors(int count, int seed) {
+		float[] values = Data.gaussians(count * DIMENSION, seed);
+		FloatVector[] result = new FloatVector[count];
+		for(int i = 0; i < count; i++) {
+			result[i] = new FloatVector(Arrays.copyOfRange(values, i * DIMENSION, (i + 1) * DIMENSION));
+		}
+		return result;
+	}
+}
@@ -0,0 +1,141 @@
+package io.github.vecmatlib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.vecmatlib.matrix.Double3x4;
+import io.github.vecmatlib.matrix.Double4x4;
+import io.github.vecmatlib.matrix.Float3x4;
+import io.github.vecmatlib.matrix.Float4x4;
+import io.github.vecmatlib.vector.Double3;
+import io.github.vecmatlib.vector.Double4;
+import io.github.vecmatlib.vector.Float3;
+import io.github.vecmatlib.vector.Float4;
+
+/**
+ * Benchmarks for the products, the transformations and the inverses of the 4x4 matrices,
+ * compared with the same affine transformations stored as 3x4 matrices.
+ * 
+ * @author Nico
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Matrix4x4Benchmark {
+
+	private Double4x4 d1 = new Double4x4(1.1, 2.3, 3.6, 0.4, 0.5, 1.7, 2.9, 1.2, 3.1, 0.2, 1.4, 2.5, 0.0, 0.0, 0.0, 1.0);
+	private Double4x4 d2 = new Double4x4(0.7, 1.2, 0.3, 2.2, 1.9, 0.8, 1.5, 0.6, 0.1, 2.4, 1.1, 0.9, 0.0, 0.0, 0.0, 1.0);
+	private Double4 dv = new Double4(1.5, 2.5, 3.5, 1.0);
+
+	private Float4x4 f1 = new Float4x4(1.1f, 2.3f, 3.6f, 0.4f, 0.5f, 1.7f, 2.9f, 1.2f, 3.1f, 0.2f, 1.4f, 2.5f, 0.0f, 0.0f, 0.0f, 1.0f);
+	private Float4x4 f2 = new Float4x4(0.7f, 1.2f, 0.3f, 2.2f, 1.9f, 0.8f, 1.5f, 0.6f, 0.1f, 2.4f, 1.1f, 0.9f, 0.0f, 0.0f, 0.0f, 1.0f);
+	private Float4 fv = new Float4(1.5f, 2.5f, 3.5f, 1.0f);
+
+	private Double3x4 a1 = Double3x4.fromAffine(this.d1);
+	private Double3x4 a2 = Double3x4.fromAffine(this.d2);
+
+	private Float3x4 b1 = Float3x4.fromAffine(this.f1);
+	private Float3x4 b2 = Float3x4.fromAffine(this.f2);
+
+	@Benchmark
+	public Double4x4 double4x4Multiply() {
+		return this.d1.multiply(this.d2);
+	}
+
+	@Benchmark
+	public Double4 double4x4MultiplyVector() {
+		return this.d1.multiply(this.dv);
+	}
+
+	@Benchmark
+	public Double3 double4x4TransformPoint() {
+		return this.d1.transformPoint(this.dv.x(), this.dv.y(), this.dv.z());
+	}
+
+	@Benchmark
+	public Double3 double4x4TransformPointPerspective() {
+		return this.d1.transformPointPerspective(this.dv.x(), this.dv.y(), this.dv.z());
+	}
+
+	@Benchmark
+	public Float4x4 float4x4Multiply() {
+		return this.f1.multiply(this.f2);
+	}
+
+	@Benchmark
+	public Float4 float4x4MultiplyVector() {
+		return this.f1.multiply(this.fv);
+	}
+
+	@Benchmark
+	public Double4x4 double4x4Inverted() {
+		return this.d1.inverted();
+	}
+
+	@Benchmark
+	public Double4x4 double4x4InvertedAffine() {
+		return this.d1.invertedAffine();
+	}
+
+	@Benchmark
+	public Double4x4 double4x4InvertedRigid() {
+		return this.d1.invertedRigid();
+	}
+
+	@Benchmark
+	public Float3 float4x4TransformPoint() {
+		return this.f1.transformPoint(this.fv.x(), this.fv.y(), this.fv.z());
+	}
+
+	@Benchmark
+	public Float4x4 float4x4Inverted() {
+		return this.f1.inverted();
+	}
+
+	@Benchmark
+	public Float4x4 float4x4InvertedAffine() {
+		return this.f1.invertedAffine();
+	}
+
+	@Benchmark
+	public Double3x4 double3x4Multiply() {
+		return this.a1.multiply(this.a2);
+	}
+
+	@Benchmark
+	public Double3 double3x4TransformPoint() {
+		return this.a1.transformPoint(this.dv.x(), this.dv.y(), this.dv.z());
+	}
+
+	@Benchmark
+	public Double3x4 double3x4Inverted() {
+		return this.a1.inverted();
+	}
+
+	@Benchmark
+	public Double3x4 double3x4InvertedRigid() {
+		return this.a1.invertedRigid();
+	}
+
+	@Benchmark
+	public Float3x4 float3x4Multiply() {
+		return this.b1.multiply(this.b2);
+	}
+
+	@Benchmark
+	public Float3x4 float3x4Inverted() {
+		return this.b1.inverted();
+	}
+}
@@ -0,0 +1,120 @@
+package io.github.vecmatlib.benchmarks;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.vecmatlib.search.Metric;
+import io.github.vecmatlib.search.Neighbor;
+import io.github.vecmatlib.search.ProductQuantizedIndex;
+import io.github.vecmatlib.search.ScalarQuantizedIndex;
+import io.github.vecmatlib.search.VectorIndex;
+import io.github.vecmatlib.vector.FloatVector;
+
+/**
+ * Benchmarks for the search latency of the quantized indices compared to the exact inner products of {@link VectorIndex}.
+ * 
+ * <p> The memory used by every vector and the recall of every quantized index, which is the
+ * fraction of the exact top 10 vectors that it finds, are printed to the output of the benchmark
+ * during the setup, so that the memory saved can be compared with the recall lost.
+ * 
+ * @author Nico
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuantizationBenchmark {
+
+	private static final int DIMENSION = 64;
+	private static final int QUERIES = 256;
+	private static final int K = 10;
+
+	@Param({"100000"})
+	private int size;
+
+	@Param({"8", "16", "32"})
+	private int subspaces;
+
+	private VectorIndex exact;
+	private ScalarQuantizedIndex scalar;
+	private ProductQuantizedIndex product;
+	private FloatVector[] queries;
+	private int next;
+
+	@Setup
+	public void setup() {
+		FloatVector[] corpus = vectors(this.size, 1);
+		this.queries = vectors(QUERIES, 2);
+		this.exact = new VectorIndex(DIMENSION, Metric.INNER_PRODUCT);
+		this.exact.addAll(corpus);
+		this.scalar = ScalarQuantizedIndex.perDimension(Metric.INNER_PRODUCT, Arrays.copyOf(corpus, 10000));
+		this.scalar.addAll(corpus);
+		this.product = new ProductQuantizedIndex(Metric.INNER_PRODUCT, this.subspaces, Arrays.copyOf(corpus, 10000));
+		this.product.addAll(corpus);
+		System.out.printf("Float vectors: %d bytes per vector%n", DIMENSION * Float.BYTES);
+		System.out.printf("Scalar quantization: %d bytes per vector, recall@%d %.4f%n", this.scalar.bytesPerVector(), K, this.recall(this.scalar::topK));
+		System.out.printf("Product quantization with %d subspaces: %d bytes per vector, recall@%d %.4f%n", this.subspaces, this.product.bytesPerVector(), K, this.recall(this.product::topK));
+	}
+
+	@Benchmark
+	public Neighbor[] exactTopK() {
+		return this.exact.topK(this.nextQuery(), K);
+	}
+
+	@Benchmark
+	public Neighbor[] scalarTopK() {
+		return this.scalar.topK(this.nextQuery(), K);
+	}
+
+	@Benchmark
+	public Neighbor[] productTopK() {
+		return this.product.topK(this.nextQuery(), K);
+	}
+
+	private double recall(Search search) {
+		int found = 0;
+		for(FloatVector query : this.queries) {
+			Set<Integer> expected = new HashSet<>();
+			for(Neighbor neighbor : this.exact.topK(query, K)) {
+				expected.add(neighbor.index());
+			}
+			found += (int) Arrays.stream(search.topK(query, K)).filter(neighbor -> expected.contains(neighbor.index())).count();
+		}
+		return found / (double) (K * QUERIES);
+	}
+
+	private FloatVector nextQuery() {
+		this.next = (this.next + 1) % QUERIES;
+		return this.queries[this.next];
+	}
+
+	private static FloatVector[] vectors(int count, int seed) {
+		float[] values = Data.gaussians(count * DIMENSION, seed);
+		FloatVector[] result = new FloatVector[count];
+		for(int i = 0; i < count; i++) {
+			result[i] = new FloatVector(Arrays.copyOfRange(values, i * DIMENSION, (i + 1) * DIMENSION));
+		}
+		return result;
+	}
+
+	private interface Search {
+
+		Neighbor[] topK(FloatVector query, int k);
+	}
+}
@@ -0,0 +1,121 @@
+package io.github.vecmatlib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.vecmatlib.geometry.Ray3f;
+import io.github.vecmatlib.geometry.RayHit3f;
+import io.github.vecmatlib.geometry.RayPacket3f;
+import io.github.vecmatlib.vector.Float3;
+
+/**
+ * Benchmarks for finding the closest triangle hit by every ray in a group of 8 with the Möller–Trumbore
+ * algorithm written with {@link Float3} records, with {@link Ray3f#intersectTriangle(Float3, Float3, Float3, RayHit3f)}
+ * and with a {@link RayPacket3f} of 8 rays.
+ * 
+ * @author Nico
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RayTriangleBenchmark {
+
+	private static final int RAYS = 8;
+
+	@Param({"1000"})
+	private int triangles;
+
+	private Float3[] vertices;
+	private Ray3f[] rays;
+	private RayHit3f hit;
+	private RayPacket3f packet;
+
+	@Setup
+	public void setup() {
+		float[] coordinates = Data.gaussians(9 * this.triangles, 1);
+		this.vertices = new Float3[3 * this.triangles];
+		for(int i = 0; i < this.vertices.length; i++) {
+			this.vertices[i] = new Float3(coordinates[3 * i], coordinates[3 * i + 1], coordinates[3 * i + 2] + 5.0f);
+		}
+		this.rays = new Ray3f[RAYS];
+		this.packet = new RayPacket3f(RAYS);
+		for(int i = 0; i < RAYS; i++) {
+			this.rays[i] = new Ray3f(Float3.ZERO, new Float3(0.02f * (i % 4) - 0.03f, 0.02f * (i / 4) - 0.01f, 1.0f));
+			this.packet.set(i, this.rays[i]);
+		}
+		this.hit = new RayHit3f();
+	}
+
+	@Benchmark
+	public float records() {
+		float sum = 0.0f;
+		for(Ray3f ray : this.rays) {
+			float closest = Float.POSITIVE_INFINITY;
+			for(int i = 0; i < this.vertices.length; i += 3) {
+				Float3 e1 = this.vertices[i + 1].minus(this.vertices[i]);
+				Float3 e2 = this.vertices[i + 2].minus(this.vertices[i]);
+				Float3 p = ray.direction().crossProduct(e2);
+				float determinant = e1.dotProduct(p);
+				if(determinant == 0.0f) {
+					continue;
+				}
+				Float3 s = ray.origin().minus(this.vertices[i]);
+				float u = s.dotProduct(p) / determinant;
+				if(u < 0.0f || u > 1.0f) {
+					continue;
+				}
+				Float3 q = s.crossProduct(e1);
+				float v = ray.direction().dotProduct(q) / determinant;
+				if(v < 0.0f || u + v > 1.0f) {
+					continue;
+				}
+				float t = e2.dotProduct(q) / determinant;
+				if(t >= 0.0f && t < closest) {
+					closest = t;
+				}
+			}
+			sum += closest;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public float singleRays() {
+		float sum = 0.0f;
+		for(Ray3f ray : this.rays) {
+			this.hit.reset();
+			for(int i = 0; i < this.vertices.length; i += 3) {
+				ray.intersectTriangle(this.vertices[i], this.vertices[i + 1], this.vertices[i + 2], this.hit);
+			}
+			sum += this.hit.t();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public float packet() {
+		this.packet.reset();
+		for(int i = 0; i < this.vertices.length; i += 3) {
+			this.packet.intersectTriangle(this.vertices[i], this.vertices[i + 1], this.vertices[i + 2]);
+		}
+		float sum = 0.0f;
+		for(float t : this.packet.t()) {
+			sum += t;
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,103 @@
+package io.github.vecmatlib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.vecmatlib.vector.Double3;
+import io.github.vecmatlib.vector.Float3;
+import io.github.vecmatlib.vector.Int3;
+
+/**
+ * Benchmarks for the arithmetic operations of the three-dimensional vectors.
+ * 
+ * <p> The operands are stored in non-final fields so that the
+ * JIT compiler cannot fold the operations into constants.
+ * 
+ * @author Nico
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SmallVectorBenchmark {
+
+	private Float3 f1 = new Float3(1.1f, 2.3f, 3.6f);
+	private Float3 f2 = new Float3(0.5f, 1.7f, 2.9f);
+
+	private Double3 d1 = new Double3(1.1, 2.3, 3.6);
+	private Double3 d2 = new Double3(0.5, 1.7, 2.9);
+
+	private Int3 i1 = new Int3(1, 2, 3);
+	private Int3 i2 = new Int3(4, 5, 6);
+
+	@Benchmark
+	public Float3 float3Plus() {
+		return this.f1.plus(this.f2);
+	}
+
+	@Benchmark
+	public Float3 float3MultipliedBy() {
+		return this.f1.multipliedBy(1.5f);
+	}
+
+	@Benchmark
+	public float float3DotProduct() {
+		return this.f1.dotProduct(this.f2);
+	}
+
+	@Benchmark
+	public Float3 float3CrossProduct() {
+		return this.f1.crossProduct(this.f2);
+	}
+
+	@Benchmark
+	public Double3 double3Plus() {
+		return this.d1.plus(this.d2);
+	}
+
+	@Benchmark
+	public Double3 double3MultipliedBy() {
+		return this.d1.multipliedBy(1.5);
+	}
+
+	@Benchmark
+	public double double3DotProduct() {
+		return this.d1.dotProduct(this.d2);
+	}
+
+	@Benchmark
+	public Double3 double3CrossProduct() {
+		return this.d1.crossProduct(this.d2);
+	}
+
+	@Benchmark
+	public Int3 int3Plus() {
+		return this.i1.plus(this.i2);
+	}
+
+	@Benchmark
+	public Int3 int3MultipliedBy() {
+		return this.i1.multipliedBy(3);
+	}
+
+	@Benchmark
+	public int int3DotProduct() {
+		return this.i1.dotProduct(this.i2);
+	}
+
+	@Benchmark
+	public Int3 int3CrossProduct() {
+		return this.i1.crossProduct(this.i2);
+	}
+}
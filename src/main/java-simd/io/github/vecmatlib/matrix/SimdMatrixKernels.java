@@ -0,0 +1,154 @@
+package io.github.vecmatlib.matrix;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementation of {@link MatrixKernels.Accelerated} that uses the JDK Vector API.
+ * 
+ * <p> This class is compiled separately with the {@code jdk.incubator.vector}
+ * module and is only loaded through reflection when that module is enabled.
+ * The loops are the same as the ones in {@link MatrixKernels}, but the
+ * innermost one processes a whole vector of columns at a time. Every lane
+ * performs the same operations in the same order as the scalar loop and no
+ * fused multiply-add is used, so the result is exactly the same.
+ * 
+ * @author Nico
+ */
+final class SimdMatrixKernels implements MatrixKernels.Accelerated {
+
+	/**Preferred species for double vectors */
+	private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+	/**Preferred species for float vectors */
+	private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+	/**Preferred species for int vectors */
+	private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+	@Override
+	public void multiply(double[] a, double[] b, double[] c, int k, int n, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		for(int k0 = 0; k0 < k; k0 += MatrixKernels.BLOCK_K) {
+			int k1 = Math.min(k0 + MatrixKernels.BLOCK_K, k);
+			for(int j0 = columnStart; j0 < columnEnd; j0 += MatrixKernels.BLOCK_N) {
+				int j1 = Math.min(j0 + MatrixKernels.BLOCK_N, columnEnd);
+				int bound = j0 + DOUBLES.loopBound(j1 - j0);
+				for(int i = rowStart; i < rowEnd; i++) {
+					int row = i * k;
+					int out = i * n;
+					int p = k0;
+					for(; p + 3 < k1; p += 4) {
+						double x0 = a[row + p], x1 = a[row + p + 1], x2 = a[row + p + 2], x3 = a[row + p + 3];
+						int in0 = p * n, in1 = in0 + n, in2 = in1 + n, in3 = in2 + n;
+						int j = j0;
+						for(; j < bound; j += DOUBLES.length()) {
+							DoubleVector sum = DoubleVector.fromArray(DOUBLES, b, in0 + j).mul(x0)
+									.add(DoubleVector.fromArray(DOUBLES, b, in1 + j).mul(x1))
+									.add(DoubleVector.fromArray(DOUBLES, b, in2 + j).mul(x2))
+									.add(DoubleVector.fromArray(DOUBLES, b, in3 + j).mul(x3));
+							DoubleVector.fromArray(DOUBLES, c, out + j).add(sum).intoArray(c, out + j);
+						}
+						for(; j < j1; j++) {
+							c[out + j] += x0 * b[in0 + j] + x1 * b[in1 + j] + x2 * b[in2 + j] + x3 * b[in3 + j];
+						}
+					}
+					for(; p < k1; p++) {
+						double x = a[row + p];
+						int in = p * n;
+						int j = j0;
+						for(; j < bound; j += DOUBLES.length()) {
+							DoubleVector.fromArray(DOUBLES, c, out + j).add(DoubleVector.fromArray(DOUBLES, b, in + j).mul(x)).intoArray(c, out + j);
+						}
+						for(; j < j1; j++) {
+							c[out + j] += x * b[in + j];
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public void multiply(float[] a, float[] b, float[] c, int k, int n, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		for(int k0 = 0; k0 < k; k0 += MatrixKernels.BLOCK_K) {
+			int k1 = Math.min(k0 + MatrixKernels.BLOCK_K, k);
+			for(int j0 = columnStart; j0 < columnEnd; j0 += MatrixKernels.BLOCK_N) {
+				int j1 = Math.min(j0 + MatrixKernels.BLOCK_N, columnEnd);
+				int bound = j0 + FLOATS.loopBound(j1 - j0);
+				for(int i = rowStart; i < rowEnd; i++) {
+					int row = i * k;
+					int out = i * n;
+					int p = k0;
+					for(; p + 3 < k1; p += 4) {
+						float x0 = a[row + p], x1 = a[row + p + 1], x2 = a[row + p + 2], x3 = a[row + p + 3];
+						int in0 = p * n, in1 = in0 + n, in2 = in1 + n, in3 = in2 + n;
+						int j = j0;
+						for(; j < bound; j += FLOATS.length()) {
+							FloatVector sum = FloatVector.fromArray(FLOATS, b, in0 + j).mul(x0)
+									.add(FloatVector.fromArray(FLOATS, b, in1 + j).mul(x1))
+									.add(FloatVector.fromArray(FLOATS, b, in2 + j).mul(x2))
+									.add(FloatVector.fromArray(FLOATS, b, in3 + j).mul(x3));
+							FloatVector.fromArray(FLOATS, c, out + j).add(sum).intoArray(c, out + j);
+						}
+						for(; j < j1; j++) {
+							c[out + j] += x0 * b[in0 + j] + x1 * b[in1 + j] + x2 * b[in2 + j] + x3 * b[in3 + j];
+						}
+					}
+					for(; p < k1; p++) {
+						float x = a[row + p];
+						int in = p * n;
+						int j = j0;
+						for(; j < bound; j += FLOATS.length()) {
+							FloatVector.fromArray(FLOATS, c, out + j).add(FloatVector.fromArray(FLOATS, b, in + j).mul(x)).intoArray(c, out + j);
+						}
+						for(; j < j1; j++) {
+							c[out + j] += x * b[in + j];
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public void multiply(int[] a, int[] b, int[] c, int k, int n, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		for(int k0 = 0; k0 < k; k0 += MatrixKernels.BLOCK_K) {
+			int k1 = Math.min(k0 + MatrixKernels.BLOCK_K, k);
+			for(int j0 = columnStart; j0 < columnEnd; j0 += MatrixKernels.BLOCK_N) {
+				int j1 = Math.min(j0 + MatrixKernels.BLOCK_N, columnEnd);
+				int bound = j0 + INTS.loopBound(j1 - j0);
+				for(int i = rowStart; i < rowEnd; i++) {
+					int row = i * k;
+					int out = i * n;
+					int p = k0;
+					for(; p + 3 < k1; p += 4) {
+						int x0 = a[row + p], x1 = a[row + p + 1], x2 = a[row + p + 2], x3 = a[row + p + 3];
+						int in0 = p * n, in1 = in0 + n, in2 = in1 + n, in3 = in2 + n;
+						int j = j0;
+						for(; j < bound; j += INTS.length()) {
+							IntVector sum = IntVector.fromArray(INTS, b, in0 + j).mul(x0)
+									.add(IntVector.fromArray(INTS, b, in1 + j).mul(x1))
+									.add(IntVector.fromArray(INTS, b, in2 + j).mul(x2))
+									.add(IntVector.fromArray(INTS, b, in3 + j).mul(x3));
+							IntVector.fromArray(INTS, c, out + j).add(sum).intoArray(c, out + j);
+						}
+						for(; j < j1; j++) {
+							c[out + j] += x0 * b[in0 + j] + x1 * b[in1 + j] + x2 * b[in2 + j] + x3 * b[in3 + j];
+						}
+					}
+					for(; p < k1; p++) {
+						int x = a[row + p];
+						int in = p * n;
+						int j = j0;
+						for(; j < bound; j += INTS.length()) {
+							IntVector.fromArray(INTS, c, out + j).add(IntVector.fromArray(INTS, b, in + j).mul(x)).intoArray(c, out + j);
+						}
+						for(; j < j1; j++) {
+							c[out + j] += x * b[in + j];
+						}
+					}
+				}
+			}
+		}
+	}
+}
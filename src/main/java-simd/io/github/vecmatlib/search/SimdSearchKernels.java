@@ -0,0 +1,100 @@
+package io.github.vecmatlib.search;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementation of {@link SearchKernels.Accelerated} that uses the JDK Vector API.
+ * 
+ * <p> This class is compiled separately with the {@code jdk.incubator.vector}
+ * module and is only loaded through reflection when that module is enabled.
+ * Every inner product is accumulated in a vector of {@link SearchKernels#LANES}
+ * floats without fused multiply-add operations, and its lanes are added from
+ * the first to the last, so the result is exactly the same as the scalar kernels.
+ * 
+ * @author Nico
+ */
+final class SimdSearchKernels implements SearchKernels.Accelerated {
+
+	/**Species with one lane for every partial sum of the scalar kernels */
+	private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_256;
+
+	/**
+	 * Creates the accelerated kernels.
+	 * 
+	 * @throws UnsupportedOperationException if the processor does not support vectors of {@link SearchKernels#LANES} floats.
+	 */
+	SimdSearchKernels() {
+		if(FLOATS.length() != SearchKernels.LANES || FloatVector.SPECIES_PREFERRED.vectorBitSize() < FLOATS.vectorBitSize())
+			throw new UnsupportedOperationException("Vectors of " + SearchKernels.LANES + " floats are not supported");
+	}
+
+	@Override
+	public void dots(float[] data, int dimension, int from, int to, float[] query, float[] result) {
+		int bound = FLOATS.loopBound(dimension);
+		int i = from;
+		for(; i + 4 <= to; i += 4) {
+			int o0 = i * dimension, o1 = o0 + dimension, o2 = o1 + dimension, o3 = o2 + dimension;
+			FloatVector s0 = FloatVector.zero(FLOATS), s1 = s0, s2 = s0, s3 = s0;
+			for(int j = 0; j < bound; j += FLOATS.length()) {
+				FloatVector q = FloatVector.fromArray(FLOATS, query, j);
+				s0 = s0.add(FloatVector.fromArray(FLOATS, data, o0 + j).mul(q));
+				s1 = s1.add(FloatVector.fromArray(FLOATS, data, o1 + j).mul(q));
+				s2 = s2.add(FloatVector.fromArray(FLOATS, data, o2 + j).mul(q));
+				s3 = s3.add(FloatVector.fromArray(FLOATS, data, o3 + j).mul(q));
+			}
+			result[i - from] = tail(sum(s0), data, o0, query, bound, dimension);
+			result[i - from + 1] = tail(sum(s1), data, o1, query, bound, dimension);
+			result[i - from + 2] = tail(sum(s2), data, o2, query, bound, dimension);
+			result[i - from + 3] = tail(sum(s3), data, o3, query, bound, dimension);
+		}
+		for(; i < to; i++) {
+			result[i - from] = this.dot(data, i * dimension, query, dimension);
+		}
+	}
+
+	@Override
+	public float dot(float[] data, int offset, float[] query, int dimension) {
+		int bound = FLOATS.loopBound(dimension);
+		FloatVector s = FloatVector.zero(FLOATS);
+		for(int j = 0; j < bound; j += FLOATS.length()) {
+			s = s.add(FloatVector.fromArray(FLOATS, data, offset + j).mul(FloatVector.fromArray(FLOATS, query, j)));
+		}
+		return tail(sum(s), data, offset, query, bound, dimension);
+	}
+
+	/**
+	 * Adds the lanes of the given vector from the first to the last.
+	 * {@link FloatVector#reduceLanes} is not used because it does not specify the order of the additions.
+	 * 
+	 * @param vector The partial sums.
+	 * 
+	 * @return The sum of the lanes.
+	 */
+	private static float sum(FloatVector vector) {
+		float sum = vector.lane(0);
+		for(int lane = 1; lane < SearchKernels.LANES; lane++) {
+			sum += vector.lane(lane);
+		}
+		return sum;
+	}
+
+	/**
+	 * Adds the terms that do not fill a whole vector to the given sum in order.
+	 * 
+	 * @param sum The sum of the previous terms.
+	 * @param data The packed vectors.
+	 * @param offset Index of the first component of the vector.
+	 * @param query The query.
+	 * @param from Index of the first remaining term.
+	 * @param dimension Number of components of the vectors.
+	 * 
+	 * @return The inner product.
+	 */
+	private static float tail(float sum, float[] data, int offset, float[] query, int from, int dimension) {
+		for(int j = from; j < dimension; j++) {
+			sum += data[offset + j] * query[j];
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,290 @@
+package io.github.vecmatlib.vector;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementation of {@link VectorKernels} that uses the JDK Vector API.
+ * 
+ * <p> This class is compiled separately with the {@code jdk.incubator.vector}
+ * module and is only loaded through reflection when that module is enabled.
+ * The remaining elements that do not fill a whole vector are processed by a
+ * scalar loop, so the element-wise operations give exactly the same result as
+ * the scalar kernels.
+ * 
+ * <p> Dot products of vectors with at least {@link #DOT_THRESHOLD} elements
+ * are accumulated in four independent vectors using fused multiply-add
+ * operations, which are then added together lane by lane. Shorter vectors
+ * use the scalar dot product, so their result does not depend on the size
+ * of the vectors supported by the hardware.
+ * 
+ * @author Nico
+ */
+final class SimdVectorKernels extends VectorKernels {
+
+	/**Preferred species for double vectors */
+	private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+	/**Preferred species for float vectors */
+	private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+	/**Preferred species for int vectors */
+	private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+	/**Minimum number of elements for which the dot product is accumulated in vectors */
+	static final int DOT_THRESHOLD = 64;
+
+	@Override
+	boolean isAccelerated() {
+		return true;
+	}
+
+	@Override
+	void add(double[] a, double[] b, double[] result, int from, int to) {
+		int i = from;
+		for(int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+			DoubleVector.fromArray(DOUBLES, a, i).add(DoubleVector.fromArray(DOUBLES, b, i)).intoArray(result, i);
+		}
+		for(; i < to; i++) {
+			result[i] = a[i] + b[i];
+		}
+	}
+
+	@Override
+	void subtract(double[] a, double[] b, double[] result, int from, int to) {
+		int i = from;
+		for(int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+			DoubleVector.fromArray(DOUBLES, a, i).sub(DoubleVector.fromArray(DOUBLES, b, i)).intoArray(result, i);
+		}
+		for(; i < to; i++) {
+			result[i] = a[i] - b[i];
+		}
+	}
+
+	@Override
+	void negate(double[] a, double[] result, int from, int to) {
+		int i = from;
+		for(int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+			DoubleVector.fromArray(DOUBLES, a, i).neg().intoArray(result, i);
+		}
+		for(; i < to; i++) {
+			result[i] = -a[i];
+		}
+	}
+
+	@Override
+	void multiply(double[] a, double k, double[] result, int from, int to) {
+		int i = from;
+		for(int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+			DoubleVector.fromArray(DOUBLES, a, i).mul(k).intoArray(result, i);
+		}
+		for(; i < to; i++) {
+			result[i] = a[i] * k;
+		}
+	}
+
+	@Override
+	void divide(double[] a, double k, double[] result, int from, int to) {
+		int i = from;
+		for(int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+			DoubleVector.fromArray(DOUBLES, a, i).div(k).intoArray(result, i);
+		}
+		for(; i < to; i++) {
+			result[i] = a[i] / k;
+		}
+	}
+
+	@Override
+	void axpy(double alpha, double[] x, double[] y, int from, int to) {
+		int i = from;
+		for(int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+			DoubleVector.fromArray(DOUBLES, y, i).add(DoubleVector.fromArray(DOUBLES, x, i).mul(alpha)).intoArray(y, i);
+		}
+		for(; i < to; i++) {
+			y[i] += alpha * x[i];
+		}
+	}
+
+	@Override
+	double dot(double[] a, double[] b, int from, int to) {
+		if(to - from < DOT_THRESHOLD) {
+			return super.dot(a, b, from, to);
+		}
+		int step = DOUBLES.length();
+		DoubleVector sum0 = DoubleVector.zero(DOUBLES), sum1 = sum0, sum2 = sum0, sum3 = sum0;
+		int i = from;
+		for(int bound = to - 4 * step; i <= bound; i += 4 * step) {
+			sum0 = DoubleVector.fromArray(DOUBLES, a, i).fma(DoubleVector.fromArray(DOUBLES, b, i), sum0);
+			sum1 = DoubleVector.fromArray(DOUBLES, a, i + step).fma(DoubleVector.fromArray(DOUBLES, b, i + step), sum1);
+			sum2 = DoubleVector.fromArray(DOUBLES, a, i + 2 * step).fma(DoubleVector.fromArray(DOUBLES, b, i + 2 * step), sum2);
+			sum3 = DoubleVector.fromArray(DOUBLES, a, i + 3 * step).fma(DoubleVector.fromArray(DOUBLES, b, i + 3 * step), sum3);
+		}
+		for(int bound = from + DOUBLES.loopBound(to - from); i < bound; i += step) {
+			sum0 = DoubleVector.fromArray(DOUBLES, a, i).fma(DoubleVector.fromArray(DOUBLES, b, i), sum0);
+		}
+		double sum = sum0.add(sum1).add(sum2.add(sum3)).reduceLanes(VectorOperators.ADD);
+		for(; i < to; i++) {
+			sum += a[i] * b[i];
+		}
+		return sum;
+	}
+
+	@Override
+	void add(float[] a, float[] b, float[] result, int from, int to) {
+		int i = from;
+		for(int bound = from + FLOATS.loopBound(to - from); i < bound; i += FLOATS.length()) {
+			FloatVector.fromArray(FLOATS, a, i).add(FloatVector.fromArray(FLOATS, b, i)).intoArray(result, i);
+		}
+		for(; i < to; i++) {
+			result[i] = a[i] + b[i];
+		}
+	}
+
+	@Override
+	void subtract(float[] a, float[] b, float[] result, int from, int to) {
+		int i = from;
+		for(int bound = from + FLOATS.loopBound(to - from); i < bound; i += FLOATS.length()) {
+			FloatVector.fromArray(FLOATS, a, i).sub(FloatVector.fromArray(FLOATS, b, i)).intoArray(result, i);
+		}
+		for(; i < to; i++) {
+			result[i] = a[i] - b[i];
+		}
+	}
+
+	@Override
+	void negate(float[] a, float[] result, int from, int to) {
+		int i = from;
+		for(int bound = from + FLOATS.loopBound(to - from); i < bound; i += FLOATS.length()) {
+			FloatVector.fromArray(FLOATS, a, i).neg().intoArray(result, i);
+		}
+		for(; i < to; i++) {
+			result[i] = -a[i];
+		}
+	}
+
+	@Override
+	void multiply(float[] a, float k, float[] result, int from, int to) {
+		int i = from;
+		for(int bound = from + FLOATS.loopBound(to - from); i < bound; i += FLOATS.length()) {
+			FloatVector.fromArray(FLOATS, a, i).mul(k).intoArray(result, i);
+		}
+		for(; i < to; i++) {
+			result[i] = a[i] * k;
+		}
+	}
+
+	@Override
+	void divide(float[] a, float k, float[] result, int from, int to) {
+		int i = from;
+		for(int bound = from + FLOATS.loopBound(to - from); i < bound; i += FLOATS.length()) {
+			FloatVector.fromArray(FLOATS, a, i).div(k).intoArray(result, i);
+		}
+		for(; i < to; i++) {
+			result[i] = a[i] / k;
+		}
+	}
+
+	@Override
+	void axpy(float alpha, float[] x, float[] y, int from, int to) {
+		int i = from;
+		for(int bound = from + FLOATS.loopBound(to - from); i < bound; i += FLOATS.length()) {
+			FloatVector.fromArray(FLOATS, y, i).add(FloatVector.fromArray(FLOATS, x, i).mul(alpha)).intoArray(y, i);
+		}
+		for(; i < to; i++) {
+			y[i] += alpha * x[i];
+		}
+	}
+
+	@Override
+	float dot(float[] a, float[] b, int from, int to) {
+		if(to - from < DOT_THRESHOLD) {
+			return super.dot(a, b, from, to);
+		}
+		int step = FLOATS.length();
+		FloatVector sum0 = FloatVector.zero(FLOATS), sum1 = sum0, sum2 = sum0, sum3 = sum0;
+		int i = from;
+		for(int bound = to - 4 * step; i <= bound; i += 4 * step) {
+			sum0 = FloatVector.fromArray(FLOATS, a, i).fma(FloatVector.fromArray(FLOATS, b, i), sum0);
+			sum1 = FloatVector.fromArray(FLOATS, a, i + step).fma(FloatVector.fromArray(FLOATS, b, i + step), sum1);
+			sum2 = FloatVector.fromArray(FLOATS, a, i + 2 * step).fma(FloatVector.fromArray(FLOATS, b, i + 2 * step), sum2);
+			sum3 = FloatVector.fromArray(FLOATS, a, i + 3 * step).fma(FloatVector.fromArray(FLOATS, b, i + 3 * step), sum3);
+		}
+		for(int bound = from + FLOATS.loopBound(to - from); i < bound; i += step) {
+			sum0 = FloatVector.fromArray(FLOATS, a, i).fma(FloatVector.fromArray(FLOATS, b, i), sum0);
+		}
+		float sum = sum0.add(sum1).add(sum2.add(sum3)).reduceLanes(VectorOperators.ADD);
+		for(; i < to; i++) {
+			sum += a[i] * b[i];
+		}
+		return sum;
+	}
+
+	@Override
+	void add(int[] a, int[] b, int[] result, int from, int to) {
+		int i = from;
+		for(int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+			IntVector.fromArray(INTS, a, i).add(IntVector.fromArray(INTS, b, i)).intoArray(result, i);
+		}
+		for(; i < to; i++) {
+			result[i] = a[i] + b[i];
+		}
+	}
+
+	@Override
+	void subtract(int[] a, int[] b, int[] result, int from, int to) {
+		int i = from;
+		for(int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+			IntVector.fromArray(INTS, a, i).sub(IntVector.fromArray(INTS, b, i)).intoArray(result, i);
+		}
+		for(; i < to; i++) {
+			result[i] = a[i] - b[i];
+		}
+	}
+
+	@Override
+	void negate(int[] a, int[] result, int from, int to) {
+		int i = from;
+		for(int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+			IntVector.fromArray(INTS, a, i).neg().intoArray(result, i);
+		}
+		for(; i < to; i++) {
+			result[i] = -a[i];
+		}
+	}
+
+	@Override
+	void multiply(int[] a, int k, int[] result, int from, int to) {
+		int i = from;
+		for(int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+			IntVector.fromArray(INTS, a, i).mul(k).intoArray(result, i);
+		}
+		for(; i < to; i++) {
+			result[i] = a[i] * k;
+		}
+	}
+
+	@Override
+	void axpy(int alpha, int[] x, int[] y, int from, int to) {
+		int i = from;
+		for(int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+			IntVector.fromArray(INTS, y, i).add(IntVector.fromArray(INTS, x, i).mul(alpha)).intoArray(y, i);
+		}
+		for(; i < to; i++) {
+			y[i] += alpha * x[i];
+		}
+	}
+
+	@Override
+	int dot(int[] a, int[] b, int from, int to) {
+		IntVector sum = IntVector.zero(INTS);
+		int i = from;
+		for(int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+			sum = IntVector.fromArray(INTS, a, i).mul(IntVector.fromArray(INTS, b, i)).add(sum);
+		}
+		int result = sum.reduceLanes(VectorOperators.ADD);
+		for(; i < to; i++) {
+			result += a[i] * b[i];
+		}
+		return result;
+	}
+}
@@ -0,0 +1,300 @@
+package io.github.vecmatlib.geometry;
+
+import io.github.vecmatlib.matrix.Float3x4;
+import io.github.vecmatlib.matrix.Float4x4;
+import io.github.vecmatlib.vector.Float3;
+import io.github.vecmatlib.vector.Float3Buffer;
+
+/**
+ * Record that represents a 3D axis-aligned bounding box with float coordinates.
+ * 
+ * <p> The box contains every point whose coordinates are between the ones of its minimum
+ * and maximum corners, both included. Every coordinate of the minimum corner is assumed
+ * to be less than or equal to the same coordinate of the maximum corner.
+ * 
+ * @param min The corner of the box with the smallest coordinates.
+ * @param max The corner of the box with the largest coordinates.
+ * 
+ * @author Nico
+ */
+public record AABB3f(Float3 min, Float3 max) {
+
+	/**
+	 * Creates the smallest box that contains all the given points.
+	 * 
+	 * @param points The points contained in the box.
+	 * 
+	 * @return The smallest box that contains all the points.
+	 * 
+	 * @throws IllegalArgumentException if no points are given.
+	 * @throws NullPointerException if the given array or one of its points is null.
+	 */
+	public static AABB3f fromPoints(Float3... points) {
+		if(points.length == 0) {
+			throw new IllegalArgumentException("A box must contain at least one point");
+		}
+		float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+		float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+		for(Float3 point : points) {
+			minX = Math.min(minX, point.x());
+			minY = Math.min(minY, point.y());
+			minZ = Math.min(minZ, point.z());
+			maxX = Math.max(maxX, point.x());
+			maxY = Math.max(maxY, point.y());
+			maxZ = Math.max(maxZ, point.z());
+		}
+		return new AABB3f(new Float3(minX, minY, minZ), new Float3(maxX, maxY, maxZ));
+	}
+
+	/**
+	 * Creates the smallest box that contains all the points in the given buffer.
+	 * 
+	 * @param points The points contained in the box.
+	 * 
+	 * @return The smallest box that contains all the points.
+	 * 
+	 * @throws IllegalArgumentException if the given buffer is empty.
+	 * @throws NullPointerException if the given buffer is null.
+	 */
+	public static AABB3f fromPoints(Float3Buffer points) {
+		if(points.size() == 0) {
+			throw new IllegalArgumentException("A box must contain at least one point");
+		}
+		return new AABB3f(
+			new Float3(min(points.x()), min(points.y()), min(points.z())),
+			new Float3(max(points.x()), max(points.y()), max(points.z()))
+		);
+	}
+
+	/**
+	 * Creates a box from its center and its extents, which are half of its size along every axis.
+	 * 
+	 * @param center The center of the box.
+	 * @param extents Half of the size of the box along every axis.
+	 * 
+	 * @return The box with the given center and extents.
+	 * 
+	 * @throws NullPointerException if one of the given vectors is null.
+	 */
+	public static AABB3f fromCenterAndExtents(Float3 center, Float3 extents) {
+		return new AABB3f(center.minus(extents), center.plus(extents));
+	}
+
+	/**
+	 * Computes the center of this box.
+	 * 
+	 * @return The point in the middle of the two corners of this box.
+	 */
+	public Float3 center() {
+		return new Float3(
+			(this.min().x() + this.max().x()) * 0.5f,
+			(this.min().y() + this.max().y()) * 0.5f,
+			(this.min().z() + this.max().z()) * 0.5f
+		);
+	}
+
+	/**
+	 * Computes the extents of this box, which are half of its size along every axis.
+	 * 
+	 * @return The vector from the center of this box to its maximum corner.
+	 */
+	public Float3 extents() {
+		return new Float3(
+			(this.max().x() - this.min().x()) * 0.5f,
+			(this.max().y() - this.min().y()) * 0.5f,
+			(this.max().z() - this.min().z()) * 0.5f
+		);
+	}
+
+	/**
+	 * Computes the size of this box along every axis.
+	 * 
+	 * @return The vector from the minimum corner to the maximum corner of this box.
+	 */
+	public Float3 size() {
+		return this.max().minus(this.min());
+	}
+
+	/**
+	 * Checks if the point with the given coordinates is inside this box or on its surface.
+	 * 
+	 * @param x The x coordinate of the point.
+	 * @param y The y coordinate of the point.
+	 * @param z The z coordinate of the point.
+	 * 
+	 * @return True if the point is inside this box, otherwise false.
+	 */
+	public boolean contains(float x, float y, float z) {
+		return x >= this.min().x() && x <= this.max().x()
+				&& y >= this.min().y() && y <= this.max().y()
+				&& z >= this.min().z() && z <= this.max().z();
+	}
+
+	/**
+	 * Checks if the given point is inside this box or on its surface.
+	 * 
+	 * @param point The point to check.
+	 * 
+	 * @return True if the point is inside this box, otherwise false.
+	 * 
+	 * @throws NullPointerException if the given point is null.
+	 */
+	public boolean contains(Float3 point) {
+		return this.contains(point.x(), point.y(), point.z());
+	}
+
+	/**
+	 * Checks if this box and the given one overlap. Boxes that only touch on their surface overlap.
+	 * 
+	 * @param box The second box.
+	 * 
+	 * @return True if the two boxes have at least one point in common, otherwise false.
+	 * 
+	 * @throws NullPointerException if the given box is null.
+	 */
+	public boolean intersects(AABB3f box) {
+		return this.min().x() <= box.max().x() && this.max().x() >= box.min().x()
+				&& this.min().y() <= box.max().y() && this.max().y() >= box.min().y()
+				&& this.min().z() <= box.max().z() && this.max().z() >= box.min().z();
+	}
+
+	/**
+	 * Computes the smallest box that contains both this box and the given one.
+	 * 
+	 * @param box The second box.
+	 * 
+	 * @return The union of the two boxes.
+	 * 
+	 * @throws NullPointerException if the given box is null.
+	 */
+	public AABB3f union(AABB3f box) {
+		return new AABB3f(
+			new Float3(Math.min(this.min().x(), box.min().x()), Math.min(this.min().y(), box.min().y()), Math.min(this.min().z(), box.min().z())),
+			new Float3(Math.max(this.max().x(), box.max().x()), Math.max(this.max().y(), box.max().y()), Math.max(this.max().z(), box.max().z()))
+		);
+	}
+
+	/**
+	 * Computes the smallest box that contains both this box and the given point.
+	 * 
+	 * @param point The point to add to this box.
+	 * 
+	 * @return This box grown to contain the given point.
+	 * 
+	 * @throws NullPointerException if the given point is null.
+	 */
+	public AABB3f union(Float3 point) {
+		return new AABB3f(
+			new Float3(Math.min(this.min().x(), point.x()), Math.min(this.min().y(), point.y()), Math.min(this.min().z(), point.z())),
+			new Float3(Math.max(this.max().x(), point.x()), Math.max(this.max().y(), point.y()), Math.max(this.max().z(), point.z()))
+		);
+	}
+
+	/**
+	 * Computes the smallest axis-aligned box that contains this box transformed by the given affine transformation.
+	 * 
+	 * <p> The center of the box is transformed as a point and its extents are transformed by the absolute
+	 * values of the linear part of the transformation, which gives the same box as transforming the eight
+	 * corners of this box and taking the smallest box that contains them with a fraction of the operations.
+	 * 
+	 * @param matrix The affine transformation.
+	 * 
+	 * @return The box that contains the transformed box.
+	 * 
+	 * @throws NullPointerException if the given matrix is null.
+	 */
+	public AABB3f transformed(Float3x4 matrix) {
+		return this.transformed(
+			matrix.m11(), matrix.m12(), matrix.m13(), matrix.m14(),
+			matrix.m21(), matrix.m22(), matrix.m23(), matrix.m24(),
+			matrix.m31(), matrix.m32(), matrix.m33(), matrix.m34()
+		);
+	}
+
+	/**
+	 * Computes the smallest axis-aligned box that contains this box transformed by the given matrix.
+	 * The matrix is assumed to be an affine transformation and its last row is ignored.
+	 * See {@link #transformed(Float3x4)}.
+	 * 
+	 * @param matrix The affine transformation.
+	 * 
+	 * @return The box that contains the transformed box.
+	 * 
+	 * @throws NullPointerException if the given matrix is null.
+	 */
+	public AABB3f transformed(Float4x4 matrix) {
+		return this.transformed(
+			matrix.m11(), matrix.m12(), matrix.m13(), matrix.m14(),
+			matrix.m21(), matrix.m22(), matrix.m23(), matrix.m24(),
+			matrix.m31(), matrix.m32(), matrix.m33(), matrix.m34()
+		);
+	}
+
+	/**
+	 * Computes the smallest axis-aligned box that contains this box transformed by the affine transformation with the given elements.
+	 * 
+	 * @param m11 The first element of the first row.
+	 * @param m12 The second element of the first row.
+	 * @param m13 The third element of the first row.
+	 * @param m14 The fourth element of the first row.
+	 * @param m21 The first element of the second row.
+	 * @param m22 The second element of the second row.
+	 * @param m23 The third element of the second row.
+	 * @param m24 The fourth element of the second row.
+	 * @param m31 The first element of the third row.
+	 * @param m32 The second element of the third row.
+	 * @param m33 The third element of the third row.
+	 * @param m34 The fourth element of the third row.
+	 * 
+	 * @return The box that contains the transformed box.
+	 */
+	private AABB3f transformed(float m11, float m12, float m13, float m14, float m21, float m22, float m23, float m24, float m31, float m32, float m33, float m34) {
+		Float3 center = this.center(), extents = this.extents();
+		float cx = m11 * center.x() + m12 * center.y() + m13 * center.z() + m14;
+		float cy = m21 * center.x() + m22 * center.y() + m23 * center.z() + m24;
+		float cz = m31 * center.x() + m32 * center.y() + m33 * center.z() + m34;
+		float ex = Math.abs(m11) * extents.x() + Math.abs(m12) * extents.y() + Math.abs(m13) * extents.z();
+		float ey = Math.abs(m21) * extents.x() + Math.abs(m22) * extents.y() + Math.abs(m23) * extents.z();
+		float ez = Math.abs(m31) * extents.x() + Math.abs(m32) * extents.y() + Math.abs(m33) * extents.z();
+		return new AABB3f(new Float3(cx - ex, cy - ey, cz - ez), new Float3(cx + ex, cy + ey, cz + ez));
+	}
+
+	/**
+	 * Converts this box to a double box.
+	 * 
+	 * @return A box with the same corners as this one.
+	 */
+	public AABB3d asDouble() {
+		return new AABB3d(this.min().asDouble(), this.max().asDouble());
+	}
+
+	/**
+	 * Finds the smallest value in the given array.
+	 * 
+	 * @param values The values, which cannot be empty.
+	 * 
+	 * @return The smallest value.
+	 */
+	private static float min(float[] values) {
+		float min = values[0];
+		for(int i = 1; i < values.length; i++) {
+			min = Math.min(min, values[i]);
+		}
+		return min;
+	}
+
+	/**
+	 * Finds the largest value in the given array.
+	 * 
+	 * @param values The values, which cannot be empty.
+	 * 
+	 * @return The largest value.
+	 */
+	private static float max(float[] values) {
+		float max = values[0];
+		for(int i = 1; i < values.length; i++) {
+			max = Math.max(max, values[i]);
+		}
+		return max;
+	}
+}
@@ -0,0 +1,20 @@
+package io.github.vecmatlib.geometry;
+
+/**
+ * Range of the depth of the points inside the view volume after a projection matrix has been applied,
+ * which decides how the near plane of a {@link Frustum} is extracted from a view-projection matrix.
+ * 
+ * @author Nico
+ */
+public enum DepthRange {
+
+	/**
+	 * Depth between {@code -w} and {@code w}, used by OpenGL projection matrices.
+	 */
+	NEGATIVE_ONE_TO_ONE,
+
+	/**
+	 * Depth between {@code 0} and {@code w}, used by Direct3D, Vulkan and Metal projection matrices.
+	 */
+	ZERO_TO_ONE
+}
@@ -0,0 +1,544 @@
+package io.github.vecmatlib.geometry;
+
+import java.util.Objects;
+
+import io.github.vecmatlib.matrix.Double4x4;
+import io.github.vecmatlib.matrix.Float4x4;
+import io.github.vecmatlib.vector.Double3;
+import io.github.vecmatlib.vector.Double3Buffer;
+import io.github.vecmatlib.vector.Double4;
+import io.github.vecmatlib.vector.Float3;
+import io.github.vecmatlib.vector.Float3Buffer;
+import io.github.vecmatlib.vector.VectorMathException;
+
+/**
+ * Class that represents the view volume of a camera as the intersection of six half-spaces.
+ * 
+ * <p> The planes are extracted from a view-projection matrix that is applied to column vectors,
+ * so they are in the same space as the points transformed by the matrix, usually world space.
+ * Every plane {@code (a, b, c, d)} is normalized so that {@code (a, b, c)} has unit length and
+ * points towards the inside of the frustum, which makes {@code a x + b y + c z + d} the signed
+ * distance of a point from the plane.
+ * 
+ * <p> Boxes and spheres are tested against every plane separately. An object is culled only if it
+ * lies completely outside at least one plane, so some objects that are close to the corners of the
+ * frustum are reported as visible even if they are outside of it, but no visible object is ever culled.
+ * 
+ * <p> The batch methods test objects stored in buffers and return a bitset in an array of longs where
+ * the bit {@code i % 64} of the element {@code i / 64} is set if the object {@code i} is visible, which
+ * can be wrapped in a {@link java.util.BitSet} with {@link java.util.BitSet#valueOf(long[])}.
+ * Objects are tested in blocks of 64 against one plane at a time, which keeps the inner loop free
+ * of allocations and of branches that depend on the data, and skips the remaining planes as soon as
+ * every object in the block has been culled.
+ * 
+ * <p> Frustums are immutable and can be shared between threads.
+ * 
+ * @author Nico
+ */
+public final class Frustum {
+
+	/**Index of the plane on the left side of the frustum */
+	public static final int LEFT = 0;
+	/**Index of the plane on the right side of the frustum */
+	public static final int RIGHT = 1;
+	/**Index of the plane at the bottom of the frustum */
+	public static final int BOTTOM = 2;
+	/**Index of the plane at the top of the frustum */
+	public static final int TOP = 3;
+	/**Index of the near plane of the frustum */
+	public static final int NEAR = 4;
+	/**Index of the far plane of the frustum */
+	public static final int FAR = 5;
+
+	/**Number of planes of a frustum */
+	private static final int PLANES = 6;
+
+	/**The coefficients a, b, c and d of every plane one after the other */
+	private final double[] planes;
+	/**The coefficients of the planes casted to float */
+	private final float[] floatPlanes;
+
+	/**
+	 * Creates a frustum from the elements of a view-projection matrix.
+	 * 
+	 * @param m The 16 elements of the matrix row by row.
+	 * @param depthRange The range of the depth in clip space.
+	 */
+	private Frustum(double[] m, DepthRange depthRange) {
+		this.planes = new double[4 * PLANES];
+		for(int i = 0; i < 4; i++) {
+			double row1 = m[i], row2 = m[4 + i], row3 = m[8 + i], row4 = m[12 + i];
+			this.planes[4 * LEFT + i] = row4 + row1;
+			this.planes[4 * RIGHT + i] = row4 - row1;
+			this.planes[4 * BOTTOM + i] = row4 + row2;
+			this.planes[4 * TOP + i] = row4 - row2;
+			this.planes[4 * NEAR + i] = depthRange == DepthRange.ZERO_TO_ONE ? row3 : row4 + row3;
+			this.planes[4 * FAR + i] = row4 - row3;
+		}
+		this.floatPlanes = new float[4 * PLANES];
+		for(int p = 0; p < 4 * PLANES; p += 4) {
+			double length = Math.sqrt(this.planes[p] * this.planes[p] + this.planes[p + 1] * this.planes[p + 1] + this.planes[p + 2] * this.planes[p + 2]);
+			// A plane with a zero normal, such as the far plane of an infinite projection, is kept as it is
+			if(length > 0.0) {
+				for(int i = p; i < p + 4; i++) {
+					this.planes[i] /= length;
+				}
+			}
+			for(int i = p; i < p + 4; i++) {
+				this.floatPlanes[i] = (float) this.planes[i];
+			}
+		}
+	}
+
+	/**
+	 * Extracts the frustum from the given view-projection matrix, assuming that its depth range is
+	 * {@link DepthRange#NEGATIVE_ONE_TO_ONE}. See {@link #fromViewProjection(Double4x4, DepthRange)}.
+	 * 
+	 * @param matrix The view-projection matrix.
+	 * 
+	 * @return The frustum of the given matrix.
+	 * 
+	 * @throws NullPointerException if the given matrix is null.
+	 */
+	public static Frustum fromViewProjection(Float4x4 matrix) {
+		return fromViewProjection(matrix, DepthRange.NEGATIVE_ONE_TO_ONE);
+	}
+
+	/**
+	 * Extracts the frustum from the given view-projection matrix.
+	 * See {@link #fromViewProjection(Double4x4, DepthRange)}.
+	 * 
+	 * @param matrix The view-projection matrix.
+	 * @param depthRange The range of the depth in clip space of the matrix.
+	 * 
+	 * @return The frustum of the given matrix.
+	 * 
+	 * @throws NullPointerException if one of the given values is null.
+	 */
+	public static Frustum fromViewProjection(Float4x4 matrix, DepthRange depthRange) {
+		return fromViewProjection(matrix.asDouble(), depthRange);
+	}
+
+	/**
+	 * Extracts the frustum from the given view-projection matrix, assuming that its depth range is
+	 * {@link DepthRange#NEGATIVE_ONE_TO_ONE}. See {@link #fromViewProjection(Double4x4, DepthRange)}.
+	 * 
+	 * @param matrix The view-projection matrix.
+	 * 
+	 * @return The frustum of the given matrix.
+	 * 
+	 * @throws NullPointerException if the given matrix is null.
+	 */
+	public static Frustum fromViewProjection(Double4x4 matrix) {
+		return fromViewProjection(matrix, DepthRange.NEGATIVE_ONE_TO_ONE);
+	}
+
+	/**
+	 * Extracts the frustum from the given view-projection matrix.
+	 * 
+	 * <p> A point is inside the view volume if its coordinates in clip space are between {@code -w} and {@code w},
+	 * except for the depth whose range is given, so every plane is a sum or a difference of the last row of the
+	 * matrix and one of the other rows.
+	 * 
+	 * @param matrix The view-projection matrix.
+	 * @param depthRange The range of the depth in clip space of the matrix.
+	 * 
+	 * @return The frustum of the given matrix.
+	 * 
+	 * @throws NullPointerException if one of the given values is null.
+	 */
+	public static Frustum fromViewProjection(Double4x4 matrix, DepthRange depthRange) {
+		Objects.requireNonNull(depthRange);
+		return new Frustum(new double[] {
+			matrix.m11(), matrix.m12(), matrix.m13(), matrix.m14(),
+			matrix.m21(), matrix.m22(), matrix.m23(), matrix.m24(),
+			matrix.m31(), matrix.m32(), matrix.m33(), matrix.m34(),
+			matrix.m41(), matrix.m42(), matrix.m43(), matrix.m44()
+		}, depthRange);
+	}
+
+	/**
+	 * Returns the plane at the given index.
+	 * 
+	 * @param index The index of the plane, one of {@link #LEFT}, {@link #RIGHT}, {@link #BOTTOM},
+	 * 		{@link #TOP}, {@link #NEAR} and {@link #FAR}.
+	 * 
+	 * @return The coefficients {@code (a, b, c, d)} of the plane, whose normal points towards the inside.
+	 * 
+	 * @throws IndexOutOfBoundsException if the index is not the one of a plane.
+	 */
+	public Double4 plane(int index) {
+		Objects.checkIndex(index, PLANES);
+		return new Double4(this.planes[4 * index], this.planes[4 * index + 1], this.planes[4 * index + 2], this.planes[4 * index + 3]);
+	}
+
+	/**
+	 * Checks if the point with the given coordinates is inside this frustum or on its surface.
+	 * 
+	 * @param x The x coordinate of the point.
+	 * @param y The y coordinate of the point.
+	 * @param z The z coordinate of the point.
+	 * 
+	 * @return True if the point is inside this frustum, otherwise false.
+	 */
+	public boolean contains(double x, double y, double z) {
+		return this.intersectsSphere(x, y, z, 0.0);
+	}
+
+	/**
+	 * Checks if the given point is inside this frustum or on its surface.
+	 * 
+	 * @param point The point to check.
+	 * 
+	 * @return True if the point is inside this frustum, otherwise false.
+	 * 
+	 * @throws NullPointerException if the given point is null.
+	 */
+	public boolean contains(Double3 point) {
+		return this.contains(point.x(), point.y(), point.z());
+	}
+
+	/**
+	 * Checks if the given point is inside this frustum or on its surface.
+	 * 
+	 * @param point The point to check.
+	 * 
+	 * @return True if the point is inside this frustum, otherwise false.
+	 * 
+	 * @throws NullPointerException if the given point is null.
+	 */
+	public boolean contains(Float3 point) {
+		return this.contains(point.x(), point.y(), point.z());
+	}
+
+	/**
+	 * Checks if the sphere with the given center and radius can be visible.
+	 * 
+	 * @param x The x coordinate of the center.
+	 * @param y The y coordinate of the center.
+	 * @param z The z coordinate of the center.
+	 * @param radius The radius of the sphere.
+	 * 
+	 * @return False if the sphere is completely outside one of the planes, otherwise true.
+	 */
+	public boolean intersectsSphere(double x, double y, double z, double radius) {
+		for(int p = 0; p < 4 * PLANES; p += 4) {
+			if(this.planes[p] * x + this.planes[p + 1] * y + this.planes[p + 2] * z + this.planes[p + 3] < -radius) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if the sphere with the given center and radius can be visible.
+	 * 
+	 * @param center The center of the sphere.
+	 * @param radius The radius of the sphere.
+	 * 
+	 * @return False if the sphere is completely outside one of the planes, otherwise true.
+	 * 
+	 * @throws NullPointerException if the given center is null.
+	 */
+	public boolean intersectsSphere(Double3 center, double radius) {
+		return this.intersectsSphere(center.x(), center.y(), center.z(), radius);
+	}
+
+	/**
+	 * Checks if the sphere with the given center and radius can be visible.
+	 * 
+	 * @param center The center of the sphere.
+	 * @param radius The radius of the sphere.
+	 * 
+	 * @return False if the sphere is completely outside one of the planes, otherwise true.
+	 * 
+	 * @throws NullPointerException if the given center is null.
+	 */
+	public boolean intersectsSphere(Float3 center, float radius) {
+		float x = center.x(), y = center.y(), z = center.z();
+		for(int p = 0; p < 4 * PLANES; p += 4) {
+			if(this.floatPlanes[p] * x + this.floatPlanes[p + 1] * y + this.floatPlanes[p + 2] * z + this.floatPlanes[p + 3] < -radius) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if the given box can be visible.
+	 * 
+	 * <p> For every plane, only the corner of the box that is farthest along the normal of the plane is tested.
+	 * If that corner is outside, the whole box is outside.
+	 * 
+	 * @param box The box to check.
+	 * 
+	 * @return False if the box is completely outside one of the planes, otherwise true.
+	 * 
+	 * @throws NullPointerException if the given box is null.
+	 */
+	public boolean intersects(AABB3d box) {
+		Double3 min = box.min(), max = box.max();
+		for(int p = 0; p < 4 * PLANES; p += 4) {
+			double a = this.planes[p], b = this.planes[p + 1], c = this.planes[p + 2];
+			double x = a >= 0.0 ? max.x() : min.x();
+			double y = b >= 0.0 ? max.y() : min.y();
+			double z = c >= 0.0 ? max.z() : min.z();
+			if(a * x + b * y + c * z + this.planes[p + 3] < 0.0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if the given box can be visible. See {@link #intersects(AABB3d)}.
+	 * 
+	 * @param box The box to check.
+	 * 
+	 * @return False if the box is completely outside one of the planes, otherwise true.
+	 * 
+	 * @throws NullPointerException if the given box is null.
+	 */
+	public boolean intersects(AABB3f box) {
+		Float3 min = box.min(), max = box.max();
+		for(int p = 0; p < 4 * PLANES; p += 4) {
+			float a = this.floatPlanes[p], b = this.floatPlanes[p + 1], c = this.floatPlanes[p + 2];
+			float x = a >= 0.0f ? max.x() : min.x();
+			float y = b >= 0.0f ? max.y() : min.y();
+			float z = c >= 0.0f ? max.z() : min.z();
+			if(a * x + b * y + c * z + this.floatPlanes[p + 3] < 0.0f) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Tests the boxes stored in the given buffers against this frustum.
+	 * Every box is tested as in {@link #intersects(AABB3f)}.
+	 * 
+	 * @param mins The minimum corners of the boxes.
+	 * @param maxs The maximum corners of the boxes.
+	 * 
+	 * @return A new bitset where the bit of every box is set if the box can be visible.
+	 * 
+	 * @throws VectorMathException if the two buffers do not have the same size.
+	 */
+	public long[] visibleBoxes(Float3Buffer mins, Float3Buffer maxs) {
+		return this.visibleBoxes(mins, maxs, new long[words(mins.size())]);
+	}
+
+	/**
+	 * Tests the boxes stored in the given buffers against this frustum and stores the result in the given bitset.
+	 * Every box is tested as in {@link #intersects(AABB3f)}.
+	 * 
+	 * @param mins The minimum corners of the boxes.
+	 * @param maxs The maximum corners of the boxes.
+	 * @param result The array of {@code (size + 63) / 64} longs where the bitset is stored.
+	 * 
+	 * @return The given result array, where the bit of every box is set if the box can be visible.
+	 * 
+	 * @throws VectorMathException if the two buffers do not have the same size
+	 * 		or if the result array does not have the length of the bitset.
+	 */
+	public long[] visibleBoxes(Float3Buffer mins, Float3Buffer maxs, long[] result) {
+		int size = checkSizes(mins.size(), maxs.size(), result.length);
+		float[] minX = mins.x(), minY = mins.y(), minZ = mins.z();
+		float[] maxX = maxs.x(), maxY = maxs.y(), maxZ = maxs.z();
+		for(int word = 0; word < result.length; word++) {
+			int start = word << 6, end = Math.min(start + 64, size);
+			long visible = -1L >>> (64 - (end - start));
+			for(int p = 0; p < 4 * PLANES && visible != 0L; p += 4) {
+				float a = this.floatPlanes[p], b = this.floatPlanes[p + 1], c = this.floatPlanes[p + 2], d = this.floatPlanes[p + 3];
+				float[] xs = a >= 0.0f ? maxX : minX, ys = b >= 0.0f ? maxY : minY, zs = c >= 0.0f ? maxZ : minZ;
+				for(int i = start; i < end; i++) {
+					float distance = a * xs[i] + b * ys[i] + c * zs[i] + d;
+					visible &= ~((distance < 0.0f ? 1L : 0L) << (i - start));
+				}
+			}
+			result[word] = visible;
+		}
+		return result;
+	}
+
+	/**
+	 * Tests the boxes stored in the given buffers against this frustum.
+	 * Every box is tested as in {@link #intersects(AABB3d)}.
+	 * 
+	 * @param mins The minimum corners of the boxes.
+	 * @param maxs The maximum corners of the boxes.
+	 * 
+	 * @return A new bitset where the bit of every box is set if the box can be visible.
+	 * 
+	 * @throws VectorMathException if the two buffers do not have the same size.
+	 */
+	public long[] visibleBoxes(Double3Buffer mins, Double3Buffer maxs) {
+		return this.visibleBoxes(mins, maxs, new long[words(mins.size())]);
+	}
+
+	/**
+	 * Tests the boxes stored in the given buffers against this frustum and stores the result in the given bitset.
+	 * Every box is tested as in {@link #intersects(AABB3d)}.
+	 * 
+	 * @param mins The minimum corners of the boxes.
+	 * @param maxs The maximum corners of the boxes.
+	 * @param result The array of {@code (size + 63) / 64} longs where the bitset is stored.
+	 * 
+	 * @return The given result array, where the bit of every box is set if the box can be visible.
+	 * 
+	 * @throws VectorMathException if the two buffers do not have the same size
+	 * 		or if the result array does not have the length of the bitset.
+	 */
+	public long[] visibleBoxes(Double3Buffer mins, Double3Buffer maxs, long[] result) {
+		int size = checkSizes(mins.size(), maxs.size(), result.length);
+		double[] minX = mins.x(), minY = mins.y(), minZ = mins.z();
+		double[] maxX = maxs.x(), maxY = maxs.y(), maxZ = maxs.z();
+		for(int word = 0; word < result.length; word++) {
+			int start = word << 6, end = Math.min(start + 64, size);
+			long visible = -1L >>> (64 - (end - start));
+			for(int p = 0; p < 4 * PLANES && visible != 0L; p += 4) {
+				double a = this.planes[p], b = this.planes[p + 1], c = this.planes[p + 2], d = this.planes[p + 3];
+				double[] xs = a >= 0.0 ? maxX : minX, ys = b >= 0.0 ? maxY : minY, zs = c >= 0.0 ? maxZ : minZ;
+				for(int i = start; i < end; i++) {
+					double distance = a * xs[i] + b * ys[i] + c * zs[i] + d;
+					visible &= ~((distance < 0.0 ? 1L : 0L) << (i - start));
+				}
+			}
+			result[word] = visible;
+		}
+		return result;
+	}
+
+	/**
+	 * Tests the spheres with the given centers and radii against this frustum.
+	 * Every sphere is tested as in {@link #intersectsSphere(Float3, float)}.
+	 * 
+	 * @param centers The centers of the spheres.
+	 * @param radii The radii of the spheres.
+	 * 
+	 * @return A new bitset where the bit of every sphere is set if the sphere can be visible.
+	 * 
+	 * @throws VectorMathException if the number of centers and radii are different.
+	 */
+	public long[] visibleSpheres(Float3Buffer centers, float[] radii) {
+		return this.visibleSpheres(centers, radii, new long[words(centers.size())]);
+	}
+
+	/**
+	 * Tests the spheres with the given centers and radii against this frustum and stores the result in the given bitset.
+	 * Every sphere is tested as in {@link #intersectsSphere(Float3, float)}.
+	 * 
+	 * @param centers The centers of the spheres.
+	 * @param radii The radii of the spheres.
+	 * @param result The array of {@code (size + 63) / 64} longs where the bitset is stored.
+	 * 
+	 * @return The given result array, where the bit of every sphere is set if the sphere can be visible.
+	 * 
+	 * @throws VectorMathException if the number of centers and radii are different
+	 * 		or if the result array does not have the length of the bitset.
+	 */
+	public long[] visibleSpheres(Float3Buffer centers, float[] radii, long[] result) {
+		int size = checkSizes(centers.size(), radii.length, result.length);
+		float[] xs = centers.x(), ys = centers.y(), zs = centers.z();
+		for(int word = 0; word < result.length; word++) {
+			int start = word << 6, end = Math.min(start + 64, size);
+			long visible = -1L >>> (64 - (end - start));
+			for(int p = 0; p < 4 * PLANES && visible != 0L; p += 4) {
+				float a = this.floatPlanes[p], b = this.floatPlanes[p + 1], c = this.floatPlanes[p + 2], d = this.floatPlanes[p + 3];
+				for(int i = start; i < end; i++) {
+					float distance = a * xs[i] + b * ys[i] + c * zs[i] + d;
+					visible &= ~((distance < -radii[i] ? 1L : 0L) << (i - start));
+				}
+			}
+			result[word] = visible;
+		}
+		return result;
+	}
+
+	/**
+	 * Tests the spheres with the given centers and radii against this frustum.
+	 * Every sphere is tested as in {@link #intersectsSphere(Double3, double)}.
+	 * 
+	 * @param centers The centers of the spheres.
+	 * @param radii The radii of the spheres.
+	 * 
+	 * @return A new bitset where the bit of every sphere is set if the sphere can be visible.
+	 * 
+	 * @throws VectorMathException if the number of centers and radii are different.
+	 */
+	public long[] visibleSpheres(Double3Buffer centers, double[] radii) {
+		return this.visibleSpheres(centers, radii, new long[words(centers.size())]);
+	}
+
+	/**
+	 * Tests the spheres with the given centers and radii against this frustum and stores the result in the given bitset.
+	 * Every sphere is tested as in {@link #intersectsSphere(Double3, double)}.
+	 * 
+	 * @param centers The centers of the spheres.
+	 * @param radii The radii of the spheres.
+	 * @param result The array of {@code (size + 63) / 64} longs where the bitset is stored.
+	 * 
+	 * @return The given result array, where the bit of every sphere is set if the sphere can be visible.
+	 * 
+	 * @throws VectorMathException if the number of centers and radii are different
+	 * 		or if the result array does not have the length of the bitset.
+	 */
+	public long[] visibleSpheres(Double3Buffer centers, double[] radii, long[] result) {
+		int size = checkSizes(centers.size(), radii.length, result.length);
+		double[] xs = centers.x(), ys = centers.y(), zs = centers.z();
+		for(int word = 0; word < result.length; word++) {
+			int start = word << 6, end = Math.min(start + 64, size);
+			long visible = -1L >>> (64 - (end - start));
+			for(int p = 0; p < 4 * PLANES && visible != 0L; p += 4) {
+				double a = this.planes[p], b = this.planes[p + 1], c = this.planes[p + 2], d = this.planes[p + 3];
+				for(int i = start; i < end; i++) {
+					double distance = a * xs[i] + b * ys[i] + c * zs[i] + d;
+					visible &= ~((distance < -radii[i] ? 1L : 0L) << (i - start));
+				}
+			}
+			result[word] = visible;
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the number of longs needed to store one bit for every object.
+	 * 
+	 * @param size The number of objects.
+	 * 
+	 * @return The length of the bitset.
+	 */
+	private static int words(int size) {
+		return (size + 63) >>> 6;
+	}
+
+	/**
+	 * Checks that the two arrays of a batch have the same size and that the result has the length of the bitset.
+	 * 
+	 * @param size The size of the first array.
+	 * @param otherSize The size of the second array.
+	 * @param resultLength The length of the result.
+	 * 
+	 * @return The number of objects in the batch.
+	 * 
+	 * @throws VectorMathException if the sizes are different or the result does not have the length of the bitset.
+	 */
+	private static int checkSizes(int size, int otherSize, int resultLength) {
+		if(otherSize != size) {
+			throw new VectorMathException("The buffers of a batch must have the same size");
+		}
+		if(resultLength != words(size)) {
+			throw new VectorMathException("The result of a batch of " + size + " objects must have " + words(size) + " elements");
+		}
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("Frustum[");
+		for(int p = 0; p < PLANES; p++) {
+			builder.append(p == 0 ? "" : ", ").append(this.plane(p));
+		}
+		return builder.append(']').toString();
+	}
+}
@@ -0,0 +1,256 @@
+package io.github.vecmatlib.geometry;
+
+import io.github.vecmatlib.matrix.Double3x4;
+import io.github.vecmatlib.vector.Double3;
+
+/**
+ * Record that represents a 3D ray with double coordinates.
+ * 
+ * <p> The ray contains the points {@code origin + t * direction} for every {@code t >= 0}.
+ * The direction does not need to have unit length, but distances are measured in multiples of it.
+ * 
+ * <p> The intersection methods work on the components of the vectors instead of calling
+ * {@link Double3#crossProduct(Double3)} or {@link Double3#dotProduct(Double3)}, so they do not allocate
+ * anything. They store the intersection in a {@link RayHit3d} only if it is closer than the one it
+ * already contains, so the same hit can be used to find the closest of many primitives.
+ * 
+ * @param origin The point where the ray starts.
+ * @param direction The direction of the ray.
+ * 
+ * @author Nico
+ */
+public record Ray3d(Double3 origin, Double3 direction) {
+
+	/**
+	 * Computes the point at the given distance along this ray.
+	 * 
+	 * @param t The distance along the ray in multiples of its direction.
+	 * 
+	 * @return The point {@code origin + t * direction}.
+	 */
+	public Double3 pointAt(double t) {
+		return new Double3(
+			this.origin().x() + t * this.direction().x(),
+			this.origin().y() + t * this.direction().y(),
+			this.origin().z() + t * this.direction().z()
+		);
+	}
+
+	/**
+	 * Transforms this ray by the given affine transformation.
+	 * Distances along the transformed ray are the same as the ones along this ray.
+	 * 
+	 * @param matrix The transformation matrix.
+	 * 
+	 * @return The transformed ray.
+	 * 
+	 * @throws NullPointerException if the given matrix is null.
+	 */
+	public Ray3d transformed(Double3x4 matrix) {
+		return new Ray3d(matrix.transformPoint(this.origin()), matrix.transformDirection(this.direction()));
+	}
+
+	/**
+	 * Intersects this ray with the plane that contains the points where {@code a * x + b * y + c * z + d = 0}.
+	 * Rays that are parallel to the plane never intersect it.
+	 * 
+	 * @param a The x component of the normal of the plane.
+	 * @param b The y component of the normal of the plane.
+	 * @param c The z component of the normal of the plane.
+	 * @param d The constant term of the plane equation.
+	 * @param hit The hit where the intersection is stored.
+	 * 
+	 * @return True if the ray intersects the plane closer than the intersection stored in the hit, otherwise false.
+	 * 
+	 * @throws NullPointerException if the given hit is null.
+	 */
+	public boolean intersectPlane(double a, double b, double c, double d, RayHit3d hit) {
+		double denominator = a * this.direction().x() + b * this.direction().y() + c * this.direction().z();
+		if(denominator == 0.0) {
+			return false;
+		}
+		double t = -(a * this.origin().x() + b * this.origin().y() + c * this.origin().z() + d) / denominator;
+		if(!(t >= 0.0 && t < hit.t())) {
+			return false;
+		}
+		hit.set(t, 0.0, 0.0);
+		return true;
+	}
+
+	/**
+	 * Intersects this ray with the plane that contains the points where {@code normal · p + d = 0}.
+	 * Rays that are parallel to the plane never intersect it.
+	 * 
+	 * @param normal The normal of the plane.
+	 * @param d The constant term of the plane equation.
+	 * @param hit The hit where the intersection is stored.
+	 * 
+	 * @return True if the ray intersects the plane closer than the intersection stored in the hit, otherwise false.
+	 * 
+	 * @throws NullPointerException if the given normal or hit is null.
+	 */
+	public boolean intersectPlane(Double3 normal, double d, RayHit3d hit) {
+		return this.intersectPlane(normal.x(), normal.y(), normal.z(), d, hit);
+	}
+
+	/**
+	 * Intersects this ray with the surface of the sphere with the given center and radius.
+	 * If the origin of the ray is inside the sphere, the intersection is the point where the ray exits it.
+	 * 
+	 * @param x The x coordinate of the center of the sphere.
+	 * @param y The y coordinate of the center of the sphere.
+	 * @param z The z coordinate of the center of the sphere.
+	 * @param radius The radius of the sphere.
+	 * @param hit The hit where the intersection is stored.
+	 * 
+	 * @return True if the ray intersects the sphere closer than the intersection stored in the hit, otherwise false.
+	 * 
+	 * @throws NullPointerException if the given hit is null.
+	 */
+	public boolean intersectSphere(double x, double y, double z, double radius, RayHit3d hit) {
+		double dx = this.direction().x(), dy = this.direction().y(), dz = this.direction().z();
+		double ox = this.origin().x() - x, oy = this.origin().y() - y, oz = this.origin().z() - z;
+		double a = dx * dx + dy * dy + dz * dz;
+		double b = ox * dx + oy * dy + oz * dz;
+		double c = ox * ox + oy * oy + oz * oz - radius * radius;
+		double discriminant = b * b - a * c;
+		if(discriminant < 0.0 || a == 0.0) {
+			return false;
+		}
+		double root = Math.sqrt(discriminant);
+		double t = (-b - root) / a;
+		if(t < 0.0) {
+			t = (-b + root) / a;
+		}
+		if(!(t >= 0.0 && t < hit.t())) {
+			return false;
+		}
+		hit.set(t, 0.0, 0.0);
+		return true;
+	}
+
+	/**
+	 * Intersects this ray with the surface of the sphere with the given center and radius.
+	 * If the origin of the ray is inside the sphere, the intersection is the point where the ray exits it.
+	 * 
+	 * @param center The center of the sphere.
+	 * @param radius The radius of the sphere.
+	 * @param hit The hit where the intersection is stored.
+	 * 
+	 * @return True if the ray intersects the sphere closer than the intersection stored in the hit, otherwise false.
+	 * 
+	 * @throws NullPointerException if the given center or hit is null.
+	 */
+	public boolean intersectSphere(Double3 center, double radius, RayHit3d hit) {
+		return this.intersectSphere(center.x(), center.y(), center.z(), radius, hit);
+	}
+
+	/**
+	 * Intersects this ray with the surface of the given box using the slab method.
+	 * If the origin of the ray is inside the box, the intersection is the point where the ray exits it.
+	 * 
+	 * @param box The box to intersect.
+	 * @param hit The hit where the intersection is stored.
+	 * 
+	 * @return True if the ray intersects the box closer than the intersection stored in the hit, otherwise false.
+	 * 
+	 * @throws NullPointerException if the given box or hit is null.
+	 */
+	public boolean intersectBox(AABB3d box, RayHit3d hit) {
+		double ox = this.origin().x(), oy = this.origin().y(), oz = this.origin().z();
+		// Divisions by zero give infinite distances to the slabs that the ray never crosses
+		double ix = 1.0 / this.direction().x(), iy = 1.0 / this.direction().y(), iz = 1.0 / this.direction().z();
+		double x1 = (box.min().x() - ox) * ix, x2 = (box.max().x() - ox) * ix;
+		double y1 = (box.min().y() - oy) * iy, y2 = (box.max().y() - oy) * iy;
+		double z1 = (box.min().z() - oz) * iz, z2 = (box.max().z() - oz) * iz;
+		double near = Math.max(Math.max(Math.min(x1, x2), Math.min(y1, y2)), Math.min(z1, z2));
+		double far = Math.min(Math.min(Math.max(x1, x2), Math.max(y1, y2)), Math.max(z1, z2));
+		// Negated comparisons also reject the NaN distances of rays that slide along a face of the box
+		if(!(far >= near) || far < 0.0) {
+			return false;
+		}
+		double t = near < 0.0 ? far : near;
+		if(!(t < hit.t())) {
+			return false;
+		}
+		hit.set(t, 0.0, 0.0);
+		return true;
+	}
+
+	/**
+	 * Intersects this ray with the triangle with the given vertices using the Möller–Trumbore algorithm.
+	 * Both sides of the triangle are intersected and rays that are parallel to it never intersect it.
+	 * The barycentric coordinates of the intersection are stored in the hit together with its distance.
+	 * 
+	 * @param x0 The x coordinate of the first vertex.
+	 * @param y0 The y coordinate of the first vertex.
+	 * @param z0 The z coordinate of the first vertex.
+	 * @param x1 The x coordinate of the second vertex.
+	 * @param y1 The y coordinate of the second vertex.
+	 * @param z1 The z coordinate of the second vertex.
+	 * @param x2 The x coordinate of the third vertex.
+	 * @param y2 The y coordinate of the third vertex.
+	 * @param z2 The z coordinate of the third vertex.
+	 * @param hit The hit where the intersection is stored.
+	 * 
+	 * @return True if the ray intersects the triangle closer than the intersection stored in the hit, otherwise false.
+	 * 
+	 * @throws NullPointerException if the given hit is null.
+	 */
+	public boolean intersectTriangle(double x0, double y0, double z0, double x1, double y1, double z1, double x2, double y2, double z2, RayHit3d hit) {
+		double dx = this.direction().x(), dy = this.direction().y(), dz = this.direction().z();
+		double e1x = x1 - x0, e1y = y1 - y0, e1z = z1 - z0;
+		double e2x = x2 - x0, e2y = y2 - y0, e2z = z2 - z0;
+		// p = direction × e2
+		double px = dy * e2z - dz * e2y, py = dz * e2x - dx * e2z, pz = dx * e2y - dy * e2x;
+		double determinant = e1x * px + e1y * py + e1z * pz;
+		if(determinant == 0.0) {
+			return false;
+		}
+		double inverse = 1.0 / determinant;
+		double sx = this.origin().x() - x0, sy = this.origin().y() - y0, sz = this.origin().z() - z0;
+		double u = (sx * px + sy * py + sz * pz) * inverse;
+		if(!(u >= 0.0 && u <= 1.0)) {
+			return false;
+		}
+		// q = s × e1
+		double qx = sy * e1z - sz * e1y, qy = sz * e1x - sx * e1z, qz = sx * e1y - sy * e1x;
+		double v = (dx * qx + dy * qy + dz * qz) * inverse;
+		if(!(v >= 0.0 && u + v <= 1.0)) {
+			return false;
+		}
+		double t = (e2x * qx + e2y * qy + e2z * qz) * inverse;
+		if(!(t >= 0.0 && t < hit.t())) {
+			return false;
+		}
+		hit.set(t, u, v);
+		return true;
+	}
+
+	/**
+	 * Intersects this ray with the triangle with the given vertices using the Möller–Trumbore algorithm.
+	 * Both sides of the triangle are intersected and rays that are parallel to it never intersect it.
+	 * The barycentric coordinates of the intersection are stored in the hit together with its distance.
+	 * 
+	 * @param v0 The first vertex of the triangle.
+	 * @param v1 The second vertex of the triangle.
+	 * @param v2 The third vertex of the triangle.
+	 * @param hit The hit where the intersection is stored.
+	 * 
+	 * @return True if the ray intersects the triangle closer than the intersection stored in the hit, otherwise false.
+	 * 
+	 * @throws NullPointerException if one of the given vertices or the given hit is null.
+	 */
+	public boolean intersectTriangle(Double3 v0, Double3 v1, Double3 v2, RayHit3d hit) {
+		return this.intersectTriangle(v0.x(), v0.y(), v0.z(), v1.x(), v1.y(), v1.z(), v2.x(), v2.y(), v2.z(), hit);
+	}
+
+	/**
+	 * Casts this ray to a float ray.
+	 * 
+	 * @return A ray with the same origin and direction as this one casted to float.
+	 */
+	public Ray3f castToFloat() {
+		return new Ray3f(this.origin().castToFloat(), this.direction().castToFloat());
+	}
+}
@@ -0,0 +1,256 @@
+package io.github.vecmatlib.geometry;
+
+import io.github.vecmatlib.matrix.Float3x4;
+import io.github.vecmatlib.vector.Float3;
+
+/**
+ * Record that represents a 3D ray with float coordinates.
+ * 
+ * <p> The ray contains the points {@code origin + t * direction} for every {@code t >= 0}.
+ * The direction does not need to have unit length, but distances are measured in multiples of it.
+ * 
+ * <p> The intersection methods work on the components of the vectors instead of calling
+ * {@link Float3#crossProduct(Float3)} or {@link Float3#dotProduct(Float3)}, so they do not allocate
+ * anything. They store the intersection in a {@link RayHit3f} only if it is closer than the one it
+ * already contains, so the same hit can be used to find the closest of many primitives.
+ * 
+ * @param origin The point where the ray starts.
+ * @param direction The direction of the ray.
+ * 
+ * @author Nico
+ */
+public record Ray3f(Float3 origin, Float3 direction) {
+
+	/**
+	 * Computes the point at the given distance along this ray.
+	 * 
+	 * @param t The distance along the ray in multiples of its direction.
+	 * 
+	 * @return The point {@code origin + t * direction}.
+	 */
+	public Float3 pointAt(float t) {
+		return new Float3(
+			this.origin().x() + t * this.direction().x(),
+			this.origin().y() + t * this.direction().y(),
+			this.origin().z() + t * this.direction().z()
+		);
+	}
+
+	/**
+	 * Transforms this ray by the given affine transformation.
+	 * Distances along the transformed ray are the same as the ones along this ray.
+	 * 
+	 * @param matrix The transformation matrix.
+	 * 
+	 * @return The transformed ray.
+	 * 
+	 * @throws NullPointerException if the given matrix is null.
+	 */
+	public Ray3f transformed(Float3x4 matrix) {
+		return new Ray3f(matrix.transformPoint(this.origin()), matrix.transformDirection(this.direction()));
+	}
+
+	/**
+	 * Intersects this ray with the plane that contains the points where {@code a * x + b * y + c * z + d = 0}.
+	 * Rays that are parallel to the plane never intersect it.
+	 * 
+	 * @param a The x component of the normal of the plane.
+	 * @param b The y component of the normal of the plane.
+	 * @param c The z component of the normal of the plane.
+	 * @param d The constant term of the plane equation.
+	 * @param hit The hit where the intersection is stored.
+	 * 
+	 * @return True if the ray intersects the plane closer than the intersection stored in the hit, otherwise false.
+	 * 
+	 * @throws NullPointerException if the given hit is null.
+	 */
+	public boolean intersectPlane(float a, float b, float c, float d, RayHit3f hit) {
+		float denominator = a * this.direction().x() + b * this.direction().y() + c * this.direction().z();
+		if(denominator == 0.0f) {
+			return false;
+		}
+		float t = -(a * this.origin().x() + b * this.origin().y() + c * this.origin().z() + d) / denominator;
+		if(!(t >= 0.0f && t < hit.t())) {
+			return false;
+		}
+		hit.set(t, 0.0f, 0.0f);
+		return true;
+	}
+
+	/**
+	 * Intersects this ray with the plane that contains the points where {@code normal · p + d = 0}.
+	 * Rays that are parallel to the plane never intersect it.
+	 * 
+	 * @param normal The normal of the plane.
+	 * @param d The constant term of the plane equation.
+	 * @param hit The hit where the intersection is stored.
+	 * 
+	 * @return True if the ray intersects the plane closer than the intersection stored in the hit, otherwise false.
+	 * 
+	 * @throws NullPointerException if the given normal or hit is null.
+	 */
+	public boolean intersectPlane(Float3 normal, float d, RayHit3f hit) {
+		return this.intersectPlane(normal.x(), normal.y(), normal.z(), d, hit);
+	}
+
+	/**
+	 * Intersects this ray with the surface of the sphere with the given center and radius.
+	 * If the origin of the ray is inside the sphere, the intersection is the point where the ray exits it.
+	 * 
+	 * @param x The x coordinate of the center of the sphere.
+	 * @param y The y coordinate of the center of the sphere.
+	 * @param z The z coordinate of the center of the sphere.
+	 * @param radius The radius of the sphere.
+	 * @param hit The hit where the intersection is stored.
+	 * 
+	 * @return True if the ray intersects the sphere closer than the intersection stored in the hit, otherwise false.
+	 * 
+	 * @throws NullPointerException if the given hit is null.
+	 */
+	public boolean intersectSphere(float x, float y, float z, float radius, RayHit3f hit) {
+		float dx = this.direction().x(), dy = this.direction().y(), dz = this.direction().z();
+		float ox = this.origin().x() - x, oy = this.origin().y() - y, oz = this.origin().z() - z;
+		float a = dx * dx + dy * dy + dz * dz;
+		float b = ox * dx + oy * dy + oz * dz;
+		float c = ox * ox + oy * oy + oz * oz - radius * radius;
+		float discriminant = b * b - a * c;
+		if(discriminant < 0.0f || a == 0.0f) {
+			return false;
+		}
+		float root = (float) Math.sqrt(discriminant);
+		float t = (-b - root) / a;
+		if(t < 0.0f) {
+			t = (-b + root) / a;
+		}
+		if(!(t >= 0.0f && t < hit.t())) {
+			return false;
+		}
+		hit.set(t, 0.0f, 0.0f);
+		return true;
+	}
+
+	/**
+	 * Intersects this ray with the surface of the sphere with the given center and radius.
+	 * If the origin of the ray is inside the sphere, the intersection is the point where the ray exits it.
+	 * 
+	 * @param center The center of the sphere.
+	 * @param radius The radius of the sphere.
+	 * @param hit The hit where the intersection is stored.
+	 * 
+	 * @return True if the ray intersects the sphere closer than the intersection stored in the hit, otherwise false.
+	 * 
+	 * @throws NullPointerException if the given center or hit is null.
+	 */
+	public boolean intersectSphere(Float3 center, float radius, RayHit3f hit) {
+		return this.intersectSphere(center.x(), center.y(), center.z(), radius, hit);
+	}
+
+	/**
+	 * Intersects this ray with the surface of the given box using the slab method.
+	 * If the origin of the ray is inside the box, the intersection is the point where the ray exits it.
+	 * 
+	 * @param box The box to intersect.
+	 * @param hit The hit where the intersection is stored.
+	 * 
+	 * @return True if the ray intersects the box closer than the intersection stored in the hit, otherwise false.
+	 * 
+	 * @throws NullPointerException if the given box or hit is null.
+	 */
+	public boolean intersectBox(AABB3f box, RayHit3f hit) {
+		float ox = this.origin().x(), oy = this.origin().y(), oz = this.origin().z();
+		// Divisions by zero give infinite distances to the slabs that the ray never crosses
+		float ix = 1.0f / this.direction().x(), iy = 1.0f / this.direction().y(), iz = 1.0f / this.direction().z();
+		float x1 = (box.min().x() - ox) * ix, x2 = (box.max().x() - ox) * ix;
+		float y1 = (box.min().y() - oy) * iy, y2 = (box.max().y() - oy) * iy;
+		float z1 = (box.min().z() - oz) * iz, z2 = (box.max().z() - oz) * iz;
+		float near = Math.max(Math.max(Math.min(x1, x2), Math.min(y1, y2)), Math.min(z1, z2));
+		float far = Math.min(Math.min(Math.max(x1, x2), Math.max(y1, y2)), Math.max(z1, z2));
+		// Negated comparisons also reject the NaN distances of rays that slide along a face of the box
+		if(!(far >= near) || far < 0.0f) {
+			return false;
+		}
+		float t = near < 0.0f ? far : near;
+		if(!(t < hit.t())) {
+			return false;
+		}
+		hit.set(t, 0.0f, 0.0f);
+		return true;
+	}
+
+	/**
+	 * Intersects this ray with the triangle with the given vertices using the Möller–Trumbore algorithm.
+	 * Both sides of the triangle are intersected and rays that are parallel to it never intersect it.
+	 * The barycentric coordinates of the intersection are stored in the hit together with its distance.
+	 * 
+	 * @param x0 The x coordinate of the first vertex.
+	 * @param y0 The y coordinate of the first vertex.
+	 * @param z0 The z coordinate of the first vertex.
+	 * @param x1 The x coordinate of the second vertex.
+	 * @param y1 The y coordinate of the second vertex.
+	 * @param z1 The z coordinate of the second vertex.
+	 * @param x2 The x coordinate of the third vertex.
+	 * @param y2 The y coordinate of the third vertex.
+	 * @param z2 The z coordinate of the third vertex.
+	 * @param hit The hit where the intersection is stored.
+	 * 
+	 * @return True if the ray intersects the triangle closer than the intersection stored in the hit, otherwise false.
+	 * 
+	 * @throws NullPointerException if the given hit is null.
+	 */
+	public boolean intersectTriangle(float x0, float y0, float z0, float x1, float y1, float z1, float x2, float y2, float z2, RayHit3f hit) {
+		float dx = this.direction().x(), dy = this.direction().y(), dz = this.direction().z();
+		float e1x = x1 - x0, e1y = y1 - y0, e1z = z1 - z0;
+		float e2x = x2 - x0, e2y = y2 - y0, e2z = z2 - z0;
+		// p = direction × e2
+		float px = dy * e2z - dz * e2y, py = dz * e2x - dx * e2z, pz = dx * e2y - dy * e2x;
+		float determinant = e1x * px + e1y * py + e1z * pz;
+		if(determinant == 0.0f) {
+			return false;
+		}
+		float inverse = 1.0f / determinant;
+		float sx = this.origin().x() - x0, sy = this.origin().y() - y0, sz = this.origin().z() - z0;
+		float u = (sx * px + sy * py + sz * pz) * inverse;
+		if(!(u >= 0.0f && u <= 1.0f)) {
+			return false;
+		}
+		// q = s × e1
+		float qx = sy * e1z - sz * e1y, qy = sz * e1x - sx * e1z, qz = sx * e1y - sy * e1x;
+		float v = (dx * qx + dy * qy + dz * qz) * inverse;
+		if(!(v >= 0.0f && u + v <= 1.0f)) {
+			return false;
+		}
+		float t = (e2x * qx + e2y * qy + e2z * qz) * inverse;
+		if(!(t >= 0.0f && t < hit.t())) {
+			return false;
+		}
+		hit.set(t, u, v);
+		return true;
+	}
+
+	/**
+	 * Intersects this ray with the triangle with the given vertices using the Möller–Trumbore algorithm.
+	 * Both sides of the triangle are intersected and rays that are parallel to it never intersect it.
+	 * The barycentric coordinates of the intersection are stored in the hit together with its distance.
+	 * 
+	 * @param v0 The first vertex of the triangle.
+	 * @param v1 The second vertex of the triangle.
+	 * @param v2 The third vertex of the triangle.
+	 * @param hit The hit where the intersection is stored.
+	 * 
+	 * @return True if the ray intersects the triangle closer than the intersection stored in the hit, otherwise false.
+	 * 
+	 * @throws NullPointerException if one of the given vertices or the given hit is null.
+	 */
+	public boolean intersectTriangle(Float3 v0, Float3 v1, Float3 v2, RayHit3f hit) {
+		return this.intersectTriangle(v0.x(), v0.y(), v0.z(), v1.x(), v1.y(), v1.z(), v2.x(), v2.y(), v2.z(), hit);
+	}
+
+	/**
+	 * Converts this ray to a double ray.
+	 * 
+	 * @return A ray with the same origin and direction as this one.
+	 */
+	public Ray3d asDouble() {
+		return new Ray3d(this.origin().asDouble(), this.direction().asDouble());
+	}
+}
@@ -0,0 +1,113 @@
+package io.github.vecmatlib.geometry;
+
+/**
+ * Class that stores the closest intersection found along a {@link Ray3f}.
+ * 
+ * <p> Hits are mutable so that one instance can be reused for every ray and every primitive
+ * without allocating anything. The intersection methods of {@link Ray3f} only accept intersections
+ * that are closer than the one already stored, so testing a ray against many primitives with the
+ * same hit leaves the closest one in it. A hit must be {@linkplain #reset() reset} before it is
+ * used for a new ray, and it can be reset to a maximum distance to ignore farther intersections.
+ * 
+ * <p> Distances are measured in multiples of the direction of the ray, so they are only actual
+ * distances if the direction has unit length. The barycentric coordinates are only set by triangles.
+ * 
+ * @author Nico
+ */
+public final class RayHit3f {
+
+	/**Distance of the closest intersection */
+	private float t;
+	/**First barycentric coordinate of the closest intersection */
+	private float u;
+	/**Second barycentric coordinate of the closest intersection */
+	private float v;
+	/**Whether an intersection has been found since the last reset */
+	private boolean hit;
+
+	/**
+	 * Creates a hit with no intersection and no maximum distance.
+	 */
+	public RayHit3f() {
+		this.reset();
+	}
+
+	/**
+	 * Removes the intersection stored in this hit and removes the maximum distance.
+	 * 
+	 * @return This hit.
+	 */
+	public RayHit3f reset() {
+		return this.reset(Float.POSITIVE_INFINITY);
+	}
+
+	/**
+	 * Removes the intersection stored in this hit so that only the intersections closer than the given distance are accepted.
+	 * 
+	 * @param maxDistance The distance beyond which intersections are ignored.
+	 * 
+	 * @return This hit.
+	 */
+	public RayHit3f reset(float maxDistance) {
+		this.t = maxDistance;
+		this.u = 0.0f;
+		this.v = 0.0f;
+		this.hit = false;
+		return this;
+	}
+
+	/**
+	 * Stores the given intersection in this hit.
+	 * 
+	 * @param t The distance of the intersection.
+	 * @param u The first barycentric coordinate of the intersection.
+	 * @param v The second barycentric coordinate of the intersection.
+	 */
+	void set(float t, float u, float v) {
+		this.t = t;
+		this.u = u;
+		this.v = v;
+		this.hit = true;
+	}
+
+	/**
+	 * Checks if an intersection has been found since the last reset.
+	 * 
+	 * @return True if this hit stores an intersection, otherwise false.
+	 */
+	public boolean hasHit() {
+		return this.hit;
+	}
+
+	/**
+	 * Returns the distance of the closest intersection, or the maximum distance if no intersection has been found.
+	 * 
+	 * @return The distance along the ray in multiples of its direction.
+	 */
+	public float t() {
+		return this.t;
+	}
+
+	/**
+	 * Returns the barycentric coordinate of the intersection relative to the second vertex of the triangle.
+	 * 
+	 * @return The weight of the second vertex, or zero if the intersection is not with a triangle.
+	 */
+	public float u() {
+		return this.u;
+	}
+
+	/**
+	 * Returns the barycentric coordinate of the intersection relative to the third vertex of the triangle.
+	 * 
+	 * @return The weight of the third vertex, or zero if the intersection is not with a triangle.
+	 */
+	public float v() {
+		return this.v;
+	}
+
+	@Override
+	public String toString() {
+		return "RayHit3f[hit=" + this.hit + ", t=" + this.t + ", u=" + this.u + ", v=" + this.v + "]";
+	}
+}
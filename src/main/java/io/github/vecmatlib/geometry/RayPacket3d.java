@@ -0,0 +1,301 @@
+package io.github.vecmatlib.geometry;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import io.github.vecmatlib.vector.Double3;
+
+/**
+ * Class that represents a small packet of {@link Ray3d} that are intersected together with the same primitive.
+ * 
+ * <p> The components of the rays are stored in separate arrays and the intersection loops have no
+ * branches, so that the same operations are applied to every ray and can be compiled to SIMD
+ * instructions. Packets are most efficient when their rays are coherent, such as neighbouring
+ * primary rays, and when their size is a multiple of the SIMD width, which is usually 4 or 8.
+ * 
+ * <p> Every packet stores the closest intersection of each of its rays in the same way as a
+ * {@link RayHit3d}, so a packet can be reused for many primitives and many groups of rays without
+ * allocating anything. Sets of rays are returned as masks where the bit {@code i} is set if the
+ * ray at index {@code i} belongs to the set, which limits the size of a packet to 64 rays.
+ * 
+ * @author Nico
+ */
+public final class RayPacket3d {
+
+	/**Maximum number of rays in a packet */
+	public static final int MAX_SIZE = 64;
+
+	/**Components of the origins of the rays */
+	private final double[] originX, originY, originZ;
+	/**Components of the directions of the rays */
+	private final double[] directionX, directionY, directionZ;
+	/**Inverse of the components of the directions of the rays */
+	private final double[] inverseX, inverseY, inverseZ;
+	/**Distances and barycentric coordinates of the closest intersections */
+	private final double[] t, u, v;
+	/**Mask of the rays that have an intersection */
+	private long hits;
+
+	/**
+	 * Creates a packet of the given size where every ray starts at the origin and has a zero direction.
+	 * 
+	 * @param size Number of rays in the packet.
+	 * 
+	 * @throws IllegalArgumentException if the given size is not between 1 and {@value #MAX_SIZE}.
+	 */
+	public RayPacket3d(int size) {
+		if(size < 1 || size > MAX_SIZE) {
+			throw new IllegalArgumentException("The size of a packet must be between 1 and " + MAX_SIZE);
+		}
+		this.originX = new double[size];
+		this.originY = new double[size];
+		this.originZ = new double[size];
+		this.directionX = new double[size];
+		this.directionY = new double[size];
+		this.directionZ = new double[size];
+		this.inverseX = new double[size];
+		this.inverseY = new double[size];
+		this.inverseZ = new double[size];
+		this.t = new double[size];
+		this.u = new double[size];
+		this.v = new double[size];
+		Arrays.fill(this.inverseX, Double.POSITIVE_INFINITY);
+		Arrays.fill(this.inverseY, Double.POSITIVE_INFINITY);
+		Arrays.fill(this.inverseZ, Double.POSITIVE_INFINITY);
+		this.reset();
+	}
+
+	/**
+	 * Gets the number of rays in this packet.
+	 * 
+	 * @return The size of this packet.
+	 */
+	public int size() {
+		return this.t.length;
+	}
+
+	/**
+	 * Sets the ray at the given index.
+	 * The intersection of the ray is not changed.
+	 * 
+	 * @param i The index of the ray.
+	 * @param ox The x coordinate of the origin of the ray.
+	 * @param oy The y coordinate of the origin of the ray.
+	 * @param oz The z coordinate of the origin of the ray.
+	 * @param dx The x component of the direction of the ray.
+	 * @param dy The y component of the direction of the ray.
+	 * @param dz The z component of the direction of the ray.
+	 * 
+	 * @return This packet.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given index is out of bounds.
+	 */
+	public RayPacket3d set(int i, double ox, double oy, double oz, double dx, double dy, double dz) {
+		Objects.checkIndex(i, this.size());
+		this.originX[i] = ox;
+		this.originY[i] = oy;
+		this.originZ[i] = oz;
+		this.directionX[i] = dx;
+		this.directionY[i] = dy;
+		this.directionZ[i] = dz;
+		this.inverseX[i] = 1.0 / dx;
+		this.inverseY[i] = 1.0 / dy;
+		this.inverseZ[i] = 1.0 / dz;
+		return this;
+	}
+
+	/**
+	 * Sets the ray at the given index.
+	 * The intersection of the ray is not changed.
+	 * 
+	 * @param i The index of the ray.
+	 * @param ray The ray to store at the given index.
+	 * 
+	 * @return This packet.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given index is out of bounds.
+	 * @throws NullPointerException if the given ray is null.
+	 */
+	public RayPacket3d set(int i, Ray3d ray) {
+		return this.set(i, ray.origin().x(), ray.origin().y(), ray.origin().z(), ray.direction().x(), ray.direction().y(), ray.direction().z());
+	}
+
+	/**
+	 * Gets the ray at the given index.
+	 * 
+	 * @param i The index of the ray.
+	 * 
+	 * @return The ray at the given index.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given index is out of bounds.
+	 */
+	public Ray3d ray(int i) {
+		Objects.checkIndex(i, this.size());
+		return new Ray3d(
+			new Double3(this.originX[i], this.originY[i], this.originZ[i]),
+			new Double3(this.directionX[i], this.directionY[i], this.directionZ[i])
+		);
+	}
+
+	/**
+	 * Removes the intersections of all the rays in this packet and removes their maximum distance.
+	 * 
+	 * @return This packet.
+	 */
+	public RayPacket3d reset() {
+		return this.reset(Double.POSITIVE_INFINITY);
+	}
+
+	/**
+	 * Removes the intersections of all the rays in this packet so that only the intersections closer than the given distance are accepted.
+	 * 
+	 * @param maxDistance The distance beyond which intersections are ignored.
+	 * 
+	 * @return This packet.
+	 */
+	public RayPacket3d reset(double maxDistance) {
+		Arrays.fill(this.t, maxDistance);
+		Arrays.fill(this.u, 0.0);
+		Arrays.fill(this.v, 0.0);
+		this.hits = 0L;
+		return this;
+	}
+
+	/**
+	 * Returns the mask of the rays that have found an intersection since the last reset.
+	 * 
+	 * @return A mask where the bit {@code i} is set if the ray at index {@code i} has an intersection.
+	 */
+	public long hits() {
+		return this.hits;
+	}
+
+	/**
+	 * Returns the array of the distances of the closest intersections of the rays.
+	 * Rays that have no intersection have their maximum distance.
+	 * The array is not copied, so changes to it are reflected in this packet.
+	 * 
+	 * @return The distances along the rays in multiples of their directions.
+	 */
+	public double[] t() {
+		return this.t;
+	}
+
+	/**
+	 * Returns the array of the barycentric coordinates of the intersections relative to the second vertex of the triangles.
+	 * The array is not copied, so changes to it are reflected in this packet.
+	 * 
+	 * @return The weights of the second vertices, or zero for rays that have no intersection.
+	 */
+	public double[] u() {
+		return this.u;
+	}
+
+	/**
+	 * Returns the array of the barycentric coordinates of the intersections relative to the third vertex of the triangles.
+	 * The array is not copied, so changes to it are reflected in this packet.
+	 * 
+	 * @return The weights of the third vertices, or zero for rays that have no intersection.
+	 */
+	public double[] v() {
+		return this.v;
+	}
+
+	/**
+	 * Intersects all the rays in this packet with the triangle with the given vertices using the Möller–Trumbore algorithm.
+	 * The intersections are the same as the ones of {@link Ray3d#intersectTriangle(double, double, double, double, double, double, double, double, double, RayHit3d)}
+	 * and they are stored in this packet only if they are closer than the ones it already contains.
+	 * 
+	 * @param x0 The x coordinate of the first vertex.
+	 * @param y0 The y coordinate of the first vertex.
+	 * @param z0 The z coordinate of the first vertex.
+	 * @param x1 The x coordinate of the second vertex.
+	 * @param y1 The y coordinate of the second vertex.
+	 * @param z1 The z coordinate of the second vertex.
+	 * @param x2 The x coordinate of the third vertex.
+	 * @param y2 The y coordinate of the third vertex.
+	 * @param z2 The z coordinate of the third vertex.
+	 * 
+	 * @return A mask where the bit {@code i} is set if the intersection of the ray at index {@code i} has been updated.
+	 */
+	public long intersectTriangle(double x0, double y0, double z0, double x1, double y1, double z1, double x2, double y2, double z2) {
+		double e1x = x1 - x0, e1y = y1 - y0, e1z = z1 - z0;
+		double e2x = x2 - x0, e2y = y2 - y0, e2z = z2 - z0;
+		double[] ox = this.originX, oy = this.originY, oz = this.originZ;
+		double[] dx = this.directionX, dy = this.directionY, dz = this.directionZ;
+		double[] t = this.t, u = this.u, v = this.v;
+		long mask = 0L;
+		for(int i = 0; i < t.length; i++) {
+			double px = dy[i] * e2z - dz[i] * e2y, py = dz[i] * e2x - dx[i] * e2z, pz = dx[i] * e2y - dy[i] * e2x;
+			// Parallel rays divide by zero and get infinite or NaN coordinates that fail every comparison below
+			double inverse = 1.0 / (e1x * px + e1y * py + e1z * pz);
+			double sx = ox[i] - x0, sy = oy[i] - y0, sz = oz[i] - z0;
+			double qx = sy * e1z - sz * e1y, qy = sz * e1x - sx * e1z, qz = sx * e1y - sy * e1x;
+			double hu = (sx * px + sy * py + sz * pz) * inverse;
+			double hv = (dx[i] * qx + dy[i] * qy + dz[i] * qz) * inverse;
+			double ht = (e2x * qx + e2y * qy + e2z * qz) * inverse;
+			boolean valid = hu >= 0.0 & hv >= 0.0 & hu + hv <= 1.0 & ht >= 0.0 & ht < t[i];
+			t[i] = valid ? ht : t[i];
+			u[i] = valid ? hu : u[i];
+			v[i] = valid ? hv : v[i];
+			mask |= (valid ? 1L : 0L) << i;
+		}
+		this.hits |= mask;
+		return mask;
+	}
+
+	/**
+	 * Intersects all the rays in this packet with the triangle with the given vertices using the Möller–Trumbore algorithm.
+	 * The intersections are the same as the ones of {@link Ray3d#intersectTriangle(Double3, Double3, Double3, RayHit3d)}
+	 * and they are stored in this packet only if they are closer than the ones it already contains.
+	 * 
+	 * @param v0 The first vertex of the triangle.
+	 * @param v1 The second vertex of the triangle.
+	 * @param v2 The third vertex of the triangle.
+	 * 
+	 * @return A mask where the bit {@code i} is set if the intersection of the ray at index {@code i} has been updated.
+	 * 
+	 * @throws NullPointerException if one of the given vertices is null.
+	 */
+	public long intersectTriangle(Double3 v0, Double3 v1, Double3 v2) {
+		return this.intersectTriangle(v0.x(), v0.y(), v0.z(), v1.x(), v1.y(), v1.z(), v2.x(), v2.y(), v2.z());
+	}
+
+	/**
+	 * Checks which rays in this packet enter the given box before their current intersection using the slab method.
+	 * The intersections stored in this packet are not changed, so the result can be used to skip the contents of the box.
+	 * 
+	 * <p> This is a culling test and it differs from {@link Ray3d#intersectBox(AABB3d, RayHit3d)} for rays
+	 * whose origin is inside the box: they are always reported, because the contents of the box may be closer than
+	 * their current intersection even if the point where they exit the box is not.
+	 * 
+	 * @param box The box to intersect.
+	 * 
+	 * @return A mask where the bit {@code i} is set if the ray at index {@code i} may hit the contents of the box.
+	 * 
+	 * @throws NullPointerException if the given box is null.
+	 */
+	public long intersectBox(AABB3d box) {
+		double minX = box.min().x(), minY = box.min().y(), minZ = box.min().z();
+		double maxX = box.max().x(), maxY = box.max().y(), maxZ = box.max().z();
+		double[] ox = this.originX, oy = this.originY, oz = this.originZ;
+		double[] ix = this.inverseX, iy = this.inverseY, iz = this.inverseZ;
+		double[] t = this.t;
+		long mask = 0L;
+		for(int i = 0; i < t.length; i++) {
+			double x1 = (minX - ox[i]) * ix[i], x2 = (maxX - ox[i]) * ix[i];
+			double y1 = (minY - oy[i]) * iy[i], y2 = (maxY - oy[i]) * iy[i];
+			double z1 = (minZ - oz[i]) * iz[i], z2 = (maxZ - oz[i]) * iz[i];
+			double near = Math.max(Math.max(Math.min(x1, x2), Math.min(y1, y2)), Math.min(z1, z2));
+			double far = Math.min(Math.min(Math.max(x1, x2), Math.max(y1, y2)), Math.max(z1, z2));
+			boolean valid = far >= near & far >= 0.0 & near < t[i];
+			mask |= (valid ? 1L : 0L) << i;
+		}
+		return mask;
+	}
+
+	@Override
+	public String toString() {
+		return "RayPacket3d[size=" + this.size() + ", hits=" + Long.toBinaryString(this.hits) + "]";
+	}
+}
@@ -0,0 +1,128 @@
+package io.github.vecmatlib.matrix;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Utility class used by the fixed-size matrices to transform large
+ * batches of vectors using the threads of a fork/join pool.
+ * 
+ * <p> The vectors are split into contiguous ranges that are transformed
+ * independently. Every vector is transformed by a single thread with the same
+ * operations as the sequential methods, so the result does not depend on the
+ * number of threads.
+ * 
+ * @author Nico
+ */
+final class BatchKernels {
+
+	/**Number of vectors below which a batch is not split into smaller tasks */
+	static final int PARALLEL_THRESHOLD = 1 << 16;
+
+	private BatchKernels() {}
+
+	/**
+	 * Function that transforms a range of vectors in a batch.
+	 */
+	interface Range {
+
+		/**
+		 * Transforms the vectors in the given range.
+		 * 
+		 * @param start Index of the first vector, inclusive.
+		 * @param end Index of the last vector, exclusive.
+		 */
+		void compute(int start, int end);
+	}
+
+	/**
+	 * Transforms a batch of vectors using the given pool.
+	 * 
+	 * <p> The batch is transformed sequentially in the calling thread if it
+	 * contains less than {@link #PARALLEL_THRESHOLD} vectors. Otherwise it is
+	 * recursively split into ranges which are transformed by the threads of
+	 * the given pool.
+	 * 
+	 * @param pool The pool used to transform the vectors.
+	 * @param count Number of vectors in the batch.
+	 * @param range Function that transforms a range of vectors.
+	 */
+	static void parallel(ForkJoinPool pool, int count, Range range) {
+		if(count < PARALLEL_THRESHOLD) {
+			range.compute(0, count);
+		} else {
+			pool.invoke(new RangeTask(range, 0, count));
+		}
+	}
+
+	/**
+	 * Checks that a packed array contains a whole number of vectors
+	 * and that the destination has the same length.
+	 * 
+	 * @param length Length of the source array.
+	 * @param destLength Length of the destination array.
+	 * @param components Number of components of every vector.
+	 * 
+	 * @return The number of vectors in the array.
+	 * 
+	 * @throws MatrixMathException if the source length is not a multiple of the number
+	 * 		of components or if the destination does not have the same length.
+	 */
+	static int count(int length, int destLength, int components) {
+		if(length % components != 0)
+			throw new MatrixMathException("The length of the array must be a multiple of " + components);
+		if(destLength != length)
+			throw new MatrixMathException("The destination must have the same size as the source");
+		return length / components;
+	}
+
+	/**
+	 * Checks that the destination buffer has the same size as the source one.
+	 * 
+	 * @param size Size of the source buffer.
+	 * @param destSize Size of the destination buffer.
+	 * 
+	 * @return The number of vectors in the buffer.
+	 * 
+	 * @throws MatrixMathException if the destination does not have the same size.
+	 */
+	static int count(int size, int destSize) {
+		if(destSize != size)
+			throw new MatrixMathException("The destination must have the same size as the source");
+		return size;
+	}
+
+	/**
+	 * Task that transforms a range of vectors or splits it in two halves if it is too big.
+	 */
+	private static final class RangeTask extends RecursiveAction {
+
+		/**Function that transforms a range of vectors */
+		private final Range range;
+		/**Bounds of the range */
+		private final int start, end;
+
+		/**
+		 * Creates a task that transforms the given range.
+		 * 
+		 * @param range Function that transforms a range of vectors.
+		 * @param start Index of the first vector, inclusive.
+		 * @param end Index of the last vector, exclusive.
+		 */
+		private RangeTask(Range range, int start, int end) {
+			this.range = range;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected void compute() {
+			if(this.end - this.start < PARALLEL_THRESHOLD) {
+				this.range.compute(this.start, this.end);
+			} else {
+				int middle = this.start + (this.end - this.start) / 2;
+				invokeAll(new RangeTask(this.range, this.start, middle), new RangeTask(this.range, middle, this.end));
+			}
+		}
+	}
+}
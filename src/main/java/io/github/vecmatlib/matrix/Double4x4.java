@@ -1,6 +1,12 @@
 package io.github.vecmatlib.matrix;
 
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+import io.github.vecmatlib.vector.Double3;
+import io.github.vecmatlib.vector.Double3Buffer;
 import io.github.vecmatlib.vector.Double4;
+import io.github.vecmatlib.vector.Double4Buffer;
 
 /**
  * Record that represents a 4x4 double matrix.
@@ -161,14 +167,110 @@ public record Double4x4(
 
 	@Override
 	public Double4 multiply(Double4 vector) {
+		double x = vector.x(), y = vector.y(), z = vector.z(), w = vector.w();
 		return new Double4(
-			this.row1().dotProduct(vector),
-			this.row2().dotProduct(vector),
-			this.row3().dotProduct(vector),
-			this.row4().dotProduct(vector)
+			this.m11() * x + this.m12() * y + this.m13() * z + this.m14() * w,
+			this.m21() * x + this.m22() * y + this.m23() * z + this.m24() * w,
+			this.m31() * x + this.m32() * y + this.m33() * z + this.m34() * w,
+			this.m41() * x + this.m42() * y + this.m43() * z + this.m44() * w
+		);
+	}
+
+	/**
+	 * Transforms the point with the given coordinates by this matrix,
+	 * which is the same as multiplying this matrix by a vector whose {@code w} is 1
+	 * and ignoring the last row of the result.
+	 * 
+	 * @param x The x coordinate of the point.
+	 * @param y The y coordinate of the point.
+	 * @param z The z coordinate of the point.
+	 * 
+	 * @return The transformed point.
+	 */
+	public Double3 transformPoint(double x, double y, double z) {
+		return new Double3(
+			this.m11() * x + this.m12() * y + this.m13() * z + this.m14(),
+			this.m21() * x + this.m22() * y + this.m23() * z + this.m24(),
+			this.m31() * x + this.m32() * y + this.m33() * z + this.m34()
+		);
+	}
+
+	/**
+	 * Transforms the given point by this matrix,
+	 * which is the same as multiplying this matrix by a vector whose {@code w} is 1
+	 * and ignoring the last row of the result.
+	 * 
+	 * @param point The point to transform.
+	 * 
+	 * @return The transformed point.
+	 */
+	public Double3 transformPoint(Double3 point) {
+		return this.transformPoint(point.x(), point.y(), point.z());
+	}
+
+	/**
+	 * Transforms the direction with the given components by this matrix,
+	 * which is the same as multiplying this matrix by a vector whose {@code w} is 0
+	 * and ignoring the last row of the result. Directions are not affected by translations.
+	 * 
+	 * @param x The x component of the direction.
+	 * @param y The y component of the direction.
+	 * @param z The z component of the direction.
+	 * 
+	 * @return The transformed direction.
+	 */
+	public Double3 transformDirection(double x, double y, double z) {
+		return new Double3(
+			this.m11() * x + this.m12() * y + this.m13() * z,
+			this.m21() * x + this.m22() * y + this.m23() * z,
+			this.m31() * x + this.m32() * y + this.m33() * z
+		);
+	}
+
+	/**
+	 * Transforms the given direction by this matrix,
+	 * which is the same as multiplying this matrix by a vector whose {@code w} is 0
+	 * and ignoring the last row of the result. Directions are not affected by translations.
+	 * 
+	 * @param direction The direction to transform.
+	 * 
+	 * @return The transformed direction.
+	 */
+	public Double3 transformDirection(Double3 direction) {
+		return this.transformDirection(direction.x(), direction.y(), direction.z());
+	}
+
+	/**
+	 * Transforms the point with the given coordinates by this matrix and divides the result by its {@code w},
+	 * which is the transformation used to project points with a perspective projection matrix.
+	 * 
+	 * @param x The x coordinate of the point.
+	 * @param y The y coordinate of the point.
+	 * @param z The z coordinate of the point.
+	 * 
+	 * @return The transformed point after the perspective division.
+	 */
+	public Double3 transformPointPerspective(double x, double y, double z) {
+		double w = this.m41() * x + this.m42() * y + this.m43() * z + this.m44();
+		return new Double3(
+			(this.m11() * x + this.m12() * y + this.m13() * z + this.m14()) / w,
+			(this.m21() * x + this.m22() * y + this.m23() * z + this.m24()) / w,
+			(this.m31() * x + this.m32() * y + this.m33() * z + this.m34()) / w
 		);
 	}
 
+	/**
+	 * Transforms the given point by this matrix and divides the result by its {@code w},
+	 * which is the transformation used to project points with a perspective projection matrix.
+	 * 
+	 * @param point The point to transform.
+	 * 
+	 * @return The transformed point after the perspective division.
+	 */
+	public Double3 transformPointPerspective(Double3 point) {
+		return this.transformPointPerspective(point.x(), point.y(), point.z());
+	}
+
 	@Override
 	public Double4x4 transposed() {
 		return new Double4x4(
@@ -196,22 +298,22 @@ public record Double4x4(
 	@Override
 	public Double4x4 multiply(Double4x4 matrix) {
 		return new Double4x4(
-			this.row1().dotProduct(matrix.column1()),
-			this.row1().dotProduct(matrix.column2()),
-			this.row1().dotProduct(matrix.column3()),
-			this.row1().dotProduct(matrix.column4()),
-			this.row2().dotProduct(matrix.column1()),
-			this.row2().dotProduct(matrix.column2()),
-			this.row2().dotProduct(matrix.column3()),
-			this.row2().dotProduct(matrix.column4()),
-			this.row3().dotProduct(matrix.column1()),
-			this.row3().dotProduct(matrix.column2()),
-			this.row3().dotProduct(matrix.column3()),
-			this.row3().dotProduct(matrix.column4()),
-			this.row4().dotProduct(matrix.column1()),
-			this.row4().dotProduct(matrix.column2()),
-			this.row4().dotProduct(matrix.column3()),
-			this.row4().dotProduct(matrix.column4())
+			this.m11() * matrix.m11() + this.m12() * matrix.m21() + this.m13() * matrix.m31() + this.m14() * matrix.m41(),
+			this.m11() * matrix.m12() + this.m12() * matrix.m22() + this.m13() * matrix.m32() + this.m14() * matrix.m42(),
+			this.m11() * matrix.m13() + this.m12() * matrix.m23() + this.m13() * matrix.m33() + this.m14() * matrix.m43(),
+			this.m11() * matrix.m14() + this.m12() * matrix.m24() + this.m13() * matrix.m34() + this.m14() * matrix.m44(),
+			this.m21() * matrix.m11() + this.m22() * matrix.m21() + this.m23() * matrix.m31() + this.m24() * matrix.m41(),
+			this.m21() * matrix.m12() + this.m22() * matrix.m22() + this.m23() * matrix.m32() + this.m24() * matrix.m42(),
+			this.m21() * matrix.m13() + this.m22() * matrix.m23() + this.m23() * matrix.m33() + this.m24() * matrix.m43(),
+			this.m21() * matrix.m14() + this.m22() * matrix.m24() + this.m23() * matrix.m34() + this.m24() * matrix.m44(),
+			this.m31() * matrix.m11() + this.m32() * matrix.m21() + this.m33() * matrix.m31() + this.m34() * matrix.m41(),
+			this.m31() * matrix.m12() + this.m32() * matrix.m22() + this.m33() * matrix.m32() + this.m34() * matrix.m42(),
+			this.m31() * matrix.m13() + this.m32() * matrix.m23() + this.m33() * matrix.m33() + this.m34() * matrix.m43(),
+			this.m31() * matrix.m14() + this.m32() * matrix.m24() + this.m33() * matrix.m34() + this.m34() * matrix.m44(),
+			this.m41() * matrix.m11() + this.m42() * matrix.m21() + this.m43() * matrix.m31() + this.m44() * matrix.m41(),
+			this.m41() * matrix.m12() + this.m42() * matrix.m22() + this.m43() * matrix.m32() + this.m44() * matrix.m42(),
+			this.m41() * matrix.m13() + this.m42() * matrix.m23() + this.m43() * matrix.m33() + this.m44() * matrix.m43(),
+			this.m41() * matrix.m14() + this.m42() * matrix.m24() + this.m43() * matrix.m34() + this.m44() * matrix.m44()
 		);
 	}
 
@@ -223,13 +325,394 @@ public record Double4x4(
 			return IDENTITY;
 		} else {
 			Double4x4 result = this;
-			for(int i = 1; i < exponent; i++) {
-				result = result.multiply(this);
+			for(int bit = Integer.highestOneBit(exponent) >> 1; bit > 0; bit >>= 1) {
+				result = result.multiply(result);
+				if((exponent & bit) != 0) {
+					result = result.multiply(this);
+				}
 			}
 			return result;
 		}
 	}
 
+	/**
+	 * Computes the determinant of this matrix.
+	 * 
+	 * @return The determinant of this matrix.
+	 */
+	public double determinant() {
+		double s0 = this.m11() * this.m22() - this.m21() * this.m12();
+		double s1 = this.m11() * this.m23() - this.m21() * this.m13();
+		double s2 = this.m11() * this.m24() - this.m21() * this.m14();
+		double s3 = this.m12() * this.m23() - this.m22() * this.m13();
+		double s4 = this.m12() * this.m24() - this.m22() * this.m14();
+		double s5 = this.m13() * this.m24() - this.m23() * this.m14();
+		double c5 = this.m33() * this.m44() - this.m43() * this.m34();
+		double c4 = this.m32() * this.m44() - this.m42() * this.m34();
+		double c3 = this.m32() * this.m43() - this.m42() * this.m33();
+		double c2 = this.m31() * this.m44() - this.m41() * this.m34();
+		double c1 = this.m31() * this.m43() - this.m41() * this.m33();
+		double c0 = this.m31() * this.m42() - this.m41() * this.m32();
+		return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+	}
+
+	/**
+	 * Computes the adjugate of this matrix, which is the transpose of its cofactor matrix.
+	 * The product of a matrix and its adjugate is the identity matrix multiplied by its determinant.
+	 * 
+	 * @return The adjugate of this matrix.
+	 */
+	public Double4x4 adjugate() {
+		double s0 = this.m11() * this.m22() - this.m21() * this.m12();
+		double s1 = this.m11() * this.m23() - this.m21() * this.m13();
+		double s2 = this.m11() * this.m24() - this.m21() * this.m14();
+		double s3 = this.m12() * this.m23() - this.m22() * this.m13();
+		double s4 = this.m12() * this.m24() - this.m22() * this.m14();
+		double s5 = this.m13() * this.m24() - this.m23() * this.m14();
+		double c5 = this.m33() * this.m44() - this.m43() * this.m34();
+		double c4 = this.m32() * this.m44() - this.m42() * this.m34();
+		double c3 = this.m32() * this.m43() - this.m42() * this.m33();
+		double c2 = this.m31() * this.m44() - this.m41() * this.m34();
+		double c1 = this.m31() * this.m43() - this.m41() * this.m33();
+		double c0 = this.m31() * this.m42() - this.m41() * this.m32();
+		return new Double4x4(
+			this.m22() * c5 - this.m23() * c4 + this.m24() * c3, -this.m12() * c5 + this.m13() * c4 - this.m14() * c3, this.m42() * s5 - this.m43() * s4 + this.m44() * s3, -this.m32() * s5 + this.m33() * s4 - this.m34() * s3,
+			-this.m21() * c5 + this.m23() * c2 - this.m24() * c1, this.m11() * c5 - this.m13() * c2 + this.m14() * c1, -this.m41() * s5 + this.m43() * s2 - this.m44() * s1, this.m31() * s5 - this.m33() * s2 + this.m34() * s1,
+			this.m21() * c4 - this.m22() * c2 + this.m24() * c0, -this.m11() * c4 + this.m12() * c2 - this.m14() * c0, this.m41() * s4 - this.m42() * s2 + this.m44() * s0, -this.m31() * s4 + this.m32() * s2 - this.m34() * s0,
+			-this.m21() * c3 + this.m22() * c1 - this.m23() * c0, this.m11() * c3 - this.m12() * c1 + this.m13() * c0, -this.m41() * s3 + this.m42() * s1 - this.m43() * s0, this.m31() * s3 - this.m32() * s1 + this.m33() * s0
+		);
+	}
+
+	/**
+	 * Computes the inverse of this matrix as its adjugate divided by its determinant.
+	 * 
+	 * @return The inverse of this matrix.
+	 * 
+	 * @throws MatrixMathException if the determinant of this matrix is zero.
+	 */
+	public Double4x4 inverted() {
+		double s0 = this.m11() * this.m22() - this.m21() * this.m12();
+		double s1 = this.m11() * this.m23() - this.m21() * this.m13();
+		double s2 = this.m11() * this.m24() - this.m21() * this.m14();
+		double s3 = this.m12() * this.m23() - this.m22() * this.m13();
+		double s4 = this.m12() * this.m24() - this.m22() * this.m14();
+		double s5 = this.m13() * this.m24() - this.m23() * this.m14();
+		double c5 = this.m33() * this.m44() - this.m43() * this.m34();
+		double c4 = this.m32() * this.m44() - this.m42() * this.m34();
+		double c3 = this.m32() * this.m43() - this.m42() * this.m33();
+		double c2 = this.m31() * this.m44() - this.m41() * this.m34();
+		double c1 = this.m31() * this.m43() - this.m41() * this.m33();
+		double c0 = this.m31() * this.m42() - this.m41() * this.m32();
+		double determinant = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+		if(determinant == 0.0) {
+			throw new MatrixMathException("A matrix must have a non-zero determinant to be inverted");
+		}
+		double k = 1.0 / determinant;
+		return new Double4x4(
+			(this.m22() * c5 - this.m23() * c4 + this.m24() * c3) * k, (-this.m12() * c5 + this.m13() * c4 - this.m14() * c3) * k, (this.m42() * s5 - this.m43() * s4 + this.m44() * s3) * k, (-this.m32() * s5 + this.m33() * s4 - this.m34() * s3) * k,
+			(-this.m21() * c5 + this.m23() * c2 - this.m24() * c1) * k, (this.m11() * c5 - this.m13() * c2 + this.m14() * c1) * k, (-this.m41() * s5 + this.m43() * s2 - this.m44() * s1) * k, (this.m31() * s5 - this.m33() * s2 + this.m34() * s1) * k,
+			(this.m21() * c4 - this.m22() * c2 + this.m24() * c0) * k, (-this.m11() * c4 + this.m12() * c2 - this.m14() * c0) * k, (this.m41() * s4 - this.m42() * s2 + this.m44() * s0) * k, (-this.m31() * s4 + this.m32() * s2 - this.m34() * s0) * k,
+			(-this.m21() * c3 + this.m22() * c1 - this.m23() * c0) * k, (this.m11() * c3 - this.m12() * c1 + this.m13() * c0) * k, (-this.m41() * s3 + this.m42() * s1 - this.m43() * s0) * k, (this.m31() * s3 - this.m32() * s1 + this.m33() * s0) * k
+		);
+	}
+
+	/**
+	 * Computes the inverse of this matrix assuming that it represents a 3D affine transformation,
+	 * meaning that its last row is {@code 0, 0, 0, 1}. Only the upper-left 3x3 matrix is inverted,
+	 * which takes less than half of the operations of {@link #inverted()}.
+	 * The last row of this matrix is not checked.
+	 * 
+	 * @return The inverse of this affine transformation.
+	 * 
+	 * @throws MatrixMathException if the upper-left 3x3 matrix has a zero determinant.
+	 */
+	public Double4x4 invertedAffine() {
+		double a11 = this.m22() * this.m33() - this.m23() * this.m32();
+		double a21 = this.m23() * this.m31() - this.m21() * this.m33();
+		double a31 = this.m21() * this.m32() - this.m22() * this.m31();
+		double determinant = this.m11() * a11 + this.m12() * a21 + this.m13() * a31;
+		if(determinant == 0.0) {
+			throw new MatrixMathException("A matrix must have a non-zero determinant to be inverted");
+		}
+		double k = 1.0 / determinant;
+		double i11 = a11 * k, i12 = (this.m13() * this.m32() - this.m12() * this.m33()) * k, i13 = (this.m12() * this.m23() - this.m13() * this.m22()) * k;
+		double i21 = a21 * k, i22 = (this.m11() * this.m33() - this.m13() * this.m31()) * k, i23 = (this.m13() * this.m21() - this.m11() * this.m23()) * k;
+		double i31 = a31 * k, i32 = (this.m12() * this.m31() - this.m11() * this.m32()) * k, i33 = (this.m11() * this.m22() - this.m12() * this.m21()) * k;
+		return new Double4x4(
+			i11, i12, i13, -(i11 * this.m14() + i12 * this.m24() + i13 * this.m34()),
+			i21, i22, i23, -(i21 * this.m14() + i22 * this.m24() + i23 * this.m34()),
+			i31, i32, i33, -(i31 * this.m14() + i32 * this.m24() + i33 * this.m34()),
+			0.0, 0.0, 0.0, 1.0
+		);
+	}
+
+	/**
+	 * Computes the inverse of this matrix assuming that it represents a 3D rigid transformation,
+	 * meaning that its last row is {@code 0, 0, 0, 1} and its upper-left 3x3 matrix is a rotation.
+	 * The inverse of the rotation is its transpose, so no division is needed.
+	 * None of the assumptions are checked.
+	 * 
+	 * @return The inverse of this rigid transformation.
+	 */
+	public Double4x4 invertedRigid() {
+		return new Double4x4(
+			this.m11(), this.m21(), this.m31(), -(this.m11() * this.m14() + this.m21() * this.m24() + this.m31() * this.m34()),
+			this.m12(), this.m22(), this.m32(), -(this.m12() * this.m14() + this.m22() * this.m24() + this.m32() * this.m34()),
+			this.m13(), this.m23(), this.m33(), -(this.m13() * this.m14() + this.m23() * this.m24() + this.m33() * this.m34()),
+			0.0, 0.0, 0.0, 1.0
+		);
+	}
+
+	/**
+	 * Transforms the points stored in the given array, which contains
+	 * the x, y and z coordinates of every point one after the other.
+	 * Every point is transformed as in {@link #transformPoint(double, double, double)}.
+	 * The destination can be the same array as the source.
+	 * 
+	 * @param points The points to transform.
+	 * @param dest The array where the transformed points are stored.
+	 * 
+	 * @return The given destination array.
+	 * 
+	 * @throws MatrixMathException if the length of the array is not a multiple of 3
+	 * 		or if the destination does not have the same length.
+	 */
+	public double[] transformPoints(double[] points, double[] dest) {
+		this.transformPointsRange(points, dest, 0, BatchKernels.count(points.length, dest.length, 3));
+		return dest;
+	}
+
+	/**
+	 * Transforms the points stored in the given array using the threads of the given pool.
+	 * Large batches are split into ranges that are transformed in parallel,
+	 * while small ones are transformed in the calling thread.
+	 * The result is identical to the one of {@link #transformPoints(double[], double[])}.
+	 * 
+	 * @param points The points to transform.
+	 * @param dest The array where the transformed points are stored.
+	 * @param pool The pool used to transform the points.
+	 * 
+	 * @return The given destination array.
+	 * 
+	 * @throws MatrixMathException if the length of the array is not a multiple of 3
+	 * 		or if the destination does not have the same length.
+	 * @throws NullPointerException if the given pool is null.
+	 */
+	public double[] transformPoints(double[] points, double[] dest, ForkJoinPool pool) {
+		int count = BatchKernels.count(points.length, dest.length, 3);
+		Objects.requireNonNull(pool);
+		BatchKernels.parallel(pool, count, (start, end) -> this.transformPointsRange(points, dest, start, end));
+		return dest;
+	}
+
+	/**
+	 * Transforms the points stored in the given buffer.
+	 * Every point is transformed as in {@link #transformPoint(double, double, double)}.
+	 * The destination can be the same buffer as the source.
+	 * 
+	 * @param points The points to transform.
+	 * @param dest The buffer where the transformed points are stored.
+	 * 
+	 * @return The given destination buffer.
+	 * 
+	 * @throws MatrixMathException if the destination does not have the same size as the source.
+	 */
+	public Double3Buffer transformPoints(Double3Buffer points, Double3Buffer dest) {
+		this.transformPointsRange(points, dest, 0, BatchKernels.count(points.size(), dest.size()));
+		return dest;
+	}
+
+	/**
+	 * Transforms the points stored in the given buffer using the threads of the given pool.
+	 * Large batches are split into ranges that are transformed in parallel,
+	 * while small ones are transformed in the calling thread.
+	 * The result is identical to the one of {@link #transformPoints(Double3Buffer, Double3Buffer)}.
+	 * 
+	 * @param points The points to transform.
+	 * @param dest The buffer where the transformed points are stored.
+	 * @param pool The pool used to transform the points.
+	 * 
+	 * @return The given destination buffer.
+	 * 
+	 * @throws MatrixMathException if the destination does not have the same size as the source.
+	 * @throws NullPointerException if the given pool is null.
+	 */
+	public Double3Buffer transformPoints(Double3Buffer points, Double3Buffer dest, ForkJoinPool pool) {
+		int count = BatchKernels.count(points.size(), dest.size());
+		Objects.requireNonNull(pool);
+		BatchKernels.parallel(pool, count, (start, end) -> this.transformPointsRange(points, dest, start, end));
+		return dest;
+	}
+
+	/**
+	 * Transforms a range of the points stored in the given array.
+	 * 
+	 * @param points The points to transform.
+	 * @param dest The array where the transformed points are stored.
+	 * @param start Index of the first point, inclusive.
+	 * @param end Index of the last point, exclusive.
+	 */
+	private void transformPointsRange(double[] points, double[] dest, int start, int end) {
+		double m11 = this.m11(), m12 = this.m12(), m13 = this.m13(), m14 = this.m14();
+		double m21 = this.m21(), m22 = this.m22(), m23 = this.m23(), m24 = this.m24();
+		double m31 = this.m31(), m32 = this.m32(), m33 = this.m33(), m34 = this.m34();
+		for(int i = 3 * start; i < 3 * end; i += 3) {
+			double x = points[i], y = points[i + 1], z = points[i + 2];
+			dest[i] = m11 * x + m12 * y + m13 * z + m14;
+			dest[i + 1] = m21 * x + m22 * y + m23 * z + m24;
+			dest[i + 2] = m31 * x + m32 * y + m33 * z + m34;
+		}
+	}
+
+	/**
+	 * Transforms a range of the points stored in the given buffer.
+	 * 
+	 * @param points The points to transform.
+	 * @param dest The buffer where the transformed points are stored.
+	 * @param start Index of the first point, inclusive.
+	 * @param end Index of the last point, exclusive.
+	 */
+	private void transformPointsRange(Double3Buffer points, Double3Buffer dest, int start, int end) {
+		double m11 = this.m11(), m12 = this.m12(), m13 = this.m13(), m14 = this.m14();
+		double m21 = this.m21(), m22 = this.m22(), m23 = this.m23(), m24 = this.m24();
+		double m31 = this.m31(), m32 = this.m32(), m33 = this.m33(), m34 = this.m34();
+		double[] xs = points.x(), ys = points.y(), zs = points.z();
+		double[] xd = dest.x(), yd = dest.y(), zd = dest.z();
+		for(int i = start; i < end; i++) {
+			double x = xs[i], y = ys[i], z = zs[i];
+			xd[i] = m11 * x + m12 * y + m13 * z + m14;
+			yd[i] = m21 * x + m22 * y + m23 * z + m24;
+			zd[i] = m31 * x + m32 * y + m33 * z + m34;
+		}
+	}
+
+	/**
+	 * Transforms the vectors stored in the given array, which contains
+	 * the x, y, z and w components of every vector one after the other.
+	 * Every vector is transformed as in {@link #multiply(Double4)}.
+	 * The destination can be the same array as the source.
+	 * 
+	 * @param vectors The vectors to transform.
+	 * @param dest The array where the transformed vectors are stored.
+	 * 
+	 * @return The given destination array.
+	 * 
+	 * @throws MatrixMathException if the length of the array is not a multiple of 4
+	 * 		or if the destination does not have the same length.
+	 */
+	public double[] transform(double[] vectors, double[] dest) {
+		this.transformRange(vectors, dest, 0, BatchKernels.count(vectors.length, dest.length, 4));
+		return dest;
+	}
+
+	/**
+	 * Transforms the vectors stored in the given array using the threads of the given pool.
+	 * Large batches are split into ranges that are transformed in parallel,
+	 * while small ones are transformed in the calling thread.
+	 * The result is identical to the one of {@link #transform(double[], double[])}.
+	 * 
+	 * @param vectors The vectors to transform.
+	 * @param dest The array where the transformed vectors are stored.
+	 * @param pool The pool used to transform the vectors.
+	 * 
+	 * @return The given destination array.
+	 * 
+	 * @throws MatrixMathException if the length of the array is not a multiple of 4
+	 * 		or if the destination does not have the same length.
+	 * @throws NullPointerException if the given pool is null.
+	 */
+	public double[] transform(double[] vectors, double[] dest, ForkJoinPool pool) {
+		int count = BatchKernels.count(vectors.length, dest.length, 4);
+		Objects.requireNonNull(pool);
+		BatchKernels.parallel(pool, count, (start, end) -> this.transformRange(vectors, dest, start, end));
+		return dest;
+	}
+
+	/**
+	 * Transforms the vectors stored in the given buffer.
+	 * Every vector is transformed as in {@link #multiply(Double4)}.
+	 * The destination can be the same buffer as the source.
+	 * 
+	 * @param vectors The vectors to transform.
+	 * @param dest The buffer where the transformed vectors are stored.
+	 * 
+	 * @return The given destination buffer.
+	 * 
+	 * @throws MatrixMathException if the destination does not have the same size as the source.
+	 */
+	public Double4Buffer transform(Double4Buffer vectors, Double4Buffer dest) {
+		this.transformRange(vectors, dest, 0, BatchKernels.count(vectors.size(), dest.size()));
+		return dest;
+	}
+
+	/**
+	 * Transforms the vectors stored in the given buffer using the threads of the given pool.
+	 * Large batches are split into ranges that are transformed in parallel,
+	 * while small ones are transformed in the calling thread.
+	 * The result is identical to the one of {@link #transform(Double4Buffer, Double4Buffer)}.
+	 * 
+	 * @param vectors The vectors to transform.
+	 * @param dest The buffer where the transformed vectors are stored.
+	 * @param pool The pool used to transform the vectors.
+	 * 
+	 * @return The given destination buffer.
+	 * 
+	 * @throws MatrixMathException if the destination does not have the same size as the source.
+	 * @throws NullPointerException if the given pool is null.
+	 */
+	public Double4Buffer transform(Double4Buffer vectors, Double4Buffer dest, ForkJoinPool pool) {
+		int count = BatchKernels.count(vectors.size(), dest.size());
+		Objects.requireNonNull(pool);
+		BatchKernels.parallel(pool, count, (start, end) -> this.transformRange(vectors, dest, start, end));
+		return dest;
+	}
+
+	/**
+	 * Transforms a range of the vectors stored in the given array.
+	 * 
+	 * @param vectors The vectors to transform.
+	 * @param dest The array where the transformed vectors are stored.
+	 * @param start Index of the first vector, inclusive.
+	 * @param end Index of the last vector, exclusive.
+	 */
+	private void transformRange(double[] vectors, double[] dest, int start, int end) {
+		double m11 = this.m11(), m12 = this.m12(), m13 = this.m13(), m14 = this.m14();
+		double m21 = this.m21(), m22 = this.m22(), m23 = this.m23(), m24 = this.m24();
+		double m31 = this.m31(), m32 = this.m32(), m33 = this.m33(), m34 = this.m34();
+		double m41 = this.m41(), m42 = this.m42(), m43 = this.m43(), m44 = this.m44();
+		for(int i = 4 * start; i < 4 * end; i += 4) {
+			double x = vectors[i], y = vectors[i + 1], z = vectors[i + 2], w = vectors[i + 3];
+			dest[i] = m11 * x + m12 * y + m13 * z + m14 * w;
+			dest[i + 1] = m21 * x + m22 * y + m23 * z + m24 * w;
+			dest[i + 2] = m31 * x + m32 * y + m33 * z + m34 * w;
+			dest[i + 3] = m41 * x + m42 * y + m43 * z + m44 * w;
+		}
+	}
+
+	/**
+	 * Transforms a range of the vectors stored in the given buffer.
+	 * 
+	 * @param vectors The vectors to transform.
+	 * @param dest The buffer where the transformed vectors are stored.
+	 * @param start Index of the first vector, inclusive.
+	 * @param end Index of the last vector, exclusive.
+	 */
+	private void transformRange(Double4Buffer vectors, Double4Buffer dest, int start, int end) {
+		double m11 = this.m11(), m12 = this.m12(), m13 = this.m13(), m14 = this.m14();
+		double m21 = this.m21(), m22 = this.m22(), m23 = this.m23(), m24 = this.m24();
+		double m31 = this.m31(), m32 = this.m32(), m33 = this.m33(), m34 = this.m34();
+		double m41 = this.m41(), m42 = this.m42(), m43 = this.m43(), m44 = this.m44();
+		double[] xs = vectors.x(), ys = vectors.y(), zs = vectors.z(), ws = vectors.w();
+		double[] xd = dest.x(), yd = dest.y(), zd = dest.z(), wd = dest.w();
+		for(int i = start; i < end; i++) {
+			double x = xs[i], y = ys[i], z = zs[i], w = ws[i];
+			xd[i] = m11 * x + m12 * y + m13 * z + m14 * w;
+			yd[i] = m21 * x + m22 * y + m23 * z + m24 * w;
+			zd[i] = m31 * x + m32 * y + m33 * z + m34 * w;
+			wd[i] = m41 * x + m42 * y + m43 * z + m44 * w;
+		}
+	}
+
 	/**
 	 * Casts this matrix to a float matrix.
 	 * 
@@ -0,0 +1,445 @@
+package io.github.vecmatlib.matrix;
+
+import java.util.Arrays;
+
+import io.github.vecmatlib.vector.DoubleVector;
+
+/**
+ * Class that represents the LU decomposition with partial pivoting of a square double matrix.
+ * 
+ * <p> The decomposition of a matrix A is made of a permutation matrix P,
+ * a lower triangular matrix L with ones on its diagonal and an upper
+ * triangular matrix U such that {@code P * A = L * U}. It is computed once
+ * by {@link DoubleMatrix#lu()} and can then be reused to compute the
+ * determinant and the inverse of the matrix or to solve any number
+ * of linear systems {@code A * x = b} without factorizing A again.
+ * 
+ * <p> The factorization is computed in blocks of {@link #BLOCK_SIZE} columns.
+ * The columns of a block are factorized one at a time, then the rest of the
+ * matrix is updated with a single product, which runs over contiguous memory
+ * and keeps the rows being used in the cache.
+ * 
+ * <p> L and U are stored together in a single flat array in row-major order.
+ * The elements of L are below the diagonal, while the elements of U are on
+ * and above the diagonal.
+ * 
+ * @author Nico
+ */
+public final class DoubleLUDecomposition {
+
+	/**Number of columns factorized in a single block */
+	static final int BLOCK_SIZE = 64;
+
+	/**Number of rows and columns of the decomposed matrix */
+	private final int size;
+	/**Elements of L and U in row-major order */
+	private final double[] lu;
+	/**Row swapped with the i-th row at the i-th step of the factorization */
+	private final int[] pivots;
+	/**Number of row swaps, used to compute the sign of the determinant */
+	private final int swaps;
+	/**True if one of the pivots is zero */
+	private final boolean singular;
+	/**1-norm of the decomposed matrix, used to estimate the condition number */
+	private final double norm;
+
+	/**
+	 * Computes the LU decomposition of the given square matrix.
+	 * 
+	 * @param size Number of rows and columns of the matrix.
+	 * @param values Elements of the matrix in row-major order.
+	 * 		The array is overwritten with the elements of L and U.
+	 */
+	DoubleLUDecomposition(int size, double[] values) {
+		this.size = size;
+		this.lu = values;
+		this.pivots = new int[size];
+		this.norm = norm1(size, values);
+		int swaps = 0;
+		boolean singular = false;
+		for(int j0 = 0; j0 < size; j0 += BLOCK_SIZE) {
+			int j1 = Math.min(j0 + BLOCK_SIZE, size);
+			// Factorize the columns of this block
+			for(int j = j0; j < j1; j++) {
+				int pivot = j;
+				double max = Math.abs(values[j * size + j]);
+				for(int i = j + 1; i < size; i++) {
+					double candidate = Math.abs(values[i * size + j]);
+					if(candidate > max) {
+						max = candidate;
+						pivot = i;
+					}
+				}
+				this.pivots[j] = pivot;
+				if(pivot != j) {
+					swapRows(values, size, j, pivot);
+					swaps++;
+				}
+				double diagonal = values[j * size + j];
+				if(diagonal == 0.0) {
+					singular = true;
+					continue;
+				}
+				for(int i = j + 1; i < size; i++) {
+					int row = i * size;
+					double l = values[row + j] /= diagonal;
+					if(l != 0.0) {
+						int pivotRow = j * size;
+						for(int c = j + 1; c < j1; c++) {
+							values[row + c] -= l * values[pivotRow + c];
+						}
+					}
+				}
+			}
+			// Compute the rows of U to the right of this block
+			for(int j = j0; j < j1; j++) {
+				int pivotRow = j * size;
+				for(int i = j + 1; i < j1; i++) {
+					int row = i * size;
+					double l = values[row + j];
+					if(l != 0.0) {
+						for(int c = j1; c < size; c++) {
+							values[row + c] -= l * values[pivotRow + c];
+						}
+					}
+				}
+			}
+			// Update the rest of the matrix
+			for(int i = j1; i < size; i++) {
+				int row = i * size;
+				for(int p = j0; p < j1; p++) {
+					double l = values[row + p];
+					if(l != 0.0) {
+						int pivotRow = p * size;
+						for(int c = j1; c < size; c++) {
+							values[row + c] -= l * values[pivotRow + c];
+						}
+					}
+				}
+			}
+		}
+		this.swaps = swaps;
+		this.singular = singular;
+	}
+
+	/**
+	 * Gets the number of rows and columns of the decomposed matrix.
+	 * 
+	 * @return The size of the decomposed matrix.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Checks if the decomposed matrix is singular, meaning
+	 * that its determinant is zero and it cannot be inverted.
+	 * 
+	 * @return True if the decomposed matrix is singular, otherwise false.
+	 */
+	public boolean isSingular() {
+		return this.singular;
+	}
+
+	/**
+	 * Gets the lower triangular matrix L, whose diagonal elements are all ones.
+	 * 
+	 * @return The lower triangular factor of the decomposition.
+	 */
+	public DoubleMatrix lower() {
+		double[] result = new double[this.size * this.size];
+		for(int r = 0; r < this.size; r++) {
+			System.arraycopy(this.lu, r * this.size, result, r * this.size, r);
+			result[r * this.size + r] = 1.0;
+		}
+		return new DoubleMatrix(this.size, this.size, result);
+	}
+
+	/**
+	 * Gets the upper triangular matrix U.
+	 * 
+	 * @return The upper triangular factor of the decomposition.
+	 */
+	public DoubleMatrix upper() {
+		double[] result = new double[this.size * this.size];
+		for(int r = 0; r < this.size; r++) {
+			System.arraycopy(this.lu, r * this.size + r, result, r * this.size + r, this.size - r);
+		}
+		return new DoubleMatrix(this.size, this.size, result);
+	}
+
+	/**
+	 * Gets the permutation of the rows of the decomposed matrix.
+	 * The i-th row of {@code L * U} is the row of the decomposed
+	 * matrix at the index stored in the i-th element of the array.
+	 * 
+	 * @return An array that represents the permutation matrix P.
+	 */
+	public int[] permutation() {
+		int[] result = new int[this.size];
+		for(int i = 0; i < this.size; i++) {
+			result[i] = i;
+		}
+		for(int i = 0; i < this.size; i++) {
+			int tmp = result[i];
+			result[i] = result[this.pivots[i]];
+			result[this.pivots[i]] = tmp;
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the determinant of the decomposed matrix
+	 * as the product of the diagonal elements of U.
+	 * 
+	 * @return The determinant of the decomposed matrix.
+	 */
+	public double determinant() {
+		double result = this.swaps % 2 == 0 ? 1.0 : -1.0;
+		for(int i = 0; i < this.size; i++) {
+			result *= this.lu[i * this.size + i];
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the inverse of the decomposed matrix.
+	 * 
+	 * @return The inverse of the decomposed matrix.
+	 * 
+	 * @throws MatrixMathException if the decomposed matrix is singular.
+	 */
+	public DoubleMatrix inverse() {
+		return this.solve(DoubleMatrix.identity(this.size));
+	}
+
+	/**
+	 * Solves the linear system {@code A * x = b}, where A is the decomposed matrix.
+	 * 
+	 * @param vector The vector b.
+	 * 
+	 * @return The vector x.
+	 * 
+	 * @throws MatrixMathException if the decomposed matrix is singular
+	 * 		or if the size of the given vector does not match the size of the matrix.
+	 */
+	public DoubleVector solve(DoubleVector vector) {
+		if(vector.size() != this.size)
+			throw new MatrixMathException("The given vector's size does not match the matrix's number of rows");
+		double[] result = new double[this.size];
+		for(int i = 0; i < this.size; i++) {
+			result[i] = vector.element(i);
+		}
+		this.solve(result, 1);
+		return new DoubleVector(result);
+	}
+
+	/**
+	 * Solves the linear system {@code A * X = B}, where A is the decomposed matrix,
+	 * which is equivalent to solving a system for every column of B.
+	 * 
+	 * @param matrix The matrix B.
+	 * 
+	 * @return The matrix X.
+	 * 
+	 * @throws MatrixMathException if the decomposed matrix is singular or if
+	 * 		the number of rows of the given matrix does not match the size of the matrix.
+	 */
+	public DoubleMatrix solve(DoubleMatrix matrix) {
+		if(matrix.rows() != this.size)
+			throw new MatrixMathException("The number of rows of the given matrix does not match the matrix's number of rows");
+		double[] result = matrix.toRowMajorArray();
+		this.solve(result, matrix.columns());
+		return new DoubleMatrix(this.size, matrix.columns(), result);
+	}
+
+	/**
+	 * Estimates the condition number of the decomposed matrix in the 1-norm,
+	 * that is {@code ||A|| * ||A^-1||}.
+	 * 
+	 * <p> The norm of the inverse is estimated with Hager's algorithm as refined by Higham,
+	 * which only needs a few solutions of linear systems with A and its transpose instead of
+	 * computing the inverse. The estimate is a lower bound of the actual condition number
+	 * and is usually within a factor of 3 of it.
+	 * 
+	 * @return An estimate of the condition number, or {@link Double#POSITIVE_INFINITY}
+	 * 		if the decomposed matrix is singular.
+	 */
+	public double conditionNumber() {
+		if(this.singular)
+			return Double.POSITIVE_INFINITY;
+		return this.norm * this.inverseNorm1();
+	}
+
+	/**
+	 * Estimates the 1-norm of the inverse of the decomposed matrix.
+	 * 
+	 * @return An estimate of {@code ||A^-1||}.
+	 */
+	private double inverseNorm1() {
+		int n = this.size;
+		double[] x = new double[n];
+		Arrays.fill(x, 1.0 / n);
+		double estimate = 0.0;
+		int previous = -1;
+		for(int iteration = 0; iteration < 5; iteration++) {
+			this.solve(x, 1);
+			double norm = 0.0;
+			for(int i = 0; i < n; i++) {
+				norm += Math.abs(x[i]);
+			}
+			if(iteration > 0 && norm <= estimate)
+				break;
+			estimate = norm;
+			for(int i = 0; i < n; i++) {
+				x[i] = x[i] >= 0.0 ? 1.0 : -1.0;
+			}
+			this.solveTransposed(x);
+			int j = 0;
+			for(int i = 1; i < n; i++) {
+				if(Math.abs(x[i]) > Math.abs(x[j]))
+					j = i;
+			}
+			if(j == previous)
+				break;
+			previous = j;
+			Arrays.fill(x, 0.0);
+			x[j] = 1.0;
+		}
+		// Alternative estimate that handles the cases where the iteration fails
+		for(int i = 0; i < n; i++) {
+			x[i] = (i % 2 == 0 ? 1.0 : -1.0) * (1.0 + (double) i / Math.max(n - 1, 1));
+		}
+		this.solve(x, 1);
+		double alternative = 0.0;
+		for(int i = 0; i < n; i++) {
+			alternative += Math.abs(x[i]);
+		}
+		return Math.max(estimate, 2.0 * alternative / (3.0 * n));
+	}
+
+	/**
+	 * Solves the system {@code A * X = B} in place.
+	 * 
+	 * @param b Elements of B in row-major order, overwritten with the elements of X.
+	 * @param columns Number of columns of B.
+	 * 
+	 * @throws MatrixMathException if the decomposed matrix is singular.
+	 */
+	private void solve(double[] b, int columns) {
+		if(this.singular)
+			throw new MatrixMathException("The matrix is singular");
+		int n = this.size;
+		for(int i = 0; i < n; i++) {
+			if(this.pivots[i] != i)
+				swapRows(b, columns, i, this.pivots[i]);
+		}
+		// Forward substitution with L
+		for(int i = 1; i < n; i++) {
+			int row = i * columns;
+			for(int p = 0; p < i; p++) {
+				double l = this.lu[i * n + p];
+				if(l != 0.0) {
+					int source = p * columns;
+					for(int c = 0; c < columns; c++) {
+						b[row + c] -= l * b[source + c];
+					}
+				}
+			}
+		}
+		// Back substitution with U
+		for(int i = n - 1; i >= 0; i--) {
+			int row = i * columns;
+			for(int p = i + 1; p < n; p++) {
+				double u = this.lu[i * n + p];
+				if(u != 0.0) {
+					int source = p * columns;
+					for(int c = 0; c < columns; c++) {
+						b[row + c] -= u * b[source + c];
+					}
+				}
+			}
+			double diagonal = this.lu[i * n + i];
+			for(int c = 0; c < columns; c++) {
+				b[row + c] /= diagonal;
+			}
+		}
+	}
+
+	/**
+	 * Solves the system {@code A^T * x = b} in place.
+	 * 
+	 * @param b Elements of b, overwritten with the elements of x.
+	 */
+	private void solveTransposed(double[] b) {
+		int n = this.size;
+		// Forward substitution with U^T
+		for(int i = 0; i < n; i++) {
+			double sum = b[i];
+			for(int p = 0; p < i; p++) {
+				sum -= this.lu[p * n + i] * b[p];
+			}
+			b[i] = sum / this.lu[i * n + i];
+		}
+		// Back substitution with L^T
+		for(int i = n - 2; i >= 0; i--) {
+			double sum = b[i];
+			for(int p = i + 1; p < n; p++) {
+				sum -= this.lu[p * n + i] * b[p];
+			}
+			b[i] = sum;
+		}
+		for(int i = n - 1; i >= 0; i--) {
+			if(this.pivots[i] != i) {
+				double tmp = b[i];
+				b[i] = b[this.pivots[i]];
+				b[this.pivots[i]] = tmp;
+			}
+		}
+	}
+
+	/**
+	 * Swaps two rows of a matrix.
+	 * 
+	 * @param values Elements of the matrix in row-major order.
+	 * @param columns Number of columns of the matrix.
+	 * @param i Index of the first row.
+	 * @param j Index of the second row.
+	 */
+	private static void swapRows(double[] values, int columns, int i, int j) {
+		int a = i * columns, b = j * columns;
+		for(int c = 0; c < columns; c++) {
+			double tmp = values[a + c];
+			values[a + c] = values[b + c];
+			values[b + c] = tmp;
+		}
+	}
+
+	/**
+	 * Computes the 1-norm of a square matrix, which is the maximum sum
+	 * of the absolute values of the elements of one of its columns.
+	 * 
+	 * @param size Number of rows and columns of the matrix.
+	 * @param values Elements of the matrix in row-major order.
+	 * 
+	 * @return The 1-norm of the matrix.
+	 */
+	private static double norm1(int size, double[] values) {
+		double[] sums = new double[size];
+		for(int r = 0; r < size; r++) {
+			for(int c = 0; c < size; c++) {
+				sums[c] += Math.abs(values[r * size + c]);
+			}
+		}
+		double max = 0.0;
+		for(double sum : sums) {
+			max = Math.max(max, sum);
+		}
+		return max;
+	}
+
+	@Override
+	public String toString() {
+		return "DoubleLUDecomposition" + Arrays.toString(this.permutation()) + this.lower() + this.upper();
+	}
+}
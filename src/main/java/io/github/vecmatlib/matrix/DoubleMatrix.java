@@ -1,18 +1,26 @@
 package io.github.vecmatlib.matrix;
 
 import java.util.Arrays;
-import java.util.function.BiFunction;
-import java.util.function.DoubleUnaryOperator;
-import java.util.stream.DoubleStream;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 import io.github.vecmatlib.vector.DoubleVector;
-import io.github.vecmatlib.vector.VectorMathException;
+import io.github.vecmatlib.vector.Summation;
 
 /**
  * Class that represents an NxM double matrix.
  * 
+ * <p> The elements of the matrix are stored in a single flat array
+ * in row-major order. The element at row r and column c is stored
+ * at index {@code r * columns + c}, meaning that the stride between
+ * two consecutive rows is equal to the number of columns.
+ * 
+ * <p> Operations return a new matrix and do not modify the matrices
+ * on which they are invoked. The overloads that take a destination matrix,
+ * {@link #scaleInPlace(double)} and {@link #axpy(double, DoubleMatrix)} are the only
+ * operations that modify an existing matrix and can be used to write
+ * loops that do not allocate any object.
+ * 
  * @author Nico
  */
 public class DoubleMatrix implements MatrixDoubleOperations<DoubleMatrix, DoubleVector> {
@@ -30,7 +38,7 @@ public class DoubleMatrix implements MatrixDoubleOperations<DoubleMatrix, Double
 	 * @throws MatrixMathException if the given number of rows or columns is zero.
 	 */
 	public static DoubleMatrix zero(int rows, int columns) {
-		return new DoubleMatrix(new double[rows][columns]);
+		return new DoubleMatrix(rows, columns, new double[rows * columns]);
 	}
 
 	/**
@@ -44,15 +52,29 @@ public class DoubleMatrix implements MatrixDoubleOperations<DoubleMatrix, Double
 	 * @throws MatrixMathException if the given size is not greater than zero.
 	 */
 	public static DoubleMatrix identity(int size) {
-		return new DoubleMatrix(IntStream.range(0, size).mapToObj(i -> IntStream.range(0, size).mapToDouble(j -> j == i ? 1.0 : 0.0).toArray()).toArray(double[][]::new));
+		if(size <= 0)
+			throw new MatrixMathException("A matrix cannot be empty");
+		double[] values = new double[size * size];
+		for(int i = 0; i < size; i++) {
+			values[i * size + i] = 1.0;
+		}
+		return new DoubleMatrix(size, size, values);
 	}
 
-	/**Elements of the matrix */
-	private final double[][] values;
+	/**Number of rows of the matrix */
+	private final int rows;
+	/**Number of columns of the matrix, which is also the stride between two rows */
+	private final int columns;
+	/**Elements of the matrix in row-major order */
+	private final double[] values;
 
 	/**
 	 * Creates a matrix with the values in the given array.
 	 * 
+	 * <p> The values in the given array are copied into the internal
+	 * storage of the matrix. Subsequent changes to the given array
+	 * will not affect the matrix.
+	 * 
 	 * @param values Values in the matrix.
 	 * 
 	 * @throws MatrixMathException if the given array is null or has length 0
@@ -61,10 +83,47 @@ public class DoubleMatrix implements MatrixDoubleOperations<DoubleMatrix, Double
 	public DoubleMatrix(double[][] values) {
 		if(values == null || values.length == 0)
 			throw new MatrixMathException("A matrix cannot be null or empty");
-		if(Arrays.stream(values).filter(i -> i == null).count() != 0)
+		if(values[0] == null)
 			throw new MatrixMathException("A matrix cannot contain null rows");
-		if(Arrays.stream(values).mapToInt(i -> i.length).distinct().count() != 1)
-			throw new MatrixMathException("All rows of a matrix must have the same length");
+		if(values[0].length == 0)
+			throw new MatrixMathException("A matrix cannot be empty");
+		this.rows = values.length;
+		this.columns = values[0].length;
+		this.values = new double[this.rows * this.columns];
+		for(int r = 0; r < this.rows; r++) {
+			if(values[r] == null)
+				throw new MatrixMathException("A matrix cannot contain null rows");
+			if(values[r].length != this.columns)
+				throw new MatrixMathException("All rows of a matrix must have the same length");
+			System.arraycopy(values[r], 0, this.values, r * this.columns, this.columns);
+		}
+	}
+
+	/**
+	 * Creates a matrix with the given number of rows and columns
+	 * whose elements are the ones in the given array in row-major order.
+	 * 
+	 * <p> The given array is used as the internal storage of the matrix
+	 * and is not copied. This allows the creation of a matrix without
+	 * any additional allocation.
+	 * 
+	 * @param rows Number of rows of the matrix.
+	 * @param columns Number of columns of the matrix.
+	 * @param values Elements of the matrix in row-major order.
+	 * 
+	 * @throws MatrixMathException if the given number of rows or columns is
+	 * 		not greater than zero, if the given array is null, or if its length
+	 * 		is not equal to {@code rows * columns}.
+	 */
+	public DoubleMatrix(int rows, int columns, double... values) {
+		if(rows <= 0 || columns <= 0)
+			throw new MatrixMathException("A matrix cannot be empty");
+		if(values == null)
+			throw new MatrixMathException("A matrix cannot be null");
+		if(values.length != (long) rows * columns)
+			throw new MatrixMathException("The number of elements does not match the size of the matrix");
+		this.rows = rows;
+		this.columns = columns;
 		this.values = values;
 	}
 
@@ -74,7 +133,7 @@ public class DoubleMatrix implements MatrixDoubleOperations<DoubleMatrix, Double
 	 * @return The number of rows of this matrix.
 	 */
 	public int rows() {
-		return this.values.length;
+		return this.rows;
 	}
 
 	/**
@@ -83,7 +142,7 @@ public class DoubleMatrix implements MatrixDoubleOperations<DoubleMatrix, Double
 	 * @return The number of columns of this matrix.
 	 */
 	public int columns() {
-		return this.values[0].length;
+		return this.columns;
 	}
 
 	/**
@@ -98,31 +157,168 @@ public class DoubleMatrix implements MatrixDoubleOperations<DoubleMatrix, Double
 	 * 		or greater than the matrix's size.
 	 */
 	public double element(int row, int column) {
-		if(row < 0 || row >= this.rows())
+		if(row < 0 || row >= this.rows)
 			throw new IndexOutOfBoundsException("Row index out of bounds");
-		if(column < 0 || column >= this.columns())
+		if(column < 0 || column >= this.columns)
 			throw new IndexOutOfBoundsException("Column index out of bounds");
-		return this.values[row][column];
+		return this.values[row * this.columns + column];
 	}
 
 	@Override
 	public DoubleMatrix plus(DoubleMatrix matrix) {
-		return this.applyOperation(matrix.rows(), matrix.columns(), (r, c) -> this.values[r][c] + matrix.values[r][c]);
+		this.checkSize(matrix);
+		double[] result = new double[this.values.length];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = this.values[i] + matrix.values[i];
+		}
+		return new DoubleMatrix(this.rows, this.columns, result);
 	}
 
 	@Override
 	public DoubleMatrix negative() {
-		return this.applyOperation(m -> -m);
+		double[] result = new double[this.values.length];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = -this.values[i];
+		}
+		return new DoubleMatrix(this.rows, this.columns, result);
 	}
 
 	@Override
 	public DoubleMatrix minus(DoubleMatrix matrix) {
-		return this.applyOperation(matrix.rows(), matrix.columns(), (r, c) -> this.values[r][c] - matrix.values[r][c]);
+		this.checkSize(matrix);
+		double[] result = new double[this.values.length];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = this.values[i] - matrix.values[i];
+		}
+		return new DoubleMatrix(this.rows, this.columns, result);
 	}
 
 	@Override
 	public DoubleMatrix multipliedBy(double k) {
-		return this.applyOperation(m -> m * k);
+		double[] result = new double[this.values.length];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = this.values[i] * k;
+		}
+		return new DoubleMatrix(this.rows, this.columns, result);
+	}
+
+	/**
+	 * Adds the given matrix to this one and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #plus(DoubleMatrix)}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and may be this matrix or the given one.
+	 * 
+	 * @param matrix The second operand of the sum.
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrices are not the same size as this one.
+	 */
+	public DoubleMatrix plus(DoubleMatrix matrix, DoubleMatrix dest) {
+		this.checkSize(matrix);
+		this.checkSize(dest);
+		for(int i = 0; i < this.values.length; i++) {
+			dest.values[i] = this.values[i] + matrix.values[i];
+		}
+		return dest;
+	}
+
+	/**
+	 * Negates this matrix and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #negative()}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and may be this matrix.
+	 * 
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrix is not the same size as this one.
+	 */
+	public DoubleMatrix negative(DoubleMatrix dest) {
+		this.checkSize(dest);
+		for(int i = 0; i < this.values.length; i++) {
+			dest.values[i] = -this.values[i];
+		}
+		return dest;
+	}
+
+	/**
+	 * Subtracts the given matrix from this one and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #minus(DoubleMatrix)}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and may be this matrix or the given one.
+	 * 
+	 * @param matrix The second operand of the subtraction.
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrices are not the same size as this one.
+	 */
+	public DoubleMatrix minus(DoubleMatrix matrix, DoubleMatrix dest) {
+		this.checkSize(matrix);
+		this.checkSize(dest);
+		for(int i = 0; i < this.values.length; i++) {
+			dest.values[i] = this.values[i] - matrix.values[i];
+		}
+		return dest;
+	}
+
+	/**
+	 * Multiplies this matrix by the given scalar and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #multipliedBy(double)}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and may be this matrix.
+	 * 
+	 * @param k The scalar.
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrix is not the same size as this one.
+	 */
+	public DoubleMatrix multipliedBy(double k, DoubleMatrix dest) {
+		this.checkSize(dest);
+		for(int i = 0; i < this.values.length; i++) {
+			dest.values[i] = this.values[i] * k;
+		}
+		return dest;
+	}
+
+	/**
+	 * Multiplies this matrix by the given scalar, modifying this matrix.
+	 * 
+	 * @param k The scalar.
+	 * 
+	 * @return This matrix.
+	 */
+	public DoubleMatrix scaleInPlace(double k) {
+		for(int i = 0; i < this.values.length; i++) {
+			this.values[i] *= k;
+		}
+		return this;
+	}
+
+	/**
+	 * Adds the given matrix multiplied by the given scalar to this matrix,
+	 * modifying this matrix. This is the {@code Y = alpha * X + Y} operation
+	 * used by iterative algorithms.
+	 * 
+	 * @param alpha The scalar.
+	 * @param x The matrix multiplied by the scalar.
+	 * 
+	 * @return This matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrix is not the same size as this one.
+	 */
+	public DoubleMatrix axpy(double alpha, DoubleMatrix x) {
+		this.checkSize(x);
+		for(int i = 0; i < this.values.length; i++) {
+			this.values[i] += alpha * x.values[i];
+		}
+		return this;
 	}
 
 	/**
@@ -136,8 +332,8 @@ public class DoubleMatrix implements MatrixDoubleOperations<DoubleMatrix, Double
 	 * 		or greater than the matrix's size.
 	 */
 	public DoubleVector row(int row) {
-		if(row >= 0 && row < this.rows()) {
-			return new DoubleVector(this.values[row]);
+		if(row >= 0 && row < this.rows) {
+			return new DoubleVector(Arrays.copyOfRange(this.values, row * this.columns, (row + 1) * this.columns));
 		} else {
 			throw new IndexOutOfBoundsException("Row index out of bounds");
 		}
@@ -154,8 +350,12 @@ public class DoubleMatrix implements MatrixDoubleOperations<DoubleMatrix, Double
 	 * 		or greater than the matrix's size.
 	 */
 	public DoubleVector column(int column) {
-		if(column >= 0 && column < this.columns()) {
-			return new DoubleVector(Arrays.stream(this.values).mapToDouble(v -> v[column]).toArray());
+		if(column >= 0 && column < this.columns) {
+			double[] result = new double[this.rows];
+			for(int r = 0; r < this.rows; r++) {
+				result[r] = this.values[r * this.columns + column];
+			}
+			return new DoubleVector(result);
 		} else {
 			throw new IndexOutOfBoundsException("Column index out of bounds");
 		}
@@ -163,26 +363,191 @@ public class DoubleMatrix implements MatrixDoubleOperations<DoubleMatrix, Double
 
 	@Override
 	public DoubleVector multiply(DoubleVector vector) {
-		try {
-			return new DoubleVector(IntStream.range(0, this.rows()).mapToDouble(i -> this.row(i).dotProduct(vector)).toArray());
-		} catch(VectorMathException e) {
-			throw new MatrixMathException("The given vector's size does not match the matrix's number of columns", e);
+		if(vector.size() != this.columns)
+			throw new MatrixMathException("The given vector's size does not match the matrix's number of columns");
+		double[] result = new double[this.rows];
+		for(int r = 0; r < this.rows; r++) {
+			int offset = r * this.columns;
+			double sum = 0.0;
+			for(int c = 0; c < this.columns; c++) {
+				sum += this.values[offset + c] * vector.element(c);
+			}
+			result[r] = sum;
 		}
+		return new DoubleVector(result);
+	}
+
+	/**
+	 * Computes the product between this matrix and the given vector
+	 * adding the terms of every element with the given summation mode.
+	 * 
+	 * @param vector The second operand of the product.
+	 * @param summation The algorithm used to add the terms.
+	 * 
+	 * @return The result of the product between this matrix and the given vector.
+	 * 
+	 * @throws MatrixMathException If the size of the vector does not match the
+	 * 		number of columns of this matrix.
+	 * @throws NullPointerException if the given vector or the given summation mode are null.
+	 */
+	public DoubleVector multiply(DoubleVector vector, Summation summation) {
+		if(vector.size() != this.columns)
+			throw new MatrixMathException("The given vector's size does not match the matrix's number of columns");
+		Objects.requireNonNull(summation);
+		double[] x = new double[this.columns];
+		for(int c = 0; c < x.length; c++) {
+			x[c] = vector.element(c);
+		}
+		double[] result = new double[this.rows];
+		for(int r = 0; r < this.rows; r++) {
+			result[r] = summation.dot(this.values, r * this.columns, x, 0, this.columns);
+		}
+		return new DoubleVector(result);
 	}
 
 	@Override
 	public DoubleMatrix transposed() {
-		return this.applyOperation((r, c) -> this.values[c][r]);
+		return new DoubleMatrix(this.columns, this.rows, this.transposedValues(false));
 	}
 
 	@Override
 	public DoubleMatrix negativeTransposed() {
-		return this.applyOperation((r, c) -> -this.values[c][r]);
+		return new DoubleMatrix(this.columns, this.rows, this.transposedValues(true));
+	}
+
+	@Override
+	public boolean isSymmetric() {
+		if(this.rows != this.columns)
+			return false;
+		for(int r = 0; r < this.rows; r++) {
+			for(int c = r + 1; c < this.columns; c++) {
+				if(this.values[r * this.columns + c] != this.values[c * this.columns + r])
+					return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean isSkewSymmetric() {
+		if(this.rows != this.columns)
+			return false;
+		for(int r = 0; r < this.rows; r++) {
+			for(int c = r; c < this.columns; c++) {
+				if(this.values[r * this.columns + c] != -this.values[c * this.columns + r])
+					return false;
+			}
+		}
+		return true;
 	}
 
 	@Override
 	public DoubleMatrix multiply(DoubleMatrix matrix) {
-		return this.applyOperation(matrix.rows(), matrix.columns(), (r, c) -> this.row(r).dotProduct(matrix.column(c)));
+		if(this.columns != matrix.rows)
+			throw new MatrixMathException("The number of columns of this matrix does not match the number of rows of the given matrix");
+		double[] result = new double[this.rows * matrix.columns];
+		MatrixKernels.multiply(this.values, matrix.values, result, this.rows, this.columns, matrix.columns);
+		return new DoubleMatrix(this.rows, matrix.columns, result);
+	}
+
+	/**
+	 * Multiplies this matrix by the given one and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #multiply(DoubleMatrix)}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and cannot be one of the operands.
+	 * 
+	 * @param matrix The second operand of the product.
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException If the number of columns of this matrix does not match the number
+	 * 		of rows of the given matrix, if the destination matrix does not have as many rows as this
+	 * 		matrix and as many columns as the given matrix, or if it shares its elements with an operand.
+	 */
+	public DoubleMatrix multiplyInto(DoubleMatrix matrix, DoubleMatrix dest) {
+		if(this.columns != matrix.rows)
+			throw new MatrixMathException("The number of columns of this matrix does not match the number of rows of the given matrix");
+		if(dest.rows != this.rows || dest.columns != matrix.columns)
+			throw new MatrixMathException("The destination matrix does not have the size of the result");
+		if(dest.values == this.values || dest.values == matrix.values)
+			throw new MatrixMathException("The destination matrix cannot be one of the operands");
+		Arrays.fill(dest.values, 0.0);
+		MatrixKernels.multiply(this.values, matrix.values, dest.values, this.rows, this.columns, matrix.columns);
+		return dest;
+	}
+
+	/**
+	 * Multiplies this matrix by the given one using the common fork/join pool.
+	 * See {@link #parallelMultiply(DoubleMatrix, ForkJoinPool)}.
+	 * 
+	 * @param matrix The second operand of the product.
+	 * 
+	 * @return The product of this matrix and the given one.
+	 * 
+	 * @throws MatrixMathException If the number of columns of this matrix does not
+	 * 		match the number of rows of the given matrix.
+	 * @throws NullPointerException if the given matrix is null.
+	 */
+	public DoubleMatrix parallelMultiply(DoubleMatrix matrix) {
+		return this.parallelMultiply(matrix, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Multiplies this matrix by the given one using the threads of the given pool.
+	 * 
+	 * <p> The result is recursively split into tiles that are computed in parallel.
+	 * Small products are computed sequentially in the calling thread.
+	 * 
+	 * <p> Every element of the result is computed by a single thread in the same
+	 * order used by {@link #multiply(DoubleMatrix)}, therefore the result is identical
+	 * to the one of the sequential product regardless of the number of threads.
+	 * 
+	 * @param matrix The second operand of the product.
+	 * @param pool The pool used to compute the product.
+	 * 
+	 * @return The product of this matrix and the given one.
+	 * 
+	 * @throws MatrixMathException If the number of columns of this matrix does not
+	 * 		match the number of rows of the given matrix.
+	 * @throws NullPointerException if the given matrix or the given pool are null.
+	 */
+	public DoubleMatrix parallelMultiply(DoubleMatrix matrix, ForkJoinPool pool) {
+		if(this.columns != matrix.rows)
+			throw new MatrixMathException("The number of columns of this matrix does not match the number of rows of the given matrix");
+		Objects.requireNonNull(pool);
+		double[] result = new double[this.rows * matrix.columns];
+		MatrixKernels.parallel(pool, this.rows, this.columns, matrix.columns, (rowStart, rowEnd, columnStart, columnEnd) -> {
+			MatrixKernels.multiply(this.values, matrix.values, result, this.columns, matrix.columns, rowStart, rowEnd, columnStart, columnEnd);
+		});
+		return new DoubleMatrix(this.rows, matrix.columns, result);
+	}
+
+	/**
+	 * Multiplies this matrix by the given one using the given number of threads.
+	 * See {@link #parallelMultiply(DoubleMatrix, ForkJoinPool)}.
+	 * 
+	 * <p> A new pool is created for the computation and shut down when the
+	 * product is complete. Callers that compute many products should prefer
+	 * passing their own pool.
+	 * 
+	 * @param matrix The second operand of the product.
+	 * @param parallelism Number of threads used to compute the product.
+	 * 
+	 * @return The product of this matrix and the given one.
+	 * 
+	 * @throws MatrixMathException If the number of columns of this matrix does not
+	 * 		match the number of rows of the given matrix.
+	 * @throws IllegalArgumentException if the given parallelism is not greater than zero.
+	 * @throws NullPointerException if the given matrix is null.
+	 */
+	public DoubleMatrix parallelMultiply(DoubleMatrix matrix, int parallelism) {
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			return this.parallelMultiply(matrix, pool);
+		} finally {
+			pool.shutdown();
+		}
 	}
 
 	@Override
@@ -194,105 +559,138 @@ public class DoubleMatrix implements MatrixDoubleOperations<DoubleMatrix, Double
 		} else if(exponent == 0) {
 			return identity(this.rows());
 		} else {
-			DoubleMatrix result = this;
-			for(int i = 1; i < exponent; i++) {
-				result = result.multiply(this);
+			int size = this.rows;
+			double[] result = this.values.clone();
+			double[] scratch = new double[result.length];
+			for(int bit = Integer.highestOneBit(exponent) >> 1; bit > 0; bit >>= 1) {
+				Arrays.fill(scratch, 0.0);
+				MatrixKernels.multiply(result, result, scratch, size, size, size);
+				double[] swap = result;
+				result = scratch;
+				scratch = swap;
+				if((exponent & bit) != 0) {
+					Arrays.fill(scratch, 0.0);
+					MatrixKernels.multiply(result, this.values, scratch, size, size, size);
+					swap = result;
+					result = scratch;
+					scratch = swap;
+				}
 			}
-			return result;
+			return new DoubleMatrix(size, size, result);
 		}
 	}
 
 	/**
-	 * Applies the given function to each element of this matrix.
-	 * Used when operating with two matrices.
-	 * 
-	 * @param rows Number of rows of the resulting matrix.
-	 * @param columns Number of columns of the resulting matrix.
-	 * @param operator Function to apply to each element.
+	 * Computes the LU decomposition with partial pivoting of this matrix.
+	 * The returned object can be reused to compute the determinant or the
+	 * inverse of this matrix and to solve linear systems with it.
 	 * 
-	 * @return The result matrix.
+	 * @return The LU decomposition of this matrix.
 	 * 
-	 * @throws MatrixMathException if the given size is different from the size of this matrix.
+	 * @throws MatrixMathException if this matrix is not square.
 	 */
-	private DoubleMatrix applyOperation(int rows, int columns, BiFunction<Integer, Integer, Double> operator) {
-		return new DoubleMatrix(this.mapEach(rows, columns, operator).map(DoubleStream::toArray).toArray(double[][]::new));
+	public DoubleLUDecomposition lu() {
+		if(this.rows() != this.columns()) {
+			throw new MatrixMathException("A matrix must be square to be decomposed");
+		}
+		return new DoubleLUDecomposition(this.rows, this.toRowMajorArray());
 	}
 
 	/**
-	 * Maps each element of this matrix to a new value using the given operator.
-	 * Used when operating with two matrices.
-	 * 
-	 * @param rows Number of rows of the resulting matrix.
-	 * @param columns Number of columns of the resulting matrix.
-	 * @param operator Operator to apply to each element.
+	 * Computes the determinant of this matrix from its LU decomposition.
 	 * 
-	 * @return A stream of streams representing the result.
+	 * @return The determinant of this matrix.
 	 * 
-	 * @throws MatrixMathException if the given size is different from the size of this matrix.
+	 * @throws MatrixMathException if this matrix is not square.
 	 */
-	private Stream<DoubleStream> mapEach(int rows, int columns, BiFunction<Integer, Integer, Double> operator) {
-		if(rows == this.rows() && columns == this.columns()) {
-			return IntStream.range(0, rows).mapToObj(r -> IntStream.range(0, columns).mapToDouble(c -> operator.apply(r, c)));
-		} else {
-			throw new MatrixMathException("The given matrix has a different size than this matrix");
-		}
+	public double determinant() {
+		return this.lu().determinant();
 	}
 
 	/**
-	 * Applies the given function to each element of this matrix.
-	 * Used when operating with a single matrix.
+	 * Computes the inverse of this matrix from its LU decomposition.
 	 * 
-	 * @param operator Operator to apply to each element.
+	 * @return The inverse of this matrix.
 	 * 
-	 * @return The result matrix.
+	 * @throws MatrixMathException if this matrix is not square or if it is singular.
 	 */
-	private DoubleMatrix applyOperation(DoubleUnaryOperator operator) {
-		return new DoubleMatrix(this.mapEach(operator).map(DoubleStream::toArray).toArray(double[][]::new));
+	public DoubleMatrix inverted() {
+		return this.lu().inverse();
 	}
 
 	/**
-	 * Maps each element of this matrix to a new value using the given operator.
-	 * Used when operating with a single matrix.
+	 * Copies the elements of this matrix into a new two-dimensional array.
 	 * 
-	 * @param operator Operator to apply to each element.
+	 * @return A new array containing the rows of this matrix.
+	 */
+	public double[][] toArray() {
+		double[][] result = new double[this.rows][];
+		for(int r = 0; r < this.rows; r++) {
+			result[r] = Arrays.copyOfRange(this.values, r * this.columns, (r + 1) * this.columns);
+		}
+		return result;
+	}
+
+	/**
+	 * Copies the elements of this matrix into a new flat array in row-major order.
 	 * 
-	 * @return A stream of streams representing the result.
+	 * @return A new array containing the elements of this matrix in row-major order.
 	 */
-	private Stream<DoubleStream> mapEach(DoubleUnaryOperator operator) {
-		return Arrays.stream(this.values).map(i -> Arrays.stream(i).map(operator));
+	public double[] toRowMajorArray() {
+		return this.values.clone();
 	}
 
 	/**
-	 * Applies the given function to each element of this matrix.
-	 * Used when operating with a single matrix.
+	 * Checks if the given matrix has the same size as this one.
 	 * 
-	 * @param operator Operator to apply to each element.
+	 * @param matrix The matrix to check.
 	 * 
-	 * @return The result matrix.
+	 * @throws MatrixMathException if the given matrix has a different size than this matrix.
 	 */
-	private DoubleMatrix applyOperation(BiFunction<Integer, Integer, Double> operator) {
-		return new DoubleMatrix(this.mapEach(operator).map(DoubleStream::toArray).toArray(double[][]::new));
+	private void checkSize(DoubleMatrix matrix) {
+		if(matrix.rows != this.rows || matrix.columns != this.columns)
+			throw new MatrixMathException("The given matrix has a different size than this matrix");
 	}
 
 	/**
-	 * Maps each element of this matrix to a new value using the given operator.
-	 * Used when operating with a single matrix.
+	 * Computes the elements of the transposed of this matrix.
+	 * The matrix is traversed in square blocks so that both the
+	 * source and the destination are accessed in a cache-friendly way.
 	 * 
-	 * @param operator Operator to apply to each element.
+	 * @param negate Whether the elements should also be negated.
 	 * 
-	 * @return A stream of streams representing the result.
+	 * @return The elements of the transposed matrix in row-major order.
 	 */
-	private Stream<DoubleStream> mapEach(BiFunction<Integer, Integer, Double> operator) {
-		return IntStream.range(0, this.rows()).mapToObj(r -> IntStream.range(0, this.columns()).mapToDouble(c -> operator.apply(r, c)));
+	private double[] transposedValues(boolean negate) {
+		final int block = 32;
+		double sign = negate ? -1.0 : 1.0;
+		double[] result = new double[this.values.length];
+		for(int r0 = 0; r0 < this.rows; r0 += block) {
+			int r1 = Math.min(r0 + block, this.rows);
+			for(int c0 = 0; c0 < this.columns; c0 += block) {
+				int c1 = Math.min(c0 + block, this.columns);
+				for(int r = r0; r < r1; r++) {
+					for(int c = c0; c < c1; c++) {
+						result[c * this.rows + r] = sign * this.values[r * this.columns + c];
+					}
+				}
+			}
+		}
+		return result;
 	}
 
 	@Override
 	public String toString() {
-		return "DoubleMatrix" + this.rows() + "x" + this.columns() + Arrays.deepToString(this.values);
+		return "DoubleMatrix" + this.rows() + "x" + this.columns() + Arrays.deepToString(this.toArray());
 	}
 
 	@Override
 	public boolean equals(Object obj) {
-		return obj instanceof DoubleMatrix that && Arrays.deepEquals(this.values, that.values);
+		return obj instanceof DoubleMatrix that && this.rows == that.rows && this.columns == that.columns && Arrays.equals(this.values, that.values);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 * this.rows + this.columns) + Arrays.hashCode(this.values);
 	}
 }
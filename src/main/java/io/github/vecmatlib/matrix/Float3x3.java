@@ -1,7 +1,11 @@
 package io.github.vecmatlib.matrix;
 
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
 import io.github.vecmatlib.vector.Double3;
 import io.github.vecmatlib.vector.Float3;
+import io.github.vecmatlib.vector.Float3Buffer;
 
 /**
  * Record that represents a 3x3 float matrix.
@@ -179,13 +183,227 @@ public record Float3x3(
 			return IDENTITY;
 		} else {
 			Float3x3 result = this;
-			for(int i = 1; i < exponent; i++) {
-				result = result.multiply(this);
+			for(int bit = Integer.highestOneBit(exponent) >> 1; bit > 0; bit >>= 1) {
+				result = result.multiply(result);
+				if((exponent & bit) != 0) {
+					result = result.multiply(this);
+				}
 			}
 			return result;
 		}
 	}
 
+	/**
+	 * Computes the determinant of this matrix.
+	 * 
+	 * @return The determinant of this matrix.
+	 */
+	public float determinant() {
+		return this.m11() * (this.m22() * this.m33() - this.m23() * this.m32())
+			+ this.m12() * (this.m23() * this.m31() - this.m21() * this.m33())
+			+ this.m13() * (this.m21() * this.m32() - this.m22() * this.m31());
+	}
+
+	/**
+	 * Computes the adjugate of this matrix, which is the transpose of its cofactor matrix.
+	 * The product of a matrix and its adjugate is the identity matrix multiplied by its determinant.
+	 * 
+	 * @return The adjugate of this matrix.
+	 */
+	public Float3x3 adjugate() {
+		return new Float3x3(
+			this.m22() * this.m33() - this.m23() * this.m32(), this.m13() * this.m32() - this.m12() * this.m33(), this.m12() * this.m23() - this.m13() * this.m22(),
+			this.m23() * this.m31() - this.m21() * this.m33(), this.m11() * this.m33() - this.m13() * this.m31(), this.m13() * this.m21() - this.m11() * this.m23(),
+			this.m21() * this.m32() - this.m22() * this.m31(), this.m12() * this.m31() - this.m11() * this.m32(), this.m11() * this.m22() - this.m12() * this.m21()
+		);
+	}
+
+	/**
+	 * Computes the inverse of this matrix as its adjugate divided by its determinant.
+	 * 
+	 * @return The inverse of this matrix.
+	 * 
+	 * @throws MatrixMathException if the determinant of this matrix is zero.
+	 */
+	public Float3x3 inverted() {
+		float a11 = this.m22() * this.m33() - this.m23() * this.m32();
+		float a21 = this.m23() * this.m31() - this.m21() * this.m33();
+		float a31 = this.m21() * this.m32() - this.m22() * this.m31();
+		float determinant = this.m11() * a11 + this.m12() * a21 + this.m13() * a31;
+		if(determinant == 0.0f) {
+			throw new MatrixMathException("A matrix must have a non-zero determinant to be inverted");
+		}
+		float k = 1.0f / determinant;
+		return new Float3x3(
+			a11 * k, (this.m13() * this.m32() - this.m12() * this.m33()) * k, (this.m12() * this.m23() - this.m13() * this.m22()) * k,
+			a21 * k, (this.m11() * this.m33() - this.m13() * this.m31()) * k, (this.m13() * this.m21() - this.m11() * this.m23()) * k,
+			a31 * k, (this.m12() * this.m31() - this.m11() * this.m32()) * k, (this.m11() * this.m22() - this.m12() * this.m21()) * k
+		);
+	}
+
+	/**
+	 * Computes the inverse of this matrix assuming that it represents a 2D affine transformation,
+	 * meaning that its last row is {@code 0, 0, 1}. Only the upper-left 2x2 matrix is inverted.
+	 * The last row of this matrix is not checked.
+	 * 
+	 * @return The inverse of this affine transformation.
+	 * 
+	 * @throws MatrixMathException if the upper-left 2x2 matrix has a zero determinant.
+	 */
+	public Float3x3 invertedAffine() {
+		float determinant = this.m11() * this.m22() - this.m12() * this.m21();
+		if(determinant == 0.0f) {
+			throw new MatrixMathException("A matrix must have a non-zero determinant to be inverted");
+		}
+		float k = 1.0f / determinant;
+		float i11 = this.m22() * k, i12 = -this.m12() * k;
+		float i21 = -this.m21() * k, i22 = this.m11() * k;
+		return new Float3x3(
+			i11, i12, -(i11 * this.m13() + i12 * this.m23()),
+			i21, i22, -(i21 * this.m13() + i22 * this.m23()),
+			0.0f, 0.0f, 1.0f
+		);
+	}
+
+	/**
+	 * Computes the inverse of this matrix assuming that it represents a 2D rigid transformation,
+	 * meaning that its last row is {@code 0, 0, 1} and its upper-left 2x2 matrix is a rotation.
+	 * The inverse of the rotation is its transpose, so no division is needed.
+	 * None of the assumptions are checked.
+	 * 
+	 * @return The inverse of this rigid transformation.
+	 */
+	public Float3x3 invertedRigid() {
+		return new Float3x3(
+			this.m11(), this.m21(), -(this.m11() * this.m13() + this.m21() * this.m23()),
+			this.m12(), this.m22(), -(this.m12() * this.m13() + this.m22() * this.m23()),
+			0.0f, 0.0f, 1.0f
+		);
+	}
+
+	/**
+	 * Transforms the vectors stored in the given array, which contains
+	 * the x, y and z components of every vector one after the other.
+	 * Every vector is transformed as in {@link #multiply(Float3)}.
+	 * The destination can be the same array as the source.
+	 * 
+	 * @param vectors The vectors to transform.
+	 * @param dest The array where the transformed vectors are stored.
+	 * 
+	 * @return The given destination array.
+	 * 
+	 * @throws MatrixMathException if the length of the array is not a multiple of 3
+	 * 		or if the destination does not have the same length.
+	 */
+	public float[] transform(float[] vectors, float[] dest) {
+		this.transformRange(vectors, dest, 0, BatchKernels.count(vectors.length, dest.length, 3));
+		return dest;
+	}
+
+	/**
+	 * Transforms the vectors stored in the given array using the threads of the given pool.
+	 * Large batches are split into ranges that are transformed in parallel,
+	 * while small ones are transformed in the calling thread.
+	 * The result is identical to the one of {@link #transform(float[], float[])}.
+	 * 
+	 * @param vectors The vectors to transform.
+	 * @param dest The array where the transformed vectors are stored.
+	 * @param pool The pool used to transform the vectors.
+	 * 
+	 * @return The given destination array.
+	 * 
+	 * @throws MatrixMathException if the length of the array is not a multiple of 3
+	 * 		or if the destination does not have the same length.
+	 * @throws NullPointerException if the given pool is null.
+	 */
+	public float[] transform(float[] vectors, float[] dest, ForkJoinPool pool) {
+		int count = BatchKernels.count(vectors.length, dest.length, 3);
+		Objects.requireNonNull(pool);
+		BatchKernels.parallel(pool, count, (start, end) -> this.transformRange(vectors, dest, start, end));
+		return dest;
+	}
+
+	/**
+	 * Transforms the vectors stored in the given buffer.
+	 * Every vector is transformed as in {@link #multiply(Float3)}.
+	 * The destination can be the same buffer as the source.
+	 * 
+	 * @param vectors The vectors to transform.
+	 * @param dest The buffer where the transformed vectors are stored.
+	 * 
+	 * @return The given destination buffer.
+	 * 
+	 * @throws MatrixMathException if the destination does not have the same size as the source.
+	 */
+	public Float3Buffer transform(Float3Buffer vectors, Float3Buffer dest) {
+		this.transformRange(vectors, dest, 0, BatchKernels.count(vectors.size(), dest.size()));
+		return dest;
+	}
+
+	/**
+	 * Transforms the vectors stored in the given buffer using the threads of the given pool.
+	 * Large batches are split into ranges that are transformed in parallel,
+	 * while small ones are transformed in the calling thread.
+	 * The result is identical to the one of {@link #transform(Float3Buffer, Float3Buffer)}.
+	 * 
+	 * @param vectors The vectors to transform.
+	 * @param dest The buffer where the transformed vectors are stored.
+	 * @param pool The pool used to transform the vectors.
+	 * 
+	 * @return The given destination buffer.
+	 * 
+	 * @throws MatrixMathException if the destination does not have the same size as the source.
+	 * @throws NullPointerException if the given pool is null.
+	 */
+	public Float3Buffer transform(Float3Buffer vectors, Float3Buffer dest, ForkJoinPool pool) {
+		int count = BatchKernels.count(vectors.size(), dest.size());
+		Objects.requireNonNull(pool);
+		BatchKernels.parallel(pool, count, (start, end) -> this.transformRange(vectors, dest, start, end));
+		return dest;
+	}
+
+	/**
+	 * Transforms a range of the vectors stored in the given array.
+	 * 
+	 * @param vectors The vectors to transform.
+	 * @param dest The array where the transformed vectors are stored.
+	 * @param start Index of the first vector, inclusive.
+	 * @param end Index of the last vector, exclusive.
+	 */
+	private void transformRange(float[] vectors, float[] dest, int start, int end) {
+		float m11 = this.m11(), m12 = this.m12(), m13 = this.m13();
+		float m21 = this.m21(), m22 = this.m22(), m23 = this.m23();
+		float m31 = this.m31(), m32 = this.m32(), m33 = this.m33();
+		for(int i = 3 * start; i < 3 * end; i += 3) {
+			float x = vectors[i], y = vectors[i + 1], z = vectors[i + 2];
+			dest[i] = m11 * x + m12 * y + m13 * z;
+			dest[i + 1] = m21 * x + m22 * y + m23 * z;
+			dest[i + 2] = m31 * x + m32 * y + m33 * z;
+		}
+	}
+
+	/**
+	 * Transforms a range of the vectors stored in the given buffer.
+	 * 
+	 * @param vectors The vectors to transform.
+	 * @param dest The buffer where the transformed vectors are stored.
+	 * @param start Index of the first vector, inclusive.
+	 * @param end Index of the last vector, exclusive.
+	 */
+	private void transformRange(Float3Buffer vectors, Float3Buffer dest, int start, int end) {
+		float m11 = this.m11(), m12 = this.m12(), m13 = this.m13();
+		float m21 = this.m21(), m22 = this.m22(), m23 = this.m23();
+		float m31 = this.m31(), m32 = this.m32(), m33 = this.m33();
+		float[] xs = vectors.x(), ys = vectors.y(), zs = vectors.z();
+		float[] xd = dest.x(), yd = dest.y(), zd = dest.z();
+		for(int i = start; i < end; i++) {
+			float x = xs[i], y = ys[i], z = zs[i];
+			xd[i] = m11 * x + m12 * y + m13 * z;
+			yd[i] = m21 * x + m22 * y + m23 * z;
+			zd[i] = m31 * x + m32 * y + m33 * z;
+		}
+	}
+
 	/**
 	 * Casts this matrix to an integer matrix.
 	 * 
@@ -0,0 +1,408 @@
+package io.github.vecmatlib.matrix;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+import io.github.vecmatlib.vector.Float3;
+import io.github.vecmatlib.vector.Float3Buffer;
+
+/**
+ * Record that represents a 3D affine transformation as a 3x4 float matrix.
+ * 
+ * <p> The matrix is a {@link Float4x4} whose implicit last row is {@code 0, 0, 0, 1}.
+ * The upper-left 3x3 matrix is the linear part of the transformation and the last column is
+ * its translation. Since the last row is never stored, this record takes 12 floats instead of 16,
+ * and the composition of two transformations takes 36 multiplications instead of 64.
+ * 
+ * @param m11 The first element of the first row.
+ * @param m12 The second element of the first row.
+ * @param m13 The third element of the first row.
+ * @param m14 The fourth element of the first row.
+ * @param m21 The first element of the second row.
+ * @param m22 The second element of the second row.
+ * @param m23 The third element of the second row.
+ * @param m24 The fourth element of the second row.
+ * @param m31 The first element of the third row.
+ * @param m32 The second element of the third row.
+ * @param m33 The third element of the third row.
+ * @param m34 The fourth element of the third row.
+ * 
+ * @author Nico
+ */
+public record Float3x4(
+	float m11, float m12, float m13, float m14,
+	float m21, float m22, float m23, float m24,
+	float m31, float m32, float m33, float m34
+) {
+
+	/**Shorthand for the affine transformation that does not move any point */
+	public static final Float3x4 IDENTITY = new Float3x4(
+		1.0f, 0.0f, 0.0f, 0.0f,
+		0.0f, 1.0f, 0.0f, 0.0f,
+		0.0f, 0.0f, 1.0f, 0.0f
+	);
+
+	/**
+	 * Creates an affine transformation from the first three rows of the given matrix.
+	 * The last row of the matrix is assumed to be {@code 0, 0, 0, 1} and is not checked.
+	 * 
+	 * @param matrix The matrix that represents an affine transformation.
+	 * 
+	 * @return An affine transformation with the first three rows of the given matrix.
+	 * 
+	 * @throws NullPointerException if the given matrix is null.
+	 */
+	public static Float3x4 fromAffine(Float4x4 matrix) {
+		return new Float3x4(
+			matrix.m11(), matrix.m12(), matrix.m13(), matrix.m14(),
+			matrix.m21(), matrix.m22(), matrix.m23(), matrix.m24(),
+			matrix.m31(), matrix.m32(), matrix.m33(), matrix.m34()
+		);
+	}
+
+	/**
+	 * Creates an affine transformation from its linear part and its translation.
+	 * 
+	 * @param linear The linear part of the transformation.
+	 * @param translation The translation applied after the linear part.
+	 * 
+	 * @return The affine transformation that maps {@code p} to {@code linear * p + translation}.
+	 * 
+	 * @throws NullPointerException if one of the given values is null.
+	 */
+	public static Float3x4 fromLinearAndTranslation(Float3x3 linear, Float3 translation) {
+		return new Float3x4(
+			linear.m11(), linear.m12(), linear.m13(), translation.x(),
+			linear.m21(), linear.m22(), linear.m23(), translation.y(),
+			linear.m31(), linear.m32(), linear.m33(), translation.z()
+		);
+	}
+
+	/**
+	 * Creates a rigid transformation from a rotation and a translation.
+	 * 
+	 * @param rotation The rotation, which must be a unit quaternion.
+	 * @param translation The translation applied after the rotation.
+	 * 
+	 * @return The rigid transformation that rotates points and then translates them.
+	 * 
+	 * @throws NullPointerException if one of the given values is null.
+	 */
+	public static Float3x4 fromRotationAndTranslation(QuaternionF rotation, Float3 translation) {
+		return fromLinearAndTranslation(rotation.toFloat3x3(), translation);
+	}
+
+	/**
+	 * Returns the linear part of this transformation, which is its upper-left 3x3 matrix.
+	 * 
+	 * @return The linear part of this transformation.
+	 */
+	public Float3x3 linear() {
+		return new Float3x3(
+			this.m11(), this.m12(), this.m13(),
+			this.m21(), this.m22(), this.m23(),
+			this.m31(), this.m32(), this.m33()
+		);
+	}
+
+	/**
+	 * Returns the translation of this transformation, which is its last column.
+	 * 
+	 * @return The translation of this transformation.
+	 */
+	public Float3 translation() {
+		return new Float3(this.m14(), this.m24(), this.m34());
+	}
+
+	/**
+	 * Composes this transformation with the given one.
+	 * 
+	 * <p> The result is the product of the two 4x4 matrices, but the implicit last row
+	 * is not computed, which takes 36 multiplications instead of the 64 of {@link Float4x4#multiply(Float4x4)}.
+	 * The given transformation is applied first, as in the product of two matrices.
+	 * 
+	 * @param matrix The transformation to apply before this one.
+	 * 
+	 * @return The composition of the two transformations.
+	 * 
+	 * @throws NullPointerException if the given matrix is null.
+	 */
+	public Float3x4 multiply(Float3x4 matrix) {
+		return new Float3x4(
+			this.m11() * matrix.m11() + this.m12() * matrix.m21() + this.m13() * matrix.m31(),
+			this.m11() * matrix.m12() + this.m12() * matrix.m22() + this.m13() * matrix.m32(),
+			this.m11() * matrix.m13() + this.m12() * matrix.m23() + this.m13() * matrix.m33(),
+			this.m11() * matrix.m14() + this.m12() * matrix.m24() + this.m13() * matrix.m34() + this.m14(),
+			this.m21() * matrix.m11() + this.m22() * matrix.m21() + this.m23() * matrix.m31(),
+			this.m21() * matrix.m12() + this.m22() * matrix.m22() + this.m23() * matrix.m32(),
+			this.m21() * matrix.m13() + this.m22() * matrix.m23() + this.m23() * matrix.m33(),
+			this.m21() * matrix.m14() + this.m22() * matrix.m24() + this.m23() * matrix.m34() + this.m24(),
+			this.m31() * matrix.m11() + this.m32() * matrix.m21() + this.m33() * matrix.m31(),
+			this.m31() * matrix.m12() + this.m32() * matrix.m22() + this.m33() * matrix.m32(),
+			this.m31() * matrix.m13() + this.m32() * matrix.m23() + this.m33() * matrix.m33(),
+			this.m31() * matrix.m14() + this.m32() * matrix.m24() + this.m33() * matrix.m34() + this.m34()
+		);
+	}
+
+	/**
+	 * Transforms the point with the given coordinates by this transformation.
+	 * 
+	 * @param x The x coordinate of the point.
+	 * @param y The y coordinate of the point.
+	 * @param z The z coordinate of the point.
+	 * 
+	 * @return The transformed point.
+	 */
+	public Float3 transformPoint(float x, float y, float z) {
+		return new Float3(
+			this.m11() * x + this.m12() * y + this.m13() * z + this.m14(),
+			this.m21() * x + this.m22() * y + this.m23() * z + this.m24(),
+			this.m31() * x + this.m32() * y + this.m33() * z + this.m34()
+		);
+	}
+
+	/**
+	 * Transforms the given point by this transformation.
+	 * 
+	 * @param point The point to transform.
+	 * 
+	 * @return The transformed point.
+	 */
+	public Float3 transformPoint(Float3 point) {
+		return this.transformPoint(point.x(), point.y(), point.z());
+	}
+
+	/**
+	 * Transforms the direction with the given components by this transformation.
+	 * Directions are only affected by the linear part of the transformation, not by its translation.
+	 * 
+	 * @param x The x component of the direction.
+	 * @param y The y component of the direction.
+	 * @param z The z component of the direction.
+	 * 
+	 * @return The transformed direction.
+	 */
+	public Float3 transformDirection(float x, float y, float z) {
+		return new Float3(
+			this.m11() * x + this.m12() * y + this.m13() * z,
+			this.m21() * x + this.m22() * y + this.m23() * z,
+			this.m31() * x + this.m32() * y + this.m33() * z
+		);
+	}
+
+	/**
+	 * Transforms the given direction by this transformation.
+	 * Directions are only affected by the linear part of the transformation, not by its translation.
+	 * 
+	 * @param direction The direction to transform.
+	 * 
+	 * @return The transformed direction.
+	 */
+	public Float3 transformDirection(Float3 direction) {
+		return this.transformDirection(direction.x(), direction.y(), direction.z());
+	}
+
+	/**
+	 * Computes the determinant of this transformation, which is the determinant of its linear part.
+	 * 
+	 * @return The determinant of this transformation.
+	 */
+	public float determinant() {
+		return this.m11() * (this.m22() * this.m33() - this.m23() * this.m32())
+				+ this.m12() * (this.m23() * this.m31() - this.m21() * this.m33())
+				+ this.m13() * (this.m21() * this.m32() - this.m22() * this.m31());
+	}
+
+	/**
+	 * Computes the inverse of this transformation.
+	 * Only the linear part is inverted, as in {@link Float4x4#invertedAffine()}.
+	 * 
+	 * @return The inverse of this transformation.
+	 * 
+	 * @throws MatrixMathException if the linear part of this transformation has a zero determinant.
+	 */
+	public Float3x4 inverted() {
+		float a11 = this.m22() * this.m33() - this.m23() * this.m32();
+		float a21 = this.m23() * this.m31() - this.m21() * this.m33();
+		float a31 = this.m21() * this.m32() - this.m22() * this.m31();
+		float determinant = this.m11() * a11 + this.m12() * a21 + this.m13() * a31;
+		if(determinant == 0.0f) {
+			throw new MatrixMathException("A matrix must have a non-zero determinant to be inverted");
+		}
+		float k = 1.0f / determinant;
+		float i11 = a11 * k, i12 = (this.m13() * this.m32() - this.m12() * this.m33()) * k, i13 = (this.m12() * this.m23() - this.m13() * this.m22()) * k;
+		float i21 = a21 * k, i22 = (this.m11() * this.m33() - this.m13() * this.m31()) * k, i23 = (this.m13() * this.m21() - this.m11() * this.m23()) * k;
+		float i31 = a31 * k, i32 = (this.m12() * this.m31() - this.m11() * this.m32()) * k, i33 = (this.m11() * this.m22() - this.m12() * this.m21()) * k;
+		return new Float3x4(
+			i11, i12, i13, -(i11 * this.m14() + i12 * this.m24() + i13 * this.m34()),
+			i21, i22, i23, -(i21 * this.m14() + i22 * this.m24() + i23 * this.m34()),
+			i31, i32, i33, -(i31 * this.m14() + i32 * this.m24() + i33 * this.m34())
+		);
+	}
+
+	/**
+	 * Computes the inverse of this transformation assuming that it is a rigid transformation,
+	 * meaning that its linear part is a rotation. The inverse of the rotation is its transpose,
+	 * so no division is needed. The assumption is not checked.
+	 * 
+	 * @return The inverse of this rigid transformation.
+	 */
+	public Float3x4 invertedRigid() {
+		return new Float3x4(
+			this.m11(), this.m21(), this.m31(), -(this.m11() * this.m14() + this.m21() * this.m24() + this.m31() * this.m34()),
+			this.m12(), this.m22(), this.m32(), -(this.m12() * this.m14() + this.m22() * this.m24() + this.m32() * this.m34()),
+			this.m13(), this.m23(), this.m33(), -(this.m13() * this.m14() + this.m23() * this.m24() + this.m33() * this.m34())
+		);
+	}
+
+	/**
+	 * Transforms the points stored in the given array, which contains
+	 * the x, y and z coordinates of every point one after the other.
+	 * Every point is transformed as in {@link #transformPoint(float, float, float)}.
+	 * The destination can be the same array as the source.
+	 * 
+	 * @param points The points to transform.
+	 * @param dest The array where the transformed points are stored.
+	 * 
+	 * @return The given destination array.
+	 * 
+	 * @throws MatrixMathException if the length of the array is not a multiple of 3
+	 * 		or if the destination does not have the same length.
+	 */
+	public float[] transformPoints(float[] points, float[] dest) {
+		this.transformPointsRange(points, dest, 0, BatchKernels.count(points.length, dest.length, 3));
+		return dest;
+	}
+
+	/**
+	 * Transforms the points stored in the given array using the threads of the given pool.
+	 * Large batches are split into ranges that are transformed in parallel,
+	 * while small ones are transformed in the calling thread.
+	 * The result is identical to the one of {@link #transformPoints(float[], float[])}.
+	 * 
+	 * @param points The points to transform.
+	 * @param dest The array where the transformed points are stored.
+	 * @param pool The pool used to transform the points.
+	 * 
+	 * @return The given destination array.
+	 * 
+	 * @throws MatrixMathException if the length of the array is not a multiple of 3
+	 * 		or if the destination does not have the same length.
+	 * @throws NullPointerException if the given pool is null.
+	 */
+	public float[] transformPoints(float[] points, float[] dest, ForkJoinPool pool) {
+		int count = BatchKernels.count(points.length, dest.length, 3);
+		Objects.requireNonNull(pool);
+		BatchKernels.parallel(pool, count, (start, end) -> this.transformPointsRange(points, dest, start, end));
+		return dest;
+	}
+
+	/**
+	 * Transforms the points stored in the given buffer.
+	 * Every point is transformed as in {@link #transformPoint(float, float, float)}.
+	 * The destination can be the same buffer as the source.
+	 * 
+	 * @param points The points to transform.
+	 * @param dest The buffer where the transformed points are stored.
+	 * 
+	 * @return The given destination buffer.
+	 * 
+	 * @throws MatrixMathException if the destination does not have the same size as the source.
+	 */
+	public Float3Buffer transformPoints(Float3Buffer points, Float3Buffer dest) {
+		this.transformPointsRange(points, dest, 0, BatchKernels.count(points.size(), dest.size()));
+		return dest;
+	}
+
+	/**
+	 * Transforms the points stored in the given buffer using the threads of the given pool.
+	 * Large batches are split into ranges that are transformed in parallel,
+	 * while small ones are transformed in the calling thread.
+	 * The result is identical to the one of {@link #transformPoints(Float3Buffer, Float3Buffer)}.
+	 * 
+	 * @param points The points to transform.
+	 * @param dest The buffer where the transformed points are stored.
+	 * @param pool The pool used to transform the points.
+	 * 
+	 * @return The given destination buffer.
+	 * 
+	 * @throws MatrixMathException if the destination does not have the same size as the source.
+	 * @throws NullPointerException if the given pool is null.
+	 */
+	public Float3Buffer transformPoints(Float3Buffer points, Float3Buffer dest, ForkJoinPool pool) {
+		int count = BatchKernels.count(points.size(), dest.size());
+		Objects.requireNonNull(pool);
+		BatchKernels.parallel(pool, count, (start, end) -> this.transformPointsRange(points, dest, start, end));
+		return dest;
+	}
+
+	/**
+	 * Transforms a range of the points stored in the given array.
+	 * 
+	 * @param points The points to transform.
+	 * @param dest The array where the transformed points are stored.
+	 * @param start Index of the first point, inclusive.
+	 * @param end Index of the last point, exclusive.
+	 */
+	private void transformPointsRange(float[] points, float[] dest, int start, int end) {
+		float m11 = this.m11(), m12 = this.m12(), m13 = this.m13(), m14 = this.m14();
+		float m21 = this.m21(), m22 = this.m22(), m23 = this.m23(), m24 = this.m24();
+		float m31 = this.m31(), m32 = this.m32(), m33 = this.m33(), m34 = this.m34();
+		for(int i = 3 * start; i < 3 * end; i += 3) {
+			float x = points[i], y = points[i + 1], z = points[i + 2];
+			dest[i] = m11 * x + m12 * y + m13 * z + m14;
+			dest[i + 1] = m21 * x + m22 * y + m23 * z + m24;
+			dest[i + 2] = m31 * x + m32 * y + m33 * z + m34;
+		}
+	}
+
+	/**
+	 * Transforms a range of the points stored in the given buffer.
+	 * 
+	 * @param points The points to transform.
+	 * @param dest The buffer where the transformed points are stored.
+	 * @param start Index of the first point, inclusive.
+	 * @param end Index of the last point, exclusive.
+	 */
+	private void transformPointsRange(Float3Buffer points, Float3Buffer dest, int start, int end) {
+		float m11 = this.m11(), m12 = this.m12(), m13 = this.m13(), m14 = this.m14();
+		float m21 = this.m21(), m22 = this.m22(), m23 = this.m23(), m24 = this.m24();
+		float m31 = this.m31(), m32 = this.m32(), m33 = this.m33(), m34 = this.m34();
+		float[] xs = points.x(), ys = points.y(), zs = points.z();
+		float[] xd = dest.x(), yd = dest.y(), zd = dest.z();
+		for(int i = start; i < end; i++) {
+			float x = xs[i], y = ys[i], z = zs[i];
+			xd[i] = m11 * x + m12 * y + m13 * z + m14;
+			yd[i] = m21 * x + m22 * y + m23 * z + m24;
+			zd[i] = m31 * x + m32 * y + m33 * z + m34;
+		}
+	}
+
+	/**
+	 * Converts this transformation to a 4x4 matrix whose last row is {@code 0, 0, 0, 1}.
+	 * The conversion is lossless, {@link #fromAffine(Float4x4)} gives back this transformation.
+	 * 
+	 * @return The 4x4 matrix that represents this transformation.
+	 */
+	public Float4x4 toFloat4x4() {
+		return new Float4x4(
+			this.m11(), this.m12(), this.m13(), this.m14(),
+			this.m21(), this.m22(), this.m23(), this.m24(),
+			this.m31(), this.m32(), this.m33(), this.m34(),
+			0.0f, 0.0f, 0.0f, 1.0f
+		);
+	}
+
+	/**
+	 * Converts this transformation to a double transformation.
+	 * 
+	 * @return A transformation with the same elements as this one.
+	 */
+	public Double3x4 asDouble() {
+		return new Double3x4(
+			this.m11(), this.m12(), this.m13(), this.m14(),
+			this.m21(), this.m22(), this.m23(), this.m24(),
+			this.m31(), this.m32(), this.m33(), this.m34()
+		);
+	}
+}
@@ -1,17 +1,26 @@
 package io.github.vecmatlib.matrix;
 
 import java.util.Arrays;
-import java.util.function.BiFunction;
-import java.util.function.UnaryOperator;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 import io.github.vecmatlib.vector.FloatVector;
-import io.github.vecmatlib.vector.VectorMathException;
+import io.github.vecmatlib.vector.Summation;
 
 /**
  * Class that represents an NxM float matrix.
  * 
+ * <p> The elements of the matrix are stored in a single flat array
+ * in row-major order. The element at row r and column c is stored
+ * at index {@code r * columns + c}, meaning that the stride between
+ * two consecutive rows is equal to the number of columns.
+ * 
+ * <p> Operations return a new matrix and do not modify the matrices
+ * on which they are invoked. The overloads that take a destination matrix,
+ * {@link #scaleInPlace(float)} and {@link #axpy(float, FloatMatrix)} are the only
+ * operations that modify an existing matrix and can be used to write
+ * loops that do not allocate any object.
+ * 
  * @author Nico
  */
 public class FloatMatrix implements MatrixFloatOperations<FloatMatrix, FloatVector> {
@@ -29,7 +38,7 @@ public class FloatMatrix implements MatrixFloatOperations<FloatMatrix, FloatVect
 	 * @throws MatrixMathException if the given number of rows or columns is zero.
 	 */
 	public static FloatMatrix zero(int rows, int columns) {
-		return new FloatMatrix(new Float[rows][columns]);
+		return new FloatMatrix(rows, columns, new float[rows * columns]);
 	}
 
 	/**
@@ -43,27 +52,113 @@ public class FloatMatrix implements MatrixFloatOperations<FloatMatrix, FloatVect
 	 * @throws MatrixMathException if the given size is not greater than zero.
 	 */
 	public static FloatMatrix identity(int size) {
-		return new FloatMatrix(IntStream.range(0, size).mapToObj(i -> IntStream.range(0, size).mapToObj(j -> j == i ? 1.0f : 0.0f).toArray(Float[]::new)).toArray(Float[][]::new));
+		if(size <= 0)
+			throw new MatrixMathException("A matrix cannot be empty");
+		float[] values = new float[size * size];
+		for(int i = 0; i < size; i++) {
+			values[i * size + i] = 1.0f;
+		}
+		return new FloatMatrix(size, size, values);
 	}
 
-	/**Elements of the matrix */
-	private final Float[][] values;
+	/**Number of rows of the matrix */
+	private final int rows;
+	/**Number of columns of the matrix, which is also the stride between two rows */
+	private final int columns;
+	/**Elements of the matrix in row-major order */
+	private final float[] values;
 
 	/**
 	 * Creates a matrix with the values in the given array.
 	 * 
+	 * <p> The values in the given array are copied into the internal
+	 * storage of the matrix. Subsequent changes to the given array
+	 * will not affect the matrix.
+	 * 
+	 * @param values Values in the matrix.
+	 * 
+	 * @throws MatrixMathException if the given array is null or has length 0
+	 * 		or if any of the rows is null or if not all the rows have the same length.
+	 */
+	public FloatMatrix(float[][] values) {
+		if(values == null || values.length == 0)
+			throw new MatrixMathException("A matrix cannot be null or empty");
+		if(values[0] == null)
+			throw new MatrixMathException("A matrix cannot contain null rows");
+		if(values[0].length == 0)
+			throw new MatrixMathException("A matrix cannot be empty");
+		this.rows = values.length;
+		this.columns = values[0].length;
+		this.values = new float[this.rows * this.columns];
+		for(int r = 0; r < this.rows; r++) {
+			if(values[r] == null)
+				throw new MatrixMathException("A matrix cannot contain null rows");
+			if(values[r].length != this.columns)
+				throw new MatrixMathException("All rows of a matrix must have the same length");
+			System.arraycopy(values[r], 0, this.values, r * this.columns, this.columns);
+		}
+	}
+
+	/**
+	 * Creates a matrix with the values in the given array of boxed values.
+	 * 
+	 * <p> The values in the given array are unboxed and copied into the
+	 * internal storage of the matrix. Subsequent changes to the given array
+	 * will not affect the matrix. Prefer {@link #FloatMatrix(float[][])}
+	 * when the values are already available as primitives.
+	 * 
 	 * @param values Values in the matrix.
 	 * 
 	 * @throws MatrixMathException if the given array is null or has length 0
 	 * 		or if any of the rows is null or if not all the rows have the same length.
+	 * @throws NullPointerException if any of the values is null.
 	 */
 	public FloatMatrix(Float[][] values) {
 		if(values == null || values.length == 0)
 			throw new MatrixMathException("A matrix cannot be null or empty");
-		if(Arrays.stream(values).filter(i -> i == null).count() != 0)
+		if(values[0] == null)
 			throw new MatrixMathException("A matrix cannot contain null rows");
-		if(Arrays.stream(values).mapToInt(i -> i.length).distinct().count() != 1)
-			throw new MatrixMathException("All rows of a matrix must have the same length");
+		if(values[0].length == 0)
+			throw new MatrixMathException("A matrix cannot be empty");
+		this.rows = values.length;
+		this.columns = values[0].length;
+		this.values = new float[this.rows * this.columns];
+		for(int r = 0; r < this.rows; r++) {
+			if(values[r] == null)
+				throw new MatrixMathException("A matrix cannot contain null rows");
+			if(values[r].length != this.columns)
+				throw new MatrixMathException("All rows of a matrix must have the same length");
+			for(int c = 0; c < this.columns; c++) {
+				this.values[r * this.columns + c] = values[r][c];
+			}
+		}
+	}
+
+	/**
+	 * Creates a matrix with the given number of rows and columns
+	 * whose elements are the ones in the given array in row-major order.
+	 * 
+	 * <p> The given array is used as the internal storage of the matrix
+	 * and is not copied. This allows the creation of a matrix without
+	 * any additional allocation.
+	 * 
+	 * @param rows Number of rows of the matrix.
+	 * @param columns Number of columns of the matrix.
+	 * @param values Elements of the matrix in row-major order.
+	 * 
+	 * @throws MatrixMathException if the given number of rows or columns is
+	 * 		not greater than zero, if the given array is null, or if its length
+	 * 		is not equal to {@code rows * columns}.
+	 */
+	public FloatMatrix(int rows, int columns, float... values) {
+		if(rows <= 0 || columns <= 0)
+			throw new MatrixMathException("A matrix cannot be empty");
+		if(values == null)
+			throw new MatrixMathException("A matrix cannot be null");
+		if(values.length != (long) rows * columns)
+			throw new MatrixMathException("The number of elements does not match the size of the matrix");
+		this.rows = rows;
+		this.columns = columns;
 		this.values = values;
 	}
 
@@ -73,7 +168,7 @@ public class FloatMatrix implements MatrixFloatOperations<FloatMatrix, FloatVect
 	 * @return The number of rows of this matrix.
 	 */
 	public int rows() {
-		return this.values.length;
+		return this.rows;
 	}
 
 	/**
@@ -82,7 +177,7 @@ public class FloatMatrix implements MatrixFloatOperations<FloatMatrix, FloatVect
 	 * @return The number of columns of this matrix.
 	 */
 	public int columns() {
-		return this.values[0].length;
+		return this.columns;
 	}
 
 	/**
@@ -97,31 +192,168 @@ public class FloatMatrix implements MatrixFloatOperations<FloatMatrix, FloatVect
 	 * 		or greater than the matrix's size.
 	 */
 	public float element(int row, int column) {
-		if(row < 0 || row >= this.rows())
+		if(row < 0 || row >= this.rows)
 			throw new IndexOutOfBoundsException("Row index out of bounds");
-		if(column < 0 || column >= this.columns())
+		if(column < 0 || column >= this.columns)
 			throw new IndexOutOfBoundsException("Column index out of bounds");
-		return this.values[row][column];
+		return this.values[row * this.columns + column];
 	}
 
 	@Override
 	public FloatMatrix plus(FloatMatrix matrix) {
-		return this.applyOperation(matrix.rows(), matrix.columns(), (r, c) -> this.values[r][c] + matrix.values[r][c]);
+		this.checkSize(matrix);
+		float[] result = new float[this.values.length];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = this.values[i] + matrix.values[i];
+		}
+		return new FloatMatrix(this.rows, this.columns, result);
 	}
 
 	@Override
 	public FloatMatrix negative() {
-		return this.applyOperation(m -> -m);
+		float[] result = new float[this.values.length];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = -this.values[i];
+		}
+		return new FloatMatrix(this.rows, this.columns, result);
 	}
 
 	@Override
 	public FloatMatrix minus(FloatMatrix matrix) {
-		return this.applyOperation(matrix.rows(), matrix.columns(), (r, c) -> this.values[r][c] - matrix.values[r][c]);
+		this.checkSize(matrix);
+		float[] result = new float[this.values.length];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = this.values[i] - matrix.values[i];
+		}
+		return new FloatMatrix(this.rows, this.columns, result);
 	}
 
 	@Override
 	public FloatMatrix multipliedBy(float k) {
-		return this.applyOperation(m -> m * k);
+		float[] result = new float[this.values.length];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = this.values[i] * k;
+		}
+		return new FloatMatrix(this.rows, this.columns, result);
+	}
+
+	/**
+	 * Adds the given matrix to this one and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #plus(FloatMatrix)}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and may be this matrix or the given one.
+	 * 
+	 * @param matrix The second operand of the sum.
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrices are not the same size as this one.
+	 */
+	public FloatMatrix plus(FloatMatrix matrix, FloatMatrix dest) {
+		this.checkSize(matrix);
+		this.checkSize(dest);
+		for(int i = 0; i < this.values.length; i++) {
+			dest.values[i] = this.values[i] + matrix.values[i];
+		}
+		return dest;
+	}
+
+	/**
+	 * Negates this matrix and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #negative()}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and may be this matrix.
+	 * 
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrix is not the same size as this one.
+	 */
+	public FloatMatrix negative(FloatMatrix dest) {
+		this.checkSize(dest);
+		for(int i = 0; i < this.values.length; i++) {
+			dest.values[i] = -this.values[i];
+		}
+		return dest;
+	}
+
+	/**
+	 * Subtracts the given matrix from this one and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #minus(FloatMatrix)}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and may be this matrix or the given one.
+	 * 
+	 * @param matrix The second operand of the subtraction.
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrices are not the same size as this one.
+	 */
+	public FloatMatrix minus(FloatMatrix matrix, FloatMatrix dest) {
+		this.checkSize(matrix);
+		this.checkSize(dest);
+		for(int i = 0; i < this.values.length; i++) {
+			dest.values[i] = this.values[i] - matrix.values[i];
+		}
+		return dest;
+	}
+
+	/**
+	 * Multiplies this matrix by the given scalar and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #multipliedBy(float)}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and may be this matrix.
+	 * 
+	 * @param k The scalar.
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrix is not the same size as this one.
+	 */
+	public FloatMatrix multipliedBy(float k, FloatMatrix dest) {
+		this.checkSize(dest);
+		for(int i = 0; i < this.values.length; i++) {
+			dest.values[i] = this.values[i] * k;
+		}
+		return dest;
+	}
+
+	/**
+	 * Multiplies this matrix by the given scalar, modifying this matrix.
+	 * 
+	 * @param k The scalar.
+	 * 
+	 * @return This matrix.
+	 */
+	public FloatMatrix scaleInPlace(float k) {
+		for(int i = 0; i < this.values.length; i++) {
+			this.values[i] *= k;
+		}
+		return this;
+	}
+
+	/**
+	 * Adds the given matrix multiplied by the given scalar to this matrix,
+	 * modifying this matrix. This is the {@code Y = alpha * X + Y} operation
+	 * used by iterative algorithms.
+	 * 
+	 * @param alpha The scalar.
+	 * @param x The matrix multiplied by the scalar.
+	 * 
+	 * @return This matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrix is not the same size as this one.
+	 */
+	public FloatMatrix axpy(float alpha, FloatMatrix x) {
+		this.checkSize(x);
+		for(int i = 0; i < this.values.length; i++) {
+			this.values[i] += alpha * x.values[i];
+		}
+		return this;
 	}
 
 	/**
@@ -135,8 +367,8 @@ public class FloatMatrix implements MatrixFloatOperations<FloatMatrix, FloatVect
 	 * 		or greater than the matrix's size.
 	 */
 	public FloatVector row(int row) {
-		if(row >= 0 && row < this.rows()) {
-			return new FloatVector(this.values[row]);
+		if(row >= 0 && row < this.rows) {
+			return new FloatVector(Arrays.copyOfRange(this.values, row * this.columns, (row + 1) * this.columns));
 		} else {
 			throw new IndexOutOfBoundsException("Row index out of bounds");
 		}
@@ -153,8 +385,12 @@ public class FloatMatrix implements MatrixFloatOperations<FloatMatrix, FloatVect
 	 * 		or greater than the matrix's size.
 	 */
 	public FloatVector column(int column) {
-		if(column >= 0 && column < this.columns()) {
-			return new FloatVector(Arrays.stream(this.values).map(v -> v[column]).toArray(Float[]::new));
+		if(column >= 0 && column < this.columns) {
+			float[] result = new float[this.rows];
+			for(int r = 0; r < this.rows; r++) {
+				result[r] = this.values[r * this.columns + column];
+			}
+			return new FloatVector(result);
 		} else {
 			throw new IndexOutOfBoundsException("Column index out of bounds");
 		}
@@ -162,26 +398,191 @@ public class FloatMatrix implements MatrixFloatOperations<FloatMatrix, FloatVect
 
 	@Override
 	public FloatVector multiply(FloatVector vector) {
-		try {
-			return new FloatVector(IntStream.range(0, this.rows()).mapToObj(i -> this.row(i).dotProduct(vector)).toArray(Float[]::new));
-		} catch(VectorMathException e) {
-			throw new MatrixMathException("The given vector's size does not match the matrix's number of columns", e);
+		if(vector.size() != this.columns)
+			throw new MatrixMathException("The given vector's size does not match the matrix's number of columns");
+		float[] result = new float[this.rows];
+		for(int r = 0; r < this.rows; r++) {
+			int offset = r * this.columns;
+			float sum = 0.0f;
+			for(int c = 0; c < this.columns; c++) {
+				sum += this.values[offset + c] * vector.element(c);
+			}
+			result[r] = sum;
+		}
+		return new FloatVector(result);
+	}
+
+	/**
+	 * Computes the product between this matrix and the given vector
+	 * adding the terms of every element with the given summation mode.
+	 * 
+	 * @param vector The second operand of the product.
+	 * @param summation The algorithm used to add the terms.
+	 * 
+	 * @return The result of the product between this matrix and the given vector.
+	 * 
+	 * @throws MatrixMathException If the size of the vector does not match the
+	 * 		number of columns of this matrix.
+	 * @throws NullPointerException if the given vector or the given summation mode are null.
+	 */
+	public FloatVector multiply(FloatVector vector, Summation summation) {
+		if(vector.size() != this.columns)
+			throw new MatrixMathException("The given vector's size does not match the matrix's number of columns");
+		Objects.requireNonNull(summation);
+		float[] x = new float[this.columns];
+		for(int c = 0; c < x.length; c++) {
+			x[c] = vector.element(c);
 		}
+		float[] result = new float[this.rows];
+		for(int r = 0; r < this.rows; r++) {
+			result[r] = (float) summation.dot(this.values, r * this.columns, x, 0, this.columns);
+		}
+		return new FloatVector(result);
 	}
 
 	@Override
 	public FloatMatrix transposed() {
-		return this.applyOperation((r, c) -> this.values[c][r]);
+		return new FloatMatrix(this.columns, this.rows, this.transposedValues(false));
 	}
 
 	@Override
 	public FloatMatrix negativeTransposed() {
-		return this.applyOperation((r, c) -> -this.values[c][r]);
+		return new FloatMatrix(this.columns, this.rows, this.transposedValues(true));
+	}
+
+	@Override
+	public boolean isSymmetric() {
+		if(this.rows != this.columns)
+			return false;
+		for(int r = 0; r < this.rows; r++) {
+			for(int c = r + 1; c < this.columns; c++) {
+				if(this.values[r * this.columns + c] != this.values[c * this.columns + r])
+					return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean isSkewSymmetric() {
+		if(this.rows != this.columns)
+			return false;
+		for(int r = 0; r < this.rows; r++) {
+			for(int c = r; c < this.columns; c++) {
+				if(this.values[r * this.columns + c] != -this.values[c * this.columns + r])
+					return false;
+			}
+		}
+		return true;
 	}
 
 	@Override
 	public FloatMatrix multiply(FloatMatrix matrix) {
-		return this.applyOperation(matrix.rows(), matrix.columns(), (r, c) -> this.row(r).dotProduct(matrix.column(c)));
+		if(this.columns != matrix.rows)
+			throw new MatrixMathException("The number of columns of this matrix does not match the number of rows of the given matrix");
+		float[] result = new float[this.rows * matrix.columns];
+		MatrixKernels.multiply(this.values, matrix.values, result, this.rows, this.columns, matrix.columns);
+		return new FloatMatrix(this.rows, matrix.columns, result);
+	}
+
+	/**
+	 * Multiplies this matrix by the given one and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #multiply(FloatMatrix)}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and cannot be one of the operands.
+	 * 
+	 * @param matrix The second operand of the product.
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException If the number of columns of this matrix does not match the number
+	 * 		of rows of the given matrix, if the destination matrix does not have as many rows as this
+	 * 		matrix and as many columns as the given matrix, or if it shares its elements with an operand.
+	 */
+	public FloatMatrix multiplyInto(FloatMatrix matrix, FloatMatrix dest) {
+		if(this.columns != matrix.rows)
+			throw new MatrixMathException("The number of columns of this matrix does not match the number of rows of the given matrix");
+		if(dest.rows != this.rows || dest.columns != matrix.columns)
+			throw new MatrixMathException("The destination matrix does not have the size of the result");
+		if(dest.values == this.values || dest.values == matrix.values)
+			throw new MatrixMathException("The destination matrix cannot be one of the operands");
+		Arrays.fill(dest.values, 0.0f);
+		MatrixKernels.multiply(this.values, matrix.values, dest.values, this.rows, this.columns, matrix.columns);
+		return dest;
+	}
+
+	/**
+	 * Multiplies this matrix by the given one using the common fork/join pool.
+	 * See {@link #parallelMultiply(FloatMatrix, ForkJoinPool)}.
+	 * 
+	 * @param matrix The second operand of the product.
+	 * 
+	 * @return The product of this matrix and the given one.
+	 * 
+	 * @throws MatrixMathException If the number of columns of this matrix does not
+	 * 		match the number of rows of the given matrix.
+	 * @throws NullPointerException if the given matrix is null.
+	 */
+	public FloatMatrix parallelMultiply(FloatMatrix matrix) {
+		return this.parallelMultiply(matrix, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Multiplies this matrix by the given one using the threads of the given pool.
+	 * 
+	 * <p> The result is recursively split into tiles that are computed in parallel.
+	 * Small products are computed sequentially in the calling thread.
+	 * 
+	 * <p> Every element of the result is computed by a single thread in the same
+	 * order used by {@link #multiply(FloatMatrix)}, therefore the result is identical
+	 * to the one of the sequential product regardless of the number of threads.
+	 * 
+	 * @param matrix The second operand of the product.
+	 * @param pool The pool used to compute the product.
+	 * 
+	 * @return The product of this matrix and the given one.
+	 * 
+	 * @throws MatrixMathException If the number of columns of this matrix does not
+	 * 		match the number of rows of the given matrix.
+	 * @throws NullPointerException if the given matrix or the given pool are null.
+	 */
+	public FloatMatrix parallelMultiply(FloatMatrix matrix, ForkJoinPool pool) {
+		if(this.columns != matrix.rows)
+			throw new MatrixMathException("The number of columns of this matrix does not match the number of rows of the given matrix");
+		Objects.requireNonNull(pool);
+		float[] result = new float[this.rows * matrix.columns];
+		MatrixKernels.parallel(pool, this.rows, this.columns, matrix.columns, (rowStart, rowEnd, columnStart, columnEnd) -> {
+			MatrixKernels.multiply(this.values, matrix.values, result, this.columns, matrix.columns, rowStart, rowEnd, columnStart, columnEnd);
+		});
+		return new FloatMatrix(this.rows, matrix.columns, result);
+	}
+
+	/**
+	 * Multiplies this matrix by the given one using the given number of threads.
+	 * See {@link #parallelMultiply(FloatMatrix, ForkJoinPool)}.
+	 * 
+	 * <p> A new pool is created for the computation and shut down when the
+	 * product is complete. Callers that compute many products should prefer
+	 * passing their own pool.
+	 * 
+	 * @param matrix The second operand of the product.
+	 * @param parallelism Number of threads used to compute the product.
+	 * 
+	 * @return The product of this matrix and the given one.
+	 * 
+	 * @throws MatrixMathException If the number of columns of this matrix does not
+	 * 		match the number of rows of the given matrix.
+	 * @throws IllegalArgumentException if the given parallelism is not greater than zero.
+	 * @throws NullPointerException if the given matrix is null.
+	 */
+	public FloatMatrix parallelMultiply(FloatMatrix matrix, int parallelism) {
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			return this.parallelMultiply(matrix, pool);
+		} finally {
+			pool.shutdown();
+		}
 	}
 
 	@Override
@@ -193,105 +594,138 @@ public class FloatMatrix implements MatrixFloatOperations<FloatMatrix, FloatVect
 		} else if(exponent == 0) {
 			return identity(this.rows());
 		} else {
-			FloatMatrix result = this;
-			for(int i = 1; i < exponent; i++) {
-				result = result.multiply(this);
+			int size = this.rows;
+			float[] result = this.values.clone();
+			float[] scratch = new float[result.length];
+			for(int bit = Integer.highestOneBit(exponent) >> 1; bit > 0; bit >>= 1) {
+				Arrays.fill(scratch, 0.0f);
+				MatrixKernels.multiply(result, result, scratch, size, size, size);
+				float[] swap = result;
+				result = scratch;
+				scratch = swap;
+				if((exponent & bit) != 0) {
+					Arrays.fill(scratch, 0.0f);
+					MatrixKernels.multiply(result, this.values, scratch, size, size, size);
+					swap = result;
+					result = scratch;
+					scratch = swap;
+				}
 			}
-			return result;
+			return new FloatMatrix(size, size, result);
 		}
 	}
 
 	/**
-	 * Applies the given function to each element of this matrix.
-	 * Used when operating with two matrices.
-	 * 
-	 * @param rows Number of rows of the resulting matrix.
-	 * @param columns Number of columns of the resulting matrix.
-	 * @param operator Function to apply to each element.
+	 * Computes the LU decomposition with partial pivoting of this matrix.
+	 * The returned object can be reused to compute the determinant or the
+	 * inverse of this matrix and to solve linear systems with it.
 	 * 
-	 * @return The result matrix.
+	 * @return The LU decomposition of this matrix.
 	 * 
-	 * @throws MatrixMathException if the given size is different from the size of this matrix.
+	 * @throws MatrixMathException if this matrix is not square.
 	 */
-	private FloatMatrix applyOperation(int rows, int columns, BiFunction<Integer, Integer, Float> operator) {
-		return new FloatMatrix(this.mapEach(rows, columns, operator).map(Stream::toArray).toArray(Float[][]::new));
+	public FloatLUDecomposition lu() {
+		if(this.rows() != this.columns()) {
+			throw new MatrixMathException("A matrix must be square to be decomposed");
+		}
+		return new FloatLUDecomposition(this.rows, this.toRowMajorArray());
 	}
 
 	/**
-	 * Maps each element of this matrix to a new value using the given operator.
-	 * Used when operating with two matrices.
-	 * 
-	 * @param rows Number of rows of the resulting matrix.
-	 * @param columns Number of columns of the resulting matrix.
-	 * @param operator Operator to apply to each element.
+	 * Computes the determinant of this matrix from its LU decomposition.
 	 * 
-	 * @return A stream of streams representing the result.
+	 * @return The determinant of this matrix.
 	 * 
-	 * @throws MatrixMathException if the given size is different from the size of this matrix.
+	 * @throws MatrixMathException if this matrix is not square.
 	 */
-	private Stream<Stream<Float>> mapEach(int rows, int columns, BiFunction<Integer, Integer, Float> operator) {
-		if(rows == this.rows() && columns == this.columns()) {
-			return IntStream.range(0, rows).mapToObj(r -> IntStream.range(0, columns).mapToObj(c -> operator.apply(r, c)));
-		} else {
-			throw new MatrixMathException("The given matrix has a different size than this matrix");
-		}
+	public float determinant() {
+		return this.lu().determinant();
 	}
 
 	/**
-	 * Applies the given function to each element of this matrix.
-	 * Used when operating with a single matrix.
+	 * Computes the inverse of this matrix from its LU decomposition.
 	 * 
-	 * @param operator Operator to apply to each element.
+	 * @return The inverse of this matrix.
 	 * 
-	 * @return The result matrix.
+	 * @throws MatrixMathException if this matrix is not square or if it is singular.
 	 */
-	private FloatMatrix applyOperation(UnaryOperator<Float> operator) {
-		return new FloatMatrix(this.mapEach(operator).map(Stream::toArray).toArray(Float[][]::new));
+	public FloatMatrix inverted() {
+		return this.lu().inverse();
 	}
 
 	/**
-	 * Maps each element of this matrix to a new value using the given operator.
-	 * Used when operating with a single matrix.
+	 * Copies the elements of this matrix into a new two-dimensional array.
 	 * 
-	 * @param operator Operator to apply to each element.
+	 * @return A new array containing the rows of this matrix.
+	 */
+	public float[][] toArray() {
+		float[][] result = new float[this.rows][];
+		for(int r = 0; r < this.rows; r++) {
+			result[r] = Arrays.copyOfRange(this.values, r * this.columns, (r + 1) * this.columns);
+		}
+		return result;
+	}
+
+	/**
+	 * Copies the elements of this matrix into a new flat array in row-major order.
 	 * 
-	 * @return A stream of streams representing the result.
+	 * @return A new array containing the elements of this matrix in row-major order.
 	 */
-	private Stream<Stream<Float>> mapEach(UnaryOperator<Float> operator) {
-		return Arrays.stream(this.values).map(i -> Arrays.stream(i).map(operator));
+	public float[] toRowMajorArray() {
+		return this.values.clone();
 	}
 
 	/**
-	 * Applies the given function to each element of this matrix.
-	 * Used when operating with a single matrix.
+	 * Checks if the given matrix has the same size as this one.
 	 * 
-	 * @param operator Operator to apply to each element.
+	 * @param matrix The matrix to check.
 	 * 
-	 * @return The result matrix.
+	 * @throws MatrixMathException if the given matrix has a different size than this matrix.
 	 */
-	private FloatMatrix applyOperation(BiFunction<Integer, Integer, Float> operator) {
-		return new FloatMatrix(this.mapEach(operator).map(Stream::toArray).toArray(Float[][]::new));
+	private void checkSize(FloatMatrix matrix) {
+		if(matrix.rows != this.rows || matrix.columns != this.columns)
+			throw new MatrixMathException("The given matrix has a different size than this matrix");
 	}
 
 	/**
-	 * Maps each element of this matrix to a new value using the given operator.
-	 * Used when operating with a single matrix.
+	 * Computes the elements of the transposed of this matrix.
+	 * The matrix is traversed in square blocks so that both the
+	 * source and the destination are accessed in a cache-friendly way.
 	 * 
-	 * @param operator Operator to apply to each element.
+	 * @param negate Whether the elements should also be negated.
 	 * 
-	 * @return A stream of streams representing the result.
+	 * @return The elements of the transposed matrix in row-major order.
 	 */
-	private Stream<Stream<Float>> mapEach(BiFunction<Integer, Integer, Float> operator) {
-		return IntStream.range(0, this.rows()).mapToObj(r -> IntStream.range(0, this.columns()).mapToObj(c -> operator.apply(r, c)));
+	private float[] transposedValues(boolean negate) {
+		final int block = 32;
+		float sign = negate ? -1.0f : 1.0f;
+		float[] result = new float[this.values.length];
+		for(int r0 = 0; r0 < this.rows; r0 += block) {
+			int r1 = Math.min(r0 + block, this.rows);
+			for(int c0 = 0; c0 < this.columns; c0 += block) {
+				int c1 = Math.min(c0 + block, this.columns);
+				for(int r = r0; r < r1; r++) {
+					for(int c = c0; c < c1; c++) {
+						result[c * this.rows + r] = sign * this.values[r * this.columns + c];
+					}
+				}
+			}
+		}
+		return result;
 	}
 
 	@Override
 	public String toString() {
-		return "FloatMatrix" + this.rows() + "x" + this.columns() + Arrays.deepToString(this.values);
+		return "FloatMatrix" + this.rows() + "x" + this.columns() + Arrays.deepToString(this.toArray());
 	}
 
 	@Override
 	public boolean equals(Object obj) {
-		return obj instanceof FloatMatrix that && Arrays.deepEquals(this.values, that.values);
+		return obj instanceof FloatMatrix that && this.rows == that.rows && this.columns == that.columns && Arrays.equals(this.values, that.values);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 * this.rows + this.columns) + Arrays.hashCode(this.values);
 	}
 }
@@ -170,10 +170,165 @@ public record Int3x3(
 		} else if(exponent == 0) {
 			return IDENTITY;
 		} else {
-			return this.multiply(this.power(exponent - 1));
+			Int3x3 result = this;
+			for(int bit = Integer.highestOneBit(exponent) >> 1; bit > 0; bit >>= 1) {
+				result = result.multiply(result);
+				if((exponent & bit) != 0) {
+					result = result.multiply(this);
+				}
+			}
+			return result;
 		}
 	}
 
+	@Override
+	public Int3x3 powerExact(int exponent) {
+		if(exponent < 0) {
+			return this.transposed().powerExact(-exponent);
+		} else if(exponent == 0) {
+			return IDENTITY;
+		} else {
+			Int3x3 result = this;
+			for(int bit = Integer.highestOneBit(exponent) >> 1; bit > 0; bit >>= 1) {
+				result = result.multiplyExact(result);
+				if((exponent & bit) != 0) {
+					result = result.multiplyExact(this);
+				}
+			}
+			return result;
+		}
+	}
+
+	@Override
+	public Int3x3 powerMod(int exponent, int modulus) {
+		if(modulus <= 0) {
+			throw new ArithmeticException("The modulus must be positive");
+		} else if(exponent < 0) {
+			return this.transposed().powerMod(-exponent, modulus);
+		} else if(exponent == 0) {
+			return IDENTITY.reduced(modulus);
+		} else {
+			Int3x3 base = this.reduced(modulus);
+			Int3x3 result = base;
+			for(int bit = Integer.highestOneBit(exponent) >> 1; bit > 0; bit >>= 1) {
+				result = result.multiplyMod(result, modulus);
+				if((exponent & bit) != 0) {
+					result = result.multiplyMod(base, modulus);
+				}
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Computes the determinant of this matrix.
+	 * Like java's {@code int} operators, the result silently overflows.
+	 * 
+	 * @return The determinant of this matrix.
+	 */
+	public int determinant() {
+		return this.m11() * (this.m22() * this.m33() - this.m23() * this.m32())
+			+ this.m12() * (this.m23() * this.m31() - this.m21() * this.m33())
+			+ this.m13() * (this.m21() * this.m32() - this.m22() * this.m31());
+	}
+
+	/**
+	 * Computes the adjugate of this matrix, which is the transpose of its cofactor matrix.
+	 * The product of a matrix and its adjugate is the identity matrix multiplied by its determinant.
+	 * 
+	 * @return The adjugate of this matrix.
+	 */
+	public Int3x3 adjugate() {
+		return new Int3x3(
+			this.m22() * this.m33() - this.m23() * this.m32(), this.m13() * this.m32() - this.m12() * this.m33(), this.m12() * this.m23() - this.m13() * this.m22(),
+			this.m23() * this.m31() - this.m21() * this.m33(), this.m11() * this.m33() - this.m13() * this.m31(), this.m13() * this.m21() - this.m11() * this.m23(),
+			this.m21() * this.m32() - this.m22() * this.m31(), this.m12() * this.m31() - this.m11() * this.m32(), this.m11() * this.m22() - this.m12() * this.m21()
+		);
+	}
+
+	/**
+	 * Multiplies this matrix by the given one, throwing an exception if the result overflows.
+	 * 
+	 * @param matrix The second operand of the product.
+	 * 
+	 * @return The product of this matrix and the given one.
+	 * 
+	 * @throws ArithmeticException If the result overflows an {@code int}.
+	 */
+	private Int3x3 multiplyExact(Int3x3 matrix) {
+		return new Int3x3(
+			dotExact(this.m11(), this.m12(), this.m13(), matrix.m11(), matrix.m21(), matrix.m31()),
+			dotExact(this.m11(), this.m12(), this.m13(), matrix.m12(), matrix.m22(), matrix.m32()),
+			dotExact(this.m11(), this.m12(), this.m13(), matrix.m13(), matrix.m23(), matrix.m33()),
+			dotExact(this.m21(), this.m22(), this.m23(), matrix.m11(), matrix.m21(), matrix.m31()),
+			dotExact(this.m21(), this.m22(), this.m23(), matrix.m12(), matrix.m22(), matrix.m32()),
+			dotExact(this.m21(), this.m22(), this.m23(), matrix.m13(), matrix.m23(), matrix.m33()),
+			dotExact(this.m31(), this.m32(), this.m33(), matrix.m11(), matrix.m21(), matrix.m31()),
+			dotExact(this.m31(), this.m32(), this.m33(), matrix.m12(), matrix.m22(), matrix.m32()),
+			dotExact(this.m31(), this.m32(), this.m33(), matrix.m13(), matrix.m23(), matrix.m33())
+		);
+	}
+
+	/**
+	 * Multiplies this matrix by the given one modulo the given modulus.
+	 * Both matrices must only contain elements in the range {@code [0, modulus)}.
+	 * 
+	 * @param matrix The second operand of the product.
+	 * @param modulus The modulus, a positive number.
+	 * 
+	 * @return The product of this matrix and the given one modulo the given modulus.
+	 */
+	private Int3x3 multiplyMod(Int3x3 matrix, int modulus) {
+		return new Int3x3(
+			dotMod(this.m11(), this.m12(), this.m13(), matrix.m11(), matrix.m21(), matrix.m31(), modulus),
+			dotMod(this.m11(), this.m12(), this.m13(), matrix.m12(), matrix.m22(), matrix.m32(), modulus),
+			dotMod(this.m11(), this.m12(), this.m13(), matrix.m13(), matrix.m23(), matrix.m33(), modulus),
+			dotMod(this.m21(), this.m22(), this.m23(), matrix.m11(), matrix.m21(), matrix.m31(), modulus),
+			dotMod(this.m21(), this.m22(), this.m23(), matrix.m12(), matrix.m22(), matrix.m32(), modulus),
+			dotMod(this.m21(), this.m22(), this.m23(), matrix.m13(), matrix.m23(), matrix.m33(), modulus),
+			dotMod(this.m31(), this.m32(), this.m33(), matrix.m11(), matrix.m21(), matrix.m31(), modulus),
+			dotMod(this.m31(), this.m32(), this.m33(), matrix.m12(), matrix.m22(), matrix.m32(), modulus),
+			dotMod(this.m31(), this.m32(), this.m33(), matrix.m13(), matrix.m23(), matrix.m33(), modulus)
+		);
+	}
+
+	/**
+	 * Reduces every element of this matrix modulo the given modulus.
+	 * 
+	 * @param modulus The modulus, a positive number.
+	 * 
+	 * @return A matrix whose elements are in the range {@code [0, modulus)}.
+	 */
+	private Int3x3 reduced(int modulus) {
+		return new Int3x3(
+			Math.floorMod(this.m11(), modulus), Math.floorMod(this.m12(), modulus), Math.floorMod(this.m13(), modulus),
+			Math.floorMod(this.m21(), modulus), Math.floorMod(this.m22(), modulus), Math.floorMod(this.m23(), modulus),
+			Math.floorMod(this.m31(), modulus), Math.floorMod(this.m32(), modulus), Math.floorMod(this.m33(), modulus)
+		);
+	}
+
+	/**
+	 * Computes the dot product between two 3-dimensional vectors
+	 * throwing an exception if the result overflows.
+	 * 
+	 * @return The dot product between the two vectors.
+	 * 
+	 * @throws ArithmeticException If the result overflows an {@code int}.
+	 */
+	private static int dotExact(int a1, int a2, int a3, int b1, int b2, int b3) {
+		return Math.toIntExact(Math.addExact(Math.addExact((long) a1 * b1, (long) a2 * b2), (long) a3 * b3));
+	}
+
+	/**
+	 * Computes the dot product between two 3-dimensional vectors
+	 * whose elements are in the range {@code [0, modulus)} modulo the given modulus.
+	 * 
+	 * @return The dot product between the two vectors modulo the given modulus.
+	 */
+	private static int dotMod(int a1, int a2, int a3, int b1, int b2, int b3, int modulus) {
+		return (int) (((long) a1 * b1 % modulus + (long) a2 * b2 % modulus + (long) a3 * b3 % modulus) % modulus);
+	}
+
 	@Override
 	public Float3x3 asFloat() {
 		return new Float3x3(
@@ -214,10 +214,203 @@ public record Int4x4(
 		} else if(exponent == 0) {
 			return IDENTITY;
 		} else {
-			return this.multiply(this.power(exponent - 1));
+			Int4x4 result = this;
+			for(int bit = Integer.highestOneBit(exponent) >> 1; bit > 0; bit >>= 1) {
+				result = result.multiply(result);
+				if((exponent & bit) != 0) {
+					result = result.multiply(this);
+				}
+			}
+			return result;
 		}
 	}
 
+	@Override
+	public Int4x4 powerExact(int exponent) {
+		if(exponent < 0) {
+			return this.transposed().powerExact(-exponent);
+		} else if(exponent == 0) {
+			return IDENTITY;
+		} else {
+			Int4x4 result = this;
+			for(int bit = Integer.highestOneBit(exponent) >> 1; bit > 0; bit >>= 1) {
+				result = result.multiplyExact(result);
+				if((exponent & bit) != 0) {
+					result = result.multiplyExact(this);
+				}
+			}
+			return result;
+		}
+	}
+
+	@Override
+	public Int4x4 powerMod(int exponent, int modulus) {
+		if(modulus <= 0) {
+			throw new ArithmeticException("The modulus must be positive");
+		} else if(exponent < 0) {
+			return this.transposed().powerMod(-exponent, modulus);
+		} else if(exponent == 0) {
+			return IDENTITY.reduced(modulus);
+		} else {
+			Int4x4 base = this.reduced(modulus);
+			Int4x4 result = base;
+			for(int bit = Integer.highestOneBit(exponent) >> 1; bit > 0; bit >>= 1) {
+				result = result.multiplyMod(result, modulus);
+				if((exponent & bit) != 0) {
+					result = result.multiplyMod(base, modulus);
+				}
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Computes the determinant of this matrix.
+	 * Like java's {@code int} operators, the result silently overflows.
+	 * 
+	 * @return The determinant of this matrix.
+	 */
+	public int determinant() {
+		int s0 = this.m11() * this.m22() - this.m21() * this.m12();
+		int s1 = this.m11() * this.m23() - this.m21() * this.m13();
+		int s2 = this.m11() * this.m24() - this.m21() * this.m14();
+		int s3 = this.m12() * this.m23() - this.m22() * this.m13();
+		int s4 = this.m12() * this.m24() - this.m22() * this.m14();
+		int s5 = this.m13() * this.m24() - this.m23() * this.m14();
+		int c5 = this.m33() * this.m44() - this.m43() * this.m34();
+		int c4 = this.m32() * this.m44() - this.m42() * this.m34();
+		int c3 = this.m32() * this.m43() - this.m42() * this.m33();
+		int c2 = this.m31() * this.m44() - this.m41() * this.m34();
+		int c1 = this.m31() * this.m43() - this.m41() * this.m33();
+		int c0 = this.m31() * this.m42() - this.m41() * this.m32();
+		return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+	}
+
+	/**
+	 * Computes the adjugate of this matrix, which is the transpose of its cofactor matrix.
+	 * The product of a matrix and its adjugate is the identity matrix multiplied by its determinant.
+	 * 
+	 * @return The adjugate of this matrix.
+	 */
+	public Int4x4 adjugate() {
+		int s0 = this.m11() * this.m22() - this.m21() * this.m12();
+		int s1 = this.m11() * this.m23() - this.m21() * this.m13();
+		int s2 = this.m11() * this.m24() - this.m21() * this.m14();
+		int s3 = this.m12() * this.m23() - this.m22() * this.m13();
+		int s4 = this.m12() * this.m24() - this.m22() * this.m14();
+		int s5 = this.m13() * this.m24() - this.m23() * this.m14();
+		int c5 = this.m33() * this.m44() - this.m43() * this.m34();
+		int c4 = this.m32() * this.m44() - this.m42() * this.m34();
+		int c3 = this.m32() * this.m43() - this.m42() * this.m33();
+		int c2 = this.m31() * this.m44() - this.m41() * this.m34();
+		int c1 = this.m31() * this.m43() - this.m41() * this.m33();
+		int c0 = this.m31() * this.m42() - this.m41() * this.m32();
+		return new Int4x4(
+			this.m22() * c5 - this.m23() * c4 + this.m24() * c3, -this.m12() * c5 + this.m13() * c4 - this.m14() * c3, this.m42() * s5 - this.m43() * s4 + this.m44() * s3, -this.m32() * s5 + this.m33() * s4 - this.m34() * s3,
+			-this.m21() * c5 + this.m23() * c2 - this.m24() * c1, this.m11() * c5 - this.m13() * c2 + this.m14() * c1, -this.m41() * s5 + this.m43() * s2 - this.m44() * s1, this.m31() * s5 - this.m33() * s2 + this.m34() * s1,
+			this.m21() * c4 - this.m22() * c2 + this.m24() * c0, -this.m11() * c4 + this.m12() * c2 - this.m14() * c0, this.m41() * s4 - this.m42() * s2 + this.m44() * s0, -this.m31() * s4 + this.m32() * s2 - this.m34() * s0,
+			-this.m21() * c3 + this.m22() * c1 - this.m23() * c0, this.m11() * c3 - this.m12() * c1 + this.m13() * c0, -this.m41() * s3 + this.m42() * s1 - this.m43() * s0, this.m31() * s3 - this.m32() * s1 + this.m33() * s0
+		);
+	}
+
+	/**
+	 * Multiplies this matrix by the given one, throwing an exception if the result overflows.
+	 * 
+	 * @param matrix The second operand of the product.
+	 * 
+	 * @return The product of this matrix and the given one.
+	 * 
+	 * @throws ArithmeticException If the result overflows an {@code int}.
+	 */
+	private Int4x4 multiplyExact(Int4x4 matrix) {
+		return new Int4x4(
+			dotExact(this.m11(), this.m12(), this.m13(), this.m14(), matrix.m11(), matrix.m21(), matrix.m31(), matrix.m41()),
+			dotExact(this.m11(), this.m12(), this.m13(), this.m14(), matrix.m12(), matrix.m22(), matrix.m32(), matrix.m42()),
+			dotExact(this.m11(), this.m12(), this.m13(), this.m14(), matrix.m13(), matrix.m23(), matrix.m33(), matrix.m43()),
+			dotExact(this.m11(), this.m12(), this.m13(), this.m14(), matrix.m14(), matrix.m24(), matrix.m34(), matrix.m44()),
+			dotExact(this.m21(), this.m22(), this.m23(), this.m24(), matrix.m11(), matrix.m21(), matrix.m31(), matrix.m41()),
+			dotExact(this.m21(), this.m22(), this.m23(), this.m24(), matrix.m12(), matrix.m22(), matrix.m32(), matrix.m42()),
+			dotExact(this.m21(), this.m22(), this.m23(), this.m24(), matrix.m13(), matrix.m23(), matrix.m33(), matrix.m43()),
+			dotExact(this.m21(), this.m22(), this.m23(), this.m24(), matrix.m14(), matrix.m24(), matrix.m34(), matrix.m44()),
+			dotExact(this.m31(), this.m32(), this.m33(), this.m34(), matrix.m11(), matrix.m21(), matrix.m31(), matrix.m41()),
+			dotExact(this.m31(), this.m32(), this.m33(), this.m34(), matrix.m12(), matrix.m22(), matrix.m32(), matrix.m42()),
+			dotExact(this.m31(), this.m32(), this.m33(), this.m34(), matrix.m13(), matrix.m23(), matrix.m33(), matrix.m43()),
+			dotExact(this.m31(), this.m32(), this.m33(), this.m34(), matrix.m14(), matrix.m24(), matrix.m34(), matrix.m44()),
+			dotExact(this.m41(), this.m42(), this.m43(), this.m44(), matrix.m11(), matrix.m21(), matrix.m31(), matrix.m41()),
+			dotExact(this.m41(), this.m42(), this.m43(), this.m44(), matrix.m12(), matrix.m22(), matrix.m32(), matrix.m42()),
+			dotExact(this.m41(), this.m42(), this.m43(), this.m44(), matrix.m13(), matrix.m23(), matrix.m33(), matrix.m43()),
+			dotExact(this.m41(), this.m42(), this.m43(), this.m44(), matrix.m14(), matrix.m24(), matrix.m34(), matrix.m44())
+		);
+	}
+
+	/**
+	 * Multiplies this matrix by the given one modulo the given modulus.
+	 * Both matrices must only contain elements in the range {@code [0, modulus)}.
+	 * 
+	 * @param matrix The second operand of the product.
+	 * @param modulus The modulus, a positive number.
+	 * 
+	 * @return The product of this matrix and the given one modulo the given modulus.
+	 */
+	private Int4x4 multiplyMod(Int4x4 matrix, int modulus) {
+		return new Int4x4(
+			dotMod(this.m11(), this.m12(), this.m13(), this.m14(), matrix.m11(), matrix.m21(), matrix.m31(), matrix.m41(), modulus),
+			dotMod(this.m11(), this.m12(), this.m13(), this.m14(), matrix.m12(), matrix.m22(), matrix.m32(), matrix.m42(), modulus),
+			dotMod(this.m11(), this.m12(), this.m13(), this.m14(), matrix.m13(), matrix.m23(), matrix.m33(), matrix.m43(), modulus),
+			dotMod(this.m11(), this.m12(), this.m13(), this.m14(), matrix.m14(), matrix.m24(), matrix.m34(), matrix.m44(), modulus),
+			dotMod(this.m21(), this.m22(), this.m23(), this.m24(), matrix.m11(), matrix.m21(), matrix.m31(), matrix.m41(), modulus),
+			dotMod(this.m21(), this.m22(), this.m23(), this.m24(), matrix.m12(), matrix.m22(), matrix.m32(), matrix.m42(), modulus),
+			dotMod(this.m21(), this.m22(), this.m23(), this.m24(), matrix.m13(), matrix.m23(), matrix.m33(), matrix.m43(), modulus),
+			dotMod(this.m21(), this.m22(), this.m23(), this.m24(), matrix.m14(), matrix.m24(), matrix.m34(), matrix.m44(), modulus),
+			dotMod(this.m31(), this.m32(), this.m33(), this.m34(), matrix.m11(), matrix.m21(), matrix.m31(), matrix.m41(), modulus),
+			dotMod(this.m31(), this.m32(), this.m33(), this.m34(), matrix.m12(), matrix.m22(), matrix.m32(), matrix.m42(), modulus),
+			dotMod(this.m31(), this.m32(), this.m33(), this.m34(), matrix.m13(), matrix.m23(), matrix.m33(), matrix.m43(), modulus),
+			dotMod(this.m31(), this.m32(), this.m33(), this.m34(), matrix.m14(), matrix.m24(), matrix.m34(), matrix.m44(), modulus),
+			dotMod(this.m41(), this.m42(), this.m43(), this.m44(), matrix.m11(), matrix.m21(), matrix.m31(), matrix.m41(), modulus),
+			dotMod(this.m41(), this.m42(), this.m43(), this.m44(), matrix.m12(), matrix.m22(), matrix.m32(), matrix.m42(), modulus),
+			dotMod(this.m41(), this.m42(), this.m43(), this.m44(), matrix.m13(), matrix.m23(), matrix.m33(), matrix.m43(), modulus),
+			dotMod(this.m41(), this.m42(), this.m43(), this.m44(), matrix.m14(), matrix.m24(), matrix.m34(), matrix.m44(), modulus)
+		);
+	}
+
+	/**
+	 * Reduces every element of this matrix modulo the given modulus.
+	 * 
+	 * @param modulus The modulus, a positive number.
+	 * 
+	 * @return A matrix whose elements are in the range {@code [0, modulus)}.
+	 */
+	private Int4x4 reduced(int modulus) {
+		return new Int4x4(
+			Math.floorMod(this.m11(), modulus), Math.floorMod(this.m12(), modulus), Math.floorMod(this.m13(), modulus), Math.floorMod(this.m14(), modulus),
+			Math.floorMod(this.m21(), modulus), Math.floorMod(this.m22(), modulus), Math.floorMod(this.m23(), modulus), Math.floorMod(this.m24(), modulus),
+			Math.floorMod(this.m31(), modulus), Math.floorMod(this.m32(), modulus), Math.floorMod(this.m33(), modulus), Math.floorMod(this.m34(), modulus),
+			Math.floorMod(this.m41(), modulus), Math.floorMod(this.m42(), modulus), Math.floorMod(this.m43(), modulus), Math.floorMod(this.m44(), modulus)
+		);
+	}
+
+	/**
+	 * Computes the dot product between two 4-dimensional vectors
+	 * throwing an exception if the result overflows.
+	 * 
+	 * @return The dot product between the two vectors.
+	 * 
+	 * @throws ArithmeticException If the result overflows an {@code int}.
+	 */
+	private static int dotExact(int a1, int a2, int a3, int a4, int b1, int b2, int b3, int b4) {
+		return Math.toIntExact(Math.addExact(Math.addExact(Math.addExact((long) a1 * b1, (long) a2 * b2), (long) a3 * b3), (long) a4 * b4));
+	}
+
+	/**
+	 * Computes the dot product between two 4-dimensional vectors
+	 * whose elements are in the range {@code [0, modulus)} modulo the given modulus.
+	 * 
+	 * @return The dot product between the two vectors modulo the given modulus.
+	 */
+	private static int dotMod(int a1, int a2, int a3, int a4, int b1, int b2, int b3, int b4, int modulus) {
+		return (int) (((long) a1 * b1 % modulus + (long) a2 * b2 % modulus + (long) a3 * b3 % modulus + (long) a4 * b4 % modulus) % modulus);
+	}
+
 	@Override
 	public Float4x4 asFloat() {
 		return new Float4x4(
@@ -1,40 +1,46 @@
 package io.github.vecmatlib.matrix;
 
 import java.util.Arrays;
-import java.util.function.IntBinaryOperator;
-import java.util.function.IntUnaryOperator;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import io.github.vecmatlib.vector.IntVector;
-import io.github.vecmatlib.vector.VectorMathException;
 
 /**
  * Class that represents an NxM int matrix.
  * 
+ * <p> The elements of the matrix are stored in a single flat array
+ * in row-major order. The element at row r and column c is stored
+ * at index {@code r * columns + c}, meaning that the stride between
+ * two consecutive rows is equal to the number of columns.
+ * 
+ * <p> Operations return a new matrix and do not modify the matrices
+ * on which they are invoked. The overloads that take a destination matrix,
+ * {@link #scaleInPlace(int)} and {@link #axpy(int, IntMatrix)} are the only
+ * operations that modify an existing matrix and can be used to write
+ * loops that do not allocate any object.
+ * 
  * @author Nico
  */
 public class IntMatrix implements MatrixIntOperations<IntMatrix, IntVector> {
 
 	/**
-	 * Creates an NxM matrix where every element is 0.0
+	 * Creates an NxM matrix where every element is 0
 	 * 
 	 * @param rows Number of rows.
 	 * @param columns Number of columns.
 	 * 
-	 * @return An NxM matrix where every element is 0.0
+	 * @return An NxM matrix where every element is 0
 	 * 
 	 * @throws NegativeArraySizeException if the given number of rows or columns
 	 * 		is smaller than zero.
 	 * @throws MatrixMathException if the given number of rows or columns is zero.
 	 */
 	public static IntMatrix zero(int rows, int columns) {
-		return new IntMatrix(new int[rows][columns]);
+		return new IntMatrix(rows, columns, new int[rows * columns]);
 	}
 
 	/**
 	 * Creates a square matrix where every element on the diagonal
-	 * is 1.0 and all the other elements are 0.0
+	 * is 1 and all the other elements are 0
 	 * 
 	 * @param size Size of the matrix.
 	 * 
@@ -43,15 +49,29 @@ public class IntMatrix implements MatrixIntOperations<IntMatrix, IntVector> {
 	 * @throws MatrixMathException if the given size is not greater than zero.
 	 */
 	public static IntMatrix identity(int size) {
-		return new IntMatrix(IntStream.range(0, size).mapToObj(i -> IntStream.range(0, size).map(j -> j == i ? 1 : 0).toArray()).toArray(int[][]::new));
+		if(size <= 0)
+			throw new MatrixMathException("A matrix cannot be empty");
+		int[] values = new int[size * size];
+		for(int i = 0; i < size; i++) {
+			values[i * size + i] = 1;
+		}
+		return new IntMatrix(size, size, values);
 	}
 
-	/**Elements of the matrix */
-	private final int[][] values;
+	/**Number of rows of the matrix */
+	private final int rows;
+	/**Number of columns of the matrix, which is also the stride between two rows */
+	private final int columns;
+	/**Elements of the matrix in row-major order */
+	private final int[] values;
 
 	/**
 	 * Creates a matrix with the values in the given array.
 	 * 
+	 * <p> The values in the given array are copied into the internal
+	 * storage of the matrix. Subsequent changes to the given array
+	 * will not affect the matrix.
+	 * 
 	 * @param values Values in the matrix.
 	 * 
 	 * @throws MatrixMathException if the given array is null or has length 0
@@ -60,10 +80,47 @@ public class IntMatrix implements MatrixIntOperations<IntMatrix, IntVector> {
 	public IntMatrix(int[][] values) {
 		if(values == null || values.length == 0)
 			throw new MatrixMathException("A matrix cannot be null or empty");
-		if(Arrays.stream(values).filter(i -> i == null).count() != 0)
+		if(values[0] == null)
 			throw new MatrixMathException("A matrix cannot contain null rows");
-		if(Arrays.stream(values).mapToInt(i -> i.length).distinct().count() != 1)
-			throw new MatrixMathException("All rows of a matrix must have the same length");
+		if(values[0].length == 0)
+			throw new MatrixMathException("A matrix cannot be empty");
+		this.rows = values.length;
+		this.columns = values[0].length;
+		this.values = new int[this.rows * this.columns];
+		for(int r = 0; r < this.rows; r++) {
+			if(values[r] == null)
+				throw new MatrixMathException("A matrix cannot contain null rows");
+			if(values[r].length != this.columns)
+				throw new MatrixMathException("All rows of a matrix must have the same length");
+			System.arraycopy(values[r], 0, this.values, r * this.columns, this.columns);
+		}
+	}
+
+	/**
+	 * Creates a matrix with the given number of rows and columns
+	 * whose elements are the ones in the given array in row-major order.
+	 * 
+	 * <p> The given array is used as the internal storage of the matrix
+	 * and is not copied. This allows the creation of a matrix without
+	 * any additional allocation.
+	 * 
+	 * @param rows Number of rows of the matrix.
+	 * @param columns Number of columns of the matrix.
+	 * @param values Elements of the matrix in row-major order.
+	 * 
+	 * @throws MatrixMathException if the given number of rows or columns is
+	 * 		not greater than zero, if the given array is null, or if its length
+	 * 		is not equal to {@code rows * columns}.
+	 */
+	public IntMatrix(int rows, int columns, int... values) {
+		if(rows <= 0 || columns <= 0)
+			throw new MatrixMathException("A matrix cannot be empty");
+		if(values == null)
+			throw new MatrixMathException("A matrix cannot be null");
+		if(values.length != (long) rows * columns)
+			throw new MatrixMathException("The number of elements does not match the size of the matrix");
+		this.rows = rows;
+		this.columns = columns;
 		this.values = values;
 	}
 
@@ -73,7 +130,7 @@ public class IntMatrix implements MatrixIntOperations<IntMatrix, IntVector> {
 	 * @return The number of rows of this matrix.
 	 */
 	public int rows() {
-		return this.values.length;
+		return this.rows;
 	}
 
 	/**
@@ -82,7 +139,7 @@ public class IntMatrix implements MatrixIntOperations<IntMatrix, IntVector> {
 	 * @return The number of columns of this matrix.
 	 */
 	public int columns() {
-		return this.values[0].length;
+		return this.columns;
 	}
 
 	/**
@@ -97,31 +154,168 @@ public class IntMatrix implements MatrixIntOperations<IntMatrix, IntVector> {
 	 * 		or greater than the matrix's size.
 	 */
 	public int element(int row, int column) {
-		if(row < 0 || row >= this.rows())
+		if(row < 0 || row >= this.rows)
 			throw new IndexOutOfBoundsException("Row index out of bounds");
-		if(column < 0 || column >= this.columns())
+		if(column < 0 || column >= this.columns)
 			throw new IndexOutOfBoundsException("Column index out of bounds");
-		return this.values[row][column];
+		return this.values[row * this.columns + column];
 	}
 
 	@Override
 	public IntMatrix plus(IntMatrix matrix) {
-		return this.applyOperation(matrix.rows(), matrix.columns(), (r, c) -> this.values[r][c] + matrix.values[r][c]);
+		this.checkSize(matrix);
+		int[] result = new int[this.values.length];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = this.values[i] + matrix.values[i];
+		}
+		return new IntMatrix(this.rows, this.columns, result);
 	}
 
 	@Override
 	public IntMatrix negative() {
-		return this.applyOperation(m -> -m);
+		int[] result = new int[this.values.length];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = -this.values[i];
+		}
+		return new IntMatrix(this.rows, this.columns, result);
 	}
 
 	@Override
 	public IntMatrix minus(IntMatrix matrix) {
-		return this.applyOperation(matrix.rows(), matrix.columns(), (r, c) -> this.values[r][c] - matrix.values[r][c]);
+		this.checkSize(matrix);
+		int[] result = new int[this.values.length];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = this.values[i] - matrix.values[i];
+		}
+		return new IntMatrix(this.rows, this.columns, result);
 	}
 
 	@Override
 	public IntMatrix multipliedBy(int k) {
-		return this.applyOperation(m -> m * k);
+		int[] result = new int[this.values.length];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = this.values[i] * k;
+		}
+		return new IntMatrix(this.rows, this.columns, result);
+	}
+
+	/**
+	 * Adds the given matrix to this one and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #plus(IntMatrix)}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and may be this matrix or the given one.
+	 * 
+	 * @param matrix The second operand of the sum.
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrices are not the same size as this one.
+	 */
+	public IntMatrix plus(IntMatrix matrix, IntMatrix dest) {
+		this.checkSize(matrix);
+		this.checkSize(dest);
+		for(int i = 0; i < this.values.length; i++) {
+			dest.values[i] = this.values[i] + matrix.values[i];
+		}
+		return dest;
+	}
+
+	/**
+	 * Negates this matrix and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #negative()}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and may be this matrix.
+	 * 
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrix is not the same size as this one.
+	 */
+	public IntMatrix negative(IntMatrix dest) {
+		this.checkSize(dest);
+		for(int i = 0; i < this.values.length; i++) {
+			dest.values[i] = -this.values[i];
+		}
+		return dest;
+	}
+
+	/**
+	 * Subtracts the given matrix from this one and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #minus(IntMatrix)}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and may be this matrix or the given one.
+	 * 
+	 * @param matrix The second operand of the subtraction.
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrices are not the same size as this one.
+	 */
+	public IntMatrix minus(IntMatrix matrix, IntMatrix dest) {
+		this.checkSize(matrix);
+		this.checkSize(dest);
+		for(int i = 0; i < this.values.length; i++) {
+			dest.values[i] = this.values[i] - matrix.values[i];
+		}
+		return dest;
+	}
+
+	/**
+	 * Multiplies this matrix by the given scalar and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #multipliedBy(int)}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and may be this matrix.
+	 * 
+	 * @param k The scalar.
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrix is not the same size as this one.
+	 */
+	public IntMatrix multipliedBy(int k, IntMatrix dest) {
+		this.checkSize(dest);
+		for(int i = 0; i < this.values.length; i++) {
+			dest.values[i] = this.values[i] * k;
+		}
+		return dest;
+	}
+
+	/**
+	 * Multiplies this matrix by the given scalar, modifying this matrix.
+	 * 
+	 * @param k The scalar.
+	 * 
+	 * @return This matrix.
+	 */
+	public IntMatrix scaleInPlace(int k) {
+		for(int i = 0; i < this.values.length; i++) {
+			this.values[i] *= k;
+		}
+		return this;
+	}
+
+	/**
+	 * Adds the given matrix multiplied by the given scalar to this matrix,
+	 * modifying this matrix. This is the {@code Y = alpha * X + Y} operation
+	 * used by iterative algorithms.
+	 * 
+	 * @param alpha The scalar.
+	 * @param x The matrix multiplied by the scalar.
+	 * 
+	 * @return This matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrix is not the same size as this one.
+	 */
+	public IntMatrix axpy(int alpha, IntMatrix x) {
+		this.checkSize(x);
+		for(int i = 0; i < this.values.length; i++) {
+			this.values[i] += alpha * x.values[i];
+		}
+		return this;
 	}
 
 	/**
@@ -135,8 +329,8 @@ public class IntMatrix implements MatrixIntOperations<IntMatrix, IntVector> {
 	 * 		or greater than the matrix's size.
 	 */
 	public IntVector row(int row) {
-		if(row >= 0 && row < this.rows()) {
-			return new IntVector(this.values[row]);
+		if(row >= 0 && row < this.rows) {
+			return new IntVector(Arrays.copyOfRange(this.values, row * this.columns, (row + 1) * this.columns));
 		} else {
 			throw new IndexOutOfBoundsException("Row index out of bounds");
 		}
@@ -153,8 +347,12 @@ public class IntMatrix implements MatrixIntOperations<IntMatrix, IntVector> {
 	 * 		or greater than the matrix's size.
 	 */
 	public IntVector column(int column) {
-		if(column >= 0 && column < this.columns()) {
-			return new IntVector(Arrays.stream(this.values).mapToInt(v -> v[column]).toArray());
+		if(column >= 0 && column < this.columns) {
+			int[] result = new int[this.rows];
+			for(int r = 0; r < this.rows; r++) {
+				result[r] = this.values[r * this.columns + column];
+			}
+			return new IntVector(result);
 		} else {
 			throw new IndexOutOfBoundsException("Column index out of bounds");
 		}
@@ -162,132 +360,271 @@ public class IntMatrix implements MatrixIntOperations<IntMatrix, IntVector> {
 
 	@Override
 	public IntVector multiply(IntVector vector) {
-		try {
-			return new IntVector(IntStream.range(0, this.rows()).map(i -> this.row(i).dotProduct(vector)).toArray());
-		} catch(VectorMathException e) {
-			throw new MatrixMathException("The given vector's size does not match the matrix's number of columns", e);
+		if(vector.size() != this.columns)
+			throw new MatrixMathException("The given vector's size does not match the matrix's number of columns");
+		int[] result = new int[this.rows];
+		for(int r = 0; r < this.rows; r++) {
+			int offset = r * this.columns;
+			int sum = 0;
+			for(int c = 0; c < this.columns; c++) {
+				sum += this.values[offset + c] * vector.element(c);
+			}
+			result[r] = sum;
 		}
+		return new IntVector(result);
 	}
 
 	@Override
 	public IntMatrix transposed() {
-		return this.applyOperation((r, c) -> this.values[c][r]);
+		return new IntMatrix(this.columns, this.rows, this.transposedValues(false));
 	}
 
 	@Override
 	public IntMatrix negativeTransposed() {
-		return this.applyOperation((r, c) -> -this.values[c][r]);
+		return new IntMatrix(this.columns, this.rows, this.transposedValues(true));
+	}
+
+	@Override
+	public boolean isSymmetric() {
+		if(this.rows != this.columns)
+			return false;
+		for(int r = 0; r < this.rows; r++) {
+			for(int c = r + 1; c < this.columns; c++) {
+				if(this.values[r * this.columns + c] != this.values[c * this.columns + r])
+					return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean isSkewSymmetric() {
+		if(this.rows != this.columns)
+			return false;
+		for(int r = 0; r < this.rows; r++) {
+			for(int c = r; c < this.columns; c++) {
+				if(this.values[r * this.columns + c] != -this.values[c * this.columns + r])
+					return false;
+			}
+		}
+		return true;
 	}
 
 	@Override
 	public IntMatrix multiply(IntMatrix matrix) {
-		return this.applyOperation(matrix.rows(), matrix.columns(), (r, c) -> this.row(r).dotProduct(matrix.column(c)));
+		if(this.columns != matrix.rows)
+			throw new MatrixMathException("The number of columns of this matrix does not match the number of rows of the given matrix");
+		int[] result = new int[this.rows * matrix.columns];
+		MatrixKernels.multiply(this.values, matrix.values, result, this.rows, this.columns, matrix.columns);
+		return new IntMatrix(this.rows, matrix.columns, result);
+	}
+
+	/**
+	 * Multiplies this matrix by the given one and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #multiply(IntMatrix)}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and cannot be one of the operands.
+	 * 
+	 * @param matrix The second operand of the product.
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException If the number of columns of this matrix does not match the number
+	 * 		of rows of the given matrix, if the destination matrix does not have as many rows as this
+	 * 		matrix and as many columns as the given matrix, or if it shares its elements with an operand.
+	 */
+	public IntMatrix multiplyInto(IntMatrix matrix, IntMatrix dest) {
+		if(this.columns != matrix.rows)
+			throw new MatrixMathException("The number of columns of this matrix does not match the number of rows of the given matrix");
+		if(dest.rows != this.rows || dest.columns != matrix.columns)
+			throw new MatrixMathException("The destination matrix does not have the size of the result");
+		if(dest.values == this.values || dest.values == matrix.values)
+			throw new MatrixMathException("The destination matrix cannot be one of the operands");
+		Arrays.fill(dest.values, 0);
+		MatrixKernels.multiply(this.values, matrix.values, dest.values, this.rows, this.columns, matrix.columns);
+		return dest;
 	}
 
 	@Override
 	public IntMatrix power(int exponent) {
-		if(this.rows() != this.columns()) {
-			throw new MatrixMathException("A matrix must be square to be raised to a power");
-		} else if(exponent < 0) {
+		int size = this.checkSquare();
+		if(exponent < 0) {
 			return this.transposed().power(-exponent);
 		} else if(exponent == 0) {
-			return identity(this.rows());
+			return identity(size);
+		} else {
+			return this.power(this.values, exponent, (a, b, c) -> {
+				Arrays.fill(c, 0);
+				MatrixKernels.multiply(a, b, c, size, size, size);
+			});
+		}
+	}
+
+	@Override
+	public IntMatrix powerExact(int exponent) {
+		int size = this.checkSquare();
+		if(exponent < 0) {
+			return this.transposed().powerExact(-exponent);
+		} else if(exponent == 0) {
+			return identity(size);
 		} else {
-			return this.multiply(this.power(exponent - 1));
+			long[] accumulator = new long[size];
+			return this.power(this.values, exponent, (a, b, c) -> MatrixKernels.multiplyExact(a, b, c, size, size, size, accumulator));
+		}
+	}
+
+	@Override
+	public IntMatrix powerMod(int exponent, int modulus) {
+		int size = this.checkSquare();
+		if(modulus <= 0) {
+			throw new ArithmeticException("The modulus must be positive");
+		} else if(exponent < 0) {
+			return this.transposed().powerMod(-exponent, modulus);
+		} else {
+			int[] base = (exponent == 0 ? identity(size) : this).values.clone();
+			for(int i = 0; i < base.length; i++) {
+				base[i] = Math.floorMod(base[i], modulus);
+			}
+			if(exponent == 0) {
+				return new IntMatrix(size, size, base);
+			}
+			long[] accumulator = new long[size];
+			return this.power(base, exponent, (a, b, c) -> MatrixKernels.multiplyMod(a, b, c, size, size, size, modulus, accumulator));
 		}
 	}
 
 	/**
-	 * Applies the given function to each element of this matrix.
-	 * Used when operating with two matrices.
-	 * 
-	 * @param rows Number of rows of the resulting matrix.
-	 * @param columns Number of columns of the resulting matrix.
-	 * @param operator Function to apply to each element.
+	 * Computes the power of the given square matrix by repeated squaring
+	 * using two buffers that are reused for all the products.
 	 * 
-	 * @return The result matrix.
+	 * @param base Elements of the matrix to raise to the given power.
+	 * @param exponent Exponent of the power, a positive number.
+	 * @param product Function used to multiply two matrices.
 	 * 
-	 * @throws MatrixMathException if the given size is different from the size of this matrix.
+	 * @return The n-th power of the given matrix.
 	 */
-	private IntMatrix applyOperation(int rows, int columns, IntBinaryOperator operator) {
-		return new IntMatrix(this.mapEach(rows, columns, operator).map(IntStream::toArray).toArray(int[][]::new));
+	private IntMatrix power(int[] base, int exponent, Product product) {
+		int[] result = base.clone();
+		int[] scratch = new int[result.length];
+		for(int bit = Integer.highestOneBit(exponent) >> 1; bit > 0; bit >>= 1) {
+			product.multiply(result, result, scratch);
+			int[] swap = result;
+			result = scratch;
+			scratch = swap;
+			if((exponent & bit) != 0) {
+				product.multiply(result, base, scratch);
+				swap = result;
+				result = scratch;
+				scratch = swap;
+			}
+		}
+		return new IntMatrix(this.rows, this.columns, result);
 	}
 
 	/**
-	 * Maps each element of this matrix to a new value using the given operator.
-	 * Used when operating with two matrices.
-	 * 
-	 * @param rows Number of rows of the resulting matrix.
-	 * @param columns Number of columns of the resulting matrix.
-	 * @param operator Operator to apply to each element.
+	 * Checks if this matrix is square.
 	 * 
-	 * @return A stream of streams representing the result.
+	 * @return The size of this matrix.
 	 * 
-	 * @throws MatrixMathException if the given size is different from the size of this matrix.
+	 * @throws MatrixMathException if this matrix is not square.
 	 */
-	private Stream<IntStream> mapEach(int rows, int columns, IntBinaryOperator operator) {
-		if(rows == this.rows() && columns == this.columns()) {
-			return IntStream.range(0, rows).mapToObj(r -> IntStream.range(0, columns).map(c -> operator.applyAsInt(r, c)));
-		} else {
-			throw new MatrixMathException("The given matrix has a different size than this matrix");
-		}
+	private int checkSquare() {
+		if(this.rows != this.columns)
+			throw new MatrixMathException("A matrix must be square to be raised to a power");
+		return this.rows;
 	}
 
 	/**
-	 * Applies the given function to each element of this matrix.
-	 * Used when operating with a single matrix.
-	 * 
-	 * @param operator Operator to apply to each element.
-	 * 
-	 * @return The result matrix.
+	 * Function that multiplies two square matrices stored in
+	 * flat arrays and stores the result in a third one.
 	 */
-	private IntMatrix applyOperation(IntUnaryOperator operator) {
-		return new IntMatrix(this.mapEach(operator).map(IntStream::toArray).toArray(int[][]::new));
+	@FunctionalInterface
+	private interface Product {
+
+		/**
+		 * Multiplies the matrices a and b and stores the result in c.
+		 * 
+		 * @param a The first operand.
+		 * @param b The second operand.
+		 * @param c The array where the result is stored.
+		 */
+		void multiply(int[] a, int[] b, int[] c);
 	}
 
 	/**
-	 * Maps each element of this matrix to a new value using the given operator.
-	 * Used when operating with a single matrix.
+	 * Copies the elements of this matrix into a new two-dimensional array.
 	 * 
-	 * @param operator Operator to apply to each element.
+	 * @return A new array containing the rows of this matrix.
+	 */
+	public int[][] toArray() {
+		int[][] result = new int[this.rows][];
+		for(int r = 0; r < this.rows; r++) {
+			result[r] = Arrays.copyOfRange(this.values, r * this.columns, (r + 1) * this.columns);
+		}
+		return result;
+	}
+
+	/**
+	 * Copies the elements of this matrix into a new flat array in row-major order.
 	 * 
-	 * @return A stream of streams representing the result.
+	 * @return A new array containing the elements of this matrix in row-major order.
 	 */
-	private Stream<IntStream> mapEach(IntUnaryOperator operator) {
-		return Arrays.stream(this.values).map(i -> Arrays.stream(i).map(operator));
+	public int[] toRowMajorArray() {
+		return this.values.clone();
 	}
 
 	/**
-	 * Applies the given function to each element of this matrix.
-	 * Used when operating with a single matrix.
+	 * Checks if the given matrix has the same size as this one.
 	 * 
-	 * @param operator Operator to apply to each element.
+	 * @param matrix The matrix to check.
 	 * 
-	 * @return The result matrix.
+	 * @throws MatrixMathException if the given matrix has a different size than this matrix.
 	 */
-	private IntMatrix applyOperation(IntBinaryOperator operator) {
-		return new IntMatrix(this.mapEach(operator).map(IntStream::toArray).toArray(int[][]::new));
+	private void checkSize(IntMatrix matrix) {
+		if(matrix.rows != this.rows || matrix.columns != this.columns)
+			throw new MatrixMathException("The given matrix has a different size than this matrix");
 	}
 
 	/**
-	 * Maps each element of this matrix to a new value using the given operator.
-	 * Used when operating with a single matrix.
+	 * Computes the elements of the transposed of this matrix.
+	 * The matrix is traversed in square blocks so that both the
+	 * source and the destination are accessed in a cache-friendly way.
 	 * 
-	 * @param operator Operator to apply to each element.
+	 * @param negate Whether the elements should also be negated.
 	 * 
-	 * @return A stream of streams representing the result.
+	 * @return The elements of the transposed matrix in row-major order.
 	 */
-	private Stream<IntStream> mapEach(IntBinaryOperator operator) {
-		return IntStream.range(0, this.rows()).mapToObj(r -> IntStream.range(0, this.columns()).map(c -> operator.applyAsInt(r, c)));
+	private int[] transposedValues(boolean negate) {
+		final int block = 32;
+		int sign = negate ? -1 : 1;
+		int[] result = new int[this.values.length];
+		for(int r0 = 0; r0 < this.rows; r0 += block) {
+			int r1 = Math.min(r0 + block, this.rows);
+			for(int c0 = 0; c0 < this.columns; c0 += block) {
+				int c1 = Math.min(c0 + block, this.columns);
+				for(int r = r0; r < r1; r++) {
+					for(int c = c0; c < c1; c++) {
+						result[c * this.rows + r] = sign * this.values[r * this.columns + c];
+					}
+				}
+			}
+		}
+		return result;
 	}
 
 	@Override
 	public String toString() {
-		return "IntMatrix" + this.rows() + "x" + this.columns() + Arrays.deepToString(this.values);
+		return "IntMatrix" + this.rows() + "x" + this.columns() + Arrays.deepToString(this.toArray());
 	}
 
 	@Override
 	public boolean equals(Object obj) {
-		return obj instanceof IntMatrix that && Arrays.deepEquals(this.values, that.values);
+		return obj instanceof IntMatrix that && this.rows == that.rows && this.columns == that.columns && Arrays.equals(this.values, that.values);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 * this.rows + this.columns) + Arrays.hashCode(this.values);
 	}
 }
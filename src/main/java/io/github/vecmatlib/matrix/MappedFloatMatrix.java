@@ -0,0 +1,495 @@
+package io.github.vecmatlib.matrix;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import io.github.vecmatlib.vector.FloatVector;
+import io.github.vecmatlib.vector.OffHeapAccess;
+import io.github.vecmatlib.vector.OffHeapArena;
+
+/**
+ * Class that represents an NxM float matrix stored in a file
+ * that is mapped in memory.
+ * 
+ * <p> Opening a matrix file does not read its elements: the file is mapped in
+ * memory and its pages are loaded lazily by the operating system when they
+ * are first accessed, so large precomputed matrices are available immediately
+ * and can be larger than the java heap. The mapping is bound to an
+ * {@link OffHeapArena} and is released when the arena is closed. Using a matrix
+ * after its arena has been closed throws an {@link IllegalStateException}.
+ * 
+ * <p> Matrix files consist of a header of 64 bytes followed by the elements of the
+ * matrix. All values are stored in little-endian byte order.
+ * 
+ * <table>
+ * <caption>Header of a matrix file</caption>
+ * <tr><th>Offset</th><th>Type</th><th>Content</th></tr>
+ * <tr><td>0</td><td>4 bytes</td><td>The ASCII characters {@code VMLM}</td></tr>
+ * <tr><td>4</td><td>int</td><td>Version of the format, currently 1</td></tr>
+ * <tr><td>8</td><td>int</td><td>Type of the elements, 1 for {@code double} and 2 for {@code float}</td></tr>
+ * <tr><td>12</td><td>int</td><td>Layout of the elements, 0 for row-major and 1 for column-major</td></tr>
+ * <tr><td>16</td><td>int</td><td>Number of rows</td></tr>
+ * <tr><td>20</td><td>int</td><td>Number of columns</td></tr>
+ * <tr><td>24</td><td>long</td><td>CRC-32C checksum of the elements</td></tr>
+ * <tr><td>32</td><td>32 bytes</td><td>Reserved, always zero</td></tr>
+ * </table>
+ * 
+ * <p> Files written by this class are always in row-major order, files in column-major
+ * order written by other programs can be read as well. The checksum is not verified when
+ * a file is opened, since that would require reading the whole file. It can be verified
+ * explicitly with {@link #verifyChecksum()}.
+ * 
+ * @author Nico
+ */
+public final class MappedFloatMatrix {
+
+	/**Access to the memory of the arenas */
+	private static final OffHeapAccess ACCESS = OffHeapAccess.get();
+
+	/**
+	 * Maps the given matrix file in read-only mode.
+	 * 
+	 * @param arena The arena in which the file is mapped.
+	 * @param path Path of the file.
+	 * 
+	 * @return The matrix stored in the file.
+	 * 
+	 * @throws IOException if an I/O error occurs, if the file is not a valid
+	 * 		matrix file or if it does not contain a float matrix.
+	 * @throws IllegalStateException if the given arena has been closed.
+	 * @throws NullPointerException if the given arena or the given path are null.
+	 */
+	public static MappedFloatMatrix open(OffHeapArena arena, Path path) throws IOException {
+		arena.checkAlive();
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			MatrixFile.Header header = MatrixFile.read(channel, MatrixFile.FLOAT32);
+			return new MappedFloatMatrix(arena, header, MatrixFile.map(arena, channel, FileChannel.MapMode.READ_ONLY, header), null);
+		}
+	}
+
+	/**
+	 * Creates a new matrix file whose elements are all zero and maps it in read-write mode.
+	 * If the file already exists, it is overwritten.
+	 * 
+	 * <p> The elements written with {@link #set(int, int, float)} and {@link #setRow(int, FloatVector)}
+	 * are stored in the file, but the checksum in its header is only updated by {@link #force()}.
+	 * 
+	 * @param arena The arena in which the file is mapped.
+	 * @param path Path of the file.
+	 * @param rows Number of rows of the matrix.
+	 * @param columns Number of columns of the matrix.
+	 * 
+	 * @return The matrix stored in the new file.
+	 * 
+	 * @throws IOException if an I/O error occurs or if the rows of the matrix are too long to be mapped.
+	 * @throws MatrixMathException if the given number of rows or columns is not greater than zero.
+	 * @throws IllegalStateException if the given arena has been closed.
+	 * @throws NullPointerException if the given arena or the given path are null.
+	 */
+	public static MappedFloatMatrix create(OffHeapArena arena, Path path, int rows, int columns) throws IOException {
+		if(rows <= 0 || columns <= 0)
+			throw new MatrixMathException("A matrix cannot be empty");
+		arena.checkAlive();
+		MatrixFile.Header header = new MatrixFile.Header(MatrixFile.FLOAT32, MatrixFile.ROW_MAJOR, rows, columns, 0);
+		MatrixFile.checkLineLength(header);
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MatrixFile.write(channel, header);
+			channel.write(ByteBuffer.allocate(1), MatrixFile.HEADER_SIZE + header.dataBytes() - 1);
+			MappedByteBuffer headerBuffer = ACCESS.map(arena, channel, FileChannel.MapMode.READ_WRITE, 0, MatrixFile.HEADER_SIZE);
+			return new MappedFloatMatrix(arena, header, MatrixFile.map(arena, channel, FileChannel.MapMode.READ_WRITE, header), headerBuffer);
+		}
+	}
+
+	/**
+	 * Writes the given matrix to a new matrix file in row-major order.
+	 * If the file already exists, it is overwritten.
+	 * 
+	 * @param path Path of the file.
+	 * @param matrix The matrix to write.
+	 * 
+	 * @throws IOException if an I/O error occurs or if the rows of the matrix are too long to be mapped.
+	 * @throws NullPointerException if the given path or the given matrix are null.
+	 */
+	public static void write(Path path, FloatMatrix matrix) throws IOException {
+		try(OffHeapArena arena = new OffHeapArena()) {
+			MappedFloatMatrix file = create(arena, path, matrix.rows(), matrix.columns());
+			float[] values = matrix.toRowMajorArray();
+			for(int i = 0; i < file.chunks.length; i++) {
+				FloatBuffer chunk = file.chunks[i];
+				chunk.put(0, values, i * file.linesPerChunk * file.lineLength, chunk.capacity());
+			}
+			file.force();
+		}
+	}
+
+	/**Arena in which the file is mapped */
+	private final OffHeapArena arena;
+	/**Number of rows of the matrix */
+	private final int rows;
+	/**Number of columns of the matrix */
+	private final int columns;
+	/**Whether the elements are stored in row-major order */
+	private final boolean rowMajor;
+	/**Number of elements in a row, or in a column if the elements are stored in column-major order */
+	private final int lineLength;
+	/**Number of rows, or of columns, in every mapped chunk */
+	private final int linesPerChunk;
+	/**Mapped chunks of the file */
+	private final ByteBuffer[] bytes;
+	/**Elements in the mapped chunks */
+	private final FloatBuffer[] chunks;
+	/**Mapped header of the file, or null if the file is read-only */
+	private final MappedByteBuffer header;
+	/**Checksum stored in the header of the file */
+	private long checksum;
+
+	/**
+	 * Creates a matrix from the mapped chunks of a file.
+	 * 
+	 * @param arena Arena in which the file is mapped.
+	 * @param header Header of the file.
+	 * @param bytes Mapped chunks of the file.
+	 * @param headerBuffer Mapped header of the file, or null if the file is read-only.
+	 */
+	private MappedFloatMatrix(OffHeapArena arena, MatrixFile.Header header, ByteBuffer[] bytes, MappedByteBuffer headerBuffer) {
+		this.arena = arena;
+		this.rows = header.rows();
+		this.columns = header.columns();
+		this.rowMajor = header.layout() == MatrixFile.ROW_MAJOR;
+		this.lineLength = header.lineLength();
+		this.linesPerChunk = header.linesPerChunk();
+		this.bytes = bytes;
+		this.chunks = new FloatBuffer[bytes.length];
+		for(int i = 0; i < bytes.length; i++) {
+			this.chunks[i] = bytes[i].asFloatBuffer();
+		}
+		this.header = headerBuffer;
+		this.checksum = header.checksum();
+		if(headerBuffer != null) {
+			headerBuffer.order(ByteOrder.LITTLE_ENDIAN);
+		}
+	}
+
+	/**
+	 * Gets the number of rows of this matrix.
+	 * 
+	 * @return The number of rows of this matrix.
+	 */
+	public int rows() {
+		return this.rows;
+	}
+
+	/**
+	 * Gets the number of columns of this matrix.
+	 * 
+	 * @return The number of columns of this matrix.
+	 */
+	public int columns() {
+		return this.columns;
+	}
+
+	/**
+	 * Checks if the elements of this matrix are stored in row-major order.
+	 * 
+	 * @return True if the file is in row-major order, false if it is in column-major order.
+	 */
+	public boolean isRowMajor() {
+		return this.rowMajor;
+	}
+
+	/**
+	 * Checks if this matrix can be modified.
+	 * 
+	 * @return True if the file was created with {@link #create(OffHeapArena, Path, int, int)},
+	 * 		false if it was opened in read-only mode.
+	 */
+	public boolean isWritable() {
+		return this.header != null;
+	}
+
+	/**
+	 * Gets the element at the given row and column.
+	 * 
+	 * @param row Row of the element to get.
+	 * @param column Column of the element to get.
+	 * 
+	 * @return The element at the given row and column.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given row or column is less than 0
+	 * 		or greater than the matrix's size.
+	 * @throws IllegalStateException if the arena of this matrix has been closed.
+	 */
+	public float element(int row, int column) {
+		this.checkIndex(row, column);
+		ACCESS.acquire(this.arena);
+		try {
+			return this.rowMajor ? this.get(row, column) : this.get(column, row);
+		} finally {
+			ACCESS.release(this.arena);
+		}
+	}
+
+	/**
+	 * Sets the element at the given row and column, modifying this matrix and its file.
+	 * 
+	 * @param row Row of the element to set.
+	 * @param column Column of the element to set.
+	 * @param value The new value of the element.
+	 * 
+	 * @return This matrix.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given row or column is less than 0
+	 * 		or greater than the matrix's size.
+	 * @throws UnsupportedOperationException if the file was opened in read-only mode.
+	 * @throws IllegalStateException if the arena of this matrix has been closed.
+	 */
+	public MappedFloatMatrix set(int row, int column, float value) {
+		this.checkIndex(row, column);
+		this.checkWritable();
+		ACCESS.acquire(this.arena);
+		try {
+			if(this.rowMajor) {
+				this.chunks[row / this.linesPerChunk].put(row % this.linesPerChunk * this.lineLength + column, value);
+			} else {
+				this.chunks[column / this.linesPerChunk].put(column % this.linesPerChunk * this.lineLength + row, value);
+			}
+		} finally {
+			ACCESS.release(this.arena);
+		}
+		return this;
+	}
+
+	/**
+	 * Gets a row of this matrix.
+	 * 
+	 * @param row Index of the row to get.
+	 * 
+	 * @return The row at the given index.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given row is less than 0
+	 * 		or greater than the matrix's size.
+	 * @throws IllegalStateException if the arena of this matrix has been closed.
+	 */
+	public FloatVector row(int row) {
+		return new FloatVector(this.rows(row, row + 1).toRowMajorArray());
+	}
+
+	/**
+	 * Copies a range of rows of this matrix into a new matrix on the java heap.
+	 * Only the pages that contain the given rows are read from the file.
+	 * 
+	 * @param start Index of the first row, inclusive.
+	 * @param end Index of the last row, exclusive.
+	 * 
+	 * @return A matrix containing the rows in the given range.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given range is out of the bounds of the matrix.
+	 * @throws MatrixMathException if the given range is empty.
+	 * @throws IllegalStateException if the arena of this matrix has been closed.
+	 */
+	public FloatMatrix rows(int start, int end) {
+		this.arena.checkAlive();
+		if(start < 0 || end > this.rows || start > end)
+			throw new IndexOutOfBoundsException("Row range out of bounds");
+		float[] result = new float[(end - start) * this.columns];
+		ACCESS.acquire(this.arena);
+		try {
+			if(this.rowMajor) {
+				for(int r = start; r < end; r++) {
+					this.chunks[r / this.linesPerChunk].get(r % this.linesPerChunk * this.lineLength, result, (r - start) * this.columns, this.columns);
+				}
+			} else {
+				for(int c = 0; c < this.columns; c++) {
+					for(int r = start; r < end; r++) {
+						result[(r - start) * this.columns + c] = this.get(c, r);
+					}
+				}
+			}
+		} finally {
+			ACCESS.release(this.arena);
+		}
+		return new FloatMatrix(end - start, this.columns, result);
+	}
+
+	/**
+	 * Sets a row of this matrix, modifying this matrix and its file.
+	 * 
+	 * @param row Index of the row to set.
+	 * @param vector The new elements of the row.
+	 * 
+	 * @return This matrix.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given row is less than 0
+	 * 		or greater than the matrix's size.
+	 * @throws MatrixMathException if the size of the given vector does not match the number of columns.
+	 * @throws UnsupportedOperationException if the file was opened in read-only mode.
+	 * @throws IllegalStateException if the arena of this matrix has been closed.
+	 * @throws NullPointerException if the given vector is null.
+	 */
+	public MappedFloatMatrix setRow(int row, FloatVector vector) {
+		this.checkIndex(row, 0);
+		this.checkWritable();
+		if(vector.size() != this.columns)
+			throw new MatrixMathException("The given vector's size does not match the matrix's number of columns");
+		for(int c = 0; c < this.columns; c++) {
+			this.set(row, c, vector.element(c));
+		}
+		return this;
+	}
+
+	/**
+	 * Computes the product between this matrix and the given vector.
+	 * 
+	 * <p> The product is streamed over the mapped pages of the file, which are
+	 * read once in the order in which they are stored. The elements of every
+	 * row are added in the same order as {@link FloatMatrix#multiply(FloatVector)},
+	 * so the result is identical to the one computed on the heap.
+	 * 
+	 * @param vector The second operand of the product.
+	 * 
+	 * @return The result of the product between this matrix and the given vector.
+	 * 
+	 * @throws MatrixMathException If the size of the vector does not match the
+	 * 		number of columns of this matrix.
+	 * @throws IllegalStateException if the arena of this matrix has been closed.
+	 * @throws NullPointerException if the given vector is null.
+	 */
+	public FloatVector multiply(FloatVector vector) {
+		this.arena.checkAlive();
+		if(vector.size() != this.columns)
+			throw new MatrixMathException("The given vector's size does not match the matrix's number of columns");
+		float[] x = new float[this.columns];
+		for(int c = 0; c < x.length; c++) {
+			x[c] = vector.element(c);
+		}
+		float[] result = new float[this.rows];
+		ACCESS.acquire(this.arena);
+		try {
+			for(int i = 0; i < this.chunks.length; i++) {
+				FloatBuffer chunk = this.chunks[i];
+				int first = i * this.linesPerChunk;
+				int lines = chunk.capacity() / this.lineLength;
+				for(int line = 0; line < lines; line++) {
+					int offset = line * this.lineLength;
+					if(this.rowMajor) {
+						float sum = 0.0f;
+						for(int c = 0; c < this.columns; c++) {
+							sum += chunk.get(offset + c) * x[c];
+						}
+						result[first + line] = sum;
+					} else {
+						float k = x[first + line];
+						for(int r = 0; r < this.rows; r++) {
+							result[r] += chunk.get(offset + r) * k;
+						}
+					}
+				}
+			}
+		} finally {
+			ACCESS.release(this.arena);
+		}
+		return new FloatVector(result);
+	}
+
+	/**
+	 * Copies the elements of this matrix into a new matrix on the java heap.
+	 * 
+	 * @return A {@link FloatMatrix} with the same elements as this matrix.
+	 * 
+	 * @throws IllegalStateException if the arena of this matrix has been closed.
+	 */
+	public FloatMatrix toFloatMatrix() {
+		return this.rows(0, this.rows);
+	}
+
+	/**
+	 * Checks if the checksum stored in the header of the file matches its elements.
+	 * This reads every page of the file.
+	 * 
+	 * @return True if the checksum is correct, otherwise false.
+	 * 
+	 * @throws IllegalStateException if the arena of this matrix has been closed.
+	 */
+	public boolean verifyChecksum() {
+		ACCESS.acquire(this.arena);
+		try {
+			return this.checksum == MatrixFile.checksum(this.bytes);
+		} finally {
+			ACCESS.release(this.arena);
+		}
+	}
+
+	/**
+	 * Updates the checksum in the header of the file and writes all
+	 * the changes made to this matrix to the storage device.
+	 * 
+	 * @throws UnsupportedOperationException if the file was opened in read-only mode.
+	 * @throws IllegalStateException if the arena of this matrix has been closed.
+	 */
+	public void force() {
+		this.arena.checkAlive();
+		this.checkWritable();
+		ACCESS.acquire(this.arena);
+		try {
+			this.checksum = MatrixFile.checksum(this.bytes);
+			this.header.putLong(24, this.checksum);
+			for(ByteBuffer chunk : this.bytes) {
+				((MappedByteBuffer) chunk).force();
+			}
+			this.header.force();
+		} finally {
+			ACCESS.release(this.arena);
+		}
+	}
+
+	/**
+	 * Gets an element given its line and its position in the line.
+	 * 
+	 * @param line Index of the row, or of the column if the file is in column-major order.
+	 * @param position Position of the element in its line.
+	 * 
+	 * @return The element.
+	 */
+	private float get(int line, int position) {
+		return this.chunks[line / this.linesPerChunk].get(line % this.linesPerChunk * this.lineLength + position);
+	}
+
+	/**
+	 * Checks that the given indices are in the bounds of this matrix
+	 * and that its arena is still alive.
+	 * 
+	 * @param row Index of the row.
+	 * @param column Index of the column.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given row or column is out of bounds.
+	 * @throws IllegalStateException if the arena of this matrix has been closed.
+	 */
+	private void checkIndex(int row, int column) {
+		this.arena.checkAlive();
+		if(row < 0 || row >= this.rows)
+			throw new IndexOutOfBoundsException("Row index out of bounds");
+		if(column < 0 || column >= this.columns)
+			throw new IndexOutOfBoundsException("Column index out of bounds");
+	}
+
+	/**
+	 * Checks that this matrix can be modified.
+	 * 
+	 * @throws UnsupportedOperationException if the file was opened in read-only mode.
+	 */
+	private void checkWritable() {
+		if(this.header == null)
+			throw new UnsupportedOperationException("The matrix file was opened in read-only mode");
+	}
+
+	@Override
+	public String toString() {
+		return "MappedFloatMatrix" + this.rows + "x" + this.columns + (this.rowMajor ? "[row-major]" : "[column-major]");
+	}
+}
@@ -105,7 +105,7 @@ public interface MatrixDoubleOperations<M extends MatrixDoubleOperations<M, V>,
 	 * Multiplies this matrix by the given one.
 	 * 
 	 * <p> Two matrices can only be multiplied if the first one has the same number
-	 * of rows as the second one has columns.
+	 * of columns as the second one has rows.
 	 * 
 	 * <p> The product between two matrices m1 and m2 is a matrix m3 such that
 	 * every element m-ij of m3 is the dot product of the i-th row of m1 and the
@@ -120,8 +120,8 @@ public interface MatrixDoubleOperations<M extends MatrixDoubleOperations<M, V>,
 	 * 
 	 * @return The product of this matrix and the given one.
 	 * 
-	 * @throws MatrixMathException If the number of rows of this matrix does not
-	 * 		match the number of columns of the given matrix.
+	 * @throws MatrixMathException If the number of columns of this matrix does not
+	 * 		match the number of rows of the given matrix.
 	 * @throws NullPointerException if the given matrix is null.
 	 */
 	default M multiply(MatrixAsDouble<M, V> matrix) {
@@ -0,0 +1,251 @@
+package io.github.vecmatlib.matrix;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32C;
+
+import io.github.vecmatlib.vector.OffHeapAccess;
+import io.github.vecmatlib.vector.OffHeapArena;
+
+/**
+ * Utility class that reads and writes the header of the binary matrix files
+ * used by {@link MappedDoubleMatrix} and {@link MappedFloatMatrix}.
+ * 
+ * <p> A matrix file is made of a header of {@link #HEADER_SIZE} bytes followed by
+ * the elements of the matrix. All values are stored in little-endian byte order.
+ * 
+ * <table>
+ * <caption>Header of a matrix file</caption>
+ * <tr><th>Offset</th><th>Type</th><th>Content</th></tr>
+ * <tr><td>0</td><td>4 bytes</td><td>The ASCII characters {@code VMLM}</td></tr>
+ * <tr><td>4</td><td>int</td><td>Version of the format, currently 1</td></tr>
+ * <tr><td>8</td><td>int</td><td>Type of the elements, 1 for {@code double} and 2 for {@code float}</td></tr>
+ * <tr><td>12</td><td>int</td><td>Layout of the elements, 0 for row-major and 1 for column-major</td></tr>
+ * <tr><td>16</td><td>int</td><td>Number of rows</td></tr>
+ * <tr><td>20</td><td>int</td><td>Number of columns</td></tr>
+ * <tr><td>24</td><td>long</td><td>CRC-32C checksum of the elements</td></tr>
+ * <tr><td>32</td><td>32 bytes</td><td>Reserved, always zero</td></tr>
+ * </table>
+ * 
+ * <p> The elements are mapped in chunks of at most {@link #CHUNK_BYTES} bytes,
+ * each of which contains a whole number of rows, or of columns if the file is
+ * in column-major order, so that files larger than 2 GB can be mapped.
+ * 
+ * @author Nico
+ */
+final class MatrixFile {
+
+	/**Size of the header in bytes */
+	static final int HEADER_SIZE = 64;
+	/**Current version of the format */
+	static final int VERSION = 1;
+	/**Type code of {@code double} elements */
+	static final int FLOAT64 = 1;
+	/**Type code of {@code float} elements */
+	static final int FLOAT32 = 2;
+	/**Layout code of row-major files */
+	static final int ROW_MAJOR = 0;
+	/**Layout code of column-major files */
+	static final int COLUMN_MAJOR = 1;
+	/**Maximum size of a mapped chunk in bytes */
+	static final int CHUNK_BYTES = 1 << 30;
+
+	/**The first four bytes of every matrix file */
+	private static final int MAGIC = 'V' | 'M' << 8 | 'L' << 16 | 'M' << 24;
+	/**Access to the memory of the arenas */
+	private static final OffHeapAccess ACCESS = OffHeapAccess.get();
+
+	private MatrixFile() {}
+
+	/**
+	 * Header of a matrix file.
+	 * 
+	 * @param type Type of the elements, {@link #FLOAT64} or {@link #FLOAT32}.
+	 * @param layout Layout of the elements, {@link #ROW_MAJOR} or {@link #COLUMN_MAJOR}.
+	 * @param rows Number of rows.
+	 * @param columns Number of columns.
+	 * @param checksum CRC-32C checksum of the elements.
+	 */
+	record Header(int type, int layout, int rows, int columns, long checksum) {
+
+		/**
+		 * Gets the size in bytes of a single element.
+		 * 
+		 * @return 8 for {@code double} elements or 4 for {@code float} elements.
+		 */
+		int elementBytes() {
+			return this.type == FLOAT64 ? Double.BYTES : Float.BYTES;
+		}
+
+		/**
+		 * Gets the number of rows, or of columns if the file is in column-major order.
+		 * 
+		 * @return The number of contiguous lines of elements.
+		 */
+		int lines() {
+			return this.layout == ROW_MAJOR ? this.rows : this.columns;
+		}
+
+		/**
+		 * Gets the number of elements in a row, or in a column if the file is in column-major order.
+		 * 
+		 * @return The length of a contiguous line of elements.
+		 */
+		int lineLength() {
+			return this.layout == ROW_MAJOR ? this.columns : this.rows;
+		}
+
+		/**
+		 * Gets the number of lines stored in every mapped chunk.
+		 * 
+		 * @return The number of lines in a chunk.
+		 */
+		int linesPerChunk() {
+			return (int) (CHUNK_BYTES / ((long) this.lineLength() * this.elementBytes()));
+		}
+
+		/**
+		 * Gets the number of chunks in which the elements are mapped.
+		 * The lines must fit in a chunk, see {@link MatrixFile#checkLineLength(Header)}.
+		 * 
+		 * @return The number of chunks.
+		 */
+		int chunks() {
+			return (this.lines() - 1) / this.linesPerChunk() + 1;
+		}
+
+		/**
+		 * Gets the size in bytes of the elements.
+		 * 
+		 * @return The size of the file without the header.
+		 */
+		long dataBytes() {
+			return (long) this.rows * this.columns * this.elementBytes();
+		}
+	}
+
+	/**
+	 * Reads and validates the header of a matrix file.
+	 * 
+	 * @param channel The channel of the file.
+	 * @param type The expected type of the elements.
+	 * 
+	 * @return The header of the file.
+	 * 
+	 * @throws IOException if an I/O error occurs, if the file is not a valid
+	 * 		matrix file or if its elements are not of the expected type.
+	 */
+	static Header read(FileChannel channel, int type) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		while(buffer.hasRemaining()) {
+			if(channel.read(buffer, buffer.position()) < 0)
+				throw new IOException("The file is too short to be a matrix file");
+		}
+		if(buffer.getInt(0) != MAGIC)
+			throw new IOException("The file is not a matrix file");
+		if(buffer.getInt(4) != VERSION)
+			throw new IOException("Unsupported matrix file version " + buffer.getInt(4));
+		if(buffer.getInt(8) != type)
+			throw new IOException("The file does not contain a " + (type == FLOAT64 ? "double" : "float") + " matrix");
+		Header header = new Header(type, buffer.getInt(12), buffer.getInt(16), buffer.getInt(20), buffer.getLong(24));
+		if(header.layout() != ROW_MAJOR && header.layout() != COLUMN_MAJOR)
+			throw new IOException("Unknown matrix layout " + header.layout());
+		if(header.rows() <= 0 || header.columns() <= 0)
+			throw new IOException("The matrix in the file is empty");
+		if(channel.size() < HEADER_SIZE + header.dataBytes())
+			throw new IOException("The file is shorter than the size of the matrix");
+		checkLineLength(header);
+		return header;
+	}
+
+	/**
+	 * Writes the given header at the beginning of a file.
+	 * 
+	 * @param channel The channel of the file.
+	 * @param header The header to write.
+	 * 
+	 * @throws IOException if an I/O error occurs.
+	 */
+	static void write(FileChannel channel, Header header) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		write(buffer, header);
+		while(buffer.hasRemaining()) {
+			channel.write(buffer, buffer.position());
+		}
+	}
+
+	/**
+	 * Stores the given header at the beginning of the given buffer.
+	 * 
+	 * @param buffer A little-endian buffer of at least {@link #HEADER_SIZE} bytes.
+	 * @param header The header to store.
+	 */
+	static void write(ByteBuffer buffer, Header header) {
+		buffer.putInt(0, MAGIC);
+		buffer.putInt(4, VERSION);
+		buffer.putInt(8, header.type());
+		buffer.putInt(12, header.layout());
+		buffer.putInt(16, header.rows());
+		buffer.putInt(20, header.columns());
+		buffer.putLong(24, header.checksum());
+		for(int i = 32; i < HEADER_SIZE; i++) {
+			buffer.put(i, (byte) 0);
+		}
+	}
+
+	/**
+	 * Checks that a single line of the matrix fits in a mapped chunk.
+	 * 
+	 * @param header The header of the file.
+	 * 
+	 * @throws IOException if a line of the matrix is larger than {@link #CHUNK_BYTES}.
+	 */
+	static void checkLineLength(Header header) throws IOException {
+		if((long) header.lineLength() * header.elementBytes() > CHUNK_BYTES)
+			throw new IOException("The rows of the matrix are too long to be mapped");
+	}
+
+	/**
+	 * Maps the elements of a matrix file in the given arena.
+	 * 
+	 * @param arena The arena in which the file is mapped.
+	 * @param channel The channel of the file.
+	 * @param mode Whether the file is mapped read-only or read-write.
+	 * @param header The header of the file.
+	 * 
+	 * @return The mapped chunks in little-endian byte order.
+	 * 
+	 * @throws IOException if an I/O error occurs or a line of the matrix is larger than {@link #CHUNK_BYTES}.
+	 */
+	static ByteBuffer[] map(OffHeapArena arena, FileChannel channel, FileChannel.MapMode mode, Header header) throws IOException {
+		checkLineLength(header);
+		int lines = header.lines();
+		int linesPerChunk = header.linesPerChunk();
+		long lineBytes = (long) header.lineLength() * header.elementBytes();
+		ByteBuffer[] chunks = new ByteBuffer[header.chunks()];
+		for(int i = 0; i < chunks.length; i++) {
+			long start = (long) i * linesPerChunk;
+			long size = Math.min(linesPerChunk, lines - start) * lineBytes;
+			chunks[i] = ACCESS.map(arena, channel, mode, HEADER_SIZE + start * lineBytes, size).order(ByteOrder.LITTLE_ENDIAN);
+		}
+		return chunks;
+	}
+
+	/**
+	 * Computes the checksum of the given mapped chunks.
+	 * This reads every page of the file.
+	 * 
+	 * @param chunks The mapped chunks.
+	 * 
+	 * @return The CRC-32C checksum of the elements.
+	 */
+	static long checksum(ByteBuffer[] chunks) {
+		CRC32C crc = new CRC32C();
+		for(ByteBuffer chunk : chunks) {
+			crc.update(chunk.duplicate().clear());
+		}
+		return crc.getValue();
+	}
+}
@@ -27,4 +27,51 @@ public interface MatrixIntOperations<M extends MatrixIntOperations<M, V>, V exte
 	 * @return The product of this matrix and the given scalar.
 	 */
 	M multipliedBy(int k);
+
+	/**
+	 * Computes the power of this matrix, throwing an exception if the result overflows.
+	 * 
+	 * <p> The n-th power of a matrix is the product of itself n times.
+	 * Unlike {@link #power(int)}, which silently overflows like java's
+	 * {@code int} operators, this method throws an exception if any of
+	 * the products involved overflows an {@code int}.
+	 * 
+	 * <p> Only square matrices can be raised to a power.
+	 * 
+	 * <p> Matrices are supposed to be immutable. This means that this method
+	 * does not alter the object on which it is called, it returns a new matrix
+	 * instead.
+	 * 
+	 * @param exponent Exponent of the power.
+	 * 
+	 * @return The n-th power of this matrix.
+	 * 
+	 * @throws MatrixMathException If this matrix is not square.
+	 * @throws ArithmeticException If the result overflows an {@code int}.
+	 */
+	M powerExact(int exponent);
+
+	/**
+	 * Computes the power of this matrix using modular arithmetic.
+	 * 
+	 * <p> The n-th power of a matrix is the product of itself n times.
+	 * This method reduces every element modulo the given modulus after each
+	 * product, therefore the result is exact for any exponent. Every element
+	 * of the result is in the range {@code [0, modulus)}.
+	 * 
+	 * <p> Only square matrices can be raised to a power.
+	 * 
+	 * <p> Matrices are supposed to be immutable. This means that this method
+	 * does not alter the object on which it is called, it returns a new matrix
+	 * instead.
+	 * 
+	 * @param exponent Exponent of the power.
+	 * @param modulus The modulus, a positive number.
+	 * 
+	 * @return The n-th power of this matrix modulo the given modulus.
+	 * 
+	 * @throws MatrixMathException If this matrix is not square.
+	 * @throws ArithmeticException If the given modulus is not positive.
+	 */
+	M powerMod(int exponent, int modulus);
 }
@@ -0,0 +1,528 @@
+package io.github.vecmatlib.matrix;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Utility class that contains the kernels used by the dynamic-size
+ * matrices to operate on their flat row-major arrays.
+ * 
+ * <p> The matrix product is computed in blocks so that the portion of
+ * the second operand that is being used fits in the cache. Four rows
+ * of the second operand are combined in every pass of the innermost
+ * loop, which runs over contiguous memory so that it can be vectorized
+ * by the JIT compiler. No object is allocated while the product is
+ * being computed.
+ * 
+ * <p> Every element of the result accumulates its terms in the same
+ * order no matter how the output is split, so the result of a product
+ * computed one tile at a time is identical to the one computed at once.
+ * This is what allows the product to be split across several threads
+ * without making its result depend on the number of threads.
+ * 
+ * <p> If the {@code jdk.incubator.vector} module is enabled with
+ * {@code --add-modules jdk.incubator.vector}, the tile products are
+ * computed by an implementation of {@link Accelerated} that uses the
+ * JDK Vector API. It is only loaded through reflection, so the library
+ * does not depend on the incubator module. Setting the system property
+ * {@code vecmatlib.simd} to {@code false} disables it. The accelerated
+ * kernels perform the same operations in the same order for every element,
+ * so they give exactly the same result.
+ * 
+ * @author Nico
+ */
+final class MatrixKernels {
+
+	/**Number of elements of the shared dimension processed in a single block */
+	static final int BLOCK_K = 128;
+	/**Number of columns of the result processed in a single block */
+	static final int BLOCK_N = 256;
+	/**Number of multiply-add operations below which a product is not split into smaller tasks */
+	static final long PARALLEL_THRESHOLD = 1L << 20;
+
+	/**Accelerated kernels, or null if the JDK Vector API is not available */
+	static final Accelerated ACCELERATED = loadAccelerated();
+
+	private MatrixKernels() {}
+
+	/**
+	 * Tile products that use the JDK Vector API.
+	 * Every method has the same contract as the corresponding
+	 * {@code multiply} method in {@link MatrixKernels}.
+	 */
+	interface Accelerated {
+
+		/**
+		 * Computes a tile of the product between two double matrices.
+		 * 
+		 * @see MatrixKernels#multiply(double[], double[], double[], int, int, int, int, int, int)
+		 */
+		void multiply(double[] a, double[] b, double[] c, int k, int n, int rowStart, int rowEnd, int columnStart, int columnEnd);
+
+		/**
+		 * Computes a tile of the product between two float matrices.
+		 * 
+		 * @see MatrixKernels#multiply(float[], float[], float[], int, int, int, int, int, int)
+		 */
+		void multiply(float[] a, float[] b, float[] c, int k, int n, int rowStart, int rowEnd, int columnStart, int columnEnd);
+
+		/**
+		 * Computes a tile of the product between two int matrices.
+		 * 
+		 * @see MatrixKernels#multiply(int[], int[], int[], int, int, int, int, int, int)
+		 */
+		void multiply(int[] a, int[] b, int[] c, int k, int n, int rowStart, int rowEnd, int columnStart, int columnEnd);
+	}
+
+	/**
+	 * Loads the accelerated kernels if the {@code jdk.incubator.vector}
+	 * module is available and they have not been disabled.
+	 * 
+	 * @return The accelerated kernels or null.
+	 */
+	private static Accelerated loadAccelerated() {
+		if(Boolean.parseBoolean(System.getProperty("vecmatlib.simd", "true")) && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+			try {
+				return (Accelerated) Class.forName("io.github.vecmatlib.matrix.SimdMatrixKernels").getDeclaredConstructor().newInstance();
+			} catch(ReflectiveOperationException | LinkageError e) {
+				// The accelerated kernels are not present or cannot be used
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Computes a tile of the product between two matrices.
+	 * Implemented by lambdas that call one of the {@code multiply} kernels.
+	 */
+	@FunctionalInterface
+	interface Tile {
+
+		/**
+		 * Computes the given tile of the product.
+		 * 
+		 * @param rowStart First row of the tile, inclusive.
+		 * @param rowEnd Last row of the tile, exclusive.
+		 * @param columnStart First column of the tile, inclusive.
+		 * @param columnEnd Last column of the tile, exclusive.
+		 */
+		void compute(int rowStart, int rowEnd, int columnStart, int columnEnd);
+	}
+
+	/**
+	 * Computes an m x n product whose shared dimension is k using the given pool.
+	 * 
+	 * <p> The product is computed sequentially in the calling thread if it
+	 * requires less than {@link #PARALLEL_THRESHOLD} multiply-add operations.
+	 * Otherwise the result is recursively split into tiles which are computed
+	 * by the threads of the given pool.
+	 * 
+	 * @param pool The pool used to compute the tiles.
+	 * @param m Number of rows of the result.
+	 * @param k Size of the shared dimension.
+	 * @param n Number of columns of the result.
+	 * @param tile Function that computes a tile of the product.
+	 */
+	static void parallel(ForkJoinPool pool, int m, int k, int n, Tile tile) {
+		if((long) m * k * n < PARALLEL_THRESHOLD) {
+			tile.compute(0, m, 0, n);
+		} else {
+			pool.invoke(new TileTask(tile, k, 0, m, 0, n));
+		}
+	}
+
+	/**
+	 * Task that computes a tile of a product or splits it in two halves
+	 * along its largest dimension if it is too big.
+	 */
+	private static final class TileTask extends RecursiveAction {
+
+		/**Function that computes a tile of the product */
+		private final Tile tile;
+		/**Size of the shared dimension */
+		private final int k;
+		/**Bounds of the tile */
+		private final int rowStart, rowEnd, columnStart, columnEnd;
+
+		/**
+		 * Creates a task that computes the given tile.
+		 * 
+		 * @param tile Function that computes a tile of the product.
+		 * @param k Size of the shared dimension.
+		 * @param rowStart First row of the tile, inclusive.
+		 * @param rowEnd Last row of the tile, exclusive.
+		 * @param columnStart First column of the tile, inclusive.
+		 * @param columnEnd Last column of the tile, exclusive.
+		 */
+		private TileTask(Tile tile, int k, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+			this.tile = tile;
+			this.k = k;
+			this.rowStart = rowStart;
+			this.rowEnd = rowEnd;
+			this.columnStart = columnStart;
+			this.columnEnd = columnEnd;
+		}
+
+		@Override
+		protected void compute() {
+			int rows = this.rowEnd - this.rowStart;
+			int columns = this.columnEnd - this.columnStart;
+			if((long) rows * columns * this.k < PARALLEL_THRESHOLD || (rows == 1 && columns <= BLOCK_N)) {
+				this.tile.compute(this.rowStart, this.rowEnd, this.columnStart, this.columnEnd);
+			} else if(rows >= columns || columns <= BLOCK_N) {
+				int middle = this.rowStart + rows / 2;
+				invokeAll(new TileTask(this.tile, this.k, this.rowStart, middle, this.columnStart, this.columnEnd),
+						new TileTask(this.tile, this.k, middle, this.rowEnd, this.columnStart, this.columnEnd));
+			} else {
+				int middle = this.columnStart + columns / 2;
+				invokeAll(new TileTask(this.tile, this.k, this.rowStart, this.rowEnd, this.columnStart, middle),
+						new TileTask(this.tile, this.k, this.rowStart, this.rowEnd, middle, this.columnEnd));
+			}
+		}
+	}
+
+	/**
+	 * Computes the product between the matrices a and b and adds it to c.
+	 * 
+	 * @param a The first operand, an m x k matrix in row-major order.
+	 * @param b The second operand, a k x n matrix in row-major order.
+	 * @param c The result, an m x n matrix in row-major order.
+	 * @param m Number of rows of a and c.
+	 * @param k Number of columns of a and rows of b.
+	 * @param n Number of columns of b and c.
+	 */
+	static void multiply(double[] a, double[] b, double[] c, int m, int k, int n) {
+		multiply(a, b, c, k, n, 0, m, 0, n);
+	}
+
+	/**
+	 * Computes a rectangular tile of the product between the matrices
+	 * a and b and adds it to the corresponding elements of c.
+	 * 
+	 * @param a The first operand, a matrix with k columns in row-major order.
+	 * @param b The second operand, a k x n matrix in row-major order.
+	 * @param c The result, a matrix with n columns in row-major order.
+	 * @param k Number of columns of a and rows of b.
+	 * @param n Number of columns of b and c.
+	 * @param rowStart First row of the tile, inclusive.
+	 * @param rowEnd Last row of the tile, exclusive.
+	 * @param columnStart First column of the tile, inclusive.
+	 * @param columnEnd Last column of the tile, exclusive.
+	 */
+	static void multiply(double[] a, double[] b, double[] c, int k, int n, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		if(ACCELERATED != null) {
+			ACCELERATED.multiply(a, b, c, k, n, rowStart, rowEnd, columnStart, columnEnd);
+		} else {
+			multiplyScalar(a, b, c, k, n, rowStart, rowEnd, columnStart, columnEnd);
+		}
+	}
+
+	/**
+	 * Computes a tile of the product between two double matrices with the scalar loops,
+	 * even if the accelerated kernels are available.
+	 * 
+	 * @see #multiply(double[], double[], double[], int, int, int, int, int, int)
+	 */
+	static void multiplyScalar(double[] a, double[] b, double[] c, int k, int n, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		for(int k0 = 0; k0 < k; k0 += BLOCK_K) {
+			int k1 = Math.min(k0 + BLOCK_K, k);
+			for(int j0 = columnStart; j0 < columnEnd; j0 += BLOCK_N) {
+				int j1 = Math.min(j0 + BLOCK_N, columnEnd);
+				for(int i = rowStart; i < rowEnd; i++) {
+					int row = i * k;
+					int out = i * n;
+					int p = k0;
+					for(; p + 3 < k1; p += 4) {
+						double x0 = a[row + p], x1 = a[row + p + 1], x2 = a[row + p + 2], x3 = a[row + p + 3];
+						int in0 = p * n, in1 = in0 + n, in2 = in1 + n, in3 = in2 + n;
+						for(int j = j0; j < j1; j++) {
+							c[out + j] += x0 * b[in0 + j] + x1 * b[in1 + j] + x2 * b[in2 + j] + x3 * b[in3 + j];
+						}
+					}
+					for(; p < k1; p++) {
+						double x = a[row + p];
+						int in = p * n;
+						for(int j = j0; j < j1; j++) {
+							c[out + j] += x * b[in + j];
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes the product between the off-heap matrices a and b and adds it to c.
+	 * 
+	 * @param a The first operand, an m x k matrix in row-major order.
+	 * @param b The second operand, a k x n matrix in row-major order.
+	 * @param c The result, an m x n matrix in row-major order.
+	 * @param m Number of rows of a and c.
+	 * @param k Number of columns of a and rows of b.
+	 * @param n Number of columns of b and c.
+	 */
+	static void multiply(DoubleBuffer a, DoubleBuffer b, DoubleBuffer c, int m, int k, int n) {
+		multiply(a, b, c, k, n, 0, m, 0, n);
+	}
+
+	/**
+	 * Computes a rectangular tile of the product between the off-heap matrices
+	 * a and b and adds it to the corresponding elements of c.
+	 * 
+	 * <p> The elements are read and written in place in native memory, in the
+	 * same blocks and in the same order as {@link #multiply(double[], double[], double[], int, int, int, int, int, int)},
+	 * so the result is identical to the one of the product of the same matrices on the heap.
+	 * 
+	 * @param a The first operand, a matrix with k columns in row-major order.
+	 * @param b The second operand, a k x n matrix in row-major order.
+	 * @param c The result, a matrix with n columns in row-major order.
+	 * @param k Number of columns of a and rows of b.
+	 * @param n Number of columns of b and c.
+	 * @param rowStart First row of the tile, inclusive.
+	 * @param rowEnd Last row of the tile, exclusive.
+	 * @param columnStart First column of the tile, inclusive.
+	 * @param columnEnd Last column of the tile, exclusive.
+	 */
+	static void multiply(DoubleBuffer a, DoubleBuffer b, DoubleBuffer c, int k, int n, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		for(int k0 = 0; k0 < k; k0 += BLOCK_K) {
+			int k1 = Math.min(k0 + BLOCK_K, k);
+			for(int j0 = columnStart; j0 < columnEnd; j0 += BLOCK_N) {
+				int j1 = Math.min(j0 + BLOCK_N, columnEnd);
+				for(int i = rowStart; i < rowEnd; i++) {
+					int row = i * k;
+					int out = i * n;
+					int p = k0;
+					for(; p + 3 < k1; p += 4) {
+						double x0 = a.get(row + p), x1 = a.get(row + p + 1), x2 = a.get(row + p + 2), x3 = a.get(row + p + 3);
+						int in0 = p * n, in1 = in0 + n, in2 = in1 + n, in3 = in2 + n;
+						for(int j = j0; j < j1; j++) {
+							c.put(out + j, c.get(out + j) + (x0 * b.get(in0 + j) + x1 * b.get(in1 + j) + x2 * b.get(in2 + j) + x3 * b.get(in3 + j)));
+						}
+					}
+					for(; p < k1; p++) {
+						double x = a.get(row + p);
+						int in = p * n;
+						for(int j = j0; j < j1; j++) {
+							c.put(out + j, c.get(out + j) + x * b.get(in + j));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes the product between the matrices a and b and adds it to c.
+	 * 
+	 * @param a The first operand, an m x k matrix in row-major order.
+	 * @param b The second operand, a k x n matrix in row-major order.
+	 * @param c The result, an m x n matrix in row-major order.
+	 * @param m Number of rows of a and c.
+	 * @param k Number of columns of a and rows of b.
+	 * @param n Number of columns of b and c.
+	 */
+	static void multiply(float[] a, float[] b, float[] c, int m, int k, int n) {
+		multiply(a, b, c, k, n, 0, m, 0, n);
+	}
+
+	/**
+	 * Computes a rectangular tile of the product between the matrices
+	 * a and b and adds it to the corresponding elements of c.
+	 * 
+	 * @param a The first operand, a matrix with k columns in row-major order.
+	 * @param b The second operand, a k x n matrix in row-major order.
+	 * @param c The result, a matrix with n columns in row-major order.
+	 * @param k Number of columns of a and rows of b.
+	 * @param n Number of columns of b and c.
+	 * @param rowStart First row of the tile, inclusive.
+	 * @param rowEnd Last row of the tile, exclusive.
+	 * @param columnStart First column of the tile, inclusive.
+	 * @param columnEnd Last column of the tile, exclusive.
+	 */
+	static void multiply(float[] a, float[] b, float[] c, int k, int n, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		if(ACCELERATED != null) {
+			ACCELERATED.multiply(a, b, c, k, n, rowStart, rowEnd, columnStart, columnEnd);
+		} else {
+			multiplyScalar(a, b, c, k, n, rowStart, rowEnd, columnStart, columnEnd);
+		}
+	}
+
+	/**
+	 * Computes a tile of the product between two float matrices with the scalar loops,
+	 * even if the accelerated kernels are available.
+	 * 
+	 * @see #multiply(float[], float[], float[], int, int, int, int, int, int)
+	 */
+	static void multiplyScalar(float[] a, float[] b, float[] c, int k, int n, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		for(int k0 = 0; k0 < k; k0 += BLOCK_K) {
+			int k1 = Math.min(k0 + BLOCK_K, k);
+			for(int j0 = columnStart; j0 < columnEnd; j0 += BLOCK_N) {
+				int j1 = Math.min(j0 + BLOCK_N, columnEnd);
+				for(int i = rowStart; i < rowEnd; i++) {
+					int row = i * k;
+					int out = i * n;
+					int p = k0;
+					for(; p + 3 < k1; p += 4) {
+						float x0 = a[row + p], x1 = a[row + p + 1], x2 = a[row + p + 2], x3 = a[row + p + 3];
+						int in0 = p * n, in1 = in0 + n, in2 = in1 + n, in3 = in2 + n;
+						for(int j = j0; j < j1; j++) {
+							c[out + j] += x0 * b[in0 + j] + x1 * b[in1 + j] + x2 * b[in2 + j] + x3 * b[in3 + j];
+						}
+					}
+					for(; p < k1; p++) {
+						float x = a[row + p];
+						int in = p * n;
+						for(int j = j0; j < j1; j++) {
+							c[out + j] += x * b[in + j];
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes the product between the matrices a and b and adds it to c.
+	 * 
+	 * <p> Like java's {@code int} operators, the result silently
+	 * overflows if it does not fit in an {@code int}.
+	 * 
+	 * @param a The first operand, an m x k matrix in row-major order.
+	 * @param b The second operand, a k x n matrix in row-major order.
+	 * @param c The result, an m x n matrix in row-major order.
+	 * @param m Number of rows of a and c.
+	 * @param k Number of columns of a and rows of b.
+	 * @param n Number of columns of b and c.
+	 */
+	static void multiply(int[] a, int[] b, int[] c, int m, int k, int n) {
+		multiply(a, b, c, k, n, 0, m, 0, n);
+	}
+
+	/**
+	 * Computes a rectangular tile of the product between the matrices
+	 * a and b and adds it to the corresponding elements of c.
+	 * 
+	 * @param a The first operand, a matrix with k columns in row-major order.
+	 * @param b The second operand, a k x n matrix in row-major order.
+	 * @param c The result, a matrix with n columns in row-major order.
+	 * @param k Number of columns of a and rows of b.
+	 * @param n Number of columns of b and c.
+	 * @param rowStart First row of the tile, inclusive.
+	 * @param rowEnd Last row of the tile, exclusive.
+	 * @param columnStart First column of the tile, inclusive.
+	 * @param columnEnd Last column of the tile, exclusive.
+	 */
+	static void multiply(int[] a, int[] b, int[] c, int k, int n, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		if(ACCELERATED != null) {
+			ACCELERATED.multiply(a, b, c, k, n, rowStart, rowEnd, columnStart, columnEnd);
+		} else {
+			multiplyScalar(a, b, c, k, n, rowStart, rowEnd, columnStart, columnEnd);
+		}
+	}
+
+	/**
+	 * Computes a tile of the product between two int matrices with the scalar loops,
+	 * even if the accelerated kernels are available.
+	 * 
+	 * @see #multiply(int[], int[], int[], int, int, int, int, int, int)
+	 */
+	static void multiplyScalar(int[] a, int[] b, int[] c, int k, int n, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		for(int k0 = 0; k0 < k; k0 += BLOCK_K) {
+			int k1 = Math.min(k0 + BLOCK_K, k);
+			for(int j0 = columnStart; j0 < columnEnd; j0 += BLOCK_N) {
+				int j1 = Math.min(j0 + BLOCK_N, columnEnd);
+				for(int i = rowStart; i < rowEnd; i++) {
+					int row = i * k;
+					int out = i * n;
+					int p = k0;
+					for(; p + 3 < k1; p += 4) {
+						int x0 = a[row + p], x1 = a[row + p + 1], x2 = a[row + p + 2], x3 = a[row + p + 3];
+						int in0 = p * n, in1 = in0 + n, in2 = in1 + n, in3 = in2 + n;
+						for(int j = j0; j < j1; j++) {
+							c[out + j] += x0 * b[in0 + j] + x1 * b[in1 + j] + x2 * b[in2 + j] + x3 * b[in3 + j];
+						}
+					}
+					for(; p < k1; p++) {
+						int x = a[row + p];
+						int in = p * n;
+						for(int j = j0; j < j1; j++) {
+							c[out + j] += x * b[in + j];
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes the product between the matrices a and b and stores it in c,
+	 * throwing an exception if any element of the result overflows.
+	 * 
+	 * @param a The first operand, an m x k matrix in row-major order.
+	 * @param b The second operand, a k x n matrix in row-major order.
+	 * @param c The result, an m x n matrix in row-major order.
+	 * @param m Number of rows of a and c.
+	 * @param k Number of columns of a and rows of b.
+	 * @param n Number of columns of b and c.
+	 * @param accumulator A scratch buffer of at least n elements.
+	 * 
+	 * @throws ArithmeticException If an element of the result overflows an {@code int}.
+	 */
+	static void multiplyExact(int[] a, int[] b, int[] c, int m, int k, int n, long[] accumulator) {
+		for(int i = 0; i < m; i++) {
+			Arrays.fill(accumulator, 0, n, 0L);
+			int row = i * k;
+			for(int p = 0; p < k; p++) {
+				long x = a[row + p];
+				int in = p * n;
+				for(int j = 0; j < n; j++) {
+					accumulator[j] = Math.addExact(accumulator[j], x * b[in + j]);
+				}
+			}
+			int out = i * n;
+			for(int j = 0; j < n; j++) {
+				c[out + j] = Math.toIntExact(accumulator[j]);
+			}
+		}
+	}
+
+	/**
+	 * Computes the product between the matrices a and b modulo the given
+	 * modulus and stores it in c. The elements of a and b must be in the
+	 * range {@code [0, modulus)}.
+	 * 
+	 * <p> Products are accumulated in a {@code long} and only reduced when
+	 * the accumulator grows past 2^62, which cannot overflow since every
+	 * product is smaller than 2^62.
+	 * 
+	 * @param a The first operand, an m x k matrix in row-major order.
+	 * @param b The second operand, a k x n matrix in row-major order.
+	 * @param c The result, an m x n matrix in row-major order.
+	 * @param m Number of rows of a and c.
+	 * @param k Number of columns of a and rows of b.
+	 * @param n Number of columns of b and c.
+	 * @param modulus The modulus, a positive number.
+	 * @param accumulator A scratch buffer of at least n elements.
+	 */
+	static void multiplyMod(int[] a, int[] b, int[] c, int m, int k, int n, int modulus, long[] accumulator) {
+		final long limit = 1L << 62;
+		for(int i = 0; i < m; i++) {
+			Arrays.fill(accumulator, 0, n, 0L);
+			int row = i * k;
+			for(int p = 0; p < k; p++) {
+				long x = a[row + p];
+				int in = p * n;
+				for(int j = 0; j < n; j++) {
+					long sum = accumulator[j] + x * b[in + j];
+					accumulator[j] = sum >= limit ? sum % modulus : sum;
+				}
+			}
+			int out = i * n;
+			for(int j = 0; j < n; j++) {
+				c[out + j] = (int) (accumulator[j] % modulus);
+			}
+		}
+	}
+}
@@ -156,7 +156,7 @@ public interface MatrixOperations<M extends MatrixOperations<M, V>, V extends Ve
 	 * Multiplies this matrix by the given one.
 	 * 
 	 * <p> Two matrices can only be multiplied if the first one has the same number
-	 * of rows as the second one has columns.
+	 * of columns as the second one has rows.
 	 * 
 	 * <p> The product between two matrices m1 and m2 is a matrix m3 such that
 	 * every element m-ij of m3 is the dot product of the i-th row of m1 and the
@@ -170,8 +170,8 @@ public interface MatrixOperations<M extends MatrixOperations<M, V>, V extends Ve
 	 * 
 	 * @return The product of this matrix and the given one.
 	 * 
-	 * @throws MatrixMathException If the number of rows of this matrix does not
-	 * 		match the number of columns of the given matrix.
+	 * @throws MatrixMathException If the number of columns of this matrix does not
+	 * 		match the number of rows of the given matrix.
 	 * @throws NullPointerException if the given matrix is null.
 	 */
 	M multiply(M matrix);
@@ -181,6 +181,9 @@ public interface MatrixOperations<M extends MatrixOperations<M, V>, V extends Ve
 	 * 
 	 * <p> The n-th power of a matrix is the product of itself n times.
 	 * 
+	 * <p> The power is computed by repeated squaring, which only requires
+	 * a number of products proportional to the logarithm of the exponent.
+	 * 
 	 * <p> Only square matrices can be raised to a power.
 	 * 
 	 * <p> Matrices are supposed to be immutable. This means that this method
@@ -0,0 +1,648 @@
+package io.github.vecmatlib.matrix;
+
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+import io.github.vecmatlib.vector.OffHeapAccess;
+import io.github.vecmatlib.vector.OffHeapArena;
+import io.github.vecmatlib.vector.OffHeapDoubleVector;
+
+/**
+ * Class that represents an NxM double matrix whose elements
+ * are stored outside of the java heap.
+ * 
+ * <p> The elements are stored in row-major order in a direct buffer
+ * allocated in an {@link OffHeapArena}, with the same layout as the
+ * elements of a {@link DoubleMatrix}. The matrix does not put any pressure
+ * on the garbage collector, and its memory is released when its arena is closed.
+ * Using a matrix after its arena has been closed throws an {@link IllegalStateException}.
+ * 
+ * <p> Products are computed in place on the native memory by the same
+ * blocked kernel used by {@link DoubleMatrix}, so their result is identical
+ * to the one of the corresponding heap matrices.
+ * 
+ * <p> Operations return a new matrix allocated in the same arena as the matrix
+ * on which they are invoked. The overloads that take a destination matrix,
+ * {@link #set(int, int, double)}, {@link #scaleInPlace(double)} and
+ * {@link #axpy(double, OffHeapDoubleMatrix)} modify an existing matrix
+ * and do not allocate any memory.
+ * 
+ * @author Nico
+ */
+public final class OffHeapDoubleMatrix implements MatrixDoubleOperations<OffHeapDoubleMatrix, OffHeapDoubleVector> {
+
+	/**Access to the memory of the arenas and of the off-heap vectors */
+	private static final OffHeapAccess ACCESS = OffHeapAccess.get();
+
+	/**Arena that owns the memory of this matrix */
+	private final OffHeapArena arena;
+	/**Number of rows of the matrix */
+	private final int rows;
+	/**Number of columns of the matrix, which is also the stride between two rows */
+	private final int columns;
+	/**Elements of the matrix in row-major order */
+	private final DoubleBuffer values;
+
+	/**
+	 * Allocates a matrix with the given number of rows and columns in the given arena.
+	 * Every element of the matrix is initially zero.
+	 * 
+	 * @param arena The arena in which the matrix is allocated.
+	 * @param rows Number of rows of the matrix.
+	 * @param columns Number of columns of the matrix.
+	 * 
+	 * @throws MatrixMathException if the given number of rows or columns is not greater
+	 * 		than zero or if the matrix has more than {@link OffHeapArena#MAX_DOUBLES} elements.
+	 * @throws IllegalStateException if the given arena has been closed.
+	 * @throws NullPointerException if the given arena is null.
+	 */
+	public OffHeapDoubleMatrix(OffHeapArena arena, int rows, int columns) {
+		if(rows <= 0 || columns <= 0)
+			throw new MatrixMathException("A matrix cannot be empty");
+		if((long) rows * columns > OffHeapArena.MAX_DOUBLES)
+			throw new MatrixMathException("The matrix is too large to be stored in a single buffer");
+		this.arena = arena;
+		this.rows = rows;
+		this.columns = columns;
+		this.values = ACCESS.allocateDoubles(arena, rows * columns);
+	}
+
+	/**
+	 * Allocates a copy of the given matrix in the given arena.
+	 * 
+	 * @param arena The arena in which the matrix is allocated.
+	 * @param matrix The matrix to copy.
+	 * 
+	 * @throws MatrixMathException if the matrix has more than {@link OffHeapArena#MAX_DOUBLES} elements.
+	 * @throws IllegalStateException if the given arena has been closed.
+	 * @throws NullPointerException if the given arena or the given matrix are null.
+	 */
+	public OffHeapDoubleMatrix(OffHeapArena arena, DoubleMatrix matrix) {
+		this(arena, matrix.rows(), matrix.columns());
+		double[] values = matrix.toRowMajorArray();
+		ACCESS.acquire(arena);
+		try {
+			this.values.put(0, values);
+		} finally {
+			ACCESS.release(arena);
+		}
+	}
+
+	/**
+	 * Gets the arena that owns the memory of this matrix.
+	 * 
+	 * @return The arena in which this matrix was allocated.
+	 */
+	public OffHeapArena arena() {
+		return this.arena;
+	}
+
+	/**
+	 * Gets the number of rows of this matrix.
+	 * 
+	 * @return The number of rows of this matrix.
+	 */
+	public int rows() {
+		return this.rows;
+	}
+
+	/**
+	 * Gets the number of columns of this matrix.
+	 * 
+	 * @return The number of columns of this matrix.
+	 */
+	public int columns() {
+		return this.columns;
+	}
+
+	/**
+	 * Gets the element at the given row and column.
+	 * 
+	 * @param row Row of the element to get.
+	 * @param column Column of the element to get.
+	 * 
+	 * @return The element at the given row and column.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given row or column is less than 0
+	 * 		or greater than the matrix's size.
+	 * @throws IllegalStateException if the arena of this matrix has been closed.
+	 */
+	public double element(int row, int column) {
+		ACCESS.acquire(this.arena);
+		try {
+			return this.values.get(this.index(row, column));
+		} finally {
+			ACCESS.release(this.arena);
+		}
+	}
+
+	/**
+	 * Sets the element at the given row and column, modifying this matrix.
+	 * 
+	 * @param row Row of the element to set.
+	 * @param column Column of the element to set.
+	 * @param value The new value of the element.
+	 * 
+	 * @return This matrix.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given row or column is less than 0
+	 * 		or greater than the matrix's size.
+	 * @throws IllegalStateException if the arena of this matrix has been closed.
+	 */
+	public OffHeapDoubleMatrix set(int row, int column, double value) {
+		ACCESS.acquire(this.arena);
+		try {
+			this.values.put(this.index(row, column), value);
+		} finally {
+			ACCESS.release(this.arena);
+		}
+		return this;
+	}
+
+	@Override
+	public OffHeapDoubleMatrix plus(OffHeapDoubleMatrix matrix) {
+		this.check(matrix);
+		return this.plus(matrix, this.allocate(this.rows, this.columns));
+	}
+
+	@Override
+	public OffHeapDoubleMatrix negative() {
+		return this.negative(this.allocate(this.rows, this.columns));
+	}
+
+	@Override
+	public OffHeapDoubleMatrix minus(OffHeapDoubleMatrix matrix) {
+		this.check(matrix);
+		return this.minus(matrix, this.allocate(this.rows, this.columns));
+	}
+
+	@Override
+	public OffHeapDoubleMatrix multipliedBy(double k) {
+		return this.multipliedBy(k, this.allocate(this.rows, this.columns));
+	}
+
+	/**
+	 * Adds the given matrix to this one and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #plus(OffHeapDoubleMatrix)}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and may be this matrix or the given one.
+	 * 
+	 * @param matrix The second operand of the sum.
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrices are not the same size as this one.
+	 * @throws IllegalStateException if the arena of one of the matrices has been closed.
+	 */
+	public OffHeapDoubleMatrix plus(OffHeapDoubleMatrix matrix, OffHeapDoubleMatrix dest) {
+		this.check(matrix);
+		this.check(dest);
+		ACCESS.acquire(this.arena, matrix.arena, dest.arena);
+		try {
+			for(int i = 0; i < this.values.capacity(); i++) {
+				dest.values.put(i, this.values.get(i) + matrix.values.get(i));
+			}
+		} finally {
+			ACCESS.release(this.arena, matrix.arena, dest.arena);
+		}
+		return dest;
+	}
+
+	/**
+	 * Negates this matrix and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #negative()}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and may be this matrix.
+	 * 
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrix is not the same size as this one.
+	 * @throws IllegalStateException if the arena of one of the matrices has been closed.
+	 */
+	public OffHeapDoubleMatrix negative(OffHeapDoubleMatrix dest) {
+		this.check(dest);
+		ACCESS.acquire(this.arena, dest.arena);
+		try {
+			for(int i = 0; i < this.values.capacity(); i++) {
+				dest.values.put(i, -this.values.get(i));
+			}
+		} finally {
+			ACCESS.release(this.arena, dest.arena);
+		}
+		return dest;
+	}
+
+	/**
+	 * Subtracts the given matrix from this one and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #minus(OffHeapDoubleMatrix)}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and may be this matrix or the given one.
+	 * 
+	 * @param matrix The second operand of the subtraction.
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrices are not the same size as this one.
+	 * @throws IllegalStateException if the arena of one of the matrices has been closed.
+	 */
+	public OffHeapDoubleMatrix minus(OffHeapDoubleMatrix matrix, OffHeapDoubleMatrix dest) {
+		this.check(matrix);
+		this.check(dest);
+		ACCESS.acquire(this.arena, matrix.arena, dest.arena);
+		try {
+			for(int i = 0; i < this.values.capacity(); i++) {
+				dest.values.put(i, this.values.get(i) - matrix.values.get(i));
+			}
+		} finally {
+			ACCESS.release(this.arena, matrix.arena, dest.arena);
+		}
+		return dest;
+	}
+
+	/**
+	 * Multiplies this matrix by the given scalar and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #multipliedBy(double)}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and may be this matrix.
+	 * 
+	 * @param k The scalar.
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrix is not the same size as this one.
+	 * @throws IllegalStateException if the arena of one of the matrices has been closed.
+	 */
+	public OffHeapDoubleMatrix multipliedBy(double k, OffHeapDoubleMatrix dest) {
+		this.check(dest);
+		ACCESS.acquire(this.arena, dest.arena);
+		try {
+			for(int i = 0; i < this.values.capacity(); i++) {
+				dest.values.put(i, this.values.get(i) * k);
+			}
+		} finally {
+			ACCESS.release(this.arena, dest.arena);
+		}
+		return dest;
+	}
+
+	/**
+	 * Multiplies this matrix by the given scalar, modifying this matrix.
+	 * 
+	 * @param k The scalar.
+	 * 
+	 * @return This matrix.
+	 * 
+	 * @throws IllegalStateException if the arena of this matrix has been closed.
+	 */
+	public OffHeapDoubleMatrix scaleInPlace(double k) {
+		return this.multipliedBy(k, this);
+	}
+
+	/**
+	 * Adds the given matrix multiplied by the given scalar to this matrix,
+	 * modifying this matrix. This is the {@code Y = alpha * X + Y} operation
+	 * used by iterative algorithms.
+	 * 
+	 * @param alpha The scalar.
+	 * @param x The matrix multiplied by the scalar.
+	 * 
+	 * @return This matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrix is not the same size as this one.
+	 * @throws IllegalStateException if the arena of one of the matrices has been closed.
+	 */
+	public OffHeapDoubleMatrix axpy(double alpha, OffHeapDoubleMatrix x) {
+		this.check(x);
+		ACCESS.acquire(this.arena, x.arena);
+		try {
+			for(int i = 0; i < this.values.capacity(); i++) {
+				this.values.put(i, this.values.get(i) + alpha * x.values.get(i));
+			}
+		} finally {
+			ACCESS.release(this.arena, x.arena);
+		}
+		return this;
+	}
+
+	@Override
+	public OffHeapDoubleVector multiply(OffHeapDoubleVector vector) {
+		this.arena.checkAlive();
+		if(vector.size() != this.columns)
+			throw new MatrixMathException("The given vector's size does not match the matrix's number of columns");
+		OffHeapDoubleVector result = new OffHeapDoubleVector(this.arena, this.rows);
+		DoubleBuffer x = ACCESS.buffer(vector);
+		DoubleBuffer y = ACCESS.buffer(result);
+		ACCESS.acquire(this.arena, vector.arena());
+		try {
+			for(int r = 0; r < this.rows; r++) {
+				int offset = r * this.columns;
+				double sum = 0.0;
+				for(int c = 0; c < this.columns; c++) {
+					sum += this.values.get(offset + c) * x.get(c);
+				}
+				y.put(r, sum);
+			}
+		} finally {
+			ACCESS.release(this.arena, vector.arena());
+		}
+		return result;
+	}
+
+	@Override
+	public OffHeapDoubleMatrix transposed() {
+		return this.transposed(false);
+	}
+
+	@Override
+	public OffHeapDoubleMatrix negativeTransposed() {
+		return this.transposed(true);
+	}
+
+	@Override
+	public OffHeapDoubleMatrix multiply(OffHeapDoubleMatrix matrix) {
+		this.checkProduct(matrix);
+		OffHeapDoubleMatrix result = this.allocate(this.rows, matrix.columns);
+		ACCESS.acquire(this.arena, matrix.arena);
+		try {
+			MatrixKernels.multiply(this.values, matrix.values, result.values, this.rows, this.columns, matrix.columns);
+		} finally {
+			ACCESS.release(this.arena, matrix.arena);
+		}
+		return result;
+	}
+
+	/**
+	 * Multiplies this matrix by the given one and stores the result in the given destination matrix.
+	 * 
+	 * <p> Unlike {@link #multiply(OffHeapDoubleMatrix)}, this method does not allocate a new matrix.
+	 * The destination matrix is overwritten and cannot be one of the operands.
+	 * 
+	 * @param matrix The second operand of the product.
+	 * @param dest The matrix where the result is stored.
+	 * 
+	 * @return The destination matrix.
+	 * 
+	 * @throws MatrixMathException If the number of columns of this matrix does not match the number
+	 * 		of rows of the given matrix, if the destination matrix does not have as many rows as this
+	 * 		matrix and as many columns as the given matrix, or if it is one of the operands.
+	 * @throws IllegalStateException if the arena of one of the matrices has been closed.
+	 */
+	public OffHeapDoubleMatrix multiplyInto(OffHeapDoubleMatrix matrix, OffHeapDoubleMatrix dest) {
+		this.checkProduct(matrix);
+		dest.arena.checkAlive();
+		if(dest.rows != this.rows || dest.columns != matrix.columns)
+			throw new MatrixMathException("The destination matrix does not have the size of the result");
+		if(dest == this || dest == matrix)
+			throw new MatrixMathException("The destination matrix cannot be one of the operands");
+		ACCESS.acquire(this.arena, matrix.arena, dest.arena);
+		try {
+			for(int i = 0; i < dest.values.capacity(); i++) {
+				dest.values.put(i, 0.0);
+			}
+			MatrixKernels.multiply(this.values, matrix.values, dest.values, this.rows, this.columns, matrix.columns);
+		} finally {
+			ACCESS.release(this.arena, matrix.arena, dest.arena);
+		}
+		return dest;
+	}
+
+	/**
+	 * Multiplies this matrix by the given one using the common fork/join pool.
+	 * See {@link #parallelMultiply(OffHeapDoubleMatrix, ForkJoinPool)}.
+	 * 
+	 * @param matrix The second operand of the product.
+	 * 
+	 * @return The product of this matrix and the given one.
+	 * 
+	 * @throws MatrixMathException If the number of columns of this matrix does not
+	 * 		match the number of rows of the given matrix.
+	 * @throws IllegalStateException if the arena of one of the matrices has been closed.
+	 * @throws NullPointerException if the given matrix is null.
+	 */
+	public OffHeapDoubleMatrix parallelMultiply(OffHeapDoubleMatrix matrix) {
+		return this.parallelMultiply(matrix, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Multiplies this matrix by the given one using the threads of the given pool.
+	 * 
+	 * <p> The result is split into tiles like in {@link DoubleMatrix#parallelMultiply(DoubleMatrix, ForkJoinPool)}
+	 * and is identical to the one of the sequential product regardless of the number of threads.
+	 * Closing the arena of the matrices waits until this method returns.
+	 * 
+	 * @param matrix The second operand of the product.
+	 * @param pool The pool used to compute the product.
+	 * 
+	 * @return The product of this matrix and the given one.
+	 * 
+	 * @throws MatrixMathException If the number of columns of this matrix does not
+	 * 		match the number of rows of the given matrix.
+	 * @throws IllegalStateException if the arena of one of the matrices has been closed.
+	 * @throws NullPointerException if the given matrix or the given pool are null.
+	 */
+	public OffHeapDoubleMatrix parallelMultiply(OffHeapDoubleMatrix matrix, ForkJoinPool pool) {
+		this.checkProduct(matrix);
+		Objects.requireNonNull(pool);
+		OffHeapDoubleMatrix result = this.allocate(this.rows, matrix.columns);
+		ACCESS.acquire(this.arena, matrix.arena);
+		try {
+			MatrixKernels.parallel(pool, this.rows, this.columns, matrix.columns, (rowStart, rowEnd, columnStart, columnEnd) -> {
+				MatrixKernels.multiply(this.values, matrix.values, result.values, this.columns, matrix.columns, rowStart, rowEnd, columnStart, columnEnd);
+			});
+		} finally {
+			ACCESS.release(this.arena, matrix.arena);
+		}
+		return result;
+	}
+
+	@Override
+	public OffHeapDoubleMatrix power(int exponent) {
+		if(this.rows != this.columns) {
+			throw new MatrixMathException("A matrix must be square to be raised to a power");
+		} else if(exponent < 0) {
+			return this.transposed().power(-exponent);
+		} else if(exponent == 0) {
+			OffHeapDoubleMatrix result = this.allocate(this.rows, this.columns);
+			ACCESS.acquire(this.arena);
+			try {
+				for(int i = 0; i < this.rows; i++) {
+					result.values.put(i * this.columns + i, 1.0);
+				}
+			} finally {
+				ACCESS.release(this.arena);
+			}
+			return result;
+		} else {
+			OffHeapDoubleMatrix result = this.multipliedBy(1.0);
+			OffHeapDoubleMatrix scratch = this.allocate(this.rows, this.columns);
+			for(int bit = Integer.highestOneBit(exponent) >> 1; bit > 0; bit >>= 1) {
+				result.multiplyInto(result, scratch);
+				OffHeapDoubleMatrix swap = result;
+				result = scratch;
+				scratch = swap;
+				if((exponent & bit) != 0) {
+					result.multiplyInto(this, scratch);
+					swap = result;
+					result = scratch;
+					scratch = swap;
+				}
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Copies the elements of this matrix into a new matrix on the java heap.
+	 * 
+	 * @return A {@link DoubleMatrix} with the same elements as this matrix.
+	 * 
+	 * @throws IllegalStateException if the arena of this matrix has been closed.
+	 */
+	public DoubleMatrix toDoubleMatrix() {
+		double[] result = new double[this.values.capacity()];
+		ACCESS.acquire(this.arena);
+		try {
+			this.values.get(0, result);
+		} finally {
+			ACCESS.release(this.arena);
+		}
+		return new DoubleMatrix(this.rows, this.columns, result);
+	}
+
+	/**
+	 * Allocates a matrix of the given size in the same arena as this one.
+	 * 
+	 * @param rows Number of rows of the matrix.
+	 * @param columns Number of columns of the matrix.
+	 * 
+	 * @return A new matrix whose elements are zero.
+	 */
+	private OffHeapDoubleMatrix allocate(int rows, int columns) {
+		return new OffHeapDoubleMatrix(this.arena, rows, columns);
+	}
+
+	/**
+	 * Computes the index of the element at the given row and column.
+	 * 
+	 * @param row Row of the element.
+	 * @param column Column of the element.
+	 * 
+	 * @return The index of the element in the buffer.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given row or column is out of bounds.
+	 */
+	private int index(int row, int column) {
+		if(row < 0 || row >= this.rows)
+			throw new IndexOutOfBoundsException("Row index out of bounds");
+		if(column < 0 || column >= this.columns)
+			throw new IndexOutOfBoundsException("Column index out of bounds");
+		return row * this.columns + column;
+	}
+
+	/**
+	 * Checks if the given matrix has the same size as this one
+	 * and if the arenas of both matrices are still alive.
+	 * 
+	 * @param matrix The matrix to check.
+	 * 
+	 * @throws MatrixMathException if the given matrix has a different size than this matrix.
+	 * @throws IllegalStateException if the arena of one of the matrices has been closed.
+	 */
+	private void check(OffHeapDoubleMatrix matrix) {
+		this.arena.checkAlive();
+		matrix.arena.checkAlive();
+		if(matrix.rows != this.rows || matrix.columns != this.columns)
+			throw new MatrixMathException("The given matrix has a different size than this matrix");
+	}
+
+	/**
+	 * Checks if this matrix can be multiplied by the given one
+	 * and if the arenas of both matrices are still alive.
+	 * 
+	 * @param matrix The second operand of the product.
+	 * 
+	 * @throws MatrixMathException If the number of columns of this matrix does not
+	 * 		match the number of rows of the given matrix.
+	 * @throws IllegalStateException if the arena of one of the matrices has been closed.
+	 */
+	private void checkProduct(OffHeapDoubleMatrix matrix) {
+		this.arena.checkAlive();
+		matrix.arena.checkAlive();
+		if(this.columns != matrix.rows)
+			throw new MatrixMathException("The number of columns of this matrix does not match the number of rows of the given matrix");
+	}
+
+	/**
+	 * Allocates the transposed of this matrix.
+	 * The matrix is traversed in square blocks like in {@link DoubleMatrix#transposed()}.
+	 * 
+	 * @param negate Whether the elements should also be negated.
+	 * 
+	 * @return The transposed matrix.
+	 */
+	private OffHeapDoubleMatrix transposed(boolean negate) {
+		this.arena.checkAlive();
+		final int block = 32;
+		double sign = negate ? -1.0 : 1.0;
+		OffHeapDoubleMatrix result = this.allocate(this.columns, this.rows);
+		ACCESS.acquire(this.arena);
+		try {
+			for(int r0 = 0; r0 < this.rows; r0 += block) {
+				int r1 = Math.min(r0 + block, this.rows);
+				for(int c0 = 0; c0 < this.columns; c0 += block) {
+					int c1 = Math.min(c0 + block, this.columns);
+					for(int r = r0; r < r1; r++) {
+						for(int c = c0; c < c1; c++) {
+							result.values.put(c * this.rows + r, sign * this.values.get(r * this.columns + c));
+						}
+					}
+				}
+			}
+		} finally {
+			ACCESS.release(this.arena);
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return this.arena.isAlive() ? "OffHeapDoubleMatrix" + this.toDoubleMatrix().toString().substring("DoubleMatrix".length()) : "OffHeapDoubleMatrix[closed]";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if(obj instanceof OffHeapDoubleMatrix that && this.rows == that.rows && this.columns == that.columns) {
+			ACCESS.acquire(this.arena, that.arena);
+			try {
+				for(int i = 0; i < this.values.capacity(); i++) {
+					if(Double.doubleToLongBits(this.values.get(i)) != Double.doubleToLongBits(that.values.get(i)))
+						return false;
+				}
+				return true;
+			} finally {
+				ACCESS.release(this.arena, that.arena);
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 1;
+		ACCESS.acquire(this.arena);
+		try {
+			for(int i = 0; i < this.values.capacity(); i++) {
+				result = 31 * result + Double.hashCode(this.values.get(i));
+			}
+		} finally {
+			ACCESS.release(this.arena);
+		}
+		return 31 * (31 * this.rows + this.columns) + result;
+	}
+}
@@ -0,0 +1,345 @@
+package io.github.vecmatlib.matrix;
+
+import io.github.vecmatlib.vector.Double3;
+import io.github.vecmatlib.vector.VectorDoubleOperations;
+
+/**
+ * Record that represents a double quaternion {@code w + xi + yj + zk}.
+ * 
+ * <p> Unit quaternions represent rotations in 3D space. The rotation of an angle {@code a}
+ * around a unit axis {@code u} is represented by the quaternion whose vector part is
+ * {@code u * sin(a/2)} and whose scalar part is {@code cos(a/2)}. Composing two rotations
+ * with {@link #multiply(Quaternion)} takes 16 multiplications instead of the 27 of the product
+ * of two 3x3 matrices, and a quaternion that drifts away from unit length because of rounding
+ * errors is fixed by {@link #normalized()} instead of re-orthonormalizing a matrix.
+ * 
+ * <p> The methods that rotate vectors or convert quaternions to matrices assume
+ * that the quaternion has unit length. Matrices are applied to column vectors,
+ * so the matrix of {@code q1.multiply(q2)} is the product of the matrix of
+ * {@code q1} and the matrix of {@code q2}.
+ * 
+ * @param x First component of the vector part of the quaternion.
+ * @param y Second component of the vector part of the quaternion.
+ * @param z Third component of the vector part of the quaternion.
+ * @param w Scalar part of the quaternion.
+ * 
+ * @author Nico
+ */
+public record Quaternion(double x, double y, double z, double w) implements VectorDoubleOperations<Quaternion> {
+
+	/**Shorthand for {@code new Quaternion(0.0, 0.0, 0.0, 1.0)}, which represents no rotation */
+	public static final Quaternion IDENTITY = new Quaternion(0.0, 0.0, 0.0, 1.0);
+
+	/**Dot product above which {@link #slerp(Quaternion, double)} interpolates linearly */
+	private static final double SLERP_THRESHOLD = 0.9995;
+
+	/**
+	 * Creates a quaternion that represents the rotation of the given angle around the given axis.
+	 * 
+	 * @param x First component of the axis.
+	 * @param y Second component of the axis.
+	 * @param z Third component of the axis.
+	 * @param angle Angle of the rotation in radians, counterclockwise when looking from the tip of the axis.
+	 * 
+	 * @return A unit quaternion. The axis does not need to be normalized.
+	 */
+	public static Quaternion fromAxisAngle(double x, double y, double z, double angle) {
+		double sin = Math.sin(angle * 0.5) / Math.sqrt(x * x + y * y + z * z);
+		return new Quaternion(x * sin, y * sin, z * sin, Math.cos(angle * 0.5));
+	}
+
+	/**
+	 * Creates a quaternion that represents the rotation of the given angle around the given axis.
+	 * 
+	 * @param axis Axis of the rotation, which does not need to be normalized.
+	 * @param angle Angle of the rotation in radians, counterclockwise when looking from the tip of the axis.
+	 * 
+	 * @return A unit quaternion.
+	 * 
+	 * @throws NullPointerException if the given axis is null.
+	 */
+	public static Quaternion fromAxisAngle(Double3 axis, double angle) {
+		return fromAxisAngle(axis.x(), axis.y(), axis.z(), angle);
+	}
+
+	/**
+	 * Creates a quaternion from the given rotation matrix.
+	 * 
+	 * <p> The quaternion is computed from the largest of its components, found from
+	 * the diagonal of the matrix, which avoids dividing by a number close to zero.
+	 * The result is only meaningful if the matrix is orthonormal and its determinant is 1.
+	 * 
+	 * @param matrix The rotation matrix.
+	 * 
+	 * @return A unit quaternion that represents the same rotation.
+	 * 
+	 * @throws NullPointerException if the given matrix is null.
+	 */
+	public static Quaternion fromRotationMatrix(Double3x3 matrix) {
+		return fromRotation(
+			matrix.m11(), matrix.m12(), matrix.m13(),
+			matrix.m21(), matrix.m22(), matrix.m23(),
+			matrix.m31(), matrix.m32(), matrix.m33()
+		);
+	}
+
+	/**
+	 * Creates a quaternion from the rotation part of the given matrix, which is its upper-left 3x3 matrix.
+	 * See {@link #fromRotationMatrix(Double3x3)}.
+	 * 
+	 * @param matrix The transformation matrix.
+	 * 
+	 * @return A unit quaternion that represents the same rotation.
+	 * 
+	 * @throws NullPointerException if the given matrix is null.
+	 */
+	public static Quaternion fromRotationMatrix(Double4x4 matrix) {
+		return fromRotation(
+			matrix.m11(), matrix.m12(), matrix.m13(),
+			matrix.m21(), matrix.m22(), matrix.m23(),
+			matrix.m31(), matrix.m32(), matrix.m33()
+		);
+	}
+
+	/**
+	 * Creates a quaternion from the elements of a rotation matrix.
+	 * 
+	 * @param m11 The first element of the first row.
+	 * @param m12 The second element of the first row.
+	 * @param m13 The third element of the first row.
+	 * @param m21 The first element of the second row.
+	 * @param m22 The second element of the second row.
+	 * @param m23 The third element of the second row.
+	 * @param m31 The first element of the third row.
+	 * @param m32 The second element of the third row.
+	 * @param m33 The third element of the third row.
+	 * 
+	 * @return A unit quaternion that represents the same rotation.
+	 */
+	private static Quaternion fromRotation(double m11, double m12, double m13, double m21, double m22, double m23, double m31, double m32, double m33) {
+		double trace = m11 + m22 + m33;
+		if(trace > 0.0) {
+			double s = 0.5 / Math.sqrt(trace + 1.0);
+			return new Quaternion((m32 - m23) * s, (m13 - m31) * s, (m21 - m12) * s, 0.25 / s);
+		} else if(m11 > m22 && m11 > m33) {
+			double s = 0.5 / Math.sqrt(1.0 + m11 - m22 - m33);
+			return new Quaternion(0.25 / s, (m12 + m21) * s, (m13 + m31) * s, (m32 - m23) * s);
+		} else if(m22 > m33) {
+			double s = 0.5 / Math.sqrt(1.0 + m22 - m11 - m33);
+			return new Quaternion((m12 + m21) * s, 0.25 / s, (m23 + m32) * s, (m13 - m31) * s);
+		} else {
+			double s = 0.5 / Math.sqrt(1.0 + m33 - m11 - m22);
+			return new Quaternion((m13 + m31) * s, (m23 + m32) * s, 0.25 / s, (m21 - m12) * s);
+		}
+	}
+
+	@Override
+	public Quaternion plus(Quaternion quaternion) {
+		return new Quaternion(this.x() + quaternion.x(), this.y() + quaternion.y(), this.z() + quaternion.z(), this.w() + quaternion.w());
+	}
+
+	@Override
+	public Quaternion negated() {
+		return new Quaternion(-this.x(), -this.y(), -this.z(), -this.w());
+	}
+
+	@Override
+	public Quaternion multipliedBy(double k) {
+		return new Quaternion(this.x() * k, this.y() * k, this.z() * k, this.w() * k);
+	}
+
+	@Override
+	public double dotProduct(Quaternion quaternion) {
+		return this.x() * quaternion.x() + this.y() * quaternion.y() + this.z() * quaternion.z() + this.w() * quaternion.w();
+	}
+
+	@Override
+	public double lengthSquared() {
+		return this.dotProduct(this);
+	}
+
+	/**
+	 * Computes the Hamilton product between this quaternion and the given one.
+	 * 
+	 * <p> If both quaternions represent rotations, the result represents the rotation
+	 * obtained by applying the given rotation first and then the rotation of this quaternion.
+	 * 
+	 * @param quaternion The second operand of the product.
+	 * 
+	 * @return The product between the two quaternions.
+	 * 
+	 * @throws NullPointerException if the given quaternion is null.
+	 */
+	public Quaternion multiply(Quaternion quaternion) {
+		double x = quaternion.x(), y = quaternion.y(), z = quaternion.z(), w = quaternion.w();
+		return new Quaternion(
+			this.w() * x + this.x() * w + this.y() * z - this.z() * y,
+			this.w() * y - this.x() * z + this.y() * w + this.z() * x,
+			this.w() * z + this.x() * y - this.y() * x + this.z() * w,
+			this.w() * w - this.x() * x - this.y() * y - this.z() * z
+		);
+	}
+
+	/**
+	 * Computes the conjugate of this quaternion, which has the opposite vector part.
+	 * The conjugate of a unit quaternion is its inverse and represents the opposite rotation.
+	 * 
+	 * @return The conjugate of this quaternion.
+	 */
+	public Quaternion conjugate() {
+		return new Quaternion(-this.x(), -this.y(), -this.z(), this.w());
+	}
+
+	/**
+	 * Computes the inverse of this quaternion, which is its conjugate divided by its squared length.
+	 * Use {@link #conjugate()} for unit quaternions.
+	 * 
+	 * @return The inverse of this quaternion.
+	 * 
+	 * @throws MatrixMathException if this quaternion is zero.
+	 */
+	public Quaternion inverted() {
+		double lengthSquared = this.lengthSquared();
+		if(lengthSquared == 0.0)
+			throw new MatrixMathException("A zero quaternion has no inverse");
+		return this.conjugate().dividedBy(lengthSquared);
+	}
+
+	/**
+	 * Rotates the vector with the given components by the rotation represented by this quaternion.
+	 * 
+	 * <p> The vector is rotated as {@code v + w t + u x t}, where {@code u} is the vector part
+	 * of this quaternion and {@code t = 2 u x v}, which takes two cross products instead of the
+	 * two quaternion products of {@code q v q*}.
+	 * 
+	 * @param x First component of the vector.
+	 * @param y Second component of the vector.
+	 * @param z Third component of the vector.
+	 * 
+	 * @return The rotated vector.
+	 */
+	public Double3 rotate(double x, double y, double z) {
+		double tx = 2.0 * (this.y() * z - this.z() * y);
+		double ty = 2.0 * (this.z() * x - this.x() * z);
+		double tz = 2.0 * (this.x() * y - this.y() * x);
+		return new Double3(
+			x + this.w() * tx + this.y() * tz - this.z() * ty,
+			y + this.w() * ty + this.z() * tx - this.x() * tz,
+			z + this.w() * tz + this.x() * ty - this.y() * tx
+		);
+	}
+
+	/**
+	 * Rotates the given vector by the rotation represented by this quaternion.
+	 * See {@link #rotate(double, double, double)}.
+	 * 
+	 * @param vector The vector to rotate.
+	 * 
+	 * @return The rotated vector.
+	 * 
+	 * @throws NullPointerException if the given vector is null.
+	 */
+	public Double3 rotate(Double3 vector) {
+		return this.rotate(vector.x(), vector.y(), vector.z());
+	}
+
+	/**
+	 * Interpolates linearly between this quaternion and the given one and normalizes the result.
+	 * 
+	 * <p> The interpolation follows the shortest path between the two rotations.
+	 * It is faster than {@link #slerp(Quaternion, double)}, but the angular
+	 * speed of the rotation is not constant.
+	 * 
+	 * @param quaternion The quaternion at the end of the interpolation.
+	 * @param t The interpolation parameter, 0 for this quaternion and 1 for the given one.
+	 * 
+	 * @return The normalized interpolated quaternion.
+	 * 
+	 * @throws NullPointerException if the given quaternion is null.
+	 */
+	public Quaternion nlerp(Quaternion quaternion, double t) {
+		double end = this.dotProduct(quaternion) < 0.0 ? -t : t;
+		return new Quaternion(
+			this.x() * (1.0 - t) + quaternion.x() * end,
+			this.y() * (1.0 - t) + quaternion.y() * end,
+			this.z() * (1.0 - t) + quaternion.z() * end,
+			this.w() * (1.0 - t) + quaternion.w() * end
+		).normalized();
+	}
+
+	/**
+	 * Interpolates spherically between this quaternion and the given one.
+	 * 
+	 * <p> The interpolation follows the shortest path between the two rotations at
+	 * constant angular speed. Both quaternions must have unit length. If they are
+	 * almost equal, the result is computed with {@link #nlerp(Quaternion, double)}
+	 * to avoid dividing by the sine of an angle close to zero.
+	 * 
+	 * @param quaternion The quaternion at the end of the interpolation.
+	 * @param t The interpolation parameter, 0 for this quaternion and 1 for the given one.
+	 * 
+	 * @return The interpolated quaternion.
+	 * 
+	 * @throws NullPointerException if the given quaternion is null.
+	 */
+	public Quaternion slerp(Quaternion quaternion, double t) {
+		double dot = this.dotProduct(quaternion);
+		double sign = 1.0;
+		if(dot < 0.0) {
+			dot = -dot;
+			sign = -1.0;
+		}
+		if(dot > SLERP_THRESHOLD)
+			return this.nlerp(quaternion, t);
+		double angle = Math.acos(dot);
+		double sin = Math.sin(angle);
+		double start = Math.sin((1.0 - t) * angle) / sin;
+		double end = sign * Math.sin(t * angle) / sin;
+		return new Quaternion(
+			this.x() * start + quaternion.x() * end,
+			this.y() * start + quaternion.y() * end,
+			this.z() * start + quaternion.z() * end,
+			this.w() * start + quaternion.w() * end
+		);
+	}
+
+	/**
+	 * Converts this quaternion to a rotation matrix.
+	 * 
+	 * @return The 3x3 matrix that represents the same rotation as this unit quaternion.
+	 */
+	public Double3x3 toDouble3x3() {
+		double xx = this.x() * this.x(), yy = this.y() * this.y(), zz = this.z() * this.z();
+		double xy = this.x() * this.y(), xz = this.x() * this.z(), yz = this.y() * this.z();
+		double wx = this.w() * this.x(), wy = this.w() * this.y(), wz = this.w() * this.z();
+		return new Double3x3(
+			1.0 - 2.0 * (yy + zz), 2.0 * (xy - wz), 2.0 * (xz + wy),
+			2.0 * (xy + wz), 1.0 - 2.0 * (xx + zz), 2.0 * (yz - wx),
+			2.0 * (xz - wy), 2.0 * (yz + wx), 1.0 - 2.0 * (xx + yy)
+		);
+	}
+
+	/**
+	 * Converts this quaternion to a transformation matrix without translation.
+	 * 
+	 * @return The 4x4 matrix that represents the same rotation as this unit quaternion.
+	 */
+	public Double4x4 toDouble4x4() {
+		Double3x3 rotation = this.toDouble3x3();
+		return new Double4x4(
+			rotation.m11(), rotation.m12(), rotation.m13(), 0.0,
+			rotation.m21(), rotation.m22(), rotation.m23(), 0.0,
+			rotation.m31(), rotation.m32(), rotation.m33(), 0.0,
+			0.0, 0.0, 0.0, 1.0
+		);
+	}
+
+	/**
+	 * Casts this quaternion to a float quaternion.
+	 * 
+	 * @return A quaternion with the same components as this one casted to float.
+	 */
+	public QuaternionF castToFloat() {
+		return new QuaternionF((float) this.x(), (float) this.y(), (float) this.z(), (float) this.w());
+	}
+}
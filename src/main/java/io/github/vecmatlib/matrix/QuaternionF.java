@@ -0,0 +1,331 @@
+package io.github.vecmatlib.matrix;
+
+import io.github.vecmatlib.vector.Float3;
+import io.github.vecmatlib.vector.VectorFloatOperations;
+
+/**
+ * Record that represents a float quaternion {@code w + xi + yj + zk}.
+ * 
+ * <p> This is the float counterpart of {@link Quaternion}. Unlike the float vectors,
+ * {@link #normalized()} returns a float quaternion, so that rotations can be composed
+ * and renormalized without leaving single precision.
+ * 
+ * @param x First component of the vector part of the quaternion.
+ * @param y Second component of the vector part of the quaternion.
+ * @param z Third component of the vector part of the quaternion.
+ * @param w Scalar part of the quaternion.
+ * 
+ * @author Nico
+ */
+public record QuaternionF(float x, float y, float z, float w) implements VectorFloatOperations<QuaternionF> {
+
+	/**Shorthand for {@code new QuaternionF(0.0f, 0.0f, 0.0f, 1.0f)}, which represents no rotation */
+	public static final QuaternionF IDENTITY = new QuaternionF(0.0f, 0.0f, 0.0f, 1.0f);
+
+	/**Dot product above which {@link #slerp(QuaternionF, float)} interpolates linearly */
+	private static final float SLERP_THRESHOLD = 0.9995f;
+
+	/**
+	 * Creates a quaternion that represents the rotation of the given angle around the given axis.
+	 * 
+	 * @param x First component of the axis.
+	 * @param y Second component of the axis.
+	 * @param z Third component of the axis.
+	 * @param angle Angle of the rotation in radians, counterclockwise when looking from the tip of the axis.
+	 * 
+	 * @return A unit quaternion. The axis does not need to be normalized.
+	 */
+	public static QuaternionF fromAxisAngle(float x, float y, float z, float angle) {
+		float sin = (float) (Math.sin(angle * 0.5) / Math.sqrt(x * x + y * y + z * z));
+		return new QuaternionF(x * sin, y * sin, z * sin, (float) Math.cos(angle * 0.5));
+	}
+
+	/**
+	 * Creates a quaternion that represents the rotation of the given angle around the given axis.
+	 * 
+	 * @param axis Axis of the rotation, which does not need to be normalized.
+	 * @param angle Angle of the rotation in radians, counterclockwise when looking from the tip of the axis.
+	 * 
+	 * @return A unit quaternion.
+	 * 
+	 * @throws NullPointerException if the given axis is null.
+	 */
+	public static QuaternionF fromAxisAngle(Float3 axis, float angle) {
+		return fromAxisAngle(axis.x(), axis.y(), axis.z(), angle);
+	}
+
+	/**
+	 * Creates a quaternion from the given rotation matrix.
+	 * See {@link Quaternion#fromRotationMatrix(Double3x3)}.
+	 * 
+	 * @param matrix The rotation matrix.
+	 * 
+	 * @return A unit quaternion that represents the same rotation.
+	 * 
+	 * @throws NullPointerException if the given matrix is null.
+	 */
+	public static QuaternionF fromRotationMatrix(Float3x3 matrix) {
+		return fromRotation(
+			matrix.m11(), matrix.m12(), matrix.m13(),
+			matrix.m21(), matrix.m22(), matrix.m23(),
+			matrix.m31(), matrix.m32(), matrix.m33()
+		);
+	}
+
+	/**
+	 * Creates a quaternion from the rotation part of the given matrix, which is its upper-left 3x3 matrix.
+	 * See {@link Quaternion#fromRotationMatrix(Double3x3)}.
+	 * 
+	 * @param matrix The transformation matrix.
+	 * 
+	 * @return A unit quaternion that represents the same rotation.
+	 * 
+	 * @throws NullPointerException if the given matrix is null.
+	 */
+	public static QuaternionF fromRotationMatrix(Float4x4 matrix) {
+		return fromRotation(
+			matrix.m11(), matrix.m12(), matrix.m13(),
+			matrix.m21(), matrix.m22(), matrix.m23(),
+			matrix.m31(), matrix.m32(), matrix.m33()
+		);
+	}
+
+	/**
+	 * Creates a quaternion from the elements of a rotation matrix.
+	 * 
+	 * @param m11 The first element of the first row.
+	 * @param m12 The second element of the first row.
+	 * @param m13 The third element of the first row.
+	 * @param m21 The first element of the second row.
+	 * @param m22 The second element of the second row.
+	 * @param m23 The third element of the second row.
+	 * @param m31 The first element of the third row.
+	 * @param m32 The second element of the third row.
+	 * @param m33 The third element of the third row.
+	 * 
+	 * @return A unit quaternion that represents the same rotation.
+	 */
+	private static QuaternionF fromRotation(float m11, float m12, float m13, float m21, float m22, float m23, float m31, float m32, float m33) {
+		float trace = m11 + m22 + m33;
+		if(trace > 0.0f) {
+			float s = 0.5f / (float) Math.sqrt(trace + 1.0f);
+			return new QuaternionF((m32 - m23) * s, (m13 - m31) * s, (m21 - m12) * s, 0.25f / s);
+		} else if(m11 > m22 && m11 > m33) {
+			float s = 0.5f / (float) Math.sqrt(1.0f + m11 - m22 - m33);
+			return new QuaternionF(0.25f / s, (m12 + m21) * s, (m13 + m31) * s, (m32 - m23) * s);
+		} else if(m22 > m33) {
+			float s = 0.5f / (float) Math.sqrt(1.0f + m22 - m11 - m33);
+			return new QuaternionF((m12 + m21) * s, 0.25f / s, (m23 + m32) * s, (m13 - m31) * s);
+		} else {
+			float s = 0.5f / (float) Math.sqrt(1.0f + m33 - m11 - m22);
+			return new QuaternionF((m13 + m31) * s, (m23 + m32) * s, 0.25f / s, (m21 - m12) * s);
+		}
+	}
+
+	@Override
+	public QuaternionF plus(QuaternionF quaternion) {
+		return new QuaternionF(this.x() + quaternion.x(), this.y() + quaternion.y(), this.z() + quaternion.z(), this.w() + quaternion.w());
+	}
+
+	@Override
+	public QuaternionF negated() {
+		return new QuaternionF(-this.x(), -this.y(), -this.z(), -this.w());
+	}
+
+	@Override
+	public QuaternionF multipliedBy(float k) {
+		return new QuaternionF(this.x() * k, this.y() * k, this.z() * k, this.w() * k);
+	}
+
+	@Override
+	public float dotProduct(QuaternionF quaternion) {
+		return this.x() * quaternion.x() + this.y() * quaternion.y() + this.z() * quaternion.z() + this.w() * quaternion.w();
+	}
+
+	@Override
+	public float lengthSquared() {
+		return this.dotProduct(this);
+	}
+
+	/**
+	 * Normalizes this quaternion.
+	 * 
+	 * @return A quaternion with the same direction as this one and unit length.
+	 */
+	public QuaternionF normalized() {
+		return this.multipliedBy((float) (1.0 / this.length()));
+	}
+
+	/**
+	 * Computes the Hamilton product between this quaternion and the given one.
+	 * See {@link Quaternion#multiply(Quaternion)}.
+	 * 
+	 * @param quaternion The second operand of the product.
+	 * 
+	 * @return The product between the two quaternions.
+	 * 
+	 * @throws NullPointerException if the given quaternion is null.
+	 */
+	public QuaternionF multiply(QuaternionF quaternion) {
+		float x = quaternion.x(), y = quaternion.y(), z = quaternion.z(), w = quaternion.w();
+		return new QuaternionF(
+			this.w() * x + this.x() * w + this.y() * z - this.z() * y,
+			this.w() * y - this.x() * z + this.y() * w + this.z() * x,
+			this.w() * z + this.x() * y - this.y() * x + this.z() * w,
+			this.w() * w - this.x() * x - this.y() * y - this.z() * z
+		);
+	}
+
+	/**
+	 * Computes the conjugate of this quaternion, which has the opposite vector part.
+	 * The conjugate of a unit quaternion is its inverse and represents the opposite rotation.
+	 * 
+	 * @return The conjugate of this quaternion.
+	 */
+	public QuaternionF conjugate() {
+		return new QuaternionF(-this.x(), -this.y(), -this.z(), this.w());
+	}
+
+	/**
+	 * Computes the inverse of this quaternion, which is its conjugate divided by its squared length.
+	 * Use {@link #conjugate()} for unit quaternions.
+	 * 
+	 * @return The inverse of this quaternion.
+	 * 
+	 * @throws MatrixMathException if this quaternion is zero.
+	 */
+	public QuaternionF inverted() {
+		float lengthSquared = this.lengthSquared();
+		if(lengthSquared == 0.0f)
+			throw new MatrixMathException("A zero quaternion has no inverse");
+		return this.conjugate().dividedBy(lengthSquared);
+	}
+
+	/**
+	 * Rotates the vector with the given components by the rotation represented by this quaternion.
+	 * See {@link Quaternion#rotate(double, double, double)}.
+	 * 
+	 * @param x First component of the vector.
+	 * @param y Second component of the vector.
+	 * @param z Third component of the vector.
+	 * 
+	 * @return The rotated vector.
+	 */
+	public Float3 rotate(float x, float y, float z) {
+		float tx = 2.0f * (this.y() * z - this.z() * y);
+		float ty = 2.0f * (this.z() * x - this.x() * z);
+		float tz = 2.0f * (this.x() * y - this.y() * x);
+		return new Float3(
+			x + this.w() * tx + this.y() * tz - this.z() * ty,
+			y + this.w() * ty + this.z() * tx - this.x() * tz,
+			z + this.w() * tz + this.x() * ty - this.y() * tx
+		);
+	}
+
+	/**
+	 * Rotates the given vector by the rotation represented by this quaternion.
+	 * See {@link Quaternion#rotate(double, double, double)}.
+	 * 
+	 * @param vector The vector to rotate.
+	 * 
+	 * @return The rotated vector.
+	 * 
+	 * @throws NullPointerException if the given vector is null.
+	 */
+	public Float3 rotate(Float3 vector) {
+		return this.rotate(vector.x(), vector.y(), vector.z());
+	}
+
+	/**
+	 * Interpolates linearly between this quaternion and the given one and normalizes the result.
+	 * See {@link Quaternion#nlerp(Quaternion, double)}.
+	 * 
+	 * @param quaternion The quaternion at the end of the interpolation.
+	 * @param t The interpolation parameter, 0 for this quaternion and 1 for the given one.
+	 * 
+	 * @return The normalized interpolated quaternion.
+	 * 
+	 * @throws NullPointerException if the given quaternion is null.
+	 */
+	public QuaternionF nlerp(QuaternionF quaternion, float t) {
+		float end = this.dotProduct(quaternion) < 0.0f ? -t : t;
+		return new QuaternionF(
+			this.x() * (1.0f - t) + quaternion.x() * end,
+			this.y() * (1.0f - t) + quaternion.y() * end,
+			this.z() * (1.0f - t) + quaternion.z() * end,
+			this.w() * (1.0f - t) + quaternion.w() * end
+		).normalized();
+	}
+
+	/**
+	 * Interpolates spherically between this quaternion and the given one.
+	 * See {@link Quaternion#slerp(Quaternion, double)}.
+	 * 
+	 * @param quaternion The quaternion at the end of the interpolation.
+	 * @param t The interpolation parameter, 0 for this quaternion and 1 for the given one.
+	 * 
+	 * @return The interpolated quaternion.
+	 * 
+	 * @throws NullPointerException if the given quaternion is null.
+	 */
+	public QuaternionF slerp(QuaternionF quaternion, float t) {
+		float dot = this.dotProduct(quaternion);
+		float sign = 1.0f;
+		if(dot < 0.0f) {
+			dot = -dot;
+			sign = -1.0f;
+		}
+		if(dot > SLERP_THRESHOLD)
+			return this.nlerp(quaternion, t);
+		double angle = Math.acos(dot);
+		double sin = Math.sin(angle);
+		float start = (float) (Math.sin((1.0 - t) * angle) / sin);
+		float end = (float) (sign * Math.sin(t * angle) / sin);
+		return new QuaternionF(
+			this.x() * start + quaternion.x() * end,
+			this.y() * start + quaternion.y() * end,
+			this.z() * start + quaternion.z() * end,
+			this.w() * start + quaternion.w() * end
+		);
+	}
+
+	/**
+	 * Converts this quaternion to a rotation matrix.
+	 * 
+	 * @return The 3x3 matrix that represents the same rotation as this unit quaternion.
+	 */
+	public Float3x3 toFloat3x3() {
+		float xx = this.x() * this.x(), yy = this.y() * this.y(), zz = this.z() * this.z();
+		float xy = this.x() * this.y(), xz = this.x() * this.z(), yz = this.y() * this.z();
+		float wx = this.w() * this.x(), wy = this.w() * this.y(), wz = this.w() * this.z();
+		return new Float3x3(
+			1.0f - 2.0f * (yy + zz), 2.0f * (xy - wz), 2.0f * (xz + wy),
+			2.0f * (xy + wz), 1.0f - 2.0f * (xx + zz), 2.0f * (yz - wx),
+			2.0f * (xz - wy), 2.0f * (yz + wx), 1.0f - 2.0f * (xx + yy)
+		);
+	}
+
+	/**
+	 * Converts this quaternion to a transformation matrix without translation.
+	 * 
+	 * @return The 4x4 matrix that represents the same rotation as this unit quaternion.
+	 */
+	public Float4x4 toFloat4x4() {
+		Float3x3 rotation = this.toFloat3x3();
+		return new Float4x4(
+			rotation.m11(), rotation.m12(), rotation.m13(), 0.0f,
+			rotation.m21(), rotation.m22(), rotation.m23(), 0.0f,
+			rotation.m31(), rotation.m32(), rotation.m33(), 0.0f,
+			0.0f, 0.0f, 0.0f, 1.0f
+		);
+	}
+
+	/**
+	 * Converts this quaternion to a double quaternion.
+	 * 
+	 * @return A double quaternion with the same components as this one.
+	 */
+	public Quaternion asDouble() {
+		return new Quaternion(this.x(), this.y(), this.z(), this.w());
+	}
+}
@@ -0,0 +1,830 @@
+package io.github.vecmatlib.matrix;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import io.github.vecmatlib.vector.DoubleVector;
+
+/**
+ * Class that represents an NxM double matrix in which most elements are zero.
+ * 
+ * <p> Only the non-zero elements are stored, in compressed sparse row (CSR) or compressed
+ * sparse column (CSC) format, so the memory used by the matrix is proportional to the
+ * number of non-zero elements. In CSR format the non-zero elements of row i are stored
+ * in {@code values[pointers[i]]} to {@code values[pointers[i + 1] - 1]}, and their columns
+ * in the same positions of {@code indices}, sorted in ascending order. The CSC format is
+ * the same with the roles of rows and columns swapped. Zero elements are never stored.
+ * 
+ * <p> Sparse matrices are created with a {@link Builder}, which collects the elements
+ * in coordinate (COO) format and sorts them when the matrix is built. Like all matrices,
+ * they are immutable.
+ * 
+ * <p> The transposed of a CSR matrix is the CSC matrix with the same arrays, so
+ * {@link #transposed()} does not copy any element. {@link #toCsr()} and {@link #toCsc()}
+ * convert between the two formats in a time proportional to the number of non-zero elements.
+ * 
+ * @author Nico
+ */
+public final class SparseDoubleMatrix implements MatrixDoubleOperations<SparseDoubleMatrix, DoubleVector> {
+
+	/**
+	 * Storage format of a sparse matrix.
+	 */
+	public enum Format {
+		/**Compressed sparse row, efficient to access rows and to multiply with vectors */
+		CSR,
+		/**Compressed sparse column, efficient to access columns */
+		CSC
+	}
+
+	/**Number of non-zero elements below which a product with a vector is not split into smaller tasks */
+	static final int PARALLEL_THRESHOLD = 1 << 16;
+
+	/**
+	 * Creates a square sparse matrix where every element on the diagonal
+	 * is 1.0 and all the other elements are 0.0
+	 * 
+	 * @param size Size of the matrix.
+	 * 
+	 * @return An identity matrix of the given size in CSR format.
+	 * 
+	 * @throws MatrixMathException if the given size is not greater than zero.
+	 */
+	public static SparseDoubleMatrix identity(int size) {
+		return identity(size, Format.CSR);
+	}
+
+	/**
+	 * Creates a sparse matrix with the non-zero elements of the given dense matrix.
+	 * 
+	 * @param matrix The dense matrix.
+	 * @param format Format of the sparse matrix.
+	 * 
+	 * @return A sparse matrix equal to the given one.
+	 * 
+	 * @throws NullPointerException if the given matrix or the given format are null.
+	 */
+	public static SparseDoubleMatrix fromDense(DoubleMatrix matrix, Format format) {
+		Objects.requireNonNull(format);
+		Builder builder = new Builder(matrix.rows(), matrix.columns());
+		for(int r = 0; r < matrix.rows(); r++) {
+			for(int c = 0; c < matrix.columns(); c++) {
+				double value = matrix.element(r, c);
+				if(value != 0.0) {
+					builder.add(r, c, value);
+				}
+			}
+		}
+		return builder.build(format);
+	}
+
+	/**
+	 * Creates an identity matrix in the given format.
+	 * 
+	 * @param size Size of the matrix.
+	 * @param format Format of the matrix.
+	 * 
+	 * @return An identity matrix of the given size.
+	 */
+	private static SparseDoubleMatrix identity(int size, Format format) {
+		if(size <= 0)
+			throw new MatrixMathException("A matrix cannot be empty");
+		int[] pointers = new int[size + 1];
+		int[] indices = new int[size];
+		double[] values = new double[size];
+		for(int i = 0; i < size; i++) {
+			pointers[i + 1] = i + 1;
+			indices[i] = i;
+			values[i] = 1.0;
+		}
+		return new SparseDoubleMatrix(format, size, size, pointers, indices, values);
+	}
+
+	/**Storage format of the matrix */
+	private final Format format;
+	/**Number of rows of the matrix */
+	private final int rows;
+	/**Number of columns of the matrix */
+	private final int columns;
+	/**Position of the first element of every row, or column in CSC format, followed by the number of non-zero elements */
+	private final int[] pointers;
+	/**Column, or row in CSC format, of every non-zero element */
+	private final int[] indices;
+	/**Non-zero elements of the matrix */
+	private final double[] values;
+
+	/**
+	 * Creates a sparse matrix from its compressed arrays, which are not copied.
+	 * 
+	 * @param format Storage format of the matrix.
+	 * @param rows Number of rows of the matrix.
+	 * @param columns Number of columns of the matrix.
+	 * @param pointers Position of the first element of every row or column.
+	 * @param indices Column or row of every element.
+	 * @param values Non-zero elements of the matrix.
+	 */
+	private SparseDoubleMatrix(Format format, int rows, int columns, int[] pointers, int[] indices, double[] values) {
+		this.format = format;
+		this.rows = rows;
+		this.columns = columns;
+		this.pointers = pointers;
+		this.indices = indices;
+		this.values = values;
+	}
+
+	/**
+	 * Gets the number of rows of this matrix.
+	 * 
+	 * @return The number of rows of this matrix.
+	 */
+	public int rows() {
+		return this.rows;
+	}
+
+	/**
+	 * Gets the number of columns of this matrix.
+	 * 
+	 * @return The number of columns of this matrix.
+	 */
+	public int columns() {
+		return this.columns;
+	}
+
+	/**
+	 * Gets the storage format of this matrix.
+	 * 
+	 * @return The format in which the elements of this matrix are stored.
+	 */
+	public Format format() {
+		return this.format;
+	}
+
+	/**
+	 * Gets the number of non-zero elements of this matrix.
+	 * 
+	 * @return The number of elements stored in this matrix.
+	 */
+	public int nonZeros() {
+		return this.values.length;
+	}
+
+	/**
+	 * Gets the element at the given row and column.
+	 * The element is found with a binary search in its row, or in its column in CSC format.
+	 * 
+	 * @param row Row of the element to get.
+	 * @param column Column of the element to get.
+	 * 
+	 * @return The element at the given row and column.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given row or column is less than 0
+	 * 		or greater than the matrix's size.
+	 */
+	public double element(int row, int column) {
+		if(row < 0 || row >= this.rows)
+			throw new IndexOutOfBoundsException("Row index out of bounds");
+		if(column < 0 || column >= this.columns)
+			throw new IndexOutOfBoundsException("Column index out of bounds");
+		int major = this.format == Format.CSR ? row : column;
+		int minor = this.format == Format.CSR ? column : row;
+		int position = Arrays.binarySearch(this.indices, this.pointers[major], this.pointers[major + 1], minor);
+		return position >= 0 ? this.values[position] : 0.0;
+	}
+
+	@Override
+	public SparseDoubleMatrix plus(SparseDoubleMatrix matrix) {
+		return this.combine(matrix, 1.0);
+	}
+
+	@Override
+	public SparseDoubleMatrix negative() {
+		double[] result = new double[this.values.length];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = -this.values[i];
+		}
+		return new SparseDoubleMatrix(this.format, this.rows, this.columns, this.pointers, this.indices, result);
+	}
+
+	@Override
+	public SparseDoubleMatrix minus(SparseDoubleMatrix matrix) {
+		return this.combine(matrix, -1.0);
+	}
+
+	@Override
+	public SparseDoubleMatrix multipliedBy(double k) {
+		int lines = this.pointers.length - 1;
+		int[] pointers = new int[lines + 1];
+		int[] indices = new int[this.values.length];
+		double[] values = new double[this.values.length];
+		int count = 0;
+		for(int line = 0; line < lines; line++) {
+			for(int i = this.pointers[line]; i < this.pointers[line + 1]; i++) {
+				double value = this.values[i] * k;
+				if(value != 0.0) {
+					indices[count] = this.indices[i];
+					values[count] = value;
+					count++;
+				}
+			}
+			pointers[line + 1] = count;
+		}
+		return new SparseDoubleMatrix(this.format, this.rows, this.columns, pointers, Arrays.copyOf(indices, count), Arrays.copyOf(values, count));
+	}
+
+	/**
+	 * Computes the product between this matrix and the given vector.
+	 * 
+	 * <p> Only the non-zero elements of this matrix are visited. The elements of every
+	 * row are added in the order of their columns, starting from zero, so the result is
+	 * the same in both formats and identical to the one of {@link DoubleMatrix#multiply(DoubleVector)}
+	 * if the zero elements of the dense matrix do not change it.
+	 */
+	@Override
+	public DoubleVector multiply(DoubleVector vector) {
+		double[] x = this.checkVector(vector);
+		double[] result = new double[this.rows];
+		if(this.format == Format.CSR) {
+			this.multiplyRows(x, result, 0, this.rows);
+		} else {
+			for(int c = 0; c < this.columns; c++) {
+				double k = x[c];
+				for(int i = this.pointers[c]; i < this.pointers[c + 1]; i++) {
+					result[this.indices[i]] += this.values[i] * k;
+				}
+			}
+		}
+		return new DoubleVector(result);
+	}
+
+	/**
+	 * Computes the product between this matrix and the given vector using the common fork/join pool.
+	 * See {@link #parallelMultiply(DoubleVector, ForkJoinPool)}.
+	 * 
+	 * @param vector The second operand of the product.
+	 * 
+	 * @return The result of the product between this matrix and the given vector.
+	 * 
+	 * @throws MatrixMathException If the size of the vector does not match the
+	 * 		number of columns of this matrix.
+	 * @throws NullPointerException if the given vector is null.
+	 */
+	public DoubleVector parallelMultiply(DoubleVector vector) {
+		return this.parallelMultiply(vector, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Computes the product between this matrix and the given vector using the threads of the given pool.
+	 * 
+	 * <p> The rows of the matrix are recursively split into ranges with the same number of
+	 * non-zero elements, which are multiplied in parallel. Products with less than
+	 * {@link #PARALLEL_THRESHOLD} non-zero elements are computed sequentially in the calling
+	 * thread. Every element of the result is computed by a single thread in the same order used
+	 * by {@link #multiply(DoubleVector)}, therefore the result is identical to the one of the
+	 * sequential product regardless of the number of threads.
+	 * 
+	 * <p> A matrix in CSC format is converted to CSR format before computing the product.
+	 * 
+	 * @param vector The second operand of the product.
+	 * @param pool The pool used to compute the product.
+	 * 
+	 * @return The result of the product between this matrix and the given vector.
+	 * 
+	 * @throws MatrixMathException If the size of the vector does not match the
+	 * 		number of columns of this matrix.
+	 * @throws NullPointerException if the given vector or the given pool are null.
+	 */
+	public DoubleVector parallelMultiply(DoubleVector vector, ForkJoinPool pool) {
+		double[] x = this.checkVector(vector);
+		Objects.requireNonNull(pool);
+		SparseDoubleMatrix csr = this.toCsr();
+		double[] result = new double[this.rows];
+		if(csr.values.length < PARALLEL_THRESHOLD) {
+			csr.multiplyRows(x, result, 0, this.rows);
+		} else {
+			pool.invoke(new RowsTask(csr, x, result, 0, this.rows));
+		}
+		return new DoubleVector(result);
+	}
+
+	/**
+	 * Computes the product between this matrix and the given vector using the given number of threads.
+	 * See {@link #parallelMultiply(DoubleVector, ForkJoinPool)}.
+	 * 
+	 * <p> A new pool is created for the computation and shut down when the
+	 * product is complete. Callers that compute many products should prefer
+	 * passing their own pool.
+	 * 
+	 * @param vector The second operand of the product.
+	 * @param parallelism Number of threads used to compute the product.
+	 * 
+	 * @return The result of the product between this matrix and the given vector.
+	 * 
+	 * @throws MatrixMathException If the size of the vector does not match the
+	 * 		number of columns of this matrix.
+	 * @throws IllegalArgumentException if the given parallelism is not greater than zero.
+	 * @throws NullPointerException if the given vector is null.
+	 */
+	public DoubleVector parallelMultiply(DoubleVector vector, int parallelism) {
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			return this.parallelMultiply(vector, pool);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Multiplies this matrix by the given dense matrix.
+	 * 
+	 * <p> Every non-zero element of this matrix is multiplied by a whole row of the
+	 * given matrix, so the result is computed in a time proportional to the number
+	 * of non-zero elements times the number of columns of the given matrix.
+	 * 
+	 * @param matrix The second operand of the product.
+	 * 
+	 * @return The product of this matrix and the given one as a dense matrix.
+	 * 
+	 * @throws MatrixMathException If the number of columns of this matrix does not
+	 * 		match the number of rows of the given matrix.
+	 * @throws NullPointerException if the given matrix is null.
+	 */
+	public DoubleMatrix multiply(DoubleMatrix matrix) {
+		if(this.columns != matrix.rows())
+			throw new MatrixMathException("The number of columns of this matrix does not match the number of rows of the given matrix");
+		int n = matrix.columns();
+		double[] b = matrix.toRowMajorArray();
+		double[] result = new double[this.rows * n];
+		for(int line = 0; line < this.pointers.length - 1; line++) {
+			for(int i = this.pointers[line]; i < this.pointers[line + 1]; i++) {
+				double a = this.values[i];
+				int in = (this.format == Format.CSR ? this.indices[i] : line) * n;
+				int out = (this.format == Format.CSR ? line : this.indices[i]) * n;
+				for(int j = 0; j < n; j++) {
+					result[out + j] += a * b[in + j];
+				}
+			}
+		}
+		return new DoubleMatrix(this.rows, n, result);
+	}
+
+	/**
+	 * Multiplies this matrix by the given sparse matrix.
+	 * 
+	 * <p> The product is computed row by row with Gustavson's algorithm, which
+	 * only visits the pairs of non-zero elements that contribute to the result.
+	 * Both operands are converted to CSR format if they are not, and the result
+	 * is always in CSR format.
+	 */
+	@Override
+	public SparseDoubleMatrix multiply(SparseDoubleMatrix matrix) {
+		if(this.columns != matrix.rows)
+			throw new MatrixMathException("The number of columns of this matrix does not match the number of rows of the given matrix");
+		SparseDoubleMatrix a = this.toCsr();
+		SparseDoubleMatrix b = matrix.toCsr();
+		int n = b.columns;
+		double[] accumulator = new double[n];
+		int[] marker = new int[n];
+		Arrays.fill(marker, -1);
+		int[] touched = new int[n];
+		int[] pointers = new int[this.rows + 1];
+		int[] indices = new int[Math.max(a.values.length, b.values.length)];
+		double[] values = new double[indices.length];
+		int count = 0;
+		for(int r = 0; r < this.rows; r++) {
+			int size = 0;
+			for(int i = a.pointers[r]; i < a.pointers[r + 1]; i++) {
+				int row = a.indices[i];
+				double x = a.values[i];
+				for(int j = b.pointers[row]; j < b.pointers[row + 1]; j++) {
+					int column = b.indices[j];
+					if(marker[column] != r) {
+						marker[column] = r;
+						touched[size++] = column;
+						accumulator[column] = x * b.values[j];
+					} else {
+						accumulator[column] += x * b.values[j];
+					}
+				}
+			}
+			Arrays.sort(touched, 0, size);
+			if(count + size > indices.length) {
+				int capacity = Math.max(count + size, 2 * indices.length);
+				indices = Arrays.copyOf(indices, capacity);
+				values = Arrays.copyOf(values, capacity);
+			}
+			for(int t = 0; t < size; t++) {
+				double value = accumulator[touched[t]];
+				if(value != 0.0) {
+					indices[count] = touched[t];
+					values[count] = value;
+					count++;
+				}
+			}
+			pointers[r + 1] = count;
+		}
+		return new SparseDoubleMatrix(Format.CSR, this.rows, n, pointers, Arrays.copyOf(indices, count), Arrays.copyOf(values, count));
+	}
+
+	/**
+	 * Computes the transposed of this matrix by switching its format.
+	 * The transposed of a CSR matrix is a CSC matrix that shares its
+	 * arrays with this one and vice versa, so no element is copied.
+	 */
+	@Override
+	public SparseDoubleMatrix transposed() {
+		Format format = this.format == Format.CSR ? Format.CSC : Format.CSR;
+		return new SparseDoubleMatrix(format, this.columns, this.rows, this.pointers, this.indices, this.values);
+	}
+
+	@Override
+	public SparseDoubleMatrix power(int exponent) {
+		if(this.rows != this.columns) {
+			throw new MatrixMathException("A matrix must be square to be raised to a power");
+		} else if(exponent < 0) {
+			return this.transposed().power(-exponent);
+		} else if(exponent == 0) {
+			return identity(this.rows, Format.CSR);
+		} else {
+			SparseDoubleMatrix result = this.toCsr();
+			for(int bit = Integer.highestOneBit(exponent) >> 1; bit > 0; bit >>= 1) {
+				result = result.multiply(result);
+				if((exponent & bit) != 0) {
+					result = result.multiply(this);
+				}
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Converts this matrix to CSR format.
+	 * 
+	 * @return This matrix if it is already in CSR format, otherwise a copy of this matrix in CSR format.
+	 */
+	public SparseDoubleMatrix toCsr() {
+		return this.format == Format.CSR ? this : this.switchFormat();
+	}
+
+	/**
+	 * Converts this matrix to CSC format.
+	 * 
+	 * @return This matrix if it is already in CSC format, otherwise a copy of this matrix in CSC format.
+	 */
+	public SparseDoubleMatrix toCsc() {
+		return this.format == Format.CSC ? this : this.switchFormat();
+	}
+
+	/**
+	 * Copies the elements of this matrix into a new dense matrix.
+	 * 
+	 * @return A dense matrix equal to this one.
+	 */
+	public DoubleMatrix toDoubleMatrix() {
+		double[] result = new double[this.rows * this.columns];
+		for(int line = 0; line < this.pointers.length - 1; line++) {
+			for(int i = this.pointers[line]; i < this.pointers[line + 1]; i++) {
+				int r = this.format == Format.CSR ? line : this.indices[i];
+				int c = this.format == Format.CSR ? this.indices[i] : line;
+				result[r * this.columns + c] = this.values[i];
+			}
+		}
+		return new DoubleMatrix(this.rows, this.columns, result);
+	}
+
+	/**
+	 * Checks that the given vector can be multiplied by this matrix and copies its elements.
+	 * 
+	 * @param vector The vector.
+	 * 
+	 * @return The elements of the vector.
+	 * 
+	 * @throws MatrixMathException If the size of the vector does not match the number of columns of this matrix.
+	 */
+	private double[] checkVector(DoubleVector vector) {
+		if(vector.size() != this.columns)
+			throw new MatrixMathException("The given vector's size does not match the matrix's number of columns");
+		double[] x = new double[this.columns];
+		for(int c = 0; c < x.length; c++) {
+			x[c] = vector.element(c);
+		}
+		return x;
+	}
+
+	/**
+	 * Computes the product between a range of rows of this matrix, which must be
+	 * in CSR format, and the given vector.
+	 * 
+	 * @param x Elements of the vector.
+	 * @param result Array where the result is stored.
+	 * @param start First row, inclusive.
+	 * @param end Last row, exclusive.
+	 */
+	private void multiplyRows(double[] x, double[] result, int start, int end) {
+		for(int r = start; r < end; r++) {
+			double sum = 0.0;
+			for(int i = this.pointers[r]; i < this.pointers[r + 1]; i++) {
+				sum += this.values[i] * x[this.indices[i]];
+			}
+			result[r] = sum;
+		}
+	}
+
+	/**
+	 * Computes the sum of this matrix and the given one multiplied by the given sign.
+	 * The sorted rows, or columns, of the two matrices are merged.
+	 * 
+	 * @param matrix The second operand.
+	 * @param sign 1.0 for a sum or -1.0 for a subtraction.
+	 * 
+	 * @return The result in the same format as this matrix.
+	 * 
+	 * @throws MatrixMathException if the given matrix has a different size than this matrix.
+	 */
+	private SparseDoubleMatrix combine(SparseDoubleMatrix matrix, double sign) {
+		if(matrix.rows != this.rows || matrix.columns != this.columns)
+			throw new MatrixMathException("The given matrix has a different size than this matrix");
+		SparseDoubleMatrix other = this.format == Format.CSR ? matrix.toCsr() : matrix.toCsc();
+		int lines = this.pointers.length - 1;
+		int[] pointers = new int[lines + 1];
+		int[] indices = new int[this.values.length + other.values.length];
+		double[] values = new double[indices.length];
+		int count = 0;
+		for(int line = 0; line < lines; line++) {
+			int i = this.pointers[line], iEnd = this.pointers[line + 1];
+			int j = other.pointers[line], jEnd = other.pointers[line + 1];
+			while(i < iEnd || j < jEnd) {
+				int index;
+				double value;
+				if(j == jEnd || (i < iEnd && this.indices[i] < other.indices[j])) {
+					index = this.indices[i];
+					value = this.values[i++];
+				} else if(i == iEnd || other.indices[j] < this.indices[i]) {
+					index = other.indices[j];
+					value = sign * other.values[j++];
+				} else {
+					index = this.indices[i];
+					value = this.values[i++] + sign * other.values[j++];
+				}
+				if(value != 0.0) {
+					indices[count] = index;
+					values[count] = value;
+					count++;
+				}
+			}
+			pointers[line + 1] = count;
+		}
+		return new SparseDoubleMatrix(this.format, this.rows, this.columns, pointers, Arrays.copyOf(indices, count), Arrays.copyOf(values, count));
+	}
+
+	/**
+	 * Converts this matrix from CSR to CSC format or vice versa.
+	 * The elements are distributed in the new rows, or columns, with
+	 * a counting sort, which keeps their indices sorted.
+	 * 
+	 * @return A copy of this matrix in the other format.
+	 */
+	private SparseDoubleMatrix switchFormat() {
+		int lines = this.format == Format.CSR ? this.columns : this.rows;
+		int[] pointers = new int[lines + 1];
+		for(int index : this.indices) {
+			pointers[index + 1]++;
+		}
+		for(int i = 0; i < lines; i++) {
+			pointers[i + 1] += pointers[i];
+		}
+		int[] next = Arrays.copyOf(pointers, lines);
+		int[] indices = new int[this.values.length];
+		double[] values = new double[this.values.length];
+		for(int line = 0; line < this.pointers.length - 1; line++) {
+			for(int i = this.pointers[line]; i < this.pointers[line + 1]; i++) {
+				int position = next[this.indices[i]]++;
+				indices[position] = line;
+				values[position] = this.values[i];
+			}
+		}
+		Format format = this.format == Format.CSR ? Format.CSC : Format.CSR;
+		return new SparseDoubleMatrix(format, this.rows, this.columns, pointers, indices, values);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("SparseDoubleMatrix").append(this.rows).append("x").append(this.columns).append("{");
+		SparseDoubleMatrix csr = this.toCsr();
+		for(int r = 0; r < this.rows; r++) {
+			for(int i = csr.pointers[r]; i < csr.pointers[r + 1]; i++) {
+				if(i > 0)
+					builder.append(", ");
+				builder.append("(").append(r).append(", ").append(csr.indices[i]).append(")=").append(csr.values[i]);
+			}
+		}
+		return builder.append("}").toString();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if(obj instanceof SparseDoubleMatrix that && this.rows == that.rows && this.columns == that.columns) {
+			SparseDoubleMatrix a = this.toCsr(), b = that.toCsr();
+			return Arrays.equals(a.pointers, b.pointers) && Arrays.equals(a.indices, b.indices) && Arrays.equals(a.values, b.values);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		SparseDoubleMatrix csr = this.toCsr();
+		return 31 * (31 * (31 * this.rows + this.columns) + Arrays.hashCode(csr.indices)) + Arrays.hashCode(csr.values);
+	}
+
+	/**
+	 * Task that multiplies a range of rows by a vector or splits it in two
+	 * ranges with the same number of non-zero elements if it is too big.
+	 */
+	private static final class RowsTask extends RecursiveAction {
+
+		/**The matrix in CSR format */
+		private final SparseDoubleMatrix matrix;
+		/**Elements of the vector */
+		private final double[] x;
+		/**Array where the result is stored */
+		private final double[] result;
+		/**Bounds of the range */
+		private final int start, end;
+
+		/**
+		 * Creates a task that multiplies the given range of rows.
+		 * 
+		 * @param matrix The matrix in CSR format.
+		 * @param x Elements of the vector.
+		 * @param result Array where the result is stored.
+		 * @param start First row, inclusive.
+		 * @param end Last row, exclusive.
+		 */
+		private RowsTask(SparseDoubleMatrix matrix, double[] x, double[] result, int start, int end) {
+			this.matrix = matrix;
+			this.x = x;
+			this.result = result;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected void compute() {
+			int[] pointers = this.matrix.pointers;
+			if(this.end - this.start < 2 || pointers[this.end] - pointers[this.start] < PARALLEL_THRESHOLD) {
+				this.matrix.multiplyRows(this.x, this.result, this.start, this.end);
+			} else {
+				int target = pointers[this.start] + (pointers[this.end] - pointers[this.start]) / 2;
+				int middle = Arrays.binarySearch(pointers, this.start + 1, this.end, target);
+				middle = Math.min(Math.max(middle >= 0 ? middle : -middle - 1, this.start + 1), this.end - 1);
+				invokeAll(new RowsTask(this.matrix, this.x, this.result, this.start, middle),
+						new RowsTask(this.matrix, this.x, this.result, middle, this.end));
+			}
+		}
+	}
+
+	/**
+	 * Class used to build a sparse matrix from its elements in coordinate (COO) format.
+	 * 
+	 * <p> Elements can be added in any order. Elements added more than once at the same
+	 * position are summed in the order in which they were added, and elements whose sum
+	 * is zero are not stored in the matrix. The elements are sorted in a time proportional
+	 * to their number when the matrix is built.
+	 */
+	public static final class Builder {
+
+		/**Size of the matrix */
+		private final int rows, columns;
+		/**Rows of the elements */
+		private int[] entryRows = new int[16];
+		/**Columns of the elements */
+		private int[] entryColumns = new int[16];
+		/**Values of the elements */
+		private double[] entryValues = new double[16];
+		/**Number of elements */
+		private int size;
+
+		/**
+		 * Creates a builder for a matrix of the given size.
+		 * 
+		 * @param rows Number of rows of the matrix.
+		 * @param columns Number of columns of the matrix.
+		 * 
+		 * @throws MatrixMathException if the given number of rows or columns is not greater than zero.
+		 */
+		public Builder(int rows, int columns) {
+			if(rows <= 0 || columns <= 0)
+				throw new MatrixMathException("A matrix cannot be empty");
+			this.rows = rows;
+			this.columns = columns;
+		}
+
+		/**
+		 * Adds an element to the matrix.
+		 * 
+		 * @param row Row of the element.
+		 * @param column Column of the element.
+		 * @param value Value of the element, which is added to the elements
+		 * 		previously added at the same position.
+		 * 
+		 * @return This builder.
+		 * 
+		 * @throws IndexOutOfBoundsException if the given row or column is less than 0
+		 * 		or greater than the matrix's size.
+		 */
+		public Builder add(int row, int column, double value) {
+			if(row < 0 || row >= this.rows)
+				throw new IndexOutOfBoundsException("Row index out of bounds");
+			if(column < 0 || column >= this.columns)
+				throw new IndexOutOfBoundsException("Column index out of bounds");
+			if(this.size == this.entryValues.length) {
+				this.entryRows = Arrays.copyOf(this.entryRows, 2 * this.size);
+				this.entryColumns = Arrays.copyOf(this.entryColumns, 2 * this.size);
+				this.entryValues = Arrays.copyOf(this.entryValues, 2 * this.size);
+			}
+			this.entryRows[this.size] = row;
+			this.entryColumns[this.size] = column;
+			this.entryValues[this.size] = value;
+			this.size++;
+			return this;
+		}
+
+		/**
+		 * Builds a matrix in CSR format with the elements added so far.
+		 * 
+		 * @return A new sparse matrix in CSR format.
+		 */
+		public SparseDoubleMatrix build() {
+			return this.build(Format.CSR);
+		}
+
+		/**
+		 * Builds a matrix in the given format with the elements added so far.
+		 * 
+		 * <p> The elements are sorted with two stable counting sorts, first by
+		 * column and then by row, or vice versa in CSC format.
+		 * 
+		 * @param format Format of the matrix.
+		 * 
+		 * @return A new sparse matrix.
+		 * 
+		 * @throws NullPointerException if the given format is null.
+		 */
+		public SparseDoubleMatrix build(Format format) {
+			Objects.requireNonNull(format);
+			int[] major = format == Format.CSR ? this.entryRows : this.entryColumns;
+			int[] minor = format == Format.CSR ? this.entryColumns : this.entryRows;
+			int majorCount = format == Format.CSR ? this.rows : this.columns;
+			int minorCount = format == Format.CSR ? this.columns : this.rows;
+			int[] byMinor = sort(minor, minorCount, null, this.size);
+			int[] order = sort(major, majorCount, byMinor, this.size);
+			int[] pointers = new int[majorCount + 1];
+			int[] indices = new int[this.size];
+			double[] values = new double[this.size];
+			int count = 0, t = 0;
+			for(int line = 0; line < majorCount; line++) {
+				while(t < this.size && major[order[t]] == line) {
+					int index = minor[order[t]];
+					double value = this.entryValues[order[t++]];
+					while(t < this.size && major[order[t]] == line && minor[order[t]] == index) {
+						value += this.entryValues[order[t++]];
+					}
+					if(value != 0.0) {
+						indices[count] = index;
+						values[count] = value;
+						count++;
+					}
+				}
+				pointers[line + 1] = count;
+			}
+			return new SparseDoubleMatrix(format, this.rows, this.columns, pointers, Arrays.copyOf(indices, count), Arrays.copyOf(values, count));
+		}
+
+		/**
+		 * Stable counting sort of the elements by the given keys.
+		 * 
+		 * @param keys Key of every element.
+		 * @param range Number of distinct keys.
+		 * @param order Order in which the elements are visited, or null to visit them in the order they were added.
+		 * @param size Number of elements.
+		 * 
+		 * @return The indices of the elements sorted by key.
+		 */
+		private static int[] sort(int[] keys, int range, int[] order, int size) {
+			int[] next = new int[range + 1];
+			for(int i = 0; i < size; i++) {
+				next[keys[i] + 1]++;
+			}
+			for(int i = 0; i < range; i++) {
+				next[i + 1] += next[i];
+			}
+			int[] result = new int[size];
+			for(int i = 0; i < size; i++) {
+				int element = order == null ? i : order[i];
+				result[next[keys[element]]++] = element;
+			}
+			return result;
+		}
+	}
+}
@@ -0,0 +1,1418 @@
+package io.github.vecmatlib.search;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+import io.github.vecmatlib.vector.FloatVector;
+import io.github.vecmatlib.vector.VectorMathException;
+
+/**
+ * Index that finds approximately the k vectors of a corpus that are most similar to a query
+ * using a hierarchical navigable small world graph (HNSW).
+ * 
+ * <p> Every vector is a node of a graph with several layers. All the nodes are in the bottom layer
+ * and every layer above contains a random subset of the nodes of the layer below, whose size
+ * decreases exponentially. In every layer, a node is linked to at most {@code m} similar nodes, or
+ * {@code 2m} in the bottom layer. A search starts from the only node of the top layer, greedily
+ * moves to the node most similar to the query in every layer and finally explores the bottom layer
+ * keeping the {@code efSearch} best nodes found so far. Higher values of {@code m},
+ * {@code efConstruction} and {@code efSearch} give a better recall at the cost of a slower
+ * construction, more memory and slower searches respectively. Use {@link VectorIndex} if the
+ * exact result is needed.
+ * 
+ * <p> The metric is computed like in {@link VectorIndex}: vectors and queries are normalized with
+ * the {@link Metric#COSINE} metric and scores have the same meaning. Squared distances are however
+ * computed directly from the differences between the components, so they have no cancellation error.
+ * 
+ * <p> Vectors can be added and searched concurrently by any number of threads. The links of the
+ * nodes are protected by a fixed set of locks shared by all the nodes and no thread ever holds
+ * more than one of them, so insertions cannot deadlock. An index built by a single thread is always
+ * the same for the same vectors added in the same order. The storage of the index is allocated for
+ * a fixed number of vectors, given when the index is created. The temporary state of the searches
+ * is reused through a pool owned by the index, so it is released together with the index, and its
+ * size depends on the number of nodes visited by a search instead of the capacity of the index.
+ * 
+ * <p> An index can be written to a file with {@link #save(Path)} and read back with
+ * {@link #load(Path)}, which restores the same graph without rebuilding it. The file starts with
+ * a header of {@link #HEADER_SIZE} bytes, followed by the nodes in order, each of which is made of
+ * its top layer, its components and the number and indices of its neighbors in every layer from
+ * the bottom one. All values are stored in little-endian byte order.
+ * 
+ * <table>
+ * <caption>Header of an index file</caption>
+ * <tr><th>Offset</th><th>Type</th><th>Content</th></tr>
+ * <tr><td>0</td><td>4 bytes</td><td>The ASCII characters {@code VMLH}</td></tr>
+ * <tr><td>4</td><td>int</td><td>Version of the format, currently 1</td></tr>
+ * <tr><td>8</td><td>int</td><td>Ordinal of the metric</td></tr>
+ * <tr><td>12</td><td>int</td><td>Dimension</td></tr>
+ * <tr><td>16</td><td>int</td><td>Capacity</td></tr>
+ * <tr><td>20</td><td>int</td><td>Number of vectors</td></tr>
+ * <tr><td>24</td><td>int</td><td>{@code m}</td></tr>
+ * <tr><td>28</td><td>int</td><td>{@code efConstruction}</td></tr>
+ * <tr><td>32</td><td>int</td><td>{@code efSearch}</td></tr>
+ * <tr><td>36</td><td>int</td><td>Index of the entry node, or -1 if the index is empty</td></tr>
+ * <tr><td>40</td><td>long</td><td>CRC-32C checksum of the nodes</td></tr>
+ * <tr><td>48</td><td>16 bytes</td><td>Reserved, always zero</td></tr>
+ * </table>
+ * 
+ * @author Nico
+ */
+public final class HnswIndex {
+
+	/**Default maximum number of links of a node in the upper layers */
+	public static final int DEFAULT_M = 16;
+	/**Default number of nodes kept while searching the neighbors of a new node */
+	public static final int DEFAULT_EF_CONSTRUCTION = 200;
+	/**Default number of nodes kept while searching the neighbors of a query */
+	public static final int DEFAULT_EF_SEARCH = 50;
+	/**Size of the header of an index file in bytes */
+	public static final int HEADER_SIZE = 64;
+
+	/**Current version of the file format */
+	static final int VERSION = 1;
+	/**Highest layer a node can be in */
+	static final int MAX_LEVEL = 31;
+
+	/**The first four bytes of every index file */
+	private static final int MAGIC = 'V' | 'M' << 8 | 'L' << 16 | 'H' << 24;
+	/**Number of locks shared by the nodes, a power of two */
+	private static final int LOCKS = 1 << 10;
+	/**Size of the buffer used to read and write index files */
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/**Number of components of every vector */
+	private final int dimension;
+	/**Metric used to rank the vectors */
+	private final Metric metric;
+	/**Maximum number of vectors in the index */
+	private final int capacity;
+	/**Maximum number of links of a node in the upper layers */
+	private final int m;
+	/**Number of nodes kept while searching the neighbors of a new node */
+	private final int efConstruction;
+	/**Factor that converts a uniform random number to the top layer of a node */
+	private final double levelFactor;
+	/**Components of the vectors, indexed by node */
+	private final float[][] vectors;
+	/**Links of the nodes, indexed by node and layer, the first element of every array is the number of links */
+	private final int[][][] links;
+	/**Locks that protect the links of the nodes */
+	private final Object[] locks;
+	/**Lock held while adding a node that may become the new entry node */
+	private final ReentrantLock entryLock = new ReentrantLock();
+	/**Number of indices given to the vectors */
+	private final AtomicInteger count = new AtomicInteger();
+	/**Reusable states of the searches that are not in use */
+	private final ConcurrentLinkedQueue<SearchContext> contexts = new ConcurrentLinkedQueue<>();
+	/**Node where searches start, null if the index is empty */
+	private volatile Entry entry;
+	/**Number of nodes kept while searching the neighbors of a query */
+	private volatile int efSearch = DEFAULT_EF_SEARCH;
+
+	/**
+	 * Creates an empty index with the default values of {@link #DEFAULT_M} and {@link #DEFAULT_EF_CONSTRUCTION}.
+	 * 
+	 * @param dimension Number of components of the vectors.
+	 * @param metric Metric used to rank the vectors.
+	 * @param capacity Maximum number of vectors in the index.
+	 * 
+	 * @throws IllegalArgumentException if the given dimension or capacity are not greater than zero.
+	 * @throws NullPointerException if the given metric is null.
+	 */
+	public HnswIndex(int dimension, Metric metric, int capacity) {
+		this(dimension, metric, capacity, DEFAULT_M, DEFAULT_EF_CONSTRUCTION);
+	}
+
+	/**
+	 * Creates an empty index.
+	 * 
+	 * @param dimension Number of components of the vectors.
+	 * @param metric Metric used to rank the vectors.
+	 * @param capacity Maximum number of vectors in the index.
+	 * @param m Maximum number of links of a node in the upper layers, nodes have up to {@code 2m} links in the bottom layer.
+	 * @param efConstruction Number of nodes kept while searching the neighbors of a new node.
+	 * 
+	 * @throws IllegalArgumentException if the given dimension or capacity are not greater than zero,
+	 * 		if {@code m} is less than 2 or if {@code efConstruction} is less than {@code m}.
+	 * @throws NullPointerException if the given metric is null.
+	 */
+	public HnswIndex(int dimension, Metric metric, int capacity, int m, int efConstruction) {
+		if(dimension <= 0)
+			throw new IllegalArgumentException("The dimension must be greater than zero");
+		if(capacity <= 0)
+			throw new IllegalArgumentException("The capacity must be greater than zero");
+		if(m < 2)
+			throw new IllegalArgumentException("The maximum number of links must be at least 2");
+		if(efConstruction < m)
+			throw new IllegalArgumentException("The construction search size must not be less than the maximum number of links");
+		this.dimension = dimension;
+		this.metric = Objects.requireNonNull(metric);
+		this.capacity = capacity;
+		this.m = m;
+		this.efConstruction = efConstruction;
+		this.levelFactor = 1.0 / Math.log(m);
+		this.vectors = new float[capacity][];
+		this.links = new int[capacity][][];
+		this.locks = new Object[LOCKS];
+		for(int i = 0; i < LOCKS; i++) {
+			this.locks[i] = new Object();
+		}
+	}
+
+	/**
+	 * Gets the number of components of the vectors in this index.
+	 * 
+	 * @return The dimension of this index.
+	 */
+	public int dimension() {
+		return this.dimension;
+	}
+
+	/**
+	 * Gets the metric used to rank the vectors in this index.
+	 * 
+	 * @return The metric of this index.
+	 */
+	public Metric metric() {
+		return this.metric;
+	}
+
+	/**
+	 * Gets the maximum number of vectors in this index.
+	 * 
+	 * @return The capacity of this index.
+	 */
+	public int capacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Gets the number of vectors in this index.
+	 * Vectors that are being added by other threads are also counted.
+	 * 
+	 * @return The number of vectors in this index.
+	 */
+	public int size() {
+		return this.count.get();
+	}
+
+	/**
+	 * Gets the maximum number of links of a node in the upper layers.
+	 * 
+	 * @return The value of {@code m} of this index.
+	 */
+	public int m() {
+		return this.m;
+	}
+
+	/**
+	 * Gets the number of nodes kept while searching the neighbors of a new node.
+	 * 
+	 * @return The value of {@code efConstruction} of this index.
+	 */
+	public int efConstruction() {
+		return this.efConstruction;
+	}
+
+	/**
+	 * Gets the number of nodes kept while searching the neighbors of a query.
+	 * 
+	 * @return The value of {@code efSearch} of this index.
+	 */
+	public int efSearch() {
+		return this.efSearch;
+	}
+
+	/**
+	 * Sets the number of nodes kept while searching the neighbors of a query.
+	 * A search for k neighbors keeps at least k nodes regardless of this value.
+	 * The value is saved together with the index.
+	 * 
+	 * @param efSearch The new value of {@code efSearch}.
+	 * 
+	 * @throws IllegalArgumentException if the given value is not greater than zero.
+	 */
+	public void setEfSearch(int efSearch) {
+		if(efSearch <= 0)
+			throw new IllegalArgumentException("The search size must be greater than zero");
+		this.efSearch = efSearch;
+	}
+
+	/**
+	 * Adds a vector to this index.
+	 * This method can be called concurrently by different threads.
+	 * 
+	 * @param vector The vector to add.
+	 * 
+	 * @return The index of the vector.
+	 * 
+	 * @throws VectorMathException if the size of the vector is different from the dimension of this index.
+	 * @throws IllegalStateException if the index is full.
+	 * @throws NullPointerException if the given vector is null.
+	 */
+	public int add(FloatVector vector) {
+		float[] values = this.prepare(vector);
+		int node = this.reserve(1);
+		this.insert(node, values);
+		return node;
+	}
+
+	/**
+	 * Adds all the given vectors to this index in order.
+	 * 
+	 * @param vectors The vectors to add.
+	 * 
+	 * @return The index of the first vector, the other vectors have consecutive indices.
+	 * 
+	 * @throws VectorMathException if the size of a vector is different from the dimension of this index.
+	 * @throws IllegalStateException if the index does not have room for all the vectors.
+	 * @throws NullPointerException if the given array or one of its vectors is null.
+	 */
+	public int addAll(FloatVector... vectors) {
+		float[][] values = this.prepare(vectors);
+		int first = this.reserve(values.length);
+		for(int i = 0; i < values.length; i++) {
+			this.insert(first + i, values[i]);
+		}
+		return first;
+	}
+
+	/**
+	 * Adds all the given vectors to this index using the common fork/join pool.
+	 * See {@link #parallelAddAll(FloatVector[], ForkJoinPool)}.
+	 * 
+	 * @param vectors The vectors to add.
+	 * 
+	 * @return The index of the first vector, the other vectors have consecutive indices.
+	 * 
+	 * @throws VectorMathException if the size of a vector is different from the dimension of this index.
+	 * @throws IllegalStateException if the index does not have room for all the vectors.
+	 * @throws NullPointerException if the given array or one of its vectors is null.
+	 */
+	public int parallelAddAll(FloatVector[] vectors) {
+		return this.parallelAddAll(vectors, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Adds all the given vectors to this index using the threads of the given pool.
+	 * 
+	 * <p> The vectors are given consecutive indices in the order of the array, but they are
+	 * inserted in the graph concurrently, so the links of the nodes depend on how the threads
+	 * are scheduled and may differ from the ones created by {@link #addAll(FloatVector...)}.
+	 * 
+	 * @param vectors The vectors to add.
+	 * @param pool The pool used to add the vectors.
+	 * 
+	 * @return The index of the first vector, the other vectors have consecutive indices.
+	 * 
+	 * @throws VectorMathException if the size of a vector is different from the dimension of this index.
+	 * @throws IllegalStateException if the index does not have room for all the vectors.
+	 * @throws NullPointerException if the given array, one of its vectors or the given pool are null.
+	 */
+	public int parallelAddAll(FloatVector[] vectors, ForkJoinPool pool) {
+		float[][] values = this.prepare(vectors);
+		Objects.requireNonNull(pool);
+		int first = this.reserve(values.length);
+		pool.invoke(new InsertTask(values, first, 0, values.length));
+		return first;
+	}
+
+	/**
+	 * Adds all the given vectors to this index using a pool with the given number of threads.
+	 * See {@link #parallelAddAll(FloatVector[], ForkJoinPool)}.
+	 * 
+	 * @param vectors The vectors to add.
+	 * @param parallelism Number of threads used to add the vectors.
+	 * 
+	 * @return The index of the first vector, the other vectors have consecutive indices.
+	 * 
+	 * @throws VectorMathException if the size of a vector is different from the dimension of this index.
+	 * @throws IllegalStateException if the index does not have room for all the vectors.
+	 * @throws IllegalArgumentException if the given parallelism is not greater than zero.
+	 * @throws NullPointerException if the given array or one of its vectors is null.
+	 */
+	public int parallelAddAll(FloatVector[] vectors, int parallelism) {
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			return this.parallelAddAll(vectors, pool);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Gets a vector of this index as it is stored.
+	 * With the {@link Metric#COSINE} metric the vector is normalized.
+	 * 
+	 * @param index Index of the vector.
+	 * 
+	 * @return A copy of the vector.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given index is less than 0
+	 * 		or greater than the size of the index.
+	 * @throws IllegalStateException if the vector is still being added by another thread.
+	 */
+	public FloatVector vector(int index) {
+		Objects.checkIndex(index, this.count.get());
+		float[] values = this.vectors[index];
+		if(values == null)
+			throw new IllegalStateException("The vector is still being added");
+		return new FloatVector(values.clone());
+	}
+
+	/**
+	 * Finds approximately the k vectors most similar to the given query.
+	 * This method can be called concurrently by different threads, also while vectors are being added.
+	 * 
+	 * @param query The query.
+	 * @param k Maximum number of vectors to find.
+	 * 
+	 * @return The vectors found from most to least similar, or all the vectors if the index contains less than k vectors.
+	 * 
+	 * @throws VectorMathException if the size of the query is different from the dimension of this index.
+	 * @throws IllegalArgumentException if k is not greater than zero.
+	 * @throws NullPointerException if the given query is null.
+	 */
+	public Neighbor[] topK(FloatVector query, int k) {
+		if(k <= 0)
+			throw new IllegalArgumentException("The number of neighbors must be greater than zero");
+		float[] values = this.prepare(query);
+		Entry entry = this.entry;
+		if(entry == null)
+			return new Neighbor[0];
+		// The search cannot find more nodes than the index contains, so k does not need to be capped
+		int ef = Math.min(Math.max(this.efSearch, k), this.count.get());
+		float[] scores = new float[ef];
+		int[] indices = new int[ef];
+		int found;
+		SearchContext context = this.acquireContext();
+		try {
+			int node = entry.node();
+			for(int level = entry.level(); level > 0; level--) {
+				node = this.greedy(values, node, level, context);
+			}
+			found = this.searchLayer(values, node, ef, 0, context).drain(scores, indices);
+		} finally {
+			this.contexts.offer(context);
+		}
+		Neighbor[] result = new Neighbor[Math.min(k, found)];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = new Neighbor(indices[i], this.metric == Metric.L2 ? -scores[i] : scores[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Finds approximately the k vectors most similar to every query of the given batch using the common fork/join pool.
+	 * See {@link #parallelTopK(FloatVector[], int, ForkJoinPool)}.
+	 * 
+	 * @param queries The queries.
+	 * @param k Maximum number of vectors to find for every query.
+	 * 
+	 * @return The vectors found for every query, in the same order as the queries.
+	 * 
+	 * @throws VectorMathException if the size of a query is different from the dimension of this index.
+	 * @throws IllegalArgumentException if k is not greater than zero.
+	 * @throws NullPointerException if the given array or one of its queries is null.
+	 */
+	public Neighbor[][] parallelTopK(FloatVector[] queries, int k) {
+		return this.parallelTopK(queries, k, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Finds approximately the k vectors most similar to every query of the given batch using the threads of the given pool.
+	 * Every query is searched by a single thread, so the results are the same as the ones of {@link #topK(FloatVector, int)}.
+	 * 
+	 * @param queries The queries.
+	 * @param k Maximum number of vectors to find for every query.
+	 * @param pool The pool used to search the index.
+	 * 
+	 * @return The vectors found for every query, in the same order as the queries.
+	 * 
+	 * @throws VectorMathException if the size of a query is different from the dimension of this index.
+	 * @throws IllegalArgumentException if k is not greater than zero.
+	 * @throws NullPointerException if the given array, one of its queries or the given pool are null.
+	 */
+	public Neighbor[][] parallelTopK(FloatVector[] queries, int k, ForkJoinPool pool) {
+		if(k <= 0)
+			throw new IllegalArgumentException("The number of neighbors must be greater than zero");
+		for(FloatVector query : queries) {
+			this.checkDimension(query.size());
+		}
+		Objects.requireNonNull(pool);
+		Neighbor[][] result = new Neighbor[queries.length][];
+		pool.invoke(new QueryTask(queries, k, result, 0, queries.length));
+		return result;
+	}
+
+	/**
+	 * Writes this index to a file, which is overwritten if it already exists.
+	 * The index must not be modified while it is being saved.
+	 * 
+	 * @param path Path of the file.
+	 * 
+	 * @throws IOException if an I/O error occurs.
+	 * @throws NullPointerException if the given path is null.
+	 */
+	public void save(Path path) throws IOException {
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			int size = this.count.get();
+			Entry entry = this.entry;
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			channel.position(HEADER_SIZE);
+			Output output = new Output(channel);
+			for(int node = 0; node < size; node++) {
+				int[][] nodeLinks = this.links[node];
+				output.putInt(nodeLinks.length - 1);
+				for(float value : this.vectors[node]) {
+					output.putFloat(value);
+				}
+				for(int[] layer : nodeLinks) {
+					for(int i = 0; i <= layer[0]; i++) {
+						output.putInt(layer[i]);
+					}
+				}
+			}
+			output.flush();
+			header.putInt(0, MAGIC);
+			header.putInt(4, VERSION);
+			header.putInt(8, this.metric.ordinal());
+			header.putInt(12, this.dimension);
+			header.putInt(16, this.capacity);
+			header.putInt(20, size);
+			header.putInt(24, this.m);
+			header.putInt(28, this.efConstruction);
+			header.putInt(32, this.efSearch);
+			header.putInt(36, entry != null ? entry.node() : -1);
+			header.putLong(40, output.checksum.getValue());
+			while(header.hasRemaining()) {
+				channel.write(header, header.position());
+			}
+		}
+	}
+
+	/**
+	 * Reads an index from a file written by {@link #save(Path)}.
+	 * The index has the same graph, capacity and parameters as the saved one.
+	 * 
+	 * @param path Path of the file.
+	 * 
+	 * @return The index stored in the file.
+	 * 
+	 * @throws IOException if an I/O error occurs, if the file is not a valid index
+	 * 		file or if its checksum does not match its content.
+	 * @throws NullPointerException if the given path is null.
+	 */
+	public static HnswIndex load(Path path) throws IOException {
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			while(header.hasRemaining()) {
+				if(channel.read(header, header.position()) < 0)
+					throw new IOException("The file is too short to be an index file");
+			}
+			if(header.getInt(0) != MAGIC)
+				throw new IOException("The file is not an index file");
+			if(header.getInt(4) != VERSION)
+				throw new IOException("Unsupported index file version " + header.getInt(4));
+			int metric = header.getInt(8);
+			if(metric < 0 || metric >= Metric.values().length)
+				throw new IOException("Unknown metric " + metric);
+			HnswIndex index;
+			try {
+				index = new HnswIndex(header.getInt(12), Metric.values()[metric], header.getInt(16), header.getInt(24), header.getInt(28));
+				index.setEfSearch(header.getInt(32));
+			} catch (IllegalArgumentException e) {
+				throw new IOException("The parameters of the index are not valid", e);
+			}
+			int size = header.getInt(20), entryNode = header.getInt(36);
+			if(size < 0 || size > index.capacity || entryNode < -1 || entryNode >= size || (entryNode == -1) != (size == 0))
+				throw new IOException("The size of the index is not valid");
+			channel.position(HEADER_SIZE);
+			Input input = new Input(channel);
+			for(int node = 0; node < size; node++) {
+				int level = input.getInt();
+				if(level < 0 || level > MAX_LEVEL)
+					throw new IOException("The level of node " + node + " is not valid");
+				float[] values = new float[index.dimension];
+				for(int i = 0; i < values.length; i++) {
+					values[i] = input.getFloat();
+				}
+				int[][] nodeLinks = index.newLinks(level);
+				for(int[] layer : nodeLinks) {
+					int links = input.getInt();
+					if(links < 0 || links >= layer.length)
+						throw new IOException("The number of links of node " + node + " is not valid");
+					layer[0] = links;
+					for(int i = 1; i <= links; i++) {
+						layer[i] = input.getInt();
+						if(layer[i] < 0 || layer[i] >= size)
+							throw new IOException("Node " + node + " is linked to a node that does not exist");
+					}
+				}
+				index.vectors[node] = values;
+				index.links[node] = nodeLinks;
+			}
+			if(input.checksum() != header.getLong(40))
+				throw new IOException("The checksum of the file does not match its content");
+			index.count.set(size);
+			if(size > 0) {
+				index.entry = new Entry(entryNode, index.links[entryNode].length - 1);
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * Checks the given vector and copies it to an array, normalizing it with the {@link Metric#COSINE} metric.
+	 * 
+	 * @param vector The vector.
+	 * 
+	 * @return The components of the vector.
+	 * 
+	 * @throws VectorMathException if the size of the vector is different from the dimension of this index.
+	 */
+	private float[] prepare(FloatVector vector) {
+		this.checkDimension(vector.size());
+		float[] values = new float[this.dimension];
+		for(int i = 0; i < this.dimension; i++) {
+			values[i] = vector.element(i);
+		}
+		if(this.metric == Metric.COSINE) {
+			SearchKernels.normalize(values);
+		}
+		return values;
+	}
+
+	/**
+	 * Checks all the given vectors and copies them to arrays before any of them is added.
+	 * 
+	 * @param vectors The vectors.
+	 * 
+	 * @return The components of the vectors.
+	 * 
+	 * @throws VectorMathException if the size of a vector is different from the dimension of this index.
+	 */
+	private float[][] prepare(FloatVector[] vectors) {
+		float[][] values = new float[vectors.length][];
+		for(int i = 0; i < vectors.length; i++) {
+			values[i] = this.prepare(vectors[i]);
+		}
+		return values;
+	}
+
+	/**
+	 * Reserves consecutive indices for the given number of vectors.
+	 * 
+	 * @param vectors Number of vectors to add.
+	 * 
+	 * @return The first reserved index.
+	 * 
+	 * @throws IllegalStateException if the index does not have room for the vectors.
+	 */
+	private int reserve(int vectors) {
+		while(true) {
+			int first = this.count.get();
+			if(vectors > this.capacity - first)
+				throw new IllegalStateException("The index is full");
+			if(this.count.compareAndSet(first, first + vectors))
+				return first;
+		}
+	}
+
+	/**
+	 * Inserts a vector in the graph.
+	 * 
+	 * @param node Reserved index of the vector.
+	 * @param values Prepared components of the vector.
+	 */
+	private void insert(int node, float[] values) {
+		int level = this.randomLevel(node);
+		this.vectors[node] = values;
+		this.links[node] = this.newLinks(level);
+		Entry entry = this.entry;
+		boolean top = entry == null || level > entry.level();
+		if(top) {
+			this.entryLock.lock();
+			entry = this.entry;
+			top = entry == null || level > entry.level();
+			if(!top) {
+				this.entryLock.unlock();
+			}
+		}
+		try {
+			if(entry == null) {
+				this.entry = new Entry(node, level);
+				return;
+			}
+			SearchContext context = this.acquireContext();
+			try {
+				int current = entry.node();
+				for(int l = entry.level(); l > level; l--) {
+					current = this.greedy(values, current, l, context);
+				}
+				int highest = Math.min(level, entry.level());
+				int[][] neighbors = new int[highest + 1][];
+				for(int l = highest; l >= 0; l--) {
+					TopK found = this.searchLayer(values, current, this.efConstruction, l, context);
+					int candidates = this.exclude(node, context.scores, context.indices, found.drain(context.scores, context.indices));
+					if(candidates > 0) {
+						current = context.indices[0];
+					}
+					neighbors[l] = Arrays.copyOf(context.indices, this.selectNeighbors(context.scores, context.indices, candidates, this.m));
+				}
+				// Searches only read the links of one layer, so the graph is the same as if every layer was connected after
+				// its search. Connecting from the bottom layer ensures that concurrent searches that reach the node in an upper
+				// layer can always continue from it in the lower ones.
+				for(int l = 0; l <= highest; l++) {
+					for(int neighbor : neighbors[l]) {
+						this.connect(node, neighbor, l);
+					}
+					for(int neighbor : neighbors[l]) {
+						this.connect(neighbor, node, l);
+					}
+				}
+			} finally {
+				this.contexts.offer(context);
+			}
+			if(top) {
+				this.entry = new Entry(node, level);
+			}
+		} finally {
+			if(top) {
+				this.entryLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Removes a node from the nodes found while adding it.
+	 * Another thread may have linked the node to the nodes of a lower layer before it has been linked to them.
+	 * 
+	 * @param node Index of the node being added.
+	 * @param scores Scores of the nodes found.
+	 * @param indices Indices of the nodes found.
+	 * @param found Number of nodes found.
+	 * 
+	 * @return The number of remaining nodes, in the same order.
+	 */
+	private int exclude(int node, float[] scores, int[] indices, int found) {
+		int remaining = 0;
+		for(int i = 0; i < found; i++) {
+			if(indices[i] != node) {
+				scores[remaining] = scores[i];
+				indices[remaining++] = indices[i];
+			}
+		}
+		return remaining;
+	}
+
+	/**
+	 * Chooses the top layer of a node. The probability of a node being in layer l is {@code m^-l}.
+	 * 
+	 * @param node Index of the node.
+	 * 
+	 * @return The top layer of the node, which only depends on its index.
+	 */
+	private int randomLevel(int node) {
+		double random = 1.0 - new SplittableRandom(node).nextDouble();
+		return (int) Math.min(-Math.log(random) * this.levelFactor, MAX_LEVEL);
+	}
+
+	/**
+	 * Allocates the empty links of a node.
+	 * 
+	 * @param level Top layer of the node.
+	 * 
+	 * @return Arrays of {@code 2m + 1} elements for the bottom layer and {@code m + 1} elements for the upper layers.
+	 */
+	private int[][] newLinks(int level) {
+		int[][] result = new int[level + 1][];
+		result[0] = new int[2 * this.m + 1];
+		for(int l = 1; l <= level; l++) {
+			result[l] = new int[this.m + 1];
+		}
+		return result;
+	}
+
+	/**
+	 * Links a node to another one in the given layer.
+	 * If the node already has the maximum number of links, they are chosen again among the old ones and the new one.
+	 * 
+	 * @param node Node whose links are changed.
+	 * @param neighbor Node to link.
+	 * @param level Layer of the link.
+	 */
+	private void connect(int node, int neighbor, int level) {
+		synchronized(this.lock(node)) {
+			int[] layer = this.links[node][level];
+			int size = layer[0];
+			for(int i = 1; i <= size; i++) {
+				if(layer[i] == neighbor)
+					return;
+			}
+			if(size < layer.length - 1) {
+				layer[size + 1] = neighbor;
+				layer[0] = size + 1;
+				return;
+			}
+			float[] values = this.vectors[node];
+			float[] scores = new float[size + 1];
+			int[] indices = new int[size + 1];
+			for(int i = 0; i <= size; i++) {
+				int other = i < size ? layer[i + 1] : neighbor;
+				float score = this.similarity(values, this.vectors[other]);
+				int j = i;
+				for(; j > 0 && TopK.better(score, other, scores[j - 1], indices[j - 1]); j--) {
+					scores[j] = scores[j - 1];
+					indices[j] = indices[j - 1];
+				}
+				scores[j] = score;
+				indices[j] = other;
+			}
+			int selected = this.selectNeighbors(scores, indices, size + 1, size);
+			System.arraycopy(indices, 0, layer, 1, selected);
+			layer[0] = selected;
+		}
+	}
+
+	/**
+	 * Chooses the neighbors of a node among the given candidates with the heuristic of the HNSW paper.
+	 * A candidate is kept only if it is more similar to the node than to all the candidates already kept,
+	 * so that the links point in different directions instead of all going to the same cluster.
+	 * 
+	 * @param scores Similarities between the node and the candidates, from best to worst.
+	 * @param indices Indices of the candidates, the chosen ones are moved to the beginning.
+	 * @param candidates Number of candidates.
+	 * @param max Maximum number of neighbors.
+	 * 
+	 * @return The number of chosen neighbors.
+	 */
+	private int selectNeighbors(float[] scores, int[] indices, int candidates, int max) {
+		int selected = 0;
+		for(int i = 0; i < candidates && selected < max; i++) {
+			float[] candidate = this.vectors[indices[i]];
+			boolean keep = true;
+			for(int j = 0; j < selected && keep; j++) {
+				keep = this.similarity(candidate, this.vectors[indices[j]]) <= scores[i];
+			}
+			if(keep) {
+				scores[selected] = scores[i];
+				indices[selected++] = indices[i];
+			}
+		}
+		return selected;
+	}
+
+	/**
+	 * Takes a search state that is not in use by any other thread, creating a new one if there are none.
+	 * The state must be given back to the pool when the search ends.
+	 * 
+	 * @return A search state.
+	 */
+	private SearchContext acquireContext() {
+		SearchContext context = this.contexts.poll();
+		return context != null ? context : new SearchContext(this.m, this.efConstruction);
+	}
+
+	/**
+	 * Moves from the given node to the most similar neighbor until no neighbor is more similar to the query.
+	 * 
+	 * @param query The prepared query.
+	 * @param node Node where the search starts.
+	 * @param level Layer of the search.
+	 * @param context State of the current search.
+	 * 
+	 * @return The most similar node found.
+	 */
+	private int greedy(float[] query, int node, int level, SearchContext context) {
+		float score = this.similarity(query, this.vectors[node]);
+		boolean changed = true;
+		while(changed) {
+			changed = false;
+			int links = this.copyLinks(node, level, context);
+			for(int i = 0; i < links; i++) {
+				int neighbor = context.links[i];
+				float other = this.similarity(query, this.vectors[neighbor]);
+				if(TopK.better(other, neighbor, score, node)) {
+					score = other;
+					node = neighbor;
+					changed = true;
+				}
+			}
+		}
+		return node;
+	}
+
+	/**
+	 * Explores a layer of the graph from the given node keeping the best nodes found so far.
+	 * 
+	 * @param query The prepared query.
+	 * @param node Node where the search starts.
+	 * @param ef Maximum number of nodes to keep.
+	 * @param level Layer of the search.
+	 * @param context State of the current search.
+	 * 
+	 * @return The best nodes found.
+	 */
+	private TopK searchLayer(float[] query, int node, int ef, int level, SearchContext context) {
+		TopK found = new TopK(ef);
+		Candidates candidates = context.candidates;
+		candidates.clear();
+		context.nextVisit();
+		context.visit(node);
+		float score = this.similarity(query, this.vectors[node]);
+		candidates.push(score, node);
+		found.offer(score, node);
+		while(candidates.size() > 0) {
+			float best = candidates.bestScore();
+			int current = candidates.pop();
+			if(found.isFull() && best < found.worstScore())
+				break;
+			int links = this.copyLinks(current, level, context);
+			for(int i = 0; i < links; i++) {
+				int neighbor = context.links[i];
+				if(context.visit(neighbor)) {
+					float other = this.similarity(query, this.vectors[neighbor]);
+					if(!found.isFull() || TopK.better(other, neighbor, found.worstScore(), found.worstIndex())) {
+						candidates.push(other, neighbor);
+						found.offer(other, neighbor);
+					}
+				}
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Copies the links of a node so that they can be read without holding its lock.
+	 * 
+	 * @param node Index of the node.
+	 * @param level Layer of the links.
+	 * @param context State of the current search, whose array receives the links.
+	 * 
+	 * @return The number of links.
+	 */
+	private int copyLinks(int node, int level, SearchContext context) {
+		synchronized(this.lock(node)) {
+			int[] layer = this.links[node][level];
+			System.arraycopy(layer, 1, context.links, 0, layer[0]);
+			return layer[0];
+		}
+	}
+
+	/**
+	 * Gets the lock that protects the links of the given node.
+	 * 
+	 * @param node Index of the node.
+	 * 
+	 * @return The lock of the node.
+	 */
+	private Object lock(int node) {
+		return this.locks[node & (LOCKS - 1)];
+	}
+
+	/**
+	 * Computes the similarity between two vectors according to the metric of this index.
+	 * 
+	 * @param a The first vector.
+	 * @param b The second vector.
+	 * 
+	 * @return The inner product, or the opposite of the squared distance with the {@link Metric#L2} metric.
+	 */
+	private float similarity(float[] a, float[] b) {
+		if(this.metric != Metric.L2)
+			return SearchKernels.dot(a, 0, b, this.dimension);
+		float sum = 0.0f;
+		for(int i = 0; i < this.dimension; i++) {
+			float difference = a[i] - b[i];
+			sum += difference * difference;
+		}
+		return -sum;
+	}
+
+	/**
+	 * Utility method that checks if the given size is the same as the dimension of this index.
+	 * 
+	 * @param size Size of a vector.
+	 * 
+	 * @throws VectorMathException if the given size is different from the dimension of this index.
+	 */
+	private void checkDimension(int size) {
+		if(size != this.dimension)
+			throw new VectorMathException("The size of the vector does not match the dimension of the index");
+	}
+
+	/**
+	 * Node where searches start.
+	 * 
+	 * @param node Index of the node.
+	 * @param level Top layer of the node, which is the top layer of the graph.
+	 */
+	private record Entry(int node, int level) {}
+
+	/**
+	 * Reusable state of a search, which is used by a single thread at a time.
+	 * It does not reference the index, so that states kept by the index never keep it alive.
+	 */
+	private static final class SearchContext {
+
+		/**Nodes visited by the current search */
+		private final Visited visited = new Visited();
+		/**Nodes that still have to be explored */
+		private final Candidates candidates = new Candidates();
+		/**Links of the node being explored */
+		private final int[] links;
+		/**Scores of the nodes found while adding a vector */
+		private final float[] scores;
+		/**Indices of the nodes found while adding a vector */
+		private final int[] indices;
+
+		/**
+		 * Creates the state of a search.
+		 * 
+		 * @param m Maximum number of links of a node in the upper layers.
+		 * @param efConstruction Number of nodes kept while searching the neighbors of a new node.
+		 */
+		private SearchContext(int m, int efConstruction) {
+			this.links = new int[2 * m];
+			this.scores = new float[efConstruction];
+			this.indices = new int[efConstruction];
+		}
+
+		/**
+		 * Starts a new search, in which no node has been visited.
+		 */
+		private void nextVisit() {
+			this.visited.clear();
+		}
+
+		/**
+		 * Marks a node as visited by the current search.
+		 * 
+		 * @param node Index of the node.
+		 * 
+		 * @return True if the node had not been visited yet.
+		 */
+		private boolean visit(int node) {
+			return this.visited.add(node);
+		}
+	}
+
+	/**
+	 * Set of nodes with open addressing and linear probing, whose table grows with the number of nodes
+	 * visited by a search instead of the capacity of the index.
+	 */
+	private static final class Visited {
+
+		/**Nodes in the set, -1 marks an empty slot */
+		private int[] table = filled(256);
+		/**Number of nodes in the set */
+		private int size;
+
+		/**
+		 * Removes all the nodes of this set.
+		 */
+		private void clear() {
+			if(this.size > 0) {
+				Arrays.fill(this.table, -1);
+				this.size = 0;
+			}
+		}
+
+		/**
+		 * Adds a node to this set.
+		 * 
+		 * @param node Index of the node, which is not negative.
+		 * 
+		 * @return True if the node was not in this set.
+		 */
+		private boolean add(int node) {
+			int mask = this.table.length - 1;
+			int slot = slot(node, mask);
+			while(this.table[slot] != -1) {
+				if(this.table[slot] == node)
+					return false;
+				slot = slot + 1 & mask;
+			}
+			this.table[slot] = node;
+			// The table is kept at most half full so that probes stay short
+			if(++this.size > this.table.length >>> 1) {
+				this.grow();
+			}
+			return true;
+		}
+
+		/**
+		 * Doubles the size of the table and inserts the nodes again.
+		 */
+		private void grow() {
+			int[] old = this.table;
+			this.table = filled(2 * old.length);
+			int mask = this.table.length - 1;
+			for(int node : old) {
+				if(node != -1) {
+					int slot = slot(node, mask);
+					while(this.table[slot] != -1) {
+						slot = slot + 1 & mask;
+					}
+					this.table[slot] = node;
+				}
+			}
+		}
+
+		/**
+		 * Computes the first slot where a node is looked for.
+		 * 
+		 * @param node Index of the node.
+		 * @param mask Length of the table minus one.
+		 * 
+		 * @return The slot of the node.
+		 */
+		private static int slot(int node, int mask) {
+			int hash = node * 0x9E3779B9;
+			return (hash ^ hash >>> 16) & mask;
+		}
+
+		/**
+		 * Creates an array where every slot is empty.
+		 * 
+		 * @param length Length of the array.
+		 * 
+		 * @return A new array filled with -1.
+		 */
+		private static int[] filled(int length) {
+			int[] result = new int[length];
+			Arrays.fill(result, -1);
+			return result;
+		}
+	}
+
+	/**
+	 * Unbounded heap of primitive values that keeps the nodes to explore with the best one at the root.
+	 */
+	private static final class Candidates {
+
+		/**Scores of the nodes */
+		private float[] scores = new float[64];
+		/**Indices of the nodes */
+		private int[] indices = new int[64];
+		/**Number of nodes in the heap */
+		private int size;
+
+		/**
+		 * Gets the number of nodes in this heap.
+		 * 
+		 * @return The number of nodes in this heap.
+		 */
+		private int size() {
+			return this.size;
+		}
+
+		/**
+		 * Removes all the nodes of this heap.
+		 */
+		private void clear() {
+			this.size = 0;
+		}
+
+		/**
+		 * Gets the score of the best node.
+		 * 
+		 * @return The highest score in this heap, undefined if the heap is empty.
+		 */
+		private float bestScore() {
+			return this.scores[0];
+		}
+
+		/**
+		 * Adds a node to this heap.
+		 * 
+		 * @param score Score of the node.
+		 * @param index Index of the node.
+		 */
+		private void push(float score, int index) {
+			if(this.size == this.scores.length) {
+				this.scores = Arrays.copyOf(this.scores, 2 * this.size);
+				this.indices = Arrays.copyOf(this.indices, 2 * this.size);
+			}
+			int i = this.size++;
+			while(i > 0) {
+				int parent = (i - 1) >>> 1;
+				if(!TopK.better(score, index, this.scores[parent], this.indices[parent]))
+					break;
+				this.scores[i] = this.scores[parent];
+				this.indices[i] = this.indices[parent];
+				i = parent;
+			}
+			this.scores[i] = score;
+			this.indices[i] = index;
+		}
+
+		/**
+		 * Removes the best node from this heap.
+		 * 
+		 * @return The index of the removed node.
+		 */
+		private int pop() {
+			int result = this.indices[0];
+			int last = --this.size;
+			float score = this.scores[last];
+			int index = this.indices[last];
+			int i = 0;
+			while(true) {
+				int child = 2 * i + 1;
+				if(child >= last)
+					break;
+				if(child + 1 < last && TopK.better(this.scores[child + 1], this.indices[child + 1], this.scores[child], this.indices[child]))
+					child++;
+				if(!TopK.better(this.scores[child], this.indices[child], score, index))
+					break;
+				this.scores[i] = this.scores[child];
+				this.indices[i] = this.indices[child];
+				i = child;
+			}
+			this.scores[i] = score;
+			this.indices[i] = index;
+			return result;
+		}
+	}
+
+	/**
+	 * Buffered writer of little-endian values that computes the checksum of the written bytes.
+	 */
+	private static final class Output {
+
+		/**Channel of the file */
+		private final FileChannel channel;
+		/**Buffer of the values not written yet */
+		private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		/**Checksum of the written bytes */
+		private final CRC32C checksum = new CRC32C();
+
+		/**
+		 * Creates a writer that writes from the current position of the given channel.
+		 * 
+		 * @param channel Channel of the file.
+		 */
+		private Output(FileChannel channel) {
+			this.channel = channel;
+		}
+
+		/**
+		 * Writes an int.
+		 * 
+		 * @param value The value to write.
+		 * 
+		 * @throws IOException if an I/O error occurs.
+		 */
+		private void putInt(int value) throws IOException {
+			if(this.buffer.remaining() < Integer.BYTES) {
+				this.flush();
+			}
+			this.buffer.putInt(value);
+		}
+
+		/**
+		 * Writes a float.
+		 * 
+		 * @param value The value to write.
+		 * 
+		 * @throws IOException if an I/O error occurs.
+		 */
+		private void putFloat(float value) throws IOException {
+			if(this.buffer.remaining() < Float.BYTES) {
+				this.flush();
+			}
+			this.buffer.putFloat(value);
+		}
+
+		/**
+		 * Writes the content of the buffer to the file.
+		 * 
+		 * @throws IOException if an I/O error occurs.
+		 */
+		private void flush() throws IOException {
+			this.buffer.flip();
+			this.checksum.update(this.buffer.duplicate());
+			while(this.buffer.hasRemaining()) {
+				this.channel.write(this.buffer);
+			}
+			this.buffer.clear();
+		}
+	}
+
+	/**
+	 * Buffered reader of little-endian values that computes the checksum of the read bytes.
+	 */
+	private static final class Input {
+
+		/**Channel of the file */
+		private final FileChannel channel;
+		/**Buffer of the values read from the file */
+		private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		/**Checksum of the values consumed from the buffer */
+		private final CRC32C checksum = new CRC32C();
+
+		/**
+		 * Creates a reader that reads from the current position of the given channel.
+		 * 
+		 * @param channel Channel of the file.
+		 */
+		private Input(FileChannel channel) {
+			this.channel = channel;
+			this.buffer.limit(0);
+		}
+
+		/**
+		 * Reads an int.
+		 * 
+		 * @return The value read.
+		 * 
+		 * @throws IOException if an I/O error occurs or if the end of the file is reached.
+		 */
+		private int getInt() throws IOException {
+			this.fill(Integer.BYTES);
+			return this.buffer.getInt();
+		}
+
+		/**
+		 * Reads a float.
+		 * 
+		 * @return The value read.
+		 * 
+		 * @throws IOException if an I/O error occurs or if the end of the file is reached.
+		 */
+		private float getFloat() throws IOException {
+			this.fill(Float.BYTES);
+			return this.buffer.getFloat();
+		}
+
+		/**
+		 * Gets the checksum of the bytes read so far.
+		 * 
+		 * @return The CRC-32C checksum of the values read.
+		 */
+		private long checksum() {
+			this.checksum.update(this.buffer.duplicate().flip());
+			this.buffer.compact().flip();
+			return this.checksum.getValue();
+		}
+
+		/**
+		 * Reads from the file until the buffer contains at least the given number of bytes.
+		 * 
+		 * @param bytes Number of bytes needed.
+		 * 
+		 * @throws IOException if an I/O error occurs or if the end of the file is reached.
+		 */
+		private void fill(int bytes) throws IOException {
+			if(this.buffer.remaining() >= bytes)
+				return;
+			this.checksum.update(this.buffer.duplicate().flip());
+			this.buffer.compact();
+			while(this.buffer.position() < bytes) {
+				if(this.channel.read(this.buffer) < 0)
+					throw new EOFException("The file is shorter than the size of the index");
+			}
+			this.buffer.flip();
+		}
+	}
+
+	/**
+	 * Task that adds a range of vectors or splits it in two halves if it is too big.
+	 */
+	private final class InsertTask extends RecursiveAction {
+
+		/**The prepared vectors */
+		private final float[][] values;
+		/**Index of the first vector */
+		private final int first;
+		/**Bounds of the range */
+		private final int from, to;
+
+		/**
+		 * Creates a task that adds the given range of vectors.
+		 * 
+		 * @param values The prepared vectors.
+		 * @param first Index of the first vector.
+		 * @param from Index of the first vector of the range in the array, inclusive.
+		 * @param to Index of the last vector of the range in the array, exclusive.
+		 */
+		private InsertTask(float[][] values, int first, int from, int to) {
+			this.values = values;
+			this.first = first;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if(this.to - this.from <= 64) {
+				for(int i = this.from; i < this.to; i++) {
+					HnswIndex.this.insert(this.first + i, this.values[i]);
+				}
+			} else {
+				int middle = (this.from + this.to) >>> 1;
+				invokeAll(new InsertTask(this.values, this.first, this.from, middle), new InsertTask(this.values, this.first, middle, this.to));
+			}
+		}
+	}
+
+	/**
+	 * Task that searches a range of queries or splits it in two halves if it has more than one query.
+	 */
+	private final class QueryTask extends RecursiveAction {
+
+		/**The queries */
+		private final FloatVector[] queries;
+		/**Maximum number of vectors to find for every query */
+		private final int k;
+		/**Array where the results are stored */
+		private final Neighbor[][] result;
+		/**Bounds of the range */
+		private final int from, to;
+
+		/**
+		 * Creates a task that searches the given range of queries.
+		 * 
+		 * @param queries The queries.
+		 * @param k Maximum number of vectors to find for every query.
+		 * @param result Array where the results are stored.
+		 * @param from Index of the first query, inclusive.
+		 * @param to Index of the last query, exclusive.
+		 */
+		private QueryTask(FloatVector[] queries, int k, Neighbor[][] result, int from, int to) {
+			this.queries = queries;
+			this.k = k;
+			this.result = result;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if(this.to - this.from <= 1) {
+				for(int i = this.from; i < this.to; i++) {
+					this.result[i] = HnswIndex.this.topK(this.queries[i], this.k);
+				}
+			} else {
+				int middle = (this.from + this.to) >>> 1;
+				invokeAll(new QueryTask(this.queries, this.k, this.result, this.from, middle), new QueryTask(this.queries, this.k, this.result, middle, this.to));
+			}
+		}
+	}
+}
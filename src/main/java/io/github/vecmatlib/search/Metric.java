@@ -0,0 +1,35 @@
+package io.github.vecmatlib.search;
+
+/**
+ * Measure of similarity used to rank the vectors of an index.
+ * 
+ * @author Nico
+ */
+public enum Metric {
+
+	/**
+	 * Inner product between the query and the vectors. Higher scores are more similar.
+	 */
+	INNER_PRODUCT,
+
+	/**
+	 * Cosine of the angle between the query and the vectors. Higher scores are more similar.
+	 * The vectors are normalized when they are added to the index, so the score is the inner
+	 * product between the normalized query and the normalized vectors.
+	 */
+	COSINE,
+
+	/**
+	 * Squared Euclidean distance between the query and the vectors. Lower scores are more similar.
+	 */
+	L2;
+
+	/**
+	 * Checks if higher scores are more similar with this metric.
+	 * 
+	 * @return True for {@link #INNER_PRODUCT} and {@link #COSINE}, false for {@link #L2}.
+	 */
+	public boolean isSimilarity() {
+		return this != L2;
+	}
+}
@@ -0,0 +1,12 @@
+package io.github.vecmatlib.search;
+
+/**
+ * Vector found by a search, with its score with respect to the query.
+ * 
+ * @param index Index of the vector in the index.
+ * @param score Inner product, cosine similarity or squared distance between
+ * 		the vector and the query, depending on the {@link Metric} of the index.
+ * 
+ * @author Nico
+ */
+public record Neighbor(int index, float score) {}
@@ -0,0 +1,414 @@
+package io.github.vecmatlib.search;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+import io.github.vecmatlib.vector.FloatVector;
+import io.github.vecmatlib.vector.VectorMathException;
+
+/**
+ * Index that compresses its vectors with product quantization and finds the k vectors
+ * most similar to a query by exhaustive search with asymmetric distance computation.
+ * 
+ * <p> The components of every vector are split into {@code subspaces} contiguous groups of the
+ * same size. Every group is replaced by the index of the closest of {@code centroids} vectors of
+ * that subspace, so a vector is stored in {@code subspaces} bytes. The centroids of every subspace
+ * are computed from a sample of the corpus with the k-means algorithm when the index is created,
+ * starting from distinct vectors of the sample chosen with a fixed seed, so the same sample always
+ * gives the same codebook.
+ * 
+ * <p> Queries are not quantized. Before scanning the corpus, the inner products or the squared
+ * distances between every group of the query and every centroid of its subspace are computed and
+ * stored in a table. The score of a vector is then the sum of one entry of the table for every
+ * subspace, so vectors are never decoded. The metrics and the scores are the same as the ones of
+ * {@link VectorIndex}, computed on the quantized vectors.
+ * 
+ * <p> Vectors can be added at any time, but not while the index is being searched.
+ * 
+ * @author Nico
+ */
+public final class ProductQuantizedIndex {
+
+	/**Default number of centroids of every subspace */
+	public static final int DEFAULT_CENTROIDS = 256;
+	/**Number of iterations of the k-means algorithm */
+	public static final int TRAINING_ITERATIONS = 20;
+
+	/**Seed used to choose the initial centroids */
+	private static final long SEED = 0x5DEECE66DL;
+
+	/**Number of components of every vector */
+	private final int dimension;
+	/**Metric used to rank the vectors */
+	private final Metric metric;
+	/**Number of groups of components */
+	private final int subspaces;
+	/**Number of components of every group */
+	private final int subspaceDimension;
+	/**Number of centroids of every subspace */
+	private final int centroids;
+	/**Centroids of every subspace, packed by subspace and then by centroid */
+	private final float[] codebook;
+	/**Packed codes of the vectors */
+	private byte[] codes;
+	/**Number of vectors in the index */
+	private int size;
+
+	/**
+	 * Creates an empty index with {@link #DEFAULT_CENTROIDS} centroids for every subspace.
+	 * See {@link #ProductQuantizedIndex(Metric, int, int, FloatVector...)}.
+	 * 
+	 * @param metric Metric used to rank the vectors.
+	 * @param subspaces Number of groups of components, which must divide the dimension of the sample.
+	 * @param sample Vectors used to compute the centroids.
+	 * 
+	 * @throws VectorMathException if the vectors of the sample do not all have the same size.
+	 * @throws IllegalArgumentException if the number of subspaces is not greater than zero or does not
+	 * 		divide the dimension, or if the sample has less vectors than centroids.
+	 * @throws NullPointerException if the given metric, the given array or one of its vectors is null.
+	 */
+	public ProductQuantizedIndex(Metric metric, int subspaces, FloatVector... sample) {
+		this(metric, subspaces, DEFAULT_CENTROIDS, sample);
+	}
+
+	/**
+	 * Creates an empty index and computes the centroids of every subspace from the given sample.
+	 * With the {@link Metric#COSINE} metric the centroids are computed on the normalized sample.
+	 * 
+	 * @param metric Metric used to rank the vectors.
+	 * @param subspaces Number of groups of components, which must divide the dimension of the sample.
+	 * @param centroids Number of centroids of every subspace, from 1 to 256.
+	 * @param sample Vectors used to compute the centroids.
+	 * 
+	 * @throws VectorMathException if the vectors of the sample do not all have the same size.
+	 * @throws IllegalArgumentException if the number of subspaces is not greater than zero or does not
+	 * 		divide the dimension, if the number of centroids is not between 1 and 256 or if the sample has
+	 * 		less vectors than centroids.
+	 * @throws NullPointerException if the given metric, the given array or one of its vectors is null.
+	 */
+	public ProductQuantizedIndex(Metric metric, int subspaces, int centroids, FloatVector... sample) {
+		this.metric = Objects.requireNonNull(metric);
+		if(centroids < 1 || centroids > 256)
+			throw new IllegalArgumentException("The number of centroids must be between 1 and 256");
+		if(sample.length < centroids)
+			throw new IllegalArgumentException("The sample must contain at least as many vectors as centroids");
+		this.dimension = sample[0].size();
+		if(subspaces <= 0 || this.dimension % subspaces != 0)
+			throw new IllegalArgumentException("The number of subspaces must divide the dimension");
+		this.subspaces = subspaces;
+		this.subspaceDimension = this.dimension / subspaces;
+		this.centroids = centroids;
+		float[] data = new float[sample.length * this.dimension];
+		for(int i = 0; i < sample.length; i++) {
+			System.arraycopy(this.prepare(sample[i]), 0, data, i * this.dimension, this.dimension);
+		}
+		this.codebook = new float[subspaces * centroids * this.subspaceDimension];
+		for(int s = 0; s < subspaces; s++) {
+			this.train(data, sample.length, s);
+		}
+		this.codes = new byte[16 * subspaces];
+	}
+
+	/**
+	 * Gets the number of components of the vectors in this index.
+	 * 
+	 * @return The dimension of this index.
+	 */
+	public int dimension() {
+		return this.dimension;
+	}
+
+	/**
+	 * Gets the metric used to rank the vectors in this index.
+	 * 
+	 * @return The metric of this index.
+	 */
+	public Metric metric() {
+		return this.metric;
+	}
+
+	/**
+	 * Gets the number of groups in which the components of the vectors are split.
+	 * 
+	 * @return The number of subspaces of this index.
+	 */
+	public int subspaces() {
+		return this.subspaces;
+	}
+
+	/**
+	 * Gets the number of centroids of every subspace.
+	 * 
+	 * @return The number of centroids of this index.
+	 */
+	public int centroids() {
+		return this.centroids;
+	}
+
+	/**
+	 * Gets the number of vectors in this index.
+	 * 
+	 * @return The number of vectors in this index.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets the number of bytes used to store every vector, which is one byte per subspace.
+	 * A float vector takes four bytes per component.
+	 * 
+	 * @return The memory used by every vector in bytes.
+	 */
+	public int bytesPerVector() {
+		return this.subspaces;
+	}
+
+	/**
+	 * Quantizes a vector and adds it to this index.
+	 * 
+	 * @param vector The vector to add.
+	 * 
+	 * @return The index of the vector, which is the number of vectors added before it.
+	 * 
+	 * @throws VectorMathException if the size of the vector is different from the dimension of this index.
+	 * @throws NullPointerException if the given vector is null.
+	 */
+	public int add(FloatVector vector) {
+		float[] values = this.prepare(vector);
+		if((this.size + 1) * (long) this.subspaces > this.codes.length) {
+			long capacity = Math.min(2L * this.codes.length, Integer.MAX_VALUE - 8);
+			if(capacity < (this.size + 1) * (long) this.subspaces)
+				throw new IllegalStateException("The index is full");
+			this.codes = Arrays.copyOf(this.codes, (int) (capacity / this.subspaces * this.subspaces));
+		}
+		for(int s = 0; s < this.subspaces; s++) {
+			this.codes[this.size * this.subspaces + s] = (byte) this.nearest(values, s * this.subspaceDimension, s);
+		}
+		return this.size++;
+	}
+
+	/**
+	 * Quantizes all the given vectors and adds them to this index.
+	 * 
+	 * @param vectors The vectors to add.
+	 * 
+	 * @throws VectorMathException if the size of a vector is different from the dimension of this index.
+	 * @throws NullPointerException if the given array or one of its vectors is null.
+	 */
+	public void addAll(FloatVector... vectors) {
+		for(FloatVector vector : vectors) {
+			this.add(vector);
+		}
+	}
+
+	/**
+	 * Decodes a vector of this index by joining the centroids of its codes.
+	 * With the {@link Metric#COSINE} metric the vector was normalized before it was quantized.
+	 * 
+	 * @param index Index of the vector.
+	 * 
+	 * @return The quantized vector.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given index is less than 0
+	 * 		or greater than the size of the index.
+	 */
+	public FloatVector vector(int index) {
+		Objects.checkIndex(index, this.size);
+		float[] values = new float[this.dimension];
+		for(int s = 0; s < this.subspaces; s++) {
+			int code = this.codes[index * this.subspaces + s] & 0xFF;
+			System.arraycopy(this.codebook, this.centroid(s, code), values, s * this.subspaceDimension, this.subspaceDimension);
+		}
+		return new FloatVector(values);
+	}
+
+	/**
+	 * Finds the k vectors most similar to the given query.
+	 * The query is compared with the quantized vectors through a table of its scores
+	 * with the centroids of every subspace, without decoding the vectors.
+	 * 
+	 * @param query The query.
+	 * @param k Maximum number of vectors to find.
+	 * 
+	 * @return The vectors most similar to the query from most to least similar,
+	 * 		or all the vectors if the index contains less than k vectors.
+	 * 
+	 * @throws VectorMathException if the size of the query is different from the dimension of this index.
+	 * @throws IllegalArgumentException if k is not greater than zero.
+	 * @throws NullPointerException if the given query is null.
+	 */
+	public Neighbor[] topK(FloatVector query, int k) {
+		if(k <= 0)
+			throw new IllegalArgumentException("The number of neighbors must be greater than zero");
+		float[] values = this.prepare(query);
+		float[] table = new float[this.subspaces * this.centroids];
+		for(int s = 0; s < this.subspaces; s++) {
+			int offset = s * this.subspaceDimension;
+			for(int c = 0; c < this.centroids; c++) {
+				table[s * this.centroids + c] = this.metric == Metric.L2 ? -this.distance(values, offset, this.centroid(s, c)) : this.dot(values, offset, this.centroid(s, c));
+			}
+		}
+		TopK heap = new TopK(Math.min(k, this.size));
+		int block = SearchKernels.blockSize(this.subspaces);
+		float[] scores = new float[block];
+		for(int start = 0; start < this.size; start += block) {
+			int end = Math.min(start + block, this.size);
+			SearchKernels.lookups(this.codes, this.subspaces, start, end, table, this.centroids, scores);
+			for(int i = start; i < end; i++) {
+				heap.offer(scores[i - start], i);
+			}
+		}
+		return heap.toNeighbors(this.metric == Metric.L2 ? score -> -score : score -> score);
+	}
+
+	/**
+	 * Computes the centroids of a subspace with the k-means algorithm.
+	 * Clusters that become empty are restarted from the vector farthest from its centroid.
+	 * 
+	 * @param data The packed vectors of the sample.
+	 * @param count Number of vectors of the sample.
+	 * @param subspace Index of the subspace.
+	 */
+	private void train(float[] data, int count, int subspace) {
+		int offset = subspace * this.subspaceDimension;
+		int[] order = new int[count];
+		for(int i = 0; i < count; i++) {
+			order[i] = i;
+		}
+		SplittableRandom random = new SplittableRandom(SEED + subspace);
+		for(int c = 0; c < this.centroids; c++) {
+			int chosen = c + random.nextInt(count - c);
+			int swap = order[c];
+			order[c] = order[chosen];
+			order[chosen] = swap;
+			System.arraycopy(data, order[c] * this.dimension + offset, this.codebook, this.centroid(subspace, c), this.subspaceDimension);
+		}
+		int[] assignments = new int[count];
+		float[] distances = new float[count];
+		double[] sums = new double[this.centroids * this.subspaceDimension];
+		int[] sizes = new int[this.centroids];
+		float[] values = new float[this.subspaceDimension];
+		for(int iteration = 0; iteration < TRAINING_ITERATIONS; iteration++) {
+			Arrays.fill(sums, 0.0);
+			Arrays.fill(sizes, 0);
+			for(int i = 0; i < count; i++) {
+				System.arraycopy(data, i * this.dimension + offset, values, 0, this.subspaceDimension);
+				int c = this.nearest(values, 0, subspace);
+				assignments[i] = c;
+				distances[i] = this.distance(values, 0, this.centroid(subspace, c));
+				sizes[c]++;
+				for(int j = 0; j < this.subspaceDimension; j++) {
+					sums[c * this.subspaceDimension + j] += values[j];
+				}
+			}
+			for(int c = 0; c < this.centroids; c++) {
+				if(sizes[c] > 0) {
+					for(int j = 0; j < this.subspaceDimension; j++) {
+						this.codebook[this.centroid(subspace, c) + j] = (float) (sums[c * this.subspaceDimension + j] / sizes[c]);
+					}
+				} else {
+					int farthest = 0;
+					for(int i = 1; i < count; i++) {
+						if(distances[i] > distances[farthest])
+							farthest = i;
+					}
+					distances[farthest] = 0.0f;
+					System.arraycopy(data, farthest * this.dimension + offset, this.codebook, this.centroid(subspace, c), this.subspaceDimension);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Finds the centroid of a subspace closest to a group of components.
+	 * 
+	 * @param values The components.
+	 * @param offset Index of the first component of the group.
+	 * @param subspace Index of the subspace.
+	 * 
+	 * @return The index of the closest centroid, the lowest one in case of ties.
+	 */
+	private int nearest(float[] values, int offset, int subspace) {
+		int best = 0;
+		float bestDistance = Float.POSITIVE_INFINITY;
+		for(int c = 0; c < this.centroids; c++) {
+			float distance = this.distance(values, offset, this.centroid(subspace, c));
+			if(distance < bestDistance) {
+				bestDistance = distance;
+				best = c;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Computes the squared distance between a group of components and a centroid.
+	 * 
+	 * @param values The components.
+	 * @param offset Index of the first component of the group.
+	 * @param centroid Index of the first component of the centroid in the codebook.
+	 * 
+	 * @return The squared distance.
+	 */
+	private float distance(float[] values, int offset, int centroid) {
+		float sum = 0.0f;
+		for(int j = 0; j < this.subspaceDimension; j++) {
+			float difference = values[offset + j] - this.codebook[centroid + j];
+			sum += difference * difference;
+		}
+		return sum;
+	}
+
+	/**
+	 * Computes the inner product between a group of components and a centroid.
+	 * 
+	 * @param values The components.
+	 * @param offset Index of the first component of the group.
+	 * @param centroid Index of the first component of the centroid in the codebook.
+	 * 
+	 * @return The inner product.
+	 */
+	private float dot(float[] values, int offset, int centroid) {
+		float sum = 0.0f;
+		for(int j = 0; j < this.subspaceDimension; j++) {
+			sum += values[offset + j] * this.codebook[centroid + j];
+		}
+		return sum;
+	}
+
+	/**
+	 * Gets the position of a centroid in the codebook.
+	 * 
+	 * @param subspace Index of the subspace.
+	 * @param centroid Index of the centroid in the subspace.
+	 * 
+	 * @return The index of the first component of the centroid.
+	 */
+	private int centroid(int subspace, int centroid) {
+		return (subspace * this.centroids + centroid) * this.subspaceDimension;
+	}
+
+	/**
+	 * Checks the given vector and copies it to an array, normalizing it with the {@link Metric#COSINE} metric.
+	 * 
+	 * @param vector The vector.
+	 * 
+	 * @return The components of the vector.
+	 * 
+	 * @throws VectorMathException if the size of the vector is different from the dimension of this index.
+	 */
+	private float[] prepare(FloatVector vector) {
+		if(vector.size() != this.dimension)
+			throw new VectorMathException("The size of the vector does not match the dimension of the index");
+		float[] values = new float[this.dimension];
+		for(int j = 0; j < this.dimension; j++) {
+			values[j] = vector.element(j);
+		}
+		if(this.metric == Metric.COSINE) {
+			SearchKernels.normalize(values);
+		}
+		return values;
+	}
+}
@@ -0,0 +1,368 @@
+package io.github.vecmatlib.search;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import io.github.vecmatlib.vector.FloatVector;
+import io.github.vecmatlib.vector.VectorMathException;
+
+/**
+ * Index that stores every component of its vectors as an 8-bit code and finds the k vectors
+ * most similar to a query by exhaustive search.
+ * 
+ * <p> Every component {@code x} is stored as the integer code {@code c} from 0 to 255 that minimizes
+ * the error of {@code x = offset + scale * c}. The offset and the scale are either computed for every
+ * vector from its smallest and largest components, see {@link #perVector(int, Metric)}, or computed
+ * for every dimension from the smallest and largest values of a sample of the corpus, see
+ * {@link #perDimension(Metric, FloatVector...)}. Components outside of the range of the sample are
+ * clamped. A vector takes a quarter of the memory of a float vector, plus a few floats.
+ * 
+ * <p> Queries are not quantized. The inner product between a query and a vector is computed
+ * directly from the codes of the vector as {@code sum(q * offset) + sum(q * scale * c)}, where the
+ * products of the query and the scales are computed once per query, so vectors are never decoded.
+ * The metrics and the scores are the same as the ones of {@link VectorIndex}, computed on the
+ * quantized vectors, whose squared lengths are stored with the L2 metric.
+ * 
+ * <p> Vectors can be added at any time, but not while the index is being searched.
+ * 
+ * @author Nico
+ */
+public final class ScalarQuantizedIndex {
+
+	/**Largest code of a component */
+	private static final int LEVELS = 255;
+
+	/**Number of components of every vector */
+	private final int dimension;
+	/**Metric used to rank the vectors */
+	private final Metric metric;
+	/**Offsets and scales of every dimension, or null if they are computed for every vector */
+	private final float[] offsets, scales;
+	/**Packed codes of the vectors */
+	private byte[] codes;
+	/**Offsets and scales of every vector, null if they are computed for every dimension */
+	private float[] vectorOffsets, vectorScales;
+	/**Squared lengths of the quantized vectors, null unless the metric is L2 */
+	private float[] lengths;
+	/**Number of vectors in the index */
+	private int size;
+
+	/**
+	 * Creates an empty index.
+	 * 
+	 * @param dimension Number of components of the vectors.
+	 * @param metric Metric used to rank the vectors.
+	 * @param offsets Offsets of every dimension, or null to compute them for every vector.
+	 * @param scales Scales of every dimension, or null to compute them for every vector.
+	 */
+	private ScalarQuantizedIndex(int dimension, Metric metric, float[] offsets, float[] scales) {
+		this.dimension = dimension;
+		this.metric = metric;
+		this.offsets = offsets;
+		this.scales = scales;
+		this.codes = new byte[16 * dimension];
+		if(offsets == null) {
+			this.vectorOffsets = new float[16];
+			this.vectorScales = new float[16];
+		}
+		if(metric == Metric.L2) {
+			this.lengths = new float[16];
+		}
+	}
+
+	/**
+	 * Creates an empty index that computes the offset and the scale of every vector from its own
+	 * smallest and largest components. This needs no training data and adapts to vectors of
+	 * different lengths, at the cost of two floats per vector.
+	 * 
+	 * @param dimension Number of components of the vectors.
+	 * @param metric Metric used to rank the vectors.
+	 * 
+	 * @return An empty index.
+	 * 
+	 * @throws IllegalArgumentException if the given dimension is not greater than zero.
+	 * @throws NullPointerException if the given metric is null.
+	 */
+	public static ScalarQuantizedIndex perVector(int dimension, Metric metric) {
+		if(dimension <= 0)
+			throw new IllegalArgumentException("The dimension must be greater than zero");
+		return new ScalarQuantizedIndex(dimension, Objects.requireNonNull(metric), null, null);
+	}
+
+	/**
+	 * Creates an empty index that computes the offset and the scale of every dimension from the
+	 * smallest and largest values of that dimension in the given sample of the corpus. This is
+	 * more accurate than {@link #perVector(int, Metric)} when the dimensions have different ranges.
+	 * With the {@link Metric#COSINE} metric the ranges are computed on the normalized sample.
+	 * 
+	 * @param metric Metric used to rank the vectors.
+	 * @param sample Vectors used to compute the range of every dimension.
+	 * 
+	 * @return An empty index with the dimension of the sample.
+	 * 
+	 * @throws VectorMathException if the vectors of the sample do not all have the same size.
+	 * @throws IllegalArgumentException if the sample is empty.
+	 * @throws NullPointerException if the given metric, the given array or one of its vectors is null.
+	 */
+	public static ScalarQuantizedIndex perDimension(Metric metric, FloatVector... sample) {
+		Objects.requireNonNull(metric);
+		if(sample.length == 0)
+			throw new IllegalArgumentException("The sample must contain at least one vector");
+		int dimension = sample[0].size();
+		float[] min = new float[dimension], max = new float[dimension];
+		Arrays.fill(min, Float.POSITIVE_INFINITY);
+		Arrays.fill(max, Float.NEGATIVE_INFINITY);
+		for(FloatVector vector : sample) {
+			float[] values = prepare(vector, dimension, metric);
+			for(int j = 0; j < dimension; j++) {
+				min[j] = Math.min(min[j], values[j]);
+				max[j] = Math.max(max[j], values[j]);
+			}
+		}
+		float[] scales = new float[dimension];
+		for(int j = 0; j < dimension; j++) {
+			scales[j] = (max[j] - min[j]) / LEVELS;
+		}
+		return new ScalarQuantizedIndex(dimension, metric, min, scales);
+	}
+
+	/**
+	 * Gets the number of components of the vectors in this index.
+	 * 
+	 * @return The dimension of this index.
+	 */
+	public int dimension() {
+		return this.dimension;
+	}
+
+	/**
+	 * Gets the metric used to rank the vectors in this index.
+	 * 
+	 * @return The metric of this index.
+	 */
+	public Metric metric() {
+		return this.metric;
+	}
+
+	/**
+	 * Gets the number of vectors in this index.
+	 * 
+	 * @return The number of vectors in this index.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets the number of bytes used to store every vector, which is the dimension plus four bytes
+	 * for every float stored with the vector. A float vector takes four bytes per component.
+	 * 
+	 * @return The memory used by every vector in bytes.
+	 */
+	public int bytesPerVector() {
+		int floats = (this.offsets == null ? 2 : 0) + (this.metric == Metric.L2 ? 1 : 0);
+		return this.dimension + floats * Float.BYTES;
+	}
+
+	/**
+	 * Quantizes a vector and adds it to this index.
+	 * 
+	 * @param vector The vector to add.
+	 * 
+	 * @return The index of the vector, which is the number of vectors added before it.
+	 * 
+	 * @throws VectorMathException if the size of the vector is different from the dimension of this index.
+	 * @throws NullPointerException if the given vector is null.
+	 */
+	public int add(FloatVector vector) {
+		float[] values = prepare(vector, this.dimension, this.metric);
+		if((this.size + 1) * (long) this.dimension > this.codes.length) {
+			long capacity = Math.min(2L * this.codes.length, Integer.MAX_VALUE - 8);
+			if(capacity < (this.size + 1) * (long) this.dimension)
+				throw new IllegalStateException("The index is full");
+			int vectors = (int) (capacity / this.dimension);
+			this.codes = Arrays.copyOf(this.codes, vectors * this.dimension);
+			this.vectorOffsets = grow(this.vectorOffsets, vectors);
+			this.vectorScales = grow(this.vectorScales, vectors);
+			this.lengths = grow(this.lengths, vectors);
+		}
+		if(this.offsets == null) {
+			float min = Float.POSITIVE_INFINITY, max = Float.NEGATIVE_INFINITY;
+			for(float value : values) {
+				min = Math.min(min, value);
+				max = Math.max(max, value);
+			}
+			this.vectorOffsets[this.size] = min;
+			this.vectorScales[this.size] = (max - min) / LEVELS;
+		}
+		int offset = this.size * this.dimension;
+		double lengthSquared = 0.0;
+		for(int j = 0; j < this.dimension; j++) {
+			float min = this.offset(this.size, j), scale = this.scale(this.size, j);
+			int code = scale > 0.0f ? Math.round((values[j] - min) / scale) : 0;
+			code = Math.max(0, Math.min(LEVELS, code));
+			this.codes[offset + j] = (byte) code;
+			double decoded = min + scale * code;
+			lengthSquared += decoded * decoded;
+		}
+		if(this.lengths != null) {
+			this.lengths[this.size] = (float) lengthSquared;
+		}
+		return this.size++;
+	}
+
+	/**
+	 * Quantizes all the given vectors and adds them to this index.
+	 * 
+	 * @param vectors The vectors to add.
+	 * 
+	 * @throws VectorMathException if the size of a vector is different from the dimension of this index.
+	 * @throws NullPointerException if the given array or one of its vectors is null.
+	 */
+	public void addAll(FloatVector... vectors) {
+		for(FloatVector vector : vectors) {
+			this.add(vector);
+		}
+	}
+
+	/**
+	 * Decodes a vector of this index.
+	 * With the {@link Metric#COSINE} metric the vector was normalized before it was quantized.
+	 * 
+	 * @param index Index of the vector.
+	 * 
+	 * @return The quantized vector.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given index is less than 0
+	 * 		or greater than the size of the index.
+	 */
+	public FloatVector vector(int index) {
+		Objects.checkIndex(index, this.size);
+		float[] values = new float[this.dimension];
+		for(int j = 0; j < this.dimension; j++) {
+			values[j] = this.offset(index, j) + this.scale(index, j) * (this.codes[index * this.dimension + j] & 0xFF);
+		}
+		return new FloatVector(values);
+	}
+
+	/**
+	 * Finds the k vectors most similar to the given query.
+	 * The query is compared with the quantized vectors without decoding them.
+	 * 
+	 * @param query The query.
+	 * @param k Maximum number of vectors to find.
+	 * 
+	 * @return The vectors most similar to the query from most to least similar,
+	 * 		or all the vectors if the index contains less than k vectors.
+	 * 
+	 * @throws VectorMathException if the size of the query is different from the dimension of this index.
+	 * @throws IllegalArgumentException if k is not greater than zero.
+	 * @throws NullPointerException if the given query is null.
+	 */
+	public Neighbor[] topK(FloatVector query, int k) {
+		if(k <= 0)
+			throw new IllegalArgumentException("The number of neighbors must be greater than zero");
+		float[] values = prepare(query, this.dimension, this.metric);
+		float[] scaled = values;
+		double constant = 0.0;
+		if(this.offsets != null) {
+			scaled = new float[this.dimension];
+			for(int j = 0; j < this.dimension; j++) {
+				scaled[j] = values[j] * this.scales[j];
+				constant += (double) values[j] * this.offsets[j];
+			}
+		} else {
+			for(float value : values) {
+				constant += value;
+			}
+		}
+		TopK heap = new TopK(Math.min(k, this.size));
+		int block = SearchKernels.blockSize(this.dimension);
+		float[] dots = new float[block];
+		for(int start = 0; start < this.size; start += block) {
+			int end = Math.min(start + block, this.size);
+			SearchKernels.dots(this.codes, this.dimension, start, end, scaled, dots);
+			for(int i = start; i < end; i++) {
+				float dot = this.offsets != null ? (float) constant + dots[i - start] : (float) (this.vectorOffsets[i] * constant) + this.vectorScales[i] * dots[i - start];
+				heap.offer(this.score(dot, i), i);
+			}
+		}
+		if(this.metric == Metric.L2) {
+			float lengthSquared = (float) SearchKernels.lengthSquared(values, 0, this.dimension);
+			return heap.toNeighbors(score -> Math.max(0.0f, lengthSquared - score));
+		}
+		return heap.toNeighbors(score -> score);
+	}
+
+	/**
+	 * Checks the given vector and copies it to an array, normalizing it with the {@link Metric#COSINE} metric.
+	 * 
+	 * @param vector The vector.
+	 * @param dimension The expected size of the vector.
+	 * @param metric The metric of the index.
+	 * 
+	 * @return The components of the vector.
+	 * 
+	 * @throws VectorMathException if the size of the vector is different from the given dimension.
+	 */
+	private static float[] prepare(FloatVector vector, int dimension, Metric metric) {
+		if(vector.size() != dimension)
+			throw new VectorMathException("The size of the vector does not match the dimension of the index");
+		float[] values = new float[dimension];
+		for(int j = 0; j < dimension; j++) {
+			values[j] = vector.element(j);
+		}
+		if(metric == Metric.COSINE) {
+			SearchKernels.normalize(values);
+		}
+		return values;
+	}
+
+	/**
+	 * Utility method that grows an array of values stored for every vector.
+	 * 
+	 * @param values The array, or null if the values are not stored.
+	 * @param length The new length.
+	 * 
+	 * @return A copy of the array with the given length, or null if the given array is null.
+	 */
+	private static float[] grow(float[] values, int length) {
+		return values != null ? Arrays.copyOf(values, length) : null;
+	}
+
+	/**
+	 * Gets the offset of a component of a vector.
+	 * 
+	 * @param index Index of the vector.
+	 * @param component Index of the component.
+	 * 
+	 * @return The value of the code 0.
+	 */
+	private float offset(int index, int component) {
+		return this.offsets != null ? this.offsets[component] : this.vectorOffsets[index];
+	}
+
+	/**
+	 * Gets the scale of a component of a vector.
+	 * 
+	 * @param index Index of the vector.
+	 * @param component Index of the component.
+	 * 
+	 * @return The difference between the values of two consecutive codes.
+	 */
+	private float scale(int index, int component) {
+		return this.scales != null ? this.scales[component] : this.vectorScales[index];
+	}
+
+	/**
+	 * Converts the inner product between a vector and a query to a score where higher is better.
+	 * 
+	 * @param dot The inner product.
+	 * @param index Index of the vector.
+	 * 
+	 * @return The inner product or the cosine similarity, or {@code 2 x.q - |x|^2} with the L2 metric.
+	 */
+	private float score(float dot, int index) {
+		return this.metric == Metric.L2 ? 2.0f * dot - this.lengths[index] : dot;
+	}
+}
@@ -0,0 +1,271 @@
+package io.github.vecmatlib.search;
+
+/**
+ * Utility class that contains the kernels used by the indices to compute
+ * the inner products between a query and the vectors stored in a packed array,
+ * either as floats or as quantized codes.
+ * 
+ * <p> Inner products of float vectors are computed in float precision in {@link #LANES}
+ * interleaved partial sums: the term j is added to the sum {@code j % LANES} for all the terms
+ * before the last multiple of {@link #LANES}, then the partial sums are added from the first
+ * to the last and the remaining terms are added in order. This order does not depend on how the
+ * vectors are grouped, so the score of a vector does not depend on the query being searched alone
+ * or in a batch.
+ * 
+ * <p> If the {@code jdk.incubator.vector} module is enabled and the processor supports
+ * vectors of {@link #LANES} floats, the inner products of float vectors are computed by an
+ * implementation of {@link Accelerated} that uses the JDK Vector API, like the products of
+ * {@link io.github.vecmatlib.matrix.FloatMatrix}. It keeps every partial sum in a lane of a
+ * vector and performs the same operations in the same order, so the scores are exactly the same.
+ * Setting the system property {@code vecmatlib.simd} to {@code false} disables it.
+ * The kernels of the quantized codes are always scalar.
+ * 
+ * @author Nico
+ */
+final class SearchKernels {
+
+	/**Number of bytes of the corpus that are multiplied by all the queries of a batch while they are in cache */
+	static final int BLOCK_BYTES = 1 << 16;
+	/**Number of partial sums of the inner products of float vectors */
+	static final int LANES = 8;
+
+	/**Accelerated kernels, or null if the JDK Vector API is not available */
+	static final Accelerated ACCELERATED = loadAccelerated();
+
+	private SearchKernels() {}
+
+	/**
+	 * Inner products that use the JDK Vector API.
+	 * Every method has the same contract as the corresponding method in {@link SearchKernels}.
+	 */
+	interface Accelerated {
+
+		/**
+		 * Computes the inner products between a range of packed vectors and the given query.
+		 * 
+		 * @see SearchKernels#dots(float[], int, int, int, float[], float[])
+		 */
+		void dots(float[] data, int dimension, int from, int to, float[] query, float[] result);
+
+		/**
+		 * Computes the inner product between a packed vector and the given query.
+		 * 
+		 * @see SearchKernels#dot(float[], int, float[], int)
+		 */
+		float dot(float[] data, int offset, float[] query, int dimension);
+	}
+
+	/**
+	 * Loads the accelerated kernels if the {@code jdk.incubator.vector}
+	 * module is available and they have not been disabled.
+	 * 
+	 * @return The accelerated kernels or null.
+	 */
+	private static Accelerated loadAccelerated() {
+		if(Boolean.parseBoolean(System.getProperty("vecmatlib.simd", "true")) && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+			try {
+				return (Accelerated) Class.forName("io.github.vecmatlib.search.SimdSearchKernels").getDeclaredConstructor().newInstance();
+			} catch(ReflectiveOperationException | LinkageError e) {
+				// The accelerated kernels are not present or cannot be used
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Computes the inner products between a range of packed vectors and the given query.
+	 * 
+	 * <p> The accelerated kernels multiply four vectors at the same time, so every
+	 * element of the query is loaded once for all of them.
+	 * 
+	 * @param data The packed vectors.
+	 * @param dimension Number of components of every vector.
+	 * @param from Index of the first vector, inclusive.
+	 * @param to Index of the last vector, exclusive.
+	 * @param query The query.
+	 * @param result Array where the inner product of vector i is stored at {@code i - from}.
+	 */
+	static void dots(float[] data, int dimension, int from, int to, float[] query, float[] result) {
+		if(ACCELERATED != null) {
+			ACCELERATED.dots(data, dimension, from, to, query, result);
+		} else {
+			for(int i = from; i < to; i++) {
+				result[i - from] = dotScalar(data, i * dimension, query, dimension);
+			}
+		}
+	}
+
+	/**
+	 * Computes the inner product between a packed vector and the given query.
+	 * 
+	 * @param data The packed vectors.
+	 * @param offset Index of the first component of the vector.
+	 * @param query The query.
+	 * @param dimension Number of components of the vectors.
+	 * 
+	 * @return The inner product.
+	 */
+	static float dot(float[] data, int offset, float[] query, int dimension) {
+		return ACCELERATED != null ? ACCELERATED.dot(data, offset, query, dimension) : dotScalar(data, offset, query, dimension);
+	}
+
+	/**
+	 * Computes the inner product between a packed vector and the given query with
+	 * the scalar loop, even if the accelerated kernels are available.
+	 * 
+	 * @see #dot(float[], int, float[], int)
+	 */
+	static float dotScalar(float[] data, int offset, float[] query, int dimension) {
+		int bound = dimension - dimension % LANES;
+		float s0 = 0.0f, s1 = 0.0f, s2 = 0.0f, s3 = 0.0f, s4 = 0.0f, s5 = 0.0f, s6 = 0.0f, s7 = 0.0f;
+		int j = 0;
+		for(; j < bound; j += LANES) {
+			int o = offset + j;
+			s0 += data[o] * query[j];
+			s1 += data[o + 1] * query[j + 1];
+			s2 += data[o + 2] * query[j + 2];
+			s3 += data[o + 3] * query[j + 3];
+			s4 += data[o + 4] * query[j + 4];
+			s5 += data[o + 5] * query[j + 5];
+			s6 += data[o + 6] * query[j + 6];
+			s7 += data[o + 7] * query[j + 7];
+		}
+		float sum = s0 + s1 + s2 + s3 + s4 + s5 + s6 + s7;
+		for(; j < dimension; j++) {
+			sum += data[offset + j] * query[j];
+		}
+		return sum;
+	}
+
+	/**
+	 * Computes the squared length of a packed vector in double precision.
+	 * 
+	 * @param data The packed vectors.
+	 * @param offset Index of the first component of the vector.
+	 * @param dimension Number of components of the vector.
+	 * 
+	 * @return The squared length of the vector.
+	 */
+	static double lengthSquared(float[] data, int offset, int dimension) {
+		double sum = 0.0;
+		for(int j = 0; j < dimension; j++) {
+			sum += (double) data[offset + j] * data[offset + j];
+		}
+		return sum;
+	}
+
+	/**
+	 * Computes the inner products between a range of vectors of unsigned 8-bit codes and the given query.
+	 * Like {@link #dots(float[], int, int, int, float[], float[])}, four vectors are multiplied at the same time.
+	 * 
+	 * @param codes The packed codes, read as values from 0 to 255.
+	 * @param dimension Number of components of every vector.
+	 * @param from Index of the first vector, inclusive.
+	 * @param to Index of the last vector, exclusive.
+	 * @param query The query, already multiplied by the scales of the codes.
+	 * @param result Array where the inner product of vector i is stored at {@code i - from}.
+	 */
+	static void dots(byte[] codes, int dimension, int from, int to, float[] query, float[] result) {
+		int i = from;
+		for(; i + 4 <= to; i += 4) {
+			int o0 = i * dimension, o1 = o0 + dimension, o2 = o1 + dimension, o3 = o2 + dimension;
+			float s0 = 0.0f, s1 = 0.0f, s2 = 0.0f, s3 = 0.0f;
+			for(int j = 0; j < dimension; j++) {
+				float q = query[j];
+				s0 += (codes[o0 + j] & 0xFF) * q;
+				s1 += (codes[o1 + j] & 0xFF) * q;
+				s2 += (codes[o2 + j] & 0xFF) * q;
+				s3 += (codes[o3 + j] & 0xFF) * q;
+			}
+			result[i - from] = s0;
+			result[i - from + 1] = s1;
+			result[i - from + 2] = s2;
+			result[i - from + 3] = s3;
+		}
+		for(; i < to; i++) {
+			int offset = i * dimension;
+			float sum = 0.0f;
+			for(int j = 0; j < dimension; j++) {
+				sum += (codes[offset + j] & 0xFF) * query[j];
+			}
+			result[i - from] = sum;
+		}
+	}
+
+	/**
+	 * Adds the entries of a lookup table selected by a range of vectors of unsigned 8-bit codes.
+	 * Four vectors are processed at the same time so that their additions do not wait for each other.
+	 * 
+	 * @param codes The packed codes.
+	 * @param count Number of codes of every vector.
+	 * @param from Index of the first vector, inclusive.
+	 * @param to Index of the last vector, exclusive.
+	 * @param table The table, made of {@code count} rows of {@code entries} values.
+	 * @param entries Number of entries of every row of the table.
+	 * @param result Array where the sum of {@code table[j * entries + code[j]]} of vector i is stored at {@code i - from}.
+	 */
+	static void lookups(byte[] codes, int count, int from, int to, float[] table, int entries, float[] result) {
+		int i = from;
+		for(; i + 4 <= to; i += 4) {
+			int o0 = i * count, o1 = o0 + count, o2 = o1 + count, o3 = o2 + count;
+			float s0 = 0.0f, s1 = 0.0f, s2 = 0.0f, s3 = 0.0f;
+			for(int j = 0, row = 0; j < count; j++, row += entries) {
+				s0 += table[row + (codes[o0 + j] & 0xFF)];
+				s1 += table[row + (codes[o1 + j] & 0xFF)];
+				s2 += table[row + (codes[o2 + j] & 0xFF)];
+				s3 += table[row + (codes[o3 + j] & 0xFF)];
+			}
+			result[i - from] = s0;
+			result[i - from + 1] = s1;
+			result[i - from + 2] = s2;
+			result[i - from + 3] = s3;
+		}
+		for(; i < to; i++) {
+			int offset = i * count;
+			float sum = 0.0f;
+			for(int j = 0, row = 0; j < count; j++, row += entries) {
+				sum += table[row + (codes[offset + j] & 0xFF)];
+			}
+			result[i - from] = sum;
+		}
+	}
+
+	/**
+	 * Normalizes a vector in place.
+	 * Vectors whose length is zero are not changed.
+	 * 
+	 * @param values The components of the vector.
+	 */
+	static void normalize(float[] values) {
+		normalize(values, 0, values.length);
+	}
+
+	/**
+	 * Normalizes a packed vector in place.
+	 * Vectors whose length is zero are not changed.
+	 * 
+	 * @param data The packed vectors.
+	 * @param offset Index of the first component of the vector.
+	 * @param dimension Number of components of the vector.
+	 */
+	static void normalize(float[] data, int offset, int dimension) {
+		double lengthSquared = lengthSquared(data, offset, dimension);
+		if(lengthSquared > 0.0) {
+			double length = Math.sqrt(lengthSquared);
+			for(int i = offset; i < offset + dimension; i++) {
+				data[i] = (float) (data[i] / length);
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of vectors of the given dimension that fit in {@link #BLOCK_BYTES}.
+	 * 
+	 * @param dimension Number of components of the vectors.
+	 * 
+	 * @return The number of vectors in a block, at least 4.
+	 */
+	static int blockSize(int dimension) {
+		return Math.max(4, BLOCK_BYTES / (dimension * Float.BYTES));
+	}
+}
@@ -0,0 +1,196 @@
+package io.github.vecmatlib.search;
+
+/**
+ * Bounded heap that keeps the k vectors with the highest scores seen so far.
+ * 
+ * <p> Scores and indices are stored in primitive arrays, so offering a vector does
+ * not allocate any object. Vectors are ordered by decreasing score and then by increasing
+ * index, which is a total order, so the content of the heap does not depend on the order
+ * in which the vectors are offered. NaN scores are ignored.
+ * 
+ * @author Nico
+ */
+final class TopK {
+
+	/**Scores of the vectors in the heap, the worst one is at the root */
+	private final float[] scores;
+	/**Indices of the vectors in the heap */
+	private final int[] indices;
+	/**Number of vectors in the heap */
+	private int size;
+
+	/**
+	 * Creates an empty heap.
+	 * 
+	 * @param k Maximum number of vectors in the heap.
+	 */
+	TopK(int k) {
+		this.scores = new float[k];
+		this.indices = new int[k];
+	}
+
+	/**
+	 * Gets the number of vectors in this heap.
+	 * 
+	 * @return The number of vectors in this heap.
+	 */
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * Offers a vector to this heap.
+	 * 
+	 * @param score Score of the vector.
+	 * @param index Index of the vector.
+	 */
+	void offer(float score, int index) {
+		if(Float.isNaN(score)) {
+			return;
+		} else if(this.size < this.scores.length) {
+			int i = this.size++;
+			while(i > 0) {
+				int parent = (i - 1) >>> 1;
+				if(!better(this.scores[parent], this.indices[parent], score, index))
+					break;
+				this.scores[i] = this.scores[parent];
+				this.indices[i] = this.indices[parent];
+				i = parent;
+			}
+			this.scores[i] = score;
+			this.indices[i] = index;
+		} else if(better(score, index, this.scores[0], this.indices[0])) {
+			this.replaceRoot(score, index);
+		}
+	}
+
+	/**
+	 * Replaces the worst vector of this heap with the given one and restores the order of the heap.
+	 * 
+	 * @param score Score of the new vector.
+	 * @param index Index of the new vector.
+	 */
+	private void replaceRoot(float score, int index) {
+		int i = 0;
+		while(true) {
+			int child = 2 * i + 1;
+			if(child >= this.size)
+				break;
+			if(child + 1 < this.size && better(this.scores[child], this.indices[child], this.scores[child + 1], this.indices[child + 1]))
+				child++;
+			if(!better(score, index, this.scores[child], this.indices[child]))
+				break;
+			this.scores[i] = this.scores[child];
+			this.indices[i] = this.indices[child];
+			i = child;
+		}
+		this.scores[i] = score;
+		this.indices[i] = index;
+	}
+
+	/**
+	 * Checks if this heap contains k vectors.
+	 * 
+	 * @return True if a vector can only be offered by replacing the worst one.
+	 */
+	boolean isFull() {
+		return this.size == this.scores.length;
+	}
+
+	/**
+	 * Gets the score of the worst vector in this heap.
+	 * 
+	 * @return The lowest score in this heap, undefined if the heap is empty.
+	 */
+	float worstScore() {
+		return this.scores[0];
+	}
+
+	/**
+	 * Gets the index of the worst vector in this heap.
+	 * 
+	 * @return The index of the vector with the lowest score, undefined if the heap is empty.
+	 */
+	int worstIndex() {
+		return this.indices[0];
+	}
+
+	/**
+	 * Removes all the vectors of this heap and stores them from best to worst in the given arrays.
+	 * The arrays of this heap can be given to sort its vectors in place.
+	 * 
+	 * @param scores Array where the scores are stored.
+	 * @param indices Array where the indices are stored.
+	 * 
+	 * @return The number of vectors that were in the heap.
+	 */
+	int drain(float[] scores, int[] indices) {
+		int count = this.size;
+		while(this.size > 0) {
+			int last = --this.size;
+			float score = this.scores[last];
+			int index = this.indices[last];
+			scores[last] = this.scores[0];
+			indices[last] = this.indices[0];
+			if(last > 0) {
+				this.replaceRoot(score, index);
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Offers all the vectors of the given heap to this one.
+	 * 
+	 * @param other The other heap.
+	 */
+	void merge(TopK other) {
+		for(int i = 0; i < other.size; i++) {
+			this.offer(other.scores[i], other.indices[i]);
+		}
+	}
+
+	/**
+	 * Removes all the vectors of this heap and converts them to neighbors sorted from best to worst.
+	 * 
+	 * @param score Function that converts an internal score to the score reported to the caller.
+	 * 
+	 * @return The neighbors that were in this heap.
+	 */
+	Neighbor[] toNeighbors(ScoreConverter score) {
+		Neighbor[] result = new Neighbor[this.drain(this.scores, this.indices)];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = new Neighbor(this.indices[i], score.convert(this.scores[i]));
+		}
+		return result;
+	}
+
+	/**
+	 * Checks if the first vector is better than the second one.
+	 * 
+	 * @param score1 Score of the first vector.
+	 * @param index1 Index of the first vector.
+	 * @param score2 Score of the second vector.
+	 * @param index2 Index of the second vector.
+	 * 
+	 * @return True if the first vector has a higher score, or the same score and a lower index.
+	 */
+	static boolean better(float score1, int index1, float score2, int index2) {
+		return score1 > score2 || (score1 == score2 && index1 < index2);
+	}
+
+	/**
+	 * Function that converts the internal score of a vector to the score reported to the caller.
+	 */
+	interface ScoreConverter {
+
+		/**
+		 * Converts an internal score.
+		 * 
+		 * @param score The internal score, higher is better.
+		 * 
+		 * @return The score reported to the caller.
+		 */
+		float convert(float score);
+	}
+}
@@ -0,0 +1,419 @@
+package io.github.vecmatlib.search;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import io.github.vecmatlib.vector.FloatVector;
+import io.github.vecmatlib.vector.VectorMathException;
+
+/**
+ * Index that finds the k vectors of a corpus that are most similar to a query by exhaustive search.
+ * 
+ * <p> The vectors of the corpus all have the same dimension and are stored contiguously
+ * in a single float array, in the order in which they are added. With the {@link Metric#COSINE}
+ * metric the vectors are normalized when they are added, and with the {@link Metric#L2}
+ * metric their squared lengths are stored next to them, so every metric is computed from
+ * the inner products between the query and the vectors. Squared distances are computed as
+ * {@code |x|^2 - 2 x.q + |q|^2} and may have a rounding error proportional to the squared
+ * length of the vectors.
+ * 
+ * <p> The inner products with a query are computed four vectors at a time and the best k
+ * vectors are kept in a bounded heap of primitive values. A batch of queries is searched one
+ * block of the corpus at a time: every block is multiplied by all the queries while it is in
+ * cache, which amounts to a tiled product between the matrix of the queries and the matrix of
+ * the corpus. The parallel methods split the corpus into ranges that are searched by the threads
+ * of a fork/join pool and merge their results.
+ * 
+ * <p> The score of a vector does not depend on how the corpus is split or on the queries
+ * being searched alone or in a batch, and ties are broken by choosing the vector with the
+ * lowest index. The result of a search is therefore always the same.
+ * 
+ * <p> Vectors can be added at any time, but not while the index is being searched.
+ * 
+ * @author Nico
+ */
+public final class VectorIndex {
+
+	/**Number of vectors below which a range of the corpus is not split into smaller tasks */
+	static final int PARALLEL_THRESHOLD = 1 << 14;
+
+	/**Number of components of every vector */
+	private final int dimension;
+	/**Metric used to rank the vectors */
+	private final Metric metric;
+	/**Packed components of the vectors */
+	private float[] data;
+	/**Squared lengths of the vectors, only used with the L2 metric */
+	private float[] lengths;
+	/**Number of vectors in the index */
+	private int size;
+
+	/**
+	 * Creates an empty index.
+	 * 
+	 * @param dimension Number of components of the vectors.
+	 * @param metric Metric used to rank the vectors.
+	 * 
+	 * @throws IllegalArgumentException if the given dimension is not greater than zero.
+	 * @throws NullPointerException if the given metric is null.
+	 */
+	public VectorIndex(int dimension, Metric metric) {
+		if(dimension <= 0)
+			throw new IllegalArgumentException("The dimension must be greater than zero");
+		this.dimension = dimension;
+		this.metric = Objects.requireNonNull(metric);
+		this.data = new float[16 * dimension];
+		this.lengths = new float[16];
+	}
+
+	/**
+	 * Gets the number of components of the vectors in this index.
+	 * 
+	 * @return The dimension of this index.
+	 */
+	public int dimension() {
+		return this.dimension;
+	}
+
+	/**
+	 * Gets the metric used to rank the vectors in this index.
+	 * 
+	 * @return The metric of this index.
+	 */
+	public Metric metric() {
+		return this.metric;
+	}
+
+	/**
+	 * Gets the number of vectors in this index.
+	 * 
+	 * @return The number of vectors in this index.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Adds a vector to this index.
+	 * 
+	 * @param vector The vector to add.
+	 * 
+	 * @return The index of the vector, which is the number of vectors added before it.
+	 * 
+	 * @throws VectorMathException if the size of the vector is different from the dimension of this index.
+	 * @throws NullPointerException if the given vector is null.
+	 */
+	public int add(FloatVector vector) {
+		this.checkDimension(vector.size());
+		if((this.size + 1) * (long) this.dimension > this.data.length) {
+			long capacity = Math.min(2L * this.data.length, Integer.MAX_VALUE - 8);
+			if(capacity < (this.size + 1) * (long) this.dimension)
+				throw new IllegalStateException("The index is full");
+			this.data = Arrays.copyOf(this.data, (int) (capacity / this.dimension * this.dimension));
+			this.lengths = Arrays.copyOf(this.lengths, (int) (capacity / this.dimension));
+		}
+		int offset = this.size * this.dimension;
+		for(int i = 0; i < this.dimension; i++) {
+			this.data[offset + i] = vector.element(i);
+		}
+		this.lengths[this.size] = (float) SearchKernels.lengthSquared(this.data, offset, this.dimension);
+		if(this.metric == Metric.COSINE) {
+			SearchKernels.normalize(this.data, offset, this.dimension);
+		}
+		return this.size++;
+	}
+
+	/**
+	 * Adds all the given vectors to this index.
+	 * 
+	 * @param vectors The vectors to add.
+	 * 
+	 * @throws VectorMathException if the size of a vector is different from the dimension of this index.
+	 * @throws NullPointerException if the given array or one of its vectors is null.
+	 */
+	public void addAll(FloatVector... vectors) {
+		for(FloatVector vector : vectors) {
+			this.add(vector);
+		}
+	}
+
+	/**
+	 * Gets a vector of this index as it is stored.
+	 * With the {@link Metric#COSINE} metric the vector is normalized.
+	 * 
+	 * @param index Index of the vector.
+	 * 
+	 * @return A copy of the vector.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given index is less than 0
+	 * 		or greater than the size of the index.
+	 */
+	public FloatVector vector(int index) {
+		Objects.checkIndex(index, this.size);
+		return new FloatVector(Arrays.copyOfRange(this.data, index * this.dimension, (index + 1) * this.dimension));
+	}
+
+	/**
+	 * Finds the k vectors most similar to the given query.
+	 * 
+	 * @param query The query.
+	 * @param k Maximum number of vectors to find.
+	 * 
+	 * @return The vectors most similar to the query from most to least similar,
+	 * 		or all the vectors if the index contains less than k vectors.
+	 * 
+	 * @throws VectorMathException if the size of the query is different from the dimension of this index.
+	 * @throws IllegalArgumentException if k is not greater than zero.
+	 * @throws NullPointerException if the given query is null.
+	 */
+	public Neighbor[] topK(FloatVector query, int k) {
+		return this.topK(new FloatVector[] {query}, k)[0];
+	}
+
+	/**
+	 * Finds the k vectors most similar to every query of the given batch.
+	 * 
+	 * <p> Every block of the corpus is compared with all the queries
+	 * while it is in cache, which is faster than searching the queries one
+	 * by one. The results are the same as the ones of {@link #topK(FloatVector, int)}.
+	 * 
+	 * @param queries The queries.
+	 * @param k Maximum number of vectors to find for every query.
+	 * 
+	 * @return The vectors most similar to every query, in the same order as the queries.
+	 * 
+	 * @throws VectorMathException if the size of a query is different from the dimension of this index.
+	 * @throws IllegalArgumentException if k is not greater than zero.
+	 * @throws NullPointerException if the given array or one of its queries is null.
+	 */
+	public Neighbor[][] topK(FloatVector[] queries, int k) {
+		float[][] prepared = this.prepare(queries, k);
+		return this.results(this.search(prepared, k, 0, this.size), prepared);
+	}
+
+	/**
+	 * Finds the k vectors most similar to the given query using the common fork/join pool.
+	 * See {@link #parallelTopK(FloatVector[], int, ForkJoinPool)}.
+	 * 
+	 * @param query The query.
+	 * @param k Maximum number of vectors to find.
+	 * 
+	 * @return The vectors most similar to the query from most to least similar.
+	 * 
+	 * @throws VectorMathException if the size of the query is different from the dimension of this index.
+	 * @throws IllegalArgumentException if k is not greater than zero.
+	 * @throws NullPointerException if the given query is null.
+	 */
+	public Neighbor[] parallelTopK(FloatVector query, int k) {
+		return this.parallelTopK(new FloatVector[] {query}, k, ForkJoinPool.commonPool())[0];
+	}
+
+	/**
+	 * Finds the k vectors most similar to the given query using the threads of the given pool.
+	 * See {@link #parallelTopK(FloatVector[], int, ForkJoinPool)}.
+	 * 
+	 * @param query The query.
+	 * @param k Maximum number of vectors to find.
+	 * @param pool The pool used to search the index.
+	 * 
+	 * @return The vectors most similar to the query from most to least similar.
+	 * 
+	 * @throws VectorMathException if the size of the query is different from the dimension of this index.
+	 * @throws IllegalArgumentException if k is not greater than zero.
+	 * @throws NullPointerException if the given query or the given pool are null.
+	 */
+	public Neighbor[] parallelTopK(FloatVector query, int k, ForkJoinPool pool) {
+		return this.parallelTopK(new FloatVector[] {query}, k, pool)[0];
+	}
+
+	/**
+	 * Finds the k vectors most similar to every query of the given batch using the common fork/join pool.
+	 * See {@link #parallelTopK(FloatVector[], int, ForkJoinPool)}.
+	 * 
+	 * @param queries The queries.
+	 * @param k Maximum number of vectors to find for every query.
+	 * 
+	 * @return The vectors most similar to every query, in the same order as the queries.
+	 * 
+	 * @throws VectorMathException if the size of a query is different from the dimension of this index.
+	 * @throws IllegalArgumentException if k is not greater than zero.
+	 * @throws NullPointerException if the given array or one of its queries is null.
+	 */
+	public Neighbor[][] parallelTopK(FloatVector[] queries, int k) {
+		return this.parallelTopK(queries, k, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Finds the k vectors most similar to every query of the given batch using the threads of the given pool.
+	 * 
+	 * <p> The corpus is recursively split into ranges of at least {@link #PARALLEL_THRESHOLD}
+	 * vectors, which are searched in parallel, and the best vectors of every range are then merged.
+	 * Smaller indices are searched sequentially in the calling thread. The results are the same
+	 * as the ones of {@link #topK(FloatVector[], int)} regardless of the number of threads.
+	 * 
+	 * @param queries The queries.
+	 * @param k Maximum number of vectors to find for every query.
+	 * @param pool The pool used to search the index.
+	 * 
+	 * @return The vectors most similar to every query, in the same order as the queries.
+	 * 
+	 * @throws VectorMathException if the size of a query is different from the dimension of this index.
+	 * @throws IllegalArgumentException if k is not greater than zero.
+	 * @throws NullPointerException if the given array, one of its queries or the given pool are null.
+	 */
+	public Neighbor[][] parallelTopK(FloatVector[] queries, int k, ForkJoinPool pool) {
+		float[][] prepared = this.prepare(queries, k);
+		Objects.requireNonNull(pool);
+		TopK[] heaps = this.size < 2 * PARALLEL_THRESHOLD ? this.search(prepared, k, 0, this.size) : pool.invoke(new SearchTask(prepared, k, 0, this.size));
+		return this.results(heaps, prepared);
+	}
+
+	/**
+	 * Checks the given queries and copies them to arrays, normalizing them with the {@link Metric#COSINE} metric.
+	 * 
+	 * @param queries The queries.
+	 * @param k Maximum number of vectors to find for every query.
+	 * 
+	 * @return The components of the queries.
+	 * 
+	 * @throws VectorMathException if the size of a query is different from the dimension of this index.
+	 * @throws IllegalArgumentException if k is not greater than zero.
+	 */
+	private float[][] prepare(FloatVector[] queries, int k) {
+		if(k <= 0)
+			throw new IllegalArgumentException("The number of neighbors must be greater than zero");
+		float[][] result = new float[queries.length][];
+		for(int q = 0; q < queries.length; q++) {
+			this.checkDimension(queries[q].size());
+			float[] query = new float[this.dimension];
+			for(int i = 0; i < this.dimension; i++) {
+				query[i] = queries[q].element(i);
+			}
+			if(this.metric == Metric.COSINE) {
+				SearchKernels.normalize(query);
+			}
+			result[q] = query;
+		}
+		return result;
+	}
+
+	/**
+	 * Searches a range of the corpus one block at a time.
+	 * 
+	 * @param queries The prepared queries.
+	 * @param k Maximum number of vectors to find for every query.
+	 * @param from Index of the first vector, inclusive.
+	 * @param to Index of the last vector, exclusive.
+	 * 
+	 * @return The best vectors of the range for every query.
+	 */
+	private TopK[] search(float[][] queries, int k, int from, int to) {
+		TopK[] heaps = new TopK[queries.length];
+		for(int q = 0; q < heaps.length; q++) {
+			// Heaps are merged into each other, so they are capped at the size of the whole index
+			heaps[q] = new TopK(Math.min(k, this.size));
+		}
+		int block = SearchKernels.blockSize(this.dimension);
+		float[] dots = new float[block];
+		for(int start = from; start < to; start += block) {
+			int end = Math.min(start + block, to);
+			for(int q = 0; q < queries.length; q++) {
+				SearchKernels.dots(this.data, this.dimension, start, end, queries[q], dots);
+				for(int i = start; i < end; i++) {
+					heaps[q].offer(this.score(dots[i - start], i), i);
+				}
+			}
+		}
+		return heaps;
+	}
+
+	/**
+	 * Converts the inner product between a vector and a query to a score where higher is better.
+	 * 
+	 * @param dot The inner product.
+	 * @param index Index of the vector.
+	 * 
+	 * @return The inner product or the cosine similarity, or {@code 2 x.q - |x|^2} with the L2 metric.
+	 */
+	private float score(float dot, int index) {
+		return this.metric == Metric.L2 ? 2.0f * dot - this.lengths[index] : dot;
+	}
+
+	/**
+	 * Converts the heaps of a search to neighbors.
+	 * 
+	 * @param heaps The best vectors for every query.
+	 * @param queries The prepared queries.
+	 * 
+	 * @return The neighbors of every query.
+	 */
+	private Neighbor[][] results(TopK[] heaps, float[][] queries) {
+		Neighbor[][] result = new Neighbor[heaps.length][];
+		for(int q = 0; q < heaps.length; q++) {
+			if(this.metric == Metric.L2) {
+				float lengthSquared = (float) SearchKernels.lengthSquared(queries[q], 0, this.dimension);
+				result[q] = heaps[q].toNeighbors(score -> Math.max(0.0f, lengthSquared - score));
+			} else {
+				result[q] = heaps[q].toNeighbors(score -> score);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Utility method that checks if the given size is the same as the dimension of this index.
+	 * 
+	 * @param size Size of a vector.
+	 * 
+	 * @throws VectorMathException if the given size is different from the dimension of this index.
+	 */
+	private void checkDimension(int size) {
+		if(size != this.dimension)
+			throw new VectorMathException("The size of the vector does not match the dimension of the index");
+	}
+
+	/**
+	 * Task that searches a range of the corpus or splits it in two halves if it is too big.
+	 */
+	private final class SearchTask extends RecursiveTask<TopK[]> {
+
+		/**The prepared queries */
+		private final float[][] queries;
+		/**Maximum number of vectors to find for every query */
+		private final int k;
+		/**Bounds of the range */
+		private final int from, to;
+
+		/**
+		 * Creates a task that searches the given range.
+		 * 
+		 * @param queries The prepared queries.
+		 * @param k Maximum number of vectors to find for every query.
+		 * @param from Index of the first vector, inclusive.
+		 * @param to Index of the last vector, exclusive.
+		 */
+		private SearchTask(float[][] queries, int k, int from, int to) {
+			this.queries = queries;
+			this.k = k;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected TopK[] compute() {
+			if(this.to - this.from < 2 * PARALLEL_THRESHOLD)
+				return VectorIndex.this.search(this.queries, this.k, this.from, this.to);
+			int middle = (this.from + this.to) >>> 1;
+			SearchTask right = new SearchTask(this.queries, this.k, middle, this.to);
+			right.fork();
+			TopK[] result = new SearchTask(this.queries, this.k, this.from, middle).compute();
+			TopK[] other = right.join();
+			for(int q = 0; q < result.length; q++) {
+				result[q].merge(other[q]);
+			}
+			return result;
+		}
+	}
+}
@@ -0,0 +1,272 @@
+package io.github.vecmatlib.vector;
+
+/**
+ * Class that stores a sequence of 2-dimensional double vectors as a structure of arrays.
+ * 
+ * <p> Instead of one {@link Double2} object per vector, the components of all the vectors
+ * are stored in two primitive arrays, one for each component. This saves the header and the
+ * reference of every object and lets the bulk operations run over contiguous memory
+ * without allocating anything for each element.
+ * 
+ * <p> Unlike the vector records, buffers are mutable. The bulk operations either modify
+ * this buffer or write their result into a given array or buffer. Every element gives
+ * exactly the same result as the corresponding operation of {@link Double2}.
+ * 
+ * @author Nico
+ */
+public final class Double2Buffer {
+
+	/**The x components of the vectors */
+	private final double[] x;
+	/**The y components of the vectors */
+	private final double[] y;
+
+	/**
+	 * Creates a buffer of the given size where every vector is zero.
+	 * 
+	 * @param size Number of vectors in the buffer.
+	 * 
+	 * @throws VectorMathException if the given size is negative.
+	 */
+	public Double2Buffer(int size) {
+		if(size < 0) {
+			throw new VectorMathException("The size of a buffer cannot be negative");
+		}
+		this.x = new double[size];
+		this.y = new double[size];
+	}
+
+	/**
+	 * Creates a buffer that stores its components in the given arrays.
+	 * The arrays are not copied, so changes to them are reflected in the buffer.
+	 * 
+	 * @param x The x components of the vectors.
+	 * @param y The y components of the vectors.
+	 * 
+	 * @throws VectorMathException if the given arrays do not have the same length.
+	 */
+	public Double2Buffer(double[] x, double[] y) {
+		if(y.length != x.length) {
+			throw new VectorMathException("The arrays of the components must have the same length");
+		}
+		this.x = x;
+		this.y = y;
+	}
+
+	/**
+	 * Gets the number of vectors in this buffer.
+	 * 
+	 * @return The size of this buffer.
+	 */
+	public int size() {
+		return this.x.length;
+	}
+
+	/**
+	 * Gets the array that stores the x components of the vectors in this buffer.
+	 * The array is not copied, so changes to it are reflected in the buffer.
+	 * 
+	 * @return The array of the x components.
+	 */
+	public double[] x() {
+		return this.x;
+	}
+
+	/**
+	 * Gets the array that stores the y components of the vectors in this buffer.
+	 * The array is not copied, so changes to it are reflected in the buffer.
+	 * 
+	 * @return The array of the y components.
+	 */
+	public double[] y() {
+		return this.y;
+	}
+
+	/**
+	 * Gets the i-th vector in this buffer.
+	 * 
+	 * @param i Index of the vector to get.
+	 * 
+	 * @return A Double2 with the components of the i-th vector.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given index is out of the bounds of this buffer.
+	 */
+	public Double2 get(int i) {
+		return new Double2(this.x[i], this.y[i]);
+	}
+
+	/**
+	 * Sets the i-th vector in this buffer.
+	 * 
+	 * @param i Index of the vector to set.
+	 * @param x The x component of the vector.
+	 * @param y The y component of the vector.
+	 * 
+	 * @return This buffer.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given index is out of the bounds of this buffer.
+	 */
+	public Double2Buffer set(int i, double x, double y) {
+		this.x[i] = x;
+		this.y[i] = y;
+		return this;
+	}
+
+	/**
+	 * Sets the i-th vector in this buffer.
+	 * 
+	 * @param i Index of the vector to set.
+	 * @param vector The vector to store.
+	 * 
+	 * @return This buffer.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given index is out of the bounds of this buffer.
+	 */
+	public Double2Buffer set(int i, Double2 vector) {
+		return this.set(i, vector.x(), vector.y());
+	}
+
+	/**
+	 * Adds every vector of the given buffer to the vector at the same index in this buffer.
+	 * 
+	 * @param buffer The buffer to add.
+	 * 
+	 * @return This buffer.
+	 * 
+	 * @throws VectorMathException if the given buffer does not have the same size as this buffer.
+	 */
+	public Double2Buffer add(Double2Buffer buffer) {
+		this.checkSize(buffer.size());
+		for(int i = 0; i < this.x.length; i++) {
+			this.x[i] += buffer.x[i];
+			this.y[i] += buffer.y[i];
+		}
+		return this;
+	}
+
+	/**
+	 * Adds the given vector to every vector in this buffer.
+	 * 
+	 * @param vector The vector to add.
+	 * 
+	 * @return This buffer.
+	 */
+	public Double2Buffer add(Double2 vector) {
+		double x = vector.x(), y = vector.y();
+		for(int i = 0; i < this.x.length; i++) {
+			this.x[i] += x;
+			this.y[i] += y;
+		}
+		return this;
+	}
+
+	/**
+	 * Multiplies every vector in this buffer by the given scalar.
+	 * 
+	 * @param k The scalar.
+	 * 
+	 * @return This buffer.
+	 */
+	public Double2Buffer scale(double k) {
+		for(int i = 0; i < this.x.length; i++) {
+			this.x[i] *= k;
+		}
+		for(int i = 0; i < this.y.length; i++) {
+			this.y[i] *= k;
+		}
+		return this;
+	}
+
+	/**
+	 * Computes the dot product between every vector in this buffer
+	 * and the vector at the same index in the given buffer.
+	 * 
+	 * @param buffer The second operand of the dot products.
+	 * 
+	 * @return A new array with the dot products.
+	 * 
+	 * @throws VectorMathException if the given buffer does not have the same size as this buffer.
+	 */
+	public double[] dot(Double2Buffer buffer) {
+		return this.dot(buffer, new double[this.x.length]);
+	}
+
+	/**
+	 * Computes the dot product between every vector in this buffer
+	 * and the vector at the same index in the given buffer.
+	 * 
+	 * @param buffer The second operand of the dot products.
+	 * @param result The array where the dot products are stored.
+	 * 
+	 * @return The given result array.
+	 * 
+	 * @throws VectorMathException if the given buffer or the result array do not have the same size as this buffer.
+	 */
+	public double[] dot(Double2Buffer buffer, double[] result) {
+		this.checkSize(buffer.size());
+		this.checkSize(result.length);
+		for(int i = 0; i < result.length; i++) {
+			result[i] = this.x[i] * buffer.x[i] + this.y[i] * buffer.y[i];
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the length of every vector in this buffer.
+	 * 
+	 * @return A new array with the lengths.
+	 */
+	public double[] lengths() {
+		return this.lengths(new double[this.x.length]);
+	}
+
+	/**
+	 * Computes the length of every vector in this buffer.
+	 * 
+	 * @param result The array where the lengths are stored.
+	 * 
+	 * @return The given result array.
+	 * 
+	 * @throws VectorMathException if the result array does not have the same size as this buffer.
+	 */
+	public double[] lengths(double[] result) {
+		this.checkSize(result.length);
+		for(int i = 0; i < result.length; i++) {
+			result[i] = Math.sqrt(this.x[i] * this.x[i] + this.y[i] * this.y[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Normalizes every vector in this buffer, so that they all have length 1.
+	 * Vectors of length zero become vectors of NaN, as in {@link Double2#normalized()}.
+	 * 
+	 * @return This buffer.
+	 */
+	public Double2Buffer normalizeAll() {
+		for(int i = 0; i < this.x.length; i++) {
+			double length = Math.sqrt(this.x[i] * this.x[i] + this.y[i] * this.y[i]);
+			this.x[i] /= length;
+			this.y[i] /= length;
+		}
+		return this;
+	}
+
+	/**
+	 * Checks that the given size is the size of this buffer.
+	 * 
+	 * @param size The size to check.
+	 * 
+	 * @throws VectorMathException if the given size is not the size of this buffer.
+	 */
+	private void checkSize(int size) {
+		if(size != this.x.length) {
+			throw new VectorMathException("Buffers must have the same size");
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Double2Buffer[size=" + this.x.length + "]";
+	}
+}
@@ -1,14 +1,16 @@
 package io.github.vecmatlib.vector;
 
 import java.util.Arrays;
-import java.util.function.DoubleUnaryOperator;
-import java.util.function.IntToDoubleFunction;
-import java.util.stream.DoubleStream;
-import java.util.stream.IntStream;
 
 /**
  * Class that represents an N-dimensional double vector.
  * 
+ * <p> Operations return a new vector and do not modify the vectors
+ * on which they are invoked. The overloads that take a destination
+ * vector, {@link #scaleInPlace(double)} and {@link #axpy(double, DoubleVector)} are the
+ * only operations that modify an existing vector and can be used to write
+ * loops that do not allocate any object.
+ * 
  * @author Nico
  */
 public final class DoubleVector implements VectorDoubleOperations<DoubleVector> {
@@ -59,32 +61,169 @@ public final class DoubleVector implements VectorDoubleOperations<DoubleVector>
 
 	@Override
 	public DoubleVector plus(DoubleVector vector) {
-		return this.applyOperation(vector.size(), i -> this.values[i] + vector.values[i]);
+		double[] result = new double[this.checkSize(vector.size())];
+		VectorKernels.INSTANCE.add(this.values, vector.values, result);
+		return new DoubleVector(result);
 	}
 
 	@Override
 	public DoubleVector negated() {
-		return this.applyOperation(v -> -v);
+		double[] result = new double[this.size()];
+		VectorKernels.INSTANCE.negate(this.values, result);
+		return new DoubleVector(result);
 	}
 
 	@Override
 	public DoubleVector minus(DoubleVector vector) {
-		return this.applyOperation(vector.size(), i -> this.values[i] - vector.values[i]);
+		double[] result = new double[this.checkSize(vector.size())];
+		VectorKernels.INSTANCE.subtract(this.values, vector.values, result);
+		return new DoubleVector(result);
 	}
 
 	@Override
 	public DoubleVector multipliedBy(double k) {
-		return this.applyOperation(v -> v * k);
+		double[] result = new double[this.size()];
+		VectorKernels.INSTANCE.multiply(this.values, k, result);
+		return new DoubleVector(result);
 	}
 
 	@Override
 	public DoubleVector dividedBy(double k) {
-		return this.applyOperation(v -> v / k);
+		double[] result = new double[this.size()];
+		VectorKernels.INSTANCE.divide(this.values, k, result);
+		return new DoubleVector(result);
+	}
+
+	/**
+	 * Adds the given vector to this one and stores the result in the given destination vector.
+	 * 
+	 * <p> Unlike {@link #plus(DoubleVector)}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector or the given one.
+	 * 
+	 * @param vector The second operand of the sum.
+	 * @param dest The vector where the result is stored.
+	 * 
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vectors are not the same size as this one.
+	 */
+	public DoubleVector plus(DoubleVector vector, DoubleVector dest) {
+		this.checkSize(vector.size());
+		this.checkSize(dest.size());
+		VectorKernels.INSTANCE.add(this.values, vector.values, dest.values);
+		return dest;
+	}
+
+	/**
+	 * Negates this vector and stores the result in the given destination vector.
+	 * 
+	 * <p> Unlike {@link #negated()}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector.
+	 * 
+	 * @param dest The vector where the result is stored.
+	 * 
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 */
+	public DoubleVector negated(DoubleVector dest) {
+		this.checkSize(dest.size());
+		VectorKernels.INSTANCE.negate(this.values, dest.values);
+		return dest;
+	}
+
+	/**
+	 * Subtracts the given vector from this one and stores the result in the given destination vector.
+	 * 
+	 * <p> Unlike {@link #minus(DoubleVector)}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector or the given one.
+	 * 
+	 * @param vector The second operand of the subtraction.
+	 * @param dest The vector where the result is stored.
+	 * 
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vectors are not the same size as this one.
+	 */
+	public DoubleVector minus(DoubleVector vector, DoubleVector dest) {
+		this.checkSize(vector.size());
+		this.checkSize(dest.size());
+		VectorKernels.INSTANCE.subtract(this.values, vector.values, dest.values);
+		return dest;
+	}
+
+	/**
+	 * Multiplies this vector by the given scalar and stores the result in the given destination vector.
+	 * 
+	 * <p> Unlike {@link #multipliedBy(double)}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector.
+	 * 
+	 * @param k The scalar.
+	 * @param dest The vector where the result is stored.
+	 * 
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 */
+	public DoubleVector multipliedBy(double k, DoubleVector dest) {
+		this.checkSize(dest.size());
+		VectorKernels.INSTANCE.multiply(this.values, k, dest.values);
+		return dest;
+	}
+
+	/**
+	 * Divides this vector by the given scalar and stores the result in the given destination vector.
+	 * 
+	 * <p> Unlike {@link #dividedBy(double)}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector.
+	 * 
+	 * @param k The scalar.
+	 * @param dest The vector where the result is stored.
+	 * 
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 */
+	public DoubleVector dividedBy(double k, DoubleVector dest) {
+		this.checkSize(dest.size());
+		VectorKernels.INSTANCE.divide(this.values, k, dest.values);
+		return dest;
+	}
+
+	/**
+	 * Multiplies this vector by the given scalar, modifying this vector.
+	 * 
+	 * @param k The scalar.
+	 * 
+	 * @return This vector.
+	 */
+	public DoubleVector scaleInPlace(double k) {
+		VectorKernels.INSTANCE.multiply(this.values, k, this.values);
+		return this;
+	}
+
+	/**
+	 * Adds the given vector multiplied by the given scalar to this vector,
+	 * modifying this vector. This is the {@code y = alpha * x + y} operation
+	 * used by iterative algorithms.
+	 * 
+	 * @param alpha The scalar.
+	 * @param x The vector multiplied by the scalar.
+	 * 
+	 * @return This vector.
+	 * 
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 */
+	public DoubleVector axpy(double alpha, DoubleVector x) {
+		this.checkSize(x.size());
+		VectorKernels.INSTANCE.axpy(alpha, x.values, this.values);
+		return this;
 	}
 
 	@Override
 	public double dotProduct(DoubleVector vector) {
-		return this.mapEach(vector.size(), i -> this.values[i] * vector.values[i]).sum();
+		this.checkSize(vector.size());
+		return VectorKernels.INSTANCE.dot(this.values, vector.values);
 	}
 
 	@Override
@@ -93,75 +232,100 @@ public final class DoubleVector implements VectorDoubleOperations<DoubleVector>
 	}
 
 	/**
-	 * Casts this vector to an int vector.
+	 * Computes the dot product between this vector and the given one
+	 * adding its terms with the given summation mode.
 	 * 
-	 * @return A vector with the same elements as this vector casted to int.
+	 * @param vector The second operand of the dot product.
+	 * @param summation The algorithm used to add the terms.
+	 * 
+	 * @return The dot product between this vector and the given one.
+	 * 
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 * @throws NullPointerException if the given vector or the given summation mode are null.
 	 */
-	public IntVector castToInt() {
-		return new IntVector(Arrays.stream(this.values).mapToInt(d -> (int) d).toArray());
+	public double dotProduct(DoubleVector vector, Summation summation) {
+		this.checkSize(vector.size());
+		return summation.dot(this.values, 0, vector.values, 0, this.values.length);
 	}
 
 	/**
-	 * Casts this vector to a float vector.
+	 * Computes the squared length of this vector adding its terms with the given summation mode.
 	 * 
-	 * @return A vector with the same elements as this vector casted to float.
+	 * @param summation The algorithm used to add the terms.
+	 * 
+	 * @return The squared length of this vector.
+	 * 
+	 * @throws NullPointerException if the given summation mode is null.
 	 */
-	public FloatVector castToFloat() {
-		return new FloatVector(Arrays.stream(this.values).mapToObj(d -> (float) d).toArray(Float[]::new));
+	public double lengthSquared(Summation summation) {
+		return this.dotProduct(this, summation);
 	}
 
 	/**
-	 * Utility method that applies an operation to all values of the array.
+	 * Computes the length of this vector adding its terms with the given summation mode.
 	 * 
-	 * @param length Length of the array.
-	 * @param operator Operation to apply.
+	 * @param summation The algorithm used to add the terms.
 	 * 
-	 * @return The result of the operation.
+	 * @return The length of this vector.
 	 * 
-	 * @throws VectorMathException if the given size is different from the size of this vector.
+	 * @throws NullPointerException if the given summation mode is null.
 	 */
-	private DoubleVector applyOperation(int array, IntToDoubleFunction operator) {
-		return new DoubleVector(this.mapEach(array, operator).toArray());
+	public double length(Summation summation) {
+		return Math.sqrt(this.lengthSquared(summation));
 	}
 
 	/**
-	 * Utility method that maps all values in the vector with a given function.
+	 * Computes the angle in radians between this vector and the given one
+	 * computing the dot product and the lengths with the given summation mode.
 	 * 
-	 * @param length Length of the array.
-	 * @param operator The mapper function.
+	 * @param vector The second vector.
+	 * @param summation The algorithm used to add the terms.
 	 * 
-	 * @return The resulting {@link DoubleStream}.
+	 * @return The angle in radians between this vector and the given one.
 	 * 
-	 * @throws VectorMathException if the given size is different from the size of this vector.
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 * @throws NullPointerException if the given vector or the given summation mode are null.
 	 */
-	private DoubleStream mapEach(int length, IntToDoubleFunction operator) {
-		if(length == this.size()) {
-			return IntStream.range(0, length).mapToDouble(operator);
-		} else {
-			throw new VectorMathException("Vectors must have the same size");
-		}
+	public double angle(DoubleVector vector, Summation summation) {
+		return Math.acos(this.dotProduct(vector, summation) / (this.length(summation) * vector.length(summation)));
 	}
 
 	/**
-	 * Utility method that applies a unary mapper function to all the values in this vector.
+	 * Casts this vector to an int vector.
 	 * 
-	 * @param operator Operation to apply.
+	 * @return A vector with the same elements as this vector casted to int.
+	 */
+	public IntVector castToInt() {
+		return new IntVector(Arrays.stream(this.values).mapToInt(d -> (int) d).toArray());
+	}
+
+	/**
+	 * Casts this vector to a float vector.
 	 * 
-	 * @return The result of the operation.
+	 * @return A vector with the same elements as this vector casted to float.
 	 */
-	private DoubleVector applyOperation(DoubleUnaryOperator operator) {
-		return new DoubleVector(this.mapEach(operator).toArray());
+	public FloatVector castToFloat() {
+		float[] result = new float[this.size()];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = (float) this.values[i];
+		}
+		return new FloatVector(result);
 	}
 
 	/**
-	 * Utility method that applies a unary operation to all the values in this vector.
+	 * Utility method that checks if the given size is the same as the size of this vector.
 	 * 
-	 * @param operator The mapper function.
+	 * @param size Size of the other vector.
 	 * 
-	 * @return The resulting {@link DoubleStream}.
+	 * @return The size of this vector.
+	 * 
+	 * @throws VectorMathException if the given size is different from the size of this vector.
 	 */
-	private DoubleStream mapEach(DoubleUnaryOperator operator) {
-		return Arrays.stream(this.values).map(operator);
+	private int checkSize(int size) {
+		if(size != this.size()) {
+			throw new VectorMathException("Vectors must have the same size");
+		}
+		return size;
 	}
 
 	@Override
@@ -1,14 +1,16 @@
 package io.github.vecmatlib.vector;
 
 import java.util.Arrays;
-import java.util.function.Function;
-import java.util.function.IntFunction;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 /**
  * Class that represents an N-dimensional float vector.
  * 
+ * <p> Operations return a new vector and do not modify the vectors
+ * on which they are invoked. The overloads that take a destination
+ * vector, {@link #scaleInPlace(float)} and {@link #axpy(float, FloatVector)} are the
+ * only operations that modify an existing vector and can be used to write
+ * loops that do not allocate any object.
+ * 
  * @author Nico
  */
 public final class FloatVector implements VectorFloatOperations<FloatVector>, VectorAsDouble<DoubleVector> {
@@ -17,13 +19,17 @@ public final class FloatVector implements VectorFloatOperations<FloatVector>, Ve
 	private float[] values;
 
 	/**
-	 * Creates a vector with the values in the given array.
+	 * Creates a vector with the values in the given array of boxed values.
+	 * 
+	 * <p> The values in the given array are unboxed and copied into the
+	 * internal storage of the vector.
 	 * 
 	 * @param vector Values in the vector.
 	 * 
 	 * @throws VectorMathException if the given array is null or has length 0.
+	 * @throws NullPointerException if any of the values is null.
 	 */
-	public FloatVector(Float... vector) {
+	public FloatVector(Float[] vector) {
 		if(vector == null || vector.length == 0) {
 			throw new VectorMathException("A vector cannot be null or empty");
 		}
@@ -33,6 +39,23 @@ public final class FloatVector implements VectorFloatOperations<FloatVector>, Ve
 		}
 	}
 
+	/**
+	 * Creates a vector with the values in the given array.
+	 * 
+	 * <p> Unlike {@link #FloatVector(Float[])}, the given array is used
+	 * as the internal storage of the vector and no value is boxed.
+	 * 
+	 * @param vector Values in the vector.
+	 * 
+	 * @throws VectorMathException if the given array is null or has length 0.
+	 */
+	public FloatVector(float... vector) {
+		if(vector == null || vector.length == 0) {
+			throw new VectorMathException("A vector cannot be null or empty");
+		}
+		this.values = vector;
+	}
+
 	/**
 	 * Gets the size of this vector.
 	 * 
@@ -62,32 +85,169 @@ public final class FloatVector implements VectorFloatOperations<FloatVector>, Ve
 
 	@Override
 	public FloatVector plus(FloatVector vector) {
-		return this.applyOperation(vector.size(), i -> this.values[i] + vector.values[i]);
+		float[] result = new float[this.checkSize(vector.size())];
+		VectorKernels.INSTANCE.add(this.values, vector.values, result);
+		return new FloatVector(result);
 	}
 
 	@Override
 	public FloatVector negated() {
-		return this.applyOperation(v -> -v);
+		float[] result = new float[this.size()];
+		VectorKernels.INSTANCE.negate(this.values, result);
+		return new FloatVector(result);
 	}
 
 	@Override
 	public FloatVector minus(FloatVector vector) {
-		return this.applyOperation(vector.size(), i -> this.values[i] - vector.values[i]);
+		float[] result = new float[this.checkSize(vector.size())];
+		VectorKernels.INSTANCE.subtract(this.values, vector.values, result);
+		return new FloatVector(result);
 	}
 
 	@Override
 	public FloatVector multipliedBy(float k) {
-		return this.applyOperation(v -> v * k);
+		float[] result = new float[this.size()];
+		VectorKernels.INSTANCE.multiply(this.values, k, result);
+		return new FloatVector(result);
 	}
 
 	@Override
 	public FloatVector dividedBy(float k) {
-		return this.applyOperation(v -> v / k);
+		float[] result = new float[this.size()];
+		VectorKernels.INSTANCE.divide(this.values, k, result);
+		return new FloatVector(result);
+	}
+
+	/**
+	 * Adds the given vector to this one and stores the result in the given destination vector.
+	 * 
+	 * <p> Unlike {@link #plus(FloatVector)}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector or the given one.
+	 * 
+	 * @param vector The second operand of the sum.
+	 * @param dest The vector where the result is stored.
+	 * 
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vectors are not the same size as this one.
+	 */
+	public FloatVector plus(FloatVector vector, FloatVector dest) {
+		this.checkSize(vector.size());
+		this.checkSize(dest.size());
+		VectorKernels.INSTANCE.add(this.values, vector.values, dest.values);
+		return dest;
+	}
+
+	/**
+	 * Negates this vector and stores the result in the given destination vector.
+	 * 
+	 * <p> Unlike {@link #negated()}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector.
+	 * 
+	 * @param dest The vector where the result is stored.
+	 * 
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 */
+	public FloatVector negated(FloatVector dest) {
+		this.checkSize(dest.size());
+		VectorKernels.INSTANCE.negate(this.values, dest.values);
+		return dest;
+	}
+
+	/**
+	 * Subtracts the given vector from this one and stores the result in the given destination vector.
+	 * 
+	 * <p> Unlike {@link #minus(FloatVector)}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector or the given one.
+	 * 
+	 * @param vector The second operand of the subtraction.
+	 * @param dest The vector where the result is stored.
+	 * 
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vectors are not the same size as this one.
+	 */
+	public FloatVector minus(FloatVector vector, FloatVector dest) {
+		this.checkSize(vector.size());
+		this.checkSize(dest.size());
+		VectorKernels.INSTANCE.subtract(this.values, vector.values, dest.values);
+		return dest;
+	}
+
+	/**
+	 * Multiplies this vector by the given scalar and stores the result in the given destination vector.
+	 * 
+	 * <p> Unlike {@link #multipliedBy(float)}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector.
+	 * 
+	 * @param k The scalar.
+	 * @param dest The vector where the result is stored.
+	 * 
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 */
+	public FloatVector multipliedBy(float k, FloatVector dest) {
+		this.checkSize(dest.size());
+		VectorKernels.INSTANCE.multiply(this.values, k, dest.values);
+		return dest;
+	}
+
+	/**
+	 * Divides this vector by the given scalar and stores the result in the given destination vector.
+	 * 
+	 * <p> Unlike {@link #dividedBy(float)}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector.
+	 * 
+	 * @param k The scalar.
+	 * @param dest The vector where the result is stored.
+	 * 
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 */
+	public FloatVector dividedBy(float k, FloatVector dest) {
+		this.checkSize(dest.size());
+		VectorKernels.INSTANCE.divide(this.values, k, dest.values);
+		return dest;
+	}
+
+	/**
+	 * Multiplies this vector by the given scalar, modifying this vector.
+	 * 
+	 * @param k The scalar.
+	 * 
+	 * @return This vector.
+	 */
+	public FloatVector scaleInPlace(float k) {
+		VectorKernels.INSTANCE.multiply(this.values, k, this.values);
+		return this;
+	}
+
+	/**
+	 * Adds the given vector multiplied by the given scalar to this vector,
+	 * modifying this vector. This is the {@code y = alpha * x + y} operation
+	 * used by iterative algorithms.
+	 * 
+	 * @param alpha The scalar.
+	 * @param x The vector multiplied by the scalar.
+	 * 
+	 * @return This vector.
+	 * 
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 */
+	public FloatVector axpy(float alpha, FloatVector x) {
+		this.checkSize(x.size());
+		VectorKernels.INSTANCE.axpy(alpha, x.values, this.values);
+		return this;
 	}
 
 	@Override
 	public float dotProduct(FloatVector vector) {
-		return this.mapEach(vector.size(), i -> this.values[i] * vector.values[i]).reduce(0.0f, (v1, v2) -> v1 + v2);
+		this.checkSize(vector.size());
+		return VectorKernels.INSTANCE.dot(this.values, vector.values);
 	}
 
 	@Override
@@ -96,71 +256,118 @@ public final class FloatVector implements VectorFloatOperations<FloatVector>, Ve
 	}
 
 	/**
-	 * Casts this vector to an int vector.
+	 * Computes the dot product between this vector and the given one
+	 * adding its terms with the given summation mode.
 	 * 
-	 * @return A vector with the same elements as this vector casted to int.
+	 * <p> With {@link Summation#DOUBLE_ACCUMULATOR} the terms are added in double
+	 * precision and the result is only rounded to float at the end.
+	 * 
+	 * @param vector The second operand of the dot product.
+	 * @param summation The algorithm used to add the terms.
+	 * 
+	 * @return The dot product between this vector and the given one.
+	 * 
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 * @throws NullPointerException if the given vector or the given summation mode are null.
 	 */
-	public IntVector castToInt() {
-		return new IntVector(IntStream.range(0, this.size()).mapToObj(i -> this.values[i]).mapToInt(f -> f.intValue()).toArray());
+	public float dotProduct(FloatVector vector, Summation summation) {
+		return (float) this.dot(vector, summation);
 	}
 
-	@Override
-	public DoubleVector asDouble() {
-		return new DoubleVector(IntStream.range(0, this.size()).mapToObj(i -> this.values[i]).mapToDouble(f -> f.doubleValue()).toArray());
+	/**
+	 * Computes the squared length of this vector adding its terms with the given summation mode.
+	 * 
+	 * @param summation The algorithm used to add the terms.
+	 * 
+	 * @return The squared length of this vector.
+	 * 
+	 * @throws NullPointerException if the given summation mode is null.
+	 */
+	public float lengthSquared(Summation summation) {
+		return (float) this.dot(this, summation);
 	}
 
 	/**
-	 * Utility method that applies an operation to all values of the array.
+	 * Computes the length of this vector adding its terms with the given summation mode.
+	 * The square root is computed before rounding the squared length to float.
 	 * 
-	 * @param length Length of the array.
-	 * @param operator Operation to apply.
+	 * @param summation The algorithm used to add the terms.
 	 * 
-	 * @return The result of the operation.
+	 * @return The length of this vector.
 	 * 
-	 * @throws VectorMathException if the given size is different from the size of this vector.
+	 * @throws NullPointerException if the given summation mode is null.
 	 */
-	private FloatVector applyOperation(int length, IntFunction<Float> operator) {
-		return new FloatVector(this.mapEach(length, operator).toArray(Float[]::new));
+	public double length(Summation summation) {
+		return Math.sqrt(this.dot(this, summation));
 	}
 
 	/**
-	 * Utility method that maps all values in the vector with a given function.
+	 * Computes the angle in radians between this vector and the given one
+	 * computing the dot product and the lengths with the given summation mode.
 	 * 
-	 * @param length Length of the array.
-	 * @param operator The mapper function.
+	 * @param vector The second vector.
+	 * @param summation The algorithm used to add the terms.
 	 * 
-	 * @return The resulting {@link Stream}
+	 * @return The angle in radians between this vector and the given one.
 	 * 
-	 * @throws VectorMathException if the given size is different from the size of this vector.
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 * @throws NullPointerException if the given vector or the given summation mode are null.
 	 */
-	private Stream<Float> mapEach(int length, IntFunction<Float> operator) {
-		if(length == this.size()) {
-			return IntStream.range(0, length).mapToObj(operator);
-		} else {
-			throw new VectorMathException("Vectors must have the same size");
-		}
+	public double angle(FloatVector vector, Summation summation) {
+		return Math.acos(this.dot(vector, summation) / (this.length(summation) * vector.length(summation)));
 	}
 
 	/**
-	 * Utility method that applies a unary mapper function to all the values in this vector.
+	 * Computes the dot product between this vector and the given one without rounding it to float.
+	 * 
+	 * @param vector The second operand of the dot product.
+	 * @param summation The algorithm used to add the terms.
 	 * 
-	 * @param operator Operation to apply.
+	 * @return The dot product between this vector and the given one.
+	 * 
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 */
+	private double dot(FloatVector vector, Summation summation) {
+		this.checkSize(vector.size());
+		return summation.dot(this.values, 0, vector.values, 0, this.values.length);
+	}
+
+	/**
+	 * Casts this vector to an int vector.
 	 * 
-	 * @return The result of the operation.
+	 * @return A vector with the same elements as this vector casted to int.
 	 */
-	private FloatVector applyOperation(Function<Float, Float> operator) {
-		return new FloatVector(this.mapEach(operator).toArray(Float[]::new));
+	public IntVector castToInt() {
+		int[] result = new int[this.size()];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = (int) this.values[i];
+		}
+		return new IntVector(result);
+	}
+
+	@Override
+	public DoubleVector asDouble() {
+		double[] result = new double[this.size()];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = this.values[i];
+		}
+		return new DoubleVector(result);
 	}
 
 	/**
-	 * Utility method that applies a unary operation to all the values in this vector.
+	 * Utility method that checks if the given size is the same as the size of this vector.
+	 * 
+	 * @param size Size of the other vector.
 	 * 
-	 * @param operator The mapper function.
+	 * @return The size of this vector.
 	 * 
-	 * @return The resulting {@link Stream}.
+	 * @throws VectorMathException if the given size is different from the size of this vector.
 	 */
-	private Stream<Float> mapEach(Function<Float, Float> operator) {
-		return IntStream.range(0, this.size()).mapToObj(i -> this.values[i]).map(operator);
+	private int checkSize(int size) {
+		if(size != this.size()) {
+			throw new VectorMathException("Vectors must have the same size");
+		}
+		return size;
 	}
 
 	@Override
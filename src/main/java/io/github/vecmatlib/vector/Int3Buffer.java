@@ -0,0 +1,319 @@
+package io.github.vecmatlib.vector;
+
+/**
+ * Class that stores a sequence of 3-dimensional int vectors as a structure of arrays.
+ * 
+ * <p> Instead of one {@link Int3} object per vector, the components of all the vectors
+ * are stored in three primitive arrays, one for each component. This saves the header and the
+ * reference of every object and lets the bulk operations run over contiguous memory
+ * without allocating anything for each element.
+ * 
+ * <p> Unlike the vector records, buffers are mutable. The bulk operations either modify
+ * this buffer or write their result into a given array or buffer. Every element gives
+ * exactly the same result as the corresponding operation of {@link Int3}.
+ * 
+ * @author Nico
+ */
+public final class Int3Buffer {
+
+	/**The x components of the vectors */
+	private final int[] x;
+	/**The y components of the vectors */
+	private final int[] y;
+	/**The z components of the vectors */
+	private final int[] z;
+
+	/**
+	 * Creates a buffer of the given size where every vector is zero.
+	 * 
+	 * @param size Number of vectors in the buffer.
+	 * 
+	 * @throws VectorMathException if the given size is negative.
+	 */
+	public Int3Buffer(int size) {
+		if(size < 0) {
+			throw new VectorMathException("The size of a buffer cannot be negative");
+		}
+		this.x = new int[size];
+		this.y = new int[size];
+		this.z = new int[size];
+	}
+
+	/**
+	 * Creates a buffer that stores its components in the given arrays.
+	 * The arrays are not copied, so changes to them are reflected in the buffer.
+	 * 
+	 * @param x The x components of the vectors.
+	 * @param y The y components of the vectors.
+	 * @param z The z components of the vectors.
+	 * 
+	 * @throws VectorMathException if the given arrays do not have the same length.
+	 */
+	public Int3Buffer(int[] x, int[] y, int[] z) {
+		if(y.length != x.length || z.length != x.length) {
+			throw new VectorMathException("The arrays of the components must have the same length");
+		}
+		this.x = x;
+		this.y = y;
+		this.z = z;
+	}
+
+	/**
+	 * Gets the number of vectors in this buffer.
+	 * 
+	 * @return The size of this buffer.
+	 */
+	public int size() {
+		return this.x.length;
+	}
+
+	/**
+	 * Gets the array that stores the x components of the vectors in this buffer.
+	 * The array is not copied, so changes to it are reflected in the buffer.
+	 * 
+	 * @return The array of the x components.
+	 */
+	public int[] x() {
+		return this.x;
+	}
+
+	/**
+	 * Gets the array that stores the y components of the vectors in this buffer.
+	 * The array is not copied, so changes to it are reflected in the buffer.
+	 * 
+	 * @return The array of the y components.
+	 */
+	public int[] y() {
+		return this.y;
+	}
+
+	/**
+	 * Gets the array that stores the z components of the vectors in this buffer.
+	 * The array is not copied, so changes to it are reflected in the buffer.
+	 * 
+	 * @return The array of the z components.
+	 */
+	public int[] z() {
+		return this.z;
+	}
+
+	/**
+	 * Gets the i-th vector in this buffer.
+	 * 
+	 * @param i Index of the vector to get.
+	 * 
+	 * @return A Int3 with the components of the i-th vector.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given index is out of the bounds of this buffer.
+	 */
+	public Int3 get(int i) {
+		return new Int3(this.x[i], this.y[i], this.z[i]);
+	}
+
+	/**
+	 * Sets the i-th vector in this buffer.
+	 * 
+	 * @param i Index of the vector to set.
+	 * @param x The x component of the vector.
+	 * @param y The y component of the vector.
+	 * @param z The z component of the vector.
+	 * 
+	 * @return This buffer.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given index is out of the bounds of this buffer.
+	 */
+	public Int3Buffer set(int i, int x, int y, int z) {
+		this.x[i] = x;
+		this.y[i] = y;
+		this.z[i] = z;
+		return this;
+	}
+
+	/**
+	 * Sets the i-th vector in this buffer.
+	 * 
+	 * @param i Index of the vector to set.
+	 * @param vector The vector to store.
+	 * 
+	 * @return This buffer.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given index is out of the bounds of this buffer.
+	 */
+	public Int3Buffer set(int i, Int3 vector) {
+		return this.set(i, vector.x(), vector.y(), vector.z());
+	}
+
+	/**
+	 * Adds every vector of the given buffer to the vector at the same index in this buffer.
+	 * 
+	 * @param buffer The buffer to add.
+	 * 
+	 * @return This buffer.
+	 * 
+	 * @throws VectorMathException if the given buffer does not have the same size as this buffer.
+	 */
+	public Int3Buffer add(Int3Buffer buffer) {
+		this.checkSize(buffer.size());
+		for(int i = 0; i < this.x.length; i++) {
+			this.x[i] += buffer.x[i];
+			this.y[i] += buffer.y[i];
+			this.z[i] += buffer.z[i];
+		}
+		return this;
+	}
+
+	/**
+	 * Adds the given vector to every vector in this buffer.
+	 * 
+	 * @param vector The vector to add.
+	 * 
+	 * @return This buffer.
+	 */
+	public Int3Buffer add(Int3 vector) {
+		int x = vector.x(), y = vector.y(), z = vector.z();
+		for(int i = 0; i < this.x.length; i++) {
+			this.x[i] += x;
+			this.y[i] += y;
+			this.z[i] += z;
+		}
+		return this;
+	}
+
+	/**
+	 * Multiplies every vector in this buffer by the given scalar.
+	 * Like java's {@code int} operators, the result silently overflows.
+	 * 
+	 * @param k The scalar.
+	 * 
+	 * @return This buffer.
+	 */
+	public Int3Buffer scale(int k) {
+		for(int i = 0; i < this.x.length; i++) {
+			this.x[i] *= k;
+		}
+		for(int i = 0; i < this.y.length; i++) {
+			this.y[i] *= k;
+		}
+		for(int i = 0; i < this.z.length; i++) {
+			this.z[i] *= k;
+		}
+		return this;
+	}
+
+	/**
+	 * Computes the dot product between every vector in this buffer
+	 * and the vector at the same index in the given buffer.
+	 * 
+	 * @param buffer The second operand of the dot products.
+	 * 
+	 * @return A new array with the dot products.
+	 * 
+	 * @throws VectorMathException if the given buffer does not have the same size as this buffer.
+	 */
+	public int[] dot(Int3Buffer buffer) {
+		return this.dot(buffer, new int[this.x.length]);
+	}
+
+	/**
+	 * Computes the dot product between every vector in this buffer
+	 * and the vector at the same index in the given buffer.
+	 * 
+	 * @param buffer The second operand of the dot products.
+	 * @param result The array where the dot products are stored.
+	 * 
+	 * @return The given result array.
+	 * 
+	 * @throws VectorMathException if the given buffer or the result array do not have the same size as this buffer.
+	 */
+	public int[] dot(Int3Buffer buffer, int[] result) {
+		this.checkSize(buffer.size());
+		this.checkSize(result.length);
+		for(int i = 0; i < result.length; i++) {
+			result[i] = this.x[i] * buffer.x[i] + this.y[i] * buffer.y[i] + this.z[i] * buffer.z[i];
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the cross product between every vector in this buffer
+	 * and the vector at the same index in the given buffer.
+	 * 
+	 * @param buffer The second operand of the cross products.
+	 * 
+	 * @return A new buffer with the cross products.
+	 * 
+	 * @throws VectorMathException if the given buffer does not have the same size as this buffer.
+	 */
+	public Int3Buffer cross(Int3Buffer buffer) {
+		return this.cross(buffer, new Int3Buffer(this.x.length));
+	}
+
+	/**
+	 * Computes the cross product between every vector in this buffer
+	 * and the vector at the same index in the given buffer.
+	 * The destination can be one of the operands.
+	 * 
+	 * @param buffer The second operand of the cross products.
+	 * @param dest The buffer where the cross products are stored.
+	 * 
+	 * @return The given destination buffer.
+	 * 
+	 * @throws VectorMathException if the given buffers do not have the same size as this buffer.
+	 */
+	public Int3Buffer cross(Int3Buffer buffer, Int3Buffer dest) {
+		this.checkSize(buffer.size());
+		this.checkSize(dest.size());
+		for(int i = 0; i < this.x.length; i++) {
+			int x1 = this.x[i], y1 = this.y[i], z1 = this.z[i];
+			int x2 = buffer.x[i], y2 = buffer.y[i], z2 = buffer.z[i];
+			dest.x[i] = y1 * z2 - z1 * y2;
+			dest.y[i] = x2 * z1 - z2 * x1;
+			dest.z[i] = x1 * y2 - y1 * x2;
+		}
+		return dest;
+	}
+
+	/**
+	 * Computes the length of every vector in this buffer.
+	 * 
+	 * @return A new array with the lengths.
+	 */
+	public double[] lengths() {
+		return this.lengths(new double[this.x.length]);
+	}
+
+	/**
+	 * Computes the length of every vector in this buffer.
+	 * 
+	 * @param result The array where the lengths are stored.
+	 * 
+	 * @return The given result array.
+	 * 
+	 * @throws VectorMathException if the result array does not have the same size as this buffer.
+	 */
+	public double[] lengths(double[] result) {
+		this.checkSize(result.length);
+		for(int i = 0; i < result.length; i++) {
+			result[i] = Math.sqrt(this.x[i] * this.x[i] + this.y[i] * this.y[i] + this.z[i] * this.z[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Checks that the given size is the size of this buffer.
+	 * 
+	 * @param size The size to check.
+	 * 
+	 * @throws VectorMathException if the given size is not the size of this buffer.
+	 */
+	private void checkSize(int size) {
+		if(size != this.x.length) {
+			throw new VectorMathException("Buffers must have the same size");
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Int3Buffer[size=" + this.x.length + "]";
+	}
+}
@@ -1,12 +1,16 @@
 package io.github.vecmatlib.vector;
 
 import java.util.Arrays;
-import java.util.function.IntUnaryOperator;
-import java.util.stream.IntStream;
 
 /**
  * Class that represents an N-dimensional integer vector.
  * 
+ * <p> Operations return a new vector and do not modify the vectors
+ * on which they are invoked. The overloads that take a destination
+ * vector, {@link #scaleInPlace(int)} and {@link #axpy(int, IntVector)} are the
+ * only operations that modify an existing vector and can be used to write
+ * loops that do not allocate any object.
+ * 
  * @author Nico
  */
 public final class IntVector implements VectorIntOperations<IntVector>, VectorAsFloat<FloatVector>, VectorAsDouble<DoubleVector> {
@@ -57,101 +61,205 @@ public final class IntVector implements VectorIntOperations<IntVector>, VectorAs
 
 	@Override
 	public IntVector plus(IntVector vector) {
-		return this.applyOperation(vector.size(), i -> this.values[i] + vector.values[i]);
+		int[] result = new int[this.checkSize(vector.size())];
+		VectorKernels.INSTANCE.add(this.values, vector.values, result);
+		return new IntVector(result);
 	}
 
 	@Override
 	public IntVector negated() {
-		return this.applyOperation(v -> -v);
+		int[] result = new int[this.size()];
+		VectorKernels.INSTANCE.negate(this.values, result);
+		return new IntVector(result);
 	}
 
 	@Override
 	public IntVector minus(IntVector vector) {
-		return this.applyOperation(vector.size(), i -> this.values[i] - vector.values[i]);
+		int[] result = new int[this.checkSize(vector.size())];
+		VectorKernels.INSTANCE.subtract(this.values, vector.values, result);
+		return new IntVector(result);
 	}
 
 	@Override
 	public IntVector multipliedBy(int k) {
-		return this.applyOperation(v -> v * k);
+		int[] result = new int[this.size()];
+		VectorKernels.INSTANCE.multiply(this.values, k, result);
+		return new IntVector(result);
 	}
 
 	@Override
 	public IntVector dividedBy(int k) {
-		return this.applyOperation(v -> v / k);
+		int[] result = new int[this.size()];
+		VectorKernels.INSTANCE.divide(this.values, k, result);
+		return new IntVector(result);
 	}
 
-	@Override
-	public int dotProduct(IntVector vector) {
-		return this.mapEach(vector.size(), i -> this.values[i] * vector.values[i]).sum();
+	/**
+	 * Adds the given vector to this one and stores the result in the given destination vector.
+	 * 
+	 * <p> Unlike {@link #plus(IntVector)}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector or the given one.
+	 * 
+	 * @param vector The second operand of the sum.
+	 * @param dest The vector where the result is stored.
+	 * 
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vectors are not the same size as this one.
+	 */
+	public IntVector plus(IntVector vector, IntVector dest) {
+		this.checkSize(vector.size());
+		this.checkSize(dest.size());
+		VectorKernels.INSTANCE.add(this.values, vector.values, dest.values);
+		return dest;
 	}
 
-	@Override
-	public int lengthSquared() {
-		return this.dotProduct(this);
+	/**
+	 * Negates this vector and stores the result in the given destination vector.
+	 * 
+	 * <p> Unlike {@link #negated()}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector.
+	 * 
+	 * @param dest The vector where the result is stored.
+	 * 
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 */
+	public IntVector negated(IntVector dest) {
+		this.checkSize(dest.size());
+		VectorKernels.INSTANCE.negate(this.values, dest.values);
+		return dest;
 	}
 
-	@Override
-	public FloatVector asFloat() {
-		return new FloatVector(Arrays.stream(this.values).mapToObj(i -> (float) i).toArray(Float[]::new));
+	/**
+	 * Subtracts the given vector from this one and stores the result in the given destination vector.
+	 * 
+	 * <p> Unlike {@link #minus(IntVector)}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector or the given one.
+	 * 
+	 * @param vector The second operand of the subtraction.
+	 * @param dest The vector where the result is stored.
+	 * 
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vectors are not the same size as this one.
+	 */
+	public IntVector minus(IntVector vector, IntVector dest) {
+		this.checkSize(vector.size());
+		this.checkSize(dest.size());
+		VectorKernels.INSTANCE.subtract(this.values, vector.values, dest.values);
+		return dest;
 	}
 
-	@Override
-	public DoubleVector asDouble() {
-		return new DoubleVector(Arrays.stream(this.values).mapToDouble(i -> i).toArray());
+	/**
+	 * Multiplies this vector by the given scalar and stores the result in the given destination vector.
+	 * 
+	 * <p> Unlike {@link #multipliedBy(int)}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector.
+	 * 
+	 * @param k The scalar.
+	 * @param dest The vector where the result is stored.
+	 * 
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 */
+	public IntVector multipliedBy(int k, IntVector dest) {
+		this.checkSize(dest.size());
+		VectorKernels.INSTANCE.multiply(this.values, k, dest.values);
+		return dest;
 	}
 
 	/**
-	 * Utility method that applies an operation to all values of the array.
+	 * Divides this vector by the given scalar and stores the result in the given destination vector.
 	 * 
-	 * @param length Length of the array.
-	 * @param operator Operation to apply.
+	 * <p> Unlike {@link #dividedBy(int)}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector.
 	 * 
-	 * @return The result of the operation.
+	 * @param k The scalar.
+	 * @param dest The vector where the result is stored.
 	 * 
-	 * @throws VectorMathException if the given size is different from the size of this vector.
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 * @throws ArithmeticException if the given scalar is zero.
 	 */
-	private IntVector applyOperation(int length, IntUnaryOperator operator) {
-		return new IntVector(this.mapEach(length, operator).toArray());
+	public IntVector dividedBy(int k, IntVector dest) {
+		this.checkSize(dest.size());
+		VectorKernels.INSTANCE.divide(this.values, k, dest.values);
+		return dest;
 	}
 
 	/**
-	 * Utility method that maps all values in the vector with a given function.
+	 * Multiplies this vector by the given scalar, modifying this vector.
 	 * 
-	 * @param length Length of the array.
-	 * @param operator The mapper function.
+	 * @param k The scalar.
 	 * 
-	 * @return The resulting {@link IntStream}.
-	 * 
-	 * @throws VectorMathException if the given size is different from the size of this vector.
+	 * @return This vector.
 	 */
-	private IntStream mapEach(int length, IntUnaryOperator operator) {
-		if(length == this.size()) {
-			return IntStream.range(0, length).map(operator);
-		} else {
-			throw new VectorMathException("Vectors must have the same size");
-		}
+	public IntVector scaleInPlace(int k) {
+		VectorKernels.INSTANCE.multiply(this.values, k, this.values);
+		return this;
 	}
 
 	/**
-	 * Utility method that applies a unary mapper function to all the values in this vector.
+	 * Adds the given vector multiplied by the given scalar to this vector,
+	 * modifying this vector. This is the {@code y = alpha * x + y} operation
+	 * used by iterative algorithms.
+	 * 
+	 * @param alpha The scalar.
+	 * @param x The vector multiplied by the scalar.
 	 * 
-	 * @param operator Operation to apply.
+	 * @return This vector.
 	 * 
-	 * @return The result of the operation.
+	 * @throws VectorMathException if the given vector is not the same size as this one.
 	 */
-	private IntVector applyOperation(IntUnaryOperator operator) {
-		return new IntVector(this.mapEach(operator).toArray());
+	public IntVector axpy(int alpha, IntVector x) {
+		this.checkSize(x.size());
+		VectorKernels.INSTANCE.axpy(alpha, x.values, this.values);
+		return this;
+	}
+
+	@Override
+	public int dotProduct(IntVector vector) {
+		this.checkSize(vector.size());
+		return VectorKernels.INSTANCE.dot(this.values, vector.values);
+	}
+
+	@Override
+	public int lengthSquared() {
+		return this.dotProduct(this);
+	}
+
+	@Override
+	public FloatVector asFloat() {
+		float[] result = new float[this.size()];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = (float) this.values[i];
+		}
+		return new FloatVector(result);
+	}
+
+	@Override
+	public DoubleVector asDouble() {
+		return new DoubleVector(Arrays.stream(this.values).mapToDouble(i -> i).toArray());
 	}
 
 	/**
-	 * Utility method that applies a unary operation to all the values in this vector.
+	 * Utility method that checks if the given size is the same as the size of this vector.
+	 * 
+	 * @param size Size of the other vector.
 	 * 
-	 * @param operator The mapper function.
+	 * @return The size of this vector.
 	 * 
-	 * @return The resulting {@link IntStream}.
+	 * @throws VectorMathException if the given size is different from the size of this vector.
 	 */
-	private IntStream mapEach(IntUnaryOperator operator) {
-		return Arrays.stream(this.values).map(operator);
+	private int checkSize(int size) {
+		if(size != this.size()) {
+			throw new VectorMathException("Vectors must have the same size");
+		}
+		return size;
 	}
 
 	@Override
@@ -0,0 +1,153 @@
+package io.github.vecmatlib.vector;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Class that gives the off-heap matrices access to the memory of
+ * {@link OffHeapArena arenas} and {@link OffHeapDoubleVector off-heap vectors}.
+ * 
+ * <p> This class is not part of the public API. Its instance can only be
+ * obtained by the classes of the {@code io.github.vecmatlib.matrix} package,
+ * which must follow the same rules as the vector package: the buffers are
+ * never exposed, and they are only accessed between a call to one of the
+ * {@code acquire} methods and the corresponding {@code release} method.
+ * 
+ * @author Nico
+ */
+public final class OffHeapAccess {
+
+	/**Package whose classes can get the instance of this class */
+	private static final String TRUSTED_PACKAGE = "io.github.vecmatlib.matrix";
+	/**The only instance of this class */
+	private static final OffHeapAccess INSTANCE = new OffHeapAccess();
+
+	private OffHeapAccess() {}
+
+	/**
+	 * Gets the instance of this class.
+	 * 
+	 * @return The instance of this class.
+	 * 
+	 * @throws IllegalCallerException if the caller is not a class of the library's matrix package.
+	 */
+	public static OffHeapAccess get() {
+		Class<?> caller = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE).getCallerClass();
+		if(!caller.getPackageName().equals(TRUSTED_PACKAGE) || caller.getClassLoader() != OffHeapAccess.class.getClassLoader())
+			throw new IllegalCallerException(caller.getName() + " cannot access the memory of off-heap arenas");
+		return INSTANCE;
+	}
+
+	/**
+	 * Allocates a buffer of the given number of doubles in the given arena.
+	 * 
+	 * @param arena The arena in which the buffer is allocated.
+	 * @param count Number of doubles in the buffer.
+	 * 
+	 * @return A direct buffer in native byte order whose elements are zero.
+	 * 
+	 * @throws IllegalArgumentException if the given count is negative or
+	 * 		greater than {@link OffHeapArena#MAX_DOUBLES}.
+	 * @throws IllegalStateException if the given arena has been closed.
+	 */
+	public DoubleBuffer allocateDoubles(OffHeapArena arena, int count) {
+		return arena.allocateDoubles(count);
+	}
+
+	/**
+	 * Maps a region of the given file in memory in the given arena.
+	 * 
+	 * @param arena The arena in which the region is mapped.
+	 * @param channel The channel of the file to map.
+	 * @param mode Whether the region is mapped read-only or read-write.
+	 * @param position Position in the file at which the region starts.
+	 * @param size Size of the region in bytes.
+	 * 
+	 * @return The mapped region.
+	 * 
+	 * @throws IOException if an I/O error occurs.
+	 * @throws IllegalStateException if the given arena has been closed.
+	 */
+	public MappedByteBuffer map(OffHeapArena arena, FileChannel channel, FileChannel.MapMode mode, long position, long size) throws IOException {
+		return arena.map(channel, mode, position, size);
+	}
+
+	/**
+	 * Gets the buffer that stores the elements of the given vector.
+	 * 
+	 * @param vector The vector.
+	 * 
+	 * @return The buffer of the given vector, which must not be modified with relative operations.
+	 */
+	public DoubleBuffer buffer(OffHeapDoubleVector vector) {
+		return vector.buffer();
+	}
+
+	/**
+	 * Prevents the given arena from releasing its memory until it is released.
+	 * 
+	 * @param arena The arena.
+	 * 
+	 * @throws IllegalStateException if the given arena has been closed.
+	 */
+	public void acquire(OffHeapArena arena) {
+		arena.acquire();
+	}
+
+	/**
+	 * Prevents both the given arenas from releasing their memory until they are released.
+	 * 
+	 * @param first The first arena.
+	 * @param second The second arena.
+	 * 
+	 * @throws IllegalStateException if one of the arenas has been closed.
+	 */
+	public void acquire(OffHeapArena first, OffHeapArena second) {
+		OffHeapArena.acquire(first, second);
+	}
+
+	/**
+	 * Prevents all the given arenas from releasing their memory until they are released.
+	 * 
+	 * @param first The first arena.
+	 * @param second The second arena.
+	 * @param third The third arena.
+	 * 
+	 * @throws IllegalStateException if one of the arenas has been closed.
+	 */
+	public void acquire(OffHeapArena first, OffHeapArena second, OffHeapArena third) {
+		OffHeapArena.acquire(first, second, third);
+	}
+
+	/**
+	 * Releases an arena acquired with {@link #acquire(OffHeapArena)}.
+	 * 
+	 * @param arena The arena.
+	 */
+	public void release(OffHeapArena arena) {
+		arena.release();
+	}
+
+	/**
+	 * Releases the arenas acquired with {@link #acquire(OffHeapArena, OffHeapArena)}.
+	 * 
+	 * @param first The first arena.
+	 * @param second The second arena.
+	 */
+	public void release(OffHeapArena first, OffHeapArena second) {
+		OffHeapArena.release(first, second);
+	}
+
+	/**
+	 * Releases the arenas acquired with {@link #acquire(OffHeapArena, OffHeapArena, OffHeapArena)}.
+	 * 
+	 * @param first The first arena.
+	 * @param second The second arena.
+	 * @param third The third arena.
+	 */
+	public void release(OffHeapArena first, OffHeapArena second, OffHeapArena third) {
+		OffHeapArena.release(first, second, third);
+	}
+}
@@ -0,0 +1,304 @@
+package io.github.vecmatlib.vector;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class that controls the lifetime of the native memory used by
+ * off-heap vectors and matrices.
+ * 
+ * <p> Every off-heap vector or matrix is allocated in an arena, and so
+ * are the results of the operations performed on it. The memory is
+ * allocated outside of the java heap, so it is not copied or scanned by
+ * the garbage collector, and is released all at once when the arena is
+ * closed. Arenas are meant to be used in a try-with-resources statement.
+ * 
+ * <pre>{@code
+ * try(OffHeapArena arena = new OffHeapArena()) {
+ *     OffHeapDoubleVector v = new OffHeapDoubleVector(arena, 1 << 20);
+ *     ...
+ * }
+ * }</pre>
+ * 
+ * <p> Off-heap matrices can also be stored in files that are mapped in memory.
+ * The mapped regions are bound to an arena as well and are unmapped when the arena is closed.
+ * 
+ * <p> Vectors and matrices throw {@link IllegalStateException} when they
+ * are used after their arena has been closed. The memory of an arena is never
+ * exposed outside of the vectors and matrices allocated in it, and every operation
+ * holds the arena open while it accesses that memory. Closing an arena while
+ * other threads are operating on its vectors and matrices waits for those
+ * operations to finish before releasing the memory, operations started after
+ * that throw {@link IllegalStateException}.
+ * 
+ * @author Nico
+ */
+public final class OffHeapArena implements AutoCloseable {
+
+	/**Maximum number of doubles in a single allocation */
+	public static final int MAX_DOUBLES = Integer.MAX_VALUE / Double.BYTES;
+
+	/**Method used to release a direct buffer before it is garbage collected, or null if it is not available */
+	private static final Method INVOKE_CLEANER;
+	/**Instance of {@code sun.misc.Unsafe} on which {@link #INVOKE_CLEANER} is called */
+	private static final Object UNSAFE;
+
+	static {
+		Method invokeCleaner = null;
+		Object unsafe = null;
+		try {
+			Class<?> type = Class.forName("sun.misc.Unsafe");
+			Field field = type.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			unsafe = field.get(null);
+			invokeCleaner = type.getMethod("invokeCleaner", ByteBuffer.class);
+		} catch(ReflectiveOperationException | RuntimeException e) {
+			// The memory will be released by the garbage collector
+		}
+		INVOKE_CLEANER = invokeCleaner;
+		UNSAFE = unsafe;
+	}
+
+	/**Buffers allocated in this arena */
+	private final List<ByteBuffer> allocations = new ArrayList<>();
+	/**Regions of files mapped in this arena */
+	private final List<MappedByteBuffer> mappings = new ArrayList<>();
+	/**Number of operations that are currently accessing the memory of this arena */
+	private final AtomicInteger users = new AtomicInteger();
+	/**Number of bytes allocated in this arena */
+	private long allocatedBytes;
+	/**Set to false when the arena is closed */
+	private volatile boolean alive = true;
+
+	/**
+	 * Allocates a buffer of the given number of doubles.
+	 * The elements of the buffer are initially zero.
+	 * 
+	 * <p> The buffer is released when the arena is closed, so it must
+	 * only be accessed between {@link #acquire()} and {@link #release()}.
+	 * 
+	 * @param count Number of doubles in the buffer.
+	 * 
+	 * @return A direct buffer in native byte order.
+	 * 
+	 * @throws IllegalArgumentException if the given count is negative or
+	 * 		greater than {@link #MAX_DOUBLES}.
+	 * @throws IllegalStateException if this arena has been closed.
+	 */
+	synchronized DoubleBuffer allocateDoubles(int count) {
+		if(count < 0 || count > MAX_DOUBLES)
+			throw new IllegalArgumentException("Cannot allocate " + count + " doubles");
+		this.checkAlive();
+		ByteBuffer buffer = ByteBuffer.allocateDirect(count * Double.BYTES).order(ByteOrder.nativeOrder());
+		this.allocations.add(buffer);
+		this.allocatedBytes += buffer.capacity();
+		return buffer.asDoubleBuffer();
+	}
+
+	/**
+	 * Maps a region of the given file in memory.
+	 * 
+	 * <p> The region is unmapped when the arena is closed, so it must
+	 * only be accessed between {@link #acquire()} and {@link #release()}.
+	 * The pages of the region are only read from the file when they are accessed,
+	 * and the channel can be closed once the region has been mapped.
+	 * 
+	 * @param channel The channel of the file to map.
+	 * @param mode Whether the region is mapped read-only or read-write.
+	 * @param position Position in the file at which the region starts.
+	 * @param size Size of the region in bytes.
+	 * 
+	 * @return The mapped region.
+	 * 
+	 * @throws IOException if an I/O error occurs.
+	 * @throws IllegalStateException if this arena has been closed.
+	 */
+	synchronized MappedByteBuffer map(FileChannel channel, FileChannel.MapMode mode, long position, long size) throws IOException {
+		this.checkAlive();
+		MappedByteBuffer buffer = channel.map(mode, position, size);
+		this.mappings.add(buffer);
+		return buffer;
+	}
+
+	/**
+	 * Prevents this arena from releasing its memory until {@link #release()} is called.
+	 * Every call to this method must be followed by a call to {@link #release()}.
+	 * 
+	 * @throws IllegalStateException if this arena has been closed.
+	 */
+	void acquire() {
+		this.users.incrementAndGet();
+		if(!this.alive) {
+			this.release();
+			throw new IllegalStateException("The arena has been closed");
+		}
+	}
+
+	/**
+	 * Ends an access started by {@link #acquire()}.
+	 * If this arena is being closed, the last access to end lets it release its memory.
+	 */
+	void release() {
+		if(this.users.decrementAndGet() == 0 && !this.alive) {
+			synchronized(this) {
+				this.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Acquires both the given arenas, which may be the same arena.
+	 * See {@link #acquire()}.
+	 * 
+	 * @param first The first arena.
+	 * @param second The second arena.
+	 * 
+	 * @throws IllegalStateException if one of the arenas has been closed.
+	 */
+	static void acquire(OffHeapArena first, OffHeapArena second) {
+		first.acquire();
+		try {
+			second.acquire();
+		} catch(IllegalStateException e) {
+			first.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Acquires all the given arenas, which may be the same arena.
+	 * See {@link #acquire()}.
+	 * 
+	 * @param first The first arena.
+	 * @param second The second arena.
+	 * @param third The third arena.
+	 * 
+	 * @throws IllegalStateException if one of the arenas has been closed.
+	 */
+	static void acquire(OffHeapArena first, OffHeapArena second, OffHeapArena third) {
+		acquire(first, second);
+		try {
+			third.acquire();
+		} catch(IllegalStateException e) {
+			release(first, second);
+			throw e;
+		}
+	}
+
+	/**
+	 * Releases both the given arenas.
+	 * See {@link #release()}.
+	 * 
+	 * @param first The first arena.
+	 * @param second The second arena.
+	 */
+	static void release(OffHeapArena first, OffHeapArena second) {
+		second.release();
+		first.release();
+	}
+
+	/**
+	 * Releases all the given arenas.
+	 * See {@link #release()}.
+	 * 
+	 * @param first The first arena.
+	 * @param second The second arena.
+	 * @param third The third arena.
+	 */
+	static void release(OffHeapArena first, OffHeapArena second, OffHeapArena third) {
+		third.release();
+		release(first, second);
+	}
+
+	/**
+	 * Gets the number of bytes allocated in this arena that have not been released yet.
+	 * Regions of files mapped in memory are not included.
+	 * 
+	 * @return The number of bytes held by this arena.
+	 */
+	public synchronized long allocatedBytes() {
+		return this.allocatedBytes;
+	}
+
+	/**
+	 * Checks if this arena has not been closed yet.
+	 * 
+	 * @return True if this arena can still be used, otherwise false.
+	 */
+	public boolean isAlive() {
+		return this.alive;
+	}
+
+	/**
+	 * Checks that this arena has not been closed.
+	 * 
+	 * @throws IllegalStateException if this arena has been closed.
+	 */
+	public void checkAlive() {
+		if(!this.alive)
+			throw new IllegalStateException("The arena has been closed");
+	}
+
+	/**
+	 * Closes this arena, releases the memory of all the vectors and matrices
+	 * allocated in it and unmaps all the regions of files mapped in it.
+	 * 
+	 * <p> If other threads are operating on the vectors and matrices of this arena,
+	 * this method waits for those operations to finish before releasing the memory.
+	 * Closing an arena that is already closed has no effect.
+	 */
+	@Override
+	public synchronized void close() {
+		if(this.alive) {
+			this.alive = false;
+			boolean interrupted = false;
+			while(this.users.get() != 0) {
+				try {
+					this.wait();
+				} catch(InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			for(ByteBuffer buffer : this.allocations) {
+				if(free(buffer))
+					this.allocatedBytes -= buffer.capacity();
+			}
+			for(MappedByteBuffer buffer : this.mappings) {
+				free(buffer);
+			}
+			this.allocations.clear();
+			this.mappings.clear();
+			if(interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Releases the memory of the given buffer, or unmaps it if it is a mapped region.
+	 * 
+	 * @param buffer The buffer to release.
+	 * 
+	 * @return True if the buffer was released, false if it can only be released by the garbage collector.
+	 */
+	private static boolean free(ByteBuffer buffer) {
+		if(INVOKE_CLEANER != null) {
+			try {
+				INVOKE_CLEANER.invoke(UNSAFE, buffer);
+				return true;
+			} catch(ReflectiveOperationException e) {
+				// The buffer will be released by the garbage collector
+			}
+		}
+		return false;
+	}
+}
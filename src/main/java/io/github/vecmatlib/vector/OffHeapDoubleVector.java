@@ -0,0 +1,444 @@
+package io.github.vecmatlib.vector;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * Class that represents an N-dimensional double vector whose elements
+ * are stored outside of the java heap.
+ * 
+ * <p> The elements are stored in a direct buffer allocated in an
+ * {@link OffHeapArena}. The vector does not put any pressure on the
+ * garbage collector, and its memory is released when its arena is closed.
+ * Using a vector after its arena has been closed throws an {@link IllegalStateException}.
+ * 
+ * <p> Operations return a new vector allocated in the same arena as the vector
+ * on which they are invoked. The overloads that take a destination vector,
+ * {@link #set(int, double)}, {@link #scaleInPlace(double)} and
+ * {@link #axpy(double, OffHeapDoubleVector)} modify an existing vector
+ * and do not allocate any memory.
+ * 
+ * @author Nico
+ */
+public final class OffHeapDoubleVector implements VectorDoubleOperations<OffHeapDoubleVector> {
+
+	/**Arena that owns the memory of this vector */
+	private final OffHeapArena arena;
+	/**Vector values */
+	private final DoubleBuffer values;
+
+	/**
+	 * Allocates a vector of the given size in the given arena.
+	 * Every element of the vector is initially zero.
+	 * 
+	 * @param arena The arena in which the vector is allocated.
+	 * @param size Size of the vector.
+	 * 
+	 * @throws VectorMathException if the given size is not greater than zero.
+	 * @throws IllegalArgumentException if the vector is too large to be stored in a single buffer.
+	 * @throws IllegalStateException if the given arena has been closed.
+	 * @throws NullPointerException if the given arena is null.
+	 */
+	public OffHeapDoubleVector(OffHeapArena arena, int size) {
+		if(size <= 0)
+			throw new VectorMathException("A vector cannot be empty");
+		this.arena = arena;
+		this.values = arena.allocateDoubles(size);
+	}
+
+	/**
+	 * Allocates a copy of the given vector in the given arena.
+	 * 
+	 * @param arena The arena in which the vector is allocated.
+	 * @param vector The vector to copy.
+	 * 
+	 * @throws IllegalStateException if the given arena has been closed.
+	 * @throws NullPointerException if the given arena or the given vector are null.
+	 */
+	public OffHeapDoubleVector(OffHeapArena arena, DoubleVector vector) {
+		this(arena, vector.size());
+		arena.acquire();
+		try {
+			for(int i = 0; i < vector.size(); i++) {
+				this.values.put(i, vector.element(i));
+			}
+		} finally {
+			arena.release();
+		}
+	}
+
+	/**
+	 * Gets the arena that owns the memory of this vector.
+	 * 
+	 * @return The arena in which this vector was allocated.
+	 */
+	public OffHeapArena arena() {
+		return this.arena;
+	}
+
+	/**
+	 * Gets the buffer that stores the elements of this vector.
+	 * The buffer is not copied and must only be accessed while the arena of this vector is acquired.
+	 * 
+	 * @return The buffer that stores the elements of this vector.
+	 */
+	DoubleBuffer buffer() {
+		return this.values;
+	}
+
+	/**
+	 * Gets the size of this vector.
+	 * 
+	 * @return The size of this vector.
+	 */
+	public int size() {
+		return this.values.capacity();
+	}
+
+	/**
+	 * Get the i-th element of this vector.
+	 * 
+	 * @param i Index of the element to get.
+	 * 
+	 * @return The i-th element of this vector.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given i is less than 0
+	 * 		or greater than the vector's size.
+	 * @throws IllegalStateException if the arena of this vector has been closed.
+	 */
+	public double element(int i) {
+		this.arena.acquire();
+		try {
+			if(i >= 0 && i < this.size()) {
+				return this.values.get(i);
+			} else {
+				throw new IndexOutOfBoundsException(i + " is out of the bounds of the vector");
+			}
+		} finally {
+			this.arena.release();
+		}
+	}
+
+	/**
+	 * Sets the i-th element of this vector, modifying this vector.
+	 * 
+	 * @param i Index of the element to set.
+	 * @param value The new value of the element.
+	 * 
+	 * @return This vector.
+	 * 
+	 * @throws IndexOutOfBoundsException if the given i is less than 0
+	 * 		or greater than the vector's size.
+	 * @throws IllegalStateException if the arena of this vector has been closed.
+	 */
+	public OffHeapDoubleVector set(int i, double value) {
+		this.arena.acquire();
+		try {
+			if(i >= 0 && i < this.size()) {
+				this.values.put(i, value);
+				return this;
+			} else {
+				throw new IndexOutOfBoundsException(i + " is out of the bounds of the vector");
+			}
+		} finally {
+			this.arena.release();
+		}
+	}
+
+	@Override
+	public OffHeapDoubleVector plus(OffHeapDoubleVector vector) {
+		this.check(vector);
+		return this.plus(vector, this.allocate());
+	}
+
+	@Override
+	public OffHeapDoubleVector negated() {
+		return this.negated(this.allocate());
+	}
+
+	@Override
+	public OffHeapDoubleVector minus(OffHeapDoubleVector vector) {
+		this.check(vector);
+		return this.minus(vector, this.allocate());
+	}
+
+	@Override
+	public OffHeapDoubleVector multipliedBy(double k) {
+		return this.multipliedBy(k, this.allocate());
+	}
+
+	@Override
+	public OffHeapDoubleVector dividedBy(double k) {
+		return this.dividedBy(k, this.allocate());
+	}
+
+	/**
+	 * Adds the given vector to this one and stores the result in the given destination vector.
+	 * 
+	 * <p> Unlike {@link #plus(OffHeapDoubleVector)}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector or the given one.
+	 * 
+	 * @param vector The second operand of the sum.
+	 * @param dest The vector where the result is stored.
+	 * 
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vectors are not the same size as this one.
+	 * @throws IllegalStateException if the arena of one of the vectors has been closed.
+	 */
+	public OffHeapDoubleVector plus(OffHeapDoubleVector vector, OffHeapDoubleVector dest) {
+		this.check(vector);
+		this.check(dest);
+		OffHeapArena.acquire(this.arena, vector.arena, dest.arena);
+		try {
+			VectorKernels.INSTANCE.add(this.values, vector.values, dest.values);
+		} finally {
+			OffHeapArena.release(this.arena, vector.arena, dest.arena);
+		}
+		return dest;
+	}
+
+	/**
+	 * Negates this vector and stores the result in the given destination vector.
+	 * 
+	 * <p> Unlike {@link #negated()}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector.
+	 * 
+	 * @param dest The vector where the result is stored.
+	 * 
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 * @throws IllegalStateException if the arena of one of the vectors has been closed.
+	 */
+	public OffHeapDoubleVector negated(OffHeapDoubleVector dest) {
+		this.check(dest);
+		OffHeapArena.acquire(this.arena, dest.arena);
+		try {
+			VectorKernels.INSTANCE.negate(this.values, dest.values);
+		} finally {
+			OffHeapArena.release(this.arena, dest.arena);
+		}
+		return dest;
+	}
+
+	/**
+	 * Subtracts the given vector from this one and stores the result in the given destination vector.
+	 * 
+	 * <p> Unlike {@link #minus(OffHeapDoubleVector)}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector or the given one.
+	 * 
+	 * @param vector The second operand of the subtraction.
+	 * @param dest The vector where the result is stored.
+	 * 
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vectors are not the same size as this one.
+	 * @throws IllegalStateException if the arena of one of the vectors has been closed.
+	 */
+	public OffHeapDoubleVector minus(OffHeapDoubleVector vector, OffHeapDoubleVector dest) {
+		this.check(vector);
+		this.check(dest);
+		OffHeapArena.acquire(this.arena, vector.arena, dest.arena);
+		try {
+			VectorKernels.INSTANCE.subtract(this.values, vector.values, dest.values);
+		} finally {
+			OffHeapArena.release(this.arena, vector.arena, dest.arena);
+		}
+		return dest;
+	}
+
+	/**
+	 * Multiplies this vector by the given scalar and stores the result in the given destination vector.
+	 * 
+	 * <p> Unlike {@link #multipliedBy(double)}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector.
+	 * 
+	 * @param k The scalar.
+	 * @param dest The vector where the result is stored.
+	 * 
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 * @throws IllegalStateException if the arena of one of the vectors has been closed.
+	 */
+	public OffHeapDoubleVector multipliedBy(double k, OffHeapDoubleVector dest) {
+		this.check(dest);
+		OffHeapArena.acquire(this.arena, dest.arena);
+		try {
+			VectorKernels.INSTANCE.multiply(this.values, k, dest.values);
+		} finally {
+			OffHeapArena.release(this.arena, dest.arena);
+		}
+		return dest;
+	}
+
+	/**
+	 * Divides this vector by the given scalar and stores the result in the given destination vector.
+	 * 
+	 * <p> Unlike {@link #dividedBy(double)}, this method does not allocate a new vector.
+	 * The destination vector is overwritten and may be this vector.
+	 * 
+	 * @param k The scalar.
+	 * @param dest The vector where the result is stored.
+	 * 
+	 * @return The destination vector.
+	 * 
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 * @throws IllegalStateException if the arena of one of the vectors has been closed.
+	 */
+	public OffHeapDoubleVector dividedBy(double k, OffHeapDoubleVector dest) {
+		this.check(dest);
+		OffHeapArena.acquire(this.arena, dest.arena);
+		try {
+			VectorKernels.INSTANCE.divide(this.values, k, dest.values);
+		} finally {
+			OffHeapArena.release(this.arena, dest.arena);
+		}
+		return dest;
+	}
+
+	/**
+	 * Multiplies this vector by the given scalar, modifying this vector.
+	 * 
+	 * @param k The scalar.
+	 * 
+	 * @return This vector.
+	 * 
+	 * @throws IllegalStateException if the arena of this vector has been closed.
+	 */
+	public OffHeapDoubleVector scaleInPlace(double k) {
+		return this.multipliedBy(k, this);
+	}
+
+	/**
+	 * Adds the given vector multiplied by the given scalar to this vector,
+	 * modifying this vector. This is the {@code y = alpha * x + y} operation
+	 * used by iterative algorithms.
+	 * 
+	 * @param alpha The scalar.
+	 * @param x The vector multiplied by the scalar.
+	 * 
+	 * @return This vector.
+	 * 
+	 * @throws VectorMathException if the given vector is not the same size as this one.
+	 * @throws IllegalStateException if the arena of one of the vectors has been closed.
+	 */
+	public OffHeapDoubleVector axpy(double alpha, OffHeapDoubleVector x) {
+		this.check(x);
+		OffHeapArena.acquire(this.arena, x.arena);
+		try {
+			VectorKernels.INSTANCE.axpy(alpha, x.values, this.values);
+		} finally {
+			OffHeapArena.release(this.arena, x.arena);
+		}
+		return this;
+	}
+
+	@Override
+	public double dotProduct(OffHeapDoubleVector vector) {
+		this.check(vector);
+		OffHeapArena.acquire(this.arena, vector.arena);
+		try {
+			return VectorKernels.INSTANCE.dot(this.values, vector.values);
+		} finally {
+			OffHeapArena.release(this.arena, vector.arena);
+		}
+	}
+
+	@Override
+	public double lengthSquared() {
+		return this.dotProduct(this);
+	}
+
+	/**
+	 * Copies the elements of this vector into a new vector on the java heap.
+	 * 
+	 * @return A {@link DoubleVector} with the same elements as this vector.
+	 * 
+	 * @throws IllegalStateException if the arena of this vector has been closed.
+	 */
+	public DoubleVector toDoubleVector() {
+		return new DoubleVector(this.copyValues());
+	}
+
+	/**
+	 * Copies the elements of this vector into a new array.
+	 * 
+	 * @return An array containing the elements of this vector.
+	 * 
+	 * @throws IllegalStateException if the arena of this vector has been closed.
+	 */
+	private double[] copyValues() {
+		double[] result = new double[this.size()];
+		this.arena.acquire();
+		try {
+			this.values.get(0, result);
+		} finally {
+			this.arena.release();
+		}
+		return result;
+	}
+
+	/**
+	 * Allocates a vector of the same size as this one in the same arena.
+	 * 
+	 * @return A new vector whose elements are zero.
+	 */
+	private OffHeapDoubleVector allocate() {
+		return new OffHeapDoubleVector(this.arena, this.size());
+	}
+
+	/**
+	 * Utility method that checks if the given vector has the same size as this one
+	 * and if the arenas of both vectors are still alive.
+	 * 
+	 * @param vector The other vector.
+	 * 
+	 * @throws VectorMathException if the given vector has a different size than this vector.
+	 * @throws IllegalStateException if the arena of one of the vectors has been closed.
+	 */
+	private void check(OffHeapDoubleVector vector) {
+		this.arena.checkAlive();
+		vector.arena.checkAlive();
+		if(vector.size() != this.size()) {
+			throw new VectorMathException("Vectors must have the same size");
+		}
+	}
+
+	@Override
+	public String toString() {
+		return this.arena.isAlive() ? "OffHeapDoubleVector" + Arrays.toString(this.copyValues()) : "OffHeapDoubleVector[closed]";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if(obj instanceof OffHeapDoubleVector that && this.size() == that.size()) {
+			OffHeapArena.acquire(this.arena, that.arena);
+			try {
+				for(int i = 0; i < this.size(); i++) {
+					if(Double.doubleToLongBits(this.values.get(i)) != Double.doubleToLongBits(that.values.get(i)))
+						return false;
+				}
+				return true;
+			} finally {
+				OffHeapArena.release(this.arena, that.arena);
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 1;
+		this.arena.acquire();
+		try {
+			for(int i = 0; i < this.size(); i++) {
+				result = 31 * result + Double.hashCode(this.values.get(i));
+			}
+		} finally {
+			this.arena.release();
+		}
+		return result;
+	}
+}
@@ -0,0 +1,221 @@
+package io.github.vecmatlib.vector;
+
+import java.util.Objects;
+
+/**
+ * Algorithm used to add the terms of a dot product.
+ * 
+ * <p> The default dot product of {@link DoubleVector} uses compensated summation and the one of
+ * {@link FloatVector} adds its terms in float precision, which loses several digits on
+ * vectors with millions of elements. The overloads of {@code dotProduct}, {@code lengthSquared},
+ * {@code length} and {@code angle} of the arbitrary-length vectors and of the matrix-vector
+ * products that take a summation mode let the caller choose the trade-off between speed
+ * and accuracy. These overloads are always computed sequentially and their result only
+ * depends on the order of the elements.
+ * 
+ * <p> From fastest to most accurate, the error bound of adding n terms is proportional to
+ * n for {@link #NAIVE}, to log(n) for {@link #PAIRWISE} and does not depend on n for
+ * {@link #KAHAN_BABUSKA}, as long as n is small compared to the inverse of the precision
+ * of the elements. In float precision this only holds for up to about a million terms,
+ * after which the compensation itself loses digits. {@link #DOUBLE_ACCUMULATOR} keeps float
+ * data in float arrays but computes the products and the sum in double precision, which
+ * is the most accurate mode for long float vectors at almost the cost of a naive sum.
+ * 
+ * @author Nico
+ */
+public enum Summation {
+
+	/**
+	 * Adds the terms from first to last in the precision of the elements.
+	 */
+	NAIVE {
+		@Override
+		double sum(double[] a, int aOffset, double[] b, int bOffset, int length) {
+			double sum = 0.0;
+			for(int i = 0; i < length; i++) {
+				sum += a[aOffset + i] * b[bOffset + i];
+			}
+			return sum;
+		}
+
+		@Override
+		double sum(float[] a, int aOffset, float[] b, int bOffset, int length) {
+			float sum = 0.0f;
+			for(int i = 0; i < length; i++) {
+				sum += a[aOffset + i] * b[bOffset + i];
+			}
+			return sum;
+		}
+	},
+
+	/**
+	 * Recursively adds the sums of the two halves of the terms in the precision of the elements.
+	 * Blocks of {@link #PAIRWISE_BLOCK} terms are added naively.
+	 */
+	PAIRWISE {
+		@Override
+		double sum(double[] a, int aOffset, double[] b, int bOffset, int length) {
+			if(length <= PAIRWISE_BLOCK)
+				return NAIVE.sum(a, aOffset, b, bOffset, length);
+			int half = length >>> 1;
+			return this.sum(a, aOffset, b, bOffset, half) + this.sum(a, aOffset + half, b, bOffset + half, length - half);
+		}
+
+		@Override
+		double sum(float[] a, int aOffset, float[] b, int bOffset, int length) {
+			return this.floatSum(a, aOffset, b, bOffset, length);
+		}
+
+		/**
+		 * Pairwise sum in float precision.
+		 * 
+		 * @param a The first array.
+		 * @param aOffset Index of the first element of the first array.
+		 * @param b The second array.
+		 * @param bOffset Index of the first element of the second array.
+		 * @param length Number of terms.
+		 * 
+		 * @return The sum of the terms.
+		 */
+		private float floatSum(float[] a, int aOffset, float[] b, int bOffset, int length) {
+			if(length <= PAIRWISE_BLOCK)
+				return (float) NAIVE.sum(a, aOffset, b, bOffset, length);
+			int half = length >>> 1;
+			return this.floatSum(a, aOffset, b, bOffset, half) + this.floatSum(a, aOffset + half, b, bOffset + half, length - half);
+		}
+	},
+
+	/**
+	 * Adds the terms with the compensated summation algorithm of Kahan and Babuska
+	 * (also known as Neumaier's algorithm) in the precision of the elements.
+	 * The compensation also accounts for terms that are larger than the running sum.
+	 */
+	KAHAN_BABUSKA {
+		@Override
+		double sum(double[] a, int aOffset, double[] b, int bOffset, int length) {
+			double sum = 0.0, compensation = 0.0;
+			for(int i = 0; i < length; i++) {
+				double term = a[aOffset + i] * b[bOffset + i];
+				double t = sum + term;
+				if(Math.abs(sum) >= Math.abs(term)) {
+					compensation += (sum - t) + term;
+				} else {
+					compensation += (term - t) + sum;
+				}
+				sum = t;
+			}
+			double result = sum + compensation;
+			// The compensation is NaN if the sum overflows to an infinite value
+			return Double.isNaN(result) && Double.isInfinite(sum) ? sum : result;
+		}
+
+		@Override
+		double sum(float[] a, int aOffset, float[] b, int bOffset, int length) {
+			float sum = 0.0f, compensation = 0.0f;
+			for(int i = 0; i < length; i++) {
+				float term = a[aOffset + i] * b[bOffset + i];
+				float t = sum + term;
+				if(Math.abs(sum) >= Math.abs(term)) {
+					compensation += (sum - t) + term;
+				} else {
+					compensation += (term - t) + sum;
+				}
+				sum = t;
+			}
+			float result = sum + compensation;
+			// The compensation is NaN if the sum overflows to an infinite value
+			return Float.isNaN(result) && Float.isInfinite(sum) ? sum : result;
+		}
+	},
+
+	/**
+	 * Converts float elements to double and adds their products in double precision.
+	 * The product of two floats is exact in double precision, so the only rounding
+	 * errors are the ones of the additions. Double elements are added like {@link #NAIVE}.
+	 */
+	DOUBLE_ACCUMULATOR {
+		@Override
+		double sum(double[] a, int aOffset, double[] b, int bOffset, int length) {
+			return NAIVE.sum(a, aOffset, b, bOffset, length);
+		}
+
+		@Override
+		double sum(float[] a, int aOffset, float[] b, int bOffset, int length) {
+			double sum = 0.0;
+			for(int i = 0; i < length; i++) {
+				sum += (double) a[aOffset + i] * b[bOffset + i];
+			}
+			return sum;
+		}
+	};
+
+	/**Number of terms below which {@link #PAIRWISE} adds the terms naively */
+	public static final int PAIRWISE_BLOCK = 64;
+
+	/**
+	 * Computes the dot product between ranges of the given arrays with this summation mode.
+	 * 
+	 * @param a The first array.
+	 * @param aOffset Index of the first element of the first array.
+	 * @param b The second array.
+	 * @param bOffset Index of the first element of the second array.
+	 * @param length Number of elements to multiply.
+	 * 
+	 * @return The sum of {@code a[aOffset + i] * b[bOffset + i]} for {@code 0 <= i < length}.
+	 * 
+	 * @throws IndexOutOfBoundsException if one of the ranges is out of the bounds of its array.
+	 */
+	public double dot(double[] a, int aOffset, double[] b, int bOffset, int length) {
+		Objects.checkFromIndexSize(aOffset, length, a.length);
+		Objects.checkFromIndexSize(bOffset, length, b.length);
+		return this.sum(a, aOffset, b, bOffset, length);
+	}
+
+	/**
+	 * Computes the dot product between ranges of the given arrays with this summation mode.
+	 * 
+	 * <p> The result is returned as a double so that the precision of {@link #DOUBLE_ACCUMULATOR}
+	 * is not lost. The other modes compute the result in float precision.
+	 * 
+	 * @param a The first array.
+	 * @param aOffset Index of the first element of the first array.
+	 * @param b The second array.
+	 * @param bOffset Index of the first element of the second array.
+	 * @param length Number of elements to multiply.
+	 * 
+	 * @return The sum of {@code a[aOffset + i] * b[bOffset + i]} for {@code 0 <= i < length}.
+	 * 
+	 * @throws IndexOutOfBoundsException if one of the ranges is out of the bounds of its array.
+	 */
+	public double dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+		Objects.checkFromIndexSize(aOffset, length, a.length);
+		Objects.checkFromIndexSize(bOffset, length, b.length);
+		return this.sum(a, aOffset, b, bOffset, length);
+	}
+
+	/**
+	 * Adds the products of the given ranges, which have already been checked.
+	 * 
+	 * @param a The first array.
+	 * @param aOffset Index of the first element of the first array.
+	 * @param b The second array.
+	 * @param bOffset Index of the first element of the second array.
+	 * @param length Number of elements to multiply.
+	 * 
+	 * @return The sum of the products.
+	 */
+	abstract double sum(double[] a, int aOffset, double[] b, int bOffset, int length);
+
+	/**
+	 * Adds the products of the given ranges, which have already been checked.
+	 * 
+	 * @param a The first array.
+	 * @param aOffset Index of the first element of the first array.
+	 * @param b The second array.
+	 * @param bOffset Index of the first element of the second array.
+	 * @param length Number of elements to multiply.
+	 * 
+	 * @return The sum of the products.
+	 */
+	abstract double sum(float[] a, int aOffset, float[] b, int bOffset, int length);
+}
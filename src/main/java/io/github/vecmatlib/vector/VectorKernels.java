@@ -0,0 +1,882 @@
+package io.github.vecmatlib.vector;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Class that contains the kernels used by the arbitrary-length vectors
+ * to operate on their arrays.
+ * 
+ * <p> This class is a plain scalar implementation. If the
+ * {@code jdk.incubator.vector} module is enabled with
+ * {@code --add-modules jdk.incubator.vector}, {@link #INSTANCE} is
+ * replaced by a subclass that uses the JDK Vector API. The accelerated
+ * kernels are only loaded through reflection, so the library does not
+ * depend on the incubator module. Setting the system property
+ * {@code vecmatlib.simd} to {@code false} always selects this implementation.
+ * 
+ * <p> Element-wise operations give the same result with both implementations.
+ * The accelerated kernels compute the dot product of long vectors by
+ * accumulating its terms in several lanes, so the result may differ
+ * in the last bits. Short vectors always use the scalar dot product.
+ * 
+ * <p> All kernels expect their arguments to have the same length.
+ * Every kernel on arrays operates on a range of indices and is overridden by
+ * the accelerated implementation. The final overloads that take whole arrays
+ * split large arrays across threads as described in {@link VectorParallelism}.
+ * The overloads that take a {@link DoubleBuffer} operate in place on
+ * the native memory of the off-heap vectors and are always scalar.
+ * 
+ * @author Nico
+ */
+class VectorKernels {
+
+	/**The kernels used by the vector classes */
+	static final VectorKernels INSTANCE = load();
+
+	/**
+	 * Package-private constructor used by the accelerated implementation.
+	 */
+	VectorKernels() {}
+
+	/**
+	 * Loads the accelerated kernels if the {@code jdk.incubator.vector} module
+	 * is available and they have not been disabled, or the scalar ones otherwise.
+	 * 
+	 * @return The kernels to use.
+	 */
+	private static VectorKernels load() {
+		if(Boolean.parseBoolean(System.getProperty("vecmatlib.simd", "true")) && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+			try {
+				return (VectorKernels) Class.forName("io.github.vecmatlib.vector.SimdVectorKernels").getDeclaredConstructor().newInstance();
+			} catch(ReflectiveOperationException | LinkageError e) {
+				// The accelerated kernels are not present or cannot be used
+			}
+		}
+		return new VectorKernels();
+	}
+
+	/**
+	 * Checks if these are the accelerated kernels.
+	 * 
+	 * @return True if these kernels use the JDK Vector API, otherwise false.
+	 */
+	boolean isAccelerated() {
+		return false;
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] + b[i]}.
+	 * 
+	 * <p> Arrays with at least {@link VectorParallelism#threshold()} elements are split into
+	 * ranges computed in parallel, as described in {@link VectorParallelism}.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * @param result The array where the result is stored.
+	 */
+	final void add(double[] a, double[] b, double[] result) {
+		if(VectorParallelism.isSequential(result.length)) {
+			this.add(a, b, result, 0, result.length);
+		} else {
+			VectorParallelism.forEach(result.length, (from, to) -> this.add(a, b, result, from, to));
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] + b[i]} for {@code from <= i < to}.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * @param result The array where the result is stored.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 */
+	void add(double[] a, double[] b, double[] result, int from, int to) {
+		for(int i = from; i < to; i++) {
+			result[i] = a[i] + b[i];
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] - b[i]}.
+	 * 
+	 * <p> Arrays with at least {@link VectorParallelism#threshold()} elements are split into
+	 * ranges computed in parallel, as described in {@link VectorParallelism}.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * @param result The array where the result is stored.
+	 */
+	final void subtract(double[] a, double[] b, double[] result) {
+		if(VectorParallelism.isSequential(result.length)) {
+			this.subtract(a, b, result, 0, result.length);
+		} else {
+			VectorParallelism.forEach(result.length, (from, to) -> this.subtract(a, b, result, from, to));
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] - b[i]} for {@code from <= i < to}.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * @param result The array where the result is stored.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 */
+	void subtract(double[] a, double[] b, double[] result, int from, int to) {
+		for(int i = from; i < to; i++) {
+			result[i] = a[i] - b[i];
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = -a[i]}.
+	 * 
+	 * <p> Arrays with at least {@link VectorParallelism#threshold()} elements are split into
+	 * ranges computed in parallel, as described in {@link VectorParallelism}.
+	 * 
+	 * @param a The operand.
+	 * @param result The array where the result is stored.
+	 */
+	final void negate(double[] a, double[] result) {
+		if(VectorParallelism.isSequential(result.length)) {
+			this.negate(a, result, 0, result.length);
+		} else {
+			VectorParallelism.forEach(result.length, (from, to) -> this.negate(a, result, from, to));
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = -a[i]} for {@code from <= i < to}.
+	 * 
+	 * @param a The operand.
+	 * @param result The array where the result is stored.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 */
+	void negate(double[] a, double[] result, int from, int to) {
+		for(int i = from; i < to; i++) {
+			result[i] = -a[i];
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] * k}.
+	 * 
+	 * <p> Arrays with at least {@link VectorParallelism#threshold()} elements are split into
+	 * ranges computed in parallel, as described in {@link VectorParallelism}.
+	 * 
+	 * @param a The operand.
+	 * @param k The scalar.
+	 * @param result The array where the result is stored.
+	 */
+	final void multiply(double[] a, double k, double[] result) {
+		if(VectorParallelism.isSequential(result.length)) {
+			this.multiply(a, k, result, 0, result.length);
+		} else {
+			VectorParallelism.forEach(result.length, (from, to) -> this.multiply(a, k, result, from, to));
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] * k} for {@code from <= i < to}.
+	 * 
+	 * @param a The operand.
+	 * @param k The scalar.
+	 * @param result The array where the result is stored.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 */
+	void multiply(double[] a, double k, double[] result, int from, int to) {
+		for(int i = from; i < to; i++) {
+			result[i] = a[i] * k;
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] / k}.
+	 * 
+	 * <p> Arrays with at least {@link VectorParallelism#threshold()} elements are split into
+	 * ranges computed in parallel, as described in {@link VectorParallelism}.
+	 * 
+	 * @param a The operand.
+	 * @param k The scalar.
+	 * @param result The array where the result is stored.
+	 */
+	final void divide(double[] a, double k, double[] result) {
+		if(VectorParallelism.isSequential(result.length)) {
+			this.divide(a, k, result, 0, result.length);
+		} else {
+			VectorParallelism.forEach(result.length, (from, to) -> this.divide(a, k, result, from, to));
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] / k} for {@code from <= i < to}.
+	 * 
+	 * @param a The operand.
+	 * @param k The scalar.
+	 * @param result The array where the result is stored.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 */
+	void divide(double[] a, double k, double[] result, int from, int to) {
+		for(int i = from; i < to; i++) {
+			result[i] = a[i] / k;
+		}
+	}
+
+	/**
+	 * Computes {@code y[i] = y[i] + alpha * x[i]}.
+	 * 
+	 * <p> Arrays with at least {@link VectorParallelism#threshold()} elements are split into
+	 * ranges computed in parallel, as described in {@link VectorParallelism}.
+	 * 
+	 * @param alpha The scalar.
+	 * @param x The vector multiplied by the scalar.
+	 * @param y The vector to which the result is added.
+	 */
+	final void axpy(double alpha, double[] x, double[] y) {
+		if(VectorParallelism.isSequential(y.length)) {
+			this.axpy(alpha, x, y, 0, y.length);
+		} else {
+			VectorParallelism.forEach(y.length, (from, to) -> this.axpy(alpha, x, y, from, to));
+		}
+	}
+
+	/**
+	 * Computes {@code y[i] = y[i] + alpha * x[i]} for {@code from <= i < to}.
+	 * 
+	 * @param alpha The scalar.
+	 * @param x The vector multiplied by the scalar.
+	 * @param y The vector to which the result is added.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 */
+	void axpy(double alpha, double[] x, double[] y, int from, int to) {
+		for(int i = from; i < to; i++) {
+			y[i] += alpha * x[i];
+		}
+	}
+
+	/**
+	 * Computes the dot product between the given arrays.
+	 * 
+	 * <p> The dot product of arrays with at least {@link VectorParallelism#threshold()} elements is computed
+	 * in parallel as described in {@link VectorParallelism}.
+	 * 
+	 * <p> The terms are added with compensated (Kahan) summation,
+	 * like {@link java.util.stream.DoubleStream#sum()}.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * 
+	 * @return The sum of {@code a[i] * b[i]}.
+	 */
+	final double dot(double[] a, double[] b) {
+		if(VectorParallelism.isSequential(a.length))
+			return this.dot(a, b, 0, a.length);
+		return VectorParallelism.sum(a.length, (from, to) -> this.dot(a, b, from, to));
+	}
+
+	/**
+	 * Computes the dot product between the given ranges of the arrays.
+	 * 
+	 * <p> The terms are added with compensated (Kahan) summation,
+	 * like {@link java.util.stream.DoubleStream#sum()}.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 * 
+	 * @return The sum of {@code a[i] * b[i]}.
+	 */
+	double dot(double[] a, double[] b, int from, int to) {
+		double sum = 0.0, compensation = 0.0, simpleSum = 0.0;
+		for(int i = from; i < to; i++) {
+			double term = a[i] * b[i];
+			double y = term - compensation;
+			double t = sum + y;
+			compensation = (t - sum) - y;
+			sum = t;
+			simpleSum += term;
+		}
+		double result = sum - compensation;
+		// The compensated sum is NaN if it adds infinite values of the same sign
+		return Double.isNaN(result) && Double.isInfinite(simpleSum) ? simpleSum : result;
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] + b[i]} on off-heap buffers.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * @param result The buffer where the result is stored.
+	 */
+	void add(DoubleBuffer a, DoubleBuffer b, DoubleBuffer result) {
+		for(int i = 0; i < result.capacity(); i++) {
+			result.put(i, a.get(i) + b.get(i));
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] - b[i]} on off-heap buffers.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * @param result The buffer where the result is stored.
+	 */
+	void subtract(DoubleBuffer a, DoubleBuffer b, DoubleBuffer result) {
+		for(int i = 0; i < result.capacity(); i++) {
+			result.put(i, a.get(i) - b.get(i));
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = -a[i]} on off-heap buffers.
+	 * 
+	 * @param a The operand.
+	 * @param result The buffer where the result is stored.
+	 */
+	void negate(DoubleBuffer a, DoubleBuffer result) {
+		for(int i = 0; i < result.capacity(); i++) {
+			result.put(i, -a.get(i));
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] * k} on off-heap buffers.
+	 * 
+	 * @param a The operand.
+	 * @param k The scalar.
+	 * @param result The buffer where the result is stored.
+	 */
+	void multiply(DoubleBuffer a, double k, DoubleBuffer result) {
+		for(int i = 0; i < result.capacity(); i++) {
+			result.put(i, a.get(i) * k);
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] / k} on off-heap buffers.
+	 * 
+	 * @param a The operand.
+	 * @param k The scalar.
+	 * @param result The buffer where the result is stored.
+	 */
+	void divide(DoubleBuffer a, double k, DoubleBuffer result) {
+		for(int i = 0; i < result.capacity(); i++) {
+			result.put(i, a.get(i) / k);
+		}
+	}
+
+	/**
+	 * Computes {@code y[i] = y[i] + alpha * x[i]} on off-heap buffers.
+	 * 
+	 * @param alpha The scalar.
+	 * @param x The vector multiplied by the scalar.
+	 * @param y The vector to which the result is added.
+	 */
+	void axpy(double alpha, DoubleBuffer x, DoubleBuffer y) {
+		for(int i = 0; i < y.capacity(); i++) {
+			y.put(i, y.get(i) + alpha * x.get(i));
+		}
+	}
+
+	/**
+	 * Computes the dot product between the given off-heap buffers.
+	 * 
+	 * <p> The terms are added with compensated (Kahan) summation in the same
+	 * order as {@link #dot(double[], double[], int, int)} in the scalar implementation.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * 
+	 * @return The sum of {@code a[i] * b[i]}.
+	 */
+	double dot(DoubleBuffer a, DoubleBuffer b) {
+		double sum = 0.0, compensation = 0.0, simpleSum = 0.0;
+		for(int i = 0; i < a.capacity(); i++) {
+			double term = a.get(i) * b.get(i);
+			double y = term - compensation;
+			double t = sum + y;
+			compensation = (t - sum) - y;
+			sum = t;
+			simpleSum += term;
+		}
+		double result = sum - compensation;
+		// The compensated sum is NaN if it adds infinite values of the same sign
+		return Double.isNaN(result) && Double.isInfinite(simpleSum) ? simpleSum : result;
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] + b[i]}.
+	 * 
+	 * <p> Arrays with at least {@link VectorParallelism#threshold()} elements are split into
+	 * ranges computed in parallel, as described in {@link VectorParallelism}.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * @param result The array where the result is stored.
+	 */
+	final void add(float[] a, float[] b, float[] result) {
+		if(VectorParallelism.isSequential(result.length)) {
+			this.add(a, b, result, 0, result.length);
+		} else {
+			VectorParallelism.forEach(result.length, (from, to) -> this.add(a, b, result, from, to));
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] + b[i]} for {@code from <= i < to}.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * @param result The array where the result is stored.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 */
+	void add(float[] a, float[] b, float[] result, int from, int to) {
+		for(int i = from; i < to; i++) {
+			result[i] = a[i] + b[i];
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] - b[i]}.
+	 * 
+	 * <p> Arrays with at least {@link VectorParallelism#threshold()} elements are split into
+	 * ranges computed in parallel, as described in {@link VectorParallelism}.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * @param result The array where the result is stored.
+	 */
+	final void subtract(float[] a, float[] b, float[] result) {
+		if(VectorParallelism.isSequential(result.length)) {
+			this.subtract(a, b, result, 0, result.length);
+		} else {
+			VectorParallelism.forEach(result.length, (from, to) -> this.subtract(a, b, result, from, to));
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] - b[i]} for {@code from <= i < to}.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * @param result The array where the result is stored.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 */
+	void subtract(float[] a, float[] b, float[] result, int from, int to) {
+		for(int i = from; i < to; i++) {
+			result[i] = a[i] - b[i];
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = -a[i]}.
+	 * 
+	 * <p> Arrays with at least {@link VectorParallelism#threshold()} elements are split into
+	 * ranges computed in parallel, as described in {@link VectorParallelism}.
+	 * 
+	 * @param a The operand.
+	 * @param result The array where the result is stored.
+	 */
+	final void negate(float[] a, float[] result) {
+		if(VectorParallelism.isSequential(result.length)) {
+			this.negate(a, result, 0, result.length);
+		} else {
+			VectorParallelism.forEach(result.length, (from, to) -> this.negate(a, result, from, to));
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = -a[i]} for {@code from <= i < to}.
+	 * 
+	 * @param a The operand.
+	 * @param result The array where the result is stored.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 */
+	void negate(float[] a, float[] result, int from, int to) {
+		for(int i = from; i < to; i++) {
+			result[i] = -a[i];
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] * k}.
+	 * 
+	 * <p> Arrays with at least {@link VectorParallelism#threshold()} elements are split into
+	 * ranges computed in parallel, as described in {@link VectorParallelism}.
+	 * 
+	 * @param a The operand.
+	 * @param k The scalar.
+	 * @param result The array where the result is stored.
+	 */
+	final void multiply(float[] a, float k, float[] result) {
+		if(VectorParallelism.isSequential(result.length)) {
+			this.multiply(a, k, result, 0, result.length);
+		} else {
+			VectorParallelism.forEach(result.length, (from, to) -> this.multiply(a, k, result, from, to));
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] * k} for {@code from <= i < to}.
+	 * 
+	 * @param a The operand.
+	 * @param k The scalar.
+	 * @param result The array where the result is stored.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 */
+	void multiply(float[] a, float k, float[] result, int from, int to) {
+		for(int i = from; i < to; i++) {
+			result[i] = a[i] * k;
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] / k}.
+	 * 
+	 * <p> Arrays with at least {@link VectorParallelism#threshold()} elements are split into
+	 * ranges computed in parallel, as described in {@link VectorParallelism}.
+	 * 
+	 * @param a The operand.
+	 * @param k The scalar.
+	 * @param result The array where the result is stored.
+	 */
+	final void divide(float[] a, float k, float[] result) {
+		if(VectorParallelism.isSequential(result.length)) {
+			this.divide(a, k, result, 0, result.length);
+		} else {
+			VectorParallelism.forEach(result.length, (from, to) -> this.divide(a, k, result, from, to));
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] / k} for {@code from <= i < to}.
+	 * 
+	 * @param a The operand.
+	 * @param k The scalar.
+	 * @param result The array where the result is stored.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 */
+	void divide(float[] a, float k, float[] result, int from, int to) {
+		for(int i = from; i < to; i++) {
+			result[i] = a[i] / k;
+		}
+	}
+
+	/**
+	 * Computes {@code y[i] = y[i] + alpha * x[i]}.
+	 * 
+	 * <p> Arrays with at least {@link VectorParallelism#threshold()} elements are split into
+	 * ranges computed in parallel, as described in {@link VectorParallelism}.
+	 * 
+	 * @param alpha The scalar.
+	 * @param x The vector multiplied by the scalar.
+	 * @param y The vector to which the result is added.
+	 */
+	final void axpy(float alpha, float[] x, float[] y) {
+		if(VectorParallelism.isSequential(y.length)) {
+			this.axpy(alpha, x, y, 0, y.length);
+		} else {
+			VectorParallelism.forEach(y.length, (from, to) -> this.axpy(alpha, x, y, from, to));
+		}
+	}
+
+	/**
+	 * Computes {@code y[i] = y[i] + alpha * x[i]} for {@code from <= i < to}.
+	 * 
+	 * @param alpha The scalar.
+	 * @param x The vector multiplied by the scalar.
+	 * @param y The vector to which the result is added.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 */
+	void axpy(float alpha, float[] x, float[] y, int from, int to) {
+		for(int i = from; i < to; i++) {
+			y[i] += alpha * x[i];
+		}
+	}
+
+	/**
+	 * Computes the dot product between the given arrays.
+	 * 
+	 * <p> The dot product of arrays with at least {@link VectorParallelism#threshold()} elements is computed
+	 * in parallel as described in {@link VectorParallelism}.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * 
+	 * @return The sum of {@code a[i] * b[i]}.
+	 */
+	final float dot(float[] a, float[] b) {
+		if(VectorParallelism.isSequential(a.length))
+			return this.dot(a, b, 0, a.length);
+		return (float) VectorParallelism.sum(a.length, (from, to) -> this.dot(a, b, from, to));
+	}
+
+	/**
+	 * Computes the dot product between the given ranges of the arrays.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 * 
+	 * @return The sum of {@code a[i] * b[i]}.
+	 */
+	float dot(float[] a, float[] b, int from, int to) {
+		float sum = 0.0f;
+		for(int i = from; i < to; i++) {
+			sum += a[i] * b[i];
+		}
+		return sum;
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] + b[i]}.
+	 * 
+	 * <p> Arrays with at least {@link VectorParallelism#threshold()} elements are split into
+	 * ranges computed in parallel, as described in {@link VectorParallelism}.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * @param result The array where the result is stored.
+	 */
+	final void add(int[] a, int[] b, int[] result) {
+		if(VectorParallelism.isSequential(result.length)) {
+			this.add(a, b, result, 0, result.length);
+		} else {
+			VectorParallelism.forEach(result.length, (from, to) -> this.add(a, b, result, from, to));
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] + b[i]} for {@code from <= i < to}.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * @param result The array where the result is stored.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 */
+	void add(int[] a, int[] b, int[] result, int from, int to) {
+		for(int i = from; i < to; i++) {
+			result[i] = a[i] + b[i];
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] - b[i]}.
+	 * 
+	 * <p> Arrays with at least {@link VectorParallelism#threshold()} elements are split into
+	 * ranges computed in parallel, as described in {@link VectorParallelism}.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * @param result The array where the result is stored.
+	 */
+	final void subtract(int[] a, int[] b, int[] result) {
+		if(VectorParallelism.isSequential(result.length)) {
+			this.subtract(a, b, result, 0, result.length);
+		} else {
+			VectorParallelism.forEach(result.length, (from, to) -> this.subtract(a, b, result, from, to));
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] - b[i]} for {@code from <= i < to}.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * @param result The array where the result is stored.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 */
+	void subtract(int[] a, int[] b, int[] result, int from, int to) {
+		for(int i = from; i < to; i++) {
+			result[i] = a[i] - b[i];
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = -a[i]}.
+	 * 
+	 * <p> Arrays with at least {@link VectorParallelism#threshold()} elements are split into
+	 * ranges computed in parallel, as described in {@link VectorParallelism}.
+	 * 
+	 * @param a The operand.
+	 * @param result The array where the result is stored.
+	 */
+	final void negate(int[] a, int[] result) {
+		if(VectorParallelism.isSequential(result.length)) {
+			this.negate(a, result, 0, result.length);
+		} else {
+			VectorParallelism.forEach(result.length, (from, to) -> this.negate(a, result, from, to));
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = -a[i]} for {@code from <= i < to}.
+	 * 
+	 * @param a The operand.
+	 * @param result The array where the result is stored.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 */
+	void negate(int[] a, int[] result, int from, int to) {
+		for(int i = from; i < to; i++) {
+			result[i] = -a[i];
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] * k}.
+	 * 
+	 * <p> Arrays with at least {@link VectorParallelism#threshold()} elements are split into
+	 * ranges computed in parallel, as described in {@link VectorParallelism}.
+	 * 
+	 * @param a The operand.
+	 * @param k The scalar.
+	 * @param result The array where the result is stored.
+	 */
+	final void multiply(int[] a, int k, int[] result) {
+		if(VectorParallelism.isSequential(result.length)) {
+			this.multiply(a, k, result, 0, result.length);
+		} else {
+			VectorParallelism.forEach(result.length, (from, to) -> this.multiply(a, k, result, from, to));
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] * k} for {@code from <= i < to}.
+	 * 
+	 * @param a The operand.
+	 * @param k The scalar.
+	 * @param result The array where the result is stored.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 */
+	void multiply(int[] a, int k, int[] result, int from, int to) {
+		for(int i = from; i < to; i++) {
+			result[i] = a[i] * k;
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] / k}.
+	 * 
+	 * <p> Arrays with at least {@link VectorParallelism#threshold()} elements are split into
+	 * ranges computed in parallel, as described in {@link VectorParallelism}.
+	 * 
+	 * @param a The operand.
+	 * @param k The scalar.
+	 * @param result The array where the result is stored.
+	 * 
+	 * @throws ArithmeticException If k is zero.
+	 */
+	final void divide(int[] a, int k, int[] result) {
+		if(VectorParallelism.isSequential(result.length)) {
+			this.divide(a, k, result, 0, result.length);
+		} else {
+			VectorParallelism.forEach(result.length, (from, to) -> this.divide(a, k, result, from, to));
+		}
+	}
+
+	/**
+	 * Computes {@code result[i] = a[i] / k} for {@code from <= i < to}.
+	 * 
+	 * @param a The operand.
+	 * @param k The scalar.
+	 * @param result The array where the result is stored.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 * 
+	 * @throws ArithmeticException If k is zero.
+	 */
+	void divide(int[] a, int k, int[] result, int from, int to) {
+		for(int i = from; i < to; i++) {
+			result[i] = a[i] / k;
+		}
+	}
+
+	/**
+	 * Computes {@code y[i] = y[i] + alpha * x[i]}.
+	 * 
+	 * <p> Arrays with at least {@link VectorParallelism#threshold()} elements are split into
+	 * ranges computed in parallel, as described in {@link VectorParallelism}.
+	 * 
+	 * @param alpha The scalar.
+	 * @param x The vector multiplied by the scalar.
+	 * @param y The vector to which the result is added.
+	 */
+	final void axpy(int alpha, int[] x, int[] y) {
+		if(VectorParallelism.isSequential(y.length)) {
+			this.axpy(alpha, x, y, 0, y.length);
+		} else {
+			VectorParallelism.forEach(y.length, (from, to) -> this.axpy(alpha, x, y, from, to));
+		}
+	}
+
+	/**
+	 * Computes {@code y[i] = y[i] + alpha * x[i]} for {@code from <= i < to}.
+	 * 
+	 * @param alpha The scalar.
+	 * @param x The vector multiplied by the scalar.
+	 * @param y The vector to which the result is added.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 */
+	void axpy(int alpha, int[] x, int[] y, int from, int to) {
+		for(int i = from; i < to; i++) {
+			y[i] += alpha * x[i];
+		}
+	}
+
+	/**
+	 * Computes the dot product between the given arrays.
+	 * Like java's {@code int} operators, the result silently overflows.
+	 * 
+	 * <p> The dot product of arrays with at least {@link VectorParallelism#threshold()} elements is computed
+	 * in parallel as described in {@link VectorParallelism}.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * 
+	 * @return The sum of {@code a[i] * b[i]}.
+	 */
+	final int dot(int[] a, int[] b) {
+		if(VectorParallelism.isSequential(a.length))
+			return this.dot(a, b, 0, a.length);
+		// Partial sums of ints are added exactly as doubles, so the result overflows like the sequential one
+		return (int) (long) VectorParallelism.sum(a.length, (from, to) -> this.dot(a, b, from, to));
+	}
+
+	/**
+	 * Computes the dot product between the given ranges of the arrays.
+	 * Like java's {@code int} operators, the result silently overflows.
+	 * 
+	 * @param a The first operand.
+	 * @param b The second operand.
+	 * @param from Index of the first element, inclusive.
+	 * @param to Index of the last element, exclusive.
+	 * 
+	 * @return The sum of {@code a[i] * b[i]}.
+	 */
+	int dot(int[] a, int[] b, int from, int to) {
+		int sum = 0;
+		for(int i = from; i < to; i++) {
+			sum += a[i] * b[i];
+		}
+		return sum;
+	}
+}
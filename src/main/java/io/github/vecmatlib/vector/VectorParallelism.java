@@ -0,0 +1,226 @@
+package io.github.vecmatlib.vector;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class that controls when the bulk operations of the arbitrary-length vectors
+ * {@link DoubleVector}, {@link FloatVector} and {@link IntVector} are split across threads.
+ * 
+ * <p> Sums, subtractions, negations, scalar products and divisions, {@code axpy} and dot
+ * products of vectors with at least {@link #threshold()} elements are split into contiguous
+ * ranges that are computed by the threads of {@link #pool()}. Shorter vectors are processed
+ * sequentially in the calling thread. Every element of an element-wise operation is computed
+ * by a single thread, so the result is exactly the same as the one of the sequential operation.
+ * 
+ * <p> Dot products, and therefore lengths and angles, are split into blocks of
+ * {@link #BLOCK_SIZE} elements. The partial sum of every block is computed with the same
+ * kernel used by the sequential dot product and the partial sums are then added with pairwise
+ * summation, in a fixed order. The boundaries of the blocks and the order of the additions only
+ * depend on the size of the vectors, so the result does not depend on the number of threads
+ * or on how they are scheduled. It may however differ in the last bits from the result of the
+ * sequential dot product of the same vectors, except for int vectors, whose dot product is
+ * always the same.
+ * 
+ * <p> The threshold is {@link #DEFAULT_THRESHOLD} unless a different value is given with the
+ * system property {@code vecmatlib.parallelThreshold}, and can be changed at any time with
+ * {@link #setThreshold(int)}. The policy is global and applies to operations invoked by any
+ * thread. Off-heap vectors are not affected by this policy and are always processed sequentially.
+ * 
+ * @author Nico
+ */
+public final class VectorParallelism {
+
+	/**Default number of elements from which operations are computed in parallel */
+	public static final int DEFAULT_THRESHOLD = 1 << 20;
+	/**Number of elements in every partial sum of a parallel dot product */
+	public static final int BLOCK_SIZE = 1 << 13;
+
+	/**Number of elements below which a range is not split into smaller tasks */
+	static final int GRAIN = 1 << 16;
+
+	/**Number of elements from which operations are computed in parallel */
+	private static volatile int threshold = loadThreshold();
+	/**Pool used by parallel operations, or null to use the common pool */
+	private static volatile ForkJoinPool pool;
+
+	private VectorParallelism() {}
+
+	/**
+	 * Reads the threshold from the system property {@code vecmatlib.parallelThreshold}.
+	 * 
+	 * @return The value of the property or {@link #DEFAULT_THRESHOLD} if it is not set or not valid.
+	 */
+	private static int loadThreshold() {
+		Integer value = Integer.getInteger("vecmatlib.parallelThreshold");
+		return value != null && value > 0 ? value : DEFAULT_THRESHOLD;
+	}
+
+	/**
+	 * Gets the number of elements from which operations are computed in parallel.
+	 * 
+	 * @return The current threshold.
+	 */
+	public static int threshold() {
+		return threshold;
+	}
+
+	/**
+	 * Sets the number of elements from which operations are computed in parallel.
+	 * A threshold of {@link Integer#MAX_VALUE} disables parallel operations.
+	 * 
+	 * @param threshold The new threshold.
+	 * 
+	 * @throws IllegalArgumentException if the given threshold is not greater than zero.
+	 */
+	public static void setThreshold(int threshold) {
+		if(threshold <= 0)
+			throw new IllegalArgumentException("The threshold must be greater than zero");
+		VectorParallelism.threshold = threshold;
+	}
+
+	/**
+	 * Gets the pool used by parallel operations.
+	 * 
+	 * @return The pool given to {@link #setPool(ForkJoinPool)} or the common fork/join pool.
+	 */
+	public static ForkJoinPool pool() {
+		ForkJoinPool pool = VectorParallelism.pool;
+		return pool != null ? pool : ForkJoinPool.commonPool();
+	}
+
+	/**
+	 * Sets the pool used by parallel operations.
+	 * 
+	 * @param pool The pool to use, or null to use the common fork/join pool.
+	 */
+	public static void setPool(ForkJoinPool pool) {
+		VectorParallelism.pool = pool;
+	}
+
+	/**
+	 * Checks if an operation on vectors of the given size is computed sequentially.
+	 * 
+	 * @param length Size of the vectors.
+	 * 
+	 * @return True if the size is less than the threshold, otherwise false.
+	 */
+	static boolean isSequential(int length) {
+		return length < threshold;
+	}
+
+	/**
+	 * Function that computes an operation on a range of elements.
+	 */
+	interface Range {
+
+		/**
+		 * Computes the operation on the elements in the given range.
+		 * 
+		 * @param from Index of the first element, inclusive.
+		 * @param to Index of the last element, exclusive.
+		 */
+		void compute(int from, int to);
+	}
+
+	/**
+	 * Function that computes the partial sum of a range of elements.
+	 */
+	interface Partial {
+
+		/**
+		 * Computes the partial sum of the elements in the given range.
+		 * 
+		 * @param from Index of the first element, inclusive.
+		 * @param to Index of the last element, exclusive.
+		 * 
+		 * @return The sum of the elements in the range.
+		 */
+		double compute(int from, int to);
+	}
+
+	/**
+	 * Computes an element-wise operation on the given number of elements using the threads of {@link #pool()}.
+	 * 
+	 * @param length Number of elements.
+	 * @param range Function that computes the operation on a range of elements.
+	 */
+	static void forEach(int length, Range range) {
+		pool().invoke(new RangeTask(range, 0, length, GRAIN));
+	}
+
+	/**
+	 * Computes a sum of the given number of elements using the threads of {@link #pool()}.
+	 * The elements are split into blocks of {@link #BLOCK_SIZE} elements, whose
+	 * partial sums are added with pairwise summation.
+	 * 
+	 * @param length Number of elements.
+	 * @param partial Function that computes the sum of a range of elements.
+	 * 
+	 * @return The sum of the elements.
+	 */
+	static double sum(int length, Partial partial) {
+		double[] sums = new double[(length + BLOCK_SIZE - 1) / BLOCK_SIZE];
+		pool().invoke(new RangeTask((start, end) -> {
+			for(int block = start; block < end; block++) {
+				int from = block * BLOCK_SIZE;
+				sums[block] = partial.compute(from, Math.min(from + BLOCK_SIZE, length));
+			}
+		}, 0, sums.length, GRAIN / BLOCK_SIZE));
+		return pairwise(sums, 0, sums.length);
+	}
+
+	/**
+	 * Adds the given partial sums by recursively adding the sums of the two halves of the range.
+	 * 
+	 * @param sums The partial sums.
+	 * @param start Index of the first partial sum, inclusive.
+	 * @param end Index of the last partial sum, exclusive.
+	 * 
+	 * @return The sum of the partial sums in the range.
+	 */
+	private static double pairwise(double[] sums, int start, int end) {
+		if(end - start == 1)
+			return sums[start];
+		int middle = (start + end) >>> 1;
+		return pairwise(sums, start, middle) + pairwise(sums, middle, end);
+	}
+
+	/**
+	 * Task that computes an operation on a range of elements or splits it in two halves if it is too big.
+	 */
+	private static final class RangeTask extends RecursiveAction {
+
+		/**Function that computes the operation */
+		private final Range range;
+		/**Bounds of the range */
+		private final int start, end;
+		/**Size below which the range is not split */
+		private final int grain;
+
+		/**
+		 * Creates a task that computes the operation on the given range.
+		 * 
+		 * @param range Function that computes the operation.
+		 * @param start Index of the first element, inclusive.
+		 * @param end Index of the last element, exclusive.
+		 * @param grain Size below which the range is not split.
+		 */
+		private RangeTask(Range range, int start, int end, int grain) {
+			this.range = range;
+			this.start = start;
+			this.end = end;
+			this.grain = grain;
+		}
+
+		@Override
+		protected void compute() {
+			if(this.end - this.start <= this.grain) {
+				this.range.compute(this.start, this.end);
+			} else {
+				int middle = (this.start + this.end) >>> 1;
+				invokeAll(new RangeTask(this.range, this.start, middle, this.grain), new RangeTask(this.range, middle, this.end, this.grain));
+			}
+		}
+	}
+}
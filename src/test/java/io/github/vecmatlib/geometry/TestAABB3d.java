@@ -0,0 +1,134 @@
+package io.github.vecmatlib.geometry;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.matrix.Double3x4;
+import io.github.vecmatlib.matrix.Quaternion;
+import io.github.vecmatlib.vector.Double3;
+import io.github.vecmatlib.vector.Double3Buffer;
+
+public class TestAABB3d {
+
+	static AABB3d a = new AABB3d(new Double3(-1.0, 0.0, 2.0), new Double3(3.0, 2.0, 4.0));
+	static AABB3d b = new AABB3d(new Double3(2.0, 1.0, -1.0), new Double3(5.0, 6.0, 2.0));
+	static AABB3d c = new AABB3d(new Double3(4.0, 4.0, 1.0), new Double3(5.0, 5.0, 5.0));
+
+	static Double3x4 m = Double3x4.fromRotationAndTranslation(Quaternion.fromAxisAngle(1.0, 2.0, 3.0, 0.7), new Double3(1.0, -2.0, 0.5));
+
+	static Double3 vn = null;
+	static AABB3d bn = null;
+	static Double3x4 mn = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Box from points
+			Arguments.of(a, AABB3d.fromPoints(new Double3(-1.0, 2.0, 3.0), new Double3(3.0, 0.0, 4.0), new Double3(0.0, 1.0, 2.0))),
+			//2. Box from a buffer of points
+			Arguments.of(a, AABB3d.fromPoints(new Double3Buffer(new double[] {-1.0, 3.0, 0.0}, new double[] {2.0, 0.0, 1.0}, new double[] {3.0, 4.0, 2.0}))),
+			//3. Box from a single point
+			Arguments.of(new AABB3d(Double3.ONE, Double3.ONE), AABB3d.fromPoints(Double3.ONE)),
+			//4. Box from center and extents
+			Arguments.of(a, AABB3d.fromCenterAndExtents(new Double3(1.0, 1.0, 3.0), new Double3(2.0, 1.0, 1.0))),
+			//5. Center
+			Arguments.of(new Double3(1.0, 1.0, 3.0), a.center()),
+			//6. Extents
+			Arguments.of(new Double3(2.0, 1.0, 1.0), a.extents()),
+			//7. Size
+			Arguments.of(new Double3(4.0, 2.0, 2.0), a.size()),
+			//8. Contains a point inside
+			Arguments.of(true, a.contains(new Double3(0.0, 1.0, 3.0))),
+			//9. Contains a point on a corner
+			Arguments.of(true, a.contains(3.0, 2.0, 4.0)),
+			//10. Does not contain a point outside
+			Arguments.of(false, a.contains(3.0, 2.5, 4.0)),
+			//11. Overlapping boxes intersect
+			Arguments.of(true, b.intersects(c)),
+			//12. Boxes that touch intersect
+			Arguments.of(true, a.intersects(b)),
+			//13. Separate boxes do not intersect
+			Arguments.of(false, a.intersects(c)),
+			//14. Union of two boxes
+			Arguments.of(new AABB3d(new Double3(-1.0, 0.0, -1.0), new Double3(5.0, 6.0, 4.0)), a.union(b)),
+			//15. Union with a point
+			Arguments.of(new AABB3d(new Double3(-1.0, -1.0, 2.0), new Double3(3.0, 2.0, 7.0)), a.union(new Double3(0.0, -1.0, 7.0))),
+			//16. Union with a point inside
+			Arguments.of(a, a.union(a.center())),
+			//17. Transformed by a translation
+			Arguments.of(new AABB3d(new Double3(0.0, -2.0, 2.5), new Double3(4.0, 0.0, 4.5)), a.transformed(new Double3x4(1.0, 0.0, 0.0, 1.0, 0.0, 1.0, 0.0, -2.0, 0.0, 0.0, 1.0, 0.5))),
+			//18. Transformed by a 3x4 or a 4x4 matrix
+			Arguments.of(a.transformed(m), a.transformed(m.toDouble4x4())),
+			//19. Box cast to float
+			Arguments.of(new AABB3f(a.min().castToFloat(), a.max().castToFloat()), a.castToFloat())
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		AABB3d corners = AABB3d.fromPoints(
+			m.transformPoint(-1.0, 0.0, 2.0), m.transformPoint(3.0, 0.0, 2.0), m.transformPoint(-1.0, 2.0, 2.0), m.transformPoint(3.0, 2.0, 2.0),
+			m.transformPoint(-1.0, 0.0, 4.0), m.transformPoint(3.0, 0.0, 4.0), m.transformPoint(-1.0, 2.0, 4.0), m.transformPoint(3.0, 2.0, 4.0)
+		);
+		AABB3d transformed = a.transformed(m);
+		return Stream.of(
+			//1. Transformed box has the same minimum corner as the box of the transformed corners
+			Arguments.of(0.0, transformed.min().minus(corners.min()).length(), 1e-12),
+			//2. Transformed box has the same maximum corner as the box of the transformed corners
+			Arguments.of(0.0, transformed.max().minus(corners.max()).length(), 1e-12)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual, double delta) {
+		Assertions.assertEquals(expected, actual, delta);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Box from no points
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> AABB3d.fromPoints()),
+			//2. Box from an empty buffer
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> AABB3d.fromPoints(new Double3Buffer(0)))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Class<? extends Throwable> expected, Executable method) {
+		Assertions.assertThrows(expected, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. Contains null
+			Arguments.of((Executable) () -> a.contains(vn)),
+			//2. Intersects null
+			Arguments.of((Executable) () -> a.intersects(bn)),
+			//3. Union with null
+			Arguments.of((Executable) () -> a.union(bn)),
+			//4. Transformed by null
+			Arguments.of((Executable) () -> a.transformed(mn)),
+			//5. Box from a null point
+			Arguments.of((Executable) () -> AABB3d.fromPoints(Double3.ONE, vn)),
+			//6. Box from a null center
+			Arguments.of((Executable) () -> AABB3d.fromCenterAndExtents(vn, Double3.ONE))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+}
@@ -0,0 +1,134 @@
+package io.github.vecmatlib.geometry;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.matrix.Float3x4;
+import io.github.vecmatlib.matrix.QuaternionF;
+import io.github.vecmatlib.vector.Float3;
+import io.github.vecmatlib.vector.Float3Buffer;
+
+public class TestAABB3f {
+
+	static AABB3f a = new AABB3f(new Float3(-1.0f, 0.0f, 2.0f), new Float3(3.0f, 2.0f, 4.0f));
+	static AABB3f b = new AABB3f(new Float3(2.0f, 1.0f, -1.0f), new Float3(5.0f, 6.0f, 2.0f));
+	static AABB3f c = new AABB3f(new Float3(4.0f, 4.0f, 1.0f), new Float3(5.0f, 5.0f, 5.0f));
+
+	static Float3x4 m = Float3x4.fromRotationAndTranslation(QuaternionF.fromAxisAngle(1.0f, 2.0f, 3.0f, 0.7f), new Float3(1.0f, -2.0f, 0.5f));
+
+	static Float3 vn = null;
+	static AABB3f bn = null;
+	static Float3x4 mn = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Box from points
+			Arguments.of(a, AABB3f.fromPoints(new Float3(-1.0f, 2.0f, 3.0f), new Float3(3.0f, 0.0f, 4.0f), new Float3(0.0f, 1.0f, 2.0f))),
+			//2. Box from a buffer of points
+			Arguments.of(a, AABB3f.fromPoints(new Float3Buffer(new float[] {-1.0f, 3.0f, 0.0f}, new float[] {2.0f, 0.0f, 1.0f}, new float[] {3.0f, 4.0f, 2.0f}))),
+			//3. Box from a single point
+			Arguments.of(new AABB3f(Float3.ONE, Float3.ONE), AABB3f.fromPoints(Float3.ONE)),
+			//4. Box from center and extents
+			Arguments.of(a, AABB3f.fromCenterAndExtents(new Float3(1.0f, 1.0f, 3.0f), new Float3(2.0f, 1.0f, 1.0f))),
+			//5. Center
+			Arguments.of(new Float3(1.0f, 1.0f, 3.0f), a.center()),
+			//6. Extents
+			Arguments.of(new Float3(2.0f, 1.0f, 1.0f), a.extents()),
+			//7. Size
+			Arguments.of(new Float3(4.0f, 2.0f, 2.0f), a.size()),
+			//8. Contains a point inside
+			Arguments.of(true, a.contains(new Float3(0.0f, 1.0f, 3.0f))),
+			//9. Contains a point on a corner
+			Arguments.of(true, a.contains(3.0f, 2.0f, 4.0f)),
+			//10. Does not contain a point outside
+			Arguments.of(false, a.contains(3.0f, 2.5f, 4.0f)),
+			//11. Overlapping boxes intersect
+			Arguments.of(true, b.intersects(c)),
+			//12. Boxes that touch intersect
+			Arguments.of(true, a.intersects(b)),
+			//13. Separate boxes do not intersect
+			Arguments.of(false, a.intersects(c)),
+			//14. Union of two boxes
+			Arguments.of(new AABB3f(new Float3(-1.0f, 0.0f, -1.0f), new Float3(5.0f, 6.0f, 4.0f)), a.union(b)),
+			//15. Union with a point
+			Arguments.of(new AABB3f(new Float3(-1.0f, -1.0f, 2.0f), new Float3(3.0f, 2.0f, 7.0f)), a.union(new Float3(0.0f, -1.0f, 7.0f))),
+			//16. Union with a point inside
+			Arguments.of(a, a.union(a.center())),
+			//17. Transformed by a translation
+			Arguments.of(new AABB3f(new Float3(0.0f, -2.0f, 2.5f), new Float3(4.0f, 0.0f, 4.5f)), a.transformed(new Float3x4(1.0f, 0.0f, 0.0f, 1.0f, 0.0f, 1.0f, 0.0f, -2.0f, 0.0f, 0.0f, 1.0f, 0.5f))),
+			//18. Transformed by a 3x4 or a 4x4 matrix
+			Arguments.of(a.transformed(m), a.transformed(m.toFloat4x4())),
+			//19. Box as double
+			Arguments.of(new AABB3d(a.min().asDouble(), a.max().asDouble()), a.asDouble())
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		AABB3f corners = AABB3f.fromPoints(
+			m.transformPoint(-1.0f, 0.0f, 2.0f), m.transformPoint(3.0f, 0.0f, 2.0f), m.transformPoint(-1.0f, 2.0f, 2.0f), m.transformPoint(3.0f, 2.0f, 2.0f),
+			m.transformPoint(-1.0f, 0.0f, 4.0f), m.transformPoint(3.0f, 0.0f, 4.0f), m.transformPoint(-1.0f, 2.0f, 4.0f), m.transformPoint(3.0f, 2.0f, 4.0f)
+		);
+		AABB3f transformed = a.transformed(m);
+		return Stream.of(
+			//1. Transformed box has the same minimum corner as the box of the transformed corners
+			Arguments.of(0.0, transformed.min().minus(corners.min()).length(), 1e-5),
+			//2. Transformed box has the same maximum corner as the box of the transformed corners
+			Arguments.of(0.0, transformed.max().minus(corners.max()).length(), 1e-5)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual, double delta) {
+		Assertions.assertEquals(expected, actual, delta);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Box from no points
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> AABB3f.fromPoints()),
+			//2. Box from an empty buffer
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> AABB3f.fromPoints(new Float3Buffer(0)))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Class<? extends Throwable> expected, Executable method) {
+		Assertions.assertThrows(expected, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. Contains null
+			Arguments.of((Executable) () -> a.contains(vn)),
+			//2. Intersects null
+			Arguments.of((Executable) () -> a.intersects(bn)),
+			//3. Union with null
+			Arguments.of((Executable) () -> a.union(bn)),
+			//4. Transformed by null
+			Arguments.of((Executable) () -> a.transformed(mn)),
+			//5. Box from a null point
+			Arguments.of((Executable) () -> AABB3f.fromPoints(Float3.ONE, vn)),
+			//6. Box from a null center
+			Arguments.of((Executable) () -> AABB3f.fromCenterAndExtents(vn, Float3.ONE))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+}
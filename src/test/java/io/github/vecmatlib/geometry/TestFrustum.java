@@ -0,0 +1,244 @@
+package io.github.vecmatlib.geometry;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.matrix.Double4x4;
+import io.github.vecmatlib.matrix.Float4x4;
+import io.github.vecmatlib.vector.Double3;
+import io.github.vecmatlib.vector.Double3Buffer;
+import io.github.vecmatlib.vector.Double4;
+import io.github.vecmatlib.vector.Float3;
+import io.github.vecmatlib.vector.Float3Buffer;
+import io.github.vecmatlib.vector.VectorMathException;
+
+public class TestFrustum {
+
+	// Camera at the origin looking towards -z with a field of view of 90 degrees, near plane at 1 and far plane at 100
+	static Double4x4 projection = new Double4x4(
+		1.0, 0.0, 0.0, 0.0,
+		0.0, 1.0, 0.0, 0.0,
+		0.0, 0.0, -101.0 / 99.0, -200.0 / 99.0,
+		0.0, 0.0, -1.0, 0.0
+	);
+	static Double4x4 zeroToOne = new Double4x4(
+		1.0, 0.0, 0.0, 0.0,
+		0.0, 1.0, 0.0, 0.0,
+		0.0, 0.0, -100.0 / 99.0, -100.0 / 99.0,
+		0.0, 0.0, -1.0, 0.0
+	);
+	static Double4x4 infinite = new Double4x4(
+		1.0, 0.0, 0.0, 0.0,
+		0.0, 1.0, 0.0, 0.0,
+		0.0, 0.0, -1.0, -2.0,
+		0.0, 0.0, -1.0, 0.0
+	);
+	// The same camera moved to (5, 0, 0)
+	static Double4x4 view = new Double4x4(
+		1.0, 0.0, 0.0, -5.0,
+		0.0, 1.0, 0.0, 0.0,
+		0.0, 0.0, 1.0, 0.0,
+		0.0, 0.0, 0.0, 1.0
+	);
+
+	static Frustum frustum = Frustum.fromViewProjection(projection);
+	static Frustum frustumF = Frustum.fromViewProjection(projection.castToFloat());
+	static Frustum moved = Frustum.fromViewProjection(projection.multiply(view), DepthRange.NEGATIVE_ONE_TO_ONE);
+
+	static Float3Buffer mins = buffer(1000, 1, -120.0f, 120.0f);
+	static Float3Buffer maxs = grow(mins, buffer(1000, 2, 0.0f, 20.0f));
+	static Float3Buffer centers = buffer(1000, 3, -120.0f, 120.0f);
+	static float[] radii = buffer(1000, 4, 0.0f, 20.0f).x();
+
+	static Float4x4 mn1 = null;
+	static Double4x4 mn2 = null;
+	static AABB3f bn1 = null;
+	static AABB3d bn2 = null;
+	static Float3Buffer fbn = null;
+	static Double3Buffer dbn = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Point in front of the camera
+			Arguments.of(true, frustum.contains(new Double3(0.0, 0.0, -10.0))),
+			//2. Point close to the side of the frustum
+			Arguments.of(true, frustum.contains(new Float3(9.0f, -9.0f, -10.0f))),
+			//3. Point outside of the side of the frustum
+			Arguments.of(false, frustum.contains(20.0, 0.0, -10.0)),
+			//4. Point closer than the near plane
+			Arguments.of(false, frustum.contains(0.0, 0.0, -0.5)),
+			//5. Point behind the camera
+			Arguments.of(false, frustum.contains(0.0, 0.0, 10.0)),
+			//6. Point farther than the far plane
+			Arguments.of(false, frustum.contains(0.0, 0.0, -200.0)),
+			//7. Point closer than the near plane with depth from 0 to 1
+			Arguments.of(false, Frustum.fromViewProjection(zeroToOne, DepthRange.ZERO_TO_ONE).contains(0.0, 0.0, -0.5)),
+			//8. Point farther than the near plane with depth from 0 to 1
+			Arguments.of(true, Frustum.fromViewProjection(zeroToOne, DepthRange.ZERO_TO_ONE).contains(0.0, 0.0, -1.5)),
+			//9. Point very far with an infinite far plane
+			Arguments.of(true, Frustum.fromViewProjection(infinite).contains(0.0, 0.0, -1e9)),
+			//10. Point in front of a moved camera
+			Arguments.of(true, moved.contains(12.0, 0.0, -10.0)),
+			//11. Point outside of a moved camera
+			Arguments.of(false, moved.contains(-6.0, 0.0, -10.0)),
+			//12. Box across the near plane
+			Arguments.of(true, frustum.intersects(new AABB3d(new Double3(-1.0, -1.0, -2.0), new Double3(1.0, 1.0, 5.0)))),
+			//13. Box behind the camera
+			Arguments.of(false, frustum.intersects(new AABB3f(new Float3(-1.0f, -1.0f, 1.0f), new Float3(1.0f, 1.0f, 5.0f)))),
+			//14. Box that contains the frustum
+			Arguments.of(true, frustum.intersects(new AABB3f(new Float3(-500.0f, -500.0f, -500.0f), new Float3(500.0f, 500.0f, 500.0f)))),
+			//15. Box outside of the side of the frustum
+			Arguments.of(false, frustum.intersects(new AABB3d(new Double3(12.0, -1.0, -11.0), new Double3(14.0, 1.0, -9.0)))),
+			//16. Sphere that reaches the side of the frustum
+			Arguments.of(true, frustum.intersectsSphere(new Double3(12.0, 0.0, -10.0), 2.0)),
+			//17. Sphere that does not reach the side of the frustum
+			Arguments.of(false, frustum.intersectsSphere(new Float3(12.0f, 0.0f, -10.0f), 1.0f)),
+			//18. Batch of float boxes is the same as testing every box
+			Arguments.of(expectedBoxes(frustumF), BitSet.valueOf(frustumF.visibleBoxes(mins, maxs))),
+			//19. Batch of double boxes is the same as testing every box
+			Arguments.of(expectedBoxes(frustum), BitSet.valueOf(frustum.visibleBoxes(asDouble(mins), asDouble(maxs), new long[16]))),
+			//20. Batch of float spheres is the same as testing every sphere
+			Arguments.of(expectedSpheres(frustumF), BitSet.valueOf(frustumF.visibleSpheres(centers, radii))),
+			//21. Batch of double spheres is the same as testing every sphere
+			Arguments.of(expectedSpheres(frustum), BitSet.valueOf(frustum.visibleSpheres(asDouble(centers), asDouble(radii)))),
+			//22. Some boxes are visible and some are not
+			Arguments.of(true, expectedBoxes(frustum).cardinality() > 0 && expectedBoxes(frustum).cardinality() < 1000),
+			//23. Bits after the last box are not set
+			Arguments.of(1L, frustum.visibleBoxes(new Float3Buffer(65).add(new Float3(-1.0f, -1.0f, -10.0f)), new Float3Buffer(65).add(new Float3(1.0f, 1.0f, -5.0f)))[1]),
+			//24. Batch of a full block
+			Arguments.of(-1L, frustum.visibleSpheres(new Float3Buffer(64).add(new Float3(0.0f, 0.0f, -10.0f)), new float[64])[0]),
+			//25. Empty batch
+			Arguments.of(0, frustum.visibleBoxes(new Float3Buffer(0), new Float3Buffer(0)).length)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		double diagonal = Math.sqrt(0.5);
+		return Stream.of(
+			//1. Left plane is normalized and points inside
+			Arguments.of(0.0, frustum.plane(Frustum.LEFT).minus(new Double4(diagonal, 0.0, -diagonal, 0.0)).length(), 1e-12),
+			//2. Distance of the near plane from the camera
+			Arguments.of(-1.0, frustum.plane(Frustum.NEAR).w(), 1e-12),
+			//3. Distance of the far plane from the camera
+			Arguments.of(100.0, frustum.plane(Frustum.FAR).w(), 1e-9),
+			//4. Distance of the near plane with depth from 0 to 1
+			Arguments.of(-1.0, Frustum.fromViewProjection(zeroToOne, DepthRange.ZERO_TO_ONE).plane(Frustum.NEAR).w(), 1e-12),
+			//5. Float matrix gives the same planes
+			Arguments.of(0.0, frustum.plane(Frustum.TOP).minus(frustumF.plane(Frustum.TOP)).length(), 1e-6)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual, double delta) {
+		Assertions.assertEquals(expected, actual, delta);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Buffers of boxes of different sizes
+			Arguments.of(VectorMathException.class, (Executable) () -> frustum.visibleBoxes(new Float3Buffer(3), new Float3Buffer(4))),
+			//2. Result of the wrong length
+			Arguments.of(VectorMathException.class, (Executable) () -> frustum.visibleBoxes(new Double3Buffer(65), new Double3Buffer(65), new long[1])),
+			//3. Different number of centers and radii
+			Arguments.of(VectorMathException.class, (Executable) () -> frustum.visibleSpheres(new Float3Buffer(3), new float[2])),
+			//4. Result of the wrong length for spheres
+			Arguments.of(VectorMathException.class, (Executable) () -> frustum.visibleSpheres(new Double3Buffer(3), new double[3], new long[2])),
+			//5. Plane out of bounds
+			Arguments.of(IndexOutOfBoundsException.class, (Executable) () -> frustum.plane(6))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Class<? extends Throwable> expected, Executable method) {
+		Assertions.assertThrows(expected, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. Frustum from a null float matrix
+			Arguments.of((Executable) () -> Frustum.fromViewProjection(mn1)),
+			//2. Frustum from a null double matrix
+			Arguments.of((Executable) () -> Frustum.fromViewProjection(mn2)),
+			//3. Frustum with a null depth range
+			Arguments.of((Executable) () -> Frustum.fromViewProjection(projection, null)),
+			//4. Null float box
+			Arguments.of((Executable) () -> frustum.intersects(bn1)),
+			//5. Null double box
+			Arguments.of((Executable) () -> frustum.intersects(bn2)),
+			//6. Null buffer of boxes
+			Arguments.of((Executable) () -> frustum.visibleBoxes(fbn, mins)),
+			//7. Null buffer of spheres
+			Arguments.of((Executable) () -> frustum.visibleSpheres(dbn, new double[3]))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static Float3Buffer buffer(int size, int seed, float min, float max) {
+		SplittableRandom random = new SplittableRandom(seed);
+		Float3Buffer buffer = new Float3Buffer(size);
+		for(int i = 0; i < size; i++) {
+			buffer.set(i, (float) random.nextDouble(min, max), (float) random.nextDouble(min, max), (float) random.nextDouble(min, max));
+		}
+		return buffer;
+	}
+
+	static Float3Buffer grow(Float3Buffer points, Float3Buffer sizes) {
+		Float3Buffer result = new Float3Buffer(points.size());
+		for(int i = 0; i < points.size(); i++) {
+			result.set(i, points.get(i).plus(sizes.get(i)));
+		}
+		return result;
+	}
+
+	static Double3Buffer asDouble(Float3Buffer buffer) {
+		Double3Buffer result = new Double3Buffer(buffer.size());
+		for(int i = 0; i < buffer.size(); i++) {
+			result.set(i, buffer.get(i).asDouble());
+		}
+		return result;
+	}
+
+	static double[] asDouble(float[] values) {
+		double[] result = new double[values.length];
+		for(int i = 0; i < values.length; i++) {
+			result[i] = values[i];
+		}
+		return result;
+	}
+
+	static BitSet expectedBoxes(Frustum frustum) {
+		BitSet expected = new BitSet();
+		for(int i = 0; i < mins.size(); i++) {
+			expected.set(i, frustum == frustumF ? frustum.intersects(new AABB3f(mins.get(i), maxs.get(i))) : frustum.intersects(new AABB3d(mins.get(i).asDouble(), maxs.get(i).asDouble())));
+		}
+		return expected;
+	}
+
+	static BitSet expectedSpheres(Frustum frustum) {
+		BitSet expected = new BitSet();
+		for(int i = 0; i < centers.size(); i++) {
+			expected.set(i, frustum == frustumF ? frustum.intersectsSphere(centers.get(i), radii[i]) : frustum.intersectsSphere(centers.get(i).asDouble(), radii[i]));
+		}
+		return expected;
+	}
+}
@@ -0,0 +1,155 @@
+package io.github.vecmatlib.geometry;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.matrix.Double3x4;
+import io.github.vecmatlib.vector.Double3;
+
+public class TestRay3d {
+
+	static Ray3d r = new Ray3d(new Double3(1.0, 2.0, -5.0), new Double3(0.0, 0.0, 2.0));
+	static Ray3d inside = new Ray3d(new Double3(1.0, 2.0, 1.0), new Double3(0.0, 0.0, 2.0));
+	static Ray3d behind = new Ray3d(new Double3(1.0, 2.0, 5.0), new Double3(0.0, 0.0, 2.0));
+	static Ray3d parallel = new Ray3d(new Double3(1.0, 2.0, -5.0), new Double3(1.0, 0.0, 0.0));
+
+	static AABB3d box = new AABB3d(new Double3(0.0, 1.0, 0.0), new Double3(2.0, 3.0, 4.0));
+	static Double3 v0 = new Double3(0.0, 0.0, 1.0);
+	static Double3 v1 = new Double3(4.0, 0.0, 1.0);
+	static Double3 v2 = new Double3(0.0, 4.0, 1.0);
+
+	static Double3 vn = null;
+	static AABB3d bn = null;
+	static Double3x4 mn = null;
+	static RayHit3d hn = null;
+
+	static List<Object> intersection(Predicate<RayHit3d> test) {
+		RayHit3d hit = new RayHit3d();
+		boolean result = test.test(hit);
+		return List.of(result, hit.hasHit(), hit.t(), hit.u(), hit.v());
+	}
+
+	static List<Object> hit(double t, double u, double v) {
+		return List.of(true, true, t, u, v);
+	}
+
+	static List<Object> miss() {
+		return List.of(false, false, Double.POSITIVE_INFINITY, 0.0, 0.0);
+	}
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Point at a distance
+			Arguments.of(new Double3(1.0, 2.0, -2.0), r.pointAt(1.5)),
+			//2. Transformed ray
+			Arguments.of(new Ray3d(new Double3(2.0, 0.0, -4.5), r.direction()), r.transformed(new Double3x4(1.0, 0.0, 0.0, 1.0, 0.0, 1.0, 0.0, -2.0, 0.0, 0.0, 1.0, 0.5))),
+			//3. Ray intersects a plane
+			Arguments.of(hit(3.0, 0.0, 0.0), intersection(hit -> r.intersectPlane(0.0, 0.0, 1.0, -1.0, hit))),
+			//4. Ray intersects a plane given its normal
+			Arguments.of(hit(3.0, 0.0, 0.0), intersection(hit -> r.intersectPlane(new Double3(0.0, 0.0, -1.0), 1.0, hit))),
+			//5. Ray does not intersect a plane behind it
+			Arguments.of(miss(), intersection(hit -> r.intersectPlane(0.0, 0.0, 1.0, 6.0, hit))),
+			//6. Ray does not intersect a parallel plane
+			Arguments.of(miss(), intersection(hit -> parallel.intersectPlane(0.0, 1.0, 0.0, 0.0, hit))),
+			//7. Ray intersects a sphere
+			Arguments.of(hit(2.0, 0.0, 0.0), intersection(hit -> r.intersectSphere(new Double3(1.0, 2.0, 1.0), 2.0, hit))),
+			//8. Ray exits a sphere that contains its origin
+			Arguments.of(hit(1.0, 0.0, 0.0), intersection(hit -> r.intersectSphere(1.0, 2.0, -5.0, 2.0, hit))),
+			//9. Ray does not intersect a sphere beside it
+			Arguments.of(miss(), intersection(hit -> r.intersectSphere(5.0, 2.0, 1.0, 2.0, hit))),
+			//10. Ray does not intersect a sphere behind it
+			Arguments.of(miss(), intersection(hit -> r.intersectSphere(1.0, 2.0, -10.0, 1.0, hit))),
+			//11. Ray intersects a box
+			Arguments.of(hit(2.5, 0.0, 0.0), intersection(hit -> r.intersectBox(box, hit))),
+			//12. Ray exits a box that contains its origin
+			Arguments.of(hit(1.5, 0.0, 0.0), intersection(hit -> inside.intersectBox(box, hit))),
+			//13. Ray does not intersect a box beside it
+			Arguments.of(miss(), intersection(hit -> r.intersectBox(new AABB3d(new Double3(3.0, 3.0, 0.0), new Double3(4.0, 4.0, 4.0)), hit))),
+			//14. Ray does not intersect a box behind it
+			Arguments.of(miss(), intersection(hit -> behind.intersectBox(box, hit))),
+			//15. Ray intersects a triangle
+			Arguments.of(hit(3.0, 0.25, 0.5), intersection(hit -> r.intersectTriangle(v0, v1, v2, hit))),
+			//16. Ray intersects a triangle on an edge
+			Arguments.of(hit(3.0, 0.5, 0.5), intersection(hit -> new Ray3d(new Double3(2.0, 2.0, -5.0), r.direction()).intersectTriangle(v0, v1, v2, hit))),
+			//17. Ray does not intersect a triangle beside it
+			Arguments.of(miss(), intersection(hit -> new Ray3d(new Double3(3.0, 3.0, -5.0), r.direction()).intersectTriangle(v0, v1, v2, hit))),
+			//18. Ray does not intersect a triangle behind it
+			Arguments.of(miss(), intersection(hit -> behind.intersectTriangle(v0, v1, v2, hit))),
+			//19. Ray does not intersect a parallel triangle
+			Arguments.of(miss(), intersection(hit -> parallel.intersectTriangle(v0, v1, v2, hit))),
+			//20. Closer intersections replace farther ones
+			Arguments.of(hit(2.0, 0.0, 0.0), intersection(hit -> r.intersectPlane(0.0, 0.0, 1.0, -1.0, hit) && r.intersectSphere(1.0, 2.0, 1.0, 2.0, hit))),
+			//21. Farther intersections do not replace closer ones
+			Arguments.of(List.of(false, true, 2.0, 0.0, 0.0), intersection(hit -> r.intersectSphere(1.0, 2.0, 1.0, 2.0, hit) && r.intersectTriangle(v0, v1, v2, hit))),
+			//22. Intersections beyond the maximum distance are ignored
+			Arguments.of(List.of(false, false, 2.5, 0.0, 0.0), intersection(hit -> r.intersectTriangle(v0, v1, v2, hit.reset(2.5)))),
+			//23. Reset removes the intersection
+			Arguments.of(miss(), intersection(hit -> r.intersectTriangle(v0, v1, v2, hit) && hit.reset().hasHit())),
+			//24. Ray casted to float
+			Arguments.of(new Ray3f(r.origin().castToFloat(), r.direction().castToFloat()), r.castToFloat()),
+			//25. Ray does not intersect a triangle with a NaN vertex
+			Arguments.of(miss(), intersection(hit -> r.intersectTriangle(Double.NaN, 0.0, 1.0, 4.0, 0.0, 1.0, 0.0, 4.0, 1.0, hit))),
+			//26. Ray does not intersect a plane with a NaN coefficient
+			Arguments.of(miss(), intersection(hit -> r.intersectPlane(0.0, 0.0, 1.0, Double.NaN, hit)))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		Ray3d ray = new Ray3d(new Double3(0.3, -1.2, 2.5), new Double3(0.4, 0.9, -0.7));
+		Double3 a = new Double3(-1.0, 0.5, 0.0), b = new Double3(2.0, 0.0, 1.5), c = new Double3(0.5, 3.0, -0.5);
+		RayHit3d hit = new RayHit3d();
+		ray.intersectTriangle(a, b, c, hit);
+		Double3 barycentric = a.plus(b.minus(a).multipliedBy(hit.u())).plus(c.minus(a).multipliedBy(hit.v()));
+		RayHit3d sphere = new RayHit3d();
+		ray.intersectSphere(1.0, 1.0, 0.0, 1.5, sphere);
+		return Stream.of(
+			//1. Intersection with a triangle is the point at the barycentric coordinates
+			Arguments.of(0.0, ray.pointAt(hit.t()).minus(barycentric).length(), 1e-12),
+			//2. Intersection with a sphere is on its surface
+			Arguments.of(1.5, ray.pointAt(sphere.t()).minus(new Double3(1.0, 1.0, 0.0)).length(), 1e-12)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual, double delta) {
+		Assertions.assertEquals(expected, actual, delta);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		RayHit3d hit = new RayHit3d();
+		return Stream.of(
+			//1. Transformed by null
+			Arguments.of((Executable) () -> r.transformed(mn)),
+			//2. Plane with a null normal
+			Arguments.of((Executable) () -> r.intersectPlane(vn, 1.0, hit)),
+			//3. Sphere with a null center
+			Arguments.of((Executable) () -> r.intersectSphere(vn, 1.0, hit)),
+			//4. Null box
+			Arguments.of((Executable) () -> r.intersectBox(bn, hit)),
+			//5. Triangle with a null vertex
+			Arguments.of((Executable) () -> r.intersectTriangle(v0, vn, v2, hit)),
+			//6. Intersection with a null hit
+			Arguments.of((Executable) () -> r.intersectTriangle(v0, v1, v2, hn))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+}
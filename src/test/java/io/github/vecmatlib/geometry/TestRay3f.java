@@ -0,0 +1,155 @@
+package io.github.vecmatlib.geometry;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.matrix.Float3x4;
+import io.github.vecmatlib.vector.Float3;
+
+public class TestRay3f {
+
+	static Ray3f r = new Ray3f(new Float3(1.0f, 2.0f, -5.0f), new Float3(0.0f, 0.0f, 2.0f));
+	static Ray3f inside = new Ray3f(new Float3(1.0f, 2.0f, 1.0f), new Float3(0.0f, 0.0f, 2.0f));
+	static Ray3f behind = new Ray3f(new Float3(1.0f, 2.0f, 5.0f), new Float3(0.0f, 0.0f, 2.0f));
+	static Ray3f parallel = new Ray3f(new Float3(1.0f, 2.0f, -5.0f), new Float3(1.0f, 0.0f, 0.0f));
+
+	static AABB3f box = new AABB3f(new Float3(0.0f, 1.0f, 0.0f), new Float3(2.0f, 3.0f, 4.0f));
+	static Float3 v0 = new Float3(0.0f, 0.0f, 1.0f);
+	static Float3 v1 = new Float3(4.0f, 0.0f, 1.0f);
+	static Float3 v2 = new Float3(0.0f, 4.0f, 1.0f);
+
+	static Float3 vn = null;
+	static AABB3f bn = null;
+	static Float3x4 mn = null;
+	static RayHit3f hn = null;
+
+	static List<Object> intersection(Predicate<RayHit3f> test) {
+		RayHit3f hit = new RayHit3f();
+		boolean result = test.test(hit);
+		return List.of(result, hit.hasHit(), hit.t(), hit.u(), hit.v());
+	}
+
+	static List<Object> hit(float t, float u, float v) {
+		return List.of(true, true, t, u, v);
+	}
+
+	static List<Object> miss() {
+		return List.of(false, false, Float.POSITIVE_INFINITY, 0.0f, 0.0f);
+	}
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Point at a distance
+			Arguments.of(new Float3(1.0f, 2.0f, -2.0f), r.pointAt(1.5f)),
+			//2. Transformed ray
+			Arguments.of(new Ray3f(new Float3(2.0f, 0.0f, -4.5f), r.direction()), r.transformed(new Float3x4(1.0f, 0.0f, 0.0f, 1.0f, 0.0f, 1.0f, 0.0f, -2.0f, 0.0f, 0.0f, 1.0f, 0.5f))),
+			//3. Ray intersects a plane
+			Arguments.of(hit(3.0f, 0.0f, 0.0f), intersection(hit -> r.intersectPlane(0.0f, 0.0f, 1.0f, -1.0f, hit))),
+			//4. Ray intersects a plane given its normal
+			Arguments.of(hit(3.0f, 0.0f, 0.0f), intersection(hit -> r.intersectPlane(new Float3(0.0f, 0.0f, -1.0f), 1.0f, hit))),
+			//5. Ray does not intersect a plane behind it
+			Arguments.of(miss(), intersection(hit -> r.intersectPlane(0.0f, 0.0f, 1.0f, 6.0f, hit))),
+			//6. Ray does not intersect a parallel plane
+			Arguments.of(miss(), intersection(hit -> parallel.intersectPlane(0.0f, 1.0f, 0.0f, 0.0f, hit))),
+			//7. Ray intersects a sphere
+			Arguments.of(hit(2.0f, 0.0f, 0.0f), intersection(hit -> r.intersectSphere(new Float3(1.0f, 2.0f, 1.0f), 2.0f, hit))),
+			//8. Ray exits a sphere that contains its origin
+			Arguments.of(hit(1.0f, 0.0f, 0.0f), intersection(hit -> r.intersectSphere(1.0f, 2.0f, -5.0f, 2.0f, hit))),
+			//9. Ray does not intersect a sphere beside it
+			Arguments.of(miss(), intersection(hit -> r.intersectSphere(5.0f, 2.0f, 1.0f, 2.0f, hit))),
+			//10. Ray does not intersect a sphere behind it
+			Arguments.of(miss(), intersection(hit -> r.intersectSphere(1.0f, 2.0f, -10.0f, 1.0f, hit))),
+			//11. Ray intersects a box
+			Arguments.of(hit(2.5f, 0.0f, 0.0f), intersection(hit -> r.intersectBox(box, hit))),
+			//12. Ray exits a box that contains its origin
+			Arguments.of(hit(1.5f, 0.0f, 0.0f), intersection(hit -> inside.intersectBox(box, hit))),
+			//13. Ray does not intersect a box beside it
+			Arguments.of(miss(), intersection(hit -> r.intersectBox(new AABB3f(new Float3(3.0f, 3.0f, 0.0f), new Float3(4.0f, 4.0f, 4.0f)), hit))),
+			//14. Ray does not intersect a box behind it
+			Arguments.of(miss(), intersection(hit -> behind.intersectBox(box, hit))),
+			//15. Ray intersects a triangle
+			Arguments.of(hit(3.0f, 0.25f, 0.5f), intersection(hit -> r.intersectTriangle(v0, v1, v2, hit))),
+			//16. Ray intersects a triangle on an edge
+			Arguments.of(hit(3.0f, 0.5f, 0.5f), intersection(hit -> new Ray3f(new Float3(2.0f, 2.0f, -5.0f), r.direction()).intersectTriangle(v0, v1, v2, hit))),
+			//17. Ray does not intersect a triangle beside it
+			Arguments.of(miss(), intersection(hit -> new Ray3f(new Float3(3.0f, 3.0f, -5.0f), r.direction()).intersectTriangle(v0, v1, v2, hit))),
+			//18. Ray does not intersect a triangle behind it
+			Arguments.of(miss(), intersection(hit -> behind.intersectTriangle(v0, v1, v2, hit))),
+			//19. Ray does not intersect a parallel triangle
+			Arguments.of(miss(), intersection(hit -> parallel.intersectTriangle(v0, v1, v2, hit))),
+			//20. Closer intersections replace farther ones
+			Arguments.of(hit(2.0f, 0.0f, 0.0f), intersection(hit -> r.intersectPlane(0.0f, 0.0f, 1.0f, -1.0f, hit) && r.intersectSphere(1.0f, 2.0f, 1.0f, 2.0f, hit))),
+			//21. Farther intersections do not replace closer ones
+			Arguments.of(List.of(false, true, 2.0f, 0.0f, 0.0f), intersection(hit -> r.intersectSphere(1.0f, 2.0f, 1.0f, 2.0f, hit) && r.intersectTriangle(v0, v1, v2, hit))),
+			//22. Intersections beyond the maximum distance are ignored
+			Arguments.of(List.of(false, false, 2.5f, 0.0f, 0.0f), intersection(hit -> r.intersectTriangle(v0, v1, v2, hit.reset(2.5f)))),
+			//23. Reset removes the intersection
+			Arguments.of(miss(), intersection(hit -> r.intersectTriangle(v0, v1, v2, hit) && hit.reset().hasHit())),
+			//24. Ray as double
+			Arguments.of(new Ray3d(r.origin().asDouble(), r.direction().asDouble()), r.asDouble()),
+			//25. Ray does not intersect a triangle with a NaN vertex
+			Arguments.of(miss(), intersection(hit -> r.intersectTriangle(Float.NaN, 0.0f, 1.0f, 4.0f, 0.0f, 1.0f, 0.0f, 4.0f, 1.0f, hit))),
+			//26. Ray does not intersect a plane with a NaN coefficient
+			Arguments.of(miss(), intersection(hit -> r.intersectPlane(0.0f, 0.0f, 1.0f, Float.NaN, hit)))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		Ray3f ray = new Ray3f(new Float3(0.3f, -1.2f, 2.5f), new Float3(0.4f, 0.9f, -0.7f));
+		Float3 a = new Float3(-1.0f, 0.5f, 0.0f), b = new Float3(2.0f, 0.0f, 1.5f), c = new Float3(0.5f, 3.0f, -0.5f);
+		RayHit3f hit = new RayHit3f();
+		ray.intersectTriangle(a, b, c, hit);
+		Float3 barycentric = a.plus(b.minus(a).multipliedBy(hit.u())).plus(c.minus(a).multipliedBy(hit.v()));
+		RayHit3f sphere = new RayHit3f();
+		ray.intersectSphere(1.0f, 1.0f, 0.0f, 1.5f, sphere);
+		return Stream.of(
+			//1. Intersection with a triangle is the point at the barycentric coordinates
+			Arguments.of(0.0, ray.pointAt(hit.t()).minus(barycentric).length(), 1e-5),
+			//2. Intersection with a sphere is on its surface
+			Arguments.of(1.5, ray.pointAt(sphere.t()).minus(new Float3(1.0f, 1.0f, 0.0f)).length(), 1e-5)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual, double delta) {
+		Assertions.assertEquals(expected, actual, delta);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		RayHit3f hit = new RayHit3f();
+		return Stream.of(
+			//1. Transformed by null
+			Arguments.of((Executable) () -> r.transformed(mn)),
+			//2. Plane with a null normal
+			Arguments.of((Executable) () -> r.intersectPlane(vn, 1.0f, hit)),
+			//3. Sphere with a null center
+			Arguments.of((Executable) () -> r.intersectSphere(vn, 1.0f, hit)),
+			//4. Null box
+			Arguments.of((Executable) () -> r.intersectBox(bn, hit)),
+			//5. Triangle with a null vertex
+			Arguments.of((Executable) () -> r.intersectTriangle(v0, vn, v2, hit)),
+			//6. Intersection with a null hit
+			Arguments.of((Executable) () -> r.intersectTriangle(v0, v1, v2, hn))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+}
@@ -0,0 +1,176 @@
+package io.github.vecmatlib.geometry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.vector.Double3;
+
+public class TestRayPacket3d {
+
+	static Double3 direction = new Double3(0.0, 0.0, 2.0);
+	static Ray3d r0 = new Ray3d(new Double3(1.0, 2.0, -5.0), direction);
+	static Ray3d r1 = new Ray3d(new Double3(3.0, 3.0, -5.0), direction);
+	static Ray3d r2 = new Ray3d(new Double3(1.0, 1.0, 5.0), direction);
+	static Ray3d r3 = new Ray3d(new Double3(0.5, 0.5, -1.0), direction);
+	static Ray3d inside = new Ray3d(new Double3(1.0, 1.0, 1.0), new Double3(0.0, 0.0, 0.25));
+
+	static AABB3d box = new AABB3d(new Double3(0.0, 0.0, 0.0), new Double3(2.0, 2.5, 2.0));
+	static Double3 v0 = new Double3(0.0, 0.0, 1.0);
+	static Double3 v1 = new Double3(4.0, 0.0, 1.0);
+	static Double3 v2 = new Double3(0.0, 4.0, 1.0);
+
+	static Double3 vn = null;
+	static AABB3d bn = null;
+	static Ray3d rn = null;
+
+	static RayPacket3d packet() {
+		return new RayPacket3d(4).set(0, r0).set(1, r1).set(2, r2).set(3, r3);
+	}
+
+	static RayPacket3d intersected() {
+		RayPacket3d packet = packet();
+		packet.intersectTriangle(v0, v1, v2);
+		return packet;
+	}
+
+	/**
+	 * Intersects random rays with random triangles both with a packet and one ray at a time.
+	 * 
+	 * @param size The size of the packet.
+	 * 
+	 * @return The distances and barycentric coordinates of the packet followed by the ones of the single rays.
+	 */
+	static List<double[]> randomIntersections(int size) {
+		Random random = new Random(size);
+		Ray3d[] rays = new Ray3d[size];
+		RayHit3d[] hits = new RayHit3d[size];
+		RayPacket3d packet = new RayPacket3d(size);
+		for(int i = 0; i < size; i++) {
+			rays[i] = new Ray3d(
+				new Double3(random.nextDouble() - 0.5, random.nextDouble() - 0.5, -3.0),
+				new Double3(random.nextDouble() - 0.5, random.nextDouble() - 0.5, 1.0)
+			);
+			hits[i] = new RayHit3d();
+			packet.set(i, rays[i]);
+		}
+		for(int triangle = 0; triangle < 20; triangle++) {
+			double[] vertices = new double[9];
+			for(int j = 0; j < 9; j++) {
+				vertices[j] = 4.0 * random.nextDouble() - 2.0;
+			}
+			packet.intersectTriangle(vertices[0], vertices[1], vertices[2], vertices[3], vertices[4], vertices[5], vertices[6], vertices[7], vertices[8]);
+			for(int i = 0; i < size; i++) {
+				rays[i].intersectTriangle(vertices[0], vertices[1], vertices[2], vertices[3], vertices[4], vertices[5], vertices[6], vertices[7], vertices[8], hits[i]);
+			}
+		}
+		double[] t = new double[size], u = new double[size], v = new double[size];
+		for(int i = 0; i < size; i++) {
+			t[i] = hits[i].t();
+			u[i] = hits[i].u();
+			v[i] = hits[i].v();
+		}
+		return List.of(packet.t(), packet.u(), packet.v(), t, u, v);
+	}
+
+	static Stream<Arguments> testSource() {
+		double inf = Double.POSITIVE_INFINITY;
+		return Stream.of(
+			//1. Size of a packet
+			Arguments.of(4, packet().size()),
+			//2. Ray stored in a packet
+			Arguments.of(r3, packet().ray(3)),
+			//3. Rays that intersect a triangle
+			Arguments.of(0b1001L, packet().intersectTriangle(v0, v1, v2)),
+			//4. Distances of the intersections
+			Arguments.of(List.of(3.0, inf, inf, 1.0), toList(intersected().t())),
+			//5. First barycentric coordinates of the intersections
+			Arguments.of(List.of(0.25, 0.0, 0.0, 0.125), toList(intersected().u())),
+			//6. Second barycentric coordinates of the intersections
+			Arguments.of(List.of(0.5, 0.0, 0.0, 0.125), toList(intersected().v())),
+			//7. Rays with an intersection
+			Arguments.of(0b1001L, intersected().hits()),
+			//8. Farther triangles do not replace closer intersections
+			Arguments.of(0b0000L, intersected().intersectTriangle(0.0, 0.0, 3.0, 4.0, 0.0, 3.0, 0.0, 4.0, 3.0)),
+			//9. Closer triangles replace farther intersections
+			Arguments.of(0b0001L, intersected().intersectTriangle(0.0, 0.0, -2.0, 4.0, 0.0, -2.0, 0.0, 4.0, -2.0)),
+			//10. Rays that intersect a box
+			Arguments.of(0b1001L, packet().intersectBox(box)),
+			//11. Rays that intersect a box closer than their intersection
+			Arguments.of(0b1000L, packet().reset(2.0).intersectBox(box)),
+			//12. Reset removes the intersections
+			Arguments.of(List.of(0L, inf, 0.0), List.of(intersected().reset().hits(), intersected().reset().t()[0], intersected().reset().u()[0])),
+			//13. Packet of 4 rays has the same intersections as single rays
+			Arguments.of(true, sameIntersections(randomIntersections(4))),
+			//14. Packet of 8 rays has the same intersections as single rays
+			Arguments.of(true, sameIntersections(randomIntersections(8))),
+			//15. Packet of 64 rays has the same intersections as single rays
+			Arguments.of(true, sameIntersections(randomIntersections(64))),
+			//16. Rays inside a box are kept even if they exit it beyond their intersection, unlike a single ray
+			Arguments.of(List.of(1L, false), List.of(new RayPacket3d(1).set(0, inside).reset(2.0).intersectBox(box), inside.intersectBox(box, new RayHit3d().reset(2.0))))
+		);
+	}
+
+	static List<Double> toList(double[] array) {
+		Double[] result = new Double[array.length];
+		for(int i = 0; i < array.length; i++) {
+			result[i] = array[i];
+		}
+		return List.of(result);
+	}
+
+	static boolean sameIntersections(List<double[]> intersections) {
+		return Arrays.equals(intersections.get(0), intersections.get(3))
+				&& Arrays.equals(intersections.get(1), intersections.get(4))
+				&& Arrays.equals(intersections.get(2), intersections.get(5));
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Empty packet
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> new RayPacket3d(0)),
+			//2. Packet larger than the maximum size
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> new RayPacket3d(RayPacket3d.MAX_SIZE + 1)),
+			//3. Set a ray out of bounds
+			Arguments.of(IndexOutOfBoundsException.class, (Executable) () -> packet().set(4, r0)),
+			//4. Get a ray out of bounds
+			Arguments.of(IndexOutOfBoundsException.class, (Executable) () -> packet().ray(-1))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Class<? extends Throwable> expected, Executable method) {
+		Assertions.assertThrows(expected, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. Set a null ray
+			Arguments.of((Executable) () -> packet().set(0, rn)),
+			//2. Triangle with a null vertex
+			Arguments.of((Executable) () -> packet().intersectTriangle(v0, v1, vn)),
+			//3. Null box
+			Arguments.of((Executable) () -> packet().intersectBox(bn))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+}
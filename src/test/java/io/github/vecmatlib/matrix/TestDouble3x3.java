@@ -1,5 +1,7 @@
 package io.github.vecmatlib.matrix;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
@@ -9,6 +11,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import io.github.vecmatlib.vector.Double3;
+import io.github.vecmatlib.vector.Double3Buffer;
 import io.github.vecmatlib.vector.Float3;
 
 public class TestDouble3x3 {
@@ -37,6 +40,8 @@ public class TestDouble3x3 {
 	static Double3 vn1 = null;
 	static Float3 vn2 = null;
 
+	static ForkJoinPool pool = new ForkJoinPool(4);
+
 	static Stream<Arguments> testSource() {
 		return Stream.of(
 			//1. Double3x3 + Double3x3
@@ -82,7 +87,17 @@ public class TestDouble3x3 {
 			//21. Double3x3 * Float3x3
 			Arguments.of(new Double3x3(a.row1().dotProduct(c.column1()), a.row1().dotProduct(c.column2()), a.row1().dotProduct(c.column3()), a.row2().dotProduct(c.column1()), a.row2().dotProduct(c.column2()), a.row2().dotProduct(c.column3()), a.row3().dotProduct(c.column1()), a.row3().dotProduct(c.column2()), a.row3().dotProduct(c.column3())), a.multiply(c)),
 			//22. Double3x3 ^ int
-			Arguments.of(a.multiply(a).multiply(a), a.power(3))
+			Arguments.of(a.multiply(a).multiply(a), a.power(3)),
+			//23. Double3x3 transform vectors in an array
+			Arguments.of(a.multiply(new Double3(1.5, -2.5, 0.5)), vector3(a.transform(new double[] {0.0, 0.0, 0.0, 1.5, -2.5, 0.5}, new double[6]), 1)),
+			//24. Double3x3 transform vectors in an array in place
+			Arguments.of(a.multiply(new Double3(1.5, -2.5, 0.5)), vector3(transformInPlace(a, new double[] {1.5, -2.5, 0.5}), 0)),
+			//25. Double3x3 transform vectors in a buffer
+			Arguments.of(a.multiply(new Double3(1.5, -2.5, 0.5)), a.transform(new Double3Buffer(2).set(1, 1.5, -2.5, 0.5), new Double3Buffer(2)).get(1)),
+			//26. Double3x3 transform vectors in an array in parallel
+			Arguments.of(true, Arrays.equals(a.transform(large(3 * 70000), new double[3 * 70000]), a.transform(large(3 * 70000), new double[3 * 70000], pool))),
+			//27. Double3x3 transform vectors in a buffer in parallel
+			Arguments.of(true, equal(a.transform(largeBuffer(70000), new Double3Buffer(70000)), a.transform(largeBuffer(70000), new Double3Buffer(70000), pool)))
 		);
 	}
 
@@ -118,4 +133,83 @@ public class TestDouble3x3 {
 	void testNullValues(Executable method) {
 		Assertions.assertThrows(NullPointerException.class, method);
 	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		return Stream.of(
+			//1. Determinant of Double3x3
+			Arguments.of(1.334881, a.determinant()),
+			//2. Determinant of Double3x3 ^ T
+			Arguments.of(a.determinant(), a.transposed().determinant()),
+			//3. Double3x3 * adjugate = determinant * identity
+			Arguments.of(0.0, difference(a.multiply(a.adjugate()), Double3x3.IDENTITY.multipliedBy(a.determinant()))),
+			//4. Double3x3 * Double3x3 ^ -1
+			Arguments.of(0.0, difference(a.multiply(a.inverted()), Double3x3.IDENTITY)),
+			//5. Double3x3 ^ -1 * Double3x3
+			Arguments.of(0.0, difference(a.inverted().multiply(a), Double3x3.IDENTITY)),
+			//6. Affine Double3x3 * affine inverse
+			Arguments.of(0.0, difference(new Double3x3(a11, a12, a13, a21, a22, a23, 0.0, 0.0, 1.0).multiply(new Double3x3(a11, a12, a13, a21, a22, a23, 0.0, 0.0, 1.0).invertedAffine()), Double3x3.IDENTITY)),
+			//7. Affine inverse of a scale and translation
+			Arguments.of(0.0, difference(new Double3x3(2.0, 0.0, 1.0, 0.0, 4.0, 2.0, 0.0, 0.0, 1.0).inverted(), new Double3x3(2.0, 0.0, 1.0, 0.0, 4.0, 2.0, 0.0, 0.0, 1.0).invertedAffine())),
+			//8. Rigid inverse of a rotation and translation
+			Arguments.of(0.0, difference(new Double3x3(0.0, -1.0, 1.0, 1.0, 0.0, 2.0, 0.0, 0.0, 1.0).inverted(), new Double3x3(0.0, -1.0, 1.0, 1.0, 0.0, 2.0, 0.0, 0.0, 1.0).invertedRigid()))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual) {
+		Assertions.assertEquals(expected, actual, 1e-12);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Inverse of a zero Double3x3
+			Arguments.of((Executable) () -> Double3x3.ZERO.inverted()),
+			//2. Inverse of a singular Double3x3
+			Arguments.of((Executable) () -> new Double3x3(1.0, 2.0, 3.0, 2.0, 4.0, 6.0, 1.0, 0.0, 1.0).inverted()),
+			//3. Affine inverse of a zero Double3x3
+			Arguments.of((Executable) () -> Double3x3.ZERO.invertedAffine()),
+			//4. Double3x3 transform vectors in an array whose length is not a multiple of 3
+			Arguments.of((Executable) () -> a.transform(new double[4], new double[4])),
+			//5. Double3x3 transform vectors into an array of a different length
+			Arguments.of((Executable) () -> a.transform(new double[3], new double[6])),
+			//6. Double3x3 transform vectors into a buffer of a different size
+			Arguments.of((Executable) () -> a.transform(new Double3Buffer(2), new Double3Buffer(3), pool))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(MatrixMathException.class, method);
+	}
+
+	static double difference(Double3x3 m1, Double3x3 m2) {
+		Double3x3 difference = m1.minus(m2);
+		return difference.row1().length() + difference.row2().length() + difference.row3().length();
+	}
+
+	static double[] large(int length) {
+		double[] values = new double[length];
+		for(int i = 0; i < length; i++) {
+			values[i] = ((i * 7) % 101 - 50) / 17.0;
+		}
+		return values;
+	}
+
+	static Double3Buffer largeBuffer(int size) {
+		return new Double3Buffer(large(size), Arrays.copyOfRange(large(size + 1), 1, size + 1), Arrays.copyOfRange(large(size + 2), 2, size + 2));
+	}
+
+	static boolean equal(Double3Buffer b1, Double3Buffer b2) {
+		return Arrays.equals(b1.x(), b2.x()) && Arrays.equals(b1.y(), b2.y()) && Arrays.equals(b1.z(), b2.z());
+	}
+
+	static double[] transformInPlace(Double3x3 matrix, double[] values) {
+		return matrix.transform(values, values);
+	}
+
+	static Double3 vector3(double[] values, int i) {
+		return new Double3(values[3 * i], values[3 * i + 1], values[3 * i + 2]);
+	}
 }
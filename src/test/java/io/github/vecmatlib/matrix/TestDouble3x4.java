@@ -0,0 +1,159 @@
+package io.github.vecmatlib.matrix;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.vector.Double3;
+import io.github.vecmatlib.vector.Double3Buffer;
+
+public class TestDouble3x4 {
+
+	static Double3x4 a = new Double3x4(1.2, 0.5, 0.2, 3.0, 0.7, 1.6, 0.4, -1.0, 2.4, 0.0, 1.0, 0.5);
+	static Double3x4 b = new Double3x4(0.6, 1.2, 0.9, -2.0, 0.3, 0.7, 0.1, 1.5, 1.4, 2.5, 1.6, 0.0);
+	static Double3x4 r = Double3x4.fromRotationAndTranslation(Quaternion.fromAxisAngle(1.0, 2.0, 3.0, 0.7), new Double3(1.0, -2.0, 0.5));
+
+	static Double4x4 a4 = a.toDouble4x4();
+	static Double4x4 b4 = b.toDouble4x4();
+
+	static Double3 p = new Double3(1.5, -0.4, 2.2);
+
+	static ForkJoinPool pool = new ForkJoinPool(4);
+
+	static Double3x4 mn = null;
+	static Double3 vn = null;
+	static double[] an = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Double3x4 to Double4x4
+			Arguments.of(new Double4x4(1.2, 0.5, 0.2, 3.0, 0.7, 1.6, 0.4, -1.0, 2.4, 0.0, 1.0, 0.5, 0.0, 0.0, 0.0, 1.0), a4),
+			//2. Double3x4 from its Double4x4
+			Arguments.of(a, Double3x4.fromAffine(a4)),
+			//3. Identity to Double4x4
+			Arguments.of(Double4x4.IDENTITY, Double3x4.IDENTITY.toDouble4x4()),
+			//4. Double3x4 * Double3x4 is the product of the 4x4 matrices
+			Arguments.of(a4.multiply(b4), a.multiply(b).toDouble4x4()),
+			//5. Identity * Double3x4
+			Arguments.of(a, Double3x4.IDENTITY.multiply(a)),
+			//6. Double3x4 * identity
+			Arguments.of(a, a.multiply(Double3x4.IDENTITY)),
+			//7. Transform point
+			Arguments.of(a4.transformPoint(p), a.transformPoint(p)),
+			//8. Transform direction
+			Arguments.of(a4.transformDirection(p), a.transformDirection(p)),
+			//9. Linear part
+			Arguments.of(new Double3x3(1.2, 0.5, 0.2, 0.7, 1.6, 0.4, 2.4, 0.0, 1.0), a.linear()),
+			//10. Translation
+			Arguments.of(new Double3(3.0, -1.0, 0.5), a.translation()),
+			//11. Double3x4 from linear part and translation
+			Arguments.of(a, Double3x4.fromLinearAndTranslation(a.linear(), a.translation())),
+			//12. Translation only moves points
+			Arguments.of(p.plus(new Double3(1.0, -2.0, 0.5)), Double3x4.fromLinearAndTranslation(Double3x3.IDENTITY, new Double3(1.0, -2.0, 0.5)).transformPoint(p)),
+			//13. Translation does not move directions
+			Arguments.of(p, Double3x4.fromLinearAndTranslation(Double3x3.IDENTITY, new Double3(1.0, -2.0, 0.5)).transformDirection(p)),
+			//14. Double3x4 cast to float
+			Arguments.of(a.toDouble4x4().castToFloat(), a.castToFloat().toFloat4x4()),
+			//15. Double3x4 transform points in an array
+			Arguments.of(Arrays.asList(a.transformPoint(1.0, 2.0, 3.0), a.transformPoint(-1.0, 0.5, 4.0)), points(a.transformPoints(new double[] {1.0, 2.0, 3.0, -1.0, 0.5, 4.0}, new double[6]))),
+			//16. Double3x4 transform points in an array in parallel
+			Arguments.of(Arrays.asList(a.transformPoint(1.0, 2.0, 3.0), a.transformPoint(-1.0, 0.5, 4.0)), points(a.transformPoints(new double[] {1.0, 2.0, 3.0, -1.0, 0.5, 4.0}, new double[6], pool))),
+			//17. Double3x4 transform points in a buffer
+			Arguments.of(a.transformPoint(1.5, -2.5, 0.5), a.transformPoints(new Double3Buffer(2).set(1, 1.5, -2.5, 0.5), new Double3Buffer(2)).get(1)),
+			//18. Double3x4 transform points in a large buffer in parallel
+			Arguments.of(true, TestDouble4x4.equal(a4.transformPoints(TestDouble4x4.largeBuffer(70000), new Double3Buffer(70000)), a.transformPoints(TestDouble4x4.largeBuffer(70000), new Double3Buffer(70000), pool)))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. Double3x4 * null
+			Arguments.of((Executable) () -> a.multiply(mn)),
+			//2. Transform null point
+			Arguments.of((Executable) () -> a.transformPoint(vn)),
+			//3. Transform null direction
+			Arguments.of((Executable) () -> a.transformDirection(vn)),
+			//4. Double3x4 from a null Double4x4
+			Arguments.of((Executable) () -> Double3x4.fromAffine(null)),
+			//5. Double3x4 from a null translation
+			Arguments.of((Executable) () -> Double3x4.fromLinearAndTranslation(Double3x3.IDENTITY, vn)),
+			//6. Double3x4 transform null points
+			Arguments.of((Executable) () -> a.transformPoints(an, new double[3])),
+			//7. Double3x4 transform points with a null pool
+			Arguments.of((Executable) () -> a.transformPoints(new double[3], new double[3], null))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		return Stream.of(
+			//1. Determinant of Double3x4
+			Arguments.of(a4.determinant(), a.determinant()),
+			//2. Double3x4 * Double3x4 ^ -1
+			Arguments.of(0.0, difference(a.multiply(a.inverted()), Double3x4.IDENTITY)),
+			//3. Double3x4 ^ -1 * Double3x4
+			Arguments.of(0.0, difference(a.inverted().multiply(a), Double3x4.IDENTITY)),
+			//4. Inverse of Double3x4 is the inverse of the 4x4 matrix
+			Arguments.of(0.0, TestDouble4x4.difference(a4.inverted(), a.inverted().toDouble4x4())),
+			//5. Rigid inverse of a rotation and translation
+			Arguments.of(0.0, difference(r.inverted(), r.invertedRigid())),
+			//6. Rigid transformation keeps distances
+			Arguments.of(p.length(), r.transformPoint(p).minus(r.transformPoint(0.0, 0.0, 0.0)).length()),
+			//7. Rigid transformation from a quaternion rotates points
+			Arguments.of(0.0, r.transformDirection(p).minus(Quaternion.fromAxisAngle(1.0, 2.0, 3.0, 0.7).rotate(p)).length())
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual) {
+		Assertions.assertEquals(expected, actual, 1e-9);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Inverse of a Double3x4 with a zero linear part
+			Arguments.of((Executable) () -> new Double3x4(0.0, 0.0, 0.0, 1.0, 0.0, 0.0, 0.0, 2.0, 0.0, 0.0, 0.0, 3.0).inverted()),
+			//2. Inverse of a singular Double3x4
+			Arguments.of((Executable) () -> new Double3x4(1.0, 2.0, 3.0, 0.0, 2.0, 4.0, 6.0, 0.0, 1.0, 0.0, 1.0, 0.0).inverted()),
+			//3. Double3x4 transform points in an array whose length is not a multiple of 3
+			Arguments.of((Executable) () -> a.transformPoints(new double[4], new double[4])),
+			//4. Double3x4 transform points into an array of a different length
+			Arguments.of((Executable) () -> a.transformPoints(new double[3], new double[6])),
+			//5. Double3x4 transform points into a buffer of a different size
+			Arguments.of((Executable) () -> a.transformPoints(new Double3Buffer(2), new Double3Buffer(3), pool))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(MatrixMathException.class, method);
+	}
+
+	static double difference(Double3x4 m1, Double3x4 m2) {
+		return TestDouble4x4.difference(m1.toDouble4x4(), m2.toDouble4x4());
+	}
+
+	static List<Double3> points(double[] points) {
+		return Arrays.asList(new Double3(points[0], points[1], points[2]), new Double3(points[3], points[4], points[5]));
+	}
+}
@@ -1,5 +1,7 @@
 package io.github.vecmatlib.matrix;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
@@ -8,7 +10,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import io.github.vecmatlib.vector.Double3;
+import io.github.vecmatlib.vector.Double3Buffer;
 import io.github.vecmatlib.vector.Double4;
+import io.github.vecmatlib.vector.Double4Buffer;
 import io.github.vecmatlib.vector.Float4;
 
 public class TestDouble4x4 {
@@ -40,6 +45,8 @@ public class TestDouble4x4 {
 	static Double4 vn1 = null;
 	static Float4 vn2 = null;
 
+	static ForkJoinPool pool = new ForkJoinPool(4);
+
 	static Stream<Arguments> testSource() {
 		return Stream.of(
 			//1. Double4x4 + Double4x4
@@ -89,7 +96,41 @@ public class TestDouble4x4 {
 			//23. Double4x4 * Float4x4
 			Arguments.of(new Double4x4(a.row1().dotProduct(c.column1()), a.row1().dotProduct(c.column2()), a.row1().dotProduct(c.column3()), a.row1().dotProduct(c.column4()), a.row2().dotProduct(c.column1()), a.row2().dotProduct(c.column2()), a.row2().dotProduct(c.column3()), a.row2().dotProduct(c.column4()), a.row3().dotProduct(c.column1()), a.row3().dotProduct(c.column2()), a.row3().dotProduct(c.column3()), a.row3().dotProduct(c.column4()), a.row4().dotProduct(c.column1()), a.row4().dotProduct(c.column2()), a.row4().dotProduct(c.column3()), a.row4().dotProduct(c.column4())), a.multiply(c)),
 			//24. Double4x4 ^ int
-			Arguments.of(a.multiply(a).multiply(a), a.power(3))
+			Arguments.of(a.multiply(a).multiply(a), a.power(3)),
+			//25. Double4x4 * Double4x4 with inexact elements
+			Arguments.of(referenceProduct(inexactMatrix(1), inexactMatrix(2)), inexactMatrix(1).multiply(inexactMatrix(2))),
+			//26. Double4x4 * Double4x4 with negative elements
+			Arguments.of(referenceProduct(inexactMatrix(3).negative(), inexactMatrix(4)), inexactMatrix(3).negative().multiply(inexactMatrix(4))),
+			//27. Double4x4 * Double4 with inexact elements
+			Arguments.of(new Double4(inexactMatrix(5).row1().dotProduct(inexactMatrix(6).column1()), inexactMatrix(5).row2().dotProduct(inexactMatrix(6).column1()), inexactMatrix(5).row3().dotProduct(inexactMatrix(6).column1()), inexactMatrix(5).row4().dotProduct(inexactMatrix(6).column1())), inexactMatrix(5).multiply(inexactMatrix(6).column1())),
+			//28. Double4x4 transform point
+			Arguments.of(xyz(inexactMatrix(7).multiply(new Double4(1.3, -2.7, 0.9, 1.0))), inexactMatrix(7).transformPoint(1.3, -2.7, 0.9)),
+			//29. Double4x4 transform point (Double3)
+			Arguments.of(inexactMatrix(7).transformPoint(1.3, -2.7, 0.9), inexactMatrix(7).transformPoint(new Double3(1.3, -2.7, 0.9))),
+			//30. Double4x4 transform direction
+			Arguments.of(xyz(a.multiply(new Double4(1.3, 2.7, 0.9, 0.0))), a.transformDirection(1.3, 2.7, 0.9)),
+			//31. Double4x4 transform direction (Double3)
+			Arguments.of(a.transformDirection(1.3, 2.7, 0.9), a.transformDirection(new Double3(1.3, 2.7, 0.9))),
+			//32. Double4x4 transform point with perspective division
+			Arguments.of(perspectiveDivision(inexactMatrix(8).multiply(new Double4(1.3, -2.7, 0.9, 1.0))), inexactMatrix(8).transformPointPerspective(1.3, -2.7, 0.9)),
+			//33. Double4x4 transform point with perspective division (Double3)
+			Arguments.of(inexactMatrix(8).transformPointPerspective(1.3, -2.7, 0.9), inexactMatrix(8).transformPointPerspective(new Double3(1.3, -2.7, 0.9))),
+			//34. Double4x4 transform points in an array
+			Arguments.of(a.transformPoint(1.5, -2.5, 0.5), vector3(a.transformPoints(new double[] {0.0, 0.0, 0.0, 1.5, -2.5, 0.5}, new double[6]), 1)),
+			//35. Double4x4 transform points in an array in place
+			Arguments.of(a.transformPoint(1.5, -2.5, 0.5), vector3(transformInPlace(a, new double[] {1.5, -2.5, 0.5}), 0)),
+			//36. Double4x4 transform points in a buffer
+			Arguments.of(a.transformPoint(1.5, -2.5, 0.5), a.transformPoints(new Double3Buffer(2).set(1, 1.5, -2.5, 0.5), new Double3Buffer(2)).get(1)),
+			//37. Double4x4 transform vectors in an array
+			Arguments.of(a.multiply(new Double4(1.5, -2.5, 0.5, 2.0)), vector4(a.transform(new double[] {1.5, -2.5, 0.5, 2.0}, new double[4]), 0)),
+			//38. Double4x4 transform vectors in a buffer
+			Arguments.of(a.multiply(new Double4(1.5, -2.5, 0.5, 2.0)), a.transform(new Double4Buffer(2).set(1, 1.5, -2.5, 0.5, 2.0), new Double4Buffer(2)).get(1)),
+			//39. Double4x4 transform points in an array in parallel
+			Arguments.of(true, Arrays.equals(a.transformPoints(large(3 * 70000), new double[3 * 70000]), a.transformPoints(large(3 * 70000), new double[3 * 70000], pool))),
+			//40. Double4x4 transform points in a buffer in parallel
+			Arguments.of(true, equal(a.transformPoints(largeBuffer(70000), new Double3Buffer(70000)), a.transformPoints(largeBuffer(70000), new Double3Buffer(70000), pool))),
+			//41. Double4x4 transform vectors in an array in parallel
+			Arguments.of(true, Arrays.equals(a.transform(large(4 * 70000), new double[4 * 70000]), a.transform(large(4 * 70000), new double[4 * 70000], pool)))
 		);
 	}
 
@@ -125,4 +166,114 @@ public class TestDouble4x4 {
 	void testNullValues(Executable method) {
 		Assertions.assertThrows(NullPointerException.class, method);
 	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		return Stream.of(
+			//1. Determinant of Double4x4
+			Arguments.of(1.65047888, a.determinant()),
+			//2. Determinant of Double4x4 ^ T
+			Arguments.of(a.determinant(), a.transposed().determinant()),
+			//3. Double4x4 * adjugate = determinant * identity
+			Arguments.of(0.0, difference(a.multiply(a.adjugate()), Double4x4.IDENTITY.multipliedBy(a.determinant()))),
+			//4. Double4x4 * Double4x4 ^ -1
+			Arguments.of(0.0, difference(a.multiply(a.inverted()), Double4x4.IDENTITY)),
+			//5. Double4x4 ^ -1 * Double4x4
+			Arguments.of(0.0, difference(a.inverted().multiply(a), Double4x4.IDENTITY)),
+			//6. Affine Double4x4 * affine inverse
+			Arguments.of(0.0, difference(new Double4x4(a11, a12, a13, a14, a21, a22, a23, a24, a31, a32, a33, a34, 0.0, 0.0, 0.0, 1.0).multiply(new Double4x4(a11, a12, a13, a14, a21, a22, a23, a24, a31, a32, a33, a34, 0.0, 0.0, 0.0, 1.0).invertedAffine()), Double4x4.IDENTITY)),
+			//7. Affine inverse of a scale and translation
+			Arguments.of(0.0, difference(new Double4x4(2.0, 0.0, 0.0, 1.0, 0.0, 4.0, 0.0, 2.0, 0.0, 0.0, 8.0, 3.0, 0.0, 0.0, 0.0, 1.0).inverted(), new Double4x4(2.0, 0.0, 0.0, 1.0, 0.0, 4.0, 0.0, 2.0, 0.0, 0.0, 8.0, 3.0, 0.0, 0.0, 0.0, 1.0).invertedAffine())),
+			//8. Rigid inverse of a rotation and translation
+			Arguments.of(0.0, difference(new Double4x4(0.0, -1.0, 0.0, 1.0, 1.0, 0.0, 0.0, 2.0, 0.0, 0.0, 1.0, 3.0, 0.0, 0.0, 0.0, 1.0).inverted(), new Double4x4(0.0, -1.0, 0.0, 1.0, 1.0, 0.0, 0.0, 2.0, 0.0, 0.0, 1.0, 3.0, 0.0, 0.0, 0.0, 1.0).invertedRigid()))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual) {
+		Assertions.assertEquals(expected, actual, 1e-12);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Inverse of a zero Double4x4
+			Arguments.of((Executable) () -> Double4x4.ZERO.inverted()),
+			//2. Inverse of a singular Double4x4
+			Arguments.of((Executable) () -> new Double4x4(1.0, 2.0, 3.0, 4.0, 2.0, 4.0, 6.0, 8.0, 1.0, 0.0, 1.0, 0.0, 0.0, 1.0, 0.0, 1.0).inverted()),
+			//3. Affine inverse of a zero Double4x4
+			Arguments.of((Executable) () -> Double4x4.ZERO.invertedAffine()),
+			//4. Double4x4 transform points in an array whose length is not a multiple of 3
+			Arguments.of((Executable) () -> a.transformPoints(new double[4], new double[4])),
+			//5. Double4x4 transform points into an array of a different length
+			Arguments.of((Executable) () -> a.transformPoints(new double[3], new double[6])),
+			//6. Double4x4 transform points into a buffer of a different size
+			Arguments.of((Executable) () -> a.transformPoints(new Double3Buffer(2), new Double3Buffer(3), pool)),
+			//7. Double4x4 transform vectors in an array whose length is not a multiple of 4
+			Arguments.of((Executable) () -> a.transform(new double[6], new double[6]))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(MatrixMathException.class, method);
+	}
+
+	static double difference(Double4x4 m1, Double4x4 m2) {
+		Double4x4 difference = m1.minus(m2);
+		return difference.row1().length() + difference.row2().length() + difference.row3().length() + difference.row4().length();
+	}
+
+	static Double4x4 inexactMatrix(int seed) {
+		double[] values = new double[16];
+		for(int i = 0; i < values.length; i++) {
+			values[i] = ((i * 7 + seed * 13) % 23 - 9) / 7.0;
+		}
+		return new Double4x4(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8], values[9], values[10], values[11], values[12], values[13], values[14], values[15]);
+	}
+
+	static Double4x4 referenceProduct(Double4x4 m1, Double4x4 m2) {
+		return new Double4x4(
+			m1.row1().dotProduct(m2.column1()), m1.row1().dotProduct(m2.column2()), m1.row1().dotProduct(m2.column3()), m1.row1().dotProduct(m2.column4()),
+			m1.row2().dotProduct(m2.column1()), m1.row2().dotProduct(m2.column2()), m1.row2().dotProduct(m2.column3()), m1.row2().dotProduct(m2.column4()),
+			m1.row3().dotProduct(m2.column1()), m1.row3().dotProduct(m2.column2()), m1.row3().dotProduct(m2.column3()), m1.row3().dotProduct(m2.column4()),
+			m1.row4().dotProduct(m2.column1()), m1.row4().dotProduct(m2.column2()), m1.row4().dotProduct(m2.column3()), m1.row4().dotProduct(m2.column4())
+		);
+	}
+
+	static Double3 xyz(Double4 vector) {
+		return new Double3(vector.x(), vector.y(), vector.z());
+	}
+
+	static Double3 perspectiveDivision(Double4 vector) {
+		return new Double3(vector.x() / vector.w(), vector.y() / vector.w(), vector.z() / vector.w());
+	}
+
+	static double[] large(int length) {
+		double[] values = new double[length];
+		for(int i = 0; i < length; i++) {
+			values[i] = ((i * 7) % 101 - 50) / 17.0;
+		}
+		return values;
+	}
+
+	static Double3Buffer largeBuffer(int size) {
+		return new Double3Buffer(large(size), Arrays.copyOfRange(large(size + 1), 1, size + 1), Arrays.copyOfRange(large(size + 2), 2, size + 2));
+	}
+
+	static boolean equal(Double3Buffer b1, Double3Buffer b2) {
+		return Arrays.equals(b1.x(), b2.x()) && Arrays.equals(b1.y(), b2.y()) && Arrays.equals(b1.z(), b2.z());
+	}
+
+	static double[] transformInPlace(Double4x4 matrix, double[] values) {
+		return matrix.transformPoints(values, values);
+	}
+
+	static Double3 vector3(double[] values, int i) {
+		return new Double3(values[3 * i], values[3 * i + 1], values[3 * i + 2]);
+	}
+
+	static Double4 vector4(double[] values, int i) {
+		return new Double4(values[4 * i], values[4 * i + 1], values[4 * i + 2], values[4 * i + 3]);
+	}
 }
@@ -0,0 +1,136 @@
+package io.github.vecmatlib.matrix;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.vector.DoubleVector;
+
+public class TestDoubleLUDecomposition {
+
+	static DoubleMatrix a = new DoubleMatrix(2, 2, 4.0, 3.0, 6.0, 3.0);
+	static DoubleLUDecomposition la = a.lu();
+
+	static DoubleMatrix b = new DoubleMatrix(3, 3, 2.0, -1.0, 0.0, -1.0, 2.0, -1.0, 0.0, -1.0, 2.0);
+	static DoubleLUDecomposition lb = b.lu();
+
+	static DoubleMatrix s = new DoubleMatrix(2, 2, 1.0, 2.0, 2.0, 4.0);
+	static DoubleLUDecomposition ls = s.lu();
+
+	static DoubleMatrix l1 = randomMatrix(150, 1);
+	static DoubleLUDecomposition ll1 = l1.lu();
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Lower triangular factor
+			Arguments.of(new DoubleMatrix(2, 2, 1.0, 0.0, 4.0 / 6.0, 1.0), la.lower()),
+			//2. Upper triangular factor
+			Arguments.of(new DoubleMatrix(2, 2, 6.0, 3.0, 0.0, 1.0), la.upper()),
+			//3. Permutation
+			Arguments.of(1, la.permutation()[0]),
+			//4. Size
+			Arguments.of(3, lb.size()),
+			//5. Non-singular matrix
+			Arguments.of(false, lb.isSingular()),
+			//6. Singular matrix
+			Arguments.of(true, ls.isSingular()),
+			//7. Condition number of a singular matrix
+			Arguments.of(Double.POSITIVE_INFINITY, ls.conditionNumber()),
+			//8. Identity matrix
+			Arguments.of(DoubleMatrix.identity(4), DoubleMatrix.identity(4).inverted())
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		return Stream.of(
+			//1. Determinant
+			Arguments.of(-6.0, la.determinant(), 1e-12),
+			//2. Determinant of a 3x3 matrix
+			Arguments.of(4.0, b.determinant(), 1e-12),
+			//3. Inverse
+			Arguments.of(0.0, maxDifference(new DoubleMatrix(3, 3, 0.75, 0.5, 0.25, 0.5, 1.0, 0.5, 0.25, 0.5, 0.75), lb.inverse()), 1e-12),
+			//4. Solve with a vector
+			Arguments.of(0.0, lb.solve(new DoubleVector(1.0, 0.0, 1.0)).minus(new DoubleVector(1.0, 1.0, 1.0)).length(), 1e-12),
+			//5. Solve with a matrix
+			Arguments.of(0.0, maxDifference(b.multiply(lb.solve(b.transposed())), b.transposed()), 1e-12),
+			//6. Condition number
+			Arguments.of(8.0, lb.conditionNumber(), 1e-9),
+			//7. P * A = L * U for a matrix larger than a block
+			Arguments.of(0.0, maxDifference(permuted(l1, ll1.permutation()), ll1.lower().multiply(ll1.upper())), 1e-9),
+			//8. A * A^-1 = I for a matrix larger than a block
+			Arguments.of(0.0, maxDifference(DoubleMatrix.identity(150), l1.multiply(ll1.inverse())), 1e-9),
+			//9. Solve with a vector for a matrix larger than a block
+			Arguments.of(0.0, l1.multiply(ll1.solve(l1.row(3))).minus(l1.row(3)).length(), 1e-9),
+			//10. Determinant with a row swap
+			Arguments.of(-4.0, new DoubleMatrix(2, 2, 1.0, 2.0, 3.0, 2.0).lu().determinant(), 1e-12),
+			//11. Determinant of a singular matrix
+			Arguments.of(0.0, ls.determinant(), 0.0)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual, double delta) {
+		Assertions.assertEquals(expected, actual, delta);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Non-square matrix
+			Arguments.of((Executable) () -> new DoubleMatrix(2, 3, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0).lu()),
+			//2. Inverse of a singular matrix
+			Arguments.of((Executable) () -> ls.inverse()),
+			//3. Solve with a singular matrix
+			Arguments.of((Executable) () -> ls.solve(new DoubleVector(1.0, 2.0))),
+			//4. Solve with a vector of a different size
+			Arguments.of((Executable) () -> lb.solve(new DoubleVector(1.0, 2.0))),
+			//5. Solve with a matrix with a different number of rows
+			Arguments.of((Executable) () -> lb.solve(a))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(MatrixMathException.class, method);
+	}
+
+	static DoubleMatrix randomMatrix(int size, int seed) {
+		double[][] values = new double[size][size];
+		for(int r = 0; r < size; r++) {
+			for(int c = 0; c < size; c++) {
+				values[r][c] = ((r * r * 31 + c * c * 17 + r * c * 13 + seed * 7) % 101 - 50) / 17.0;
+			}
+			values[r][size - 1 - r] += 8.0;
+		}
+		return new DoubleMatrix(values);
+	}
+
+	static DoubleMatrix permuted(DoubleMatrix matrix, int[] permutation) {
+		double[][] values = new double[permutation.length][];
+		for(int i = 0; i < permutation.length; i++) {
+			values[i] = matrix.toArray()[permutation[i]];
+		}
+		return new DoubleMatrix(values);
+	}
+
+	static double maxDifference(DoubleMatrix m1, DoubleMatrix m2) {
+		double max = 0.0;
+		for(int r = 0; r < m1.rows(); r++) {
+			for(int c = 0; c < m1.columns(); c++) {
+				max = Math.max(max, Math.abs(m1.element(r, c) - m2.element(r, c)));
+			}
+		}
+		return max;
+	}
+}
@@ -0,0 +1,197 @@
+package io.github.vecmatlib.matrix;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.vector.DoubleVector;
+
+public class TestDoubleMatrix {
+
+	static double[][] av = {{1.5, 2.0, 0.5}, {3.0, 1.0, 2.5}};
+	static DoubleMatrix a = new DoubleMatrix(av);
+
+	static double[][] bv = {{0.5, 1.0, 2.0}, {1.5, 3.0, 0.5}};
+	static DoubleMatrix b = new DoubleMatrix(bv);
+
+	static DoubleMatrix c = new DoubleMatrix(2, 2, 1.0, 2.0, 3.0, 4.0);
+
+	static DoubleMatrix s1 = new DoubleMatrix(new double[][] {{1.0, 2.0}, {2.0, 1.0}});
+	static DoubleMatrix s2 = new DoubleMatrix(new double[][] {{0.0, 2.0}, {-2.0, 0.0}});
+
+	static DoubleMatrix l1 = integerMatrix(131, 300, 1);
+	static DoubleMatrix l2 = integerMatrix(300, 270, 2);
+
+	static ForkJoinPool pool = new ForkJoinPool(4);
+
+	static DoubleMatrix n1 = null;
+	static DoubleVector vn1 = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Number of rows
+			Arguments.of(2, a.rows()),
+			//2. Number of columns
+			Arguments.of(3, a.columns()),
+			//3. Element
+			Arguments.of(2.5, a.element(1, 2)),
+			//4. Flat constructor
+			Arguments.of(new DoubleMatrix(new double[][] {{1.0, 2.0}, {3.0, 4.0}}), c),
+			//5. DoubleMatrix + DoubleMatrix
+			Arguments.of(new DoubleMatrix(new double[][] {{1.5+0.5, 2.0+1.0, 0.5+2.0}, {3.0+1.5, 1.0+3.0, 2.5+0.5}}), a.plus(b)),
+			//6. -DoubleMatrix
+			Arguments.of(new DoubleMatrix(new double[][] {{-1.5, -2.0, -0.5}, {-3.0, -1.0, -2.5}}), a.negative()),
+			//7. DoubleMatrix - DoubleMatrix
+			Arguments.of(new DoubleMatrix(new double[][] {{1.5-0.5, 2.0-1.0, 0.5-2.0}, {3.0-1.5, 1.0-3.0, 2.5-0.5}}), a.minus(b)),
+			//8. DoubleMatrix * double
+			Arguments.of(new DoubleMatrix(new double[][] {{1.5*2.0, 2.0*2.0, 0.5*2.0}, {3.0*2.0, 1.0*2.0, 2.5*2.0}}), a.multipliedBy(2.0)),
+			//9. Row
+			Arguments.of(new DoubleVector(3.0, 1.0, 2.5), a.row(1)),
+			//10. Column
+			Arguments.of(new DoubleVector(0.5, 2.5), a.column(2)),
+			//11. DoubleMatrix * DoubleVector
+			Arguments.of(new DoubleVector(1.5*1.0+2.0*2.0+0.5*3.0, 3.0*1.0+1.0*2.0+2.5*3.0), a.multiply(new DoubleVector(1.0, 2.0, 3.0))),
+			//12. DoubleMatrix ^ T
+			Arguments.of(new DoubleMatrix(new double[][] {{1.5, 3.0}, {2.0, 1.0}, {0.5, 2.5}}), a.transposed()),
+			//13. -(DoubleMatrix ^ T)
+			Arguments.of(new DoubleMatrix(new double[][] {{-1.5, -3.0}, {-2.0, -1.0}, {-0.5, -2.5}}), a.negativeTransposed()),
+			//14. DoubleMatrix == DoubleMatrix ^ T
+			Arguments.of(true, s1.isSymmetric()),
+			//15. DoubleMatrix != DoubleMatrix ^ T
+			Arguments.of(false, c.isSymmetric()),
+			//16. DoubleMatrix == -(DoubleMatrix ^ T)
+			Arguments.of(true, s2.isSkewSymmetric()),
+			//17. DoubleMatrix * DoubleMatrix
+			Arguments.of(new DoubleMatrix(new double[][] {{1.0*1.0+2.0*3.0, 1.0*2.0+2.0*4.0}, {3.0*1.0+4.0*3.0, 3.0*2.0+4.0*4.0}}), c.multiply(c)),
+			//18. DoubleMatrix ^ int
+			Arguments.of(c.multiply(c).multiply(c), c.power(3)),
+			//19. DoubleMatrix ^ 0
+			Arguments.of(DoubleMatrix.identity(2), c.power(0)),
+			//20. Export to array
+			Arguments.of(a, new DoubleMatrix(a.toArray())),
+			//21. Export to flat array
+			Arguments.of(a, new DoubleMatrix(2, 3, a.toRowMajorArray())),
+			//22. Hash code
+			Arguments.of(a.hashCode(), new DoubleMatrix(av).hashCode()),
+			//23. Zero matrix
+			Arguments.of(new DoubleMatrix(new double[2][3]), DoubleMatrix.zero(2, 3)),
+			//24. DoubleMatrix (2x3) * DoubleMatrix (3x2)
+			Arguments.of(new DoubleMatrix(new double[][] {{1.5*1.5+2.0*2.0+0.5*0.5, 1.5*3.0+2.0*1.0+0.5*2.5}, {3.0*1.5+1.0*2.0+2.5*0.5, 3.0*3.0+1.0*1.0+2.5*2.5}}), a.multiply(a.transposed())),
+			//25. DoubleMatrix * DoubleMatrix larger than a block
+			Arguments.of(naiveProduct(l1, l2), l1.multiply(l2)),
+			//26. Parallel DoubleMatrix * DoubleMatrix
+			Arguments.of(l1.multiply(l2), l1.parallelMultiply(l2, pool)),
+			//27. Parallel DoubleMatrix * DoubleMatrix with a given parallelism
+			Arguments.of(l1.multiply(l2), l1.parallelMultiply(l2, 3)),
+			//28. Parallel DoubleMatrix * DoubleMatrix below the threshold
+			Arguments.of(c.multiply(c), c.parallelMultiply(c)),
+			//29. DoubleMatrix ^ int with more than one squaring
+			Arguments.of(c.multiply(c).multiply(c).multiply(c).multiply(c), c.power(5)),
+			//30. DoubleMatrix + DoubleMatrix into a destination
+			Arguments.of(a.plus(b), a.plus(b, DoubleMatrix.zero(2, 3))),
+			//31. DoubleMatrix - DoubleMatrix into a destination
+			Arguments.of(a.minus(b), a.minus(b, DoubleMatrix.zero(2, 3))),
+			//32. -DoubleMatrix into a destination
+			Arguments.of(a.negative(), a.negative(DoubleMatrix.zero(2, 3))),
+			//33. DoubleMatrix * double into a destination
+			Arguments.of(a.multipliedBy(2.0), a.multipliedBy(2.0, DoubleMatrix.zero(2, 3))),
+			//34. DoubleMatrix * double in place
+			Arguments.of(a.multipliedBy(2.0), a.multipliedBy(1).scaleInPlace(2.0)),
+			//35. double * DoubleMatrix + DoubleMatrix in place
+			Arguments.of(a.plus(b.multipliedBy(2.0)), a.multipliedBy(1).axpy(2.0, b)),
+			//36. DoubleMatrix * DoubleMatrix into a destination
+			Arguments.of(l1.multiply(l2), l1.multiplyInto(l2, DoubleMatrix.zero(131, 270))),
+			//37. DoubleMatrix * DoubleMatrix into a destination that is not zero
+			Arguments.of(c.multiply(c), c.multiplyInto(c, c.multipliedBy(2.0)))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Empty matrix
+			Arguments.of((Executable) () -> new DoubleMatrix(new double[0][0])),
+			//2. Null rows
+			Arguments.of((Executable) () -> new DoubleMatrix(new double[][] {{1.0, 2.0}, null})),
+			//3. Rows of different lengths
+			Arguments.of((Executable) () -> new DoubleMatrix(new double[][] {{1.0, 2.0}, {1.0}})),
+			//4. Wrong number of elements
+			Arguments.of((Executable) () -> new DoubleMatrix(2, 2, 1.0, 2.0, 3.0)),
+			//5. DoubleMatrix + DoubleMatrix of a different size
+			Arguments.of((Executable) () -> a.plus(c)),
+			//6. DoubleMatrix - DoubleMatrix of a different size
+			Arguments.of((Executable) () -> a.minus(c)),
+			//7. DoubleMatrix * DoubleVector of a different size
+			Arguments.of((Executable) () -> a.multiply(new DoubleVector(1.0, 2.0))),
+			//8. Non-square DoubleMatrix ^ int
+			Arguments.of((Executable) () -> a.power(2)),
+			//9. DoubleMatrix (2x3) * DoubleMatrix (2x3)
+			Arguments.of((Executable) () -> a.multiply(b)),
+			//10. Parallel DoubleMatrix (2x3) * DoubleMatrix (2x3)
+			Arguments.of((Executable) () -> a.parallelMultiply(b, pool)),
+			//11. DoubleMatrix + DoubleMatrix into a destination of a different size
+			Arguments.of((Executable) () -> a.plus(b, c)),
+			//12. double * DoubleMatrix + DoubleMatrix of a different size in place
+			Arguments.of((Executable) () -> a.multipliedBy(1).axpy(2.0, c)),
+			//13. DoubleMatrix * DoubleMatrix into a destination of a different size
+			Arguments.of((Executable) () -> c.multiplyInto(c, a)),
+			//14. DoubleMatrix * DoubleMatrix into one of the operands
+			Arguments.of((Executable) () -> c.multiplyInto(c, c))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(MatrixMathException.class, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. DoubleMatrix + null (DoubleMatrix)
+			Arguments.of((Executable) () -> a.plus(n1)),
+			//2. DoubleMatrix - null (DoubleMatrix)
+			Arguments.of((Executable) () -> a.minus(n1)),
+			//3. DoubleMatrix * null (DoubleVector)
+			Arguments.of((Executable) () -> a.multiply(vn1)),
+			//4. DoubleMatrix * null (DoubleMatrix)
+			Arguments.of((Executable) () -> a.multiply(n1))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static DoubleMatrix integerMatrix(int rows, int columns, int seed) {
+		double[][] values = new double[rows][columns];
+		for(int r = 0; r < rows; r++) {
+			for(int c = 0; c < columns; c++) {
+				values[r][c] = (r * 7 + c * 3 + seed) % 11 - 5;
+			}
+		}
+		return new DoubleMatrix(values);
+	}
+
+	static DoubleMatrix naiveProduct(DoubleMatrix m1, DoubleMatrix m2) {
+		double[][] values = new double[m1.rows()][m2.columns()];
+		for(int r = 0; r < m1.rows(); r++) {
+			for(int c = 0; c < m2.columns(); c++) {
+				values[r][c] = m1.row(r).dotProduct(m2.column(c));
+			}
+		}
+		return new DoubleMatrix(values);
+	}
+}
@@ -1,5 +1,7 @@
 package io.github.vecmatlib.matrix;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
@@ -10,6 +12,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import io.github.vecmatlib.vector.Double3;
 import io.github.vecmatlib.vector.Float3;
+import io.github.vecmatlib.vector.Float3Buffer;
 import io.github.vecmatlib.vector.Int3;
 
 public class TestFloat3x3 {
@@ -45,6 +48,8 @@ public class TestFloat3x3 {
 	static Int3 vn2 = null;
 	static Double3 vn3 = null;
 
+	static ForkJoinPool pool = new ForkJoinPool(4);
+
 	static Stream<Arguments> testSource() {
 		return Stream.of(
 			//1. Float3x3 + Float3x3
@@ -100,7 +105,17 @@ public class TestFloat3x3 {
 			//26. Float3x3 * Double3x3
 			Arguments.of(new Double3x3(a.row1().dotProduct(d.column1()), a.row1().dotProduct(d.column2()), a.row1().dotProduct(d.column3()), a.row2().dotProduct(d.column1()), a.row2().dotProduct(d.column2()), a.row2().dotProduct(d.column3()), a.row3().dotProduct(d.column1()), a.row3().dotProduct(d.column2()), a.row3().dotProduct(d.column3())), a.multiply(d)),
 			//27. Float3x3 ^ int
-			Arguments.of(a.multiply(a).multiply(a), a.power(3))
+			Arguments.of(a.multiply(a).multiply(a), a.power(3)),
+			//28. Float3x3 transform vectors in an array
+			Arguments.of(a.multiply(new Float3(1.5f, -2.5f, 0.5f)), vector3(a.transform(new float[] {0.0f, 0.0f, 0.0f, 1.5f, -2.5f, 0.5f}, new float[6]), 1)),
+			//29. Float3x3 transform vectors in an array in place
+			Arguments.of(a.multiply(new Float3(1.5f, -2.5f, 0.5f)), vector3(transformInPlace(a, new float[] {1.5f, -2.5f, 0.5f}), 0)),
+			//30. Float3x3 transform vectors in a buffer
+			Arguments.of(a.multiply(new Float3(1.5f, -2.5f, 0.5f)), a.transform(new Float3Buffer(2).set(1, 1.5f, -2.5f, 0.5f), new Float3Buffer(2)).get(1)),
+			//31. Float3x3 transform vectors in an array in parallel
+			Arguments.of(true, Arrays.equals(a.transform(large(3 * 70000), new float[3 * 70000]), a.transform(large(3 * 70000), new float[3 * 70000], pool))),
+			//32. Float3x3 transform vectors in a buffer in parallel
+			Arguments.of(true, equal(a.transform(largeBuffer(70000), new Float3Buffer(70000)), a.transform(largeBuffer(70000), new Float3Buffer(70000), pool)))
 		);
 	}
 
@@ -144,4 +159,83 @@ public class TestFloat3x3 {
 	void testNullValues(Executable method) {
 		Assertions.assertThrows(NullPointerException.class, method);
 	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		return Stream.of(
+			//1. Determinant of Float3x3
+			Arguments.of(1.282, a.determinant()),
+			//2. Determinant of Float3x3 ^ T
+			Arguments.of(a.determinant(), a.transposed().determinant()),
+			//3. Float3x3 * adjugate = determinant * identity
+			Arguments.of(0.0, difference(a.multiply(a.adjugate()), Float3x3.IDENTITY.multipliedBy(a.determinant()))),
+			//4. Float3x3 * Float3x3 ^ -1
+			Arguments.of(0.0, difference(a.multiply(a.inverted()), Float3x3.IDENTITY)),
+			//5. Float3x3 ^ -1 * Float3x3
+			Arguments.of(0.0, difference(a.inverted().multiply(a), Float3x3.IDENTITY)),
+			//6. Affine Float3x3 * affine inverse
+			Arguments.of(0.0, difference(new Float3x3(a11, a12, a13, a21, a22, a23, 0.0f, 0.0f, 1.0f).multiply(new Float3x3(a11, a12, a13, a21, a22, a23, 0.0f, 0.0f, 1.0f).invertedAffine()), Float3x3.IDENTITY)),
+			//7. Affine inverse of a scale and translation
+			Arguments.of(0.0, difference(new Float3x3(2.0f, 0.0f, 1.0f, 0.0f, 4.0f, 2.0f, 0.0f, 0.0f, 1.0f).inverted(), new Float3x3(2.0f, 0.0f, 1.0f, 0.0f, 4.0f, 2.0f, 0.0f, 0.0f, 1.0f).invertedAffine())),
+			//8. Rigid inverse of a rotation and translation
+			Arguments.of(0.0, difference(new Float3x3(0.0f, -1.0f, 1.0f, 1.0f, 0.0f, 2.0f, 0.0f, 0.0f, 1.0f).inverted(), new Float3x3(0.0f, -1.0f, 1.0f, 1.0f, 0.0f, 2.0f, 0.0f, 0.0f, 1.0f).invertedRigid()))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual) {
+		Assertions.assertEquals(expected, actual, 1e-5);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Inverse of a zero Float3x3
+			Arguments.of((Executable) () -> Float3x3.ZERO.inverted()),
+			//2. Inverse of a singular Float3x3
+			Arguments.of((Executable) () -> new Float3x3(1.0f, 2.0f, 3.0f, 2.0f, 4.0f, 6.0f, 1.0f, 0.0f, 1.0f).inverted()),
+			//3. Affine inverse of a zero Float3x3
+			Arguments.of((Executable) () -> Float3x3.ZERO.invertedAffine()),
+			//4. Float3x3 transform vectors in an array whose length is not a multiple of 3
+			Arguments.of((Executable) () -> a.transform(new float[4], new float[4])),
+			//5. Float3x3 transform vectors into an array of a different length
+			Arguments.of((Executable) () -> a.transform(new float[3], new float[6])),
+			//6. Float3x3 transform vectors into a buffer of a different size
+			Arguments.of((Executable) () -> a.transform(new Float3Buffer(2), new Float3Buffer(3), pool))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(MatrixMathException.class, method);
+	}
+
+	static double difference(Float3x3 m1, Float3x3 m2) {
+		Float3x3 difference = m1.minus(m2);
+		return difference.row1().length() + difference.row2().length() + difference.row3().length();
+	}
+
+	static float[] large(int length) {
+		float[] values = new float[length];
+		for(int i = 0; i < length; i++) {
+			values[i] = ((i * 7) % 101 - 50) / 17.0f;
+		}
+		return values;
+	}
+
+	static Float3Buffer largeBuffer(int size) {
+		return new Float3Buffer(large(size), Arrays.copyOfRange(large(size + 1), 1, size + 1), Arrays.copyOfRange(large(size + 2), 2, size + 2));
+	}
+
+	static boolean equal(Float3Buffer b1, Float3Buffer b2) {
+		return Arrays.equals(b1.x(), b2.x()) && Arrays.equals(b1.y(), b2.y()) && Arrays.equals(b1.z(), b2.z());
+	}
+
+	static float[] transformInPlace(Float3x3 matrix, float[] values) {
+		return matrix.transform(values, values);
+	}
+
+	static Float3 vector3(float[] values, int i) {
+		return new Float3(values[3 * i], values[3 * i + 1], values[3 * i + 2]);
+	}
 }
@@ -0,0 +1,159 @@
+package io.github.vecmatlib.matrix;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.vector.Float3;
+import io.github.vecmatlib.vector.Float3Buffer;
+
+public class TestFloat3x4 {
+
+	static Float3x4 a = new Float3x4(1.2f, 0.5f, 0.2f, 3.0f, 0.7f, 1.6f, 0.4f, -1.0f, 2.4f, 0.0f, 1.0f, 0.5f);
+	static Float3x4 b = new Float3x4(0.6f, 1.2f, 0.9f, -2.0f, 0.3f, 0.7f, 0.1f, 1.5f, 1.4f, 2.5f, 1.6f, 0.0f);
+	static Float3x4 r = Float3x4.fromRotationAndTranslation(QuaternionF.fromAxisAngle(1.0f, 2.0f, 3.0f, 0.7f), new Float3(1.0f, -2.0f, 0.5f));
+
+	static Float4x4 a4 = a.toFloat4x4();
+	static Float4x4 b4 = b.toFloat4x4();
+
+	static Float3 p = new Float3(1.5f, -0.4f, 2.2f);
+
+	static ForkJoinPool pool = new ForkJoinPool(4);
+
+	static Float3x4 mn = null;
+	static Float3 vn = null;
+	static float[] an = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Float3x4 to Float4x4
+			Arguments.of(new Float4x4(1.2f, 0.5f, 0.2f, 3.0f, 0.7f, 1.6f, 0.4f, -1.0f, 2.4f, 0.0f, 1.0f, 0.5f, 0.0f, 0.0f, 0.0f, 1.0f), a4),
+			//2. Float3x4 from its Float4x4
+			Arguments.of(a, Float3x4.fromAffine(a4)),
+			//3. Identity to Float4x4
+			Arguments.of(Float4x4.IDENTITY, Float3x4.IDENTITY.toFloat4x4()),
+			//4. Float3x4 * Float3x4 is the product of the 4x4 matrices
+			Arguments.of(a4.multiply(b4), a.multiply(b).toFloat4x4()),
+			//5. Identity * Float3x4
+			Arguments.of(a, Float3x4.IDENTITY.multiply(a)),
+			//6. Float3x4 * identity
+			Arguments.of(a, a.multiply(Float3x4.IDENTITY)),
+			//7. Transform point
+			Arguments.of(a4.transformPoint(p), a.transformPoint(p)),
+			//8. Transform direction
+			Arguments.of(a4.transformDirection(p), a.transformDirection(p)),
+			//9. Linear part
+			Arguments.of(new Float3x3(1.2f, 0.5f, 0.2f, 0.7f, 1.6f, 0.4f, 2.4f, 0.0f, 1.0f), a.linear()),
+			//10. Translation
+			Arguments.of(new Float3(3.0f, -1.0f, 0.5f), a.translation()),
+			//11. Float3x4 from linear part and translation
+			Arguments.of(a, Float3x4.fromLinearAndTranslation(a.linear(), a.translation())),
+			//12. Translation only moves points
+			Arguments.of(p.plus(new Float3(1.0f, -2.0f, 0.5f)), Float3x4.fromLinearAndTranslation(Float3x3.IDENTITY, new Float3(1.0f, -2.0f, 0.5f)).transformPoint(p)),
+			//13. Translation does not move directions
+			Arguments.of(p, Float3x4.fromLinearAndTranslation(Float3x3.IDENTITY, new Float3(1.0f, -2.0f, 0.5f)).transformDirection(p)),
+			//14. Float3x4 as double
+			Arguments.of(a.toFloat4x4().asDouble(), a.asDouble().toDouble4x4()),
+			//15. Float3x4 transform points in an array
+			Arguments.of(Arrays.asList(a.transformPoint(1.0f, 2.0f, 3.0f), a.transformPoint(-1.0f, 0.5f, 4.0f)), points(a.transformPoints(new float[] {1.0f, 2.0f, 3.0f, -1.0f, 0.5f, 4.0f}, new float[6]))),
+			//16. Float3x4 transform points in an array in parallel
+			Arguments.of(Arrays.asList(a.transformPoint(1.0f, 2.0f, 3.0f), a.transformPoint(-1.0f, 0.5f, 4.0f)), points(a.transformPoints(new float[] {1.0f, 2.0f, 3.0f, -1.0f, 0.5f, 4.0f}, new float[6], pool))),
+			//17. Float3x4 transform points in a buffer
+			Arguments.of(a.transformPoint(1.5f, -2.5f, 0.5f), a.transformPoints(new Float3Buffer(2).set(1, 1.5f, -2.5f, 0.5f), new Float3Buffer(2)).get(1)),
+			//18. Float3x4 transform points in a large buffer in parallel
+			Arguments.of(true, TestFloat4x4.equal(a4.transformPoints(TestFloat4x4.largeBuffer(70000), new Float3Buffer(70000)), a.transformPoints(TestFloat4x4.largeBuffer(70000), new Float3Buffer(70000), pool)))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. Float3x4 * null
+			Arguments.of((Executable) () -> a.multiply(mn)),
+			//2. Transform null point
+			Arguments.of((Executable) () -> a.transformPoint(vn)),
+			//3. Transform null direction
+			Arguments.of((Executable) () -> a.transformDirection(vn)),
+			//4. Float3x4 from a null Float4x4
+			Arguments.of((Executable) () -> Float3x4.fromAffine(null)),
+			//5. Float3x4 from a null translation
+			Arguments.of((Executable) () -> Float3x4.fromLinearAndTranslation(Float3x3.IDENTITY, vn)),
+			//6. Float3x4 transform null points
+			Arguments.of((Executable) () -> a.transformPoints(an, new float[3])),
+			//7. Float3x4 transform points with a null pool
+			Arguments.of((Executable) () -> a.transformPoints(new float[3], new float[3], null))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		return Stream.of(
+			//1. Determinant of Float3x4
+			Arguments.of(a4.determinant(), a.determinant()),
+			//2. Float3x4 * Float3x4 ^ -1
+			Arguments.of(0.0, difference(a.multiply(a.inverted()), Float3x4.IDENTITY)),
+			//3. Float3x4 ^ -1 * Float3x4
+			Arguments.of(0.0, difference(a.inverted().multiply(a), Float3x4.IDENTITY)),
+			//4. Inverse of Float3x4 is the inverse of the 4x4 matrix
+			Arguments.of(0.0, TestFloat4x4.difference(a4.inverted(), a.inverted().toFloat4x4())),
+			//5. Rigid inverse of a rotation and translation
+			Arguments.of(0.0, difference(r.inverted(), r.invertedRigid())),
+			//6. Rigid transformation keeps distances
+			Arguments.of(p.length(), r.transformPoint(p).minus(r.transformPoint(0.0f, 0.0f, 0.0f)).length()),
+			//7. Rigid transformation from a quaternion rotates points
+			Arguments.of(0.0, r.transformDirection(p).minus(QuaternionF.fromAxisAngle(1.0f, 2.0f, 3.0f, 0.7f).rotate(p)).length())
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual) {
+		Assertions.assertEquals(expected, actual, 1e-5);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Inverse of a Float3x4 with a zero linear part
+			Arguments.of((Executable) () -> new Float3x4(0.0f, 0.0f, 0.0f, 1.0f, 0.0f, 0.0f, 0.0f, 2.0f, 0.0f, 0.0f, 0.0f, 3.0f).inverted()),
+			//2. Inverse of a singular Float3x4
+			Arguments.of((Executable) () -> new Float3x4(1.0f, 2.0f, 3.0f, 0.0f, 2.0f, 4.0f, 6.0f, 0.0f, 1.0f, 0.0f, 1.0f, 0.0f).inverted()),
+			//3. Float3x4 transform points in an array whose length is not a multiple of 3
+			Arguments.of((Executable) () -> a.transformPoints(new float[4], new float[4])),
+			//4. Float3x4 transform points into an array of a different length
+			Arguments.of((Executable) () -> a.transformPoints(new float[3], new float[6])),
+			//5. Float3x4 transform points into a buffer of a different size
+			Arguments.of((Executable) () -> a.transformPoints(new Float3Buffer(2), new Float3Buffer(3), pool))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(MatrixMathException.class, method);
+	}
+
+	static double difference(Float3x4 m1, Float3x4 m2) {
+		return TestFloat4x4.difference(m1.toFloat4x4(), m2.toFloat4x4());
+	}
+
+	static List<Float3> points(float[] points) {
+		return Arrays.asList(new Float3(points[0], points[1], points[2]), new Float3(points[3], points[4], points[5]));
+	}
+}
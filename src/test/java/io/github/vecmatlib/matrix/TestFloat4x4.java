@@ -1,5 +1,7 @@
 package io.github.vecmatlib.matrix;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
@@ -9,7 +11,10 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import io.github.vecmatlib.vector.Double4;
+import io.github.vecmatlib.vector.Float3;
+import io.github.vecmatlib.vector.Float3Buffer;
 import io.github.vecmatlib.vector.Float4;
+import io.github.vecmatlib.vector.Float4Buffer;
 import io.github.vecmatlib.vector.Int4;
 
 public class TestFloat4x4 {
@@ -49,6 +54,8 @@ public class TestFloat4x4 {
 	static Float4 vn2 = null;
 	static Double4 vn3 = null;
 
+	static ForkJoinPool pool = new ForkJoinPool(4);
+
 	static Stream<Arguments> testSource() {
 		return Stream.of(
 			//1. Float4x4 + Float4x4
@@ -108,7 +115,41 @@ public class TestFloat4x4 {
 			//28. Float4x4 * Double4x4
 			Arguments.of(new Double4x4(a.row1().dotProduct(d.column1()), a.row1().dotProduct(d.column2()), a.row1().dotProduct(d.column3()), a.row1().dotProduct(d.column4()), a.row2().dotProduct(d.column1()), a.row2().dotProduct(d.column2()), a.row2().dotProduct(d.column3()), a.row2().dotProduct(d.column4()), a.row3().dotProduct(d.column1()), a.row3().dotProduct(d.column2()), a.row3().dotProduct(d.column3()), a.row3().dotProduct(d.column4()), a.row4().dotProduct(d.column1()), a.row4().dotProduct(d.column2()), a.row4().dotProduct(d.column3()), a.row4().dotProduct(d.column4())), a.multiply(d)),
 			//29. Float4x4 ^ int
-			Arguments.of(a.multiply(a).multiply(a), a.power(3))
+			Arguments.of(a.multiply(a).multiply(a), a.power(3)),
+			//30. Float4x4 * Float4x4 with inexact elements
+			Arguments.of(referenceProduct(inexactMatrix(1), inexactMatrix(2)), inexactMatrix(1).multiply(inexactMatrix(2))),
+			//31. Float4x4 * Float4x4 with negative elements
+			Arguments.of(referenceProduct(inexactMatrix(3).negative(), inexactMatrix(4)), inexactMatrix(3).negative().multiply(inexactMatrix(4))),
+			//32. Float4x4 * Float4 with inexact elements
+			Arguments.of(new Float4(inexactMatrix(5).row1().dotProduct(inexactMatrix(6).column1()), inexactMatrix(5).row2().dotProduct(inexactMatrix(6).column1()), inexactMatrix(5).row3().dotProduct(inexactMatrix(6).column1()), inexactMatrix(5).row4().dotProduct(inexactMatrix(6).column1())), inexactMatrix(5).multiply(inexactMatrix(6).column1())),
+			//33. Float4x4 transform point
+			Arguments.of(xyz(inexactMatrix(7).multiply(new Float4(1.3f, -2.7f, 0.9f, 1.0f))), inexactMatrix(7).transformPoint(1.3f, -2.7f, 0.9f)),
+			//34. Float4x4 transform point (Float3)
+			Arguments.of(inexactMatrix(7).transformPoint(1.3f, -2.7f, 0.9f), inexactMatrix(7).transformPoint(new Float3(1.3f, -2.7f, 0.9f))),
+			//35. Float4x4 transform direction
+			Arguments.of(xyz(a.multiply(new Float4(1.3f, 2.7f, 0.9f, 0.0f))), a.transformDirection(1.3f, 2.7f, 0.9f)),
+			//36. Float4x4 transform direction (Float3)
+			Arguments.of(a.transformDirection(1.3f, 2.7f, 0.9f), a.transformDirection(new Float3(1.3f, 2.7f, 0.9f))),
+			//37. Float4x4 transform point with perspective division
+			Arguments.of(perspectiveDivision(inexactMatrix(8).multiply(new Float4(1.3f, -2.7f, 0.9f, 1.0f))), inexactMatrix(8).transformPointPerspective(1.3f, -2.7f, 0.9f)),
+			//38. Float4x4 transform point with perspective division (Float3)
+			Arguments.of(inexactMatrix(8).transformPointPerspective(1.3f, -2.7f, 0.9f), inexactMatrix(8).transformPointPerspective(new Float3(1.3f, -2.7f, 0.9f))),
+			//39. Float4x4 transform points in an array
+			Arguments.of(a.transformPoint(1.5f, -2.5f, 0.5f), vector3(a.transformPoints(new float[] {0.0f, 0.0f, 0.0f, 1.5f, -2.5f, 0.5f}, new float[6]), 1)),
+			//40. Float4x4 transform points in an array in place
+			Arguments.of(a.transformPoint(1.5f, -2.5f, 0.5f), vector3(transformInPlace(a, new float[] {1.5f, -2.5f, 0.5f}), 0)),
+			//41. Float4x4 transform points in a buffer
+			Arguments.of(a.transformPoint(1.5f, -2.5f, 0.5f), a.transformPoints(new Float3Buffer(2).set(1, 1.5f, -2.5f, 0.5f), new Float3Buffer(2)).get(1)),
+			//42. Float4x4 transform vectors in an array
+			Arguments.of(a.multiply(new Float4(1.5f, -2.5f, 0.5f, 2.0f)), vector4(a.transform(new float[] {1.5f, -2.5f, 0.5f, 2.0f}, new float[4]), 0)),
+			//43. Float4x4 transform vectors in a buffer
+			Arguments.of(a.multiply(new Float4(1.5f, -2.5f, 0.5f, 2.0f)), a.transform(new Float4Buffer(2).set(1, 1.5f, -2.5f, 0.5f, 2.0f), new Float4Buffer(2)).get(1)),
+			//44. Float4x4 transform points in an array in parallel
+			Arguments.of(true, Arrays.equals(a.transformPoints(large(3 * 70000), new float[3 * 70000]), a.transformPoints(large(3 * 70000), new float[3 * 70000], pool))),
+			//45. Float4x4 transform points in a buffer in parallel
+			Arguments.of(true, equal(a.transformPoints(largeBuffer(70000), new Float3Buffer(70000)), a.transformPoints(largeBuffer(70000), new Float3Buffer(70000), pool))),
+			//46. Float4x4 transform vectors in an array in parallel
+			Arguments.of(true, Arrays.equals(a.transform(large(4 * 70000), new float[4 * 70000]), a.transform(large(4 * 70000), new float[4 * 70000], pool)))
 		);
 	}
 
@@ -152,4 +193,114 @@ public class TestFloat4x4 {
 	void testNullValues(Executable method) {
 		Assertions.assertThrows(NullPointerException.class, method);
 	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		return Stream.of(
+			//1. Determinant of Float4x4
+			Arguments.of(6.442, a.determinant()),
+			//2. Determinant of Float4x4 ^ T
+			Arguments.of(a.determinant(), a.transposed().determinant()),
+			//3. Float4x4 * adjugate = determinant * identity
+			Arguments.of(0.0, difference(a.multiply(a.adjugate()), Float4x4.IDENTITY.multipliedBy(a.determinant()))),
+			//4. Float4x4 * Float4x4 ^ -1
+			Arguments.of(0.0, difference(a.multiply(a.inverted()), Float4x4.IDENTITY)),
+			//5. Float4x4 ^ -1 * Float4x4
+			Arguments.of(0.0, difference(a.inverted().multiply(a), Float4x4.IDENTITY)),
+			//6. Affine Float4x4 * affine inverse
+			Arguments.of(0.0, difference(new Float4x4(a11, a12, a13, a14, a21, a22, a23, a24, a31, a32, a33, a34, 0.0f, 0.0f, 0.0f, 1.0f).multiply(new Float4x4(a11, a12, a13, a14, a21, a22, a23, a24, a31, a32, a33, a34, 0.0f, 0.0f, 0.0f, 1.0f).invertedAffine()), Float4x4.IDENTITY)),
+			//7. Affine inverse of a scale and translation
+			Arguments.of(0.0, difference(new Float4x4(2.0f, 0.0f, 0.0f, 1.0f, 0.0f, 4.0f, 0.0f, 2.0f, 0.0f, 0.0f, 8.0f, 3.0f, 0.0f, 0.0f, 0.0f, 1.0f).inverted(), new Float4x4(2.0f, 0.0f, 0.0f, 1.0f, 0.0f, 4.0f, 0.0f, 2.0f, 0.0f, 0.0f, 8.0f, 3.0f, 0.0f, 0.0f, 0.0f, 1.0f).invertedAffine())),
+			//8. Rigid inverse of a rotation and translation
+			Arguments.of(0.0, difference(new Float4x4(0.0f, -1.0f, 0.0f, 1.0f, 1.0f, 0.0f, 0.0f, 2.0f, 0.0f, 0.0f, 1.0f, 3.0f, 0.0f, 0.0f, 0.0f, 1.0f).inverted(), new Float4x4(0.0f, -1.0f, 0.0f, 1.0f, 1.0f, 0.0f, 0.0f, 2.0f, 0.0f, 0.0f, 1.0f, 3.0f, 0.0f, 0.0f, 0.0f, 1.0f).invertedRigid()))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual) {
+		Assertions.assertEquals(expected, actual, 1e-5);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Inverse of a zero Float4x4
+			Arguments.of((Executable) () -> Float4x4.ZERO.inverted()),
+			//2. Inverse of a singular Float4x4
+			Arguments.of((Executable) () -> new Float4x4(1.0f, 2.0f, 3.0f, 4.0f, 2.0f, 4.0f, 6.0f, 8.0f, 1.0f, 0.0f, 1.0f, 0.0f, 0.0f, 1.0f, 0.0f, 1.0f).inverted()),
+			//3. Affine inverse of a zero Float4x4
+			Arguments.of((Executable) () -> Float4x4.ZERO.invertedAffine()),
+			//4. Float4x4 transform points in an array whose length is not a multiple of 3
+			Arguments.of((Executable) () -> a.transformPoints(new float[4], new float[4])),
+			//5. Float4x4 transform points into an array of a different length
+			Arguments.of((Executable) () -> a.transformPoints(new float[3], new float[6])),
+			//6. Float4x4 transform points into a buffer of a different size
+			Arguments.of((Executable) () -> a.transformPoints(new Float3Buffer(2), new Float3Buffer(3), pool)),
+			//7. Float4x4 transform vectors in an array whose length is not a multiple of 4
+			Arguments.of((Executable) () -> a.transform(new float[6], new float[6]))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(MatrixMathException.class, method);
+	}
+
+	static double difference(Float4x4 m1, Float4x4 m2) {
+		Float4x4 difference = m1.minus(m2);
+		return difference.row1().length() + difference.row2().length() + difference.row3().length() + difference.row4().length();
+	}
+
+	static Float4x4 inexactMatrix(int seed) {
+		float[] values = new float[16];
+		for(int i = 0; i < values.length; i++) {
+			values[i] = ((i * 7 + seed * 13) % 23 - 9) / 7.0f;
+		}
+		return new Float4x4(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8], values[9], values[10], values[11], values[12], values[13], values[14], values[15]);
+	}
+
+	static Float4x4 referenceProduct(Float4x4 m1, Float4x4 m2) {
+		return new Float4x4(
+			m1.row1().dotProduct(m2.column1()), m1.row1().dotProduct(m2.column2()), m1.row1().dotProduct(m2.column3()), m1.row1().dotProduct(m2.column4()),
+			m1.row2().dotProduct(m2.column1()), m1.row2().dotProduct(m2.column2()), m1.row2().dotProduct(m2.column3()), m1.row2().dotProduct(m2.column4()),
+			m1.row3().dotProduct(m2.column1()), m1.row3().dotProduct(m2.column2()), m1.row3().dotProduct(m2.column3()), m1.row3().dotProduct(m2.column4()),
+			m1.row4().dotProduct(m2.column1()), m1.row4().dotProduct(m2.column2()), m1.row4().dotProduct(m2.column3()), m1.row4().dotProduct(m2.column4())
+		);
+	}
+
+	static Float3 xyz(Float4 vector) {
+		return new Float3(vector.x(), vector.y(), vector.z());
+	}
+
+	static Float3 perspectiveDivision(Float4 vector) {
+		return new Float3(vector.x() / vector.w(), vector.y() / vector.w(), vector.z() / vector.w());
+	}
+
+	static float[] large(int length) {
+		float[] values = new float[length];
+		for(int i = 0; i < length; i++) {
+			values[i] = ((i * 7) % 101 - 50) / 17.0f;
+		}
+		return values;
+	}
+
+	static Float3Buffer largeBuffer(int size) {
+		return new Float3Buffer(large(size), Arrays.copyOfRange(large(size + 1), 1, size + 1), Arrays.copyOfRange(large(size + 2), 2, size + 2));
+	}
+
+	static boolean equal(Float3Buffer b1, Float3Buffer b2) {
+		return Arrays.equals(b1.x(), b2.x()) && Arrays.equals(b1.y(), b2.y()) && Arrays.equals(b1.z(), b2.z());
+	}
+
+	static float[] transformInPlace(Float4x4 matrix, float[] values) {
+		return matrix.transformPoints(values, values);
+	}
+
+	static Float3 vector3(float[] values, int i) {
+		return new Float3(values[3 * i], values[3 * i + 1], values[3 * i + 2]);
+	}
+
+	static Float4 vector4(float[] values, int i) {
+		return new Float4(values[4 * i], values[4 * i + 1], values[4 * i + 2], values[4 * i + 3]);
+	}
 }
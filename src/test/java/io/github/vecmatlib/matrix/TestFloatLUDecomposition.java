@@ -0,0 +1,136 @@
+package io.github.vecmatlib.matrix;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.vector.FloatVector;
+
+public class TestFloatLUDecomposition {
+
+	static FloatMatrix a = new FloatMatrix(2, 2, 4.0f, 3.0f, 6.0f, 3.0f);
+	static FloatLUDecomposition la = a.lu();
+
+	static FloatMatrix b = new FloatMatrix(3, 3, 2.0f, -1.0f, 0.0f, -1.0f, 2.0f, -1.0f, 0.0f, -1.0f, 2.0f);
+	static FloatLUDecomposition lb = b.lu();
+
+	static FloatMatrix s = new FloatMatrix(2, 2, 1.0f, 2.0f, 2.0f, 4.0f);
+	static FloatLUDecomposition ls = s.lu();
+
+	static FloatMatrix l1 = randomMatrix(150, 1);
+	static FloatLUDecomposition ll1 = l1.lu();
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Lower triangular factor
+			Arguments.of(new FloatMatrix(2, 2, 1.0f, 0.0f, 4.0f / 6.0f, 1.0f), la.lower()),
+			//2. Upper triangular factor
+			Arguments.of(new FloatMatrix(2, 2, 6.0f, 3.0f, 0.0f, 1.0f), la.upper()),
+			//3. Permutation
+			Arguments.of(1, la.permutation()[0]),
+			//4. Size
+			Arguments.of(3, lb.size()),
+			//5. Non-singular matrix
+			Arguments.of(false, lb.isSingular()),
+			//6. Singular matrix
+			Arguments.of(true, ls.isSingular()),
+			//7. Condition number of a singular matrix
+			Arguments.of(Float.POSITIVE_INFINITY, ls.conditionNumber()),
+			//8. Identity matrix
+			Arguments.of(FloatMatrix.identity(4), FloatMatrix.identity(4).inverted())
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		return Stream.of(
+			//1. Determinant
+			Arguments.of(-6.0f, la.determinant(), 1e-5),
+			//2. Determinant of a 3x3 matrix
+			Arguments.of(4.0f, b.determinant(), 1e-5),
+			//3. Inverse
+			Arguments.of(0.0f, maxDifference(new FloatMatrix(3, 3, 0.75f, 0.5f, 0.25f, 0.5f, 1.0f, 0.5f, 0.25f, 0.5f, 0.75f), lb.inverse()), 1e-5),
+			//4. Solve with a vector
+			Arguments.of(0.0f, lb.solve(new FloatVector(1.0f, 0.0f, 1.0f)).minus(new FloatVector(1.0f, 1.0f, 1.0f)).length(), 1e-5),
+			//5. Solve with a matrix
+			Arguments.of(0.0f, maxDifference(b.multiply(lb.solve(b.transposed())), b.transposed()), 1e-5),
+			//6. Condition number
+			Arguments.of(8.0f, lb.conditionNumber(), 1e-3),
+			//7. P * A = L * U for a matrix larger than a block
+			Arguments.of(0.0f, maxDifference(permuted(l1, ll1.permutation()), ll1.lower().multiply(ll1.upper())), 1e-3),
+			//8. A * A^-1 = I for a matrix larger than a block
+			Arguments.of(0.0f, maxDifference(FloatMatrix.identity(150), l1.multiply(ll1.inverse())), 1e-3),
+			//9. Solve with a vector for a matrix larger than a block
+			Arguments.of(0.0f, l1.multiply(ll1.solve(l1.row(3))).minus(l1.row(3)).length(), 1e-3),
+			//10. Determinant with a row swap
+			Arguments.of(-4.0f, new FloatMatrix(2, 2, 1.0f, 2.0f, 3.0f, 2.0f).lu().determinant(), 1e-5),
+			//11. Determinant of a singular matrix
+			Arguments.of(0.0f, ls.determinant(), 0.0)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual, double delta) {
+		Assertions.assertEquals(expected, actual, delta);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Non-square matrix
+			Arguments.of((Executable) () -> new FloatMatrix(2, 3, 1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f).lu()),
+			//2. Inverse of a singular matrix
+			Arguments.of((Executable) () -> ls.inverse()),
+			//3. Solve with a singular matrix
+			Arguments.of((Executable) () -> ls.solve(new FloatVector(1.0f, 2.0f))),
+			//4. Solve with a vector of a different size
+			Arguments.of((Executable) () -> lb.solve(new FloatVector(1.0f, 2.0f))),
+			//5. Solve with a matrix with a different number of rows
+			Arguments.of((Executable) () -> lb.solve(a))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(MatrixMathException.class, method);
+	}
+
+	static FloatMatrix randomMatrix(int size, int seed) {
+		float[][] values = new float[size][size];
+		for(int r = 0; r < size; r++) {
+			for(int c = 0; c < size; c++) {
+				values[r][c] = ((r * r * 31 + c * c * 17 + r * c * 13 + seed * 7) % 101 - 50) / 17.0f;
+			}
+			values[r][size - 1 - r] += 8.0f;
+		}
+		return new FloatMatrix(values);
+	}
+
+	static FloatMatrix permuted(FloatMatrix matrix, int[] permutation) {
+		float[][] values = new float[permutation.length][];
+		for(int i = 0; i < permutation.length; i++) {
+			values[i] = matrix.toArray()[permutation[i]];
+		}
+		return new FloatMatrix(values);
+	}
+
+	static float maxDifference(FloatMatrix m1, FloatMatrix m2) {
+		float max = 0.0f;
+		for(int r = 0; r < m1.rows(); r++) {
+			for(int c = 0; c < m1.columns(); c++) {
+				max = Math.max(max, Math.abs(m1.element(r, c) - m2.element(r, c)));
+			}
+		}
+		return max;
+	}
+}
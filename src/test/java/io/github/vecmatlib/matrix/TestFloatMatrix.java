@@ -0,0 +1,156 @@
+package io.github.vecmatlib.matrix;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.vector.FloatVector;
+
+public class TestFloatMatrix {
+
+	static FloatMatrix a = new FloatMatrix(new Float[][] {{1.5f, 2.0f, 0.5f}, {3.0f, 1.0f, 2.5f}});
+	static FloatMatrix b = new FloatMatrix(new Float[][] {{0.5f, 1.0f, 2.0f}, {1.5f, 3.0f, 0.5f}});
+	static FloatMatrix c = new FloatMatrix(2, 2, 1.0f, 2.0f, 3.0f, 4.0f);
+
+	static FloatMatrix l1 = integerMatrix(131, 300, 1);
+	static FloatMatrix l2 = integerMatrix(300, 270, 2);
+
+	static ForkJoinPool pool = new ForkJoinPool(4);
+
+	static FloatMatrix n1 = null;
+	static FloatVector vn1 = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. FloatMatrix + FloatMatrix
+			Arguments.of(new FloatMatrix(new Float[][] {{1.5f+0.5f, 2.0f+1.0f, 0.5f+2.0f}, {3.0f+1.5f, 1.0f+3.0f, 2.5f+0.5f}}), a.plus(b)),
+			//2. -FloatMatrix
+			Arguments.of(new FloatMatrix(new Float[][] {{-1.5f, -2.0f, -0.5f}, {-3.0f, -1.0f, -2.5f}}), a.negative()),
+			//3. FloatMatrix - FloatMatrix
+			Arguments.of(new FloatMatrix(new Float[][] {{1.5f-0.5f, 2.0f-1.0f, 0.5f-2.0f}, {3.0f-1.5f, 1.0f-3.0f, 2.5f-0.5f}}), a.minus(b)),
+			//4. FloatMatrix * float
+			Arguments.of(new FloatMatrix(new Float[][] {{1.5f*2.0f, 2.0f*2.0f, 0.5f*2.0f}, {3.0f*2.0f, 1.0f*2.0f, 2.5f*2.0f}}), a.multipliedBy(2.0f)),
+			//5. Row
+			Arguments.of(new FloatVector(3.0f, 1.0f, 2.5f), a.row(1)),
+			//6. Column
+			Arguments.of(new FloatVector(0.5f, 2.5f), a.column(2)),
+			//7. FloatMatrix * FloatVector
+			Arguments.of(new FloatVector(1.5f*1.0f+2.0f*2.0f+0.5f*3.0f, 3.0f*1.0f+1.0f*2.0f+2.5f*3.0f), a.multiply(new FloatVector(1.0f, 2.0f, 3.0f))),
+			//8. FloatMatrix ^ T
+			Arguments.of(new FloatMatrix(new Float[][] {{1.5f, 3.0f}, {2.0f, 1.0f}, {0.5f, 2.5f}}), a.transposed()),
+			//9. FloatMatrix (2x3) * FloatMatrix (3x2)
+			Arguments.of(new FloatMatrix(new Float[][] {{1.5f*0.5f+2.0f*1.0f+0.5f*2.0f, 1.5f*1.5f+2.0f*3.0f+0.5f*0.5f}, {3.0f*0.5f+1.0f*1.0f+2.5f*2.0f, 3.0f*1.5f+1.0f*3.0f+2.5f*0.5f}}), a.multiply(b.transposed())),
+			//10. FloatMatrix * FloatMatrix larger than a block
+			Arguments.of(naiveProduct(l1, l2), l1.multiply(l2)),
+			//11. FloatMatrix ^ int
+			Arguments.of(c.multiply(c).multiply(c), c.power(3)),
+			//12. Zero matrix
+			Arguments.of(new FloatMatrix(new Float[][] {{0.0f, 0.0f}, {0.0f, 0.0f}}), FloatMatrix.zero(2, 2)),
+			//13. Parallel FloatMatrix * FloatMatrix
+			Arguments.of(l1.multiply(l2), l1.parallelMultiply(l2, pool)),
+			//14. Parallel FloatMatrix * FloatMatrix with a given parallelism
+			Arguments.of(l1.multiply(l2), l1.parallelMultiply(l2, 3)),
+			//15. Parallel FloatMatrix * FloatMatrix below the threshold
+			Arguments.of(c.multiply(c), c.parallelMultiply(c)),
+			//16. FloatMatrix ^ int with more than one squaring
+			Arguments.of(c.multiply(c).multiply(c).multiply(c).multiply(c), c.power(5)),
+			//17. Unboxed constructor
+			Arguments.of(a, new FloatMatrix(new float[][] {{1.5f, 2.0f, 0.5f}, {3.0f, 1.0f, 2.5f}})),
+			//18. FloatMatrix + FloatMatrix into a destination
+			Arguments.of(a.plus(b), a.plus(b, FloatMatrix.zero(2, 3))),
+			//19. FloatMatrix - FloatMatrix into a destination
+			Arguments.of(a.minus(b), a.minus(b, FloatMatrix.zero(2, 3))),
+			//20. -FloatMatrix into a destination
+			Arguments.of(a.negative(), a.negative(FloatMatrix.zero(2, 3))),
+			//21. FloatMatrix * float into a destination
+			Arguments.of(a.multipliedBy(2.0f), a.multipliedBy(2.0f, FloatMatrix.zero(2, 3))),
+			//22. FloatMatrix * float in place
+			Arguments.of(a.multipliedBy(2.0f), a.multipliedBy(1).scaleInPlace(2.0f)),
+			//23. float * FloatMatrix + FloatMatrix in place
+			Arguments.of(a.plus(b.multipliedBy(2.0f)), a.multipliedBy(1).axpy(2.0f, b)),
+			//24. FloatMatrix * FloatMatrix into a destination
+			Arguments.of(l1.multiply(l2), l1.multiplyInto(l2, FloatMatrix.zero(131, 270))),
+			//25. FloatMatrix * FloatMatrix into a destination that is not zero
+			Arguments.of(c.multiply(c), c.multiplyInto(c, c.multipliedBy(2.0f)))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. FloatMatrix + FloatMatrix of a different size
+			Arguments.of((Executable) () -> a.plus(c)),
+			//2. FloatMatrix * FloatVector of a different size
+			Arguments.of((Executable) () -> a.multiply(new FloatVector(1.0f, 2.0f))),
+			//3. FloatMatrix (2x3) * FloatMatrix (2x3)
+			Arguments.of((Executable) () -> a.multiply(b)),
+			//4. Parallel FloatMatrix (2x3) * FloatMatrix (2x3)
+			Arguments.of((Executable) () -> a.parallelMultiply(b, pool)),
+			//5. Empty unboxed matrix
+			Arguments.of((Executable) () -> new FloatMatrix(new float[0][0])),
+			//6. Unboxed rows of different lengths
+			Arguments.of((Executable) () -> new FloatMatrix(new float[][] {{1.0f, 2.0f}, {1.0f}})),
+			//7. FloatMatrix + FloatMatrix into a destination of a different size
+			Arguments.of((Executable) () -> a.plus(b, c)),
+			//8. float * FloatMatrix + FloatMatrix of a different size in place
+			Arguments.of((Executable) () -> a.multipliedBy(1).axpy(2.0f, c)),
+			//9. FloatMatrix * FloatMatrix into a destination of a different size
+			Arguments.of((Executable) () -> c.multiplyInto(c, a)),
+			//10. FloatMatrix * FloatMatrix into one of the operands
+			Arguments.of((Executable) () -> c.multiplyInto(c, c))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(MatrixMathException.class, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. FloatMatrix + null (FloatMatrix)
+			Arguments.of((Executable) () -> a.plus(n1)),
+			//2. FloatMatrix * null (FloatVector)
+			Arguments.of((Executable) () -> a.multiply(vn1)),
+			//3. FloatMatrix * null (FloatMatrix)
+			Arguments.of((Executable) () -> a.multiply(n1))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static FloatMatrix integerMatrix(int rows, int columns, int seed) {
+		Float[][] values = new Float[rows][columns];
+		for(int r = 0; r < rows; r++) {
+			for(int c = 0; c < columns; c++) {
+				values[r][c] = (float) ((r * 7 + c * 3 + seed) % 11 - 5);
+			}
+		}
+		return new FloatMatrix(values);
+	}
+
+	static FloatMatrix naiveProduct(FloatMatrix m1, FloatMatrix m2) {
+		Float[][] values = new Float[m1.rows()][m2.columns()];
+		for(int r = 0; r < m1.rows(); r++) {
+			for(int c = 0; c < m2.columns(); c++) {
+				values[r][c] = m1.row(r).dotProduct(m2.column(c));
+			}
+		}
+		return new FloatMatrix(values);
+	}
+}
@@ -102,7 +102,23 @@ public class TestInt3x3 {
 			//27. Int3x3 * Double3x3
 			Arguments.of(new Double3x3(a.row1().dotProduct(d.column1()), a.row1().dotProduct(d.column2()), a.row1().dotProduct(d.column3()), a.row2().dotProduct(d.column1()), a.row2().dotProduct(d.column2()), a.row2().dotProduct(d.column3()), a.row3().dotProduct(d.column1()), a.row3().dotProduct(d.column2()), a.row3().dotProduct(d.column3())), a.multiply(d)),
 			//28. Int3x3 ^ int
-			Arguments.of(a.multiply(a).multiply(a), a.power(3))
+			Arguments.of(a.multiply(a).multiply(a), a.power(3)),
+			//29. Int3x3 ^ int with more than one squaring
+			Arguments.of(a.multiply(a).multiply(a).multiply(a).multiply(a).multiply(a).multiply(a).multiply(a).multiply(a).multiply(a), a.power(10)),
+			//30. Int3x3 ^ int without overflow
+			Arguments.of(a.power(5), a.powerExact(5)),
+			//31. Int3x3 ^ int mod int
+			Arguments.of(a.power(5).powerMod(1, 7), a.powerMod(5, 7)),
+			//32. Int3x3 ^ 0 mod int
+			Arguments.of(Int3x3.IDENTITY, a.powerMod(0, 7)),
+			//33. Determinant of Int3x3
+			Arguments.of(-13, a.determinant()),
+			//34. Determinant of Int3x3 ^ T
+			Arguments.of(-13, a.transposed().determinant()),
+			//35. Int3x3 * adjugate
+			Arguments.of(Int3x3.IDENTITY.multipliedBy(-13), a.multiply(a.adjugate())),
+			//36. Adjugate * Int3x3
+			Arguments.of(Int3x3.IDENTITY.multipliedBy(-13), a.adjugate().multiply(a))
 		);
 	}
 
@@ -146,4 +162,21 @@ public class TestInt3x3 {
 	void testNullValues(Executable method) {
 		Assertions.assertThrows(NullPointerException.class, method);
 	}
+
+	static Stream<Arguments> testArithmeticExceptionsSource() {
+		return Stream.of(
+			//1. Int3x3 ^ int with overflow
+			Arguments.of((Executable) () -> a.powerExact(20)),
+			//2. Int3x3 ^ int mod 0
+			Arguments.of((Executable) () -> a.powerMod(3, 0)),
+			//3. Int3x3 ^ int mod negative int
+			Arguments.of((Executable) () -> a.powerMod(3, -7))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testArithmeticExceptionsSource")
+	void testArithmeticExceptions(Executable method) {
+		Assertions.assertThrows(ArithmeticException.class, method);
+	}
 }
@@ -110,7 +110,23 @@ public class TestInt4x4 {
 			//29. Int4x4 * Double4x4
 			Arguments.of(new Double4x4(a.row1().dotProduct(d.column1()), a.row1().dotProduct(d.column2()), a.row1().dotProduct(d.column3()), a.row1().dotProduct(d.column4()), a.row2().dotProduct(d.column1()), a.row2().dotProduct(d.column2()), a.row2().dotProduct(d.column3()), a.row2().dotProduct(d.column4()), a.row3().dotProduct(d.column1()), a.row3().dotProduct(d.column2()), a.row3().dotProduct(d.column3()), a.row3().dotProduct(d.column4()), a.row4().dotProduct(d.column1()), a.row4().dotProduct(d.column2()), a.row4().dotProduct(d.column3()), a.row4().dotProduct(d.column4())), a.multiply(d)),
 			//30. Int4x4 ^ int
-			Arguments.of(a.multiply(a).multiply(a), a.power(3))
+			Arguments.of(a.multiply(a).multiply(a), a.power(3)),
+			//31. Int4x4 ^ int with more than one squaring
+			Arguments.of(a.multiply(a).multiply(a).multiply(a).multiply(a).multiply(a).multiply(a).multiply(a).multiply(a).multiply(a), a.power(10)),
+			//32. Int4x4 ^ int without overflow
+			Arguments.of(a.power(5), a.powerExact(5)),
+			//33. Int4x4 ^ int mod int
+			Arguments.of(a.power(5).powerMod(1, 7), a.powerMod(5, 7)),
+			//34. Int4x4 ^ 0 mod int
+			Arguments.of(Int4x4.IDENTITY, a.powerMod(0, 7)),
+			//35. Determinant of Int4x4
+			Arguments.of(-4, a.determinant()),
+			//36. Determinant of Int4x4 ^ T
+			Arguments.of(-4, a.transposed().determinant()),
+			//37. Int4x4 * adjugate
+			Arguments.of(Int4x4.IDENTITY.multipliedBy(-4), a.multiply(a.adjugate())),
+			//38. Adjugate * Int4x4
+			Arguments.of(Int4x4.IDENTITY.multipliedBy(-4), a.adjugate().multiply(a))
 		);
 	}
 
@@ -154,4 +170,21 @@ public class TestInt4x4 {
 	void testNullValues(Executable method) {
 		Assertions.assertThrows(NullPointerException.class, method);
 	}
+
+	static Stream<Arguments> testArithmeticExceptionsSource() {
+		return Stream.of(
+			//1. Int4x4 ^ int with overflow
+			Arguments.of((Executable) () -> a.powerExact(20)),
+			//2. Int4x4 ^ int mod 0
+			Arguments.of((Executable) () -> a.powerMod(3, 0)),
+			//3. Int4x4 ^ int mod negative int
+			Arguments.of((Executable) () -> a.powerMod(3, -7))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testArithmeticExceptionsSource")
+	void testArithmeticExceptions(Executable method) {
+		Assertions.assertThrows(ArithmeticException.class, method);
+	}
 }
@@ -0,0 +1,160 @@
+package io.github.vecmatlib.matrix;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.vector.IntVector;
+
+public class TestIntMatrix {
+
+	static IntMatrix a = new IntMatrix(new int[][] {{1, 2, 3}, {4, 5, 6}});
+	static IntMatrix b = new IntMatrix(new int[][] {{6, 5, 4}, {3, 2, 1}});
+	static IntMatrix c = new IntMatrix(2, 2, 1, 2, 3, 4);
+
+	static IntMatrix l1 = integerMatrix(131, 300, 1);
+	static IntMatrix l2 = integerMatrix(300, 270, 2);
+
+	static IntMatrix n1 = null;
+	static IntVector vn1 = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. IntMatrix + IntMatrix
+			Arguments.of(new IntMatrix(new int[][] {{7, 7, 7}, {7, 7, 7}}), a.plus(b)),
+			//2. -IntMatrix
+			Arguments.of(new IntMatrix(new int[][] {{-1, -2, -3}, {-4, -5, -6}}), a.negative()),
+			//3. IntMatrix - IntMatrix
+			Arguments.of(new IntMatrix(new int[][] {{-5, -3, -1}, {1, 3, 5}}), a.minus(b)),
+			//4. IntMatrix * int
+			Arguments.of(new IntMatrix(new int[][] {{2, 4, 6}, {8, 10, 12}}), a.multipliedBy(2)),
+			//5. Row
+			Arguments.of(new IntVector(4, 5, 6), a.row(1)),
+			//6. Column
+			Arguments.of(new IntVector(3, 6), a.column(2)),
+			//7. IntMatrix * IntVector
+			Arguments.of(new IntVector(1*1+2*2+3*3, 4*1+5*2+6*3), a.multiply(new IntVector(1, 2, 3))),
+			//8. IntMatrix ^ T
+			Arguments.of(new IntMatrix(new int[][] {{1, 4}, {2, 5}, {3, 6}}), a.transposed()),
+			//9. IntMatrix (2x3) * IntMatrix (3x2)
+			Arguments.of(new IntMatrix(new int[][] {{1*6+2*5+3*4, 1*3+2*2+3*1}, {4*6+5*5+6*4, 4*3+5*2+6*1}}), a.multiply(b.transposed())),
+			//10. IntMatrix * IntMatrix larger than a block
+			Arguments.of(naiveProduct(l1, l2), l1.multiply(l2)),
+			//11. IntMatrix ^ int
+			Arguments.of(c.multiply(c).multiply(c), c.power(3)),
+			//12. Export to array
+			Arguments.of(a, new IntMatrix(a.toArray())),
+			//13. IntMatrix ^ int without overflow
+			Arguments.of(new IntMatrix(2, 2, 30853, 44966, 67449, 98302), c.powerExact(7)),
+			//14. IntMatrix ^ int mod int
+			Arguments.of(new IntMatrix(2, 2, 3, 1, 4, 2), c.powerMod(7, 5)),
+			//15. Fibonacci number mod int
+			Arguments.of(210345902, new IntMatrix(2, 2, 1, 1, 1, 0).powerMod(90, 1_000_000_007).element(0, 1)),
+			//16. IntMatrix ^ 0 mod int
+			Arguments.of(IntMatrix.identity(2), c.powerMod(0, 5)),
+			//17. IntMatrix + IntMatrix into a destination
+			Arguments.of(a.plus(b), a.plus(b, IntMatrix.zero(2, 3))),
+			//18. IntMatrix - IntMatrix into a destination
+			Arguments.of(a.minus(b), a.minus(b, IntMatrix.zero(2, 3))),
+			//19. -IntMatrix into a destination
+			Arguments.of(a.negative(), a.negative(IntMatrix.zero(2, 3))),
+			//20. IntMatrix * int into a destination
+			Arguments.of(a.multipliedBy(2), a.multipliedBy(2, IntMatrix.zero(2, 3))),
+			//21. IntMatrix * int in place
+			Arguments.of(a.multipliedBy(2), a.multipliedBy(1).scaleInPlace(2)),
+			//22. int * IntMatrix + IntMatrix in place
+			Arguments.of(a.plus(b.multipliedBy(2)), a.multipliedBy(1).axpy(2, b)),
+			//23. IntMatrix * IntMatrix into a destination
+			Arguments.of(l1.multiply(l2), l1.multiplyInto(l2, IntMatrix.zero(131, 270))),
+			//24. IntMatrix * IntMatrix into a destination that is not zero
+			Arguments.of(c.multiply(c), c.multiplyInto(c, c.multipliedBy(2)))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. IntMatrix + IntMatrix of a different size
+			Arguments.of((Executable) () -> a.plus(c)),
+			//2. IntMatrix * IntVector of a different size
+			Arguments.of((Executable) () -> a.multiply(new IntVector(1, 2))),
+			//3. IntMatrix (2x3) * IntMatrix (2x3)
+			Arguments.of((Executable) () -> a.multiply(b)),
+			//4. IntMatrix + IntMatrix into a destination of a different size
+			Arguments.of((Executable) () -> a.plus(b, c)),
+			//5. int * IntMatrix + IntMatrix of a different size in place
+			Arguments.of((Executable) () -> a.multipliedBy(1).axpy(2, c)),
+			//6. IntMatrix * IntMatrix into a destination of a different size
+			Arguments.of((Executable) () -> c.multiplyInto(c, a)),
+			//7. IntMatrix * IntMatrix into one of the operands
+			Arguments.of((Executable) () -> c.multiplyInto(c, c))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(MatrixMathException.class, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. IntMatrix + null (IntMatrix)
+			Arguments.of((Executable) () -> a.plus(n1)),
+			//2. IntMatrix * null (IntVector)
+			Arguments.of((Executable) () -> a.multiply(vn1)),
+			//3. IntMatrix * null (IntMatrix)
+			Arguments.of((Executable) () -> a.multiply(n1))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static Stream<Arguments> testArithmeticExceptionsSource() {
+		return Stream.of(
+			//1. IntMatrix ^ int with overflow
+			Arguments.of((Executable) () -> c.powerExact(37)),
+			//2. IntMatrix ^ int mod 0
+			Arguments.of((Executable) () -> c.powerMod(3, 0))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testArithmeticExceptionsSource")
+	void testArithmeticExceptions(Executable method) {
+		Assertions.assertThrows(ArithmeticException.class, method);
+	}
+
+	static IntMatrix integerMatrix(int rows, int columns, int seed) {
+		int[][] values = new int[rows][columns];
+		for(int r = 0; r < rows; r++) {
+			for(int c = 0; c < columns; c++) {
+				values[r][c] = (r * 7 + c * 3 + seed) % 11 - 5;
+			}
+		}
+		return new IntMatrix(values);
+	}
+
+	static IntMatrix naiveProduct(IntMatrix m1, IntMatrix m2) {
+		int[][] values = new int[m1.rows()][m2.columns()];
+		for(int r = 0; r < m1.rows(); r++) {
+			for(int c = 0; c < m2.columns(); c++) {
+				values[r][c] = m1.row(r).dotProduct(m2.column(c));
+			}
+		}
+		return new IntMatrix(values);
+	}
+}
@@ -0,0 +1,285 @@
+package io.github.vecmatlib.matrix;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.vector.DoubleVector;
+import io.github.vecmatlib.vector.OffHeapArena;
+
+public class TestMappedDoubleMatrix {
+
+	@TempDir
+	static Path directory;
+
+	static OffHeapArena arena = new OffHeapArena();
+
+	static DoubleMatrix a = new DoubleMatrix(new double[][] {{1.5, 2.0, 0.5}, {3.0, 1.0, 2.5}, {0.1, 0.2, 0.3}, {-4.0, 0.7, 1.1}});
+	static DoubleMatrix large = TestDoubleMatrix.integerMatrix(300, 170, 3).multipliedBy(0.1);
+	static DoubleVector v = new DoubleVector(0.1, 0.2, 0.3);
+
+	static Stream<Arguments> testSource() {
+		MappedDoubleMatrix m = open(written("a.vmlm", a));
+		MappedDoubleMatrix t = open(columnMajor("t.vmlm", a));
+		return Stream.of(
+			//1. Number of rows
+			Arguments.of(4, m.rows()),
+			//2. Number of columns
+			Arguments.of(3, m.columns()),
+			//3. Element
+			Arguments.of(2.5, m.element(1, 2)),
+			//4. Written files are in row-major order
+			Arguments.of(true, m.isRowMajor()),
+			//5. Opened files are read-only
+			Arguments.of(false, m.isWritable()),
+			//6. Whole matrix
+			Arguments.of(a, m.toDoubleMatrix()),
+			//7. Row
+			Arguments.of(a.row(3), m.row(3)),
+			//8. Range of rows
+			Arguments.of(new DoubleMatrix(new double[][] {{3.0, 1.0, 2.5}, {0.1, 0.2, 0.3}}), m.rows(1, 3)),
+			//9. MappedDoubleMatrix * DoubleVector
+			Arguments.of(a.multiply(v), m.multiply(v)),
+			//10. Large product is identical to the heap product
+			Arguments.of(large.multiply(large.row(7)), open(written("large.vmlm", large)).multiply(large.row(7))),
+			//11. Checksum of a written file
+			Arguments.of(true, m.verifyChecksum()),
+			//12. Column-major file
+			Arguments.of(false, t.isRowMajor()),
+			//13. Element of a column-major file
+			Arguments.of(2.5, t.element(1, 2)),
+			//14. Range of rows of a column-major file
+			Arguments.of(a, t.rows(0, 4)),
+			//15. Column-major file * DoubleVector
+			Arguments.of(a.multiply(v), t.multiply(v)),
+			//16. Created file
+			Arguments.of(a, open(created("c.vmlm", a)).toDoubleMatrix()),
+			//17. Checksum of a created file
+			Arguments.of(true, open(created("c2.vmlm", a)).verifyChecksum()),
+			//18. Checksum of a corrupted file
+			Arguments.of(false, open(corrupted("d.vmlm", a)).verifyChecksum()),
+			//19. Set
+			Arguments.of(4.0, create("e.vmlm", 2, 2).set(1, 0, 4.0).element(1, 0)),
+			//20. Size of a written file
+			Arguments.of(64L + 4 * 3 * Double.BYTES, size(written("f.vmlm", a))),
+			//21. Number of chunks of a file whose lines fill a chunk
+			Arguments.of(List.of(1, 2), List.of(new MatrixFile.Header(MatrixFile.FLOAT64, MatrixFile.ROW_MAJOR, 1 << 27, 1, 0L).chunks(), new MatrixFile.Header(MatrixFile.FLOAT64, MatrixFile.ROW_MAJOR, (1 << 27) + 1, 1, 0L).chunks())),
+			//22. Number of chunks of a file with the maximum number of lines
+			Arguments.of(16, new MatrixFile.Header(MatrixFile.FLOAT64, MatrixFile.COLUMN_MAJOR, 1, Integer.MAX_VALUE, 0L).chunks())
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. MappedDoubleMatrix * DoubleVector of a different size
+			Arguments.of((Executable) () -> open(written("g.vmlm", a)).multiply(new DoubleVector(1.0, 2.0))),
+			//2. Set a row of a different size
+			Arguments.of((Executable) () -> create("h.vmlm", 2, 2).setRow(0, v)),
+			//3. Empty matrix
+			Arguments.of((Executable) () -> create("i.vmlm", 0, 2))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(MatrixMathException.class, method);
+	}
+
+	static Stream<Arguments> testInvalidFilesSource() {
+		return Stream.of(
+			//1. Not a matrix file
+			Arguments.of((Executable) () -> MappedDoubleMatrix.open(arena, bytes("j.vmlm", new byte[100]))),
+			//2. File too short
+			Arguments.of((Executable) () -> MappedDoubleMatrix.open(arena, bytes("k.vmlm", new byte[10]))),
+			//3. Float file
+			Arguments.of((Executable) () -> MappedDoubleMatrix.open(arena, floatFile("l.vmlm"))),
+			//4. Truncated file
+			Arguments.of((Executable) () -> MappedDoubleMatrix.open(arena, truncated("m.vmlm", a)))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testInvalidFilesSource")
+	void testInvalidFiles(Executable method) {
+		Assertions.assertThrows(IOException.class, method);
+	}
+
+	static Stream<Arguments> testIndexOutOfBoundsSource() {
+		MappedDoubleMatrix m = open(written("n.vmlm", a));
+		return Stream.of(
+			//1. Row out of bounds
+			Arguments.of((Executable) () -> m.element(4, 0)),
+			//2. Column out of bounds
+			Arguments.of((Executable) () -> m.element(0, -1)),
+			//3. Range of rows out of bounds
+			Arguments.of((Executable) () -> m.rows(2, 5)),
+			//4. Reversed range of rows
+			Arguments.of((Executable) () -> m.rows(2, 1))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testIndexOutOfBoundsSource")
+	void testIndexOutOfBounds(Executable method) {
+		Assertions.assertThrows(IndexOutOfBoundsException.class, method);
+	}
+
+	static Stream<Arguments> testReadOnlySource() {
+		MappedDoubleMatrix m = open(written("o.vmlm", a));
+		return Stream.of(
+			//1. Set
+			Arguments.of((Executable) () -> m.set(0, 0, 1.0)),
+			//2. Set a row
+			Arguments.of((Executable) () -> m.setRow(0, v)),
+			//3. Force
+			Arguments.of((Executable) () -> m.force())
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testReadOnlySource")
+	void testReadOnly(Executable method) {
+		Assertions.assertThrows(UnsupportedOperationException.class, method);
+	}
+
+	static Stream<Arguments> testClosedArenaSource() {
+		OffHeapArena closed = new OffHeapArena();
+		MappedDoubleMatrix m;
+		try {
+			m = MappedDoubleMatrix.open(closed, written("p.vmlm", a));
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		closed.close();
+		return Stream.of(
+			//1. Element
+			Arguments.of((Executable) () -> m.element(0, 0)),
+			//2. Range of rows
+			Arguments.of((Executable) () -> m.rows(0, 1)),
+			//3. MappedDoubleMatrix * DoubleVector
+			Arguments.of((Executable) () -> m.multiply(v)),
+			//4. Open in a closed arena
+			Arguments.of((Executable) () -> MappedDoubleMatrix.open(closed, written("q.vmlm", a)))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testClosedArenaSource")
+	void testClosedArena(Executable method) {
+		Assertions.assertThrows(IllegalStateException.class, method);
+	}
+
+	static MappedDoubleMatrix open(Path path) {
+		try {
+			return MappedDoubleMatrix.open(arena, path);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	static MappedDoubleMatrix create(String name, int rows, int columns) {
+		try {
+			return MappedDoubleMatrix.create(arena, directory.resolve(name), rows, columns);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	static Path written(String name, DoubleMatrix matrix) {
+		try {
+			Path path = directory.resolve(name);
+			MappedDoubleMatrix.write(path, matrix);
+			return path;
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	static Path created(String name, DoubleMatrix matrix) {
+		MappedDoubleMatrix file = create(name, matrix.rows(), matrix.columns());
+		for(int r = 0; r < matrix.rows(); r++) {
+			file.setRow(r, matrix.row(r));
+		}
+		file.force();
+		return directory.resolve(name);
+	}
+
+	static Path columnMajor(String name, DoubleMatrix matrix) {
+		ByteBuffer buffer = header(1, 1, matrix.rows(), matrix.columns(), matrix.rows() * matrix.columns() * Double.BYTES);
+		for(int c = 0; c < matrix.columns(); c++) {
+			for(int r = 0; r < matrix.rows(); r++) {
+				buffer.putDouble(matrix.element(r, c));
+			}
+		}
+		return bytes(name, buffer.array());
+	}
+
+	static Path floatFile(String name) {
+		ByteBuffer buffer = header(2, 0, 1, 2, 2 * Float.BYTES);
+		return bytes(name, buffer.array());
+	}
+
+	static Path corrupted(String name, DoubleMatrix matrix) {
+		try {
+			Path path = written(name, matrix);
+			byte[] bytes = Files.readAllBytes(path);
+			bytes[bytes.length - 1] ^= 1;
+			return bytes(name, bytes);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	static Path truncated(String name, DoubleMatrix matrix) {
+		try {
+			Path path = written(name, matrix);
+			byte[] bytes = Files.readAllBytes(path);
+			byte[] result = new byte[bytes.length - Double.BYTES];
+			System.arraycopy(bytes, 0, result, 0, result.length);
+			return bytes(name, result);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	static ByteBuffer header(int type, int layout, int rows, int columns, int dataBytes) {
+		ByteBuffer buffer = ByteBuffer.allocate(64 + dataBytes).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.put(new byte[] {'V', 'M', 'L', 'M'}).putInt(1).putInt(type).putInt(layout).putInt(rows).putInt(columns);
+		return buffer.position(64);
+	}
+
+	static Path bytes(String name, byte[] bytes) {
+		try {
+			return Files.write(directory.resolve(name), bytes);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	static long size(Path path) {
+		try {
+			return Files.size(path);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package io.github.vecmatlib.matrix;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class TestMatrixKernels {
+
+	static MatrixKernels.Accelerated accelerated = accelerated();
+
+	static int m = 37, k = 263, n = 301;
+
+	static double[] da = doubles(m * k, 1), db = doubles(k * n, 2), dc = doubles(m * n, 3);
+	static float[] fa = floats(m * k, 1), fb = floats(k * n, 2), fc = floats(m * n, 3);
+	static int[] ia = ints(m * k, 1), ib = ints(k * n, 2), ic = ints(m * n, 3);
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. double[] * double[]
+			Arguments.of(scalar(dc, 0, m, 0, n), accelerated(dc, 0, m, 0, n)),
+			//2. float[] * float[]
+			Arguments.of(scalar(fc, 0, m, 0, n), accelerated(fc, 0, m, 0, n)),
+			//3. int[] * int[]
+			Arguments.of(scalar(ic, 0, m, 0, n), accelerated(ic, 0, m, 0, n)),
+			//4. Tile of double[] * double[]
+			Arguments.of(scalar(dc, 5, 29, 17, 290), accelerated(dc, 5, 29, 17, 290)),
+			//5. Tile of float[] * float[]
+			Arguments.of(scalar(fc, 5, 29, 17, 290), accelerated(fc, 5, 29, 17, 290)),
+			//6. Tile of int[] * int[]
+			Arguments.of(scalar(ic, 5, 29, 17, 290), accelerated(ic, 5, 29, 17, 290))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	@Test
+	void testAccelerated() {
+		// The tests are run with the jdk.incubator.vector module, once with the accelerated kernels disabled
+		Assertions.assertNotNull(accelerated);
+		Assertions.assertEquals(Boolean.parseBoolean(System.getProperty("vecmatlib.simd", "true")), MatrixKernels.ACCELERATED != null);
+	}
+
+	static MatrixKernels.Accelerated accelerated() {
+		try {
+			return (MatrixKernels.Accelerated) Class.forName("io.github.vecmatlib.matrix.SimdMatrixKernels").getDeclaredConstructor().newInstance();
+		} catch(ReflectiveOperationException e) {
+			return null;
+		}
+	}
+
+	static DoubleMatrix scalar(double[] c, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		double[] result = c.clone();
+		MatrixKernels.multiplyScalar(da, db, result, k, n, rowStart, rowEnd, columnStart, columnEnd);
+		return new DoubleMatrix(m, n, result);
+	}
+
+	static DoubleMatrix accelerated(double[] c, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		double[] result = c.clone();
+		accelerated.multiply(da, db, result, k, n, rowStart, rowEnd, columnStart, columnEnd);
+		return new DoubleMatrix(m, n, result);
+	}
+
+	static FloatMatrix scalar(float[] c, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		float[] result = c.clone();
+		MatrixKernels.multiplyScalar(fa, fb, result, k, n, rowStart, rowEnd, columnStart, columnEnd);
+		return new FloatMatrix(m, n, result);
+	}
+
+	static FloatMatrix accelerated(float[] c, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		float[] result = c.clone();
+		accelerated.multiply(fa, fb, result, k, n, rowStart, rowEnd, columnStart, columnEnd);
+		return new FloatMatrix(m, n, result);
+	}
+
+	static IntMatrix scalar(int[] c, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		int[] result = c.clone();
+		MatrixKernels.multiplyScalar(ia, ib, result, k, n, rowStart, rowEnd, columnStart, columnEnd);
+		return new IntMatrix(m, n, result);
+	}
+
+	static IntMatrix accelerated(int[] c, int rowStart, int rowEnd, int columnStart, int columnEnd) {
+		int[] result = c.clone();
+		accelerated.multiply(ia, ib, result, k, n, rowStart, rowEnd, columnStart, columnEnd);
+		return new IntMatrix(m, n, result);
+	}
+
+	static double[] doubles(int length, int seed) {
+		double[] values = new double[length];
+		for(int i = 0; i < length; i++) {
+			values[i] = ((i * 7 + seed * 13) % 101 - 50) / 17.0;
+		}
+		return values;
+	}
+
+	static float[] floats(int length, int seed) {
+		float[] values = new float[length];
+		for(int i = 0; i < length; i++) {
+			values[i] = ((i * 7 + seed * 13) % 101 - 50) / 17.0f;
+		}
+		return values;
+	}
+
+	static int[] ints(int length, int seed) {
+		int[] values = new int[length];
+		for(int i = 0; i < length; i++) {
+			values[i] = (i * 7 + seed * 13) % 101 - 50;
+		}
+		return values;
+	}
+}
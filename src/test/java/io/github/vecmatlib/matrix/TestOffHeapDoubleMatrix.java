@@ -0,0 +1,193 @@
+package io.github.vecmatlib.matrix;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.vector.DoubleVector;
+import io.github.vecmatlib.vector.OffHeapArena;
+import io.github.vecmatlib.vector.OffHeapDoubleVector;
+
+public class TestOffHeapDoubleMatrix {
+
+	static OffHeapArena arena = new OffHeapArena();
+	static OffHeapArena closed = new OffHeapArena();
+
+	static DoubleMatrix ha = new DoubleMatrix(new double[][] {{1.5, 2.0, 0.5}, {3.0, 1.0, 2.5}});
+	static DoubleMatrix hb = new DoubleMatrix(new double[][] {{0.5, 1.0, 2.0}, {1.5, 3.0, 0.5}});
+	static DoubleMatrix hc = new DoubleMatrix(2, 2, 0.1, 0.2, 0.3, 0.4);
+
+	static OffHeapDoubleMatrix a = new OffHeapDoubleMatrix(arena, ha);
+	static OffHeapDoubleMatrix b = new OffHeapDoubleMatrix(arena, hb);
+	static OffHeapDoubleMatrix c = new OffHeapDoubleMatrix(arena, hc);
+
+	static DoubleMatrix hl1 = TestDoubleMatrix.integerMatrix(131, 300, 1).multipliedBy(0.1);
+	static DoubleMatrix hl2 = TestDoubleMatrix.integerMatrix(300, 270, 2).multipliedBy(0.3);
+
+	static DoubleVector hv = new DoubleVector(0.1, 0.2, 0.3);
+	static OffHeapDoubleVector v = new OffHeapDoubleVector(arena, hv);
+
+	static ForkJoinPool pool = new ForkJoinPool(4);
+
+	static OffHeapDoubleMatrix n1 = null;
+	static OffHeapDoubleVector vn1 = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Number of rows
+			Arguments.of(2, a.rows()),
+			//2. Number of columns
+			Arguments.of(3, a.columns()),
+			//3. Element
+			Arguments.of(2.5, a.element(1, 2)),
+			//4. New matrix is zero
+			Arguments.of(DoubleMatrix.zero(2, 3), new OffHeapDoubleMatrix(arena, 2, 3).toDoubleMatrix()),
+			//5. Copy of a DoubleMatrix
+			Arguments.of(ha, a.toDoubleMatrix()),
+			//6. Set
+			Arguments.of(4.0, new OffHeapDoubleMatrix(arena, ha).set(0, 1, 4.0).element(0, 1)),
+			//7. OffHeapDoubleMatrix + OffHeapDoubleMatrix
+			Arguments.of(ha.plus(hb), a.plus(b).toDoubleMatrix()),
+			//8. -OffHeapDoubleMatrix
+			Arguments.of(ha.negative(), a.negative().toDoubleMatrix()),
+			//9. OffHeapDoubleMatrix - OffHeapDoubleMatrix
+			Arguments.of(ha.minus(hb), a.minus(b).toDoubleMatrix()),
+			//10. OffHeapDoubleMatrix * double
+			Arguments.of(ha.multipliedBy(0.3), a.multipliedBy(0.3).toDoubleMatrix()),
+			//11. OffHeapDoubleMatrix * OffHeapDoubleVector
+			Arguments.of(ha.multiply(hv), a.multiply(v).toDoubleVector()),
+			//12. OffHeapDoubleMatrix ^ T
+			Arguments.of(ha.transposed(), a.transposed().toDoubleMatrix()),
+			//13. Negative transposed
+			Arguments.of(ha.negativeTransposed(), a.negativeTransposed().toDoubleMatrix()),
+			//14. OffHeapDoubleMatrix * OffHeapDoubleMatrix
+			Arguments.of(ha.multiply(hb.transposed()), a.multiply(b.transposed()).toDoubleMatrix()),
+			//15. Large product is identical to the heap product
+			Arguments.of(hl1.multiply(hl2), new OffHeapDoubleMatrix(arena, hl1).multiply(new OffHeapDoubleMatrix(arena, hl2)).toDoubleMatrix()),
+			//16. Parallel product is identical to the heap product
+			Arguments.of(hl1.multiply(hl2), new OffHeapDoubleMatrix(arena, hl1).parallelMultiply(new OffHeapDoubleMatrix(arena, hl2), pool).toDoubleMatrix()),
+			//17. OffHeapDoubleMatrix ^ int
+			Arguments.of(hc.power(5), c.power(5).toDoubleMatrix()),
+			//18. OffHeapDoubleMatrix ^ 0
+			Arguments.of(DoubleMatrix.identity(2), c.power(0).toDoubleMatrix()),
+			//19. OffHeapDoubleMatrix ^ -int
+			Arguments.of(hc.power(-3), c.power(-3).toDoubleMatrix()),
+			//20. OffHeapDoubleMatrix + OffHeapDoubleMatrix into one of the operands
+			Arguments.of(ha.plus(hb), a.plus(b, new OffHeapDoubleMatrix(arena, hb)).toDoubleMatrix()),
+			//21. OffHeapDoubleMatrix * double in place
+			Arguments.of(hc.multipliedBy(3.0), new OffHeapDoubleMatrix(arena, hc).scaleInPlace(3.0).toDoubleMatrix()),
+			//22. double * OffHeapDoubleMatrix + OffHeapDoubleMatrix in place
+			Arguments.of(hb.multipliedBy(1.0).axpy(0.7, ha), new OffHeapDoubleMatrix(arena, hb).axpy(0.7, a).toDoubleMatrix()),
+			//23. OffHeapDoubleMatrix * OffHeapDoubleMatrix into a destination
+			Arguments.of(hc.multiply(hc), c.multiplyInto(c, c.multipliedBy(2.0)).toDoubleMatrix()),
+			//24. Symmetric
+			Arguments.of(true, new OffHeapDoubleMatrix(arena, new DoubleMatrix(2, 2, 1.0, 2.0, 2.0, 1.0)).isSymmetric()),
+			//25. Equals
+			Arguments.of(a, new OffHeapDoubleMatrix(arena, ha)),
+			//26. Hash code
+			Arguments.of(a.hashCode(), new OffHeapDoubleMatrix(arena, ha).hashCode()),
+			//27. Results are allocated in the same arena
+			Arguments.of(arena, a.plus(b).arena()),
+			//28. Closing the arena releases the memory of the matrices
+			Arguments.of(List.of(64L, 0L), allocatedBeforeAndAfterClose())
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Empty matrix
+			Arguments.of((Executable) () -> new OffHeapDoubleMatrix(arena, 0, 2)),
+			//2. Matrix too large
+			Arguments.of((Executable) () -> new OffHeapDoubleMatrix(arena, 1 << 16, 1 << 16)),
+			//3. OffHeapDoubleMatrix + OffHeapDoubleMatrix of a different size
+			Arguments.of((Executable) () -> a.plus(c)),
+			//4. OffHeapDoubleMatrix - OffHeapDoubleMatrix of a different size
+			Arguments.of((Executable) () -> a.minus(c)),
+			//5. OffHeapDoubleMatrix * OffHeapDoubleVector of a different size
+			Arguments.of((Executable) () -> c.multiply(v)),
+			//6. Non-square OffHeapDoubleMatrix ^ int
+			Arguments.of((Executable) () -> a.power(2)),
+			//7. OffHeapDoubleMatrix (2x3) * OffHeapDoubleMatrix (2x3)
+			Arguments.of((Executable) () -> a.multiply(b)),
+			//8. Parallel OffHeapDoubleMatrix (2x3) * OffHeapDoubleMatrix (2x3)
+			Arguments.of((Executable) () -> a.parallelMultiply(b, pool)),
+			//9. OffHeapDoubleMatrix + OffHeapDoubleMatrix into a destination of a different size
+			Arguments.of((Executable) () -> a.plus(b, c)),
+			//10. OffHeapDoubleMatrix * OffHeapDoubleMatrix into one of the operands
+			Arguments.of((Executable) () -> c.multiplyInto(c, c))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(MatrixMathException.class, method);
+	}
+
+	static Stream<Arguments> testClosedArenaSource() {
+		OffHeapDoubleMatrix m = new OffHeapDoubleMatrix(closed, 2, 2);
+		closed.close();
+		return Stream.of(
+			//1. Element
+			Arguments.of((Executable) () -> m.element(0, 0)),
+			//2. Set
+			Arguments.of((Executable) () -> m.set(0, 0, 1.0)),
+			//3. OffHeapDoubleMatrix + OffHeapDoubleMatrix
+			Arguments.of((Executable) () -> m.plus(c)),
+			//4. OffHeapDoubleMatrix * OffHeapDoubleMatrix
+			Arguments.of((Executable) () -> c.multiply(m)),
+			//5. Copy to the heap
+			Arguments.of((Executable) () -> m.toDoubleMatrix()),
+			//6. Allocation in a closed arena
+			Arguments.of((Executable) () -> new OffHeapDoubleMatrix(closed, 2, 2))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testClosedArenaSource")
+	void testClosedArena(Executable method) {
+		Assertions.assertThrows(IllegalStateException.class, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. OffHeapDoubleMatrix + null (OffHeapDoubleMatrix)
+			Arguments.of((Executable) () -> a.plus(n1)),
+			//2. OffHeapDoubleMatrix - null (OffHeapDoubleMatrix)
+			Arguments.of((Executable) () -> a.minus(n1)),
+			//3. OffHeapDoubleMatrix * null (OffHeapDoubleVector)
+			Arguments.of((Executable) () -> a.multiply(vn1)),
+			//4. OffHeapDoubleMatrix * null (OffHeapDoubleMatrix)
+			Arguments.of((Executable) () -> a.multiply(n1)),
+			//5. Null arena
+			Arguments.of((Executable) () -> new OffHeapDoubleMatrix(null, 2, 2))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static List<Long> allocatedBeforeAndAfterClose() {
+		OffHeapArena arena = new OffHeapArena();
+		OffHeapDoubleMatrix matrix = new OffHeapDoubleMatrix(arena, hc);
+		matrix.multiply(matrix);
+		long before = arena.allocatedBytes();
+		arena.close();
+		return List.of(before, arena.allocatedBytes());
+	}
+}
@@ -0,0 +1,161 @@
+package io.github.vecmatlib.matrix;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.vector.Double3;
+
+public class TestQuaternion {
+
+	static Quaternion a = Quaternion.fromAxisAngle(1.0, 2.0, 3.0, 0.7);
+	static Quaternion b = Quaternion.fromAxisAngle(-0.5, 0.3, 1.2, 2.1);
+	static Quaternion c = new Quaternion(1.0, 2.0, 3.0, 4.0);
+	static Quaternion half = Quaternion.fromAxisAngle(0.0, 0.0, 1.0, Math.PI);
+
+	static Double3 v = new Double3(1.5, -0.4, 2.2);
+
+	static Quaternion qn = null;
+	static Double3 vn = null;
+	static Double3x3 mn1 = null;
+	static Double4x4 mn2 = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Quaternion + Quaternion
+			Arguments.of(new Quaternion(2.0, 4.0, 6.0, 8.0), c.plus(c)),
+			//2. -Quaternion
+			Arguments.of(new Quaternion(-1.0, -2.0, -3.0, -4.0), c.negated()),
+			//3. Quaternion * k
+			Arguments.of(new Quaternion(2.0, 4.0, 6.0, 8.0), c.multipliedBy(2.0)),
+			//4. Quaternion dot Quaternion
+			Arguments.of(30.0, c.dotProduct(c)),
+			//5. Conjugate
+			Arguments.of(new Quaternion(-1.0, -2.0, -3.0, 4.0), c.conjugate()),
+			//6. Hamilton product
+			Arguments.of(new Quaternion(8.0, 16.0, 24.0, 2.0), c.multiply(c)),
+			//7. i * j = k
+			Arguments.of(new Quaternion(0.0, 0.0, 1.0, 0.0), new Quaternion(1.0, 0.0, 0.0, 0.0).multiply(new Quaternion(0.0, 1.0, 0.0, 0.0))),
+			//8. Identity times Quaternion
+			Arguments.of(c, Quaternion.IDENTITY.multiply(c)),
+			//9. Identity rotation
+			Arguments.of(v, Quaternion.IDENTITY.rotate(v)),
+			//10. Identity to matrix
+			Arguments.of(Double3x3.IDENTITY, Quaternion.IDENTITY.toDouble3x3()),
+			//11. Identity to 4x4 matrix
+			Arguments.of(Double4x4.IDENTITY, Quaternion.IDENTITY.toDouble4x4()),
+			//12. Cast to float
+			Arguments.of(new QuaternionF(1.0f, 2.0f, 3.0f, 4.0f), c.castToFloat())
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		Quaternion twice = Quaternion.fromAxisAngle(1.0, 2.0, 3.0, 1.4);
+		return Stream.of(
+			//1. Rotation around an axis has unit length
+			Arguments.of(1.0, a.length()),
+			//2. Normalized quaternion has unit length
+			Arguments.of(1.0, c.normalized().length()),
+			//3. Rotation of a quarter turn around z
+			Arguments.of(0.0, Quaternion.fromAxisAngle(new Double3(0.0, 0.0, 2.0), Math.PI / 2.0).rotate(1.0, 0.0, 0.0).minus(new Double3(0.0, 1.0, 0.0)).length()),
+			//4. Rotation keeps the length of the vector
+			Arguments.of(v.length(), a.rotate(v).length()),
+			//5. Rotation equals the product q v q*
+			Arguments.of(0.0, difference(a.multiply(new Quaternion(v.x(), v.y(), v.z(), 0.0)).multiply(a.conjugate()), new Quaternion(a.rotate(v).x(), a.rotate(v).y(), a.rotate(v).z(), 0.0))),
+			//6. Rotation equals the matrix multiplication
+			Arguments.of(0.0, a.toDouble3x3().multiply(v).minus(a.rotate(v)).length()),
+			//7. Rotation of the product applies the second rotation first
+			Arguments.of(0.0, a.multiply(b).rotate(v).minus(a.rotate(b.rotate(v))).length()),
+			//8. Matrix of the product is the product of the matrices
+			Arguments.of(0.0, TestDouble3x3.difference(a.multiply(b).toDouble3x3(), a.toDouble3x3().multiply(b.toDouble3x3()))),
+			//9. Rotation matrix has determinant 1
+			Arguments.of(1.0, b.toDouble3x3().determinant()),
+			//10. Quaternion from its own matrix
+			Arguments.of(0.0, difference(a, Quaternion.fromRotationMatrix(a.toDouble3x3()))),
+			//11. Quaternion from the matrix of a half turn
+			Arguments.of(0.0, difference(half, Quaternion.fromRotationMatrix(half.toDouble3x3()))),
+			//12. Quaternion from the matrix of a half turn around x
+			Arguments.of(0.0, difference(Quaternion.fromAxisAngle(1.0, 0.0, 0.0, Math.PI), Quaternion.fromRotationMatrix(Quaternion.fromAxisAngle(1.0, 0.0, 0.0, Math.PI).toDouble3x3()))),
+			//13. Quaternion from the matrix of a half turn around y
+			Arguments.of(0.0, difference(Quaternion.fromAxisAngle(0.0, 1.0, 0.0, Math.PI), Quaternion.fromRotationMatrix(Quaternion.fromAxisAngle(0.0, 1.0, 0.0, Math.PI).toDouble3x3()))),
+			//14. Quaternion from a 4x4 matrix
+			Arguments.of(0.0, difference(b, Quaternion.fromRotationMatrix(b.toDouble4x4()))),
+			//15. Quaternion times its inverse
+			Arguments.of(0.0, difference(Quaternion.IDENTITY, c.multiply(c.inverted()))),
+			//16. Slerp at the start
+			Arguments.of(0.0, difference(a, a.slerp(b, 0.0))),
+			//17. Slerp at the end
+			Arguments.of(0.0, difference(b, a.slerp(b, 1.0))),
+			//18. Slerp halfway around the same axis
+			Arguments.of(0.0, difference(Quaternion.fromAxisAngle(1.0, 2.0, 3.0, 1.05), a.slerp(twice, 0.5))),
+			//19. Slerp takes the shortest path
+			Arguments.of(0.0, difference(Quaternion.fromAxisAngle(1.0, 2.0, 3.0, 1.05), a.slerp(twice.negated(), 0.5))),
+			//20. Slerp of almost equal quaternions
+			Arguments.of(1.0, a.slerp(Quaternion.fromAxisAngle(1.0, 2.0, 3.0, 0.7001), 0.5).length()),
+			//21. Nlerp at the end
+			Arguments.of(0.0, difference(b, a.nlerp(b, 1.0))),
+			//22. Nlerp has unit length
+			Arguments.of(1.0, a.nlerp(b, 0.3).length()),
+			//23. Nlerp halfway around the same axis
+			Arguments.of(0.0, difference(Quaternion.fromAxisAngle(1.0, 2.0, 3.0, 1.05), a.nlerp(twice, 0.5)))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual) {
+		Assertions.assertEquals(expected, actual, 1e-9);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. Quaternion * null
+			Arguments.of((Executable) () -> a.multiply(qn)),
+			//2. Rotation of null
+			Arguments.of((Executable) () -> a.rotate(vn)),
+			//3. Slerp with null
+			Arguments.of((Executable) () -> a.slerp(qn, 0.5)),
+			//4. Nlerp with null
+			Arguments.of((Executable) () -> a.nlerp(qn, 0.5)),
+			//5. Quaternion from a null axis
+			Arguments.of((Executable) () -> Quaternion.fromAxisAngle(vn, 1.0)),
+			//6. Quaternion from a null 3x3 matrix
+			Arguments.of((Executable) () -> Quaternion.fromRotationMatrix(mn1)),
+			//7. Quaternion from a null 4x4 matrix
+			Arguments.of((Executable) () -> Quaternion.fromRotationMatrix(mn2))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Inverse of a zero quaternion
+			Arguments.of((Executable) () -> new Quaternion(0.0, 0.0, 0.0, 0.0).inverted())
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(MatrixMathException.class, method);
+	}
+
+	static double difference(Quaternion q1, Quaternion q2) {
+		return q1.minus(q2).length();
+	}
+}
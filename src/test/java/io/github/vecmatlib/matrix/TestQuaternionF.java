@@ -0,0 +1,152 @@
+package io.github.vecmatlib.matrix;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.vector.Float3;
+
+public class TestQuaternionF {
+
+	static QuaternionF a = QuaternionF.fromAxisAngle(1.0f, 2.0f, 3.0f, 0.7f);
+	static QuaternionF b = QuaternionF.fromAxisAngle(-0.5f, 0.3f, 1.2f, 2.1f);
+	static QuaternionF c = new QuaternionF(1.0f, 2.0f, 3.0f, 4.0f);
+
+	static Float3 v = new Float3(1.5f, -0.4f, 2.2f);
+
+	static QuaternionF qn = null;
+	static Float3 vn = null;
+	static Float3x3 mn1 = null;
+	static Float4x4 mn2 = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. QuaternionF + QuaternionF
+			Arguments.of(new QuaternionF(2.0f, 4.0f, 6.0f, 8.0f), c.plus(c)),
+			//2. -QuaternionF
+			Arguments.of(new QuaternionF(-1.0f, -2.0f, -3.0f, -4.0f), c.negated()),
+			//3. QuaternionF * k
+			Arguments.of(new QuaternionF(2.0f, 4.0f, 6.0f, 8.0f), c.multipliedBy(2.0f)),
+			//4. QuaternionF dot QuaternionF
+			Arguments.of(30.0f, c.dotProduct(c)),
+			//5. Conjugate
+			Arguments.of(new QuaternionF(-1.0f, -2.0f, -3.0f, 4.0f), c.conjugate()),
+			//6. Hamilton product
+			Arguments.of(new QuaternionF(8.0f, 16.0f, 24.0f, 2.0f), c.multiply(c)),
+			//7. j * i = -k
+			Arguments.of(new QuaternionF(0.0f, 0.0f, -1.0f, 0.0f), new QuaternionF(0.0f, 1.0f, 0.0f, 0.0f).multiply(new QuaternionF(1.0f, 0.0f, 0.0f, 0.0f))),
+			//8. Identity rotation
+			Arguments.of(v, QuaternionF.IDENTITY.rotate(v)),
+			//9. Identity to matrix
+			Arguments.of(Float3x3.IDENTITY, QuaternionF.IDENTITY.toFloat3x3()),
+			//10. Identity to 4x4 matrix
+			Arguments.of(Float4x4.IDENTITY, QuaternionF.IDENTITY.toFloat4x4()),
+			//11. QuaternionF as double
+			Arguments.of(new Quaternion(1.0, 2.0, 3.0, 4.0), c.asDouble())
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		QuaternionF twice = QuaternionF.fromAxisAngle(1.0f, 2.0f, 3.0f, 1.4f);
+		return Stream.of(
+			//1. Rotation around an axis has unit length
+			Arguments.of(1.0, a.length()),
+			//2. Normalized quaternion has unit length
+			Arguments.of(1.0, c.normalized().length()),
+			//3. Rotation of a quarter turn around z
+			Arguments.of(0.0, QuaternionF.fromAxisAngle(new Float3(0.0f, 0.0f, 2.0f), (float) Math.PI / 2.0f).rotate(1.0f, 0.0f, 0.0f).minus(new Float3(0.0f, 1.0f, 0.0f)).length()),
+			//4. Rotation keeps the length of the vector
+			Arguments.of(v.length(), a.rotate(v).length()),
+			//5. Rotation equals the matrix multiplication
+			Arguments.of(0.0, a.toFloat3x3().multiply(v).minus(a.rotate(v)).length()),
+			//6. Rotation of the product applies the second rotation first
+			Arguments.of(0.0, a.multiply(b).rotate(v).minus(a.rotate(b.rotate(v))).length()),
+			//7. Matrix of the product is the product of the matrices
+			Arguments.of(0.0, TestFloat3x3.difference(a.multiply(b).toFloat3x3(), a.toFloat3x3().multiply(b.toFloat3x3()))),
+			//8. Float rotation is close to the double rotation
+			Arguments.of(0.0, a.rotate(v).asDouble().minus(a.asDouble().rotate(v.asDouble())).length()),
+			//9. QuaternionF from its own matrix
+			Arguments.of(0.0, difference(a, QuaternionF.fromRotationMatrix(a.toFloat3x3()))),
+			//10. QuaternionF from the matrix of a half turn around x
+			Arguments.of(0.0, difference(new QuaternionF(1.0f, 0.0f, 0.0f, 0.0f), QuaternionF.fromRotationMatrix(new QuaternionF(1.0f, 0.0f, 0.0f, 0.0f).toFloat3x3()))),
+			//11. QuaternionF from the matrix of a half turn around y
+			Arguments.of(0.0, difference(new QuaternionF(0.0f, 1.0f, 0.0f, 0.0f), QuaternionF.fromRotationMatrix(new QuaternionF(0.0f, 1.0f, 0.0f, 0.0f).toFloat3x3()))),
+			//12. QuaternionF from the matrix of a half turn around z
+			Arguments.of(0.0, difference(new QuaternionF(0.0f, 0.0f, 1.0f, 0.0f), QuaternionF.fromRotationMatrix(new QuaternionF(0.0f, 0.0f, 1.0f, 0.0f).toFloat3x3()))),
+			//13. QuaternionF from a 4x4 matrix
+			Arguments.of(0.0, difference(b, QuaternionF.fromRotationMatrix(b.toFloat4x4()))),
+			//14. QuaternionF times its inverse
+			Arguments.of(0.0, difference(QuaternionF.IDENTITY, c.multiply(c.inverted()))),
+			//15. Slerp at the end
+			Arguments.of(0.0, difference(b, a.slerp(b, 1.0f))),
+			//16. Slerp halfway around the same axis
+			Arguments.of(0.0, difference(QuaternionF.fromAxisAngle(1.0f, 2.0f, 3.0f, 1.05f), a.slerp(twice, 0.5f))),
+			//17. Slerp takes the shortest path
+			Arguments.of(0.0, difference(QuaternionF.fromAxisAngle(1.0f, 2.0f, 3.0f, 1.05f), a.slerp(twice.negated(), 0.5f))),
+			//18. Slerp is close to the double slerp
+			Arguments.of(0.0, a.slerp(b, 0.3f).asDouble().minus(a.asDouble().slerp(b.asDouble(), 0.3)).length()),
+			//19. Nlerp has unit length
+			Arguments.of(1.0, a.nlerp(b, 0.3f).length()),
+			//20. Nlerp halfway around the same axis
+			Arguments.of(0.0, difference(QuaternionF.fromAxisAngle(1.0f, 2.0f, 3.0f, 1.05f), a.nlerp(twice, 0.5f)))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual) {
+		Assertions.assertEquals(expected, actual, 1e-5);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. QuaternionF * null
+			Arguments.of((Executable) () -> a.multiply(qn)),
+			//2. Rotation of null
+			Arguments.of((Executable) () -> a.rotate(vn)),
+			//3. Slerp with null
+			Arguments.of((Executable) () -> a.slerp(qn, 0.5f)),
+			//4. Nlerp with null
+			Arguments.of((Executable) () -> a.nlerp(qn, 0.5f)),
+			//5. QuaternionF from a null axis
+			Arguments.of((Executable) () -> QuaternionF.fromAxisAngle(vn, 1.0f)),
+			//6. QuaternionF from a null 3x3 matrix
+			Arguments.of((Executable) () -> QuaternionF.fromRotationMatrix(mn1)),
+			//7. QuaternionF from a null 4x4 matrix
+			Arguments.of((Executable) () -> QuaternionF.fromRotationMatrix(mn2))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Inverse of a zero quaternion
+			Arguments.of((Executable) () -> new QuaternionF(0.0f, 0.0f, 0.0f, 0.0f).inverted())
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(MatrixMathException.class, method);
+	}
+
+	static double difference(QuaternionF q1, QuaternionF q2) {
+		return q1.minus(q2).length();
+	}
+}
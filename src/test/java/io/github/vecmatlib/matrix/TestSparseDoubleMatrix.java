@@ -0,0 +1,238 @@
+package io.github.vecmatlib.matrix;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.matrix.SparseDoubleMatrix.Format;
+import io.github.vecmatlib.vector.DoubleVector;
+
+public class TestSparseDoubleMatrix {
+
+	static DoubleMatrix da = new DoubleMatrix(new double[][] {{1.5, 0.0, 0.5, 0.0}, {0.0, 0.0, 0.0, 2.0}, {3.0, 1.0, 0.0, 0.0}});
+	static DoubleMatrix db = new DoubleMatrix(new double[][] {{0.5, 0.0, 0.0, 0.0}, {0.0, 0.0, 1.0, -2.0}, {-1.5, 2.0, 0.0, 0.0}});
+	static DoubleMatrix dd = new DoubleMatrix(4, 2, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0);
+	static DoubleMatrix dc = new DoubleMatrix(new double[][] {{2.0, 0.0, 1.0}, {0.0, 1.0, 0.0}, {1.0, 0.0, 3.0}});
+
+	static SparseDoubleMatrix a = SparseDoubleMatrix.fromDense(da, Format.CSR);
+	static SparseDoubleMatrix b = SparseDoubleMatrix.fromDense(db, Format.CSR);
+	static SparseDoubleMatrix bc = SparseDoubleMatrix.fromDense(db, Format.CSC);
+	static SparseDoubleMatrix c = SparseDoubleMatrix.fromDense(dc, Format.CSR);
+	static SparseDoubleMatrix cc = SparseDoubleMatrix.fromDense(dc, Format.CSC);
+
+	static DoubleMatrix dl1 = sparseIntegerMatrix(131, 300, 1);
+	static DoubleMatrix dl2 = sparseIntegerMatrix(300, 270, 2);
+	static SparseDoubleMatrix l1 = SparseDoubleMatrix.fromDense(dl1, Format.CSR);
+	static SparseDoubleMatrix l2 = SparseDoubleMatrix.fromDense(dl2, Format.CSC);
+
+	static SparseDoubleMatrix banded = banded(40000, 5);
+	static DoubleVector bandedVector = vector(40000);
+
+	static DoubleVector v = new DoubleVector(0.1, 0.2, 0.3, 0.4);
+	static DoubleVector v3 = new DoubleVector(0.1, 0.2, 0.3);
+
+	static ForkJoinPool pool = new ForkJoinPool(4);
+
+	static SparseDoubleMatrix n1 = null;
+	static DoubleMatrix dn1 = null;
+	static DoubleVector vn1 = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Number of rows
+			Arguments.of(3, a.rows()),
+			//2. Number of columns
+			Arguments.of(4, a.columns()),
+			//3. Number of non-zero elements
+			Arguments.of(5, a.nonZeros()),
+			//4. Element
+			Arguments.of(2.0, a.element(1, 3)),
+			//5. Zero element
+			Arguments.of(0.0, a.element(1, 2)),
+			//6. Element in CSC format
+			Arguments.of(-2.0, bc.element(1, 3)),
+			//7. Copy of a DoubleMatrix
+			Arguments.of(da, a.toDoubleMatrix()),
+			//8. Copy of a DoubleMatrix in CSC format
+			Arguments.of(db, bc.toDoubleMatrix()),
+			//9. Builder sums duplicates and drops zeros
+			Arguments.of(new DoubleMatrix(2, 2, 3.0, 0.0, 0.0, 0.0), new SparseDoubleMatrix.Builder(2, 2).add(0, 0, 1.0).add(1, 1, 4.0).add(0, 0, 2.0).add(1, 1, -4.0).build().toDoubleMatrix()),
+			//10. Builder drops cancelled elements
+			Arguments.of(1, new SparseDoubleMatrix.Builder(2, 2).add(0, 1, 1.0).add(1, 0, 4.0).add(1, 0, -4.0).build(Format.CSC).nonZeros()),
+			//11. Builder accepts elements in any order
+			Arguments.of(db, new SparseDoubleMatrix.Builder(3, 4).add(2, 1, 2.0).add(1, 3, -2.0).add(0, 0, 0.5).add(2, 0, -1.5).add(1, 2, 1.0).build().toDoubleMatrix()),
+			//12. SparseDoubleMatrix + SparseDoubleMatrix
+			Arguments.of(da.plus(db), a.plus(b).toDoubleMatrix()),
+			//13. SparseDoubleMatrix + SparseDoubleMatrix in a different format
+			Arguments.of(da.plus(db), a.plus(bc).toDoubleMatrix()),
+			//14. -SparseDoubleMatrix
+			Arguments.of(SparseDoubleMatrix.fromDense(da.negative(), Format.CSR), a.negative()),
+			//15. SparseDoubleMatrix - SparseDoubleMatrix
+			Arguments.of(da.minus(db), bc.toCsc().minus(a).negative().toDoubleMatrix()),
+			//16. SparseDoubleMatrix - itself is empty
+			Arguments.of(0, a.minus(a).nonZeros()),
+			//17. SparseDoubleMatrix * double
+			Arguments.of(da.multipliedBy(0.3), a.multipliedBy(0.3).toDoubleMatrix()),
+			//18. SparseDoubleMatrix * 0 is empty
+			Arguments.of(0, a.multipliedBy(0.0).nonZeros()),
+			//19. SparseDoubleMatrix * DoubleVector
+			Arguments.of(da.multiply(v), a.multiply(v)),
+			//20. SparseDoubleMatrix * DoubleVector in CSC format
+			Arguments.of(db.multiply(v), bc.multiply(v)),
+			//21. SparseDoubleMatrix ^ T
+			Arguments.of(da.transposed(), a.transposed().toDoubleMatrix()),
+			//22. Transposed of a CSR matrix is in CSC format
+			Arguments.of(Format.CSC, a.transposed().format()),
+			//23. Negative transposed
+			Arguments.of(SparseDoubleMatrix.fromDense(da.negativeTransposed(), Format.CSC), a.negativeTransposed()),
+			//24. SparseDoubleMatrix * DoubleMatrix
+			Arguments.of(da.multiply(dd), a.multiply(dd)),
+			//25. SparseDoubleMatrix * DoubleMatrix in CSC format
+			Arguments.of(dl1.multiply(dl2), l1.toCsc().multiply(dl2)),
+			//26. SparseDoubleMatrix * SparseDoubleMatrix
+			Arguments.of(da.multiply(db.transposed()), a.multiply(bc.transposed()).toDoubleMatrix()),
+			//27. Large SparseDoubleMatrix * SparseDoubleMatrix
+			Arguments.of(dl1.multiply(dl2), l1.multiply(l2).toDoubleMatrix()),
+			//28. Product of sparse matrices is in CSR format
+			Arguments.of(Format.CSR, cc.multiply(cc).format()),
+			//29. SparseDoubleMatrix ^ int
+			Arguments.of(dc.power(5), cc.power(5).toDoubleMatrix()),
+			//30. SparseDoubleMatrix ^ 0
+			Arguments.of(DoubleMatrix.identity(3), c.power(0).toDoubleMatrix()),
+			//31. SparseDoubleMatrix ^ -int
+			Arguments.of(dc.power(-3), c.power(-3).toDoubleMatrix()),
+			//32. Identity
+			Arguments.of(DoubleMatrix.identity(4), SparseDoubleMatrix.identity(4).toDoubleMatrix()),
+			//33. Conversion to CSC
+			Arguments.of(bc, b.toCsc()),
+			//34. Conversion to CSR
+			Arguments.of(Format.CSR, bc.toCsr().format()),
+			//35. Parallel product is identical to the sequential product
+			Arguments.of(banded.multiply(bandedVector), banded.parallelMultiply(bandedVector, pool)),
+			//36. Parallel product in CSC format is identical to the sequential product
+			Arguments.of(banded.multiply(bandedVector), banded.toCsc().parallelMultiply(bandedVector, 3)),
+			//37. Parallel product of a small matrix
+			Arguments.of(da.multiply(v), a.parallelMultiply(v)),
+			//38. Symmetric
+			Arguments.of(true, cc.isSymmetric()),
+			//39. Equals in different formats
+			Arguments.of(b, bc),
+			//40. Hash code in different formats
+			Arguments.of(b.hashCode(), bc.hashCode())
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Empty matrix
+			Arguments.of((Executable) () -> new SparseDoubleMatrix.Builder(0, 2)),
+			//2. SparseDoubleMatrix + SparseDoubleMatrix of a different size
+			Arguments.of((Executable) () -> a.plus(c)),
+			//3. SparseDoubleMatrix - SparseDoubleMatrix of a different size
+			Arguments.of((Executable) () -> a.minus(c)),
+			//4. SparseDoubleMatrix * DoubleVector of a different size
+			Arguments.of((Executable) () -> a.multiply(v3)),
+			//5. Parallel SparseDoubleMatrix * DoubleVector of a different size
+			Arguments.of((Executable) () -> a.parallelMultiply(v3, pool)),
+			//6. Non-square SparseDoubleMatrix ^ int
+			Arguments.of((Executable) () -> a.power(2)),
+			//7. SparseDoubleMatrix (3x4) * SparseDoubleMatrix (3x4)
+			Arguments.of((Executable) () -> a.multiply(b)),
+			//8. SparseDoubleMatrix (3x4) * DoubleMatrix (3x4)
+			Arguments.of((Executable) () -> a.multiply(db))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(MatrixMathException.class, method);
+	}
+
+	static Stream<Arguments> testIndexOutOfBoundsSource() {
+		return Stream.of(
+			//1. Row out of bounds
+			Arguments.of((Executable) () -> a.element(3, 0)),
+			//2. Negative column
+			Arguments.of((Executable) () -> a.element(0, -1)),
+			//3. Builder row out of bounds
+			Arguments.of((Executable) () -> new SparseDoubleMatrix.Builder(2, 2).add(2, 0, 1.0)),
+			//4. Builder column out of bounds
+			Arguments.of((Executable) () -> new SparseDoubleMatrix.Builder(2, 2).add(0, 2, 1.0))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testIndexOutOfBoundsSource")
+	void testIndexOutOfBounds(Executable method) {
+		Assertions.assertThrows(IndexOutOfBoundsException.class, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. SparseDoubleMatrix + null (SparseDoubleMatrix)
+			Arguments.of((Executable) () -> a.plus(n1)),
+			//2. SparseDoubleMatrix - null (SparseDoubleMatrix)
+			Arguments.of((Executable) () -> a.minus(n1)),
+			//3. SparseDoubleMatrix * null (DoubleVector)
+			Arguments.of((Executable) () -> a.multiply(vn1)),
+			//4. SparseDoubleMatrix * null (SparseDoubleMatrix)
+			Arguments.of((Executable) () -> a.multiply(n1)),
+			//5. SparseDoubleMatrix * null (DoubleMatrix)
+			Arguments.of((Executable) () -> a.multiply(dn1)),
+			//6. Parallel product with a null pool
+			Arguments.of((Executable) () -> a.parallelMultiply(v, (ForkJoinPool) null)),
+			//7. Null format
+			Arguments.of((Executable) () -> SparseDoubleMatrix.fromDense(da, null)),
+			//8. Builder with a null format
+			Arguments.of((Executable) () -> new SparseDoubleMatrix.Builder(2, 2).add(0, 1, 1.0).build(null))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static DoubleMatrix sparseIntegerMatrix(int rows, int columns, int seed) {
+		double[][] values = new double[rows][columns];
+		for(int r = 0; r < rows; r++) {
+			for(int c = 0; c < columns; c++) {
+				if((r * 5 + c * 3 + seed) % 7 == 0) {
+					values[r][c] = (r * 7 + c * 3 + seed) % 11 - 5;
+				}
+			}
+		}
+		return new DoubleMatrix(values);
+	}
+
+	static SparseDoubleMatrix banded(int size, int width) {
+		SparseDoubleMatrix.Builder builder = new SparseDoubleMatrix.Builder(size, size);
+		for(int r = 0; r < size; r++) {
+			for(int c = Math.max(0, r - width / 2); c < Math.min(size, r + width / 2 + 1); c++) {
+				builder.add(r, c, 0.1 * ((r + 3 * c) % 13 + 1));
+			}
+		}
+		return builder.build();
+	}
+
+	static DoubleVector vector(int size) {
+		double[] values = new double[size];
+		for(int i = 0; i < size; i++) {
+			values[i] = Math.sin(i);
+		}
+		return new DoubleVector(values);
+	}
+}
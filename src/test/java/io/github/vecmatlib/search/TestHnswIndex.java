@@ -0,0 +1,303 @@
+package io.github.vecmatlib.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.vector.FloatVector;
+import io.github.vecmatlib.vector.VectorMathException;
+
+public class TestHnswIndex {
+
+	@TempDir
+	static Path directory;
+
+	static FloatVector[] corpus = TestVectorIndex.vectors(4000, 16, 5);
+	static FloatVector[] queries = TestVectorIndex.vectors(50, 16, 6);
+
+	static ForkJoinPool pool = new ForkJoinPool(4);
+
+	static HnswIndex l2 = index(Metric.L2, corpus);
+	static HnswIndex cosine = index(Metric.COSINE, corpus);
+	static HnswIndex inner = index(Metric.INNER_PRODUCT, corpus);
+	static HnswIndex parallel = parallelIndex(Metric.L2, corpus);
+
+	static FloatVector qn1 = null;
+	static FloatVector[] qn2 = null;
+
+	static Stream<Arguments> testSource() {
+		HnswIndex loaded = load(saved("l2.vmlh", l2));
+		return Stream.of(
+			//1. Size
+			Arguments.of(4000, l2.size()),
+			//2. Dimension
+			Arguments.of(16, l2.dimension()),
+			//3. Capacity
+			Arguments.of(4000, l2.capacity()),
+			//4. Default parameters
+			Arguments.of(List.of(HnswIndex.DEFAULT_M, HnswIndex.DEFAULT_EF_CONSTRUCTION, HnswIndex.DEFAULT_EF_SEARCH), List.of(l2.m(), l2.efConstruction(), l2.efSearch())),
+			//5. Nearest vector of a vector of the index is itself
+			Arguments.of(17, l2.topK(corpus[17], 1)[0].index()),
+			//6. Sequential construction always gives the same graph
+			Arguments.of(neighbors(l2, 10), neighbors(index(Metric.L2, corpus), 10)),
+			//7. Loaded index gives the same results
+			Arguments.of(neighbors(l2, 10), neighbors(loaded, 10)),
+			//8. Loaded index has the same parameters
+			Arguments.of(List.of(l2.size(), l2.capacity(), l2.m(), l2.efConstruction(), l2.metric()), List.of(loaded.size(), loaded.capacity(), loaded.m(), loaded.efConstruction(), loaded.metric())),
+			//9. Loaded index has the same vectors
+			Arguments.of(l2.vector(123), loaded.vector(123)),
+			//10. Search of an empty index
+			Arguments.of(0, new HnswIndex(16, Metric.L2, 10).topK(queries[0], 5).length),
+			//11. Search of a small index returns all the vectors
+			Arguments.of(3, index(Metric.L2, Arrays.copyOf(corpus, 3)).topK(queries[0], 10).length),
+			//12. Index of the first vector added
+			Arguments.of(3, withCapacity(Metric.L2, 10, Arrays.copyOf(corpus, 3)).addAll(corpus[3], corpus[4])),
+			//13. Stored vector
+			Arguments.of(corpus[42], l2.vector(42)),
+			//14. Parallel search is the same as sequential search
+			Arguments.of(neighbors(l2, 5), Arrays.stream(l2.parallelTopK(queries, 5, pool)).map(List::of).toList()),
+			//15. Vectors added in parallel have consecutive indices
+			Arguments.of(corpus[3999], parallel.vector(3999)),
+			//16. Saved empty index
+			Arguments.of(0, load(saved("empty.vmlh", new HnswIndex(16, Metric.COSINE, 10))).topK(queries[0], 5).length),
+			//17. Search size is saved
+			Arguments.of(77, load(saved("ef.vmlh", withEfSearch(77))).efSearch()),
+			//18. Results are sorted from best to worst
+			Arguments.of(true, sorted(cosine.topK(queries[3], 20))),
+			//19. Search with a k larger than any array returns all the vectors
+			Arguments.of(3, index(Metric.L2, Arrays.copyOf(corpus, 3)).topK(queries[0], Integer.MAX_VALUE).length),
+			//20. Vectors can be searched while they are being added
+			Arguments.of(List.of(corpus.length, 0, true), addAndSearchConcurrently())
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		return Stream.of(
+			//1. Recall with the L2 metric
+			Arguments.of(1.0, recall(l2, Metric.L2, 10), 0.05),
+			//2. Recall with the cosine metric
+			Arguments.of(1.0, recall(cosine, Metric.COSINE, 10), 0.05),
+			//3. Recall with the inner product metric
+			Arguments.of(1.0, recall(inner, Metric.INNER_PRODUCT, 10), 0.1),
+			//4. Recall of an index built in parallel
+			Arguments.of(1.0, recall(parallel, Metric.L2, 10), 0.05),
+			//5. L2 score
+			Arguments.of(queries[2].minus(corpus[l2.topK(queries[2], 1)[0].index()]).lengthSquared(), l2.topK(queries[2], 1)[0].score(), 1e-4),
+			//6. Cosine score
+			Arguments.of(Math.cos(queries[1].angle(corpus[cosine.topK(queries[1], 1)[0].index()])), cosine.topK(queries[1], 1)[0].score(), 1e-5),
+			//7. L2 distance of the same vector is zero
+			Arguments.of(0.0, l2.topK(corpus[5], 1)[0].score(), 0.0)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual, double delta) {
+		Assertions.assertEquals(expected, actual, delta);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Query of a different dimension
+			Arguments.of(VectorMathException.class, (Executable) () -> l2.topK(new FloatVector(1.0f, 2.0f), 3)),
+			//2. Vector of a different dimension
+			Arguments.of(VectorMathException.class, (Executable) () -> new HnswIndex(3, Metric.L2, 10).add(new FloatVector(1.0f, 2.0f))),
+			//3. Zero neighbors
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> l2.topK(queries[0], 0)),
+			//4. Full index
+			Arguments.of(IllegalStateException.class, (Executable) () -> l2.add(queries[0])),
+			//5. Not enough room for all the vectors
+			Arguments.of(IllegalStateException.class, (Executable) () -> new HnswIndex(16, Metric.L2, 2).addAll(Arrays.copyOf(corpus, 3))),
+			//6. Too few links
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> new HnswIndex(16, Metric.L2, 10, 1, 10)),
+			//7. Construction search size less than the number of links
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> new HnswIndex(16, Metric.L2, 10, 16, 8)),
+			//8. Zero capacity
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> new HnswIndex(16, Metric.L2, 0)),
+			//9. Zero search size
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> new HnswIndex(16, Metric.L2, 10).setEfSearch(0)),
+			//10. Vector out of bounds
+			Arguments.of(IndexOutOfBoundsException.class, (Executable) () -> l2.vector(4000)),
+			//11. File that is not an index file
+			Arguments.of(IOException.class, (Executable) () -> HnswIndex.load(bytes("text.vmlh", "Not an index".repeat(10).getBytes()))),
+			//12. File with a wrong checksum
+			Arguments.of(IOException.class, (Executable) () -> HnswIndex.load(corrupted("corrupted.vmlh"))),
+			//13. Truncated file
+			Arguments.of(IOException.class, (Executable) () -> HnswIndex.load(truncated("truncated.vmlh")))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Class<? extends Throwable> expected, Executable method) {
+		Assertions.assertThrows(expected, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. Null query
+			Arguments.of((Executable) () -> l2.topK(qn1, 3)),
+			//2. Null vector
+			Arguments.of((Executable) () -> new HnswIndex(3, Metric.L2, 10).add(qn1)),
+			//3. Null batch
+			Arguments.of((Executable) () -> l2.parallelTopK(qn2, 3)),
+			//4. Null pool
+			Arguments.of((Executable) () -> new HnswIndex(16, Metric.L2, 10).parallelAddAll(queries, null)),
+			//5. Null metric
+			Arguments.of((Executable) () -> new HnswIndex(3, null, 10))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static HnswIndex index(Metric metric, FloatVector... vectors) {
+		return withCapacity(metric, vectors.length, vectors);
+	}
+
+	static HnswIndex withCapacity(Metric metric, int capacity, FloatVector... vectors) {
+		HnswIndex index = new HnswIndex(vectors[0].size(), metric, capacity);
+		index.addAll(vectors);
+		return index;
+	}
+
+	static HnswIndex parallelIndex(Metric metric, FloatVector... vectors) {
+		HnswIndex index = new HnswIndex(vectors[0].size(), metric, vectors.length);
+		index.parallelAddAll(vectors, pool);
+		return index;
+	}
+
+	static HnswIndex withEfSearch(int efSearch) {
+		HnswIndex index = index(Metric.L2, Arrays.copyOf(corpus, 10));
+		index.setEfSearch(efSearch);
+		return index;
+	}
+
+	/**
+	 * Searches an index from a thread of the pool while the rest of the corpus is added to it in parallel.
+	 * 
+	 * @return The size of the index, the number of invalid results and whether the recall of the index is high enough.
+	 */
+	static List<Object> addAndSearchConcurrently() {
+		HnswIndex index = withCapacity(Metric.COSINE, corpus.length, Arrays.copyOf(corpus, 500));
+		AtomicInteger invalid = new AtomicInteger();
+		AtomicBoolean adding = new AtomicBoolean(true);
+		CountDownLatch started = new CountDownLatch(1);
+		ForkJoinTask<?> searches = pool.submit(() -> {
+			int q = 0;
+			do {
+				Neighbor[] result = index.topK(queries[q++ % queries.length], 10);
+				if(result.length != 10 || !sorted(result) || Arrays.stream(result).anyMatch(neighbor -> neighbor.index() >= index.size()))
+					invalid.incrementAndGet();
+				started.countDown();
+			} while(adding.get());
+		});
+		try {
+			started.await();
+		} catch(InterruptedException e) {
+			throw new IllegalStateException(e);
+		}
+		index.parallelAddAll(Arrays.copyOfRange(corpus, 500, corpus.length), pool);
+		adding.set(false);
+		searches.join();
+		return List.of(index.size(), invalid.get(), recall(index, Metric.COSINE, 10) >= 0.95);
+	}
+
+	static List<List<Neighbor>> neighbors(HnswIndex index, int k) {
+		return Arrays.stream(queries).map(q -> List.of(index.topK(q, k))).toList();
+	}
+
+	static double recall(HnswIndex index, Metric metric, int k) {
+		VectorIndex exact = new VectorIndex(corpus[0].size(), metric);
+		exact.addAll(corpus);
+		int found = 0;
+		for(FloatVector query : queries) {
+			Set<Integer> expected = new HashSet<>(TestVectorIndex.indices(exact.topK(query, k)));
+			for(Neighbor neighbor : index.topK(query, k)) {
+				if(expected.contains(neighbor.index()))
+					found++;
+			}
+		}
+		return found / (double) (k * queries.length);
+	}
+
+	static boolean sorted(Neighbor[] neighbors) {
+		for(int i = 1; i < neighbors.length; i++) {
+			if(neighbors[i].score() > neighbors[i - 1].score())
+				return false;
+		}
+		return true;
+	}
+
+	static Path saved(String name, HnswIndex index) {
+		try {
+			Path path = directory.resolve(name);
+			index.save(path);
+			return path;
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	static HnswIndex load(Path path) {
+		try {
+			return HnswIndex.load(path);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	static Path corrupted(String name) {
+		try {
+			byte[] bytes = Files.readAllBytes(saved(name, index(Metric.L2, Arrays.copyOf(corpus, 20))));
+			bytes[100] ^= 1;
+			return bytes(name, bytes);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	static Path truncated(String name) {
+		try {
+			byte[] bytes = Files.readAllBytes(saved(name, index(Metric.L2, Arrays.copyOf(corpus, 20))));
+			return bytes(name, Arrays.copyOf(bytes, bytes.length - 4));
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	static Path bytes(String name, byte[] bytes) {
+		try {
+			return Files.write(directory.resolve(name), bytes);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,171 @@
+package io.github.vecmatlib.search;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.vector.FloatVector;
+import io.github.vecmatlib.vector.VectorMathException;
+
+public class TestProductQuantizedIndex {
+
+	static FloatVector[] corpus = TestVectorIndex.vectors(2000, 16, 9);
+	static FloatVector[] queries = TestVectorIndex.vectors(20, 16, 10);
+	static FloatVector[] sample = Arrays.copyOf(corpus, 1000);
+
+	static ProductQuantizedIndex inner = index(Metric.INNER_PRODUCT, 8, 256);
+	static ProductQuantizedIndex l2 = index(Metric.L2, 8, 256);
+	static ProductQuantizedIndex cosine = index(Metric.COSINE, 4, 64);
+
+	static FloatVector qn1 = null;
+	static FloatVector[] qn2 = null;
+
+	static Stream<Arguments> testSource() {
+		FloatVector[] four = Arrays.copyOf(corpus, 4);
+		ProductQuantizedIndex exact = new ProductQuantizedIndex(Metric.L2, 2, 4, four);
+		exact.addAll(four);
+		return Stream.of(
+			//1. Size
+			Arguments.of(2000, inner.size()),
+			//2. Dimension
+			Arguments.of(16, inner.dimension()),
+			//3. Subspaces
+			Arguments.of(4, cosine.subspaces()),
+			//4. Centroids
+			Arguments.of(64, cosine.centroids()),
+			//5. Bytes per vector
+			Arguments.of(8, l2.bytesPerVector()),
+			//6. Vectors of the sample are stored exactly if every one of them is a centroid
+			Arguments.of(Arrays.asList(four), Arrays.asList(exact.vector(0), exact.vector(1), exact.vector(2), exact.vector(3))),
+			//7. The same sample always gives the same codebook
+			Arguments.of(l2.vector(77), index(Metric.L2, 8, 256).vector(77)),
+			//8. Index of added vectors
+			Arguments.of(4, exact.add(corpus[4])),
+			//9. Search of a small index returns all the vectors
+			Arguments.of(3, small(Arrays.copyOf(corpus, 3)).topK(queries[0], 10).length),
+			//10. Metric
+			Arguments.of(Metric.COSINE, cosine.metric()),
+			//11. Search with a k larger than any array returns all the vectors
+			Arguments.of(3, small(Arrays.copyOf(corpus, 3)).topK(queries[0], Integer.MAX_VALUE).length)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		Neighbor product = inner.topK(queries[0], 1)[0];
+		Neighbor distance = l2.topK(queries[1], 1)[0];
+		Neighbor angle = cosine.topK(queries[2], 1)[0];
+		return Stream.of(
+			//1. Inner product computed from the table
+			Arguments.of(queries[0].dotProduct(inner.vector(product.index())), product.score(), 1e-4),
+			//2. Squared distance computed from the table
+			Arguments.of(queries[1].minus(l2.vector(distance.index())).lengthSquared(), distance.score(), 1e-4),
+			//3. Cosine similarity computed from the table
+			Arguments.of(queries[2].normalized().dotProduct(cosine.vector(angle.index())), angle.score(), 1e-5),
+			//4. Error of the quantized vectors is less than the spread of the corpus
+			Arguments.of(0.0, averageError(l2), 0.5 * averageLength()),
+			//5. Recall with the inner product metric
+			Arguments.of(1.0, recall(inner, Metric.INNER_PRODUCT, 10), 0.5),
+			//6. Recall with the L2 metric
+			Arguments.of(1.0, recall(l2, Metric.L2, 10), 0.5)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual, double delta) {
+		Assertions.assertEquals(expected, actual, delta);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Query of a different dimension
+			Arguments.of(VectorMathException.class, (Executable) () -> inner.topK(new FloatVector(1.0f, 2.0f), 3)),
+			//2. Vector of a different dimension
+			Arguments.of(VectorMathException.class, (Executable) () -> l2.add(new FloatVector(1.0f, 2.0f))),
+			//3. Sample with vectors of different dimensions
+			Arguments.of(VectorMathException.class, (Executable) () -> new ProductQuantizedIndex(Metric.L2, 1, 1, new FloatVector(1.0f, 2.0f), new FloatVector(1.0f))),
+			//4. Zero neighbors
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> inner.topK(queries[0], 0)),
+			//5. Subspaces that do not divide the dimension
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> new ProductQuantizedIndex(Metric.L2, 5, 4, sample)),
+			//6. Zero subspaces
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> new ProductQuantizedIndex(Metric.L2, 0, 4, sample)),
+			//7. Too many centroids
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> new ProductQuantizedIndex(Metric.L2, 4, 257, sample)),
+			//8. Sample smaller than the number of centroids
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> new ProductQuantizedIndex(Metric.L2, 4, Arrays.copyOf(corpus, 100))),
+			//9. Vector out of bounds
+			Arguments.of(IndexOutOfBoundsException.class, (Executable) () -> inner.vector(2000))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Class<? extends Throwable> expected, Executable method) {
+		Assertions.assertThrows(expected, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. Null query
+			Arguments.of((Executable) () -> inner.topK(qn1, 3)),
+			//2. Null vector
+			Arguments.of((Executable) () -> l2.add(qn1)),
+			//3. Null sample
+			Arguments.of((Executable) () -> new ProductQuantizedIndex(Metric.L2, 4, qn2)),
+			//4. Null metric
+			Arguments.of((Executable) () -> new ProductQuantizedIndex(null, 4, sample))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static ProductQuantizedIndex index(Metric metric, int subspaces, int centroids) {
+		ProductQuantizedIndex index = new ProductQuantizedIndex(metric, subspaces, centroids, sample);
+		index.addAll(corpus);
+		return index;
+	}
+
+	static ProductQuantizedIndex small(FloatVector... vectors) {
+		ProductQuantizedIndex index = new ProductQuantizedIndex(Metric.L2, 2, 2, vectors);
+		index.addAll(vectors);
+		return index;
+	}
+
+	static double averageError(ProductQuantizedIndex index) {
+		double sum = 0.0;
+		for(int i = 0; i < corpus.length; i++) {
+			sum += corpus[i].minus(index.vector(i)).length();
+		}
+		return sum / corpus.length;
+	}
+
+	static double averageLength() {
+		return Arrays.stream(corpus).mapToDouble(FloatVector::length).average().orElseThrow();
+	}
+
+	static double recall(ProductQuantizedIndex index, Metric metric, int k) {
+		VectorIndex exact = new VectorIndex(corpus[0].size(), metric);
+		exact.addAll(corpus);
+		int found = 0;
+		for(FloatVector query : queries) {
+			found += TestVectorIndex.indices(index.topK(query, k)).stream().filter(TestVectorIndex.indices(exact.topK(query, k))::contains).count();
+		}
+		return found / (double) (k * queries.length);
+	}
+}
@@ -0,0 +1,166 @@
+package io.github.vecmatlib.search;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.vector.FloatVector;
+import io.github.vecmatlib.vector.VectorMathException;
+
+public class TestScalarQuantizedIndex {
+
+	static FloatVector[] corpus = TestVectorIndex.vectors(2000, 16, 7);
+	static FloatVector[] queries = TestVectorIndex.vectors(20, 16, 8);
+
+	static ScalarQuantizedIndex innerVector = perVector(Metric.INNER_PRODUCT, corpus);
+	static ScalarQuantizedIndex innerDimension = perDimension(Metric.INNER_PRODUCT, corpus);
+	static ScalarQuantizedIndex l2 = perDimension(Metric.L2, corpus);
+	static ScalarQuantizedIndex l2Vector = perVector(Metric.L2, corpus);
+	static ScalarQuantizedIndex cosine = perVector(Metric.COSINE, corpus);
+
+	static FloatVector qn1 = null;
+	static FloatVector[] qn2 = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Size
+			Arguments.of(2000, innerVector.size()),
+			//2. Dimension
+			Arguments.of(16, innerDimension.dimension()),
+			//3. Bytes per vector with ranges for every dimension
+			Arguments.of(16, innerDimension.bytesPerVector()),
+			//4. Bytes per vector with ranges for every vector and squared lengths
+			Arguments.of(28, l2Vector.bytesPerVector()),
+			//5. Vector with all components equal is stored exactly
+			Arguments.of(new FloatVector(0.7f, 0.7f, 0.7f), perVector(Metric.L2, new FloatVector(0.7f, 0.7f, 0.7f)).vector(0)),
+			//6. Smallest and largest components are stored exactly
+			Arguments.of(new FloatVector(-1.0f, 3.0f), perVector(Metric.INNER_PRODUCT, new FloatVector(-1.0f, 3.0f)).vector(0)),
+			//7. Components outside of the range of the sample are clamped
+			Arguments.of(new FloatVector(1.0f, 0.0f), withSample(new FloatVector[] {new FloatVector(0.0f, 0.0f), new FloatVector(1.0f, 1.0f)}, new FloatVector(2.0f, -1.0f)).vector(0)),
+			//8. Index of added vectors
+			Arguments.of(1, perVector(Metric.L2, corpus[0]).add(corpus[1])),
+			//9. Search of a small index returns all the vectors
+			Arguments.of(3, perVector(Metric.L2, Arrays.copyOf(corpus, 3)).topK(queries[0], 10).length),
+			//10. Metric
+			Arguments.of(Metric.COSINE, cosine.metric()),
+			//11. Search with a k larger than any array returns all the vectors
+			Arguments.of(3, perVector(Metric.L2, Arrays.copyOf(corpus, 3)).topK(queries[0], Integer.MAX_VALUE).length)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		Neighbor vector = innerVector.topK(queries[0], 1)[0];
+		Neighbor dimension = innerDimension.topK(queries[1], 1)[0];
+		Neighbor distance = l2.topK(queries[2], 1)[0];
+		Neighbor angle = cosine.topK(queries[3], 1)[0];
+		return Stream.of(
+			//1. Score computed from the codes with ranges for every vector
+			Arguments.of(queries[0].dotProduct(innerVector.vector(vector.index())), vector.score(), 1e-4),
+			//2. Score computed from the codes with ranges for every dimension
+			Arguments.of(queries[1].dotProduct(innerDimension.vector(dimension.index())), dimension.score(), 1e-4),
+			//3. L2 score computed from the codes
+			Arguments.of(queries[2].minus(l2.vector(distance.index())).lengthSquared(), distance.score(), 1e-4),
+			//4. Cosine score computed from the codes
+			Arguments.of(queries[3].normalized().dotProduct(cosine.vector(angle.index())), angle.score(), 1e-5),
+			//5. Error of a quantized vector with ranges for every vector
+			Arguments.of(0.0, corpus[5].minus(innerVector.vector(5)).length(), 0.05),
+			//6. Error of a quantized vector with ranges for every dimension
+			Arguments.of(0.0, corpus[5].minus(innerDimension.vector(5)).length(), 0.05),
+			//7. Recall with ranges for every vector
+			Arguments.of(1.0, recall(innerVector, Metric.INNER_PRODUCT, 10), 0.1),
+			//8. Recall with ranges for every dimension
+			Arguments.of(1.0, recall(l2, Metric.L2, 10), 0.1),
+			//9. Recall with the cosine metric
+			Arguments.of(1.0, recall(cosine, Metric.COSINE, 10), 0.1)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual, double delta) {
+		Assertions.assertEquals(expected, actual, delta);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Query of a different dimension
+			Arguments.of(VectorMathException.class, (Executable) () -> innerVector.topK(new FloatVector(1.0f, 2.0f), 3)),
+			//2. Vector of a different dimension
+			Arguments.of(VectorMathException.class, (Executable) () -> ScalarQuantizedIndex.perVector(3, Metric.L2).add(new FloatVector(1.0f, 2.0f))),
+			//3. Sample with vectors of different dimensions
+			Arguments.of(VectorMathException.class, (Executable) () -> ScalarQuantizedIndex.perDimension(Metric.L2, new FloatVector(1.0f, 2.0f), new FloatVector(1.0f))),
+			//4. Zero neighbors
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> innerVector.topK(queries[0], 0)),
+			//5. Zero dimension
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> ScalarQuantizedIndex.perVector(0, Metric.L2)),
+			//6. Empty sample
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> ScalarQuantizedIndex.perDimension(Metric.L2)),
+			//7. Vector out of bounds
+			Arguments.of(IndexOutOfBoundsException.class, (Executable) () -> innerVector.vector(2000))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Class<? extends Throwable> expected, Executable method) {
+		Assertions.assertThrows(expected, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. Null query
+			Arguments.of((Executable) () -> innerVector.topK(qn1, 3)),
+			//2. Null vector
+			Arguments.of((Executable) () -> ScalarQuantizedIndex.perVector(3, Metric.L2).add(qn1)),
+			//3. Null sample
+			Arguments.of((Executable) () -> ScalarQuantizedIndex.perDimension(Metric.L2, qn2)),
+			//4. Null metric
+			Arguments.of((Executable) () -> ScalarQuantizedIndex.perVector(3, null))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static ScalarQuantizedIndex perVector(Metric metric, FloatVector... vectors) {
+		ScalarQuantizedIndex index = ScalarQuantizedIndex.perVector(vectors[0].size(), metric);
+		index.addAll(vectors);
+		return index;
+	}
+
+	static ScalarQuantizedIndex perDimension(Metric metric, FloatVector... vectors) {
+		ScalarQuantizedIndex index = ScalarQuantizedIndex.perDimension(metric, vectors);
+		index.addAll(vectors);
+		return index;
+	}
+
+	static ScalarQuantizedIndex withSample(FloatVector[] sample, FloatVector... vectors) {
+		ScalarQuantizedIndex index = ScalarQuantizedIndex.perDimension(Metric.L2, sample);
+		index.addAll(vectors);
+		return index;
+	}
+
+	static double recall(ScalarQuantizedIndex index, Metric metric, int k) {
+		VectorIndex exact = new VectorIndex(corpus[0].size(), metric);
+		exact.addAll(corpus);
+		int found = 0;
+		for(FloatVector query : queries) {
+			found += TestVectorIndex.indices(index.topK(query, k)).stream().filter(TestVectorIndex.indices(exact.topK(query, k))::contains).count();
+		}
+		return found / (double) (k * queries.length);
+	}
+}
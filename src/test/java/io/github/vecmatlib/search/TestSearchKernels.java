@@ -0,0 +1,87 @@
+package io.github.vecmatlib.search;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class TestSearchKernels {
+
+	static SearchKernels.Accelerated accelerated = accelerated();
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Dimension shorter than a vector
+			Arguments.of(5, 0, 11),
+			//2. Dimension multiple of a vector
+			Arguments.of(64, 0, 11),
+			//3. Dimension with remaining terms
+			Arguments.of(37, 0, 11),
+			//4. Range that does not start at the first vector
+			Arguments.of(37, 3, 10),
+			//5. Large dimension
+			Arguments.of(1000, 1, 6)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(int dimension, int from, int to) {
+		Assumptions.assumeTrue(accelerated != null);
+		float[] data = floats(to * dimension, 1), query = floats(dimension, 2);
+		float[] expected = scalar(data, dimension, from, to, query);
+		float[] actual = new float[to - from];
+		accelerated.dots(data, dimension, from, to, query, actual);
+		Assertions.assertArrayEquals(expected, actual);
+		for(int i = from; i < to; i++) {
+			Assertions.assertEquals(expected[i - from], accelerated.dot(data, i * dimension, query, dimension));
+		}
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testBatch(int dimension, int from, int to) {
+		// The score of a vector does not depend on the range it is computed in
+		float[] data = floats(to * dimension, 1), query = floats(dimension, 2);
+		float[] result = new float[to - from];
+		SearchKernels.dots(data, dimension, from, to, query, result);
+		for(int i = from; i < to; i++) {
+			Assertions.assertEquals(SearchKernels.dot(data, i * dimension, query, dimension), result[i - from]);
+		}
+	}
+
+	@Test
+	void testAccelerated() {
+		// The tests are run with the jdk.incubator.vector module, once with the accelerated kernels disabled
+		Assumptions.assumeTrue(accelerated != null);
+		Assertions.assertEquals(Boolean.parseBoolean(System.getProperty("vecmatlib.simd", "true")), SearchKernels.ACCELERATED != null);
+	}
+
+	static SearchKernels.Accelerated accelerated() {
+		try {
+			return (SearchKernels.Accelerated) Class.forName("io.github.vecmatlib.search.SimdSearchKernels").getDeclaredConstructor().newInstance();
+		} catch(ReflectiveOperationException e) {
+			return null;
+		}
+	}
+
+	static float[] scalar(float[] data, int dimension, int from, int to, float[] query) {
+		float[] result = new float[to - from];
+		for(int i = from; i < to; i++) {
+			result[i - from] = SearchKernels.dotScalar(data, i * dimension, query, dimension);
+		}
+		return result;
+	}
+
+	static float[] floats(int length, int seed) {
+		float[] values = new float[length];
+		for(int i = 0; i < length; i++) {
+			values[i] = ((i * 7 + seed * 13) % 101 - 50) / 17.0f;
+		}
+		return values;
+	}
+}
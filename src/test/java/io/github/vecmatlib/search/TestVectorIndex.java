@@ -0,0 +1,183 @@
+package io.github.vecmatlib.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.vector.FloatVector;
+import io.github.vecmatlib.vector.VectorMathException;
+
+public class TestVectorIndex {
+
+	static FloatVector[] corpus = vectors(3001, 37, 1);
+	static FloatVector[] queries = vectors(9, 37, 2);
+	static FloatVector[] large = vectors(5 * VectorIndex.PARALLEL_THRESHOLD + 17, 8, 3);
+	static FloatVector[] largeQueries = vectors(3, 8, 4);
+
+	static VectorIndex inner = index(Metric.INNER_PRODUCT, corpus);
+	static VectorIndex cosine = index(Metric.COSINE, corpus);
+	static VectorIndex l2 = index(Metric.L2, corpus);
+	static VectorIndex largeL2 = index(Metric.L2, large);
+
+	static ForkJoinPool pool = new ForkJoinPool(4);
+
+	static FloatVector qn1 = null;
+	static FloatVector[] qn2 = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Size
+			Arguments.of(3001, inner.size()),
+			//2. Dimension
+			Arguments.of(37, inner.dimension()),
+			//3. Inner product top k
+			Arguments.of(bruteForce(Metric.INNER_PRODUCT, queries[0], 10), indices(inner.topK(queries[0], 10))),
+			//4. Cosine top k
+			Arguments.of(bruteForce(Metric.COSINE, queries[1], 10), indices(cosine.topK(queries[1], 10))),
+			//5. L2 top k
+			Arguments.of(bruteForce(Metric.L2, queries[2], 10), indices(l2.topK(queries[2], 10))),
+			//6. Batch search is the same as single searches
+			Arguments.of(Arrays.stream(queries).map(q -> List.of(l2.topK(q, 7))).toList(), Arrays.stream(l2.topK(queries, 7)).map(List::of).toList()),
+			//7. Parallel search is the same as sequential search
+			Arguments.of(List.of(largeL2.topK(largeQueries[0], 20)), List.of(largeL2.parallelTopK(largeQueries[0], 20, pool))),
+			//8. Parallel batch search is the same as sequential batch search
+			Arguments.of(Arrays.stream(largeL2.topK(largeQueries, 5)).map(List::of).toList(), Arrays.stream(largeL2.parallelTopK(largeQueries, 5)).map(List::of).toList()),
+			//9. Search of a small index returns all the vectors
+			Arguments.of(3, index(Metric.INNER_PRODUCT, Arrays.copyOf(corpus, 3)).topK(queries[0], 10).length),
+			//10. Search of an empty index
+			Arguments.of(0, new VectorIndex(37, Metric.COSINE).topK(queries[0], 10).length),
+			//11. Ties are broken by index
+			Arguments.of(List.of(new Neighbor(0, 1.0f), new Neighbor(2, 1.0f)), List.of(index(Metric.INNER_PRODUCT, new FloatVector(1.0f, 0.0f), new FloatVector(0.0f, 1.0f), new FloatVector(1.0f, 0.0f)).topK(new FloatVector(1.0f, 0.0f), 2))),
+			//12. Nearest vector of a vector of the index is itself
+			Arguments.of(5, l2.topK(corpus[5], 1)[0].index()),
+			//13. Index of added vectors
+			Arguments.of(1, index(Metric.L2, corpus[0]).add(corpus[1])),
+			//14. Stored vector
+			Arguments.of(corpus[4], l2.vector(4)),
+			//15. Metric
+			Arguments.of(Metric.COSINE, cosine.metric()),
+			//16. L2 is not a similarity
+			Arguments.of(false, Metric.L2.isSimilarity()),
+			//17. Search with a k larger than any array returns all the vectors
+			Arguments.of(1, index(Metric.L2, corpus[0]).topK(queries[0], Integer.MAX_VALUE).length),
+			//18. Search of an empty index with a k larger than any array
+			Arguments.of(0, new VectorIndex(37, Metric.L2).topK(queries[0], Integer.MAX_VALUE).length),
+			//19. Parallel search with a k larger than any array returns all the vectors
+			Arguments.of(largeL2.size(), largeL2.parallelTopK(largeQueries[0], Integer.MAX_VALUE, pool).length)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		return Stream.of(
+			//1. Cosine score
+			Arguments.of(Math.cos(queries[1].angle(corpus[cosine.topK(queries[1], 1)[0].index()])), cosine.topK(queries[1], 1)[0].score(), 1e-5),
+			//2. L2 score
+			Arguments.of(queries[2].minus(corpus[l2.topK(queries[2], 1)[0].index()]).lengthSquared(), l2.topK(queries[2], 1)[0].score(), 1e-4),
+			//3. Stored vectors are normalized with the cosine metric
+			Arguments.of(1.0, cosine.vector(7).length(), 1e-6),
+			//4. L2 distance of the same vector is almost zero
+			Arguments.of(0.0, l2.topK(corpus[5], 1)[0].score(), 1e-4),
+			//5. Inner product score
+			Arguments.of(queries[0].dotProduct(corpus[inner.topK(queries[0], 1)[0].index()]), inner.topK(queries[0], 1)[0].score(), 1e-4)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual, double delta) {
+		Assertions.assertEquals(expected, actual, delta);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Query of a different dimension
+			Arguments.of(VectorMathException.class, (Executable) () -> inner.topK(new FloatVector(1.0f, 2.0f), 3)),
+			//2. Vector of a different dimension
+			Arguments.of(VectorMathException.class, (Executable) () -> new VectorIndex(3, Metric.L2).add(new FloatVector(1.0f, 2.0f))),
+			//3. Zero neighbors
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> inner.topK(queries[0], 0)),
+			//4. Zero dimension
+			Arguments.of(IllegalArgumentException.class, (Executable) () -> new VectorIndex(0, Metric.L2)),
+			//5. Vector out of bounds
+			Arguments.of(IndexOutOfBoundsException.class, (Executable) () -> inner.vector(3001))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Class<? extends Throwable> expected, Executable method) {
+		Assertions.assertThrows(expected, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. Null query
+			Arguments.of((Executable) () -> inner.topK(qn1, 3)),
+			//2. Null batch
+			Arguments.of((Executable) () -> inner.topK(qn2, 3)),
+			//3. Null pool
+			Arguments.of((Executable) () -> inner.parallelTopK(queries[0], 3, null)),
+			//4. Null metric
+			Arguments.of((Executable) () -> new VectorIndex(3, null)),
+			//5. Null vector
+			Arguments.of((Executable) () -> new VectorIndex(3, Metric.L2).add(qn1))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static VectorIndex index(Metric metric, FloatVector... vectors) {
+		VectorIndex index = new VectorIndex(vectors[0].size(), metric);
+		index.addAll(vectors);
+		return index;
+	}
+
+	static List<Integer> indices(Neighbor[] neighbors) {
+		return Arrays.stream(neighbors).map(Neighbor::index).toList();
+	}
+
+	static List<Integer> bruteForce(Metric metric, FloatVector query, int k) {
+		double[] scores = new double[corpus.length];
+		for(int i = 0; i < corpus.length; i++) {
+			scores[i] = switch(metric) {
+				case INNER_PRODUCT -> query.dotProduct(corpus[i]);
+				case COSINE -> Math.cos(query.angle(corpus[i]));
+				case L2 -> -query.minus(corpus[i]).lengthSquared();
+			};
+		}
+		return IntStream.range(0, corpus.length).boxed().sorted(Comparator.comparingDouble(i -> -scores[i])).limit(k).toList();
+	}
+
+	static FloatVector[] vectors(int count, int dimension, int seed) {
+		Random random = new Random(seed);
+		FloatVector[] result = new FloatVector[count];
+		for(int i = 0; i < count; i++) {
+			float[] values = new float[dimension];
+			for(int j = 0; j < dimension; j++) {
+				values[j] = (float) random.nextGaussian();
+			}
+			result[i] = new FloatVector(values);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,133 @@
+package io.github.vecmatlib.vector;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class TestDouble3Buffer {
+
+	static Double3 a = new Double3(1.5, 2.25, -3.5);
+	static Double3 b = new Double3(-0.5, 4.0, 1.25);
+	static Double3 c = new Double3(3.0, -1.75, 0.5);
+
+	static Double3Buffer n1 = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Size
+			Arguments.of(2, buffer(a, b).size()),
+			//2. Get
+			Arguments.of(b, buffer(a, b).get(1)),
+			//3. Set
+			Arguments.of(c, buffer(a, b).set(1, c).get(1)),
+			//4. Set with components
+			Arguments.of(c, buffer(a, b).set(0, c.x(), c.y(), c.z()).get(0)),
+			//5. New buffer is zero
+			Arguments.of(Double3.ZERO, new Double3Buffer(3).get(2)),
+			//6. Buffer from arrays
+			Arguments.of(b, new Double3Buffer(new double[] {a.x(), b.x()}, new double[] {a.y(), b.y()}, new double[] {a.z(), b.z()}).get(1)),
+			//7. Arrays are not copied
+			Arguments.of(c.x(), buffer(a, b).set(1, c).x()[1]),
+			//8. Double3Buffer + Double3Buffer
+			Arguments.of(a.plus(b), buffer(a, b).add(buffer(b, c)).get(0)),
+			//9. Double3Buffer + Double3
+			Arguments.of(b.plus(c), buffer(a, b).add(c).get(1)),
+			//10. Double3Buffer * double
+			Arguments.of(b.multipliedBy(1.5), buffer(a, b).scale(1.5).get(1)),
+			//11. Double3Buffer dot Double3Buffer
+			Arguments.of(b.dotProduct(c), buffer(a, b).dot(buffer(b, c))[1]),
+			//12. Double3Buffer dot Double3Buffer into an array
+			Arguments.of(a.dotProduct(b), buffer(a, b).dot(buffer(b, c), new double[2])[0]),
+			//13. Double3Buffer cross Double3Buffer
+			Arguments.of(b.crossProduct(c), buffer(a, b).cross(buffer(b, c)).get(1)),
+			//14. Double3Buffer cross Double3Buffer into one of the operands
+			Arguments.of(a.crossProduct(b), buffer(a, b).cross(buffer(b, c), buffer(c, c)).get(0)),
+			//15. Double3Buffer cross Double3Buffer into itself
+			Arguments.of(a.crossProduct(b), selfCross(a, b)),
+			//16. Lengths
+			Arguments.of(b.length(), buffer(a, b).lengths()[1]),
+			//17. Lengths into an array
+			Arguments.of(a.length(), buffer(a, b).lengths(new double[2])[0]),
+			//18. Normalize
+			Arguments.of(b.normalized(), buffer(a, b).normalizeAll().get(1))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Negative size
+			Arguments.of((Executable) () -> new Double3Buffer(-1)),
+			//2. Arrays of different lengths
+			Arguments.of((Executable) () -> new Double3Buffer(new double[2], new double[3], new double[3])),
+			//3. Double3Buffer + Double3Buffer of a different size
+			Arguments.of((Executable) () -> buffer(a, b).add(buffer(a, b, c))),
+			//4. Double3Buffer dot Double3Buffer of a different size
+			Arguments.of((Executable) () -> buffer(a, b).dot(buffer(a, b, c))),
+			//5. Double3Buffer dot Double3Buffer into an array of a different size
+			Arguments.of((Executable) () -> buffer(a, b).dot(buffer(b, c), new double[3])),
+			//6. Double3Buffer cross Double3Buffer into a buffer of a different size
+			Arguments.of((Executable) () -> buffer(a, b).cross(buffer(b, c), buffer(a, b, c))),
+			//7. Lengths into an array of a different size
+			Arguments.of((Executable) () -> buffer(a, b).lengths(new double[1]))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(VectorMathException.class, method);
+	}
+
+	static Stream<Arguments> testIndexOutOfBoundsSource() {
+		return Stream.of(
+			//1. Get out of bounds
+			Arguments.of((Executable) () -> buffer(a, b).get(2)),
+			//2. Set out of bounds
+			Arguments.of((Executable) () -> buffer(a, b).set(-1, c))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testIndexOutOfBoundsSource")
+	void testIndexOutOfBounds(Executable method) {
+		Assertions.assertThrows(IndexOutOfBoundsException.class, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. Double3Buffer + null (Double3Buffer)
+			Arguments.of((Executable) () -> buffer(a, b).add(n1)),
+			//2. Double3Buffer dot null (Double3Buffer)
+			Arguments.of((Executable) () -> buffer(a, b).dot(n1))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static Double3Buffer buffer(Double3... vectors) {
+		Double3Buffer buffer = new Double3Buffer(vectors.length);
+		for(int i = 0; i < vectors.length; i++) {
+			buffer.set(i, vectors[i]);
+		}
+		return buffer;
+	}
+
+	static Double3 selfCross(Double3 v1, Double3 v2) {
+		Double3Buffer buffer = buffer(v1);
+		return buffer.cross(buffer(v2), buffer).get(0);
+	}
+}
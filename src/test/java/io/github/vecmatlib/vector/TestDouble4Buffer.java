@@ -0,0 +1,120 @@
+package io.github.vecmatlib.vector;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class TestDouble4Buffer {
+
+	static Double4 a = new Double4(1.5, 2.25, -3.5, 0.75);
+	static Double4 b = new Double4(-0.5, 4.0, 1.25, 2.5);
+	static Double4 c = new Double4(3.0, -1.75, 0.5, -2.0);
+
+	static Double4Buffer n1 = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Size
+			Arguments.of(2, buffer(a, b).size()),
+			//2. Get
+			Arguments.of(b, buffer(a, b).get(1)),
+			//3. Set
+			Arguments.of(c, buffer(a, b).set(1, c).get(1)),
+			//4. Set with components
+			Arguments.of(c, buffer(a, b).set(0, c.x(), c.y(), c.z(), c.w()).get(0)),
+			//5. New buffer is zero
+			Arguments.of(Double4.ZERO, new Double4Buffer(3).get(2)),
+			//6. Buffer from arrays
+			Arguments.of(b, new Double4Buffer(new double[] {a.x(), b.x()}, new double[] {a.y(), b.y()}, new double[] {a.z(), b.z()}, new double[] {a.w(), b.w()}).get(1)),
+			//7. Arrays are not copied
+			Arguments.of(c.x(), buffer(a, b).set(1, c).x()[1]),
+			//8. Double4Buffer + Double4Buffer
+			Arguments.of(a.plus(b), buffer(a, b).add(buffer(b, c)).get(0)),
+			//9. Double4Buffer + Double4
+			Arguments.of(b.plus(c), buffer(a, b).add(c).get(1)),
+			//10. Double4Buffer * double
+			Arguments.of(b.multipliedBy(1.5), buffer(a, b).scale(1.5).get(1)),
+			//11. Double4Buffer dot Double4Buffer
+			Arguments.of(b.dotProduct(c), buffer(a, b).dot(buffer(b, c))[1]),
+			//12. Double4Buffer dot Double4Buffer into an array
+			Arguments.of(a.dotProduct(b), buffer(a, b).dot(buffer(b, c), new double[2])[0]),
+			//13. Lengths
+			Arguments.of(b.length(), buffer(a, b).lengths()[1]),
+			//14. Lengths into an array
+			Arguments.of(a.length(), buffer(a, b).lengths(new double[2])[0]),
+			//15. Normalize
+			Arguments.of(b.normalized(), buffer(a, b).normalizeAll().get(1))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Negative size
+			Arguments.of((Executable) () -> new Double4Buffer(-1)),
+			//2. Arrays of different lengths
+			Arguments.of((Executable) () -> new Double4Buffer(new double[2], new double[3], new double[3], new double[3])),
+			//3. Double4Buffer + Double4Buffer of a different size
+			Arguments.of((Executable) () -> buffer(a, b).add(buffer(a, b, c))),
+			//4. Double4Buffer dot Double4Buffer of a different size
+			Arguments.of((Executable) () -> buffer(a, b).dot(buffer(a, b, c))),
+			//5. Double4Buffer dot Double4Buffer into an array of a different size
+			Arguments.of((Executable) () -> buffer(a, b).dot(buffer(b, c), new double[3])),
+			//6. Lengths into an array of a different size
+			Arguments.of((Executable) () -> buffer(a, b).lengths(new double[1]))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(VectorMathException.class, method);
+	}
+
+	static Stream<Arguments> testIndexOutOfBoundsSource() {
+		return Stream.of(
+			//1. Get out of bounds
+			Arguments.of((Executable) () -> buffer(a, b).get(2)),
+			//2. Set out of bounds
+			Arguments.of((Executable) () -> buffer(a, b).set(-1, c))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testIndexOutOfBoundsSource")
+	void testIndexOutOfBounds(Executable method) {
+		Assertions.assertThrows(IndexOutOfBoundsException.class, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. Double4Buffer + null (Double4Buffer)
+			Arguments.of((Executable) () -> buffer(a, b).add(n1)),
+			//2. Double4Buffer dot null (Double4Buffer)
+			Arguments.of((Executable) () -> buffer(a, b).dot(n1))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static Double4Buffer buffer(Double4... vectors) {
+		Double4Buffer buffer = new Double4Buffer(vectors.length);
+		for(int i = 0; i < vectors.length; i++) {
+			buffer.set(i, vectors[i]);
+		}
+		return buffer;
+	}
+}
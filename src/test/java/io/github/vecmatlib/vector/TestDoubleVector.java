@@ -39,7 +39,23 @@ public class TestDoubleVector {
 			//9. |DoubleVector|
 			Arguments.of(Math.sqrt(7), new DoubleVector(1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0).length()),
 			//10. ||DoubleVector||
-			Arguments.of(1.0, v1.normalized().length())
+			Arguments.of(1.0, v1.normalized().length()),
+			//11. Cast to FloatVector
+			Arguments.of(new FloatVector((float) 1.12, (float) 2.34, (float) 3.56, (float) 0.01, (float) 0.52, (float) 1.97, (float) 1.43), v1.castToFloat()),
+			//12. DoubleVector + DoubleVector into a destination
+			Arguments.of(v1.plus(v2), v1.plus(v2, new DoubleVector(new double[7]))),
+			//13. DoubleVector - DoubleVector into a destination
+			Arguments.of(v1.minus(v2), v1.minus(v2, new DoubleVector(new double[7]))),
+			//14. -DoubleVector into a destination
+			Arguments.of(v1.negated(), v1.negated(new DoubleVector(new double[7]))),
+			//15. DoubleVector * double into a destination
+			Arguments.of(v1.multipliedBy(2.0), v1.multipliedBy(2.0, new DoubleVector(new double[7]))),
+			//16. DoubleVector / double into a destination
+			Arguments.of(v1.dividedBy(2.0), v1.dividedBy(2.0, new DoubleVector(new double[7]))),
+			//17. DoubleVector * double in place
+			Arguments.of(v1.multipliedBy(2.0), v1.multipliedBy(1).scaleInPlace(2.0)),
+			//18. double * DoubleVector + DoubleVector in place
+			Arguments.of(v1.plus(v2.multipliedBy(2.0)), v1.multipliedBy(1).axpy(2.0, v2))
 		);
 	}
 
@@ -81,7 +97,13 @@ public class TestDoubleVector {
 			//7. DoubleVector ^ (double, double, double)
 			Arguments.of((Executable) () -> v1.angle(new DoubleVector(1.0, 2.0, 3.0))),
 			//8. DoubleVector ^ (float, float, float)
-			Arguments.of((Executable) () -> v1.angle(new FloatVector(1.0f, 2.0f, 3.0f)))
+			Arguments.of((Executable) () -> v1.angle(new FloatVector(1.0f, 2.0f, 3.0f))),
+			//9. DoubleVector + DoubleVector into a destination of a different size
+			Arguments.of((Executable) () -> v1.plus(v2, new DoubleVector(1, 2, 3))),
+			//10. DoubleVector * double into a destination of a different size
+			Arguments.of((Executable) () -> v1.multipliedBy(2.0, new DoubleVector(1, 2, 3))),
+			//11. double * DoubleVector + DoubleVector of a different size in place
+			Arguments.of((Executable) () -> v1.multipliedBy(1).axpy(2.0, new DoubleVector(1, 2, 3)))
 		);
 	}
 
@@ -0,0 +1,120 @@
+package io.github.vecmatlib.vector;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class TestFloat2Buffer {
+
+	static Float2 a = new Float2(1.5f, 2.25f);
+	static Float2 b = new Float2(-0.5f, 4.0f);
+	static Float2 c = new Float2(3.0f, -1.75f);
+
+	static Float2Buffer n1 = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Size
+			Arguments.of(2, buffer(a, b).size()),
+			//2. Get
+			Arguments.of(b, buffer(a, b).get(1)),
+			//3. Set
+			Arguments.of(c, buffer(a, b).set(1, c).get(1)),
+			//4. Set with components
+			Arguments.of(c, buffer(a, b).set(0, c.x(), c.y()).get(0)),
+			//5. New buffer is zero
+			Arguments.of(Float2.ZERO, new Float2Buffer(3).get(2)),
+			//6. Buffer from arrays
+			Arguments.of(b, new Float2Buffer(new float[] {a.x(), b.x()}, new float[] {a.y(), b.y()}).get(1)),
+			//7. Arrays are not copied
+			Arguments.of(c.x(), buffer(a, b).set(1, c).x()[1]),
+			//8. Float2Buffer + Float2Buffer
+			Arguments.of(a.plus(b), buffer(a, b).add(buffer(b, c)).get(0)),
+			//9. Float2Buffer + Float2
+			Arguments.of(b.plus(c), buffer(a, b).add(c).get(1)),
+			//10. Float2Buffer * float
+			Arguments.of(b.multipliedBy(1.5f), buffer(a, b).scale(1.5f).get(1)),
+			//11. Float2Buffer dot Float2Buffer
+			Arguments.of(b.dotProduct(c), buffer(a, b).dot(buffer(b, c))[1]),
+			//12. Float2Buffer dot Float2Buffer into an array
+			Arguments.of(a.dotProduct(b), buffer(a, b).dot(buffer(b, c), new float[2])[0]),
+			//13. Lengths
+			Arguments.of((float) b.length(), buffer(a, b).lengths()[1]),
+			//14. Lengths into an array
+			Arguments.of((float) a.length(), buffer(a, b).lengths(new float[2])[0]),
+			//15. Normalize
+			Arguments.of(b.multipliedBy(1.0f / (float) b.length()), buffer(a, b).normalizeAll().get(1))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Negative size
+			Arguments.of((Executable) () -> new Float2Buffer(-1)),
+			//2. Arrays of different lengths
+			Arguments.of((Executable) () -> new Float2Buffer(new float[2], new float[3])),
+			//3. Float2Buffer + Float2Buffer of a different size
+			Arguments.of((Executable) () -> buffer(a, b).add(buffer(a, b, c))),
+			//4. Float2Buffer dot Float2Buffer of a different size
+			Arguments.of((Executable) () -> buffer(a, b).dot(buffer(a, b, c))),
+			//5. Float2Buffer dot Float2Buffer into an array of a different size
+			Arguments.of((Executable) () -> buffer(a, b).dot(buffer(b, c), new float[3])),
+			//6. Lengths into an array of a different size
+			Arguments.of((Executable) () -> buffer(a, b).lengths(new float[1]))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(VectorMathException.class, method);
+	}
+
+	static Stream<Arguments> testIndexOutOfBoundsSource() {
+		return Stream.of(
+			//1. Get out of bounds
+			Arguments.of((Executable) () -> buffer(a, b).get(2)),
+			//2. Set out of bounds
+			Arguments.of((Executable) () -> buffer(a, b).set(-1, c))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testIndexOutOfBoundsSource")
+	void testIndexOutOfBounds(Executable method) {
+		Assertions.assertThrows(IndexOutOfBoundsException.class, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. Float2Buffer + null (Float2Buffer)
+			Arguments.of((Executable) () -> buffer(a, b).add(n1)),
+			//2. Float2Buffer dot null (Float2Buffer)
+			Arguments.of((Executable) () -> buffer(a, b).dot(n1))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static Float2Buffer buffer(Float2... vectors) {
+		Float2Buffer buffer = new Float2Buffer(vectors.length);
+		for(int i = 0; i < vectors.length; i++) {
+			buffer.set(i, vectors[i]);
+		}
+		return buffer;
+	}
+}
@@ -0,0 +1,133 @@
+package io.github.vecmatlib.vector;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class TestFloat3Buffer {
+
+	static Float3 a = new Float3(1.5f, 2.25f, -3.5f);
+	static Float3 b = new Float3(-0.5f, 4.0f, 1.25f);
+	static Float3 c = new Float3(3.0f, -1.75f, 0.5f);
+
+	static Float3Buffer n1 = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Size
+			Arguments.of(2, buffer(a, b).size()),
+			//2. Get
+			Arguments.of(b, buffer(a, b).get(1)),
+			//3. Set
+			Arguments.of(c, buffer(a, b).set(1, c).get(1)),
+			//4. Set with components
+			Arguments.of(c, buffer(a, b).set(0, c.x(), c.y(), c.z()).get(0)),
+			//5. New buffer is zero
+			Arguments.of(Float3.ZERO, new Float3Buffer(3).get(2)),
+			//6. Buffer from arrays
+			Arguments.of(b, new Float3Buffer(new float[] {a.x(), b.x()}, new float[] {a.y(), b.y()}, new float[] {a.z(), b.z()}).get(1)),
+			//7. Arrays are not copied
+			Arguments.of(c.x(), buffer(a, b).set(1, c).x()[1]),
+			//8. Float3Buffer + Float3Buffer
+			Arguments.of(a.plus(b), buffer(a, b).add(buffer(b, c)).get(0)),
+			//9. Float3Buffer + Float3
+			Arguments.of(b.plus(c), buffer(a, b).add(c).get(1)),
+			//10. Float3Buffer * float
+			Arguments.of(b.multipliedBy(1.5f), buffer(a, b).scale(1.5f).get(1)),
+			//11. Float3Buffer dot Float3Buffer
+			Arguments.of(b.dotProduct(c), buffer(a, b).dot(buffer(b, c))[1]),
+			//12. Float3Buffer dot Float3Buffer into an array
+			Arguments.of(a.dotProduct(b), buffer(a, b).dot(buffer(b, c), new float[2])[0]),
+			//13. Float3Buffer cross Float3Buffer
+			Arguments.of(b.crossProduct(c), buffer(a, b).cross(buffer(b, c)).get(1)),
+			//14. Float3Buffer cross Float3Buffer into one of the operands
+			Arguments.of(a.crossProduct(b), buffer(a, b).cross(buffer(b, c), buffer(c, c)).get(0)),
+			//15. Float3Buffer cross Float3Buffer into itself
+			Arguments.of(a.crossProduct(b), selfCross(a, b)),
+			//16. Lengths
+			Arguments.of((float) b.length(), buffer(a, b).lengths()[1]),
+			//17. Lengths into an array
+			Arguments.of((float) a.length(), buffer(a, b).lengths(new float[2])[0]),
+			//18. Normalize
+			Arguments.of(b.multipliedBy(1.0f / (float) b.length()), buffer(a, b).normalizeAll().get(1))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Negative size
+			Arguments.of((Executable) () -> new Float3Buffer(-1)),
+			//2. Arrays of different lengths
+			Arguments.of((Executable) () -> new Float3Buffer(new float[2], new float[3], new float[3])),
+			//3. Float3Buffer + Float3Buffer of a different size
+			Arguments.of((Executable) () -> buffer(a, b).add(buffer(a, b, c))),
+			//4. Float3Buffer dot Float3Buffer of a different size
+			Arguments.of((Executable) () -> buffer(a, b).dot(buffer(a, b, c))),
+			//5. Float3Buffer dot Float3Buffer into an array of a different size
+			Arguments.of((Executable) () -> buffer(a, b).dot(buffer(b, c), new float[3])),
+			//6. Float3Buffer cross Float3Buffer into a buffer of a different size
+			Arguments.of((Executable) () -> buffer(a, b).cross(buffer(b, c), buffer(a, b, c))),
+			//7. Lengths into an array of a different size
+			Arguments.of((Executable) () -> buffer(a, b).lengths(new float[1]))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(VectorMathException.class, method);
+	}
+
+	static Stream<Arguments> testIndexOutOfBoundsSource() {
+		return Stream.of(
+			//1. Get out of bounds
+			Arguments.of((Executable) () -> buffer(a, b).get(2)),
+			//2. Set out of bounds
+			Arguments.of((Executable) () -> buffer(a, b).set(-1, c))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testIndexOutOfBoundsSource")
+	void testIndexOutOfBounds(Executable method) {
+		Assertions.assertThrows(IndexOutOfBoundsException.class, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. Float3Buffer + null (Float3Buffer)
+			Arguments.of((Executable) () -> buffer(a, b).add(n1)),
+			//2. Float3Buffer dot null (Float3Buffer)
+			Arguments.of((Executable) () -> buffer(a, b).dot(n1))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static Float3Buffer buffer(Float3... vectors) {
+		Float3Buffer buffer = new Float3Buffer(vectors.length);
+		for(int i = 0; i < vectors.length; i++) {
+			buffer.set(i, vectors[i]);
+		}
+		return buffer;
+	}
+
+	static Float3 selfCross(Float3 v1, Float3 v2) {
+		Float3Buffer buffer = buffer(v1);
+		return buffer.cross(buffer(v2), buffer).get(0);
+	}
+}
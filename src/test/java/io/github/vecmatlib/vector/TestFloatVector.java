@@ -56,7 +56,25 @@ public class TestFloatVector {
 			//16. |FloatVector|
 			Arguments.of(Math.sqrt(7), new FloatVector(1.0f, 1.0f, 1.0f, 1.0f, 1.0f, 1.0f, 1.0f).length()),
 			//17. ||FloatVector||
-			Arguments.of(1.0, v1.normalized().length())
+			Arguments.of(1.0, v1.normalized().length()),
+			//18. Unboxed constructor
+			Arguments.of(new FloatVector(new Float[] {1.1f, 0.5f, 2.1f, 0.1f, 0.4f, 2.4f, 1.5f}), new FloatVector(new float[] {1.1f, 0.5f, 2.1f, 0.1f, 0.4f, 2.4f, 1.5f})),
+			//19. Cast to IntVector
+			Arguments.of(new IntVector(1, 0, 2, 0, 0, 2, 1), v1.castToInt()),
+			//20. FloatVector + FloatVector into a destination
+			Arguments.of(v1.plus(v2), v1.plus(v2, new FloatVector(new float[7]))),
+			//21. FloatVector - FloatVector into a destination
+			Arguments.of(v1.minus(v2), v1.minus(v2, new FloatVector(new float[7]))),
+			//22. -FloatVector into a destination
+			Arguments.of(v1.negated(), v1.negated(new FloatVector(new float[7]))),
+			//23. FloatVector * float into a destination
+			Arguments.of(v1.multipliedBy(2.0f), v1.multipliedBy(2.0f, new FloatVector(new float[7]))),
+			//24. FloatVector / float into a destination
+			Arguments.of(v1.dividedBy(2.0f), v1.dividedBy(2.0f, new FloatVector(new float[7]))),
+			//25. FloatVector * float in place
+			Arguments.of(v1.multipliedBy(2.0f), v1.multipliedBy(1).scaleInPlace(2.0f)),
+			//26. float * FloatVector + FloatVector in place
+			Arguments.of(v1.plus(v2.multipliedBy(2.0f)), v1.multipliedBy(1).axpy(2.0f, v2))
 		);
 	}
 
@@ -89,7 +107,17 @@ public class TestFloatVector {
 			//10. FloatVector ^ (float, float, float)
 			Arguments.of((Executable) () -> v1.angle(new FloatVector(1.0f, 2.0f, 3.0f))),
 			//11. FloatVector ^ (double, double, double)
-			Arguments.of((Executable) () -> v1.angle(new DoubleVector(1.0, 2.0, 3.0)))
+			Arguments.of((Executable) () -> v1.angle(new DoubleVector(1.0, 2.0, 3.0))),
+			//12. Empty unboxed vector
+			Arguments.of((Executable) () -> new FloatVector(new float[0])),
+			//13. Null unboxed vector
+			Arguments.of((Executable) () -> new FloatVector((float[]) null)),
+			//14. FloatVector + FloatVector into a destination of a different size
+			Arguments.of((Executable) () -> v1.plus(v2, new FloatVector(1, 2, 3))),
+			//15. FloatVector * float into a destination of a different size
+			Arguments.of((Executable) () -> v1.multipliedBy(2.0f, new FloatVector(1, 2, 3))),
+			//16. float * FloatVector + FloatVector of a different size in place
+			Arguments.of((Executable) () -> v1.multipliedBy(1).axpy(2.0f, new FloatVector(1, 2, 3)))
 		);
 	}
 
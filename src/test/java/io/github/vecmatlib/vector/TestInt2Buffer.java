@@ -0,0 +1,118 @@
+package io.github.vecmatlib.vector;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class TestInt2Buffer {
+
+	static Int2 a = new Int2(1, 2);
+	static Int2 b = new Int2(-5, 4);
+	static Int2 c = new Int2(3, -1);
+
+	static Int2Buffer n1 = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Size
+			Arguments.of(2, buffer(a, b).size()),
+			//2. Get
+			Arguments.of(b, buffer(a, b).get(1)),
+			//3. Set
+			Arguments.of(c, buffer(a, b).set(1, c).get(1)),
+			//4. Set with components
+			Arguments.of(c, buffer(a, b).set(0, c.x(), c.y()).get(0)),
+			//5. New buffer is zero
+			Arguments.of(Int2.ZERO, new Int2Buffer(3).get(2)),
+			//6. Buffer from arrays
+			Arguments.of(b, new Int2Buffer(new int[] {a.x(), b.x()}, new int[] {a.y(), b.y()}).get(1)),
+			//7. Arrays are not copied
+			Arguments.of(c.x(), buffer(a, b).set(1, c).x()[1]),
+			//8. Int2Buffer + Int2Buffer
+			Arguments.of(a.plus(b), buffer(a, b).add(buffer(b, c)).get(0)),
+			//9. Int2Buffer + Int2
+			Arguments.of(b.plus(c), buffer(a, b).add(c).get(1)),
+			//10. Int2Buffer * int
+			Arguments.of(b.multipliedBy(3), buffer(a, b).scale(3).get(1)),
+			//11. Int2Buffer dot Int2Buffer
+			Arguments.of(b.dotProduct(c), buffer(a, b).dot(buffer(b, c))[1]),
+			//12. Int2Buffer dot Int2Buffer into an array
+			Arguments.of(a.dotProduct(b), buffer(a, b).dot(buffer(b, c), new int[2])[0]),
+			//13. Lengths
+			Arguments.of(b.length(), buffer(a, b).lengths()[1]),
+			//14. Lengths into an array
+			Arguments.of(a.length(), buffer(a, b).lengths(new double[2])[0])
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Negative size
+			Arguments.of((Executable) () -> new Int2Buffer(-1)),
+			//2. Arrays of different lengths
+			Arguments.of((Executable) () -> new Int2Buffer(new int[2], new int[3])),
+			//3. Int2Buffer + Int2Buffer of a different size
+			Arguments.of((Executable) () -> buffer(a, b).add(buffer(a, b, c))),
+			//4. Int2Buffer dot Int2Buffer of a different size
+			Arguments.of((Executable) () -> buffer(a, b).dot(buffer(a, b, c))),
+			//5. Int2Buffer dot Int2Buffer into an array of a different size
+			Arguments.of((Executable) () -> buffer(a, b).dot(buffer(b, c), new int[3])),
+			//6. Lengths into an array of a different size
+			Arguments.of((Executable) () -> buffer(a, b).lengths(new double[1]))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(VectorMathException.class, method);
+	}
+
+	static Stream<Arguments> testIndexOutOfBoundsSource() {
+		return Stream.of(
+			//1. Get out of bounds
+			Arguments.of((Executable) () -> buffer(a, b).get(2)),
+			//2. Set out of bounds
+			Arguments.of((Executable) () -> buffer(a, b).set(-1, c))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testIndexOutOfBoundsSource")
+	void testIndexOutOfBounds(Executable method) {
+		Assertions.assertThrows(IndexOutOfBoundsException.class, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. Int2Buffer + null (Int2Buffer)
+			Arguments.of((Executable) () -> buffer(a, b).add(n1)),
+			//2. Int2Buffer dot null (Int2Buffer)
+			Arguments.of((Executable) () -> buffer(a, b).dot(n1))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static Int2Buffer buffer(Int2... vectors) {
+		Int2Buffer buffer = new Int2Buffer(vectors.length);
+		for(int i = 0; i < vectors.length; i++) {
+			buffer.set(i, vectors[i]);
+		}
+		return buffer;
+	}
+}
@@ -0,0 +1,131 @@
+package io.github.vecmatlib.vector;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class TestInt3Buffer {
+
+	static Int3 a = new Int3(1, 2, -3);
+	static Int3 b = new Int3(-5, 4, 2);
+	static Int3 c = new Int3(3, -1, 6);
+
+	static Int3Buffer n1 = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Size
+			Arguments.of(2, buffer(a, b).size()),
+			//2. Get
+			Arguments.of(b, buffer(a, b).get(1)),
+			//3. Set
+			Arguments.of(c, buffer(a, b).set(1, c).get(1)),
+			//4. Set with components
+			Arguments.of(c, buffer(a, b).set(0, c.x(), c.y(), c.z()).get(0)),
+			//5. New buffer is zero
+			Arguments.of(Int3.ZERO, new Int3Buffer(3).get(2)),
+			//6. Buffer from arrays
+			Arguments.of(b, new Int3Buffer(new int[] {a.x(), b.x()}, new int[] {a.y(), b.y()}, new int[] {a.z(), b.z()}).get(1)),
+			//7. Arrays are not copied
+			Arguments.of(c.x(), buffer(a, b).set(1, c).x()[1]),
+			//8. Int3Buffer + Int3Buffer
+			Arguments.of(a.plus(b), buffer(a, b).add(buffer(b, c)).get(0)),
+			//9. Int3Buffer + Int3
+			Arguments.of(b.plus(c), buffer(a, b).add(c).get(1)),
+			//10. Int3Buffer * int
+			Arguments.of(b.multipliedBy(3), buffer(a, b).scale(3).get(1)),
+			//11. Int3Buffer dot Int3Buffer
+			Arguments.of(b.dotProduct(c), buffer(a, b).dot(buffer(b, c))[1]),
+			//12. Int3Buffer dot Int3Buffer into an array
+			Arguments.of(a.dotProduct(b), buffer(a, b).dot(buffer(b, c), new int[2])[0]),
+			//13. Int3Buffer cross Int3Buffer
+			Arguments.of(b.crossProduct(c), buffer(a, b).cross(buffer(b, c)).get(1)),
+			//14. Int3Buffer cross Int3Buffer into one of the operands
+			Arguments.of(a.crossProduct(b), buffer(a, b).cross(buffer(b, c), buffer(c, c)).get(0)),
+			//15. Int3Buffer cross Int3Buffer into itself
+			Arguments.of(a.crossProduct(b), selfCross(a, b)),
+			//16. Lengths
+			Arguments.of(b.length(), buffer(a, b).lengths()[1]),
+			//17. Lengths into an array
+			Arguments.of(a.length(), buffer(a, b).lengths(new double[2])[0])
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Negative size
+			Arguments.of((Executable) () -> new Int3Buffer(-1)),
+			//2. Arrays of different lengths
+			Arguments.of((Executable) () -> new Int3Buffer(new int[2], new int[3], new int[3])),
+			//3. Int3Buffer + Int3Buffer of a different size
+			Arguments.of((Executable) () -> buffer(a, b).add(buffer(a, b, c))),
+			//4. Int3Buffer dot Int3Buffer of a different size
+			Arguments.of((Executable) () -> buffer(a, b).dot(buffer(a, b, c))),
+			//5. Int3Buffer dot Int3Buffer into an array of a different size
+			Arguments.of((Executable) () -> buffer(a, b).dot(buffer(b, c), new int[3])),
+			//6. Int3Buffer cross Int3Buffer into a buffer of a different size
+			Arguments.of((Executable) () -> buffer(a, b).cross(buffer(b, c), buffer(a, b, c))),
+			//7. Lengths into an array of a different size
+			Arguments.of((Executable) () -> buffer(a, b).lengths(new double[1]))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(VectorMathException.class, method);
+	}
+
+	static Stream<Arguments> testIndexOutOfBoundsSource() {
+		return Stream.of(
+			//1. Get out of bounds
+			Arguments.of((Executable) () -> buffer(a, b).get(2)),
+			//2. Set out of bounds
+			Arguments.of((Executable) () -> buffer(a, b).set(-1, c))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testIndexOutOfBoundsSource")
+	void testIndexOutOfBounds(Executable method) {
+		Assertions.assertThrows(IndexOutOfBoundsException.class, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. Int3Buffer + null (Int3Buffer)
+			Arguments.of((Executable) () -> buffer(a, b).add(n1)),
+			//2. Int3Buffer dot null (Int3Buffer)
+			Arguments.of((Executable) () -> buffer(a, b).dot(n1))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static Int3Buffer buffer(Int3... vectors) {
+		Int3Buffer buffer = new Int3Buffer(vectors.length);
+		for(int i = 0; i < vectors.length; i++) {
+			buffer.set(i, vectors[i]);
+		}
+		return buffer;
+	}
+
+	static Int3 selfCross(Int3 v1, Int3 v2) {
+		Int3Buffer buffer = buffer(v1);
+		return buffer.cross(buffer(v2), buffer).get(0);
+	}
+}
@@ -60,7 +60,23 @@ public class TestIntVector {
 			//18. |IntVector|
 			Arguments.of(Math.sqrt(7), new IntVector(1, 1, 1, 1, 1, 1, 1).length()),
 			//19. ||IntVector||
-			Arguments.of(1.0, v2.normalized().length())
+			Arguments.of(1.0, v2.normalized().length()),
+			//20. IntVector as FloatVector
+			Arguments.of(new FloatVector(1.0f, 5.0f, 4.0f, 2.0f, 3.0f, 6.0f, 9.0f), v1.asFloat()),
+			//21. IntVector + IntVector into a destination
+			Arguments.of(v1.plus(v2), v1.plus(v2, new IntVector(new int[7]))),
+			//22. IntVector - IntVector into a destination
+			Arguments.of(v1.minus(v2), v1.minus(v2, new IntVector(new int[7]))),
+			//23. -IntVector into a destination
+			Arguments.of(v1.negated(), v1.negated(new IntVector(new int[7]))),
+			//24. IntVector * int into a destination
+			Arguments.of(v1.multipliedBy(2), v1.multipliedBy(2, new IntVector(new int[7]))),
+			//25. IntVector / int into a destination
+			Arguments.of(v1.dividedBy(2), v1.dividedBy(2, new IntVector(new int[7]))),
+			//26. IntVector * int in place
+			Arguments.of(v1.multipliedBy(2), v1.multipliedBy(1).scaleInPlace(2)),
+			//27. int * IntVector + IntVector in place
+			Arguments.of(v1.plus(v2.multipliedBy(2)), v1.multipliedBy(1).axpy(2, v2))
 		);
 	}
 
@@ -93,7 +109,13 @@ public class TestIntVector {
 			//10. IntVector ^ (float, float, float)
 			Arguments.of((Executable) () -> v1.angle(new FloatVector(1.0f, 2.0f, 3.0f))),
 			//11. IntVector ^ (double, double, double)
-			Arguments.of((Executable) () -> v1.angle(new DoubleVector(1.0, 2.0, 3.0)))
+			Arguments.of((Executable) () -> v1.angle(new DoubleVector(1.0, 2.0, 3.0))),
+			//12. IntVector + IntVector into a destination of a different size
+			Arguments.of((Executable) () -> v1.plus(v2, new IntVector(1, 2, 3))),
+			//13. IntVector * int into a destination of a different size
+			Arguments.of((Executable) () -> v1.multipliedBy(2, new IntVector(1, 2, 3))),
+			//14. int * IntVector + IntVector of a different size in place
+			Arguments.of((Executable) () -> v1.multipliedBy(1).axpy(2, new IntVector(1, 2, 3)))
 		);
 	}
 
@@ -132,4 +154,4 @@ public class TestIntVector {
 		Assertions.assertThrows(NullPointerException.class, method);
 	}
 }
- 
\ No newline at end of file
+ 
\ No newline at end of file
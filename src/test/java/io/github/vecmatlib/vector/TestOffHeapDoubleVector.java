@@ -0,0 +1,206 @@
+package io.github.vecmatlib.vector;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class TestOffHeapDoubleVector {
+
+	static OffHeapArena arena = new OffHeapArena();
+	static OffHeapArena closed = new OffHeapArena();
+
+	static DoubleVector ha = new DoubleVector(1.5, 2.25, -3.5, 0.1);
+	static DoubleVector hb = new DoubleVector(-0.5, 4.0, 1.25, 0.3);
+
+	static OffHeapDoubleVector a = new OffHeapDoubleVector(arena, ha);
+	static OffHeapDoubleVector b = new OffHeapDoubleVector(arena, hb);
+	static OffHeapDoubleVector c = new OffHeapDoubleVector(arena, new DoubleVector(1.0, 2.0));
+
+	static OffHeapDoubleVector n1 = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Size
+			Arguments.of(4, a.size()),
+			//2. Element
+			Arguments.of(-3.5, a.element(2)),
+			//3. New vector is zero
+			Arguments.of(new DoubleVector(0.0, 0.0, 0.0), new OffHeapDoubleVector(arena, 3).toDoubleVector()),
+			//4. Copy of a DoubleVector
+			Arguments.of(ha, a.toDoubleVector()),
+			//5. Set
+			Arguments.of(4.0, new OffHeapDoubleVector(arena, ha).set(1, 4.0).element(1)),
+			//6. OffHeapDoubleVector + OffHeapDoubleVector
+			Arguments.of(ha.plus(hb), a.plus(b).toDoubleVector()),
+			//7. -OffHeapDoubleVector
+			Arguments.of(ha.negated(), a.negated().toDoubleVector()),
+			//8. OffHeapDoubleVector - OffHeapDoubleVector
+			Arguments.of(ha.minus(hb), a.minus(b).toDoubleVector()),
+			//9. OffHeapDoubleVector * double
+			Arguments.of(ha.multipliedBy(0.3), a.multipliedBy(0.3).toDoubleVector()),
+			//10. OffHeapDoubleVector / double
+			Arguments.of(ha.dividedBy(0.3), a.dividedBy(0.3).toDoubleVector()),
+			//11. OffHeapDoubleVector dot OffHeapDoubleVector
+			Arguments.of(ha.dotProduct(hb), a.dotProduct(b)),
+			//12. Length squared
+			Arguments.of(ha.lengthSquared(), a.lengthSquared()),
+			//13. Length
+			Arguments.of(ha.length(), a.length()),
+			//14. Normalized
+			Arguments.of(ha.normalized(), a.normalized().toDoubleVector()),
+			//15. Angle
+			Arguments.of(ha.angle(hb), a.angle(b)),
+			//16. OffHeapDoubleVector + OffHeapDoubleVector into one of the operands
+			Arguments.of(ha.plus(hb), a.plus(b, new OffHeapDoubleVector(arena, hb)).toDoubleVector()),
+			//17. OffHeapDoubleVector * double in place
+			Arguments.of(ha.multipliedBy(3.0), new OffHeapDoubleVector(arena, ha).scaleInPlace(3.0).toDoubleVector()),
+			//18. double * OffHeapDoubleVector + OffHeapDoubleVector in place
+			Arguments.of(hb.multipliedBy(1.0).axpy(0.7, ha), new OffHeapDoubleVector(arena, hb).axpy(0.7, a).toDoubleVector()),
+			//19. Equals
+			Arguments.of(a, new OffHeapDoubleVector(arena, ha)),
+			//20. Hash code
+			Arguments.of(a.hashCode(), new OffHeapDoubleVector(arena, ha).hashCode()),
+			//21. Results are allocated in the same arena
+			Arguments.of(arena, a.plus(b).arena()),
+			//22. Buffer is not copied
+			Arguments.of(7.0, bufferWrite(new OffHeapDoubleVector(arena, ha), 2, 7.0).element(2)),
+			//23. Closing releases the memory of the vectors
+			Arguments.of(List.of(3L << 13, 0L), allocatedBeforeAndAfterClose()),
+			//24. Closing twice has no effect
+			Arguments.of(false, closeTwice()),
+			//25. Closing waits for the operations that are accessing the memory
+			Arguments.of(List.of(true, 8L, 0L), closeWhileAcquired())
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Empty vector
+			Arguments.of((Executable) () -> new OffHeapDoubleVector(arena, 0)),
+			//2. OffHeapDoubleVector + OffHeapDoubleVector of a different size
+			Arguments.of((Executable) () -> a.plus(c)),
+			//3. OffHeapDoubleVector - OffHeapDoubleVector of a different size
+			Arguments.of((Executable) () -> a.minus(c)),
+			//4. OffHeapDoubleVector dot OffHeapDoubleVector of a different size
+			Arguments.of((Executable) () -> a.dotProduct(c)),
+			//5. OffHeapDoubleVector + OffHeapDoubleVector into a destination of a different size
+			Arguments.of((Executable) () -> a.plus(b, c)),
+			//6. double * OffHeapDoubleVector + OffHeapDoubleVector of a different size in place
+			Arguments.of((Executable) () -> a.axpy(2.0, c))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(VectorMathException.class, method);
+	}
+
+	static Stream<Arguments> testIndexOutOfBoundsSource() {
+		return Stream.of(
+			//1. Negative index
+			Arguments.of((Executable) () -> a.element(-1)),
+			//2. Index equal to the size
+			Arguments.of((Executable) () -> a.element(4)),
+			//3. Set out of bounds
+			Arguments.of((Executable) () -> a.set(4, 1.0))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testIndexOutOfBoundsSource")
+	void testIndexOutOfBounds(Executable method) {
+		Assertions.assertThrows(IndexOutOfBoundsException.class, method);
+	}
+
+	static Stream<Arguments> testClosedArenaSource() {
+		OffHeapDoubleVector v = new OffHeapDoubleVector(closed, 2);
+		closed.close();
+		return Stream.of(
+			//1. Element
+			Arguments.of((Executable) () -> v.element(0)),
+			//2. Set
+			Arguments.of((Executable) () -> v.set(0, 1.0)),
+			//3. OffHeapDoubleVector + OffHeapDoubleVector
+			Arguments.of((Executable) () -> c.plus(v)),
+			//4. OffHeapDoubleVector dot OffHeapDoubleVector
+			Arguments.of((Executable) () -> v.dotProduct(c)),
+			//5. Copy to the heap
+			Arguments.of((Executable) () -> v.toDoubleVector()),
+			//6. Allocation in a closed arena
+			Arguments.of((Executable) () -> new OffHeapDoubleVector(closed, 2))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testClosedArenaSource")
+	void testClosedArena(Executable method) {
+		Assertions.assertThrows(IllegalStateException.class, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. OffHeapDoubleVector + null (OffHeapDoubleVector)
+			Arguments.of((Executable) () -> a.plus(n1)),
+			//2. OffHeapDoubleVector dot null (OffHeapDoubleVector)
+			Arguments.of((Executable) () -> a.dotProduct(n1)),
+			//3. Null arena
+			Arguments.of((Executable) () -> new OffHeapDoubleVector(null, 2))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static OffHeapDoubleVector bufferWrite(OffHeapDoubleVector vector, int index, double value) {
+		vector.buffer().put(index, value);
+		return vector;
+	}
+
+	static List<Long> allocatedBeforeAndAfterClose() {
+		OffHeapArena arena = new OffHeapArena();
+		new OffHeapDoubleVector(arena, 1 << 10).plus(new OffHeapDoubleVector(arena, 1 << 10));
+		long before = arena.allocatedBytes();
+		arena.close();
+		return List.of(before, arena.allocatedBytes());
+	}
+
+	static List<Object> closeWhileAcquired() {
+		OffHeapArena arena = new OffHeapArena();
+		new OffHeapDoubleVector(arena, 1);
+		arena.acquire();
+		Thread closer = new Thread(arena::close);
+		closer.start();
+		try {
+			closer.join(100);
+			boolean waiting = closer.isAlive();
+			long held = arena.allocatedBytes();
+			arena.release();
+			closer.join();
+			return List.of(waiting, held, arena.allocatedBytes());
+		} catch(InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	static boolean closeTwice() {
+		OffHeapArena arena = new OffHeapArena();
+		arena.close();
+		arena.close();
+		return arena.isAlive();
+	}
+}
@@ -0,0 +1,191 @@
+package io.github.vecmatlib.vector;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.vecmatlib.matrix.DoubleMatrix;
+import io.github.vecmatlib.matrix.FloatMatrix;
+
+public class TestSummation {
+
+	static final int SIZE = 1 << 22;
+
+	static FloatVector tenths = new FloatVector(constant(SIZE, 0.1f));
+	static FloatVector ones = new FloatVector(constant(SIZE, 1.0f));
+	static double exact = SIZE * (double) 0.1f;
+	static FloatVector shortTenths = new FloatVector(constant(1 << 16, 0.1f));
+	static FloatVector shortOnes = new FloatVector(constant(1 << 16, 1.0f));
+
+	static DoubleVector cancelling = new DoubleVector(1.0, 1e100, 1.0, -1e100);
+	static DoubleVector unit = new DoubleVector(1.0, 1.0, 1.0, 1.0);
+	static DoubleVector huge = new DoubleVector(1e300, 1e300, 1.0, 1.0);
+
+	static DoubleVector d1 = new DoubleVector(TestVectorKernels.doubles(301, 1)), d2 = new DoubleVector(TestVectorKernels.doubles(301, 2));
+	static FloatVector f1 = new FloatVector(TestVectorKernels.floats(301, 1)), f2 = new FloatVector(TestVectorKernels.floats(301, 2));
+
+	static DoubleMatrix dm = new DoubleMatrix(3, 4, 0.1, 0.7, -1.3, 2.9, 3.1, -0.4, 0.5, 1.7, -2.2, 0.3, 1.1, 0.9);
+	static FloatMatrix fm = new FloatMatrix(3, 4, 0.1f, 0.7f, -1.3f, 2.9f, 3.1f, -0.4f, 0.5f, 1.7f, -2.2f, 0.3f, 1.1f, 0.9f);
+	static DoubleVector dv = new DoubleVector(0.3, 1.9, -0.8, 0.6);
+	static FloatVector fv = new FloatVector(0.3f, 1.9f, -0.8f, 0.6f);
+
+	static Summation sn = null;
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. Naive dot product cancels the small terms
+			Arguments.of(0.0, cancelling.dotProduct(unit, Summation.NAIVE)),
+			//2. Kahan-Babuska dot product keeps the small terms
+			Arguments.of(2.0, cancelling.dotProduct(unit, Summation.KAHAN_BABUSKA)),
+			//3. Kahan-Babuska dot product overflows to infinity
+			Arguments.of(Double.POSITIVE_INFINITY, huge.lengthSquared(Summation.KAHAN_BABUSKA)),
+			//4. Naive double dot product
+			Arguments.of(naive(d1, d2), d1.dotProduct(d2, Summation.NAIVE)),
+			//5. Double accumulator is naive for double vectors
+			Arguments.of(naive(d1, d2), d1.dotProduct(d2, Summation.DOUBLE_ACCUMULATOR)),
+			//6. Naive float dot product
+			Arguments.of(naive(f1, f2), f1.dotProduct(f2, Summation.NAIVE)),
+			//7. Double accumulator float dot product
+			Arguments.of((float) naive(f1.asDouble(), f2.asDouble()), f1.dotProduct(f2, Summation.DOUBLE_ACCUMULATOR)),
+			//8. Pairwise sum of a short vector is naive
+			Arguments.of(Summation.NAIVE.dot(TestVectorKernels.doubles(64, 1), 0, TestVectorKernels.doubles(64, 2), 0, 64), Summation.PAIRWISE.dot(TestVectorKernels.doubles(64, 1), 0, TestVectorKernels.doubles(64, 2), 0, 64)),
+			//9. Dot product of ranges
+			Arguments.of(2.0 * 3.0 + 4.0 * 5.0, Summation.KAHAN_BABUSKA.dot(new double[] {1.0, 2.0, 4.0}, 1, new double[] {3.0, 5.0}, 0, 2)),
+			//10. Length
+			Arguments.of(5.0, new DoubleVector(3.0, 4.0).length(Summation.PAIRWISE)),
+			//11. Length of a FloatVector
+			Arguments.of(5.0, new FloatVector(3.0f, 4.0f).length(Summation.KAHAN_BABUSKA)),
+			//12. Angle
+			Arguments.of(Math.PI / 2, new DoubleVector(1.0, 0.0).angle(new DoubleVector(0.0, 2.0), Summation.KAHAN_BABUSKA)),
+			//13. Angle between FloatVectors
+			Arguments.of(Math.PI, new FloatVector(1.0f, 0.0f).angle(new FloatVector(-2.0f, 0.0f), Summation.DOUBLE_ACCUMULATOR)),
+			//14. Naive DoubleMatrix * DoubleVector is the default product
+			Arguments.of(dm.multiply(dv), dm.multiply(dv, Summation.NAIVE)),
+			//15. Naive FloatMatrix * FloatVector is the default product
+			Arguments.of(fm.multiply(fv), fm.multiply(fv, Summation.NAIVE))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		return Stream.of(
+			//1. Pairwise float dot product
+			Arguments.of(exact, tenths.dotProduct(ones, Summation.PAIRWISE), exact * 1e-6),
+			//2. Kahan-Babuska float dot product
+			Arguments.of((1 << 16) * (double) 0.1f, shortTenths.dotProduct(shortOnes, Summation.KAHAN_BABUSKA), 1e-2),
+			//3. Float dot product with a double accumulator
+			Arguments.of(exact, tenths.dotProduct(ones, Summation.DOUBLE_ACCUMULATOR), exact * 1e-6),
+			//4. Length of a FloatVector with a double accumulator
+			Arguments.of(Math.sqrt(SIZE), ones.length(Summation.DOUBLE_ACCUMULATOR), 1e-9),
+			//5. FloatMatrix * FloatVector with a double accumulator
+			Arguments.of(dm.multiply(dv).element(1), fm.multiply(fv, Summation.DOUBLE_ACCUMULATOR).element(1), 1e-6),
+			//6. DoubleMatrix * DoubleVector with compensated summation
+			Arguments.of(dm.multiply(dv).element(2), dm.multiply(dv, Summation.KAHAN_BABUSKA).element(2), 1e-15)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual, double delta) {
+		Assertions.assertEquals(expected, actual, delta);
+	}
+
+	static Stream<Arguments> testNaiveErrorSource() {
+		return Stream.of(
+			//1. Naive float dot product loses several digits
+			Arguments.of(exact, tenths.dotProduct(ones, Summation.NAIVE), exact * 1e-3)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNaiveErrorSource")
+	void testNaiveError(double expected, double actual, double delta) {
+		Assertions.assertNotEquals(expected, actual, delta);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. DoubleVector dot DoubleVector of a different size
+			Arguments.of((Executable) () -> d1.dotProduct(unit, Summation.PAIRWISE)),
+			//2. FloatVector dot FloatVector of a different size
+			Arguments.of((Executable) () -> f1.dotProduct(fv, Summation.PAIRWISE)),
+			//3. Angle between vectors of different sizes
+			Arguments.of((Executable) () -> f1.angle(fv, Summation.NAIVE))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(VectorMathException.class, method);
+	}
+
+	static Stream<Arguments> testIndexOutOfBoundsSource() {
+		return Stream.of(
+			//1. Range out of the first array
+			Arguments.of((Executable) () -> Summation.NAIVE.dot(new double[3], 2, new double[3], 0, 2)),
+			//2. Range out of the second array
+			Arguments.of((Executable) () -> Summation.PAIRWISE.dot(new float[3], 0, new float[3], 2, 2)),
+			//3. Negative length
+			Arguments.of((Executable) () -> Summation.KAHAN_BABUSKA.dot(new double[3], 0, new double[3], 0, -1))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testIndexOutOfBoundsSource")
+	void testIndexOutOfBounds(Executable method) {
+		Assertions.assertThrows(IndexOutOfBoundsException.class, method);
+	}
+
+	static Stream<Arguments> testNullValuesSource() {
+		return Stream.of(
+			//1. DoubleVector dot DoubleVector with a null summation
+			Arguments.of((Executable) () -> d1.dotProduct(d2, sn)),
+			//2. Length of a FloatVector with a null summation
+			Arguments.of((Executable) () -> f1.length(sn)),
+			//3. DoubleMatrix * DoubleVector with a null summation
+			Arguments.of((Executable) () -> dm.multiply(dv, sn)),
+			//4. FloatMatrix * FloatVector with a null summation
+			Arguments.of((Executable) () -> fm.multiply(fv, sn))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testNullValuesSource")
+	void testNullValues(Executable method) {
+		Assertions.assertThrows(NullPointerException.class, method);
+	}
+
+	static double naive(DoubleVector a, DoubleVector b) {
+		double sum = 0.0;
+		for(int i = 0; i < a.size(); i++) {
+			sum += a.element(i) * b.element(i);
+		}
+		return sum;
+	}
+
+	static float naive(FloatVector a, FloatVector b) {
+		float sum = 0.0f;
+		for(int i = 0; i < a.size(); i++) {
+			sum += a.element(i) * b.element(i);
+		}
+		return sum;
+	}
+
+	static float[] constant(int length, float value) {
+		float[] values = new float[length];
+		for(int i = 0; i < length; i++) {
+			values[i] = value;
+		}
+		return values;
+	}
+}
@@ -0,0 +1,144 @@
+package io.github.vecmatlib.vector;
+
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class TestVectorKernels {
+
+	static VectorKernels scalar = new VectorKernels();
+	static VectorKernels accelerated = accelerated();
+
+	static double[] d1 = doubles(1003, 1), d2 = doubles(1003, 2);
+	static float[] f1 = floats(1003, 1), f2 = floats(1003, 2);
+	static int[] i1 = ints(1003, 1), i2 = ints(1003, 2);
+
+	static double[] ds = doubles(7, 1);
+	static float[] fs = floats(7, 1);
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. double[] + double[]
+			Arguments.of(doubles(scalar, (k, r) -> k.add(d1, d2, r)), doubles(accelerated, (k, r) -> k.add(d1, d2, r))),
+			//2. double[] - double[]
+			Arguments.of(doubles(scalar, (k, r) -> k.subtract(d1, d2, r)), doubles(accelerated, (k, r) -> k.subtract(d1, d2, r))),
+			//3. -double[]
+			Arguments.of(doubles(scalar, (k, r) -> k.negate(d1, r)), doubles(accelerated, (k, r) -> k.negate(d1, r))),
+			//4. double[] * double
+			Arguments.of(doubles(scalar, (k, r) -> k.multiply(d1, 1.7, r)), doubles(accelerated, (k, r) -> k.multiply(d1, 1.7, r))),
+			//5. double[] / double
+			Arguments.of(doubles(scalar, (k, r) -> k.divide(d1, 1.7, r)), doubles(accelerated, (k, r) -> k.divide(d1, 1.7, r))),
+			//6. float[] + float[]
+			Arguments.of(floats(scalar, (k, r) -> k.add(f1, f2, r)), floats(accelerated, (k, r) -> k.add(f1, f2, r))),
+			//7. float[] - float[]
+			Arguments.of(floats(scalar, (k, r) -> k.subtract(f1, f2, r)), floats(accelerated, (k, r) -> k.subtract(f1, f2, r))),
+			//8. -float[]
+			Arguments.of(floats(scalar, (k, r) -> k.negate(f1, r)), floats(accelerated, (k, r) -> k.negate(f1, r))),
+			//9. float[] * float
+			Arguments.of(floats(scalar, (k, r) -> k.multiply(f1, 1.7f, r)), floats(accelerated, (k, r) -> k.multiply(f1, 1.7f, r))),
+			//10. float[] / float
+			Arguments.of(floats(scalar, (k, r) -> k.divide(f1, 1.7f, r)), floats(accelerated, (k, r) -> k.divide(f1, 1.7f, r))),
+			//11. int[] + int[]
+			Arguments.of(ints(scalar, (k, r) -> k.add(i1, i2, r)), ints(accelerated, (k, r) -> k.add(i1, i2, r))),
+			//12. int[] - int[]
+			Arguments.of(ints(scalar, (k, r) -> k.subtract(i1, i2, r)), ints(accelerated, (k, r) -> k.subtract(i1, i2, r))),
+			//13. -int[]
+			Arguments.of(ints(scalar, (k, r) -> k.negate(i1, r)), ints(accelerated, (k, r) -> k.negate(i1, r))),
+			//14. int[] * int
+			Arguments.of(ints(scalar, (k, r) -> k.multiply(i1, 3, r)), ints(accelerated, (k, r) -> k.multiply(i1, 3, r))),
+			//15. int[] dot int[]
+			Arguments.of(scalar.dot(i1, i2), accelerated.dot(i1, i2)),
+			//16. Short double[] dot double[]
+			Arguments.of(scalar.dot(ds, ds), accelerated.dot(ds, ds)),
+			//17. Short float[] dot float[]
+			Arguments.of(scalar.dot(fs, fs), accelerated.dot(fs, fs))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		return Stream.of(
+			//1. double[] dot double[]
+			Arguments.of(scalar.dot(d1, d2), accelerated.dot(d1, d2), 1e-9),
+			//2. float[] dot float[]
+			Arguments.of(scalar.dot(f1, f2), accelerated.dot(f1, f2), 1e-1)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual, double delta) {
+		Assertions.assertEquals(expected, actual, delta);
+	}
+
+	@Test
+	void testAccelerated() {
+		// The tests are run with the jdk.incubator.vector module, once with the accelerated kernels disabled
+		Assertions.assertTrue(accelerated.isAccelerated());
+		Assertions.assertEquals(Boolean.parseBoolean(System.getProperty("vecmatlib.simd", "true")), VectorKernels.INSTANCE.isAccelerated());
+	}
+
+	static VectorKernels accelerated() {
+		try {
+			return (VectorKernels) Class.forName("io.github.vecmatlib.vector.SimdVectorKernels").getDeclaredConstructor().newInstance();
+		} catch(ReflectiveOperationException e) {
+			return null;
+		}
+	}
+
+	static DoubleVector doubles(VectorKernels kernels, BiConsumer<VectorKernels, double[]> kernel) {
+		double[] result = new double[d1.length];
+		kernel.accept(kernels, result);
+		return new DoubleVector(result);
+	}
+
+	static DoubleVector floats(VectorKernels kernels, BiConsumer<VectorKernels, float[]> kernel) {
+		float[] result = new float[f1.length];
+		kernel.accept(kernels, result);
+		double[] values = new double[result.length];
+		for(int i = 0; i < result.length; i++) {
+			values[i] = result[i];
+		}
+		return new DoubleVector(values);
+	}
+
+	static IntVector ints(VectorKernels kernels, BiConsumer<VectorKernels, int[]> kernel) {
+		int[] result = new int[i1.length];
+		kernel.accept(kernels, result);
+		return new IntVector(result);
+	}
+
+	static double[] doubles(int length, int seed) {
+		double[] values = new double[length];
+		for(int i = 0; i < length; i++) {
+			values[i] = ((i * 7 + seed * 13) % 101 - 50) / 17.0;
+		}
+		return values;
+	}
+
+	static float[] floats(int length, int seed) {
+		float[] values = new float[length];
+		for(int i = 0; i < length; i++) {
+			values[i] = ((i * 7 + seed * 13) % 101 - 50) / 17.0f;
+		}
+		return values;
+	}
+
+	static int[] ints(int length, int seed) {
+		int[] values = new int[length];
+		for(int i = 0; i < length; i++) {
+			values[i] = (i * 7 + seed * 13) % 101 - 50;
+		}
+		return values;
+	}
+}
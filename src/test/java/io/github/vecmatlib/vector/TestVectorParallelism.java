@@ -0,0 +1,132 @@
+package io.github.vecmatlib.vector;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class TestVectorParallelism {
+
+	static final int SIZE = VectorParallelism.GRAIN * 5 + 1234;
+
+	static DoubleVector d1 = new DoubleVector(TestVectorKernels.doubles(SIZE, 1)), d2 = new DoubleVector(TestVectorKernels.doubles(SIZE, 2));
+	static FloatVector f1 = new FloatVector(TestVectorKernels.floats(SIZE, 1)), f2 = new FloatVector(TestVectorKernels.floats(SIZE, 2));
+	static IntVector i1 = new IntVector(TestVectorKernels.ints(SIZE, 1)), i2 = new IntVector(TestVectorKernels.ints(SIZE, 2));
+	static IntVector large = new IntVector(constant(SIZE, 123456));
+
+	static ForkJoinPool one = new ForkJoinPool(1);
+	static ForkJoinPool four = new ForkJoinPool(4);
+	static ForkJoinPool seven = new ForkJoinPool(7);
+
+	static Stream<Arguments> testSource() {
+		return Stream.of(
+			//1. DoubleVector + DoubleVector
+			Arguments.of(sequential(() -> d1.plus(d2)), parallel(four, () -> d1.plus(d2))),
+			//2. DoubleVector - DoubleVector
+			Arguments.of(sequential(() -> d1.minus(d2)), parallel(four, () -> d1.minus(d2))),
+			//3. -DoubleVector
+			Arguments.of(sequential(() -> d1.negated()), parallel(four, () -> d1.negated())),
+			//4. DoubleVector * double
+			Arguments.of(sequential(() -> d1.multipliedBy(1.7)), parallel(four, () -> d1.multipliedBy(1.7))),
+			//5. DoubleVector / double
+			Arguments.of(sequential(() -> d1.dividedBy(1.7)), parallel(four, () -> d1.dividedBy(1.7))),
+			//6. double * DoubleVector + DoubleVector
+			Arguments.of(sequential(() -> d1.multipliedBy(1.0).axpy(0.3, d2)), parallel(four, () -> d1.multipliedBy(1.0).axpy(0.3, d2))),
+			//7. FloatVector + FloatVector
+			Arguments.of(sequential(() -> f1.plus(f2)), parallel(four, () -> f1.plus(f2))),
+			//8. FloatVector * float
+			Arguments.of(sequential(() -> f1.multipliedBy(1.7f)), parallel(four, () -> f1.multipliedBy(1.7f))),
+			//9. IntVector + IntVector
+			Arguments.of(sequential(() -> i1.plus(i2)), parallel(four, () -> i1.plus(i2))),
+			//10. IntVector / int
+			Arguments.of(sequential(() -> i1.dividedBy(3)), parallel(four, () -> i1.dividedBy(3))),
+			//11. DoubleVector dot DoubleVector does not depend on the number of threads
+			Arguments.of(parallel(one, () -> d1.dotProduct(d2)), parallel(seven, () -> d1.dotProduct(d2))),
+			//12. FloatVector dot FloatVector does not depend on the number of threads
+			Arguments.of(parallel(one, () -> f1.dotProduct(f2)), parallel(seven, () -> f1.dotProduct(f2))),
+			//13. Length of a DoubleVector does not depend on the number of threads
+			Arguments.of(parallel(one, () -> d1.length()), parallel(four, () -> d1.length())),
+			//14. IntVector dot IntVector
+			Arguments.of(sequential(() -> i1.dotProduct(i2)), parallel(seven, () -> i1.dotProduct(i2))),
+			//15. IntVector dot IntVector overflows like the sequential dot product
+			Arguments.of(sequential(() -> large.lengthSquared()), parallel(four, () -> large.lengthSquared())),
+			//16. Threshold
+			Arguments.of(1000, parallel(four, () -> VectorParallelism.threshold())),
+			//17. Pool
+			Arguments.of(four, parallel(four, () -> VectorParallelism.pool())),
+			//18. Default pool
+			Arguments.of(ForkJoinPool.commonPool(), VectorParallelism.pool())
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testSource")
+	void testEquals(Object expected, Object actual) {
+		Assertions.assertEquals(expected, actual);
+	}
+
+	static Stream<Arguments> testPrecisionSource() {
+		return Stream.of(
+			//1. DoubleVector dot DoubleVector
+			Arguments.of(sequential(() -> d1.dotProduct(d2)), parallel(four, () -> d1.dotProduct(d2)), 1e-6),
+			//2. FloatVector dot FloatVector
+			Arguments.of(sequential(() -> f1.dotProduct(f2)), parallel(four, () -> f1.dotProduct(f2)), 1e2),
+			//3. Length of a DoubleVector
+			Arguments.of(sequential(() -> d1.length()), parallel(four, () -> d1.length()), 1e-9)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testPrecisionSource")
+	void testPrecision(double expected, double actual, double delta) {
+		Assertions.assertEquals(expected, actual, delta);
+	}
+
+	static Stream<Arguments> testExceptionsSource() {
+		return Stream.of(
+			//1. Zero threshold
+			Arguments.of((Executable) () -> VectorParallelism.setThreshold(0)),
+			//2. Negative threshold
+			Arguments.of((Executable) () -> VectorParallelism.setThreshold(-1))
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("testExceptionsSource")
+	void testExceptions(Executable method) {
+		Assertions.assertThrows(IllegalArgumentException.class, method);
+	}
+
+	static <T> T sequential(Supplier<T> operation) {
+		return withPolicy(Integer.MAX_VALUE, null, operation);
+	}
+
+	static <T> T parallel(ForkJoinPool pool, Supplier<T> operation) {
+		return withPolicy(1000, pool, operation);
+	}
+
+	static <T> T withPolicy(int threshold, ForkJoinPool pool, Supplier<T> operation) {
+		int previous = VectorParallelism.threshold();
+		VectorParallelism.setThreshold(threshold);
+		VectorParallelism.setPool(pool);
+		try {
+			return operation.get();
+		} finally {
+			VectorParallelism.setThreshold(previous);
+			VectorParallelism.setPool(null);
+		}
+	}
+
+	static int[] constant(int length, int value) {
+		int[] values = new int[length];
+		for(int i = 0; i < length; i++) {
+			values[i] = value;
+		}
+		return values;
+	}
+}